@@ -49,8 +49,12 @@ module tornado.api {
     exports uk.ac.manchester.tornado.api.types;
     exports uk.ac.manchester.tornado.api.types.tensors;
     opens uk.ac.manchester.tornado.api.types.tensors;
+    exports uk.ac.manchester.tornado.api.types.sparse;
+    opens uk.ac.manchester.tornado.api.types.sparse;
     opens uk.ac.manchester.tornado.api.types;
     opens uk.ac.manchester.tornado.api.runtime;
     exports uk.ac.manchester.tornado.api.plan.types;
+    exports uk.ac.manchester.tornado.api.primitives;
+    opens uk.ac.manchester.tornado.api.primitives;
     opens uk.ac.manchester.tornado.api.plan.types;
 }
@@ -26,15 +26,18 @@ public enum DRMode {
      * A serial mode means that the runtime evaluates all devices in a sequential
      * manner (it compiles all {@link ImmutableTaskGraph} associated with a
      * {@link TornadoExecutionPlan} one after another) before performing a dynamic
-     * device switch.
+     * device switch. Each call to {@link TornadoExecutionPlan#execute()} runs
+     * every device once, until all devices have the runs required by the
+     * policy.
      */
     SERIAL, //
 
     /**
-     * A parallel mode means that the runtime evaluates all devices in parallel. It
-     * compiles all {@link ImmutableTaskGraph} associated with a
-     * {@link TornadoExecutionPlan} and run the expressions on the target devices.
-     * Each physical accelerator handler is mapped to a Java thread.
+     * A parallel mode means that the evaluation of the devices is interleaved
+     * with the execution of the application: each call to
+     * {@link TornadoExecutionPlan#execute()} profiles the next candidate device
+     * until all devices have been evaluated, and therefore, a single execution
+     * is never delayed by the evaluation of all devices.
      */
     PARALLEL //
 }
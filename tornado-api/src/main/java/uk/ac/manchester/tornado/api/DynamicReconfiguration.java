@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Profile-driven device selection for an execution plan. The candidates are
+ * all devices visible to TornadoVM, plus the Java sequential implementation
+ * on the host. The winner is stored per input-size bucket (power of two of the
+ * total number of bytes of the task-graph arguments), so small and large
+ * inputs can run on different devices.
+ *
+ * <p>
+ * A candidate runs at most once per call to
+ * {@link TornadoExecutionPlan#execute()}. When a call runs several candidates
+ * (SERIAL mode), the host copy of all arrays is saved before the first run and
+ * restored before each of the others, so the observable result of the call
+ * corresponds to a single execution. If the call selects a winner that is not
+ * the last candidate, the host results of the winner, saved after its run, are
+ * restored instead of running it again. Before switching devices, the objects that
+ * live on the device (copied only in the first execution, or persisted on the
+ * device) are copied back to the host, so the next device starts from the
+ * up-to-date values, and the buffers left on the previous device are marked as
+ * stale.
+ * </p>
+ */
+final class DynamicReconfiguration {
+
+    private static final String JAVA_SEQUENTIAL = "Java-Sequential";
+
+    /**
+     * Number of runs, after the first (cold) execution, used to evaluate a
+     * candidate with the PERFORMANCE and LATENCY policies.
+     */
+    private static final int WARM_RUNS = 3;
+
+    private record Candidate(TornadoDevice device, String name) {
+        boolean isJavaSequential() {
+            return device == null;
+        }
+    }
+
+    private final Policy policy;
+    private final DRMode mode;
+    private final List<Candidate> candidates;
+    private final Map<Integer, Candidate> winners;
+    private final Map<Integer, Map<Candidate, List<Long>>> evaluations;
+    private final List<String> decisions;
+    private final int runsPerCandidate;
+    private Candidate current;
+
+    DynamicReconfiguration(Policy policy, DRMode mode) {
+        this.policy = policy;
+        this.mode = mode;
+        this.candidates = new ArrayList<>();
+        TornadoRuntime runtime = TornadoRuntimeProvider.getTornadoRuntime();
+        for (int backendIndex = 0; backendIndex < runtime.getNumBackends(); backendIndex++) {
+            TornadoBackend backend = runtime.getBackend(backendIndex);
+            for (int deviceIndex = 0; deviceIndex < backend.getNumDevices(); deviceIndex++) {
+                TornadoDevice device = backend.getDevice(deviceIndex);
+                candidates.add(new Candidate(device, backendIndex + ":" + deviceIndex + " " + device.getPhysicalDevice().getDeviceName()));
+            }
+        }
+        candidates.add(new Candidate(null, JAVA_SEQUENTIAL));
+        this.winners = new HashMap<>();
+        this.evaluations = new HashMap<>();
+        this.decisions = new ArrayList<>();
+        this.runsPerCandidate = policy == Policy.END_2_END ? 1 : 1 + WARM_RUNS;
+    }
+
+    Policy getPolicy() {
+        return policy;
+    }
+
+    DRMode getMode() {
+        return mode;
+    }
+
+    List<String> getDecisions() {
+        return Collections.unmodifiableList(decisions);
+    }
+
+    /**
+     * Each call runs every candidate once (SERIAL), or the next candidate once
+     * (PARALLEL), until all the candidates have the runs required by the
+     * policy. A candidate is therefore never run more than once per call.
+     */
+    void execute(TornadoExecutor executor, ExecutorFrame executorFrame) {
+        List<Object> arguments = executor.getArguments();
+        final int bucket = getSizeBucket(arguments);
+
+        Candidate winner = winners.get(bucket);
+        if (winner != null) {
+            switchTo(executor, winner);
+            run(executor, winner, executorFrame);
+            return;
+        }
+
+        Map<Candidate, List<Long>> samples = evaluations.computeIfAbsent(bucket, b -> new LinkedHashMap<>());
+        if (mode == DRMode.SERIAL) {
+            // The results of each candidate are kept in the call that completes the evaluation
+            final boolean isLastRound = isLastRound(samples);
+            Map<Candidate, HostSnapshot> results = new IdentityHashMap<>();
+            HostSnapshot snapshot = null;
+            Candidate previous = null;
+            for (Candidate candidate : candidates) {
+                // Switching devices copies the device-resident objects of the previous candidate to the host
+                switchTo(executor, candidate);
+                if (snapshot == null) {
+                    snapshot = new HostSnapshot(arguments);
+                } else {
+                    if (isLastRound) {
+                        results.put(previous, new HostSnapshot(arguments));
+                    }
+                    snapshot.restore();
+                }
+                samples.computeIfAbsent(candidate, c -> new ArrayList<>()).add(run(executor, candidate, executorFrame));
+                previous = candidate;
+            }
+            if (isEvaluated(samples)) {
+                winner = selectWinner(executor, bucket, samples);
+                if (winner != current) {
+                    // The buffers of the winner are stale, so its next execution copies the restored results again
+                    switchTo(executor, winner);
+                    results.get(winner).restore();
+                }
+            }
+        } else {
+            Candidate next = nextCandidate(samples);
+            switchTo(executor, next);
+            samples.computeIfAbsent(next, c -> new ArrayList<>()).add(run(executor, next, executorFrame));
+            if (isEvaluated(samples)) {
+                selectWinner(executor, bucket, samples);
+            }
+        }
+    }
+
+    private Candidate nextCandidate(Map<Candidate, List<Long>> samples) {
+        for (Candidate candidate : candidates) {
+            if (samples.getOrDefault(candidate, List.of()).size() < runsPerCandidate) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("All the candidates are evaluated");
+    }
+
+    private boolean isLastRound(Map<Candidate, List<Long>> samples) {
+        for (Candidate candidate : candidates) {
+            if (samples.getOrDefault(candidate, List.of()).size() < runsPerCandidate - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEvaluated(Map<Candidate, List<Long>> samples) {
+        for (Candidate candidate : candidates) {
+            if (samples.getOrDefault(candidate, List.of()).size() < runsPerCandidate) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Score of a candidate. The first (cold) run includes the compilation, and
+     * it is only used by the END_2_END policy.
+     */
+    private long score(List<Long> times) {
+        if (policy == Policy.END_2_END) {
+            return times.getFirst();
+        }
+        List<Long> warmTimes = times.subList(1, times.size());
+        if (policy == Policy.LATENCY) {
+            return Collections.max(warmTimes);
+        }
+        return warmTimes.stream().mapToLong(Long::longValue).sum() / warmTimes.size();
+    }
+
+    private long run(TornadoExecutor executor, Candidate candidate, ExecutorFrame executorFrame) {
+        long start = System.nanoTime();
+        if (candidate.isJavaSequential()) {
+            executor.executeSequential();
+        } else {
+            executor.executeGraphs(executorFrame);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void switchTo(TornadoExecutor executor, Candidate candidate) {
+        if (candidate == current) {
+            return;
+        }
+        if (current != null && !current.isJavaSequential()) {
+            // Migrate the device-resident buffers through the host
+            List<Object> deviceResidentObjects = executor.getDeviceResidentObjects();
+            if (!deviceResidentObjects.isEmpty()) {
+                executor.transferToHost(deviceResidentObjects.toArray());
+            }
+            // The buffers left on the device become stale, and they are copied again if the device is selected later
+            executor.invalidateDeviceBuffers();
+        }
+        if (!candidate.isJavaSequential()) {
+            executor.setDevice(candidate.device());
+        }
+        current = candidate;
+    }
+
+    private Candidate selectWinner(TornadoExecutor executor, int bucket, Map<Candidate, List<Long>> samples) {
+        Candidate winner = null;
+        long best = Long.MAX_VALUE;
+        StringBuilder times = new StringBuilder();
+        for (Map.Entry<Candidate, List<Long>> entry : samples.entrySet()) {
+            long score = score(entry.getValue());
+            times.append(String.format(" [%s: %d ns]", entry.getKey().name(), score));
+            if (score < best) {
+                best = score;
+                winner = entry.getKey();
+            }
+        }
+        winners.put(bucket, winner);
+        evaluations.remove(bucket);
+        String decision = String.format("[DR] policy=%s mode=%s input-size<=%s bytes -> %s.%s", policy, mode, bucket == 0 ? "1" : "2^" + bucket, winner.name(), times);
+        decisions.add(decision);
+        executor.logInfo(decision);
+        return winner;
+    }
+
+    private static int getSizeBucket(List<Object> arguments) {
+        long totalBytes = 0;
+        for (Object argument : arguments) {
+            totalBytes += sizeInBytes(argument);
+        }
+        return totalBytes <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(totalBytes - 1);
+    }
+
+    private static long sizeInBytes(Object object) {
+        if (object instanceof TornadoNativeArray nativeArray) {
+            return nativeArray.getNumBytesOfSegment();
+        } else if (object.getClass().isArray() && object.getClass().getComponentType().isPrimitive()) {
+            return (long) Array.getLength(object) * primitiveSize(object.getClass().getComponentType());
+        }
+        return 0;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return Long.BYTES;
+        } else if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        } else if (type == short.class || type == char.class) {
+            return Short.BYTES;
+        }
+        return Byte.BYTES;
+    }
+
+    /**
+     * Copy of the host data of the arguments of the task-graphs. Objects that
+     * are not arrays are not saved.
+     */
+    private static final class HostSnapshot {
+
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        private final Arena arena = Arena.ofAuto();
+
+        HostSnapshot(List<Object> arguments) {
+            for (Object argument : arguments) {
+                if (argument instanceof TornadoNativeArray nativeArray) {
+                    MemorySegment copy = arena.allocate(nativeArray.getNumBytesOfSegment());
+                    copy.copyFrom(nativeArray.getSegment());
+                    copies.put(argument, copy);
+                } else if (argument.getClass().isArray() && argument.getClass().getComponentType().isPrimitive()) {
+                    int length = Array.getLength(argument);
+                    Object copy = Array.newInstance(argument.getClass().getComponentType(), length);
+                    System.arraycopy(argument, 0, copy, 0, length);
+                    copies.put(argument, copy);
+                }
+            }
+        }
+
+        void restore() {
+            copies.forEach((object, copy) -> {
+                if (object instanceof TornadoNativeArray nativeArray) {
+                    nativeArray.getSegment().copyFrom((MemorySegment) copy);
+                } else {
+                    System.arraycopy(copy, 0, object, 0, Array.getLength(copy));
+                }
+            });
+        }
+    }
+}
@@ -151,4 +151,180 @@ public interface ExecutionContext {
      * PTX equivalent: atomicAdd(double* address, double val);
      */
     void atomicAdd(DoubleArray array, int index, double val);
+
+    /**
+     * Atomically compares the value at the index of the array with the expected value and, if they are equal, replaces it with the new value.
+     * <p>
+     * OpenCL equivalent: atomic_cmpxchg(volatile __global int* p, int cmp, int val);
+     * <p>
+     * PTX equivalent: atomicCAS(int* address, int compare, int val);
+     *
+     * @return the previous value. The swap took place if it is equal to the expected value.
+     */
+    int atomicCompareAndSwap(IntArray array, int index, int expected, int newValue);
+
+    /**
+     * Atomically compares the value at the index of the array with the expected value and, if they are equal, replaces it with the new value.
+     * <p>
+     * OpenCL equivalent: atom_cmpxchg(volatile __global long* p, long cmp, long val);
+     * <p>
+     * PTX equivalent: atomicCAS(long* address, long compare, long val);
+     *
+     * @return the previous value. The swap took place if it is equal to the expected value.
+     */
+    long atomicCompareAndSwap(LongArray array, int index, long expected, long newValue);
+
+    /**
+     * Atomically replaces the value at the index of the array with val.
+     * <p>
+     * OpenCL equivalent: atomic_xchg(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicExch(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    int atomicExchange(IntArray array, int index, int val);
+
+    /**
+     * Atomically replaces the value at the index of the array with val.
+     * <p>
+     * OpenCL equivalent: atom_xchg(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicExch(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    long atomicExchange(LongArray array, int index, long val);
+
+    /**
+     * Atomically stores the minimum of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atomic_min(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicMin(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    int atomicMin(IntArray array, int index, int val);
+
+    /**
+     * Atomically stores the minimum of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atom_min(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicMin(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    long atomicMin(LongArray array, int index, long val);
+
+    /**
+     * Atomically stores the maximum of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atomic_max(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicMax(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    int atomicMax(IntArray array, int index, int val);
+
+    /**
+     * Atomically stores the maximum of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atom_max(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicMax(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    long atomicMax(LongArray array, int index, long val);
+
+    /**
+     * Atomically stores the bitwise AND of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atomic_and(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicAnd(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    int atomicAnd(IntArray array, int index, int val);
+
+    /**
+     * Atomically stores the bitwise AND of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atom_and(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicAnd(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    long atomicAnd(LongArray array, int index, long val);
+
+    /**
+     * Atomically stores the bitwise OR of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atomic_or(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicOr(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    int atomicOr(IntArray array, int index, int val);
+
+    /**
+     * Atomically stores the bitwise OR of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atom_or(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicOr(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    long atomicOr(LongArray array, int index, long val);
+
+    /**
+     * Atomically stores the bitwise XOR of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atomic_xor(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicXor(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    int atomicXor(IntArray array, int index, int val);
+
+    /**
+     * Atomically stores the bitwise XOR of the value at the index of the array and val.
+     * <p>
+     * OpenCL equivalent: atom_xor(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicXor(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    long atomicXor(LongArray array, int index, long val);
+
+    /**
+     * Atomically adds one to the value at the index of the array.
+     * <p>
+     * OpenCL equivalent: atomic_inc(volatile __global int* p);
+     * <p>
+     * PTX equivalent: atomicAdd(int* address, 1);
+     *
+     * @return the previous value.
+     */
+    int atomicIncrement(IntArray array, int index);
+
+    /**
+     * Atomically adds one to the value at the index of the array.
+     * <p>
+     * OpenCL equivalent: atom_inc(volatile __global long* p);
+     * <p>
+     * PTX equivalent: atomicAdd(long* address, 1);
+     *
+     * @return the previous value.
+     */
+    long atomicIncrement(LongArray array, int index);
 }
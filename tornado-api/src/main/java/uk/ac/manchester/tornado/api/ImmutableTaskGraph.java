@@ -50,6 +50,10 @@ public class ImmutableTaskGraph {
         this.taskGraph.execute(executionPackage);
     }
 
+    void executeSequential() {
+        this.taskGraph.executeSequential();
+    }
+
     void withPreCompilation(ExecutorFrame executionPackage) {
         taskGraph.withPreCompilation(executionPackage);
     }
@@ -218,6 +222,22 @@ public class ImmutableTaskGraph {
         return taskGraph.getCurrentDeviceMemoryUsage();
     }
 
+    long getNumEvictions() {
+        return taskGraph.getNumEvictions();
+    }
+
+    long getTotalBytesEvicted() {
+        return taskGraph.getTotalBytesEvicted();
+    }
+
+    long getTotalBytesRematerialized() {
+        return taskGraph.getTotalBytesRematerialized();
+    }
+
+    long getNumSkippedKernelArguments() {
+        return taskGraph.getNumSkippedKernelArguments();
+    }
+
     void mapOnDeviceMemoryRegion(Object destArray, Object srcArray, long offset, ImmutableTaskGraph taskGraphSrc) {
         taskGraph.mapOnDeviceMemoryRegion(destArray, srcArray, offset, taskGraphSrc.taskGraph.taskGraphImpl);
     }
@@ -17,14 +17,17 @@
  */
 package uk.ac.manchester.tornado.api;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 import uk.ac.manchester.tornado.api.types.HalfFloat;
 import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
-
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 
 /**
  * Context of TornadoVM execution to exploit kernel-parallel applications, in
@@ -51,6 +54,18 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class KernelContext implements ExecutionContext {
 
+    /**
+     * Handles for the atomic accesses of the sequential implementation. They
+     * access the segments with the header of the native arrays, so the index of
+     * an element is shifted by the size of the header.
+     */
+    private static final VarHandle INT_HANDLE = ValueLayout.JAVA_INT.arrayElementVarHandle();
+    private static final VarHandle LONG_HANDLE = ValueLayout.JAVA_LONG.arrayElementVarHandle();
+    private static final VarHandle INT_ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final long INT_HEADER_ELEMENTS = TornadoNativeArray.ARRAY_HEADER / Integer.BYTES;
+    private static final long LONG_HEADER_ELEMENTS = TornadoNativeArray.ARRAY_HEADER / Long.BYTES;
+
     /**
      * It returns the thread identifier for the first dimension.
      * <p>
@@ -224,9 +239,7 @@ public class KernelContext implements ExecutionContext {
      */
     @Override
     public void atomicAdd(IntArray array, int index, int val) {
-        int arrayValue = array.get(index);
-        AtomicInteger atomicInteger = new AtomicInteger(arrayValue);
-        array.set(index, atomicInteger.addAndGet(val));
+        INT_HANDLE.getAndAdd(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, val);
     }
 
     /**
@@ -237,9 +250,7 @@ public class KernelContext implements ExecutionContext {
      */
     @Override
     public void atomicAdd(int[] array, int index, int val) {
-        int arrayValue = array[index];
-        AtomicInteger atomicInteger = new AtomicInteger(arrayValue);
-        array[index] = atomicInteger.addAndGet(val);
+        INT_ARRAY_HANDLE.getAndAdd(array, index, val);
     }
 
     /**
@@ -250,9 +261,7 @@ public class KernelContext implements ExecutionContext {
      */
     @Override
     public void atomicAdd(LongArray array, int index, long val) {
-        long arrayValue = array.get(index);
-        AtomicLong atomicLong = new AtomicLong(arrayValue);
-        array.set(index, atomicLong.addAndGet(val));
+        LONG_HANDLE.getAndAdd(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, val);
     }
 
     /**
@@ -263,6 +272,12 @@ public class KernelContext implements ExecutionContext {
      */
     @Override
     public void atomicAdd(FloatArray array, int index, float val) {
+        MemorySegment segment = array.getSegmentWithHeader();
+        long element = INT_HEADER_ELEMENTS + index;
+        int current;
+        do {
+            current = (int) INT_HANDLE.getVolatile(segment, element);
+        } while (!INT_HANDLE.compareAndSet(segment, element, current, Float.floatToRawIntBits(Float.intBitsToFloat(current) + val)));
     }
 
     /**
@@ -273,5 +288,289 @@ public class KernelContext implements ExecutionContext {
      */
     @Override
     public void atomicAdd(DoubleArray array, int index, double val) {
+        MemorySegment segment = array.getSegmentWithHeader();
+        long element = LONG_HEADER_ELEMENTS + index;
+        long current;
+        do {
+            current = (long) LONG_HANDLE.getVolatile(segment, element);
+        } while (!LONG_HANDLE.compareAndSet(segment, element, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + val)));
+    }
+
+    /**
+     * Atomically compares the value at the index of the array with the expected
+     * value and, if they are equal, replaces it with the new value.
+     * <p>
+     * OpenCL equivalent: atomic_cmpxchg(volatile __global int* p, int cmp, int val);
+     * <p>
+     * PTX equivalent: atomicCAS(int* address, int compare, int val);
+     *
+     * @return the previous value. The swap took place if it is equal to the
+     *     expected value.
+     */
+    @Override
+    public int atomicCompareAndSwap(IntArray array, int index, int expected, int newValue) {
+        return (int) INT_HANDLE.compareAndExchange(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, expected, newValue);
+    }
+
+    /**
+     * Atomically compares the value at the index of the array with the expected
+     * value and, if they are equal, replaces it with the new value.
+     * <p>
+     * OpenCL equivalent: atom_cmpxchg(volatile __global long* p, long cmp, long val);
+     * <p>
+     * PTX equivalent: atomicCAS(long* address, long compare, long val);
+     *
+     * @return the previous value. The swap took place if it is equal to the
+     *     expected value.
+     */
+    @Override
+    public long atomicCompareAndSwap(LongArray array, int index, long expected, long newValue) {
+        return (long) LONG_HANDLE.compareAndExchange(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, expected, newValue);
+    }
+
+    /**
+     * Atomically replaces the value at the index of the array with val.
+     * <p>
+     * OpenCL equivalent: atomic_xchg(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicExch(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicExchange(IntArray array, int index, int val) {
+        return (int) INT_HANDLE.getAndSet(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically replaces the value at the index of the array with val.
+     * <p>
+     * OpenCL equivalent: atom_xchg(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicExch(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicExchange(LongArray array, int index, long val) {
+        return (long) LONG_HANDLE.getAndSet(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically stores the minimum of the value at the index of the array and
+     * val.
+     * <p>
+     * OpenCL equivalent: atomic_min(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicMin(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicMin(IntArray array, int index, int val) {
+        MemorySegment segment = array.getSegmentWithHeader();
+        long element = INT_HEADER_ELEMENTS + index;
+        int current = (int) INT_HANDLE.getVolatile(segment, element);
+        while (val < current) {
+            int witness = (int) INT_HANDLE.compareAndExchange(segment, element, current, val);
+            if (witness == current) {
+                break;
+            }
+            current = witness;
+        }
+        return current;
+    }
+
+    /**
+     * Atomically stores the minimum of the value at the index of the array and
+     * val.
+     * <p>
+     * OpenCL equivalent: atom_min(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicMin(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicMin(LongArray array, int index, long val) {
+        MemorySegment segment = array.getSegmentWithHeader();
+        long element = LONG_HEADER_ELEMENTS + index;
+        long current = (long) LONG_HANDLE.getVolatile(segment, element);
+        while (val < current) {
+            long witness = (long) LONG_HANDLE.compareAndExchange(segment, element, current, val);
+            if (witness == current) {
+                break;
+            }
+            current = witness;
+        }
+        return current;
+    }
+
+    /**
+     * Atomically stores the maximum of the value at the index of the array and
+     * val.
+     * <p>
+     * OpenCL equivalent: atomic_max(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicMax(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicMax(IntArray array, int index, int val) {
+        MemorySegment segment = array.getSegmentWithHeader();
+        long element = INT_HEADER_ELEMENTS + index;
+        int current = (int) INT_HANDLE.getVolatile(segment, element);
+        while (val > current) {
+            int witness = (int) INT_HANDLE.compareAndExchange(segment, element, current, val);
+            if (witness == current) {
+                break;
+            }
+            current = witness;
+        }
+        return current;
+    }
+
+    /**
+     * Atomically stores the maximum of the value at the index of the array and
+     * val.
+     * <p>
+     * OpenCL equivalent: atom_max(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicMax(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicMax(LongArray array, int index, long val) {
+        MemorySegment segment = array.getSegmentWithHeader();
+        long element = LONG_HEADER_ELEMENTS + index;
+        long current = (long) LONG_HANDLE.getVolatile(segment, element);
+        while (val > current) {
+            long witness = (long) LONG_HANDLE.compareAndExchange(segment, element, current, val);
+            if (witness == current) {
+                break;
+            }
+            current = witness;
+        }
+        return current;
+    }
+
+    /**
+     * Atomically stores the bitwise AND of the value at the index of the array
+     * and val.
+     * <p>
+     * OpenCL equivalent: atomic_and(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicAnd(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicAnd(IntArray array, int index, int val) {
+        return (int) INT_HANDLE.getAndBitwiseAnd(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically stores the bitwise AND of the value at the index of the array
+     * and val.
+     * <p>
+     * OpenCL equivalent: atom_and(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicAnd(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicAnd(LongArray array, int index, long val) {
+        return (long) LONG_HANDLE.getAndBitwiseAnd(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically stores the bitwise OR of the value at the index of the array
+     * and val.
+     * <p>
+     * OpenCL equivalent: atomic_or(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicOr(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicOr(IntArray array, int index, int val) {
+        return (int) INT_HANDLE.getAndBitwiseOr(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically stores the bitwise OR of the value at the index of the array
+     * and val.
+     * <p>
+     * OpenCL equivalent: atom_or(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicOr(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicOr(LongArray array, int index, long val) {
+        return (long) LONG_HANDLE.getAndBitwiseOr(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically stores the bitwise XOR of the value at the index of the array
+     * and val.
+     * <p>
+     * OpenCL equivalent: atomic_xor(volatile __global int* p, int val);
+     * <p>
+     * PTX equivalent: atomicXor(int* address, int val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicXor(IntArray array, int index, int val) {
+        return (int) INT_HANDLE.getAndBitwiseXor(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically stores the bitwise XOR of the value at the index of the array
+     * and val.
+     * <p>
+     * OpenCL equivalent: atom_xor(volatile __global long* p, long val);
+     * <p>
+     * PTX equivalent: atomicXor(long* address, long val);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicXor(LongArray array, int index, long val) {
+        return (long) LONG_HANDLE.getAndBitwiseXor(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, val);
+    }
+
+    /**
+     * Atomically adds one to the value at the index of the array.
+     * <p>
+     * OpenCL equivalent: atomic_inc(volatile __global int* p);
+     * <p>
+     * PTX equivalent: atomicAdd(int* address, 1);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public int atomicIncrement(IntArray array, int index) {
+        return (int) INT_HANDLE.getAndAdd(array.getSegmentWithHeader(), INT_HEADER_ELEMENTS + index, 1);
+    }
+
+    /**
+     * Atomically adds one to the value at the index of the array.
+     * <p>
+     * OpenCL equivalent: atom_inc(volatile __global long* p);
+     * <p>
+     * PTX equivalent: atomicAdd(long* address, 1);
+     *
+     * @return the previous value.
+     */
+    @Override
+    public long atomicIncrement(LongArray array, int index) {
+        return (long) LONG_HANDLE.getAndAdd(array.getSegmentWithHeader(), LONG_HEADER_ELEMENTS + index, 1L);
     }
 }
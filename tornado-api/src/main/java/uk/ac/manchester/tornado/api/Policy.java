@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+/**
+ * Policy used by the dynamic reconfiguration to select the device that runs
+ * an execution plan. See
+ * {@link TornadoExecutionPlan#withDynamicReconfiguration(Policy, DRMode)}.
+ *
+ * @since 1.1.2
+ */
+public enum Policy {
+
+    /**
+     * Selects the device with the lowest average execution time once the code
+     * is compiled (JIT compilation is not counted).
+     */
+    PERFORMANCE, //
+
+    /**
+     * Selects the device with the lowest end-to-end time of the first
+     * execution, including JIT compilation and data transfers. This policy
+     * is useful for execution plans that run only a few times.
+     */
+    END_2_END, //
+
+    /**
+     * Selects the device with the lowest worst-case execution time once the
+     * code is compiled. This policy is useful for latency-sensitive
+     * applications.
+     */
+    LATENCY
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+
+/**
+ * Liveness analysis of the data transfers across all task-graphs of an
+ * execution plan. When an execution plan is launched, its task-graphs run
+ * one after the other, and the host does not access the data in between.
+ * Therefore, a buffer that one task-graph copies out and a later task-graph
+ * copies in again can stay resident on the device, and a copy-out that is
+ * followed by another copy-out of the same object is never observed by the
+ * host.
+ *
+ * <p>
+ * The analysis only inspects the data transfers declared in the task-graphs
+ * (transferToDevice, transferToHost, persistOnDevice and consumeFromDevice).
+ * It infers which buffers can stay resident and which host copies are dead,
+ * and it reports user annotations that cause redundant transfers.
+ * </p>
+ *
+ * <p>
+ * The executor acts on two of the findings when all the task-graphs run: a
+ * buffer copied out by one task-graph and copied in again, at every execution,
+ * by the next task-graph that uses it stays on the device, as with a
+ * persistOnDevice/consumeFromDevice pair; and dead copy-outs are skipped. The
+ * task-graphs are not modified, since they are immutable once they are part of
+ * an execution plan and they still run on their own with withGraph.
+ * </p>
+ */
+final class ResidencyAnalysis {
+
+    enum Kind {
+        RESIDENT("resident"), //
+        DEAD_HOST_COPY("dead-copy"), //
+        WARNING("warning");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+    }
+
+    record Finding(Kind kind, String message) {
+        @Override
+        public String toString() {
+            return String.format("[%s] %s", kind.label, message);
+        }
+    }
+
+    /**
+     * Data transfers of one object within one task-graph.
+     */
+    private record Usage(int graphIndex, Integer inputMode, Integer outputMode, String consumedFrom) {
+
+        boolean isCopiedIn() {
+            return inputMode != null && (inputMode == DataTransferMode.EVERY_EXECUTION || inputMode == DataTransferMode.FIRST_EXECUTION);
+        }
+
+        boolean isCopiedOut() {
+            return outputMode != null && outputMode == DataTransferMode.EVERY_EXECUTION;
+        }
+
+        boolean isPersisted() {
+            return outputMode != null && outputMode == DataTransferMode.UNDER_DEMAND;
+        }
+
+        boolean isConsumed() {
+            return consumedFrom != null;
+        }
+    }
+
+    /**
+     * Data transfers that the executor can skip in one task-graph.
+     */
+    record Actions(Map<Object, Integer> residentInputs, Set<Object> deadCopyOuts) {
+
+        Actions() {
+            this(new IdentityHashMap<>(), Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+
+        boolean isEmpty() {
+            return residentInputs.isEmpty() && deadCopyOuts.isEmpty();
+        }
+    }
+
+    private final List<String> graphNames;
+    private final List<Finding> findings;
+    private final List<Actions> actions;
+    private String explanation;
+
+    private ResidencyAnalysis(List<String> graphNames, List<Finding> findings, List<Actions> actions) {
+        this.graphNames = graphNames;
+        this.findings = findings;
+        this.actions = actions;
+    }
+
+    static ResidencyAnalysis analyse(List<ImmutableTaskGraph> immutableTaskGraphs) {
+        List<String> graphNames = new ArrayList<>();
+        Map<Object, List<Usage>> usages = new IdentityHashMap<>();
+        List<Object> declarationOrder = new ArrayList<>();
+
+        for (int graphIndex = 0; graphIndex < immutableTaskGraphs.size(); graphIndex++) {
+            TornadoTaskGraphInterface taskGraphImpl = immutableTaskGraphs.get(graphIndex).getTaskGraph().getTaskGraphImpl();
+            graphNames.add(taskGraphImpl.getTaskGraphName());
+
+            Map<Object, Integer> inputs = taskGraphImpl.getInputTransferModes();
+            Map<Object, Integer> outputs = taskGraphImpl.getOutputTransferModes();
+            Map<Object, String> consumed = new IdentityHashMap<>();
+            taskGraphImpl.getPersistedTaskToObjectsMap().forEach((source, objects) -> objects.forEach(object -> consumed.put(object, source)));
+
+            Set<Object> objects = new LinkedHashSet<>();
+            objects.addAll(inputs.keySet());
+            objects.addAll(outputs.keySet());
+            objects.addAll(consumed.keySet());
+            for (Object object : objects) {
+                if (!usages.containsKey(object)) {
+                    declarationOrder.add(object);
+                }
+                usages.computeIfAbsent(object, o -> new ArrayList<>()).add(new Usage(graphIndex, inputs.get(object), outputs.get(object), consumed.get(object)));
+            }
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        List<Actions> actions = new ArrayList<>();
+        graphNames.forEach(graphName -> actions.add(new Actions()));
+        for (Object object : declarationOrder) {
+            analyseObject(object, usages.get(object), graphNames, findings, actions);
+        }
+        return new ResidencyAnalysis(graphNames, findings, actions);
+    }
+
+    private static void analyseObject(Object dataObject, List<Usage> usages, List<String> graphNames, List<Finding> findings, List<Actions> actions) {
+        String object = describe(dataObject);
+        for (int i = 0; i < usages.size(); i++) {
+            Usage current = usages.get(i);
+            String graph = graphNames.get(current.graphIndex());
+
+            if (current.isConsumed()) {
+                if (current.isCopiedIn()) {
+                    findings.add(new Finding(Kind.WARNING, String.format("%s is consumed from the device in \"%s\" but it is also transferred to the device. The consumeFromDevice is ignored and the object is copied from the host.", object, graph)));
+                }
+                checkConsumedSource(object, current, i > 0 ? usages.get(i - 1) : null, graphNames, findings);
+            }
+
+            if (i == 0) {
+                continue;
+            }
+            Usage previous = usages.get(i - 1);
+            String previousGraph = graphNames.get(previous.graphIndex());
+
+            // Round-trip: the object is on the device in the previous graph and the host copies it in again
+            if (current.isCopiedIn() && !current.isConsumed()) {
+                String resident = String.format("%s can stay on the device from \"%s\" to \"%s\": use persistOnDevice in \"%s\" and consumeFromDevice(\"%s\", ...) in \"%s\"", object, previousGraph, graph, previousGraph,
+                        previousGraph, graph);
+                if (previous.isCopiedOut()) {
+                    findings.add(new Finding(Kind.WARNING, String.format("%s is copied to the host by \"%s\" and copied back to the device by \"%s\" (full round-trip)", object, previousGraph, graph)));
+                    findings.add(new Finding(Kind.RESIDENT, resident));
+                    if (current.inputMode() == DataTransferMode.EVERY_EXECUTION) {
+                        // The host copy is the content of the device buffer, so the copy-in can reuse the buffer
+                        actions.get(current.graphIndex()).residentInputs().put(dataObject, previous.graphIndex());
+                    }
+                } else if (previous.isPersisted()) {
+                    findings.add(new Finding(Kind.WARNING, String.format("%s is persisted on the device by \"%s\" but \"%s\" transfers it again from the host", object, previousGraph, graph)));
+                    findings.add(new Finding(Kind.RESIDENT, resident));
+                } else if (previous.isCopiedIn()) {
+                    // Both graphs copy the same host data. It can be shared unless the first graph modifies it on the device.
+                    findings.add(new Finding(Kind.RESIDENT, resident + " if \"" + previousGraph + "\" does not modify it"));
+                }
+            }
+        }
+
+        // A copy-out is dead if a later graph copies out the same object and no graph in between reads it from the host
+        for (int i = 0; i < usages.size(); i++) {
+            Usage current = usages.get(i);
+            if (!current.isCopiedOut()) {
+                continue;
+            }
+            for (int j = i + 1; j < usages.size(); j++) {
+                Usage later = usages.get(j);
+                if (later.isCopiedIn() && !later.isConsumed()) {
+                    break;
+                }
+                if (later.isCopiedOut()) {
+                    actions.get(current.graphIndex()).deadCopyOuts().add(dataObject);
+                    findings.add(new Finding(Kind.DEAD_HOST_COPY, String.format("the copy-out of %s in \"%s\" is overwritten by the copy-out in \"%s\" before the host can read it", object,
+                            graphNames.get(current.graphIndex()), graphNames.get(later.graphIndex()))));
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void checkConsumedSource(String object, Usage consumer, Usage previous, List<String> graphNames, List<Finding> findings) {
+        String graph = graphNames.get(consumer.graphIndex());
+        String source = consumer.consumedFrom();
+        if (source.equals(graph)) {
+            // consumeFromDevice without a graph name: the object comes from the last executed graph
+            if (previous == null) {
+                findings.add(new Finding(Kind.WARNING, String.format("%s is consumed from the device in \"%s\" but no previous task-graph of the plan uses it", object, graph)));
+            }
+            return;
+        }
+        int sourceIndex = graphNames.indexOf(source);
+        if (sourceIndex < 0) {
+            findings.add(new Finding(Kind.WARNING, String.format("%s is consumed in \"%s\" from \"%s\", but there is no task-graph named \"%s\" in the execution plan", object, graph, source, source)));
+        } else if (previous == null || previous.graphIndex() != sourceIndex) {
+            findings.add(new Finding(Kind.WARNING, String.format("%s is consumed in \"%s\" from \"%s\", but \"%s\" does not use it", object, graph, source, source)));
+        } else if (!previous.isPersisted() && !previous.isCopiedOut()) {
+            findings.add(new Finding(Kind.WARNING, String.format("%s is consumed in \"%s\" from \"%s\", but \"%s\" does not persist it on the device (persistOnDevice)", object, graph, source, source)));
+        }
+    }
+
+    private static String describe(Object object) {
+        return object.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(object));
+    }
+
+    List<Finding> getFindings() {
+        return findings;
+    }
+
+    /**
+     * Data transfers that the executor can skip in the task-graph at the given
+     * index.
+     */
+    Actions getActions(int graphIndex) {
+        return actions.get(graphIndex);
+    }
+
+    List<Finding> getWarnings() {
+        return findings.stream().filter(finding -> finding.kind() == Kind.WARNING).toList();
+    }
+
+    @Override
+    public String toString() {
+        if (explanation != null) {
+            return explanation;
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append("\nResidency analysis for task-graphs ").append(graphNames).append(":");
+        if (findings.isEmpty()) {
+            builder.append("\n -> no redundant data transfers across task-graphs");
+        }
+        for (Finding finding : findings) {
+            builder.append("\n -> ").append(finding);
+        }
+        explanation = builder.toString();
+        return explanation;
+    }
+}
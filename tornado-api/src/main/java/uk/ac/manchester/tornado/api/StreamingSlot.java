@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.util.function.Consumer;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+
+/**
+ * A slot of a {@link TornadoStreamProcessor}. Each slot owns its own set of
+ * native arrays (e.g., {@link uk.ac.manchester.tornado.api.types.arrays.FloatArray})
+ * and a {@link TornadoExecutionPlan} built over those arrays. The stream
+ * processor rotates over the slots, so that, while one slot is being filled
+ * with new records on the host, other slots can copy-in, compute and copy-out
+ * on the device.
+ *
+ * <p>
+ * The task-graph of each slot is expected to transfer its inputs and outputs
+ * with {@link uk.ac.manchester.tornado.api.enums.DataTransferMode#EVERY_EXECUTION}.
+ * </p>
+ *
+ * @param <T>
+ *     Type of the input records.
+ * @param <R>
+ *     Type of the results emitted downstream.
+ *
+ * @since 1.1.2
+ */
+public interface StreamingSlot<T, R> extends AutoCloseable {
+
+    /**
+     * Execution plan that runs over the arrays owned by this slot.
+     *
+     * @return {@link TornadoExecutionPlan}
+     */
+    TornadoExecutionPlan getExecutionPlan();
+
+    /**
+     * Pack a record into the input arrays of this slot.
+     *
+     * @param index
+     *     Position of the record within the current batch.
+     * @param record
+     *     Input record.
+     */
+    void pack(int index, T record);
+
+    /**
+     * Invoked before the execution plan is launched. The last batch of a
+     * stream can be partially filled. Slots can use this method to update
+     * the size parameter of the kernels (e.g., an {@link uk.ac.manchester.tornado.api.types.arrays.IntArray}
+     * transferred with every execution).
+     *
+     * @param numRecords
+     *     Number of records that were packed in the current batch.
+     */
+    default void prepare(int numRecords) {
+    }
+
+    /**
+     * Read the results of the last execution and emit them downstream.
+     *
+     * @param numRecords
+     *     Number of records that were packed in the current batch.
+     * @param sink
+     *     Consumer that receives the results in the same order as the input
+     *     records.
+     */
+    void unpack(int numRecords, Consumer<? super R> sink);
+
+    @Override
+    default void close() throws TornadoExecutionPlanException {
+        getExecutionPlan().close();
+    }
+}
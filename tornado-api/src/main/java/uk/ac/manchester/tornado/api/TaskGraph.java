@@ -44,8 +44,25 @@ import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.primitives.ArgReduction;
+import uk.ac.manchester.tornado.api.primitives.Compaction;
+import uk.ac.manchester.tornado.api.primitives.Histogram;
+import uk.ac.manchester.tornado.api.primitives.PrimitiveKernels;
+import uk.ac.manchester.tornado.api.primitives.Primitives;
+import uk.ac.manchester.tornado.api.primitives.RadixSort;
+import uk.ac.manchester.tornado.api.primitives.SegmentedReduction;
+import uk.ac.manchester.tornado.api.primitives.SparseMatrixVector;
+import uk.ac.manchester.tornado.api.primitives.TopK;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TornadoAPIProvider;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
 
 /**
  * Tornado Task Graph API.
@@ -647,6 +664,614 @@ public class TaskGraph implements TaskGraphInterface {
         return this;
     }
 
+    /**
+     * Adds an argMax reduction over a FloatArray. It computes the maximum value of the
+     * input array and the index of its first occurrence, following the same
+     * semantics as a sequential Java loop. The reduction runs entirely on the
+     * device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>), and the results can stay resident on the device for the
+     * following tasks.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the maximum value
+     * @param index
+     *     Array of one element to store the index of the maximum value. It is -1 for an empty input.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph argMax(String id, FloatArray input, FloatArray value, IntArray index) {
+        final int numChunks = ArgReduction.numChunks(input.getSize());
+        FloatArray partialValues = new FloatArray(numChunks);
+        IntArray partialIndices = new IntArray(numChunks);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        task(id + "_partial", ArgReduction::partialArgMax, input, partialValues, partialIndices);
+        return addStage(TaskPackage.createPackage(id, ArgReduction::finalArgMax, new KernelContext(), partialValues, partialIndices, value, index), 1);
+    }
+
+    /**
+     * Adds an argMin reduction over a FloatArray. It computes the minimum value of the
+     * input array and the index of its first occurrence, following the same
+     * semantics as a sequential Java loop. The reduction runs entirely on the
+     * device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>), and the results can stay resident on the device for the
+     * following tasks.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the minimum value
+     * @param index
+     *     Array of one element to store the index of the minimum value. It is -1 for an empty input.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph argMin(String id, FloatArray input, FloatArray value, IntArray index) {
+        final int numChunks = ArgReduction.numChunks(input.getSize());
+        FloatArray partialValues = new FloatArray(numChunks);
+        IntArray partialIndices = new IntArray(numChunks);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        task(id + "_partial", ArgReduction::partialArgMin, input, partialValues, partialIndices);
+        return addStage(TaskPackage.createPackage(id, ArgReduction::finalArgMin, new KernelContext(), partialValues, partialIndices, value, index), 1);
+    }
+
+    /**
+     * Adds an argMax reduction over a DoubleArray. It computes the maximum value of the
+     * input array and the index of its first occurrence, following the same
+     * semantics as a sequential Java loop. The reduction runs entirely on the
+     * device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>), and the results can stay resident on the device for the
+     * following tasks.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the maximum value
+     * @param index
+     *     Array of one element to store the index of the maximum value. It is -1 for an empty input.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph argMax(String id, DoubleArray input, DoubleArray value, IntArray index) {
+        final int numChunks = ArgReduction.numChunks(input.getSize());
+        DoubleArray partialValues = new DoubleArray(numChunks);
+        IntArray partialIndices = new IntArray(numChunks);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        task(id + "_partial", ArgReduction::partialArgMax, input, partialValues, partialIndices);
+        return addStage(TaskPackage.createPackage(id, ArgReduction::finalArgMax, new KernelContext(), partialValues, partialIndices, value, index), 1);
+    }
+
+    /**
+     * Adds an argMin reduction over a DoubleArray. It computes the minimum value of the
+     * input array and the index of its first occurrence, following the same
+     * semantics as a sequential Java loop. The reduction runs entirely on the
+     * device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>), and the results can stay resident on the device for the
+     * following tasks.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the minimum value
+     * @param index
+     *     Array of one element to store the index of the minimum value. It is -1 for an empty input.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph argMin(String id, DoubleArray input, DoubleArray value, IntArray index) {
+        final int numChunks = ArgReduction.numChunks(input.getSize());
+        DoubleArray partialValues = new DoubleArray(numChunks);
+        IntArray partialIndices = new IntArray(numChunks);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        task(id + "_partial", ArgReduction::partialArgMin, input, partialValues, partialIndices);
+        return addStage(TaskPackage.createPackage(id, ArgReduction::finalArgMin, new KernelContext(), partialValues, partialIndices, value, index), 1);
+    }
+
+    /**
+     * Adds an argMax reduction over an IntArray. It computes the maximum value of the
+     * input array and the index of its first occurrence, following the same
+     * semantics as a sequential Java loop. The reduction runs entirely on the
+     * device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>), and the results can stay resident on the device for the
+     * following tasks.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the maximum value
+     * @param index
+     *     Array of one element to store the index of the maximum value. It is -1 for an empty input.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph argMax(String id, IntArray input, IntArray value, IntArray index) {
+        final int numChunks = ArgReduction.numChunks(input.getSize());
+        IntArray partialValues = new IntArray(numChunks);
+        IntArray partialIndices = new IntArray(numChunks);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        task(id + "_partial", ArgReduction::partialArgMax, input, partialValues, partialIndices);
+        return addStage(TaskPackage.createPackage(id, ArgReduction::finalArgMax, new KernelContext(), partialValues, partialIndices, value, index), 1);
+    }
+
+    /**
+     * Adds an argMin reduction over an IntArray. It computes the minimum value of the
+     * input array and the index of its first occurrence, following the same
+     * semantics as a sequential Java loop. The reduction runs entirely on the
+     * device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>), and the results can stay resident on the device for the
+     * following tasks.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the minimum value
+     * @param index
+     *     Array of one element to store the index of the minimum value. It is -1 for an empty input.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph argMin(String id, IntArray input, IntArray value, IntArray index) {
+        final int numChunks = ArgReduction.numChunks(input.getSize());
+        IntArray partialValues = new IntArray(numChunks);
+        IntArray partialIndices = new IntArray(numChunks);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        task(id + "_partial", ArgReduction::partialArgMin, input, partialValues, partialIndices);
+        return addStage(TaskPackage.createPackage(id, ArgReduction::finalArgMin, new KernelContext(), partialValues, partialIndices, value, index), 1);
+    }
+
+    /**
+     * Adds an inclusive prefix sum over an {@link IntArray}, a {@link FloatArray}
+     * or a {@link LongArray}: <code>output[i] = input[0] + ... + input[i]</code>.
+     * The scan runs on the device in three stages (tasks <code>id + "_sums"</code>,
+     * <code>id + "_offsets"</code> and <code>id</code>) of work-groups that scan
+     * in local memory. See {@link uk.ac.manchester.tornado.api.primitives.Scan}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param output
+     *     Output array, with the same type and size as the input
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph scan(String id, T input, T output) {
+        return scanStages(id, PrimitiveKernels.of(input, output), input, output, 1);
+    }
+
+    /**
+     * Adds an exclusive prefix sum over an {@link IntArray}, a {@link FloatArray}
+     * or a {@link LongArray}: <code>output[i] = input[0] + ... + input[i - 1]</code>,
+     * and <code>output[0]</code> is 0. The scan runs on the device in three stages
+     * (tasks <code>id + "_sums"</code>, <code>id + "_offsets"</code> and
+     * <code>id</code>). See {@link uk.ac.manchester.tornado.api.primitives.Scan}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param output
+     *     Output array, with the same type and size as the input
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph exclusiveScan(String id, T input, T output) {
+        return scanStages(id, PrimitiveKernels.of(input, output), input, output, 0);
+    }
+
+    /**
+     * Adds a segmented sum over an {@link IntArray}, a {@link FloatArray} or a
+     * {@link LongArray}. The segments are described by offsets with one more
+     * element than the number of segments: segment <code>s</code> covers the
+     * elements from <code>offsets[s]</code> to <code>offsets[s + 1]</code>
+     * (exclusive). Each segment is reduced by a group of threads. See
+     * {@link SegmentedReduction}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param offsets
+     *     Offsets of the segments, with <code>output.getSize() + 1</code> elements
+     * @param output
+     *     Array with the sum of each segment, with the same type as the input
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph segmentedReduce(String id, T input, IntArray offsets, T output) {
+        PrimitiveKernels<T> kernels = PrimitiveKernels.of(input, output);
+        return addStage(TaskPackage.createPackage(id, kernels.segmentedSum(), new KernelContext(), input, offsets, output), SegmentedReduction.numGroups(output.getSize()));
+    }
+
+    /**
+     * Adds a stream compaction over an {@link IntArray}, a {@link FloatArray} or
+     * a {@link LongArray}. It copies the elements whose flag is not 0 to the
+     * beginning of the output, in the same order, and stores the number of
+     * copied elements. The flags are usually computed by a previous task, for
+     * example with the predicate of a filter. The compaction runs on the device
+     * in three stages (tasks <code>id + "_count"</code>, <code>id + "_offsets"</code>
+     * and <code>id</code>). See {@link Compaction}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param flags
+     *     Array with a flag for each element of the input
+     * @param output
+     *     Output array, with the same type and size as the input
+     * @param count
+     *     Array of one element to store the number of copied elements
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph compact(String id, T input, IntArray flags, T output, IntArray count) {
+        PrimitiveKernels<T> kernels = PrimitiveKernels.of(input, output);
+        final int numGroups = Primitives.numGroups(flags.getSize());
+        IntArray groupCounts = new IntArray(numGroups);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, groupCounts);
+        addStage(TaskPackage.createPackage(id + "_count", Compaction::countFlags, new KernelContext(), flags, groupCounts), numGroups);
+        addStage(TaskPackage.createPackage(id + "_offsets", Compaction::scanCounts, new KernelContext(), groupCounts, count), 1);
+        return addStage(TaskPackage.createPackage(id, kernels.compact(), new KernelContext(), input, flags, groupCounts, output), numGroups);
+    }
+
+    /**
+     * Adds a histogram of an IntArray. Each value is the index of its bin, and
+     * values outside <code>[0, bins.getSize())</code> are not counted. The histogram
+     * runs on the device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>). The first stage uses atomics, so it is not available in
+     * the SPIR-V backend. See {@link Histogram}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param bins
+     *     Array with the count of each bin
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph histogram(String id, IntArray input, IntArray bins) {
+        final int numBins = bins.getSize();
+        final int numGroups = Histogram.numGroups(input.getSize(), numBins);
+        IntArray partialBins = new IntArray(numGroups * numBins);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialBins);
+        addStage(TaskPackage.createPackage(id + "_partial", Histogram::partialHistogram, new KernelContext(), input, partialBins, numBins), numGroups);
+        return task(id, Histogram::mergeHistograms, partialBins, bins);
+    }
+
+    /**
+     * Adds a histogram of a FloatArray. The bins split <code>[min, max)</code> in
+     * equal parts, and values outside the range are not counted. The histogram
+     * runs on the device in two stages (tasks <code>id + "_partial"</code> and
+     * <code>id</code>). The first stage uses atomics, so it is not available in
+     * the SPIR-V backend. See {@link Histogram}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param min
+     *     Lower bound of the first bin
+     * @param max
+     *     Upper bound (exclusive) of the last bin
+     * @param bins
+     *     Array with the count of each bin
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph histogram(String id, FloatArray input, float min, float max, IntArray bins) {
+        final int numBins = bins.getSize();
+        final int numGroups = Histogram.numGroups(input.getSize(), numBins);
+        final float scale = numBins / (max - min);
+        IntArray partialBins = new IntArray(numGroups * numBins);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialBins);
+        addStage(TaskPackage.createPackage(id + "_partial", Histogram::partialHistogram, new KernelContext(), input, partialBins, numBins, min, max, scale), numGroups);
+        return task(id, Histogram::mergeHistograms, partialBins, bins);
+    }
+
+    /**
+     * Sorts an {@link IntArray}, a {@link FloatArray} or a {@link LongArray} in
+     * place, in ascending order, with a radix sort on the device. Each pass sorts
+     * one digit of 8 bits in three steps: count, scan and scatter. The last task
+     * is <code>id</code>. See {@link RadixSort}.
+     *
+     * @param id
+     *     Task-id
+     * @param keys
+     *     Array to sort
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph sort(String id, T keys) {
+        return sortStages(id, PrimitiveKernels.of(keys), keys, null);
+    }
+
+    /**
+     * Sorts an {@link IntArray}, a {@link FloatArray} or a {@link LongArray} of
+     * keys in place, in ascending order, and moves the values with their keys.
+     * The sort is stable, so the values with equal keys keep their order. It
+     * runs on the device as a radix sort, and the last task is <code>id</code>.
+     *
+     * @param id
+     *     Task-id
+     * @param keys
+     *     Array of keys to sort
+     * @param values
+     *     Array of values, with the same size as the keys
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph sort(String id, T keys, IntArray values) {
+        return sortStages(id, PrimitiveKernels.of(keys), keys, values);
+    }
+
+    /**
+     * Adds a selection of the largest values of an {@link IntArray}, a
+     * {@link FloatArray} or a {@link LongArray} and their indices, sorted from
+     * the largest value. The number of selected values is the size of
+     * <code>indices</code>. Equal values are returned in the order of their
+     * indices. The selection runs on the device in two stages (tasks
+     * <code>id + "_partial"</code> and <code>id</code>), and it is meant for
+     * small numbers of values. See {@link TopK}.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param values
+     *     Array to store the largest values, with the same type as the input
+     * @param indices
+     *     Array to store the indices of the largest values. They are -1 if the input has fewer elements.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public <T extends TornadoNativeArray> TaskGraph topK(String id, T input, T values, IntArray indices) {
+        PrimitiveKernels<T> kernels = PrimitiveKernels.of(input, values);
+        final int k = indices.getSize();
+        if (k == 0) {
+            throw new TornadoTaskRuntimeException("topK needs at least one element in the array of indices");
+        }
+        final int numGroups = TopK.numGroups(input.getSize(), k);
+        T partialValues = kernels.newArray().apply(numGroups * Primitives.GROUP_SIZE * k);
+        IntArray partialIndices = new IntArray(numGroups * Primitives.GROUP_SIZE * k);
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+        addStage(TaskPackage.createPackage(id + "_partial", kernels.partialTopK(), new KernelContext(), input, partialValues, partialIndices, k), numGroups);
+        return addStage(TaskPackage.createPackage(id, kernels.finalTopK(), new KernelContext(), partialValues, partialIndices, values, indices), 1);
+    }
+
+    /**
+     * Adds a sparse matrix-vector multiplication, <code>y = A * x</code>, with
+     * the matrix in CSR format. The kernel is selected from the statistics of
+     * the row lengths with {@link SparseMatrixVector#select}: one thread per
+     * row for short rows, several threads per row for long rows, or a
+     * merge-based kernel that balances rows and non-zero elements for skewed
+     * matrices. The arrays of the matrix are copied to the device on the first
+     * execution.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param x
+     *     Input vector, with as many elements as the columns of the matrix
+     * @param y
+     *     Output vector, with as many elements as the rows of the matrix
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph spmv(String id, CSRMatrixFloat matrix, FloatArray x, FloatArray y) {
+        return spmv(id, matrix, SparseMatrixVector.select(matrix.getRowStatistics()), x, y);
+    }
+
+    /**
+     * Adds a sparse matrix-vector multiplication, <code>y = A * x</code>, with
+     * the matrix in CSR format and the given kernel. The vector-row and
+     * merge-path kernels run in two stages (tasks <code>id + "_partial"</code>
+     * and <code>id</code>). The arrays of the matrix are copied to the device on
+     * the first execution.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param kernel
+     *     Kernel of the multiplication
+     * @param x
+     *     Input vector, with as many elements as the columns of the matrix
+     * @param y
+     *     Output vector, with as many elements as the rows of the matrix
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph spmv(String id, CSRMatrixFloat matrix, SparseMatrixVector.Kernel kernel, FloatArray x, FloatArray y) {
+        // The matrix is immutable, so it is only copied once
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues());
+        switch (kernel) {
+            case VECTOR_ROW -> {
+                FloatArray partialSums = new FloatArray(matrix.getNumRows() * SparseMatrixVector.LANES);
+                // The partial results are only accessed on the device
+                transferToDevice(DataTransferMode.FIRST_EXECUTION, partialSums);
+                task(id + "_partial", SparseMatrixVector::csrVectorRowPartial, matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, partialSums);
+                return task(id, SparseMatrixVector::csrVectorRowReduce, partialSums, y);
+            }
+            case MERGE_PATH -> {
+                final int numThreads = SparseMatrixVector.numMergeThreads(matrix.getNumRows(), matrix.getNumNonZeros());
+                IntArray carryRows = new IntArray(numThreads);
+                FloatArray carryValues = new FloatArray(numThreads);
+                // The partial results are only accessed on the device
+                transferToDevice(DataTransferMode.FIRST_EXECUTION, carryRows, carryValues);
+                task(id + "_partial", SparseMatrixVector::csrMergePath, matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, y, carryRows, carryValues);
+                return task(id, SparseMatrixVector::csrMergePathFixUp, carryRows, carryValues, y);
+            }
+            default -> {
+                return task(id, SparseMatrixVector::csrScalarRow, matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, y);
+            }
+        }
+    }
+
+    /**
+     * Adds a sparse matrix-vector multiplication, <code>y = A * x</code>, with
+     * the matrix in ELL format, with one thread per row. The arrays of the
+     * matrix are copied to the device on the first execution.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param x
+     *     Input vector, with as many elements as the columns of the matrix
+     * @param y
+     *     Output vector, with as many elements as the rows of the matrix
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph spmv(String id, ELLMatrixFloat matrix, FloatArray x, FloatArray y) {
+        // The matrix is immutable, so it is only copied once
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getColumns(), matrix.getValues());
+        return task(id, SparseMatrixVector::ell, matrix.getColumns(), matrix.getValues(), matrix.getWidth(), x, y);
+    }
+
+    /**
+     * Adds a sparse matrix-vector multiplication, <code>y = A * x</code>, with
+     * the matrix in SELL-C-&sigma; format, with one thread per row. The arrays of
+     * the matrix are copied to the device on the first execution.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param x
+     *     Input vector, with as many elements as the columns of the matrix
+     * @param y
+     *     Output vector, with as many elements as the rows of the matrix
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph spmv(String id, SELLMatrixFloat matrix, FloatArray x, FloatArray y) {
+        // The matrix is immutable, so it is only copied once
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getSliceOffsets(), matrix.getPermutation(), matrix.getColumns(), matrix.getValues());
+        return task(id, SparseMatrixVector::sell, matrix.getSliceOffsets(), matrix.getPermutation(), matrix.getColumns(), matrix.getValues(), matrix.getSliceSize(), x, y);
+    }
+
+    /**
+     * Adds a stage of a primitive, with a worker grid of work-groups of
+     * {@link Primitives#GROUP_SIZE} threads.
+     */
+    private TaskGraph addStage(TaskPackage taskPackage, int numGroups) {
+        checkTaskName(taskPackage.getId());
+        taskGraphImpl.addTask(taskPackage.withWorkerGrid(Primitives.workerGrid(numGroups)));
+        return this;
+    }
+
+    private <T extends TornadoNativeArray> TaskGraph scanStages(String id, PrimitiveKernels<T> kernels, T input, T output, int inclusive) {
+        T groupSums = kernels.newArray().apply(Primitives.numGroups(input.getSize()));
+        // The partial results are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, groupSums);
+        return scanStages(id, kernels, input, groupSums, output, inclusive);
+    }
+
+    private <T extends TornadoNativeArray> TaskGraph scanStages(String id, PrimitiveKernels<T> kernels, T input, T groupSums, T output, int inclusive) {
+        final int numGroups = groupSums.getSize();
+        addStage(TaskPackage.createPackage(id + "_sums", kernels.groupSums(), new KernelContext(), input, groupSums), numGroups);
+        addStage(TaskPackage.createPackage(id + "_offsets", kernels.scanGroupSums(), new KernelContext(), groupSums), 1);
+        return addStage(TaskPackage.createPackage(id, kernels.scanGroups(), new KernelContext(), input, groupSums, output, inclusive), numGroups);
+    }
+
+    private <T extends TornadoNativeArray> TaskGraph sortStages(String id, PrimitiveKernels<T> kernels, T keys, IntArray values) {
+        final int size = keys.getSize();
+        final int numGroups = Primitives.numGroups(size);
+        IntArray counts = new IntArray(RadixSort.RADIX * numGroups);
+        IntArray offsets = new IntArray(counts.getSize());
+        IntArray countSums = new IntArray(Primitives.numGroups(counts.getSize()));
+        T swapKeys = kernels.newArray().apply(size);
+        IntArray swapValues = values == null ? null : new IntArray(size);
+        // The intermediate arrays are only accessed on the device
+        transferToDevice(DataTransferMode.FIRST_EXECUTION, counts, offsets, countSums, swapKeys);
+        if (values != null) {
+            transferToDevice(DataTransferMode.FIRST_EXECUTION, swapValues);
+        }
+        // The number of passes is even, so the sorted keys end up in the input array
+        final int numPasses = RadixSort.numPasses(kernels.keyBits());
+        for (int pass = 0; pass < numPasses; pass++) {
+            final int shift = pass * RadixSort.RADIX_BITS;
+            final String scatterId = pass == numPasses - 1 ? id : id + "_scatter" + pass;
+            final T sourceKeys = pass % 2 == 0 ? keys : swapKeys;
+            final T destinationKeys = pass % 2 == 0 ? swapKeys : keys;
+            addStage(TaskPackage.createPackage(id + "_count" + pass, kernels.countDigits(), new KernelContext(), sourceKeys, counts, shift), numGroups);
+            scanStages(id + "_scan" + pass, PrimitiveKernels.INT, counts, countSums, offsets, 0);
+            if (values == null) {
+                addStage(TaskPackage.createPackage(scatterId, kernels.sortKeys(), new KernelContext(), sourceKeys, offsets, destinationKeys, shift), numGroups);
+            } else {
+                final IntArray sourceValues = pass % 2 == 0 ? values : swapValues;
+                final IntArray destinationValues = pass % 2 == 0 ? swapValues : values;
+                addStage(TaskPackage.createPackage(scatterId, kernels.sortPairs(), new KernelContext(), sourceKeys, sourceValues, offsets, destinationKeys, destinationValues, shift), numGroups);
+            }
+        }
+        return this;
+    }
+
     /**
      * Obtains the task-schedule name that was assigned.
      *
@@ -739,6 +1364,40 @@ public class TaskGraph implements TaskGraphInterface {
         return this;
     }
 
+    /**
+     * Tag a set of output arrays whose valid elements are a prefix of the array,
+     * as the outputs of a filter or a flat-map. The tasks append the elements
+     * through a device-side cursor, for example with
+     * {@link KernelContext#atomicIncrement(IntArray, int)} or with
+     * {@link #compact(String, IntArray, IntArray, IntArray, IntArray)}, and
+     * store the number of produced elements in <code>count[0]</code>.
+     *
+     * <p>
+     * On every execution, the runtime copies out the count array and then only
+     * the first <code>count[0]</code> elements of each output, instead of the
+     * whole array. The rest of each output is not updated on the host. If the
+     * count is larger than the size of an output, the output is copied out
+     * entirely, and the count can be used as the high-water mark to allocate
+     * larger outputs. The count must be reset (for example, transferred to the
+     * device with {@link DataTransferMode#EVERY_EXECUTION}) when the tasks
+     * increment it rather than set it.
+     * </p>
+     *
+     * @param count
+     *     Array whose first element is the number of elements produced in each
+     *     output.
+     * @param outputs
+     *     Output arrays.
+     * @return {@link TaskGraph}
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public TaskGraph transferToHostPrefix(IntArray count, TornadoNativeArray... outputs) {
+        taskGraphImpl.transferToHostPrefix(count, outputs);
+        return this;
+    }
+
     /**
      * Tags a set of objects to persist on the device without transferring them
      * back to the host after execution.
@@ -804,6 +1463,10 @@ public class TaskGraph implements TaskGraphInterface {
         taskGraphImpl.execute(executionPackage).waitOn();
     }
 
+    void executeSequential() {
+        taskGraphImpl.executeSequential();
+    }
+
     void withPreCompilation(ExecutorFrame executionPackage) {
         taskGraphImpl.withPreCompilation(executionPackage);
     }
@@ -947,6 +1610,22 @@ public class TaskGraph implements TaskGraphInterface {
         return taskGraphImpl.getCurrentDeviceMemoryUsage();
     }
 
+    long getNumEvictions() {
+        return taskGraphImpl.getNumEvictions();
+    }
+
+    long getTotalBytesEvicted() {
+        return taskGraphImpl.getTotalBytesEvicted();
+    }
+
+    long getTotalBytesRematerialized() {
+        return taskGraphImpl.getTotalBytesRematerialized();
+    }
+
+    long getNumSkippedKernelArguments() {
+        return taskGraphImpl.getNumSkippedKernelArguments();
+    }
+
     void mapOnDeviceMemoryRegion(Object destArray, Object srcArray, long offset, TornadoTaskGraphInterface taskGraphSrc) {
         taskGraphImpl.mapOnDeviceMemoryRegion(destArray, srcArray, offset, taskGraphSrc);
     }
@@ -31,6 +31,15 @@ import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task6;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task8;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task9;
+import uk.ac.manchester.tornado.api.primitives.SparseMatrixVector;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
 
 /**
  * Base interface of the Tornado API.
@@ -488,6 +497,302 @@ public interface TaskGraphInterface {
      */
     TaskGraphInterface prebuiltTask(String id, String entryPoint, String filename, AccessorParameters accessorParameters, int[] atomics);
 
+    /**
+     * Adds a two-stage device reduction that computes the maximum value of the
+     * input array and the index of its first occurrence.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the maximum value
+     * @param index
+     *     Array of one element to store the index of the maximum value
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface argMax(String id, FloatArray input, FloatArray value, IntArray index);
+
+    /**
+     * Adds a two-stage device reduction that computes the minimum value of the
+     * input array and the index of its first occurrence.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the minimum value
+     * @param index
+     *     Array of one element to store the index of the minimum value
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface argMin(String id, FloatArray input, FloatArray value, IntArray index);
+
+    /**
+     * Adds a two-stage device reduction that computes the maximum value of the
+     * input array and the index of its first occurrence.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the maximum value
+     * @param index
+     *     Array of one element to store the index of the maximum value
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface argMax(String id, DoubleArray input, DoubleArray value, IntArray index);
+
+    /**
+     * Adds a two-stage device reduction that computes the minimum value of the
+     * input array and the index of its first occurrence.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the minimum value
+     * @param index
+     *     Array of one element to store the index of the minimum value
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface argMin(String id, DoubleArray input, DoubleArray value, IntArray index);
+
+    /**
+     * Adds a two-stage device reduction that computes the maximum value of the
+     * input array and the index of its first occurrence.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the maximum value
+     * @param index
+     *     Array of one element to store the index of the maximum value
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface argMax(String id, IntArray input, IntArray value, IntArray index);
+
+    /**
+     * Adds a two-stage device reduction that computes the minimum value of the
+     * input array and the index of its first occurrence.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param value
+     *     Array of one element to store the minimum value
+     * @param index
+     *     Array of one element to store the index of the minimum value
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface argMin(String id, IntArray input, IntArray value, IntArray index);
+
+    /**
+     * Adds an inclusive prefix sum over an {@link IntArray}, a {@link FloatArray}
+     * or a {@link LongArray} that runs on the device.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param output
+     *     Output array, with the same type and size as the input
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface scan(String id, T input, T output);
+
+    /**
+     * Adds an exclusive prefix sum over an {@link IntArray}, a {@link FloatArray}
+     * or a {@link LongArray} that runs on the device.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param output
+     *     Output array, with the same type and size as the input
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface exclusiveScan(String id, T input, T output);
+
+    /**
+     * Adds a sum of each segment of the input, with the segments described by
+     * offsets.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param offsets
+     *     Offsets of the segments, with <code>output.getSize() + 1</code> elements
+     * @param output
+     *     Array with the sum of each segment, with the same type as the input
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface segmentedReduce(String id, T input, IntArray offsets, T output);
+
+    /**
+     * Adds a stream compaction that copies the elements whose flag is not 0 to
+     * the beginning of the output, in the same order.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param flags
+     *     Array with a flag for each element of the input
+     * @param output
+     *     Output array, with the same type and size as the input
+     * @param count
+     *     Array of one element to store the number of copied elements
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface compact(String id, T input, IntArray flags, T output, IntArray count);
+
+    /**
+     * Adds a histogram of an IntArray in which each value is the index of its bin.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param bins
+     *     Array with the count of each bin
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface histogram(String id, IntArray input, IntArray bins);
+
+    /**
+     * Adds a histogram of a FloatArray with bins of equal width in
+     * <code>[min, max)</code>.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param min
+     *     Lower bound of the first bin
+     * @param max
+     *     Upper bound (exclusive) of the last bin
+     * @param bins
+     *     Array with the count of each bin
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface histogram(String id, FloatArray input, float min, float max, IntArray bins);
+
+    /**
+     * Sorts an {@link IntArray}, a {@link FloatArray} or a {@link LongArray} in
+     * place, in ascending order, on the device.
+     *
+     * @param id
+     *     Task-id
+     * @param keys
+     *     Array to sort
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface sort(String id, T keys);
+
+    /**
+     * Sorts an array of keys in place, in ascending order, and moves the values
+     * with their keys. The sort is stable.
+     *
+     * @param id
+     *     Task-id
+     * @param keys
+     *     Array of keys to sort
+     * @param values
+     *     Array of values, with the same size as the keys
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface sort(String id, T keys, IntArray values);
+
+    /**
+     * Adds a selection of the largest values of the input and their indices,
+     * sorted from the largest value.
+     *
+     * @param id
+     *     Task-id
+     * @param input
+     *     Input array
+     * @param values
+     *     Array to store the largest values, with the same type as the input
+     * @param indices
+     *     Array to store the indices of the largest values
+     * @return {@link TaskGraphInterface}
+     */
+    <T extends TornadoNativeArray> TaskGraphInterface topK(String id, T input, T values, IntArray indices);
+
+    /**
+     * Adds a sparse matrix-vector multiplication with the matrix in CSR format,
+     * with the kernel selected from the row lengths.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param x
+     *     Input vector
+     * @param y
+     *     Output vector
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface spmv(String id, CSRMatrixFloat matrix, FloatArray x, FloatArray y);
+
+    /**
+     * Adds a sparse matrix-vector multiplication with the matrix in CSR format
+     * and the given kernel.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param kernel
+     *     Kernel of the multiplication
+     * @param x
+     *     Input vector
+     * @param y
+     *     Output vector
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface spmv(String id, CSRMatrixFloat matrix, SparseMatrixVector.Kernel kernel, FloatArray x, FloatArray y);
+
+    /**
+     * Adds a sparse matrix-vector multiplication with the matrix in ELL format.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param x
+     *     Input vector
+     * @param y
+     *     Output vector
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface spmv(String id, ELLMatrixFloat matrix, FloatArray x, FloatArray y);
+
+    /**
+     * Adds a sparse matrix-vector multiplication with the matrix in
+     * SELL-C-&sigma; format.
+     *
+     * @param id
+     *     Task-id
+     * @param matrix
+     *     Sparse matrix
+     * @param x
+     *     Input vector
+     * @param y
+     *     Output vector
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface spmv(String id, SELLMatrixFloat matrix, FloatArray x, FloatArray y);
+
     /**
      * Obtains the task-schedule name that was assigned.
      *
@@ -550,6 +855,19 @@ public interface TaskGraphInterface {
      */
     TaskGraphInterface transferToHost(int mode, Object... objects);
 
+    /**
+     * Tag a set of output arrays that are copied out only up to the number of
+     * elements stored in <code>count[0]</code> by the tasks.
+     *
+     * @param count
+     *     Array whose first element is the number of elements produced in each
+     *     output.
+     * @param outputs
+     *     Output arrays.
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface transferToHostPrefix(IntArray count, TornadoNativeArray... outputs);
+
     TaskGraph persistOnDevice(Object... objects);
 
     /**
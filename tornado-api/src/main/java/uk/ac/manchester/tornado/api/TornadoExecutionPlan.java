@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
@@ -28,6 +29,7 @@ import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.plan.types.OffConcurrentDevices;
+import uk.ac.manchester.tornado.api.plan.types.OffDynamicReconfiguration;
 import uk.ac.manchester.tornado.api.plan.types.OffMemoryLimit;
 import uk.ac.manchester.tornado.api.plan.types.OffPrintKernel;
 import uk.ac.manchester.tornado.api.plan.types.OffProfiler;
@@ -39,6 +41,7 @@ import uk.ac.manchester.tornado.api.plan.types.WithCompilerFlags;
 import uk.ac.manchester.tornado.api.plan.types.WithConcurrentDevices;
 import uk.ac.manchester.tornado.api.plan.types.WithDefaultScheduler;
 import uk.ac.manchester.tornado.api.plan.types.WithDevice;
+import uk.ac.manchester.tornado.api.plan.types.WithDynamicReconfiguration;
 import uk.ac.manchester.tornado.api.plan.types.WithFreeDeviceMemory;
 import uk.ac.manchester.tornado.api.plan.types.WithGraph;
 import uk.ac.manchester.tornado.api.plan.types.WithGridScheduler;
@@ -170,6 +173,28 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
         return new TornadoDeviceMap();
     }
 
+    /**
+     * Create a stream processor that executes an unbounded stream of records
+     * using a rotating set of slots. Each slot has its own native arrays and
+     * its own execution plan, so the copy-in, compute and copy-out of different
+     * batches are pipelined. The returned processor can subscribe to a
+     * {@link java.util.concurrent.Flow.Publisher}, or consume a
+     * {@link java.util.stream.Stream}.
+     *
+     * @param batchSize
+     *     Number of records packed per slot execution.
+     * @param numSlots
+     *     Number of slots to rotate.
+     * @param slotFactory
+     *     Function that builds the slot for a given slot index.
+     * @return {@link TornadoStreamProcessor}
+     *
+     * @since 1.1.2
+     */
+    public static <T, R> TornadoStreamProcessor<T, R> stream(int batchSize, int numSlots, IntFunction<StreamingSlot<T, R>> slotFactory) {
+        return new TornadoStreamProcessor<>(batchSize, numSlots, slotFactory);
+    }
+
     /**
      * Execute an execution plan. It returns a {@link TornadoExecutionPlan} for
      * further build different optimization after the execution as well as obtain
@@ -240,25 +265,32 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
     }
 
     /**
-     * Print all operations enabled/disabled from the Execution Plan.
+     * Print all operations enabled/disabled from the Execution Plan. If the
+     * plan runs multiple task-graphs, it also prints the residency analysis
+     * of the data transfers across task-graphs.
      * 
      * @since 1.0.8
      */
     public void printTraceExecutionPlan() {
-        System.out.println(Objects.requireNonNullElse(childLink, this));
+        System.out.println(getTraceExecutionPlan());
     }
 
     /**
      * Returns a string with all the operations enabled/disabled from the
-     * Execution Plan.
+     * Execution Plan, followed by the residency analysis when the plan runs
+     * multiple task-graphs. The analysis is left out while a single graph is
+     * selected with {@link #withGraph(int)}, since it assumes that all the
+     * graphs run back to back.
      *
      * @since 1.0.8
      */
     public String getTraceExecutionPlan() {
-        if (childLink != null) {
-            return childLink.toString();
+        String trace = Objects.requireNonNullElse(childLink, this).toString();
+        ResidencyAnalysis residencyAnalysis = tornadoExecutor.getResidencyAnalysis();
+        if (residencyAnalysis != null) {
+            trace += residencyAnalysis.toString();
         }
-        return toString();
+        return trace;
     }
 
     @Override
@@ -478,6 +510,46 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
         return new WithClearProfiles(this);
     }
 
+    /**
+     * Enable the dynamic reconfiguration of the execution plan. The runtime
+     * evaluates all devices visible to TornadoVM, as well as the Java sequential
+     * implementation, and selects the best one according to the {@link Policy}.
+     * The selected device is stored per input-size bucket, so the plan switches
+     * devices transparently when the size of the data changes. Device-resident
+     * buffers are migrated through the host when switching devices.
+     *
+     * <p>
+     * The decisions are printed when the profiler is enabled in
+     * {@link ProfilerMode#CONSOLE} mode, and they can be queried with
+     * {@link TornadoProfilerResult#getDynamicReconfigurationDecisions()}.
+     * </p>
+     *
+     * @param policy
+     *     {@link Policy} to select the device.
+     * @param mode
+     *     {@link DRMode} to evaluate the devices.
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 1.1.2
+     */
+    public TornadoExecutionPlan withDynamicReconfiguration(Policy policy, DRMode mode) {
+        tornadoExecutor.withDynamicReconfiguration(policy, mode);
+        return new WithDynamicReconfiguration(this, policy, mode);
+    }
+
+    /**
+     * Disable the dynamic reconfiguration. The execution plan keeps running on
+     * the last selected device.
+     *
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 1.1.2
+     */
+    public TornadoExecutionPlan withoutDynamicReconfiguration() {
+        tornadoExecutor.withoutDynamicReconfiguration();
+        return new OffDynamicReconfiguration(this);
+    }
+
     /**
      * Enable printing of the Thread-Block Deployment for the generated kernels.
      *
@@ -19,12 +19,16 @@ package uk.ac.manchester.tornado.api;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
@@ -39,14 +43,150 @@ class TornadoExecutor {
 
     private final List<ImmutableTaskGraph> immutableTaskGraphList;
     private List<ImmutableTaskGraph> subgraphList;
+    private final ResidencyAnalysis residencyAnalysis;
+    private boolean residencyWarningsReported;
+    private boolean allGraphsExecuted;
+    private DynamicReconfiguration dynamicReconfiguration;
 
     TornadoExecutor(ImmutableTaskGraph... immutableTaskGraphs) {
         immutableTaskGraphList = new ArrayList<>();
         Collections.addAll(immutableTaskGraphList, immutableTaskGraphs);
+        residencyAnalysis = immutableTaskGraphs.length > 1 ? ResidencyAnalysis.analyse(immutableTaskGraphList) : null;
+    }
+
+    /**
+     * Residency analysis over all task-graphs of the executor. The analysis
+     * assumes that the task-graphs run back to back, so it does not apply
+     * while a single graph is selected with {@link #selectGraph(int)}.
+     *
+     * @return {@link ResidencyAnalysis}, or null if the executor contains a single
+     *     task-graph or a single graph is selected.
+     */
+    ResidencyAnalysis getResidencyAnalysis() {
+        return subgraphList == null ? residencyAnalysis : null;
+    }
+
+    /**
+     * Prints the warnings of the residency analysis, at warning level, the first
+     * time all the task-graphs run together. They can be disabled with
+     * {@code -Dtornado.plan.residency.warnings=false}.
+     */
+    private void reportResidencyWarnings() {
+        ResidencyAnalysis analysis = getResidencyAnalysis();
+        if (analysis != null && !residencyWarningsReported) {
+            residencyWarningsReported = true;
+            List<String> warnings = analysis.getWarnings().stream().map(ResidencyAnalysis.Finding::message).toList();
+            if (!warnings.isEmpty()) {
+                immutableTaskGraphList.getFirst().getTaskGraph().getTaskGraphImpl().logWarnings(warnings);
+            }
+        }
     }
 
     void execute(ExecutorFrame executionPackage) {
-        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.execute(executionPackage));
+        reportResidencyWarnings();
+        if (dynamicReconfiguration != null) {
+            dynamicReconfiguration.execute(this, executionPackage);
+        } else {
+            executeGraphs(executionPackage);
+        }
+    }
+
+    void executeGraphs(ExecutorFrame executionPackage) {
+        // The residency analysis is applied once all the graphs ran together, so the
+        // first executions, which may run speculatively on other devices, are not affected
+        ResidencyAnalysis analysis = allGraphsExecuted && dynamicReconfiguration == null ? getResidencyAnalysis() : null;
+        for (int graphIndex = 0; graphIndex < immutableTaskGraphList.size(); graphIndex++) {
+            ImmutableTaskGraph immutableTaskGraph = immutableTaskGraphList.get(graphIndex);
+            if (analysis == null || analysis.getActions(graphIndex).isEmpty()) {
+                immutableTaskGraph.execute(executionPackage);
+            } else {
+                executeWithResidency(immutableTaskGraph, analysis.getActions(graphIndex), executionPackage);
+            }
+        }
+        if (subgraphList == null) {
+            allGraphsExecuted = true;
+        }
+    }
+
+    private void executeWithResidency(ImmutableTaskGraph immutableTaskGraph, ResidencyAnalysis.Actions actions, ExecutorFrame executionPackage) {
+        Map<Object, TornadoTaskGraphInterface> residentInputs = new IdentityHashMap<>();
+        actions.residentInputs().forEach((object, sourceIndex) -> residentInputs.put(object, immutableTaskGraphList.get(sourceIndex).getTaskGraph().getTaskGraphImpl()));
+        TornadoTaskGraphInterface taskGraphImpl = immutableTaskGraph.getTaskGraph().getTaskGraphImpl();
+        taskGraphImpl.withResidencyHints(residentInputs, actions.deadCopyOuts());
+        try {
+            immutableTaskGraph.execute(executionPackage);
+        } finally {
+            taskGraphImpl.withoutResidencyHints();
+        }
+    }
+
+    void executeSequential() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::executeSequential);
+    }
+
+    void withDynamicReconfiguration(Policy policy, DRMode mode) {
+        dynamicReconfiguration = new DynamicReconfiguration(policy, mode);
+    }
+
+    void withoutDynamicReconfiguration() {
+        dynamicReconfiguration = null;
+    }
+
+    List<String> getDynamicReconfigurationDecisions() {
+        return dynamicReconfiguration != null ? dynamicReconfiguration.getDecisions() : Collections.emptyList();
+    }
+
+    /**
+     * Arguments of all task-graphs (objects transferred or used by the tasks),
+     * without duplicates.
+     */
+    List<Object> getArguments() {
+        Set<Object> arguments = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> argumentList = new ArrayList<>();
+        for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+            for (Object argument : immutableTaskGraph.getTaskGraph().getArgumentsLookup()) {
+                if (arguments.add(argument)) {
+                    argumentList.add(argument);
+                }
+            }
+        }
+        return argumentList;
+    }
+
+    /**
+     * Marks the buffers of all task-graphs on their current device as stale, so
+     * the next execution on that device copies all the inputs again, including
+     * the objects transferred only in the first execution.
+     */
+    void invalidateDeviceBuffers() {
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.getTaskGraph().getTaskGraphImpl().invalidateDeviceBuffers());
+    }
+
+    void logInfo(String message) {
+        immutableTaskGraphList.getFirst().getTaskGraph().getTaskGraphImpl().logInfo(message);
+    }
+
+    /**
+     * Objects whose latest value can be on the device rather than on the host:
+     * objects copied to the device only in the first execution, and objects
+     * persisted on the device.
+     */
+    List<Object> getDeviceResidentObjects() {
+        Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+            TornadoTaskGraphInterface taskGraphImpl = immutableTaskGraph.getTaskGraph().getTaskGraphImpl();
+            taskGraphImpl.getInputTransferModes().forEach((object, mode) -> {
+                if (mode == DataTransferMode.FIRST_EXECUTION) {
+                    objects.add(object);
+                }
+            });
+            taskGraphImpl.getOutputTransferModes().forEach((object, mode) -> {
+                if (mode == DataTransferMode.UNDER_DEMAND) {
+                    objects.add(object);
+                }
+            });
+        }
+        return new ArrayList<>(objects);
     }
 
     boolean withGridScheduler(GridScheduler gridScheduler) {
@@ -242,6 +382,22 @@ class TornadoExecutor {
         return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getCurrentDeviceMemoryUsage).sum();
     }
 
+    long getNumEvictions() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getNumEvictions).sum();
+    }
+
+    long getTotalBytesEvicted() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesEvicted).sum();
+    }
+
+    long getTotalBytesRematerialized() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesRematerialized).sum();
+    }
+
+    long getNumSkippedKernelArguments() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getNumSkippedKernelArguments).sum();
+    }
+
     void selectGraph(int graphIndex) {
         if (subgraphList == null) {
             subgraphList = new ArrayList<>();
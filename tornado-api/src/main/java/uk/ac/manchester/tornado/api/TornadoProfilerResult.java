@@ -17,6 +17,8 @@
  */
 package uk.ac.manchester.tornado.api;
 
+import java.util.List;
+
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.profiler.ProfilerInterface;
 
@@ -228,8 +230,79 @@ public class TornadoProfilerResult implements ProfilerInterface {
         return executor.getTotalDeviceMemoryUsage();
     }
 
+    /**
+     * Returns the number of device buffers that were evicted to make room for the
+     * allocations of the current execution, when the device memory is exhausted.
+     *
+     * @return long
+     *     Number of evictions.
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public long getNumEvictions() {
+        return executor.getNumEvictions();
+    }
+
+    /**
+     * Returns the total number of bytes of the device buffers that were evicted
+     * during the current execution.
+     *
+     * @return long
+     *     Number of bytes.
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public long getTotalBytesEvicted() {
+        return executor.getTotalBytesEvicted();
+    }
+
+    /**
+     * Returns the total number of bytes copied back to the device, during the
+     * current execution, for buffers that were previously evicted.
+     *
+     * @return long
+     *     Number of bytes.
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public long getTotalBytesRematerialized() {
+        return executor.getTotalBytesRematerialized();
+    }
+
+    /**
+     * Returns the number of kernel arguments that were not set again on the
+     * device kernels, because they had the same values as in the previous
+     * launch.
+     *
+     * @return long
+     *     Number of kernel arguments.
+     *
+     * @since 1.1.2
+     */
+    @Override
+    public long getNumSkippedKernelArguments() {
+        return executor.getNumSkippedKernelArguments();
+    }
+
     public String getTraceExecutionPlan() {
         return traceExecutionPlan;
     }
 
+
+    /**
+     * Returns the device selections made by the dynamic reconfiguration of the
+     * execution plan. See
+     * {@link TornadoExecutionPlan#withDynamicReconfiguration(Policy, DRMode)}.
+     *
+     * @return {@link List} of decisions. Empty if the dynamic reconfiguration is
+     *     not enabled.
+     *
+     * @since 1.1.2
+     */
+    public List<String> getDynamicReconfigurationDecisions() {
+        return executor.getDynamicReconfigurationDecisions();
+    }
 }
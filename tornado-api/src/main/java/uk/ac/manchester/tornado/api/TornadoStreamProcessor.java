@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Streaming execution of a set of {@link StreamingSlot}s. The processor
+ * subscribes to a {@link Flow.Publisher} (or consumes a {@link Stream}), packs
+ * the incoming records into batches, and rotates the batches over the slots.
+ * Each slot is executed from its own Java thread, and therefore, from its own
+ * device command queue, so the copy-in, compute and copy-out of a batch
+ * overlaps with the packing and the execution of the following batches.
+ *
+ * <p>
+ * Results are emitted downstream in the same order as the input records. The
+ * processor only requests new records from the upstream publisher when a slot
+ * is released. A slot is released once all its results are accepted by the
+ * downstream subscribers, so a slow subscriber throttles the whole pipeline
+ * (back-pressure).
+ * </p>
+ *
+ * <p>
+ * Example:
+ * <code>
+ * TornadoStreamProcessor<LogRecord, Float> processor = TornadoExecutionPlan.stream(4096, 3, slotIndex -> new ScoringSlot());
+ * publisher.subscribe(processor);
+ * processor.subscribe(resultSubscriber);
+ * </code>
+ * </p>
+ *
+ * @param <T>
+ *     Type of the input records.
+ * @param <R>
+ *     Type of the results.
+ *
+ * @since 1.1.2
+ */
+public class TornadoStreamProcessor<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+
+    private final int batchSize;
+    private final List<StreamingSlot<T, R>> slots;
+    private final BlockingQueue<StreamingSlot<T, R>> freeSlots;
+    private final ExecutorService slotWorkers;
+    private final ExecutorService emitter;
+
+    private Flow.Subscription subscription;
+    private StreamingSlot<T, R> currentSlot;
+    private int currentFill;
+    private CompletableFuture<Void> lastEmission;
+    private volatile boolean failed;
+
+    /**
+     * Create a new stream processor.
+     *
+     * @param batchSize
+     *     Number of records packed per slot execution.
+     * @param numSlots
+     *     Number of slots to rotate. Two slots correspond to double-buffering.
+     * @param slotFactory
+     *     Function that builds the slot for a given slot index.
+     */
+    public TornadoStreamProcessor(int batchSize, int numSlots, IntFunction<StreamingSlot<T, R>> slotFactory) {
+        if (batchSize <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The batch size of a stream processor must be greater than zero");
+        }
+        if (numSlots <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The number of slots of a stream processor must be greater than zero");
+        }
+        this.batchSize = batchSize;
+        this.slots = new ArrayList<>(numSlots);
+        this.freeSlots = new ArrayBlockingQueue<>(numSlots);
+        for (int i = 0; i < numSlots; i++) {
+            StreamingSlot<T, R> slot = slotFactory.apply(i);
+            slots.add(slot);
+            freeSlots.add(slot);
+        }
+        // Daemon threads, so a stream that never completes does not keep the JVM alive
+        this.slotWorkers = Executors.newFixedThreadPool(numSlots, daemonThreadFactory("TornadoStreamSlot"));
+        this.emitter = Executors.newSingleThreadExecutor(daemonThreadFactory("TornadoStreamEmitter"));
+        this.lastEmission = CompletableFuture.completedFuture(null);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger threadId = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, String.format("%s - %d", name, threadId.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getNumSlots() {
+        return slots.size();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request((long) batchSize * slots.size());
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (failed) {
+            return;
+        }
+        if (currentSlot == null) {
+            currentSlot = acquireSlot();
+            currentFill = 0;
+        }
+        currentSlot.pack(currentFill++, item);
+        if (currentFill == batchSize) {
+            dispatch();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        failed = true;
+        lastEmission.whenComplete((ignored, error) -> shutdown(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        if (currentSlot != null && currentFill > 0) {
+            dispatch();
+        }
+        lastEmission.whenComplete((ignored, error) -> shutdown(error));
+    }
+
+    /**
+     * Consume all records from a {@link Stream}. This call blocks the caller
+     * thread while all slots are busy, and it returns once the last batch was
+     * dispatched. Results are delivered to the subscribers of this processor.
+     *
+     * @param source
+     *     Input stream.
+     */
+    public void feed(Stream<? extends T> source) {
+        source.forEachOrdered(this::onNext);
+        onComplete();
+    }
+
+    /**
+     * Consume all records from a {@link Stream} and deliver each result to a
+     * consumer.
+     *
+     * @param source
+     *     Input stream.
+     * @param sink
+     *     Consumer of the results.
+     * @return {@link CompletableFuture} that completes when the last result is
+     *     consumed.
+     */
+    public CompletableFuture<Void> process(Stream<? extends T> source, Consumer<? super R> sink) {
+        CompletableFuture<Void> done = consume(sink);
+        feed(source);
+        return done;
+    }
+
+    private StreamingSlot<T, R> acquireSlot() {
+        try {
+            return freeSlots.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TornadoRuntimeException(e);
+        }
+    }
+
+    private void dispatch() {
+        final StreamingSlot<T, R> slot = currentSlot;
+        final int numRecords = currentFill;
+        currentSlot = null;
+        currentFill = 0;
+
+        CompletableFuture<Void> executed = CompletableFuture.runAsync(() -> {
+            slot.prepare(numRecords);
+            slot.getExecutionPlan().execute();
+        }, slotWorkers);
+
+        // Results are emitted in order: a batch is unpacked after the previous one
+        // was emitted, and from a single thread.
+        lastEmission = CompletableFuture.allOf(lastEmission, executed).thenRunAsync(() -> {
+            slot.unpack(numRecords, this::submit);
+            release(slot);
+        }, emitter).exceptionally(throwable -> {
+            if (!failed) {
+                failed = true;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                closeExceptionally(throwable);
+            }
+            freeSlots.offer(slot);
+            return null;
+        });
+    }
+
+    private void release(StreamingSlot<T, R> slot) {
+        freeSlots.offer(slot);
+        if (subscription != null && !failed) {
+            subscription.request(batchSize);
+        }
+    }
+
+    /**
+     * Closes the slots and then the publisher. A failure to close a slot does
+     * not escape the emission future, where it would be lost: it completes the
+     * subscribers exceptionally instead.
+     */
+    private void shutdown(Throwable throwable) {
+        Throwable error = throwable;
+        for (StreamingSlot<T, R> slot : slots) {
+            try {
+                slot.close();
+            } catch (TornadoExecutionPlanException | RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        slotWorkers.shutdown();
+        emitter.shutdown();
+        if (error != null) {
+            closeExceptionally(error);
+        } else if (!failed) {
+            close();
+        }
+    }
+}
@@ -31,6 +31,8 @@ import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.profiler.ProfilerInterface;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 
 public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
@@ -76,6 +78,8 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     void transferToHost(int mode, Object... objects);
 
+    void transferToHostPrefix(IntArray count, TornadoNativeArray... outputs);
+
     void consumeFromDevice(String uniqueTaskGraphName, Object... objects);
 
     void consumeFromDevice(Object... objects);
@@ -96,6 +100,12 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     TornadoTaskGraphInterface execute(ExecutorFrame executionPackage);
 
+    /**
+     * Runs all tasks of the task-graph with the Java sequential implementation on
+     * the host.
+     */
+    void executeSequential();
+
     void addTask(TaskPackage taskPackage);
 
     void addPrebuiltTask(TaskPackage taskPackage);
@@ -134,6 +144,60 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     Map<String, List<Object>> getPersistedTaskToObjectsMap();
 
+    /**
+     * Objects transferred to the device, in declaration order, with their
+     * {@link uk.ac.manchester.tornado.api.enums.DataTransferMode}.
+     */
+    Map<Object, Integer> getInputTransferModes();
+
+    /**
+     * Objects transferred to the host (or persisted on the device), in
+     * declaration order, with their
+     * {@link uk.ac.manchester.tornado.api.enums.DataTransferMode}.
+     */
+    Map<Object, Integer> getOutputTransferModes();
+
+    /**
+     * Logs warnings about the task-graph at warning level. They are printed
+     * unless {@code tornado.plan.residency.warnings} is disabled.
+     */
+    void logWarnings(List<String> warnings);
+
+    /**
+     * Applies the residency analysis of the execution plan to the next execution
+     * of the task-graph. The resident inputs are not copied to the device: the
+     * task-graph uses the buffer of the task-graph that copied them to the host.
+     * The copy-outs of the dead objects are skipped. Hints that cannot be
+     * applied safely (e.g., the buffer of the source is not on the same device)
+     * are ignored.
+     *
+     * @param residentInputs
+     *     Objects copied in by this task-graph, with the task-graph that holds
+     *     them on the device.
+     * @param deadCopyOuts
+     *     Objects copied out by this task-graph whose host copy is overwritten
+     *     before it is read.
+     */
+    void withResidencyHints(Map<Object, TornadoTaskGraphInterface> residentInputs, Set<Object> deadCopyOuts);
+
+    /**
+     * Restores the data transfers declared in the task-graph after an execution
+     * with residency hints.
+     */
+    void withoutResidencyHints();
+
+    /**
+     * Logs a message about the task-graph through the logger of the runtime. It
+     * is only printed in debug mode.
+     */
+    void logInfo(String message);
+
+    /**
+     * Marks the buffers of the task-graph on its current device as stale. The
+     * next execution on the device copies all the inputs from the host again.
+     */
+    void invalidateDeviceBuffers();
+
     void withCompilerFlags(TornadoVMBackendType backendType, String compilerFlags);
 
     void mapOnDeviceMemoryRegion(Object destArray, Object srcArray, long offset, TornadoTaskGraphInterface taskGraphSrc);
@@ -18,6 +18,7 @@
 package uk.ac.manchester.tornado.api.common;
 
 import uk.ac.manchester.tornado.api.AccessorParameters;
+import uk.ac.manchester.tornado.api.WorkerGrid;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task1;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task10;
@@ -44,6 +45,8 @@ public class TaskPackage {
 
     private boolean isPrebuiltTask;
 
+    private WorkerGrid workerGrid;
+
     public TaskPackage(String id, Task code) {
         this.id = id;
         this.taskType = 0;
@@ -253,4 +256,22 @@ public class TaskPackage {
         return isPrebuiltTask;
     }
 
+    /**
+     * Sets the worker grid of the task. It is used when the task-graph has no
+     * grid scheduler entry for the task, for example for the stages of the
+     * primitives that are written with the {@link uk.ac.manchester.tornado.api.KernelContext}.
+     *
+     * @param workerGrid
+     *     {@link WorkerGrid}
+     * @return {@link TaskPackage}
+     */
+    public TaskPackage withWorkerGrid(WorkerGrid workerGrid) {
+        this.workerGrid = workerGrid;
+        return this;
+    }
+
+    public WorkerGrid getWorkerGrid() {
+        return workerGrid;
+    }
+
 }
@@ -63,6 +63,15 @@ public interface XPUBuffer {
 
     long deallocate();
 
+    /**
+     * Releases the device memory of this buffer only. Unlike
+     * {@link #markAsFreeBuffer()} followed by {@link #deallocate()}, the other
+     * free buffers of the device are kept for reuse.
+     *
+     * @return Number of bytes released on the device.
+     */
+    long release() throws TornadoMemoryException;
+
     default int[] getIntBuffer() {
         return null;
     }
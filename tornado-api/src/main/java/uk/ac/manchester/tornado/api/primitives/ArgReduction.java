@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Index-carrying reductions (argmax and argmin) that run entirely on the
+ * device in two stages:
+ *
+ * <ul>
+ * <li>Stage 1: the input is split into contiguous chunks, and each thread
+ * computes the value and the index of the best element within its chunk.</li>
+ * <li>Stage 2: a work-group of {@link Primitives#GROUP_SIZE} threads combines
+ * the partial results with a tree reduction in local memory.</li>
+ * </ul>
+ *
+ * <p>
+ * Both stages use a strict comparison, and equal values resolve to the lowest
+ * index. Therefore, the result matches the sequential Java loop:
+ * <code>if (input[i] > best) { best = input[i]; index = i; }</code>, including
+ * ties. NaN values never compare greater or smaller, so each chunk starts
+ * from its first element that is not NaN, and a NaN is only returned when it
+ * is the first element of the input, as in the sequential loop.
+ * </p>
+ *
+ * <p>
+ * These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#argMax(String, FloatArray, FloatArray, IntArray)}
+ * and
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#argMin(String, FloatArray, FloatArray, IntArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class ArgReduction {
+
+    /**
+     * Maximum number of chunks (threads) used in the first stage.
+     */
+    public static final int MAX_CHUNKS = 4096;
+
+    private ArgReduction() {
+    }
+
+    /**
+     * Number of partial results for an input of the given size.
+     *
+     * @param size
+     *     Number of elements of the input array.
+     * @return int
+     */
+    public static int numChunks(int size) {
+        return Math.max(1, Math.min(size, MAX_CHUNKS));
+    }
+
+    public static void partialArgMax(FloatArray input, FloatArray partialValues, IntArray partialIndices) {
+        final int size = input.getSize();
+        final int numChunks = partialIndices.getSize();
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        for (@Parallel int chunk = 0; chunk < numChunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = TornadoMath.min(start + chunkSize, size);
+            int index = -1;
+            float best = 0.0f;
+            for (int i = start; i < end; i++) {
+                float value = input.get(i);
+                if (index == -1) {
+                    // The chunk starts from its first value that is not NaN, or from a NaN at index 0
+                    if (value == value || i == 0) {
+                        best = value;
+                        index = i;
+                    }
+                } else if (value > best) {
+                    best = value;
+                    index = i;
+                }
+            }
+            partialValues.set(chunk, best);
+            partialIndices.set(chunk, index);
+        }
+    }
+
+    public static void partialArgMin(FloatArray input, FloatArray partialValues, IntArray partialIndices) {
+        final int size = input.getSize();
+        final int numChunks = partialIndices.getSize();
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        for (@Parallel int chunk = 0; chunk < numChunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = TornadoMath.min(start + chunkSize, size);
+            int index = -1;
+            float best = 0.0f;
+            for (int i = start; i < end; i++) {
+                float value = input.get(i);
+                if (index == -1) {
+                    // The chunk starts from its first value that is not NaN, or from a NaN at index 0
+                    if (value == value || i == 0) {
+                        best = value;
+                        index = i;
+                    }
+                } else if (value < best) {
+                    best = value;
+                    index = i;
+                }
+            }
+            partialValues.set(chunk, best);
+            partialIndices.set(chunk, index);
+        }
+    }
+
+    public static void finalArgMax(KernelContext context, FloatArray partialValues, IntArray partialIndices, FloatArray value, IntArray index) {
+        int localIdx = context.localIdx;
+        float[] localValues = context.allocateFloatLocalArray(Primitives.GROUP_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int bestIndex = -1;
+        float best = 0.0f;
+        for (int chunk = localIdx; chunk < partialIndices.getSize(); chunk += Primitives.GROUP_SIZE) {
+            int candidate = partialIndices.get(chunk);
+            float candidateValue = partialValues.get(chunk);
+            if (candidate != -1 && (bestIndex == -1 || candidateValue > best)) {
+                best = candidateValue;
+                bestIndex = candidate;
+            }
+        }
+        localValues[localIdx] = best;
+        localIndices[localIdx] = bestIndex;
+        for (int stride = Primitives.GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                int candidate = localIndices[localIdx + stride];
+                float candidateValue = localValues[localIdx + stride];
+                int current = localIndices[localIdx];
+                if (candidate != -1 && (current == -1 || candidateValue > localValues[localIdx] || (candidateValue == localValues[localIdx] && candidate < current))) {
+                    localValues[localIdx] = candidateValue;
+                    localIndices[localIdx] = candidate;
+                }
+            }
+        }
+        if (localIdx == 0) {
+            value.set(0, localValues[0]);
+            index.set(0, localIndices[0]);
+        }
+    }
+
+    public static void finalArgMin(KernelContext context, FloatArray partialValues, IntArray partialIndices, FloatArray value, IntArray index) {
+        int localIdx = context.localIdx;
+        float[] localValues = context.allocateFloatLocalArray(Primitives.GROUP_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int bestIndex = -1;
+        float best = 0.0f;
+        for (int chunk = localIdx; chunk < partialIndices.getSize(); chunk += Primitives.GROUP_SIZE) {
+            int candidate = partialIndices.get(chunk);
+            float candidateValue = partialValues.get(chunk);
+            if (candidate != -1 && (bestIndex == -1 || candidateValue < best)) {
+                best = candidateValue;
+                bestIndex = candidate;
+            }
+        }
+        localValues[localIdx] = best;
+        localIndices[localIdx] = bestIndex;
+        for (int stride = Primitives.GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                int candidate = localIndices[localIdx + stride];
+                float candidateValue = localValues[localIdx + stride];
+                int current = localIndices[localIdx];
+                if (candidate != -1 && (current == -1 || candidateValue < localValues[localIdx] || (candidateValue == localValues[localIdx] && candidate < current))) {
+                    localValues[localIdx] = candidateValue;
+                    localIndices[localIdx] = candidate;
+                }
+            }
+        }
+        if (localIdx == 0) {
+            value.set(0, localValues[0]);
+            index.set(0, localIndices[0]);
+        }
+    }
+
+    public static void partialArgMax(DoubleArray input, DoubleArray partialValues, IntArray partialIndices) {
+        final int size = input.getSize();
+        final int numChunks = partialIndices.getSize();
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        for (@Parallel int chunk = 0; chunk < numChunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = TornadoMath.min(start + chunkSize, size);
+            int index = -1;
+            double best = 0.0;
+            for (int i = start; i < end; i++) {
+                double value = input.get(i);
+                if (index == -1) {
+                    // The chunk starts from its first value that is not NaN, or from a NaN at index 0
+                    if (value == value || i == 0) {
+                        best = value;
+                        index = i;
+                    }
+                } else if (value > best) {
+                    best = value;
+                    index = i;
+                }
+            }
+            partialValues.set(chunk, best);
+            partialIndices.set(chunk, index);
+        }
+    }
+
+    public static void partialArgMin(DoubleArray input, DoubleArray partialValues, IntArray partialIndices) {
+        final int size = input.getSize();
+        final int numChunks = partialIndices.getSize();
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        for (@Parallel int chunk = 0; chunk < numChunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = TornadoMath.min(start + chunkSize, size);
+            int index = -1;
+            double best = 0.0;
+            for (int i = start; i < end; i++) {
+                double value = input.get(i);
+                if (index == -1) {
+                    // The chunk starts from its first value that is not NaN, or from a NaN at index 0
+                    if (value == value || i == 0) {
+                        best = value;
+                        index = i;
+                    }
+                } else if (value < best) {
+                    best = value;
+                    index = i;
+                }
+            }
+            partialValues.set(chunk, best);
+            partialIndices.set(chunk, index);
+        }
+    }
+
+    public static void finalArgMax(KernelContext context, DoubleArray partialValues, IntArray partialIndices, DoubleArray value, IntArray index) {
+        int localIdx = context.localIdx;
+        double[] localValues = context.allocateDoubleLocalArray(Primitives.GROUP_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int bestIndex = -1;
+        double best = 0.0;
+        for (int chunk = localIdx; chunk < partialIndices.getSize(); chunk += Primitives.GROUP_SIZE) {
+            int candidate = partialIndices.get(chunk);
+            double candidateValue = partialValues.get(chunk);
+            if (candidate != -1 && (bestIndex == -1 || candidateValue > best)) {
+                best = candidateValue;
+                bestIndex = candidate;
+            }
+        }
+        localValues[localIdx] = best;
+        localIndices[localIdx] = bestIndex;
+        for (int stride = Primitives.GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                int candidate = localIndices[localIdx + stride];
+                double candidateValue = localValues[localIdx + stride];
+                int current = localIndices[localIdx];
+                if (candidate != -1 && (current == -1 || candidateValue > localValues[localIdx] || (candidateValue == localValues[localIdx] && candidate < current))) {
+                    localValues[localIdx] = candidateValue;
+                    localIndices[localIdx] = candidate;
+                }
+            }
+        }
+        if (localIdx == 0) {
+            value.set(0, localValues[0]);
+            index.set(0, localIndices[0]);
+        }
+    }
+
+    public static void finalArgMin(KernelContext context, DoubleArray partialValues, IntArray partialIndices, DoubleArray value, IntArray index) {
+        int localIdx = context.localIdx;
+        double[] localValues = context.allocateDoubleLocalArray(Primitives.GROUP_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int bestIndex = -1;
+        double best = 0.0;
+        for (int chunk = localIdx; chunk < partialIndices.getSize(); chunk += Primitives.GROUP_SIZE) {
+            int candidate = partialIndices.get(chunk);
+            double candidateValue = partialValues.get(chunk);
+            if (candidate != -1 && (bestIndex == -1 || candidateValue < best)) {
+                best = candidateValue;
+                bestIndex = candidate;
+            }
+        }
+        localValues[localIdx] = best;
+        localIndices[localIdx] = bestIndex;
+        for (int stride = Primitives.GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                int candidate = localIndices[localIdx + stride];
+                double candidateValue = localValues[localIdx + stride];
+                int current = localIndices[localIdx];
+                if (candidate != -1 && (current == -1 || candidateValue < localValues[localIdx] || (candidateValue == localValues[localIdx] && candidate < current))) {
+                    localValues[localIdx] = candidateValue;
+                    localIndices[localIdx] = candidate;
+                }
+            }
+        }
+        if (localIdx == 0) {
+            value.set(0, localValues[0]);
+            index.set(0, localIndices[0]);
+        }
+    }
+
+    public static void partialArgMax(IntArray input, IntArray partialValues, IntArray partialIndices) {
+        final int size = input.getSize();
+        final int numChunks = partialIndices.getSize();
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        for (@Parallel int chunk = 0; chunk < numChunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = TornadoMath.min(start + chunkSize, size);
+            int index = -1;
+            int best = 0;
+            if (start < end) {
+                index = start;
+                best = input.get(start);
+                for (int i = start + 1; i < end; i++) {
+                    int value = input.get(i);
+                    if (value > best) {
+                        best = value;
+                        index = i;
+                    }
+                }
+            }
+            partialValues.set(chunk, best);
+            partialIndices.set(chunk, index);
+        }
+    }
+
+    public static void partialArgMin(IntArray input, IntArray partialValues, IntArray partialIndices) {
+        final int size = input.getSize();
+        final int numChunks = partialIndices.getSize();
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        for (@Parallel int chunk = 0; chunk < numChunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = TornadoMath.min(start + chunkSize, size);
+            int index = -1;
+            int best = 0;
+            if (start < end) {
+                index = start;
+                best = input.get(start);
+                for (int i = start + 1; i < end; i++) {
+                    int value = input.get(i);
+                    if (value < best) {
+                        best = value;
+                        index = i;
+                    }
+                }
+            }
+            partialValues.set(chunk, best);
+            partialIndices.set(chunk, index);
+        }
+    }
+
+    public static void finalArgMax(KernelContext context, IntArray partialValues, IntArray partialIndices, IntArray value, IntArray index) {
+        int localIdx = context.localIdx;
+        int[] localValues = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int bestIndex = -1;
+        int best = 0;
+        for (int chunk = localIdx; chunk < partialIndices.getSize(); chunk += Primitives.GROUP_SIZE) {
+            int candidate = partialIndices.get(chunk);
+            int candidateValue = partialValues.get(chunk);
+            if (candidate != -1 && (bestIndex == -1 || candidateValue > best)) {
+                best = candidateValue;
+                bestIndex = candidate;
+            }
+        }
+        localValues[localIdx] = best;
+        localIndices[localIdx] = bestIndex;
+        for (int stride = Primitives.GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                int candidate = localIndices[localIdx + stride];
+                int candidateValue = localValues[localIdx + stride];
+                int current = localIndices[localIdx];
+                if (candidate != -1 && (current == -1 || candidateValue > localValues[localIdx] || (candidateValue == localValues[localIdx] && candidate < current))) {
+                    localValues[localIdx] = candidateValue;
+                    localIndices[localIdx] = candidate;
+                }
+            }
+        }
+        if (localIdx == 0) {
+            value.set(0, localValues[0]);
+            index.set(0, localIndices[0]);
+        }
+    }
+
+    public static void finalArgMin(KernelContext context, IntArray partialValues, IntArray partialIndices, IntArray value, IntArray index) {
+        int localIdx = context.localIdx;
+        int[] localValues = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(Primitives.GROUP_SIZE);
+        int bestIndex = -1;
+        int best = 0;
+        for (int chunk = localIdx; chunk < partialIndices.getSize(); chunk += Primitives.GROUP_SIZE) {
+            int candidate = partialIndices.get(chunk);
+            int candidateValue = partialValues.get(chunk);
+            if (candidate != -1 && (bestIndex == -1 || candidateValue < best)) {
+                best = candidateValue;
+                bestIndex = candidate;
+            }
+        }
+        localValues[localIdx] = best;
+        localIndices[localIdx] = bestIndex;
+        for (int stride = Primitives.GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                int candidate = localIndices[localIdx + stride];
+                int candidateValue = localValues[localIdx + stride];
+                int current = localIndices[localIdx];
+                if (candidate != -1 && (current == -1 || candidateValue < localValues[localIdx] || (candidateValue == localValues[localIdx] && candidate < current))) {
+                    localValues[localIdx] = candidateValue;
+                    localIndices[localIdx] = candidate;
+                }
+            }
+        }
+        if (localIdx == 0) {
+            value.set(0, localValues[0]);
+            index.set(0, localIndices[0]);
+        }
+    }
+}
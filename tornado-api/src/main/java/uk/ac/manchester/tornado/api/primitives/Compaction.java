@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.Primitives.GROUP_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Stream compaction: copies the elements of the input whose flag is not 0 to
+ * the beginning of the output, in the same order, and stores the number of
+ * copied elements. The flags are usually computed by a previous task of the
+ * task-graph, for example with the predicate of a filter.
+ *
+ * <p>
+ * The compaction runs on the device in three stages, in the same way as the
+ * {@link Scan}. The first stage counts the flags of the segment of each
+ * work-group, the second one computes the offset of each segment in the output
+ * with a single work-group, and the third one scans the flags of each block in
+ * local memory to find the position of each element in the output.
+ * </p>
+ *
+ * <p>
+ * These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#compact(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, IntArray, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, IntArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class Compaction {
+
+    private Compaction() {
+    }
+
+    public static void countFlags(KernelContext context, IntArray flags, IntArray groupCounts) {
+        final int size = flags.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupCounts.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int count = 0;
+        for (int i = start + context.localIdx; i < end; i += GROUP_SIZE) {
+            if (flags.get(i) != 0) {
+                count++;
+            }
+        }
+        count = Primitives.reduceGroup(context, scratch, count);
+        if (context.localIdx == 0) {
+            groupCounts.set(group, count);
+        }
+    }
+
+    public static void scanCounts(KernelContext context, IntArray groupCounts, IntArray count) {
+        int localIdx = context.localIdx;
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        Primitives.scanGroup(context, scratch, localIdx < groupCounts.getSize() ? groupCounts.get(localIdx) : 0);
+        if (localIdx < groupCounts.getSize()) {
+            groupCounts.set(localIdx, localIdx > 0 ? scratch[localIdx - 1] : 0);
+        }
+        if (localIdx == 0) {
+            count.set(0, scratch[GROUP_SIZE - 1]);
+        }
+    }
+
+    public static void scatter(KernelContext context, IntArray input, IntArray flags, IntArray groupCounts, IntArray output) {
+        final int size = flags.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupCounts.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int offset = groupCounts.get(group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + context.localIdx;
+            int flag = i < end && flags.get(i) != 0 ? 1 : 0;
+            int position = offset + Primitives.scanGroup(context, scratch, flag) - 1;
+            if (flag != 0) {
+                output.set(position, input.get(i));
+            }
+            offset += scratch[GROUP_SIZE - 1];
+        }
+    }
+
+    public static void scatter(KernelContext context, FloatArray input, IntArray flags, IntArray groupCounts, FloatArray output) {
+        final int size = flags.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupCounts.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int offset = groupCounts.get(group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + context.localIdx;
+            int flag = i < end && flags.get(i) != 0 ? 1 : 0;
+            int position = offset + Primitives.scanGroup(context, scratch, flag) - 1;
+            if (flag != 0) {
+                output.set(position, input.get(i));
+            }
+            offset += scratch[GROUP_SIZE - 1];
+        }
+    }
+
+    public static void scatter(KernelContext context, LongArray input, IntArray flags, IntArray groupCounts, LongArray output) {
+        final int size = flags.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupCounts.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int offset = groupCounts.get(group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + context.localIdx;
+            int flag = i < end && flags.get(i) != 0 ? 1 : 0;
+            int position = offset + Primitives.scanGroup(context, scratch, flag) - 1;
+            if (flag != 0) {
+                output.set(position, input.get(i));
+            }
+            offset += scratch[GROUP_SIZE - 1];
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.Primitives.GROUP_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Histograms computed on the device in two stages:
+ *
+ * <ul>
+ * <li>Stage 1: each work-group counts the values of its segment into its own
+ * histogram, with atomic additions. The threads of the work-group read
+ * consecutive values, and the atomics of different work-groups never access
+ * the same counters.</li>
+ * <li>Stage 2: each thread adds the counts of one bin across the histograms of
+ * all the work-groups.</li>
+ * </ul>
+ *
+ * <p>
+ * Values outside the range of the histogram are not counted. The number of
+ * work-groups is reduced for large histograms, so the histograms of the
+ * work-groups use at most {@link #MAX_PARTIAL_BINS} counters. The first stage
+ * needs atomics on global memory, which are not available in the SPIR-V
+ * backend.
+ * </p>
+ *
+ * <p>
+ * These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#histogram(String, IntArray, IntArray)}
+ * and
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#histogram(String, FloatArray, float, float, IntArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class Histogram {
+
+    /**
+     * Maximum number of counters of the histograms of all the work-groups.
+     */
+    public static final int MAX_PARTIAL_BINS = 1 << 22;
+
+    private Histogram() {
+    }
+
+    /**
+     * Number of work-groups for an input of the given size.
+     *
+     * @param size
+     *     Number of elements of the input array.
+     * @param numBins
+     *     Number of bins of the histogram.
+     * @return int
+     */
+    public static int numGroups(int size, int numBins) {
+        return Math.max(1, Math.min(Primitives.numGroups(size), MAX_PARTIAL_BINS / Math.max(1, numBins)));
+    }
+
+    public static void partialHistogram(KernelContext context, IntArray input, IntArray partialBins, int numBins) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, partialBins.getSize() / numBins);
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int base = group * numBins;
+
+        for (int bin = context.localIdx; bin < numBins; bin += GROUP_SIZE) {
+            partialBins.set(base + bin, 0);
+        }
+        context.globalBarrier();
+        for (int i = start + context.localIdx; i < end; i += GROUP_SIZE) {
+            int bin = input.get(i);
+            if (bin >= 0 && bin < numBins) {
+                context.atomicAdd(partialBins, base + bin, 1);
+            }
+        }
+    }
+
+    /**
+     * The bins split the range <code>[min, max)</code> in equal parts.
+     * <code>scale</code> is <code>numBins / (max - min)</code>.
+     */
+    public static void partialHistogram(KernelContext context, FloatArray input, IntArray partialBins, int numBins, float min, float max, float scale) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, partialBins.getSize() / numBins);
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int base = group * numBins;
+
+        for (int bin = context.localIdx; bin < numBins; bin += GROUP_SIZE) {
+            partialBins.set(base + bin, 0);
+        }
+        context.globalBarrier();
+        for (int i = start + context.localIdx; i < end; i += GROUP_SIZE) {
+            float value = input.get(i);
+            if (value >= min && value < max) {
+                // Rounding can move a value just below max to the next bin
+                context.atomicAdd(partialBins, base + TornadoMath.min((int) ((value - min) * scale), numBins - 1), 1);
+            }
+        }
+    }
+
+    public static void mergeHistograms(IntArray partialBins, IntArray bins) {
+        final int numBins = bins.getSize();
+        final int numGroups = partialBins.getSize() / numBins;
+        for (@Parallel int bin = 0; bin < numBins; bin++) {
+            int sum = 0;
+            for (int group = 0; group < numGroups; group++) {
+                sum += partialBins.get(group * numBins + bin);
+            }
+            bins.set(bin, sum);
+        }
+    }
+}
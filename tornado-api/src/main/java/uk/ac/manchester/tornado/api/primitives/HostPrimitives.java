@@ -0,0 +1,586 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Parallel Java implementations of the primitives of this package, for code
+ * that runs on the host. They use the common fork-join pool with a few chunks
+ * per thread. The sorts are stable and the top-k selection uses the same
+ * order as the device kernels, so both return the same results, including the
+ * order of the elements with equal keys. The only exceptions are the sort of
+ * keys without values, which uses {@link Arrays#parallelSort(int[])}, and the
+ * rounding errors of the floating-point scans.
+ *
+ * @since 1.1.2
+ */
+public final class HostPrimitives {
+
+    /**
+     * Inputs smaller than this size are processed by a single thread.
+     */
+    private static final int MIN_CHUNK_SIZE = 4096;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private HostPrimitives() {
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int chunk, int start, int end);
+    }
+
+    private static int numChunks(int size) {
+        return Math.max(1, Math.min(size / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD));
+    }
+
+    private static void forEachChunk(int size, int numChunks, ChunkTask task) {
+        final int chunkSize = (size + numChunks - 1) / numChunks;
+        IntStream.range(0, numChunks).parallel().forEach(chunk -> {
+            int start = chunk * chunkSize;
+            task.run(chunk, start, Math.min(start + chunkSize, size));
+        });
+    }
+
+    private static void exclusiveScanInPlace(IntArray array) {
+        int sum = 0;
+        for (int i = 0; i < array.getSize(); i++) {
+            int value = array.get(i);
+            array.set(i, sum);
+            sum += value;
+        }
+    }
+
+    private static int countFlags(IntArray flags, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (flags.get(i) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Inclusive prefix sum: <code>output[i] = input[0] + ... + input[i]</code>.
+     */
+    public static void scan(IntArray input, IntArray output) {
+        scan(input, output, 1);
+    }
+
+    /**
+     * Exclusive prefix sum: <code>output[i] = input[0] + ... + input[i - 1]</code>,
+     * and <code>output[0]</code> is 0.
+     */
+    public static void exclusiveScan(IntArray input, IntArray output) {
+        scan(input, output, 0);
+    }
+
+    private static void scan(IntArray input, IntArray output, int inclusive) {
+        final int size = input.getSize();
+        final int numChunks = numChunks(size);
+        IntArray partialSums = new IntArray(numChunks);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            int sum = 0;
+            for (int i = start; i < end; i++) {
+                sum += input.get(i);
+            }
+            partialSums.set(chunk, sum);
+        });
+        int offset = 0;
+        for (int chunk = 0; chunk < numChunks; chunk++) {
+            int value = partialSums.get(chunk);
+            partialSums.set(chunk, offset);
+            offset += value;
+        }
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            int sum = partialSums.get(chunk);
+            for (int i = start; i < end; i++) {
+                int next = sum + input.get(i);
+                output.set(i, inclusive != 0 ? next : sum);
+                sum = next;
+            }
+        });
+    }
+
+    /**
+     * Sums each segment of the input. Segment <code>s</code> covers the
+     * elements from <code>offsets[s]</code> to <code>offsets[s + 1]</code>.
+     */
+    public static void segmentedReduce(IntArray input, IntArray offsets, IntArray output) {
+        IntStream.range(0, output.getSize()).parallel().forEach(segment -> {
+            int sum = 0;
+            for (int i = offsets.get(segment); i < offsets.get(segment + 1); i++) {
+                sum += input.get(i);
+            }
+            output.set(segment, sum);
+        });
+    }
+
+    /**
+     * Copies the elements whose flag is not 0 to the beginning of the output,
+     * in the same order.
+     *
+     * @return the number of copied elements
+     */
+    public static int compact(IntArray input, IntArray flags, IntArray output) {
+        final int size = flags.getSize();
+        final int numChunks = numChunks(size);
+        IntArray partialCounts = new IntArray(numChunks + 1);
+        forEachChunk(size, numChunks, (chunk, start, end) -> partialCounts.set(chunk, countFlags(flags, start, end)));
+        exclusiveScanInPlace(partialCounts);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            int position = partialCounts.get(chunk);
+            for (int i = start; i < end; i++) {
+                if (flags.get(i) != 0) {
+                    output.set(position, input.get(i));
+                    position++;
+                }
+            }
+        });
+        return partialCounts.get(numChunks);
+    }
+
+    /**
+     * Sorts the keys in ascending order.
+     */
+    public static void sort(IntArray keys) {
+        int[] sorted = keys.toHeapArray();
+        Arrays.parallelSort(sorted);
+        IntStream.range(0, sorted.length).parallel().forEach(i -> keys.set(i, sorted[i]));
+    }
+
+    /**
+     * Sorts the keys in ascending order and moves the values with their keys.
+     * The sort is stable.
+     */
+    public static void sort(IntArray keys, IntArray values) {
+        final int size = keys.getSize();
+        final int numChunks = numChunks(size);
+        IntArray offsets = new IntArray(RadixSort.RADIX * numChunks);
+        IntArray[] passKeys = { keys, new IntArray(size) };
+        IntArray[] passValues = { values, new IntArray(size) };
+        for (int pass = 0; pass < RadixSort.numPasses(Integer.SIZE); pass++) {
+            final IntArray sourceKeys = passKeys[pass % 2];
+            final IntArray sourceValues = passValues[pass % 2];
+            final IntArray destinationKeys = passKeys[(pass + 1) % 2];
+            final IntArray destinationValues = passValues[(pass + 1) % 2];
+            final int shift = pass * RadixSort.RADIX_BITS;
+            forEachChunk(size, numChunks, (chunk, start, end) -> {
+                for (int digit = 0; digit < RadixSort.RADIX; digit++) {
+                    offsets.set(digit * numChunks + chunk, 0);
+                }
+                for (int i = start; i < end; i++) {
+                    int index = RadixSort.digit(sourceKeys.get(i), shift) * numChunks + chunk;
+                    offsets.set(index, offsets.get(index) + 1);
+                }
+            });
+            exclusiveScanInPlace(offsets);
+            forEachChunk(size, numChunks, (chunk, start, end) -> {
+                for (int i = start; i < end; i++) {
+                    int key = sourceKeys.get(i);
+                    int index = RadixSort.digit(key, shift) * numChunks + chunk;
+                    int position = offsets.get(index);
+                    offsets.set(index, position + 1);
+                    destinationKeys.set(position, key);
+                    destinationValues.set(position, sourceValues.get(i));
+                }
+            });
+        }
+    }
+
+    /**
+     * Selects the largest values of the input, sorted from the largest one,
+     * and their indices. The number of selected values is the size of
+     * <code>indices</code>.
+     */
+    public static void topK(IntArray input, IntArray values, IntArray indices) {
+        final int k = indices.getSize();
+        if (k == 0) {
+            return;
+        }
+        final int size = input.getSize();
+        final int numChunks = Math.max(1, Math.min(numChunks(size), TopK.MAX_CANDIDATES / k));
+        IntArray partialValues = new IntArray(numChunks * k);
+        IntArray partialIndices = new IntArray(numChunks * k);
+        forEachChunk(size, numChunks, (chunk, start, end) -> TopK.select(input, partialValues, partialIndices, chunk * k, k, start, end, 1));
+        for (int chunk = 1; chunk < numChunks; chunk++) {
+            TopK.merge(partialValues, partialIndices, 0, chunk * k, k);
+        }
+        for (int i = 0; i < k; i++) {
+            values.set(i, partialValues.get(i));
+            indices.set(i, partialIndices.get(i));
+        }
+    }
+
+    /**
+     * Inclusive prefix sum: <code>output[i] = input[0] + ... + input[i]</code>.
+     */
+    public static void scan(FloatArray input, FloatArray output) {
+        scan(input, output, 1);
+    }
+
+    /**
+     * Exclusive prefix sum: <code>output[i] = input[0] + ... + input[i - 1]</code>,
+     * and <code>output[0]</code> is 0.
+     */
+    public static void exclusiveScan(FloatArray input, FloatArray output) {
+        scan(input, output, 0);
+    }
+
+    private static void scan(FloatArray input, FloatArray output, int inclusive) {
+        final int size = input.getSize();
+        final int numChunks = numChunks(size);
+        FloatArray partialSums = new FloatArray(numChunks);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            float sum = 0.0f;
+            for (int i = start; i < end; i++) {
+                sum += input.get(i);
+            }
+            partialSums.set(chunk, sum);
+        });
+        float offset = 0.0f;
+        for (int chunk = 0; chunk < numChunks; chunk++) {
+            float value = partialSums.get(chunk);
+            partialSums.set(chunk, offset);
+            offset += value;
+        }
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            float sum = partialSums.get(chunk);
+            for (int i = start; i < end; i++) {
+                float next = sum + input.get(i);
+                output.set(i, inclusive != 0 ? next : sum);
+                sum = next;
+            }
+        });
+    }
+
+    /**
+     * Sums each segment of the input. Segment <code>s</code> covers the
+     * elements from <code>offsets[s]</code> to <code>offsets[s + 1]</code>.
+     */
+    public static void segmentedReduce(FloatArray input, IntArray offsets, FloatArray output) {
+        IntStream.range(0, output.getSize()).parallel().forEach(segment -> {
+            float sum = 0.0f;
+            for (int i = offsets.get(segment); i < offsets.get(segment + 1); i++) {
+                sum += input.get(i);
+            }
+            output.set(segment, sum);
+        });
+    }
+
+    /**
+     * Copies the elements whose flag is not 0 to the beginning of the output,
+     * in the same order.
+     *
+     * @return the number of copied elements
+     */
+    public static int compact(FloatArray input, IntArray flags, FloatArray output) {
+        final int size = flags.getSize();
+        final int numChunks = numChunks(size);
+        IntArray partialCounts = new IntArray(numChunks + 1);
+        forEachChunk(size, numChunks, (chunk, start, end) -> partialCounts.set(chunk, countFlags(flags, start, end)));
+        exclusiveScanInPlace(partialCounts);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            int position = partialCounts.get(chunk);
+            for (int i = start; i < end; i++) {
+                if (flags.get(i) != 0) {
+                    output.set(position, input.get(i));
+                    position++;
+                }
+            }
+        });
+        return partialCounts.get(numChunks);
+    }
+
+    /**
+     * Sorts the keys in ascending order.
+     */
+    public static void sort(FloatArray keys) {
+        float[] sorted = keys.toHeapArray();
+        Arrays.parallelSort(sorted);
+        IntStream.range(0, sorted.length).parallel().forEach(i -> keys.set(i, sorted[i]));
+    }
+
+    /**
+     * Sorts the keys in ascending order and moves the values with their keys.
+     * The sort is stable.
+     */
+    public static void sort(FloatArray keys, IntArray values) {
+        final int size = keys.getSize();
+        final int numChunks = numChunks(size);
+        IntArray offsets = new IntArray(RadixSort.RADIX * numChunks);
+        FloatArray[] passKeys = { keys, new FloatArray(size) };
+        IntArray[] passValues = { values, new IntArray(size) };
+        for (int pass = 0; pass < RadixSort.numPasses(Float.SIZE); pass++) {
+            final FloatArray sourceKeys = passKeys[pass % 2];
+            final IntArray sourceValues = passValues[pass % 2];
+            final FloatArray destinationKeys = passKeys[(pass + 1) % 2];
+            final IntArray destinationValues = passValues[(pass + 1) % 2];
+            final int shift = pass * RadixSort.RADIX_BITS;
+            forEachChunk(size, numChunks, (chunk, start, end) -> {
+                for (int digit = 0; digit < RadixSort.RADIX; digit++) {
+                    offsets.set(digit * numChunks + chunk, 0);
+                }
+                for (int i = start; i < end; i++) {
+                    int index = RadixSort.digit(sourceKeys.get(i), shift) * numChunks + chunk;
+                    offsets.set(index, offsets.get(index) + 1);
+                }
+            });
+            exclusiveScanInPlace(offsets);
+            forEachChunk(size, numChunks, (chunk, start, end) -> {
+                for (int i = start; i < end; i++) {
+                    float key = sourceKeys.get(i);
+                    int index = RadixSort.digit(key, shift) * numChunks + chunk;
+                    int position = offsets.get(index);
+                    offsets.set(index, position + 1);
+                    destinationKeys.set(position, key);
+                    destinationValues.set(position, sourceValues.get(i));
+                }
+            });
+        }
+    }
+
+    /**
+     * Selects the largest values of the input, sorted from the largest one,
+     * and their indices. The number of selected values is the size of
+     * <code>indices</code>.
+     */
+    public static void topK(FloatArray input, FloatArray values, IntArray indices) {
+        final int k = indices.getSize();
+        if (k == 0) {
+            return;
+        }
+        final int size = input.getSize();
+        final int numChunks = Math.max(1, Math.min(numChunks(size), TopK.MAX_CANDIDATES / k));
+        FloatArray partialValues = new FloatArray(numChunks * k);
+        IntArray partialIndices = new IntArray(numChunks * k);
+        forEachChunk(size, numChunks, (chunk, start, end) -> TopK.select(input, partialValues, partialIndices, chunk * k, k, start, end, 1));
+        for (int chunk = 1; chunk < numChunks; chunk++) {
+            TopK.merge(partialValues, partialIndices, 0, chunk * k, k);
+        }
+        for (int i = 0; i < k; i++) {
+            values.set(i, partialValues.get(i));
+            indices.set(i, partialIndices.get(i));
+        }
+    }
+
+    /**
+     * Inclusive prefix sum: <code>output[i] = input[0] + ... + input[i]</code>.
+     */
+    public static void scan(LongArray input, LongArray output) {
+        scan(input, output, 1);
+    }
+
+    /**
+     * Exclusive prefix sum: <code>output[i] = input[0] + ... + input[i - 1]</code>,
+     * and <code>output[0]</code> is 0.
+     */
+    public static void exclusiveScan(LongArray input, LongArray output) {
+        scan(input, output, 0);
+    }
+
+    private static void scan(LongArray input, LongArray output, int inclusive) {
+        final int size = input.getSize();
+        final int numChunks = numChunks(size);
+        LongArray partialSums = new LongArray(numChunks);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            long sum = 0L;
+            for (int i = start; i < end; i++) {
+                sum += input.get(i);
+            }
+            partialSums.set(chunk, sum);
+        });
+        long offset = 0L;
+        for (int chunk = 0; chunk < numChunks; chunk++) {
+            long value = partialSums.get(chunk);
+            partialSums.set(chunk, offset);
+            offset += value;
+        }
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            long sum = partialSums.get(chunk);
+            for (int i = start; i < end; i++) {
+                long next = sum + input.get(i);
+                output.set(i, inclusive != 0 ? next : sum);
+                sum = next;
+            }
+        });
+    }
+
+    /**
+     * Sums each segment of the input. Segment <code>s</code> covers the
+     * elements from <code>offsets[s]</code> to <code>offsets[s + 1]</code>.
+     */
+    public static void segmentedReduce(LongArray input, IntArray offsets, LongArray output) {
+        IntStream.range(0, output.getSize()).parallel().forEach(segment -> {
+            long sum = 0L;
+            for (int i = offsets.get(segment); i < offsets.get(segment + 1); i++) {
+                sum += input.get(i);
+            }
+            output.set(segment, sum);
+        });
+    }
+
+    /**
+     * Copies the elements whose flag is not 0 to the beginning of the output,
+     * in the same order.
+     *
+     * @return the number of copied elements
+     */
+    public static int compact(LongArray input, IntArray flags, LongArray output) {
+        final int size = flags.getSize();
+        final int numChunks = numChunks(size);
+        IntArray partialCounts = new IntArray(numChunks + 1);
+        forEachChunk(size, numChunks, (chunk, start, end) -> partialCounts.set(chunk, countFlags(flags, start, end)));
+        exclusiveScanInPlace(partialCounts);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            int position = partialCounts.get(chunk);
+            for (int i = start; i < end; i++) {
+                if (flags.get(i) != 0) {
+                    output.set(position, input.get(i));
+                    position++;
+                }
+            }
+        });
+        return partialCounts.get(numChunks);
+    }
+
+    /**
+     * Sorts the keys in ascending order.
+     */
+    public static void sort(LongArray keys) {
+        long[] sorted = keys.toHeapArray();
+        Arrays.parallelSort(sorted);
+        IntStream.range(0, sorted.length).parallel().forEach(i -> keys.set(i, sorted[i]));
+    }
+
+    /**
+     * Sorts the keys in ascending order and moves the values with their keys.
+     * The sort is stable.
+     */
+    public static void sort(LongArray keys, IntArray values) {
+        final int size = keys.getSize();
+        final int numChunks = numChunks(size);
+        IntArray offsets = new IntArray(RadixSort.RADIX * numChunks);
+        LongArray[] passKeys = { keys, new LongArray(size) };
+        IntArray[] passValues = { values, new IntArray(size) };
+        for (int pass = 0; pass < RadixSort.numPasses(Long.SIZE); pass++) {
+            final LongArray sourceKeys = passKeys[pass % 2];
+            final IntArray sourceValues = passValues[pass % 2];
+            final LongArray destinationKeys = passKeys[(pass + 1) % 2];
+            final IntArray destinationValues = passValues[(pass + 1) % 2];
+            final int shift = pass * RadixSort.RADIX_BITS;
+            forEachChunk(size, numChunks, (chunk, start, end) -> {
+                for (int digit = 0; digit < RadixSort.RADIX; digit++) {
+                    offsets.set(digit * numChunks + chunk, 0);
+                }
+                for (int i = start; i < end; i++) {
+                    int index = RadixSort.digit(sourceKeys.get(i), shift) * numChunks + chunk;
+                    offsets.set(index, offsets.get(index) + 1);
+                }
+            });
+            exclusiveScanInPlace(offsets);
+            forEachChunk(size, numChunks, (chunk, start, end) -> {
+                for (int i = start; i < end; i++) {
+                    long key = sourceKeys.get(i);
+                    int index = RadixSort.digit(key, shift) * numChunks + chunk;
+                    int position = offsets.get(index);
+                    offsets.set(index, position + 1);
+                    destinationKeys.set(position, key);
+                    destinationValues.set(position, sourceValues.get(i));
+                }
+            });
+        }
+    }
+
+    /**
+     * Selects the largest values of the input, sorted from the largest one,
+     * and their indices. The number of selected values is the size of
+     * <code>indices</code>.
+     */
+    public static void topK(LongArray input, LongArray values, IntArray indices) {
+        final int k = indices.getSize();
+        if (k == 0) {
+            return;
+        }
+        final int size = input.getSize();
+        final int numChunks = Math.max(1, Math.min(numChunks(size), TopK.MAX_CANDIDATES / k));
+        LongArray partialValues = new LongArray(numChunks * k);
+        IntArray partialIndices = new IntArray(numChunks * k);
+        forEachChunk(size, numChunks, (chunk, start, end) -> TopK.select(input, partialValues, partialIndices, chunk * k, k, start, end, 1));
+        for (int chunk = 1; chunk < numChunks; chunk++) {
+            TopK.merge(partialValues, partialIndices, 0, chunk * k, k);
+        }
+        for (int i = 0; i < k; i++) {
+            values.set(i, partialValues.get(i));
+            indices.set(i, partialIndices.get(i));
+        }
+    }
+
+    /**
+     * Counts the values of the input in the bins. Values outside
+     * <code>[0, bins.getSize())</code> are not counted.
+     */
+    public static void histogram(IntArray input, IntArray bins) {
+        final int numBins = bins.getSize();
+        final int size = input.getSize();
+        final int numChunks = Math.max(1, Math.min(numChunks(size), Histogram.MAX_PARTIAL_BINS / Math.max(1, numBins)));
+        IntArray partialBins = new IntArray(numChunks * numBins);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                int bin = input.get(i);
+                if (bin >= 0 && bin < numBins) {
+                    partialBins.set(chunk * numBins + bin, partialBins.get(chunk * numBins + bin) + 1);
+                }
+            }
+        });
+        Histogram.mergeHistograms(partialBins, bins);
+    }
+
+    /**
+     * Counts the values of the input in bins that split <code>[min, max)</code>
+     * in equal parts. Values outside the range are not counted.
+     */
+    public static void histogram(FloatArray input, float min, float max, IntArray bins) {
+        final int numBins = bins.getSize();
+        final int size = input.getSize();
+        final int numChunks = Math.max(1, Math.min(numChunks(size), Histogram.MAX_PARTIAL_BINS / Math.max(1, numBins)));
+        final float scale = numBins / (max - min);
+        IntArray partialBins = new IntArray(numChunks * numBins);
+        forEachChunk(size, numChunks, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                float value = input.get(i);
+                if (value >= min && value < max) {
+                    // Rounding can move a value just below max to the next bin, as in the device kernel
+                    int bin = chunk * numBins + TornadoMath.min((int) ((value - min) * scale), numBins - 1);
+                    partialBins.set(bin, partialBins.get(bin) + 1);
+                }
+            }
+        });
+        Histogram.mergeHistograms(partialBins, bins);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import java.util.function.IntFunction;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task2;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task3;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task4;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task5;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
+import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Kernels of the primitives for one type of array. The task-graph builds the
+ * stages of each primitive once, for any type, with the kernels of the type of
+ * its arrays.
+ *
+ * @param newArray
+ *     Allocates an array of the type, for the partial results.
+ * @param keyBits
+ *     Number of bits of the elements, as keys of the radix sort.
+ * @param groupSums
+ *     {@link Scan#groupSums}
+ * @param scanGroupSums
+ *     {@link Scan#scanGroupSums}
+ * @param scanGroups
+ *     {@link Scan#scanGroups}
+ * @param segmentedSum
+ *     {@link SegmentedReduction#segmentedSum}
+ * @param compact
+ *     {@link Compaction#scatter}
+ * @param countDigits
+ *     {@link RadixSort#countDigits}
+ * @param sortKeys
+ *     {@link RadixSort#scatter} of the keys
+ * @param sortPairs
+ *     {@link RadixSort#scatter} of the keys and values
+ * @param partialTopK
+ *     {@link TopK#partialTopK}
+ * @param finalTopK
+ *     {@link TopK#finalTopK}
+ * @param <T>
+ *     Type of the arrays
+ *
+ * @since 1.1.2
+ */
+public record PrimitiveKernels<T extends TornadoNativeArray>( //
+        IntFunction<T> newArray, //
+        int keyBits, //
+        Task3<KernelContext, T, T> groupSums, //
+        Task2<KernelContext, T> scanGroupSums, //
+        Task5<KernelContext, T, T, T, Integer> scanGroups, //
+        Task4<KernelContext, T, IntArray, T> segmentedSum, //
+        Task5<KernelContext, T, IntArray, IntArray, T> compact, //
+        Task4<KernelContext, T, IntArray, Integer> countDigits, //
+        Task5<KernelContext, T, IntArray, T, Integer> sortKeys, //
+        Task7<KernelContext, T, IntArray, IntArray, T, IntArray, Integer> sortPairs, //
+        Task5<KernelContext, T, T, IntArray, Integer> partialTopK, //
+        Task5<KernelContext, T, IntArray, T, IntArray> finalTopK) {
+
+    public static final PrimitiveKernels<IntArray> INT = new PrimitiveKernels<>(IntArray::new, Integer.SIZE, //
+            Scan::groupSums, Scan::scanGroupSums, Scan::scanGroups, SegmentedReduction::segmentedSum, Compaction::scatter, //
+            RadixSort::countDigits, RadixSort::scatter, RadixSort::scatter, TopK::partialTopK, TopK::finalTopK);
+
+    public static final PrimitiveKernels<FloatArray> FLOAT = new PrimitiveKernels<>(FloatArray::new, Float.SIZE, //
+            Scan::groupSums, Scan::scanGroupSums, Scan::scanGroups, SegmentedReduction::segmentedSum, Compaction::scatter, //
+            RadixSort::countDigits, RadixSort::scatter, RadixSort::scatter, TopK::partialTopK, TopK::finalTopK);
+
+    public static final PrimitiveKernels<LongArray> LONG = new PrimitiveKernels<>(LongArray::new, Long.SIZE, //
+            Scan::groupSums, Scan::scanGroupSums, Scan::scanGroups, SegmentedReduction::segmentedSum, Compaction::scatter, //
+            RadixSort::countDigits, RadixSort::scatter, RadixSort::scatter, TopK::partialTopK, TopK::finalTopK);
+
+    /**
+     * Kernels for the type of the given array. The other arrays must have the
+     * same type.
+     *
+     * @param array
+     *     An {@link IntArray}, a {@link FloatArray} or a {@link LongArray}.
+     * @param others
+     *     Other arrays of the same primitive.
+     * @return {@link PrimitiveKernels}
+     * @throws TornadoTaskRuntimeException
+     *     if the type is not supported, or if the arrays have different types.
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <T extends TornadoNativeArray> PrimitiveKernels<T> of(T array, T... others) {
+        for (T other : others) {
+            if (other.getClass() != array.getClass()) {
+                throw new TornadoTaskRuntimeException("The arrays of a primitive must have the same type: " + array.getClass().getSimpleName() + " and " + other.getClass().getSimpleName());
+            }
+        }
+        if (array instanceof IntArray) {
+            return (PrimitiveKernels<T>) INT;
+        } else if (array instanceof FloatArray) {
+            return (PrimitiveKernels<T>) FLOAT;
+        } else if (array instanceof LongArray) {
+            return (PrimitiveKernels<T>) LONG;
+        }
+        throw new TornadoTaskRuntimeException("The primitives do not support arrays of type " + array.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+
+/**
+ * Settings and work-group helpers shared by the data-parallel primitives of
+ * this package. The primitives run with the {@link KernelContext}: the input
+ * is split into one contiguous segment per work-group, and each work-group
+ * processes its segment in blocks of {@link #GROUP_SIZE} elements, one element
+ * per thread, with the partial results in local memory. The values of the
+ * work-groups are combined by a single work-group, so there are at most
+ * {@link #GROUP_SIZE} work-groups.
+ *
+ * <p>
+ * The maximum number of work-groups can be reduced with
+ * <code>-Dtornado.primitives.groups=N</code>. Multi-core CPU devices usually
+ * run faster with a few work-groups per core.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class Primitives {
+
+    /**
+     * Number of threads of each work-group. It is a power of two.
+     */
+    public static final int GROUP_SIZE = 256;
+
+    /**
+     * Maximum number of work-groups of the parallel stages.
+     */
+    public static final int MAX_GROUPS = Math.max(1, Math.min(GROUP_SIZE, Integer.getInteger("tornado.primitives.groups", GROUP_SIZE)));
+
+    private Primitives() {
+    }
+
+    /**
+     * Number of work-groups for an input of the given size.
+     *
+     * @param size
+     *     Number of elements of the input array.
+     * @return int
+     */
+    public static int numGroups(int size) {
+        return Math.max(1, Math.min((size + GROUP_SIZE - 1) / GROUP_SIZE, MAX_GROUPS));
+    }
+
+    /**
+     * Builds a 1D worker grid of work-groups of {@link #GROUP_SIZE} threads.
+     *
+     * @param numGroups
+     *     Number of work-groups.
+     * @return {@link WorkerGrid}
+     */
+    public static WorkerGrid workerGrid(int numGroups) {
+        WorkerGrid workerGrid = new WorkerGrid1D(Math.max(1, numGroups) * GROUP_SIZE);
+        workerGrid.setLocalWork(GROUP_SIZE, 1, 1);
+        return workerGrid;
+    }
+
+    /**
+     * Number of elements of the segment of each work-group. It is a multiple
+     * of {@link #GROUP_SIZE}, so all the threads of a work-group run the same
+     * number of iterations over the blocks of the segment.
+     */
+    static int segmentSize(int size, int numGroups) {
+        int numBlocks = (size + GROUP_SIZE - 1) / GROUP_SIZE;
+        return ((numBlocks + numGroups - 1) / numGroups) * GROUP_SIZE;
+    }
+
+    /**
+     * Inclusive scan of one value per thread over the work-group, in local
+     * memory. After the call, <code>scratch[GROUP_SIZE - 1]</code> holds the
+     * sum of the work-group for all the threads.
+     *
+     * @return the inclusive prefix sum of the thread
+     */
+    static int scanGroup(KernelContext context, int[] scratch, int value) {
+        int localIdx = context.localIdx;
+        // The previous contents of the scratch array can still be read by other threads
+        context.localBarrier();
+        scratch[localIdx] = value;
+        for (int offset = 1; offset < GROUP_SIZE; offset *= 2) {
+            context.localBarrier();
+            int previous = localIdx >= offset ? scratch[localIdx - offset] : 0;
+            context.localBarrier();
+            scratch[localIdx] += previous;
+        }
+        context.localBarrier();
+        return scratch[localIdx];
+    }
+
+    static float scanGroup(KernelContext context, float[] scratch, float value) {
+        int localIdx = context.localIdx;
+        context.localBarrier();
+        scratch[localIdx] = value;
+        for (int offset = 1; offset < GROUP_SIZE; offset *= 2) {
+            context.localBarrier();
+            float previous = localIdx >= offset ? scratch[localIdx - offset] : 0.0f;
+            context.localBarrier();
+            scratch[localIdx] += previous;
+        }
+        context.localBarrier();
+        return scratch[localIdx];
+    }
+
+    static long scanGroup(KernelContext context, long[] scratch, long value) {
+        int localIdx = context.localIdx;
+        context.localBarrier();
+        scratch[localIdx] = value;
+        for (int offset = 1; offset < GROUP_SIZE; offset *= 2) {
+            context.localBarrier();
+            long previous = localIdx >= offset ? scratch[localIdx - offset] : 0L;
+            context.localBarrier();
+            scratch[localIdx] += previous;
+        }
+        context.localBarrier();
+        return scratch[localIdx];
+    }
+
+    /**
+     * Sum of one value per thread over the work-group, with a tree reduction
+     * in local memory. The result is only valid in the thread with local id 0.
+     */
+    static int reduceGroup(KernelContext context, int[] scratch, int value) {
+        int localIdx = context.localIdx;
+        scratch[localIdx] = value;
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                scratch[localIdx] += scratch[localIdx + stride];
+            }
+        }
+        return scratch[0];
+    }
+
+    static float reduceGroup(KernelContext context, float[] scratch, float value) {
+        int localIdx = context.localIdx;
+        scratch[localIdx] = value;
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                scratch[localIdx] += scratch[localIdx + stride];
+            }
+        }
+        return scratch[0];
+    }
+
+    static long reduceGroup(KernelContext context, long[] scratch, long value) {
+        int localIdx = context.localIdx;
+        scratch[localIdx] = value;
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                scratch[localIdx] += scratch[localIdx + stride];
+            }
+        }
+        return scratch[0];
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.Primitives.GROUP_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Least-significant-digit radix sort with digits of {@link #RADIX_BITS} bits.
+ * Each pass sorts the keys by one digit in three steps:
+ *
+ * <ul>
+ * <li>Each work-group counts the digits of its segment of the keys. The counts
+ * are stored digit by digit: <code>counts[digit * numGroups + group]</code>.</li>
+ * <li>An exclusive {@link Scan} of the counts gives, for each digit and
+ * work-group, the first position of its keys in the output.</li>
+ * <li>Each work-group moves the keys of its segment, block by block, to their
+ * positions.</li>
+ * </ul>
+ *
+ * <p>
+ * Both the count and the move sort each block of {@link Primitives#GROUP_SIZE}
+ * digits in local memory, with one stable split per bit of the digit. The
+ * position of a key in the output is then the offset of its digit plus its
+ * rank among the keys of the block with the same digit, and the threads of a
+ * work-group write consecutive positions for each digit. There is one thread
+ * per digit, so {@link #RADIX} is the same as {@link Primitives#GROUP_SIZE}.
+ * </p>
+ *
+ * <p>
+ * Each pass is stable, so the sort is stable and a key-value sort keeps the
+ * original order of the values with equal keys. Signed integers are sorted by
+ * flipping the sign bit, and floats by flipping all the bits of the negative
+ * values, so the order is the same as {@link java.util.Arrays#sort(float[])},
+ * with <code>-0.0f</code> before <code>0.0f</code>. NaN values are sorted by
+ * their bits: positive NaN values go to the end and negative ones to the
+ * beginning.
+ * </p>
+ *
+ * <p>
+ * These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#sort(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray)}
+ * and
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#sort(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, IntArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class RadixSort {
+
+    /**
+     * Number of bits of each digit.
+     */
+    public static final int RADIX_BITS = 8;
+
+    /**
+     * Number of different digits.
+     */
+    public static final int RADIX = 1 << RADIX_BITS;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Number of passes to sort keys of the given number of bits. It is always
+     * even, so the sorted keys end up in the input array.
+     *
+     * @param keyBits
+     *     Number of bits of the keys.
+     * @return int
+     */
+    public static int numPasses(int keyBits) {
+        return keyBits / RADIX_BITS;
+    }
+
+    static int digit(int key, int shift) {
+        return ((key ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+    }
+
+    static int digit(float key, int shift) {
+        int bits = Float.floatToRawIntBits(key);
+        // All the bits of the negative values are flipped, only the sign bit of the positive ones
+        int ordered = bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+        return (ordered >>> shift) & (RADIX - 1);
+    }
+
+    static int digit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+    }
+
+    /**
+     * Sorts the digits of a block in local memory, with a stable split per
+     * bit. After the call, <code>order[i]</code> is the index in the block of
+     * the element with the i-th smallest digit. The elements after the end of
+     * the input have the largest digit, so they stay at the end of the block.
+     */
+    static void sortBlock(KernelContext context, int[] digits, int[] order, int[] scratch, int[] swapDigits, int[] swapOrder) {
+        int localIdx = context.localIdx;
+        for (int bit = 0; bit < RADIX_BITS; bit++) {
+            int digit = digits[localIdx];
+            int index = order[localIdx];
+            int zero = ((digit >>> bit) & 1) == 0 ? 1 : 0;
+            int zerosBefore = Primitives.scanGroup(context, scratch, zero) - zero;
+            int position = zero != 0 ? zerosBefore : scratch[GROUP_SIZE - 1] + localIdx - zerosBefore;
+            swapDigits[position] = digit;
+            swapOrder[position] = index;
+            context.localBarrier();
+            digits[localIdx] = swapDigits[localIdx];
+            order[localIdx] = swapOrder[localIdx];
+        }
+        context.localBarrier();
+    }
+
+    /**
+     * Marks the first element of each digit of a sorted block.
+     *
+     * @return the rank of the element of the thread among the elements of the
+     *     block with the same digit
+     */
+    static int rankInBlock(KernelContext context, int[] digits, int[] digitStart, int numElements) {
+        int localIdx = context.localIdx;
+        int digit = digits[localIdx];
+        if (localIdx < numElements && (localIdx == 0 || digits[localIdx - 1] != digit)) {
+            digitStart[digit] = localIdx;
+        }
+        context.localBarrier();
+        return localIdx - digitStart[digit];
+    }
+
+    /**
+     * Adds the number of elements of each digit of a sorted block to the
+     * counters of the digits. The last element of each digit updates its
+     * counter.
+     */
+    static void addBlockCounts(KernelContext context, int[] digits, int[] digitCounts, int rank, int numElements) {
+        int localIdx = context.localIdx;
+        if (localIdx < numElements && (localIdx == numElements - 1 || digits[localIdx + 1] != digits[localIdx])) {
+            digitCounts[digits[localIdx]] += rank + 1;
+        }
+    }
+
+    public static void countDigits(KernelContext context, IntArray keys, IntArray counts, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = counts.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitCounts = context.allocateIntLocalArray(RADIX);
+
+        digitCounts[localIdx] = 0;
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            addBlockCounts(context, digits, digitCounts, rank, numElements);
+        }
+        context.localBarrier();
+        counts.set(localIdx * numGroups + group, digitCounts[localIdx]);
+    }
+
+    public static void scatter(KernelContext context, IntArray keys, IntArray offsets, IntArray keysOutput, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = offsets.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitOffsets = context.allocateIntLocalArray(RADIX);
+
+        digitOffsets[localIdx] = offsets.get(localIdx * numGroups + group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            if (localIdx < numElements) {
+                keysOutput.set(digitOffsets[digits[localIdx]] + rank, keys.get(block + order[localIdx]));
+            }
+            context.localBarrier();
+            addBlockCounts(context, digits, digitOffsets, rank, numElements);
+        }
+    }
+
+    public static void scatter(KernelContext context, IntArray keys, IntArray values, IntArray offsets, IntArray keysOutput, IntArray valuesOutput, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = offsets.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitOffsets = context.allocateIntLocalArray(RADIX);
+
+        digitOffsets[localIdx] = offsets.get(localIdx * numGroups + group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            if (localIdx < numElements) {
+                int position = digitOffsets[digits[localIdx]] + rank;
+                keysOutput.set(position, keys.get(block + order[localIdx]));
+                valuesOutput.set(position, values.get(block + order[localIdx]));
+            }
+            context.localBarrier();
+            addBlockCounts(context, digits, digitOffsets, rank, numElements);
+        }
+    }
+
+    public static void countDigits(KernelContext context, FloatArray keys, IntArray counts, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = counts.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitCounts = context.allocateIntLocalArray(RADIX);
+
+        digitCounts[localIdx] = 0;
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            addBlockCounts(context, digits, digitCounts, rank, numElements);
+        }
+        context.localBarrier();
+        counts.set(localIdx * numGroups + group, digitCounts[localIdx]);
+    }
+
+    public static void scatter(KernelContext context, FloatArray keys, IntArray offsets, FloatArray keysOutput, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = offsets.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitOffsets = context.allocateIntLocalArray(RADIX);
+
+        digitOffsets[localIdx] = offsets.get(localIdx * numGroups + group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            if (localIdx < numElements) {
+                keysOutput.set(digitOffsets[digits[localIdx]] + rank, keys.get(block + order[localIdx]));
+            }
+            context.localBarrier();
+            addBlockCounts(context, digits, digitOffsets, rank, numElements);
+        }
+    }
+
+    public static void scatter(KernelContext context, FloatArray keys, IntArray values, IntArray offsets, FloatArray keysOutput, IntArray valuesOutput, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = offsets.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitOffsets = context.allocateIntLocalArray(RADIX);
+
+        digitOffsets[localIdx] = offsets.get(localIdx * numGroups + group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            if (localIdx < numElements) {
+                int position = digitOffsets[digits[localIdx]] + rank;
+                keysOutput.set(position, keys.get(block + order[localIdx]));
+                valuesOutput.set(position, values.get(block + order[localIdx]));
+            }
+            context.localBarrier();
+            addBlockCounts(context, digits, digitOffsets, rank, numElements);
+        }
+    }
+
+    public static void countDigits(KernelContext context, LongArray keys, IntArray counts, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = counts.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitCounts = context.allocateIntLocalArray(RADIX);
+
+        digitCounts[localIdx] = 0;
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            addBlockCounts(context, digits, digitCounts, rank, numElements);
+        }
+        context.localBarrier();
+        counts.set(localIdx * numGroups + group, digitCounts[localIdx]);
+    }
+
+    public static void scatter(KernelContext context, LongArray keys, IntArray offsets, LongArray keysOutput, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = offsets.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitOffsets = context.allocateIntLocalArray(RADIX);
+
+        digitOffsets[localIdx] = offsets.get(localIdx * numGroups + group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            if (localIdx < numElements) {
+                keysOutput.set(digitOffsets[digits[localIdx]] + rank, keys.get(block + order[localIdx]));
+            }
+            context.localBarrier();
+            addBlockCounts(context, digits, digitOffsets, rank, numElements);
+        }
+    }
+
+    public static void scatter(KernelContext context, LongArray keys, IntArray values, IntArray offsets, LongArray keysOutput, IntArray valuesOutput, int shift) {
+        final int size = keys.getSize();
+        final int numGroups = offsets.getSize() / RADIX;
+        final int segmentSize = Primitives.segmentSize(size, numGroups);
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] digits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] order = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapDigits = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] swapOrder = context.allocateIntLocalArray(GROUP_SIZE);
+        int[] digitStart = context.allocateIntLocalArray(RADIX);
+        int[] digitOffsets = context.allocateIntLocalArray(RADIX);
+
+        digitOffsets[localIdx] = offsets.get(localIdx * numGroups + group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int numElements = TornadoMath.min(GROUP_SIZE, end - block);
+            context.localBarrier();
+            digits[localIdx] = i < end ? digit(keys.get(i), shift) : RADIX - 1;
+            order[localIdx] = localIdx;
+            sortBlock(context, digits, order, scratch, swapDigits, swapOrder);
+            int rank = rankInBlock(context, digits, digitStart, numElements);
+            if (localIdx < numElements) {
+                int position = digitOffsets[digits[localIdx]] + rank;
+                keysOutput.set(position, keys.get(block + order[localIdx]));
+                valuesOutput.set(position, values.get(block + order[localIdx]));
+            }
+            context.localBarrier();
+            addBlockCounts(context, digits, digitOffsets, rank, numElements);
+        }
+    }
+}
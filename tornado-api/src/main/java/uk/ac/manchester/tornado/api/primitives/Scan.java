@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.Primitives.GROUP_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Inclusive and exclusive prefix sums, computed on the device in three stages
+ * (reduce-then-scan):
+ *
+ * <ul>
+ * <li>Stage 1: each work-group sums its segment of the input. Each thread
+ * accumulates a strided slice of the segment, and the work-group reduces the
+ * values in local memory.</li>
+ * <li>Stage 2: a single work-group computes the exclusive scan of the sums of
+ * the work-groups in local memory, which gives the offset of each
+ * segment.</li>
+ * <li>Stage 3: each work-group scans the blocks of its segment in local memory,
+ * one element per thread, and adds the offset of the segment and the sums of
+ * the previous blocks.</li>
+ * </ul>
+ *
+ * <p>
+ * The input is read twice and the output is written once, and all the stages
+ * run with one thread per element of a block. For floating-point inputs, the
+ * additions are grouped by work-groups and blocks, so the results can differ
+ * from a sequential loop by rounding errors.
+ * </p>
+ *
+ * <p>
+ * These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#scan(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray)}
+ * and
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#exclusiveScan(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class Scan {
+
+    private Scan() {
+    }
+
+    public static void groupSums(KernelContext context, IntArray input, IntArray groupSums) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupSums.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int sum = 0;
+        for (int i = start + context.localIdx; i < end; i += GROUP_SIZE) {
+            sum += input.get(i);
+        }
+        sum = Primitives.reduceGroup(context, scratch, sum);
+        if (context.localIdx == 0) {
+            groupSums.set(group, sum);
+        }
+    }
+
+    public static void scanGroupSums(KernelContext context, IntArray groupSums) {
+        int localIdx = context.localIdx;
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+        Primitives.scanGroup(context, scratch, localIdx < groupSums.getSize() ? groupSums.get(localIdx) : 0);
+        if (localIdx < groupSums.getSize()) {
+            groupSums.set(localIdx, localIdx > 0 ? scratch[localIdx - 1] : 0);
+        }
+    }
+
+    public static void scanGroups(KernelContext context, IntArray input, IntArray groupSums, IntArray output, int inclusive) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupSums.getSize());
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int offset = groupSums.get(group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            int sum = Primitives.scanGroup(context, scratch, i < end ? input.get(i) : 0);
+            if (i < end) {
+                output.set(i, offset + (inclusive != 0 ? sum : (localIdx > 0 ? scratch[localIdx - 1] : 0)));
+            }
+            offset += scratch[GROUP_SIZE - 1];
+        }
+    }
+
+    public static void groupSums(KernelContext context, FloatArray input, FloatArray groupSums) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupSums.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        float[] scratch = context.allocateFloatLocalArray(GROUP_SIZE);
+
+        float sum = 0.0f;
+        for (int i = start + context.localIdx; i < end; i += GROUP_SIZE) {
+            sum += input.get(i);
+        }
+        sum = Primitives.reduceGroup(context, scratch, sum);
+        if (context.localIdx == 0) {
+            groupSums.set(group, sum);
+        }
+    }
+
+    public static void scanGroupSums(KernelContext context, FloatArray groupSums) {
+        int localIdx = context.localIdx;
+        float[] scratch = context.allocateFloatLocalArray(GROUP_SIZE);
+        Primitives.scanGroup(context, scratch, localIdx < groupSums.getSize() ? groupSums.get(localIdx) : 0.0f);
+        if (localIdx < groupSums.getSize()) {
+            groupSums.set(localIdx, localIdx > 0 ? scratch[localIdx - 1] : 0.0f);
+        }
+    }
+
+    public static void scanGroups(KernelContext context, FloatArray input, FloatArray groupSums, FloatArray output, int inclusive) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupSums.getSize());
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        float[] scratch = context.allocateFloatLocalArray(GROUP_SIZE);
+
+        float offset = groupSums.get(group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            float sum = Primitives.scanGroup(context, scratch, i < end ? input.get(i) : 0.0f);
+            if (i < end) {
+                output.set(i, offset + (inclusive != 0 ? sum : (localIdx > 0 ? scratch[localIdx - 1] : 0.0f)));
+            }
+            offset += scratch[GROUP_SIZE - 1];
+        }
+    }
+
+    public static void groupSums(KernelContext context, LongArray input, LongArray groupSums) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupSums.getSize());
+        int group = context.groupIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        long[] scratch = context.allocateLongLocalArray(GROUP_SIZE);
+
+        long sum = 0L;
+        for (int i = start + context.localIdx; i < end; i += GROUP_SIZE) {
+            sum += input.get(i);
+        }
+        sum = Primitives.reduceGroup(context, scratch, sum);
+        if (context.localIdx == 0) {
+            groupSums.set(group, sum);
+        }
+    }
+
+    public static void scanGroupSums(KernelContext context, LongArray groupSums) {
+        int localIdx = context.localIdx;
+        long[] scratch = context.allocateLongLocalArray(GROUP_SIZE);
+        Primitives.scanGroup(context, scratch, localIdx < groupSums.getSize() ? groupSums.get(localIdx) : 0L);
+        if (localIdx < groupSums.getSize()) {
+            groupSums.set(localIdx, localIdx > 0 ? scratch[localIdx - 1] : 0L);
+        }
+    }
+
+    public static void scanGroups(KernelContext context, LongArray input, LongArray groupSums, LongArray output, int inclusive) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, groupSums.getSize());
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        long[] scratch = context.allocateLongLocalArray(GROUP_SIZE);
+
+        long offset = groupSums.get(group);
+        for (int block = start; block < end; block += GROUP_SIZE) {
+            int i = block + localIdx;
+            long sum = Primitives.scanGroup(context, scratch, i < end ? input.get(i) : 0L);
+            if (i < end) {
+                output.set(i, offset + (inclusive != 0 ? sum : (localIdx > 0 ? scratch[localIdx - 1] : 0L)));
+            }
+            offset += scratch[GROUP_SIZE - 1];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.Primitives.GROUP_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Segmented reductions. The segments are described by an array of offsets
+ * with one more element than the number of segments, in the same way as the
+ * row pointers of a CSR matrix: segment <code>s</code> covers the elements
+ * from <code>offsets[s]</code> (inclusive) to <code>offsets[s + 1]</code>
+ * (exclusive). Empty segments reduce to 0.
+ *
+ * <p>
+ * Each segment is reduced by {@link #LANES} consecutive threads of a
+ * work-group: each thread accumulates a strided slice of the segment, so the
+ * threads read consecutive elements, and the lanes reduce their values in
+ * local memory. These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#segmentedReduce(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, IntArray, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class SegmentedReduction {
+
+    /**
+     * Number of threads that reduce each segment.
+     */
+    public static final int LANES = 32;
+
+    /**
+     * Number of segments reduced by each work-group.
+     */
+    public static final int SEGMENTS_PER_GROUP = GROUP_SIZE / LANES;
+
+    private SegmentedReduction() {
+    }
+
+    /**
+     * Number of work-groups for the given number of segments.
+     *
+     * @param numSegments
+     *     Number of segments.
+     * @return int
+     */
+    public static int numGroups(int numSegments) {
+        return Math.max(1, (numSegments + SEGMENTS_PER_GROUP - 1) / SEGMENTS_PER_GROUP);
+    }
+
+    public static void segmentedSum(KernelContext context, IntArray input, IntArray offsets, IntArray output) {
+        int localIdx = context.localIdx;
+        int lane = localIdx % LANES;
+        int segment = context.groupIdx * SEGMENTS_PER_GROUP + localIdx / LANES;
+        int[] scratch = context.allocateIntLocalArray(GROUP_SIZE);
+
+        int sum = 0;
+        if (segment < output.getSize()) {
+            for (int i = offsets.get(segment) + lane; i < offsets.get(segment + 1); i += LANES) {
+                sum += input.get(i);
+            }
+        }
+        scratch[localIdx] = sum;
+        for (int stride = LANES / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (lane < stride) {
+                scratch[localIdx] += scratch[localIdx + stride];
+            }
+        }
+        if (lane == 0 && segment < output.getSize()) {
+            output.set(segment, scratch[localIdx]);
+        }
+    }
+
+    public static void segmentedSum(KernelContext context, FloatArray input, IntArray offsets, FloatArray output) {
+        int localIdx = context.localIdx;
+        int lane = localIdx % LANES;
+        int segment = context.groupIdx * SEGMENTS_PER_GROUP + localIdx / LANES;
+        float[] scratch = context.allocateFloatLocalArray(GROUP_SIZE);
+
+        float sum = 0.0f;
+        if (segment < output.getSize()) {
+            for (int i = offsets.get(segment) + lane; i < offsets.get(segment + 1); i += LANES) {
+                sum += input.get(i);
+            }
+        }
+        scratch[localIdx] = sum;
+        for (int stride = LANES / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (lane < stride) {
+                scratch[localIdx] += scratch[localIdx + stride];
+            }
+        }
+        if (lane == 0 && segment < output.getSize()) {
+            output.set(segment, scratch[localIdx]);
+        }
+    }
+
+    public static void segmentedSum(KernelContext context, LongArray input, IntArray offsets, LongArray output) {
+        int localIdx = context.localIdx;
+        int lane = localIdx % LANES;
+        int segment = context.groupIdx * SEGMENTS_PER_GROUP + localIdx / LANES;
+        long[] scratch = context.allocateLongLocalArray(GROUP_SIZE);
+
+        long sum = 0L;
+        if (segment < output.getSize()) {
+            for (int i = offsets.get(segment) + lane; i < offsets.get(segment + 1); i += LANES) {
+                sum += input.get(i);
+            }
+        }
+        scratch[localIdx] = sum;
+        for (int stride = LANES / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (lane < stride) {
+                scratch[localIdx] += scratch[localIdx + stride];
+            }
+        }
+        if (lane == 0 && segment < output.getSize()) {
+            output.set(segment, scratch[localIdx]);
+        }
+    }
+}
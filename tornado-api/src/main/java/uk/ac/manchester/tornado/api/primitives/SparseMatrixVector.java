@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.RowStatistics;
+
+/**
+ * Sparse matrix-vector multiplication (SpMV) kernels: <code>y = A * x</code>.
+ *
+ * <p>
+ * There are three kernels for matrices in CSR format, which balance the work
+ * of the threads in different ways:
+ * </p>
+ * <ul>
+ * <li>{@link Kernel#SCALAR_ROW}: one thread per row. It is the fastest kernel
+ * for short rows of similar length.</li>
+ * <li>{@link Kernel#VECTOR_ROW}: {@link #LANES} threads per row, which read
+ * consecutive elements of the row. The partial sums of the lanes are added by
+ * a second task. It suits matrices with long rows.</li>
+ * <li>{@link Kernel#MERGE_PATH}: each thread processes the same number of rows
+ * plus non-zero elements, following the merge-based SpMV of Merrill and
+ * Garland. The rows split between threads are completed by a second task. Its
+ * performance does not depend on the distribution of the row lengths, so it
+ * is used for skewed matrices, such as the ones of power-law graphs.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link #select(RowStatistics)} chooses the kernel from the statistics of
+ * the row lengths. There are also kernels for the ELL and SELL-C-&sigma;
+ * formats. These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#spmv(String, uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat, FloatArray, FloatArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class SparseMatrixVector {
+
+    /**
+     * Number of threads that process each row in the vector-row kernel.
+     */
+    public static final int LANES = 32;
+
+    /**
+     * Number of rows plus non-zero elements processed by each thread in the
+     * merge-path kernel.
+     */
+    public static final int MERGE_ITEMS_PER_THREAD = 64;
+
+    /**
+     * Minimum mean row length to use the vector-row kernel. With shorter rows,
+     * most lanes have no work.
+     */
+    static final int VECTOR_ROW_MIN_MEAN_LENGTH = LANES / 2;
+
+    /**
+     * Matrices whose longest row is this many times longer than the mean are
+     * considered skewed.
+     */
+    static final int SKEWED_MAX_TO_MEAN_RATIO = 32;
+
+    /**
+     * Matrices whose row lengths have a coefficient of variation larger than
+     * this are considered skewed.
+     */
+    static final double SKEWED_COEFFICIENT_OF_VARIATION = 1.0;
+
+    public enum Kernel {
+        SCALAR_ROW, //
+        VECTOR_ROW, //
+        MERGE_PATH
+    }
+
+    private SparseMatrixVector() {
+    }
+
+    /**
+     * Selects the kernel for a matrix in CSR format.
+     *
+     * <ul>
+     * <li>Skewed matrices, with a few rows much longer than the others, use the
+     * merge-path kernel: with one or a few threads per row, the longest rows
+     * keep a few threads busy while the others are idle.</li>
+     * <li>Otherwise, matrices with long rows use the vector-row kernel.</li>
+     * <li>Otherwise, the scalar-row kernel.</li>
+     * </ul>
+     *
+     * @param statistics
+     *     Statistics of the row lengths of the matrix
+     * @return {@link Kernel}
+     */
+    public static Kernel select(RowStatistics statistics) {
+        boolean skewed = statistics.maxLength() > LANES //
+                && (statistics.maxLength() > SKEWED_MAX_TO_MEAN_RATIO * Math.max(statistics.mean(), 1.0) //
+                        || statistics.coefficientOfVariation() > SKEWED_COEFFICIENT_OF_VARIATION);
+        if (skewed) {
+            return Kernel.MERGE_PATH;
+        } else if (statistics.mean() >= VECTOR_ROW_MIN_MEAN_LENGTH) {
+            return Kernel.VECTOR_ROW;
+        }
+        return Kernel.SCALAR_ROW;
+    }
+
+    /**
+     * Number of threads of the merge-path kernel.
+     *
+     * @param numRows
+     *     Number of rows of the matrix
+     * @param numNonZeros
+     *     Number of non-zero elements of the matrix
+     * @return int
+     */
+    public static int numMergeThreads(int numRows, int numNonZeros) {
+        return Math.max(1, (int) (((long) numRows + numNonZeros + MERGE_ITEMS_PER_THREAD - 1) / MERGE_ITEMS_PER_THREAD));
+    }
+
+    public static void csrScalarRow(IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray y) {
+        for (@Parallel int row = 0; row < y.getSize(); row++) {
+            float sum = 0.0f;
+            for (int i = rowOffsets.get(row); i < rowOffsets.get(row + 1); i++) {
+                sum += values.get(i) * x.get(columns.get(i));
+            }
+            y.set(row, sum);
+        }
+    }
+
+    /**
+     * First stage of the vector-row kernel. The lanes are the outer loop, so
+     * they are the first dimension of the threads, and the threads of a row
+     * read consecutive elements.
+     */
+    public static void csrVectorRowPartial(IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray partialSums) {
+        for (@Parallel int lane = 0; lane < LANES; lane++) {
+            for (@Parallel int row = 0; row < rowOffsets.getSize() - 1; row++) {
+                float sum = 0.0f;
+                for (int i = rowOffsets.get(row) + lane; i < rowOffsets.get(row + 1); i += LANES) {
+                    sum += values.get(i) * x.get(columns.get(i));
+                }
+                partialSums.set(row * LANES + lane, sum);
+            }
+        }
+    }
+
+    public static void csrVectorRowReduce(FloatArray partialSums, FloatArray y) {
+        for (@Parallel int row = 0; row < y.getSize(); row++) {
+            float sum = 0.0f;
+            for (int lane = 0; lane < LANES; lane++) {
+                sum += partialSums.get(row * LANES + lane);
+            }
+            y.set(row, sum);
+        }
+    }
+
+    /**
+     * First stage of the merge-path kernel. The rows and the non-zero elements
+     * form the two lists of a merge, and each thread takes the same number of
+     * items of the merged list. Each thread writes the rows that end in its
+     * range, and it stores the sum of the elements of the last row, which it
+     * does not finish, as a carry.
+     */
+    public static void csrMergePath(IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray y, IntArray carryRows, FloatArray carryValues) {
+        final int numRows = y.getSize();
+        final int numNonZeros = values.getSize();
+        final int numThreads = carryRows.getSize();
+        final int itemsPerThread = (numRows + numNonZeros + numThreads - 1) / numThreads;
+        for (@Parallel int thread = 0; thread < numThreads; thread++) {
+            int startDiagonal = TornadoMath.min(thread * itemsPerThread, numRows + numNonZeros);
+            int endDiagonal = TornadoMath.min(startDiagonal + itemsPerThread, numRows + numNonZeros);
+            int row = mergePathSearch(rowOffsets, startDiagonal, numRows, numNonZeros);
+            int endRow = mergePathSearch(rowOffsets, endDiagonal, numRows, numNonZeros);
+            int element = startDiagonal - row;
+            int endElement = endDiagonal - endRow;
+
+            float sum = 0.0f;
+            while (row < endRow) {
+                int rowEnd = rowOffsets.get(row + 1);
+                while (element < rowEnd) {
+                    sum += values.get(element) * x.get(columns.get(element));
+                    element++;
+                }
+                y.set(row, sum);
+                sum = 0.0f;
+                row++;
+            }
+            while (element < endElement) {
+                sum += values.get(element) * x.get(columns.get(element));
+                element++;
+            }
+            carryRows.set(thread, endRow);
+            carryValues.set(thread, sum);
+        }
+    }
+
+    /**
+     * Finds the row of the merge path at the given diagonal: the number of
+     * rows that end before the first <code>diagonal - row</code> elements.
+     */
+    static int mergePathSearch(IntArray rowOffsets, int diagonal, int numRows, int numNonZeros) {
+        int low = TornadoMath.max(diagonal - numNonZeros, 0);
+        int high = TornadoMath.min(diagonal, numRows);
+        while (low < high) {
+            int pivot = (low + high) >> 1;
+            if (rowOffsets.get(pivot + 1) <= diagonal - pivot - 1) {
+                low = pivot + 1;
+            } else {
+                high = pivot;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Second stage of the merge-path kernel. The carries are sorted by row,
+     * and the first thread of each run of carries with the same row adds the
+     * whole run, so no two threads update the same row.
+     */
+    public static void csrMergePathFixUp(IntArray carryRows, FloatArray carryValues, FloatArray y) {
+        final int numRows = y.getSize();
+        final int numThreads = carryRows.getSize();
+        for (@Parallel int thread = 0; thread < numThreads; thread++) {
+            int row = carryRows.get(thread);
+            if (row < numRows && (thread == 0 || carryRows.get(thread - 1) != row)) {
+                float sum = 0.0f;
+                int i = thread;
+                while (i < numThreads && carryRows.get(i) == row) {
+                    sum += carryValues.get(i);
+                    i++;
+                }
+                y.set(row, y.get(row) + sum);
+            }
+        }
+    }
+
+    public static void ell(IntArray columns, FloatArray values, int width, FloatArray x, FloatArray y) {
+        final int numRows = y.getSize();
+        for (@Parallel int row = 0; row < numRows; row++) {
+            float sum = 0.0f;
+            for (int k = 0; k < width; k++) {
+                int column = columns.get(k * numRows + row);
+                if (column >= 0) {
+                    sum += values.get(k * numRows + row) * x.get(column);
+                }
+            }
+            y.set(row, sum);
+        }
+    }
+
+    public static void sell(IntArray sliceOffsets, IntArray permutation, IntArray columns, FloatArray values, int sliceSize, FloatArray x, FloatArray y) {
+        for (@Parallel int position = 0; position < permutation.getSize(); position++) {
+            int row = permutation.get(position);
+            if (row >= 0) {
+                int slice = position / sliceSize;
+                int lane = position - slice * sliceSize;
+                int offset = sliceOffsets.get(slice);
+                int width = (sliceOffsets.get(slice + 1) - offset) / sliceSize;
+                float sum = 0.0f;
+                for (int k = 0; k < width; k++) {
+                    int column = columns.get(offset + k * sliceSize + lane);
+                    if (column >= 0) {
+                        sum += values.get(offset + k * sliceSize + lane) * x.get(column);
+                    }
+                }
+                y.set(row, sum);
+            }
+        }
+    }
+}
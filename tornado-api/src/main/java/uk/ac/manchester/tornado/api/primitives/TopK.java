@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.Primitives.GROUP_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Selection of the k largest values of an array and their indices, sorted
+ * from the largest value. It runs on the device in two stages:
+ *
+ * <ul>
+ * <li>Stage 1: each thread selects the k largest values of a strided slice of
+ * the segment of its work-group. The work-group then merges the lists of its
+ * threads in pairs, in a tree of <code>log2(GROUP_SIZE)</code> levels.</li>
+ * <li>Stage 2: a single work-group merges the lists of all the work-groups in
+ * the same way.</li>
+ * </ul>
+ *
+ * <p>
+ * The values are ordered from the largest one, and equal values by their
+ * indices, so equal values are returned in the order of their indices, as in a
+ * stable sort. If the input has fewer than k elements, the remaining indices
+ * are -1. The lists are kept in global memory and each merge costs O(k), so
+ * the selection is meant for small values of k. The number of work-groups is
+ * reduced for large k, so the lists use at most {@link #MAX_CANDIDATES}
+ * elements when possible.
+ * </p>
+ *
+ * <p>
+ * These kernels are used by
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#topK(String, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray, IntArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class TopK {
+
+    /**
+     * Maximum number of elements of the lists of all the threads.
+     */
+    public static final int MAX_CANDIDATES = 1 << 20;
+
+    private TopK() {
+    }
+
+    /**
+     * Number of work-groups for an input of the given size.
+     *
+     * @param size
+     *     Number of elements of the input array.
+     * @param k
+     *     Number of values to select.
+     * @return int
+     */
+    public static int numGroups(int size, int k) {
+        return Math.max(1, Math.min(Primitives.numGroups(size), MAX_CANDIDATES / (GROUP_SIZE * Math.max(1, k))));
+    }
+
+    public static void partialTopK(KernelContext context, IntArray input, IntArray partialValues, IntArray partialIndices, int k) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, partialIndices.getSize() / (GROUP_SIZE * k));
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int list = (group * GROUP_SIZE + localIdx) * k;
+
+        select(input, partialValues, partialIndices, list, k, start + localIdx, end, GROUP_SIZE);
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.globalBarrier();
+            if (localIdx < stride) {
+                merge(partialValues, partialIndices, list, list + stride * k, k);
+            }
+        }
+    }
+
+    public static void finalTopK(KernelContext context, IntArray partialValues, IntArray partialIndices, IntArray values, IntArray indices) {
+        final int k = indices.getSize();
+        final int listSize = GROUP_SIZE * k;
+        final int numGroups = partialIndices.getSize() / listSize;
+        int localIdx = context.localIdx;
+
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.globalBarrier();
+            if (localIdx < stride && localIdx + stride < numGroups) {
+                merge(partialValues, partialIndices, localIdx * listSize, (localIdx + stride) * listSize, k);
+            }
+        }
+        context.globalBarrier();
+        for (int i = localIdx; i < k; i += GROUP_SIZE) {
+            values.set(i, partialValues.get(i));
+            indices.set(i, partialIndices.get(i));
+        }
+    }
+
+    /**
+     * Selects the k largest values of the elements <code>start</code>,
+     * <code>start + step</code>, ... before <code>end</code>.
+     */
+    static void select(IntArray input, IntArray values, IntArray indices, int list, int k, int start, int end, int step) {
+        int count = 0;
+        for (int i = 0; i < k; i++) {
+            indices.set(list + i, -1);
+        }
+        for (int i = start; i < end; i += step) {
+            int value = input.get(i);
+            if (count < k || value > values.get(list + k - 1)) {
+                // The indices grow, so the value goes after the values that are equal
+                int position = TornadoMath.min(count, k - 1);
+                while (position > 0 && value > values.get(list + position - 1)) {
+                    values.set(list + position, values.get(list + position - 1));
+                    indices.set(list + position, indices.get(list + position - 1));
+                    position--;
+                }
+                values.set(list + position, value);
+                indices.set(list + position, i);
+                count = TornadoMath.min(count + 1, k);
+            }
+        }
+    }
+
+    /**
+     * Merges the list at <code>second</code> into the list at
+     * <code>first</code>, keeping the k first elements.
+     */
+    static void merge(IntArray values, IntArray indices, int first, int second, int k) {
+        // Number of elements of each list in the merged list
+        int fromFirst = 0;
+        int fromSecond = 0;
+        for (int i = 0; i < k; i++) {
+            if (before(values.get(first + fromFirst), indices.get(first + fromFirst), values.get(second + fromSecond), indices.get(second + fromSecond))) {
+                fromFirst++;
+            } else {
+                fromSecond++;
+            }
+        }
+        // The merge runs from the end, so the elements of the first list are moved before they are overwritten
+        int a = fromFirst - 1;
+        int b = fromSecond - 1;
+        for (int position = k - 1; b >= 0; position--) {
+            if (a >= 0 && before(values.get(second + b), indices.get(second + b), values.get(first + a), indices.get(first + a))) {
+                values.set(first + position, values.get(first + a));
+                indices.set(first + position, indices.get(first + a));
+                a--;
+            } else {
+                values.set(first + position, values.get(second + b));
+                indices.set(first + position, indices.get(second + b));
+                b--;
+            }
+        }
+    }
+
+    /**
+     * Order of the lists: larger values first, and equal values by their
+     * indices. The empty elements, with index -1, go at the end.
+     */
+    static boolean before(int value, int index, int otherValue, int otherIndex) {
+        return index != -1 && (otherIndex == -1 || value > otherValue || (value == otherValue && index < otherIndex));
+    }
+
+    public static void partialTopK(KernelContext context, FloatArray input, FloatArray partialValues, IntArray partialIndices, int k) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, partialIndices.getSize() / (GROUP_SIZE * k));
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int list = (group * GROUP_SIZE + localIdx) * k;
+
+        select(input, partialValues, partialIndices, list, k, start + localIdx, end, GROUP_SIZE);
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.globalBarrier();
+            if (localIdx < stride) {
+                merge(partialValues, partialIndices, list, list + stride * k, k);
+            }
+        }
+    }
+
+    public static void finalTopK(KernelContext context, FloatArray partialValues, IntArray partialIndices, FloatArray values, IntArray indices) {
+        final int k = indices.getSize();
+        final int listSize = GROUP_SIZE * k;
+        final int numGroups = partialIndices.getSize() / listSize;
+        int localIdx = context.localIdx;
+
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.globalBarrier();
+            if (localIdx < stride && localIdx + stride < numGroups) {
+                merge(partialValues, partialIndices, localIdx * listSize, (localIdx + stride) * listSize, k);
+            }
+        }
+        context.globalBarrier();
+        for (int i = localIdx; i < k; i += GROUP_SIZE) {
+            values.set(i, partialValues.get(i));
+            indices.set(i, partialIndices.get(i));
+        }
+    }
+
+    /**
+     * Selects the k largest values of the elements <code>start</code>,
+     * <code>start + step</code>, ... before <code>end</code>.
+     */
+    static void select(FloatArray input, FloatArray values, IntArray indices, int list, int k, int start, int end, int step) {
+        int count = 0;
+        for (int i = 0; i < k; i++) {
+            indices.set(list + i, -1);
+        }
+        for (int i = start; i < end; i += step) {
+            float value = input.get(i);
+            if (count < k || value > values.get(list + k - 1)) {
+                // The indices grow, so the value goes after the values that are equal
+                int position = TornadoMath.min(count, k - 1);
+                while (position > 0 && value > values.get(list + position - 1)) {
+                    values.set(list + position, values.get(list + position - 1));
+                    indices.set(list + position, indices.get(list + position - 1));
+                    position--;
+                }
+                values.set(list + position, value);
+                indices.set(list + position, i);
+                count = TornadoMath.min(count + 1, k);
+            }
+        }
+    }
+
+    /**
+     * Merges the list at <code>second</code> into the list at
+     * <code>first</code>, keeping the k first elements.
+     */
+    static void merge(FloatArray values, IntArray indices, int first, int second, int k) {
+        // Number of elements of each list in the merged list
+        int fromFirst = 0;
+        int fromSecond = 0;
+        for (int i = 0; i < k; i++) {
+            if (before(values.get(first + fromFirst), indices.get(first + fromFirst), values.get(second + fromSecond), indices.get(second + fromSecond))) {
+                fromFirst++;
+            } else {
+                fromSecond++;
+            }
+        }
+        // The merge runs from the end, so the elements of the first list are moved before they are overwritten
+        int a = fromFirst - 1;
+        int b = fromSecond - 1;
+        for (int position = k - 1; b >= 0; position--) {
+            if (a >= 0 && before(values.get(second + b), indices.get(second + b), values.get(first + a), indices.get(first + a))) {
+                values.set(first + position, values.get(first + a));
+                indices.set(first + position, indices.get(first + a));
+                a--;
+            } else {
+                values.set(first + position, values.get(second + b));
+                indices.set(first + position, indices.get(second + b));
+                b--;
+            }
+        }
+    }
+
+    /**
+     * Order of the lists: larger values first, and equal values by their
+     * indices. The empty elements, with index -1, go at the end.
+     */
+    static boolean before(float value, int index, float otherValue, int otherIndex) {
+        return index != -1 && (otherIndex == -1 || value > otherValue || (value == otherValue && index < otherIndex));
+    }
+
+    public static void partialTopK(KernelContext context, LongArray input, LongArray partialValues, IntArray partialIndices, int k) {
+        final int size = input.getSize();
+        final int segmentSize = Primitives.segmentSize(size, partialIndices.getSize() / (GROUP_SIZE * k));
+        int group = context.groupIdx;
+        int localIdx = context.localIdx;
+        int start = group * segmentSize;
+        int end = TornadoMath.min(start + segmentSize, size);
+        int list = (group * GROUP_SIZE + localIdx) * k;
+
+        select(input, partialValues, partialIndices, list, k, start + localIdx, end, GROUP_SIZE);
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.globalBarrier();
+            if (localIdx < stride) {
+                merge(partialValues, partialIndices, list, list + stride * k, k);
+            }
+        }
+    }
+
+    public static void finalTopK(KernelContext context, LongArray partialValues, IntArray partialIndices, LongArray values, IntArray indices) {
+        final int k = indices.getSize();
+        final int listSize = GROUP_SIZE * k;
+        final int numGroups = partialIndices.getSize() / listSize;
+        int localIdx = context.localIdx;
+
+        for (int stride = GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.globalBarrier();
+            if (localIdx < stride && localIdx + stride < numGroups) {
+                merge(partialValues, partialIndices, localIdx * listSize, (localIdx + stride) * listSize, k);
+            }
+        }
+        context.globalBarrier();
+        for (int i = localIdx; i < k; i += GROUP_SIZE) {
+            values.set(i, partialValues.get(i));
+            indices.set(i, partialIndices.get(i));
+        }
+    }
+
+    /**
+     * Selects the k largest values of the elements <code>start</code>,
+     * <code>start + step</code>, ... before <code>end</code>.
+     */
+    static void select(LongArray input, LongArray values, IntArray indices, int list, int k, int start, int end, int step) {
+        int count = 0;
+        for (int i = 0; i < k; i++) {
+            indices.set(list + i, -1);
+        }
+        for (int i = start; i < end; i += step) {
+            long value = input.get(i);
+            if (count < k || value > values.get(list + k - 1)) {
+                // The indices grow, so the value goes after the values that are equal
+                int position = TornadoMath.min(count, k - 1);
+                while (position > 0 && value > values.get(list + position - 1)) {
+                    values.set(list + position, values.get(list + position - 1));
+                    indices.set(list + position, indices.get(list + position - 1));
+                    position--;
+                }
+                values.set(list + position, value);
+                indices.set(list + position, i);
+                count = TornadoMath.min(count + 1, k);
+            }
+        }
+    }
+
+    /**
+     * Merges the list at <code>second</code> into the list at
+     * <code>first</code>, keeping the k first elements.
+     */
+    static void merge(LongArray values, IntArray indices, int first, int second, int k) {
+        // Number of elements of each list in the merged list
+        int fromFirst = 0;
+        int fromSecond = 0;
+        for (int i = 0; i < k; i++) {
+            if (before(values.get(first + fromFirst), indices.get(first + fromFirst), values.get(second + fromSecond), indices.get(second + fromSecond))) {
+                fromFirst++;
+            } else {
+                fromSecond++;
+            }
+        }
+        // The merge runs from the end, so the elements of the first list are moved before they are overwritten
+        int a = fromFirst - 1;
+        int b = fromSecond - 1;
+        for (int position = k - 1; b >= 0; position--) {
+            if (a >= 0 && before(values.get(second + b), indices.get(second + b), values.get(first + a), indices.get(first + a))) {
+                values.set(first + position, values.get(first + a));
+                indices.set(first + position, indices.get(first + a));
+                a--;
+            } else {
+                values.set(first + position, values.get(second + b));
+                indices.set(first + position, indices.get(second + b));
+                b--;
+            }
+        }
+    }
+
+    /**
+     * Order of the lists: larger values first, and equal values by their
+     * indices. The empty elements, with index -1, go at the end.
+     */
+    static boolean before(long value, int index, long otherValue, int otherIndex) {
+        return index != -1 && (otherIndex == -1 || value > otherValue || (value == otherValue && index < otherIndex));
+    }
+}
@@ -48,4 +48,12 @@ public interface ProfilerInterface {
     long getTotalBytesTransferred();
 
     long getTotalDeviceMemoryUsage();
+
+    long getNumEvictions();
+
+    long getTotalBytesEvicted();
+
+    long getTotalBytesRematerialized();
+
+    long getNumSkippedKernelArguments();
 }
@@ -36,6 +36,11 @@ public enum ProfilerType {
     ALLOCATION_BYTES("Allocation-(Bytes)"),
     TOTAL_COPY_IN_SIZE_BYTES("CopyIn-Size-(Bytes)"),
     TOTAL_COPY_OUT_SIZE_BYTES("CopyOut-Size-(Bytes)"),
+    EVICTIONS("Evictions"),
+    EVICTED_BYTES("Evicted-(Bytes)"),
+    EVICTION_WRITE_BACK_BYTES("Eviction-Write-Back-(Bytes)"),
+    REMATERIALIZED_BYTES("Rematerialized-(Bytes)"),
+    SKIPPED_KERNEL_ARGUMENTS("Skipped-Kernel-Arguments"),
     TASK_COMPILE_DRIVER_TIME("Task-Compile-Driver"),
     TASK_COMPILE_GRAAL_TIME("Task-Compile-Graal"),
 
@@ -49,6 +49,18 @@ public interface TornadoProfiler {
 
     String createJson(StringBuilder json, String sectionName);
 
+    /**
+     * Appends the profiler values, as a JSON document, to a builder.
+     *
+     * @param json
+     *     Builder where the document is appended.
+     * @param sectionName
+     *     Name of the section, usually the name of the task graph.
+     * @param compact
+     *     If true, the document is written in a single line.
+     */
+    void writeJson(StringBuilder json, String sectionName, boolean compact);
+
     void dumpJson(StringBuilder stringBuffer, String id);
 
     void clean();
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.utils.HalfFloatConversion;
 
 /**
  * This class represents an array of half floats (float16 types) stored in native memory.
@@ -184,9 +185,7 @@ public final class HalfFloatArray extends TornadoNativeArray {
      */
     public short[] toShortArray() {
         short[] outputArray = new short[getSize()];
-        for (int i = 0; i < getSize(); i++) {
-            outputArray[i] = get(i).getHalfFloatValue();
-        }
+        MemorySegment.copy(segment, JAVA_SHORT, toByteOffset(0), outputArray, 0, getSize());
         return outputArray;
     }
 
@@ -214,12 +213,192 @@ public final class HalfFloatArray extends TornadoNativeArray {
         return new HalfFloat(halfFloatValue);
     }
 
+    /**
+     * Gets the value stored at the specified index as a 32-bit float, without
+     * creating a {@link HalfFloat} object. This method is meant for host code;
+     * kernels should use {@link #get(int)}.
+     *
+     * @param index
+     *     The index of which to retrieve the value.
+     * @return The value converted to float.
+     * @since 1.1.2
+     */
+    public float getFloat(int index) {
+        return Float.float16ToFloat(segment.getAtIndex(JAVA_SHORT, baseIndex + index));
+    }
+
+    /**
+     * Converts a 32-bit float to half float and stores it at the specified index,
+     * without creating a {@link HalfFloat} object. This method is meant for host
+     * code; kernels should use {@link #set(int, HalfFloat)}.
+     *
+     * @param index
+     *     The index at which to set the value.
+     * @param value
+     *     The float value to store.
+     * @since 1.1.2
+     */
+    public void setFloat(int index, float value) {
+        segment.setAtIndex(JAVA_SHORT, baseIndex + index, Float.floatToFloat16(value));
+    }
+
+    /**
+     * Gets the binary representation (IEEE 754 binary16) of the half float stored
+     * at the specified index.
+     *
+     * @param index
+     *     The index of which to retrieve the value.
+     * @return The half float bits.
+     * @since 1.1.2
+     */
+    public short getRaw(int index) {
+        return segment.getAtIndex(JAVA_SHORT, baseIndex + index);
+    }
+
+    /**
+     * Stores the binary representation (IEEE 754 binary16) of a half float at
+     * the specified index.
+     *
+     * @param index
+     *     The index at which to set the value.
+     * @param value
+     *     The half float bits.
+     * @since 1.1.2
+     */
+    public void setRaw(int index, short value) {
+        segment.setAtIndex(JAVA_SHORT, baseIndex + index, value);
+    }
+
+    /**
+     * Converts {@code length} floats, starting at {@code srcOffset} in the source
+     * array, to half floats and stores them starting at {@code index}.
+     *
+     * @param index
+     *     The first index of the {@link HalfFloatArray} to write.
+     * @param src
+     *     The source array.
+     * @param srcOffset
+     *     The first index of the source array to read.
+     * @param length
+     *     The number of elements to convert.
+     * @since 1.1.2
+     */
+    public void setFloats(int index, float[] src, int srcOffset, int length) {
+        checkRange(index, length);
+        HalfFloatConversion.floatToHalf(src, srcOffset, segment, toByteOffset(index), length);
+    }
+
+    /**
+     * Converts all the elements of a {@link FloatArray} to half floats and stores
+     * them in this array. Both arrays must have the same size.
+     *
+     * @param src
+     *     The source array.
+     * @since 1.1.2
+     */
+    public void setFloats(FloatArray src) {
+        checkSameSize(src.getSize());
+        HalfFloatConversion.floatToHalf(src.getSegment(), 0, segment, toByteOffset(0), numberOfElements);
+    }
+
+    /**
+     * Converts {@code length} half floats, starting at {@code index}, to floats
+     * and stores them in the destination array starting at {@code dstOffset}.
+     *
+     * @param index
+     *     The first index of the {@link HalfFloatArray} to read.
+     * @param dst
+     *     The destination array.
+     * @param dstOffset
+     *     The first index of the destination array to write.
+     * @param length
+     *     The number of elements to convert.
+     * @since 1.1.2
+     */
+    public void getFloats(int index, float[] dst, int dstOffset, int length) {
+        checkRange(index, length);
+        HalfFloatConversion.halfToFloat(segment, toByteOffset(index), dst, dstOffset, length);
+    }
+
+    /**
+     * Converts all the elements of this array to floats and stores them in a
+     * {@link FloatArray}. Both arrays must have the same size.
+     *
+     * @param dst
+     *     The destination array.
+     * @since 1.1.2
+     */
+    public void getFloats(FloatArray dst) {
+        checkSameSize(dst.getSize());
+        HalfFloatConversion.halfToFloat(segment, toByteOffset(0), dst.getSegment(), 0, numberOfElements);
+    }
+
+    /**
+     * Converts the half floats of the {@link HalfFloatArray} instance to a new
+     * on-heap float array.
+     *
+     * @return A new on-heap float array with the values converted to float.
+     * @since 1.1.2
+     */
+    public float[] toFloatArray() {
+        float[] outputArray = new float[numberOfElements];
+        getFloats(0, outputArray, 0, numberOfElements);
+        return outputArray;
+    }
+
+    /**
+     * Creates a new {@link HalfFloatArray} from an on-heap float array, converting
+     * each value to half float.
+     *
+     * @param values
+     *     The on-heap float array.
+     * @return A new {@link HalfFloatArray} instance.
+     * @since 1.1.2
+     */
+    public static HalfFloatArray fromFloatArray(float[] values) {
+        HalfFloatArray array = new HalfFloatArray(values.length);
+        array.setFloats(0, values, 0, values.length);
+        return array;
+    }
+
+    /**
+     * Creates a new {@link HalfFloatArray} from a {@link FloatArray}, converting
+     * each value to half float.
+     *
+     * @param values
+     *     The {@link FloatArray}.
+     * @return A new {@link HalfFloatArray} instance.
+     * @since 1.1.2
+     */
+    public static HalfFloatArray fromFloatArray(FloatArray values) {
+        HalfFloatArray array = new HalfFloatArray(values.getSize());
+        array.setFloats(values);
+        return array;
+    }
+
+    private long toByteOffset(int index) {
+        return (long) (baseIndex + index) * HALF_FLOAT_BYTES;
+    }
+
+    private void checkRange(int index, int length) {
+        if (index < 0 || length < 0 || index + length > numberOfElements) {
+            throw new IndexOutOfBoundsException("Range [" + index + ", " + index + " + " + length + ") out of bounds for length " + numberOfElements);
+        }
+    }
+
+    private void checkSameSize(int size) {
+        if (size != numberOfElements) {
+            throw new IllegalArgumentException("Size mismatch: " + size + " elements, expected " + numberOfElements);
+        }
+    }
+
     /**
      * Sets all the values of the {@link HalfFloatArray} instance to zero.
      */
     @Override
     public void clear() {
-        init(new HalfFloat(0.0f));
+        // The half float +0.0 has all bits set to zero
+        getSegment().fill((byte) 0);
     }
 
     @Override
@@ -234,8 +413,24 @@ public final class HalfFloatArray extends TornadoNativeArray {
      *     The {@link HalfFloat} value to initialize the {@link HalfFloatArray} instance with.
      */
     public void init(HalfFloat value) {
+        init(value.getHalfFloatValue());
+    }
+
+    /**
+     * Initializes all the elements of the {@link HalfFloatArray} instance with a
+     * specified float value, converted to half float.
+     *
+     * @param value
+     *     The float value to initialize the {@link HalfFloatArray} instance with.
+     * @since 1.1.2
+     */
+    public void init(float value) {
+        init(Float.floatToFloat16(value));
+    }
+
+    private void init(short value) {
         for (int i = 0; i < getSize(); i++) {
-            segment.setAtIndex(JAVA_SHORT, baseIndex + i, value.getHalfFloatValue());
+            segment.setAtIndex(JAVA_SHORT, baseIndex + i, value);
         }
     }
 
@@ -104,7 +104,7 @@ public final class VectorHalf implements TornadoCollectionInterface<ShortBuffer>
      */
     public void set(VectorHalf values) {
         for (int i = 0; i < values.storage.getSize(); i++) {
-            storage.set(i, values.storage.get(i));
+            storage.setRaw(i, values.storage.getRaw(i));
         }
     }
 
@@ -128,6 +128,70 @@ public final class VectorHalf implements TornadoCollectionInterface<ShortBuffer>
         storage.init(value);
     }
 
+    /**
+     * Sets all elements to a float value, converted to half float.
+     *
+     * @param value
+     *     Fill value
+     * @since 1.1.2
+     */
+    public void fill(float value) {
+        storage.init(value);
+    }
+
+    /**
+     * Converts the values of an on-heap float array to half floats and stores
+     * them in this vector. The array must have the same number of half floats
+     * as the storage of this vector.
+     *
+     * @param values
+     *     On-heap float array
+     * @since 1.1.2
+     */
+    public void setFloats(float[] values) {
+        if (values.length != storage.getSize()) {
+            throw new IllegalArgumentException("Size mismatch: " + values.length + " elements, expected " + storage.getSize());
+        }
+        storage.setFloats(0, values, 0, values.length);
+    }
+
+    /**
+     * Converts all the half floats of this vector to a new on-heap float array.
+     *
+     * @return On-heap float array
+     * @since 1.1.2
+     */
+    public float[] toFloatArray() {
+        return storage.toFloatArray();
+    }
+
+    /**
+     * Returns the value at the given index of this vector as a float, without
+     * creating a {@link HalfFloat} object.
+     *
+     * @param index
+     *     Position
+     * @return value
+     * @since 1.1.2
+     */
+    public float getFloat(int index) {
+        return storage.getFloat(index);
+    }
+
+    /**
+     * Sets the value at the given index of this vector from a float, without
+     * creating a {@link HalfFloat} object.
+     *
+     * @param index
+     *     Position
+     * @param value
+     *     Float value to be stored as half float
+     * @since 1.1.2
+     */
+    public void setFloat(int index, float value) {
+        storage.setFloat(index, value);
+    }
+
     /**
      * Returns slice of this vector.
      *
@@ -139,7 +203,7 @@ public final class VectorHalf implements TornadoCollectionInterface<ShortBuffer>
     public VectorHalf subVector(int start, int length) {
         final VectorHalf v = new VectorHalf(length);
         for (int i = 0; i < length; i++) {
-            v.storage.set(i, storage.get(i + start));
+            v.storage.setRaw(i, storage.getRaw(i + start));
         }
         return v;
     }
@@ -151,7 +215,7 @@ public final class VectorHalf implements TornadoCollectionInterface<ShortBuffer>
     public VectorHalf duplicate() {
         HalfFloatArray cp = new HalfFloatArray(storage.getSize());
         for (int i = 0; i < cp.getSize(); i++) {
-            cp.set(i, storage.get(i));
+            cp.setRaw(i, storage.getRaw(i));
         }
         return new VectorHalf(cp);
     }
@@ -178,7 +242,7 @@ public final class VectorHalf implements TornadoCollectionInterface<ShortBuffer>
         StringBuilder sb = new StringBuilder("[");
         sb.append("[ ");
         for (int i = 0; i < numElements; i++) {
-            sb.append(String.format(fmt, get(i).getFloat32()) + " ");
+            sb.append(String.format(fmt, getFloat(i)) + " ");
         }
         sb.append("]");
         return sb.toString();
@@ -124,6 +124,43 @@ public final class VectorHalf2 implements TornadoCollectionInterface<ShortBuffer
         }
     }
 
+    /**
+     * Sets all elements to a float value, converted to half float.
+     *
+     * @param value
+     *     Fill value
+     * @since 1.1.2
+     */
+    public void fill(float value) {
+        storage.init(value);
+    }
+
+    /**
+     * Converts the values of an on-heap float array to half floats and stores
+     * them in this vector. The array must have the same number of half floats
+     * as the storage of this vector.
+     *
+     * @param values
+     *     On-heap float array
+     * @since 1.1.2
+     */
+    public void setFloats(float[] values) {
+        if (values.length != storage.getSize()) {
+            throw new IllegalArgumentException("Size mismatch: " + values.length + " elements, expected " + storage.getSize());
+        }
+        storage.setFloats(0, values, 0, values.length);
+    }
+
+    /**
+     * Converts all the half floats of this vector to a new on-heap float array.
+     *
+     * @return On-heap float array
+     * @since 1.1.2
+     */
+    public float[] toFloatArray() {
+        return storage.toFloatArray();
+    }
+
     /**
      * Duplicates this vector.
      *
@@ -123,6 +123,57 @@ public final class ImageByte4 implements TornadoImagesInterface<ByteBuffer> {
         array.set(index + 3, value.getW());
     }
 
+    /**
+     * Reads the image at the coordinates (x, y) with the addressing and the
+     * filtering of the sampler, built with {@link ImageSampler}. The bytes are
+     * unsigned normalized values, as an OpenCL {@code CL_UNORM_INT8} image, so
+     * each component is in the range [0, 1]. The border color is (0, 0, 0, 0).
+     *
+     * @param sampler
+     *     sampler with the OpenCL {@code sampler_t} bit values
+     * @param x
+     *     coordinate in the X dimension
+     * @param y
+     *     coordinate in the Y dimension
+     * @return {@link Float4}
+     */
+    public Float4 read(int sampler, float x, float y) {
+        final float u = ImageSampler.unnormalize(sampler, x, X);
+        final float v = ImageSampler.unnormalize(sampler, y, Y);
+        if (!ImageSampler.isLinear(sampler)) {
+            return texel(ImageSampler.nearest(sampler, u, X), ImageSampler.nearest(sampler, v, Y));
+        }
+        final int i = ImageSampler.linearBase(u);
+        final int j = ImageSampler.linearBase(v);
+        final int i0 = ImageSampler.address(sampler, i, X);
+        final int i1 = ImageSampler.address(sampler, i + 1, X);
+        final int j0 = ImageSampler.address(sampler, j, Y);
+        final int j1 = ImageSampler.address(sampler, j + 1, Y);
+        final float a = ImageSampler.linearWeight(u);
+        final float b = ImageSampler.linearWeight(v);
+        final Float4 t00 = texel(i0, j0);
+        final Float4 t10 = texel(i1, j0);
+        final Float4 t01 = texel(i0, j1);
+        final Float4 t11 = texel(i1, j1);
+        return new Float4( //
+                ImageSampler.bilinear(t00.getX(), t10.getX(), t01.getX(), t11.getX(), a, b), //
+                ImageSampler.bilinear(t00.getY(), t10.getY(), t01.getY(), t11.getY(), a, b), //
+                ImageSampler.bilinear(t00.getZ(), t10.getZ(), t01.getZ(), t11.getZ(), a, b), //
+                ImageSampler.bilinear(t00.getW(), t10.getW(), t01.getW(), t11.getW(), a, b));
+    }
+
+    private Float4 texel(int i, int j) {
+        if (i == ImageSampler.BORDER || j == ImageSampler.BORDER) {
+            return new Float4(0.0f, 0.0f, 0.0f, 0.0f);
+        }
+        final int offset = toIndex(i, j);
+        return new Float4( //
+                (storage.get(offset) & 0xFF) / 255.0f, //
+                (storage.get(offset + 1) & 0xFF) / 255.0f, //
+                (storage.get(offset + 2) & 0xFF) / 255.0f, //
+                (storage.get(offset + 3) & 0xFF) / 255.0f);
+    }
+
     public int X() {
         return X;
     }
@@ -127,6 +127,41 @@ public final class ImageFloat implements TornadoImagesInterface<FloatBuffer> {
         storage.set(StorageFormats.toRowMajor(j, i, X), value);
     }
 
+    /**
+     * Reads the image at the coordinates (x, y) with the addressing and the
+     * filtering of the sampler, built with {@link ImageSampler}. The border
+     * color is 0.
+     *
+     * @param sampler
+     *     sampler with the OpenCL {@code sampler_t} bit values
+     * @param x
+     *     coordinate in the X dimension
+     * @param y
+     *     coordinate in the Y dimension
+     * @return float
+     */
+    public float read(int sampler, float x, float y) {
+        final float u = ImageSampler.unnormalize(sampler, x, X);
+        final float v = ImageSampler.unnormalize(sampler, y, Y);
+        if (!ImageSampler.isLinear(sampler)) {
+            return texel(ImageSampler.nearest(sampler, u, X), ImageSampler.nearest(sampler, v, Y));
+        }
+        final int i = ImageSampler.linearBase(u);
+        final int j = ImageSampler.linearBase(v);
+        final int i0 = ImageSampler.address(sampler, i, X);
+        final int i1 = ImageSampler.address(sampler, i + 1, X);
+        final int j0 = ImageSampler.address(sampler, j, Y);
+        final int j1 = ImageSampler.address(sampler, j + 1, Y);
+        return ImageSampler.bilinear(texel(i0, j0), texel(i1, j0), texel(i0, j1), texel(i1, j1), ImageSampler.linearWeight(u), ImageSampler.linearWeight(v));
+    }
+
+    private float texel(int i, int j) {
+        if (i == ImageSampler.BORDER || j == ImageSampler.BORDER) {
+            return 0.0f;
+        }
+        return get(i, j);
+    }
+
     public void put(float[] array) {
         System.arraycopy(array, 0, storage, 0, array.length);
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.images;
+
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+
+/**
+ * Samplers for the {@code read} methods of the images. A sampler is an
+ * {@code int} with the same bit values as the OpenCL {@code sampler_t}, built
+ * by combining one coordinate mode, one addressing mode and one filter mode:
+ *
+ * <pre>
+ * int sampler = ImageSampler.NORMALIZED_COORDS | ImageSampler.ADDRESS_REPEAT | ImageSampler.FILTER_LINEAR;
+ * Float4 pixel = image.read(sampler, u, v);
+ * </pre>
+ *
+ * <p>
+ * The coordinates are rounded, wrapped and filtered as defined by the OpenCL
+ * specification (section "Image Addressing and Filtering"), so the same value
+ * is computed by the host and by the code generated for all backends.
+ * {@link #ADDRESS_NONE} is not defined for out-of-range coordinates, and it
+ * clamps to the edge of the image. {@link #ADDRESS_REPEAT} and
+ * {@link #ADDRESS_MIRRORED_REPEAT} need normalized coordinates, as in OpenCL.
+ * </p>
+ */
+public final class ImageSampler {
+
+    public static final int UNNORMALIZED_COORDS = 0x0;
+    public static final int NORMALIZED_COORDS = 0x1;
+
+    public static final int ADDRESS_NONE = 0x0;
+    public static final int ADDRESS_CLAMP_TO_EDGE = 0x2;
+    public static final int ADDRESS_CLAMP = 0x4;
+    public static final int ADDRESS_REPEAT = 0x6;
+    public static final int ADDRESS_MIRRORED_REPEAT = 0x8;
+
+    public static final int FILTER_NEAREST = 0x10;
+    public static final int FILTER_LINEAR = 0x20;
+
+    private static final int COORDS_MASK = 0x1;
+    private static final int ADDRESS_MASK = 0xE;
+    private static final int FILTER_MASK = 0x30;
+
+    /**
+     * Index returned by {@link #address} for a texel outside the image with
+     * {@link #ADDRESS_CLAMP}. The border color is used for it.
+     */
+    public static final int BORDER = -1;
+
+    private ImageSampler() {
+    }
+
+    public static int create(boolean normalizedCoordinates, int addressingMode, int filterMode) {
+        return (normalizedCoordinates ? NORMALIZED_COORDS : UNNORMALIZED_COORDS) | addressingMode | filterMode;
+    }
+
+    public static boolean isNormalized(int sampler) {
+        return (sampler & COORDS_MASK) == NORMALIZED_COORDS;
+    }
+
+    public static int getAddressingMode(int sampler) {
+        return sampler & ADDRESS_MASK;
+    }
+
+    public static boolean isLinear(int sampler) {
+        return (sampler & FILTER_MASK) == FILTER_LINEAR;
+    }
+
+    /**
+     * Coordinate, in texels, that is filtered for the coordinate {@code coord}
+     * of an image dimension of {@code size} texels. The repeat modes are applied
+     * here, since they work on the normalized coordinate.
+     */
+    public static float unnormalize(int sampler, float coord, int size) {
+        if (!isNormalized(sampler)) {
+            return coord;
+        }
+        int addressingMode = getAddressingMode(sampler);
+        if (addressingMode == ADDRESS_REPEAT) {
+            return (coord - TornadoMath.floor(coord)) * size;
+        } else if (addressingMode == ADDRESS_MIRRORED_REPEAT) {
+            // Fold the coordinate into [0, 2) and mirror the second half
+            float folded = coord - 2.0f * TornadoMath.floor(coord * 0.5f);
+            return (folded > 1.0f ? 2.0f - folded : folded) * size;
+        }
+        return coord * size;
+    }
+
+    /**
+     * Index of the texel {@code texel} of an image dimension of {@code size}
+     * texels, or {@link #BORDER} when it is outside the image with
+     * {@link #ADDRESS_CLAMP}.
+     */
+    public static int address(int sampler, int texel, int size) {
+        int addressingMode = getAddressingMode(sampler);
+        if (addressingMode == ADDRESS_CLAMP) {
+            return (texel < 0 || texel >= size) ? BORDER : texel;
+        } else if (addressingMode == ADDRESS_REPEAT && isNormalized(sampler)) {
+            if (texel < 0) {
+                return texel + size;
+            }
+            return texel >= size ? texel - size : texel;
+        }
+        return TornadoMath.clamp(texel, 0, size - 1);
+    }
+
+    /**
+     * Index of the nearest texel for the texel coordinate {@code u}.
+     */
+    public static int nearest(int sampler, float u, int size) {
+        return address(sampler, (int) TornadoMath.floor(u), size);
+    }
+
+    /**
+     * Index of the first of the two texels that are filtered for the texel
+     * coordinate {@code u}. The second one is the next index.
+     */
+    public static int linearBase(float u) {
+        return (int) TornadoMath.floor(u - 0.5f);
+    }
+
+    /**
+     * Weight of the second of the two texels that are filtered for the texel
+     * coordinate {@code u}.
+     */
+    public static float linearWeight(float u) {
+        return TornadoMath.fract(u - 0.5f);
+    }
+
+    /**
+     * Bilinear interpolation of four texels, with the weights {@code a} in the
+     * X dimension and {@code b} in the Y dimension.
+     */
+    public static float bilinear(float t00, float t10, float t01, float t11, float a, float b) {
+        return (1.0f - a) * (1.0f - b) * t00 + a * (1.0f - b) * t10 + (1.0f - a) * b * t01 + a * b * t11;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.matrix;
+
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.collections.VectorDouble;
+import uk.ac.manchester.tornado.api.types.collections.VectorFloat;
+import uk.ac.manchester.tornado.api.types.collections.VectorFloat4;
+import uk.ac.manchester.tornado.api.types.collections.VectorInt;
+import uk.ac.manchester.tornado.api.types.vectors.Float4;
+
+/**
+ * Strided view of a column of a 2D matrix ({@link Matrix2DFloat},
+ * {@link Matrix2DDouble}, {@link Matrix2DInt} or {@link Matrix2DFloat4}). The
+ * view reads and writes the storage of the matrix with a stride of one row, so
+ * no data is copied and the updates of the view are visible in the matrix.
+ *
+ * <p>
+ * The accessors match the element type of the matrix, for example
+ * {@link #getFloat(int)} for a {@link Matrix2DFloat}. The other accessors
+ * throw a {@link TornadoRuntimeException}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class ColumnView {
+
+    private enum ElementType {
+        FLOAT(1), //
+        DOUBLE(1), //
+        INT(1), //
+        FLOAT4(4);
+
+        private final int lanes;
+
+        ElementType(int lanes) {
+            this.lanes = lanes;
+        }
+    }
+
+    private final MemorySegment segment;
+    private final int column;
+    private final int rows;
+    private final int columns;
+    private final ElementType elementType;
+
+    private ColumnView(MemorySegment segment, int column, int rows, int columns, ElementType elementType) {
+        this.segment = segment;
+        this.column = Objects.checkIndex(column, columns);
+        this.rows = rows;
+        this.columns = columns;
+        this.elementType = elementType;
+    }
+
+    static ColumnView ofFloat(MemorySegment segment, int column, int rows, int columns) {
+        return new ColumnView(segment, column, rows, columns, ElementType.FLOAT);
+    }
+
+    static ColumnView ofDouble(MemorySegment segment, int column, int rows, int columns) {
+        return new ColumnView(segment, column, rows, columns, ElementType.DOUBLE);
+    }
+
+    static ColumnView ofInt(MemorySegment segment, int column, int rows, int columns) {
+        return new ColumnView(segment, column, rows, columns, ElementType.INT);
+    }
+
+    static ColumnView ofFloat4(MemorySegment segment, int column, int rows, int columns) {
+        return new ColumnView(segment, column, rows, columns, ElementType.FLOAT4);
+    }
+
+    private long index(int row, ElementType type) {
+        if (elementType != type) {
+            throw new TornadoRuntimeException("[ERROR] The column view is over a matrix of " + elementType + " elements, not " + type);
+        }
+        return ((long) Objects.checkIndex(row, rows) * columns + column) * type.lanes;
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public float getFloat(int row) {
+        return segment.getAtIndex(JAVA_FLOAT, index(row, ElementType.FLOAT));
+    }
+
+    public void setFloat(int row, float value) {
+        segment.setAtIndex(JAVA_FLOAT, index(row, ElementType.FLOAT), value);
+    }
+
+    public double getDouble(int row) {
+        return segment.getAtIndex(JAVA_DOUBLE, index(row, ElementType.DOUBLE));
+    }
+
+    public void setDouble(int row, double value) {
+        segment.setAtIndex(JAVA_DOUBLE, index(row, ElementType.DOUBLE), value);
+    }
+
+    public int getInt(int row) {
+        return segment.getAtIndex(JAVA_INT, index(row, ElementType.INT));
+    }
+
+    public void setInt(int row, int value) {
+        segment.setAtIndex(JAVA_INT, index(row, ElementType.INT), value);
+    }
+
+    public Float4 getFloat4(int row) {
+        long index = index(row, ElementType.FLOAT4);
+        return new Float4(segment.getAtIndex(JAVA_FLOAT, index), segment.getAtIndex(JAVA_FLOAT, index + 1), segment.getAtIndex(JAVA_FLOAT, index + 2), segment.getAtIndex(JAVA_FLOAT, index + 3));
+    }
+
+    public void setFloat4(int row, Float4 value) {
+        long index = index(row, ElementType.FLOAT4);
+        segment.setAtIndex(JAVA_FLOAT, index, value.getX());
+        segment.setAtIndex(JAVA_FLOAT, index + 1, value.getY());
+        segment.setAtIndex(JAVA_FLOAT, index + 2, value.getZ());
+        segment.setAtIndex(JAVA_FLOAT, index + 3, value.getW());
+    }
+
+    /**
+     * @return a new {@link VectorFloat} with a copy of the column.
+     */
+    public VectorFloat toVectorFloat() {
+        final VectorFloat vector = new VectorFloat(rows);
+        for (int i = 0; i < rows; i++) {
+            vector.set(i, getFloat(i));
+        }
+        return vector;
+    }
+
+    /**
+     * @return a new {@link VectorDouble} with a copy of the column.
+     */
+    public VectorDouble toVectorDouble() {
+        final VectorDouble vector = new VectorDouble(rows);
+        for (int i = 0; i < rows; i++) {
+            vector.set(i, getDouble(i));
+        }
+        return vector;
+    }
+
+    /**
+     * @return a new {@link VectorInt} with a copy of the column.
+     */
+    public VectorInt toVectorInt() {
+        final VectorInt vector = new VectorInt(rows);
+        for (int i = 0; i < rows; i++) {
+            vector.set(i, getInt(i));
+        }
+        return vector;
+    }
+
+    /**
+     * @return a new {@link VectorFloat4} with a copy of the column.
+     */
+    public VectorFloat4 toVectorFloat4() {
+        final VectorFloat4 vector = new VectorFloat4(rows);
+        for (int i = 0; i < rows; i++) {
+            vector.set(i, getFloat4(i));
+        }
+        return vector;
+    }
+}
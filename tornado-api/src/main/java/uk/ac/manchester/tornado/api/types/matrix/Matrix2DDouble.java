@@ -76,18 +76,32 @@ public final class Matrix2DDouble extends Matrix2DType implements TornadoMatrixI
      *
      * @param matrix
      *     matrix to transpose
+     * @throws uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException
+     *     if the matrix is not square. Use {@link #transpose(Matrix2DDouble, Matrix2DDouble)} for
+     *     rectangular matrices.
      */
     public static void transpose(Matrix2DDouble matrix) {
-        if (matrix.COLUMNS == matrix.ROWS) {
-            // transpose square matrix
-            for (int i = 0; i < matrix.ROWS; i++) {
-                for (int j = 0; j < i; j++) {
-                    final double tmp = matrix.get(i, j);
-                    matrix.set(i, j, matrix.get(j, i));
-                    matrix.set(j, i, tmp);
-                }
-            }
-        }
+        MatrixOps.checkSquare(matrix);
+        MatrixOps.transpose(matrix.getSegment(), matrix.getSegment(), matrix.ROWS, matrix.COLUMNS, 2);
+    }
+
+    /**
+     * Transposes a matrix out-of-place. The destination matrix must have as many
+     * rows as columns has the source matrix, and vice versa.
+     *
+     * @param src
+     *     matrix to transpose
+     * @param dst
+     *     transposed matrix
+     * @since 1.1.2
+     */
+    public static void transpose(Matrix2DDouble src, Matrix2DDouble dst) {
+        MatrixOps.checkTranspose(src, dst);
+        MatrixOps.transpose(src.getSegment(), dst.getSegment(), src.ROWS, src.COLUMNS, 2);
+    }
+
+    public static void scale(Matrix2DDouble matrix, double value) {
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
@@ -104,24 +118,39 @@ public final class Matrix2DDouble extends Matrix2DType implements TornadoMatrixI
     }
 
     public VectorDouble row(int row) {
-        int baseIndex = toRowMajor(row, 0, COLUMNS);
-        int to = getFinalIndexOfRange(baseIndex);
-        int size = to - baseIndex;
-        DoubleArray f = new DoubleArray(size);
-        int j = 0;
-        for (int i = baseIndex; i < to; i++, j++) {
-            f.set(j, storage.get(i));
-        }
-        return new VectorDouble(COLUMNS, f);
+        return new VectorDouble(COLUMNS, storage.slice(toRowMajor(row, 0, COLUMNS), COLUMNS));
+    }
+
+    /**
+     * Returns a view of a row of the matrix. The segment shares the storage of
+     * the matrix, so no data is copied and the updates of the segment are
+     * visible in the matrix.
+     *
+     * @param row
+     *     index of the row
+     * @return {@link MemorySegment} with the elements of the row
+     * @since 1.1.2
+     */
+    public MemorySegment rowSegment(int row) {
+        return getSegment().asSlice((long) toRowMajor(row, 0, COLUMNS) * Double.BYTES, (long) COLUMNS * Double.BYTES);
     }
 
     public VectorDouble column(int col) {
-        int baseIndex = StorageFormats.toRowMajor(0, col, COLUMNS);
-        final VectorDouble v = new VectorDouble(ROWS);
-        for (int i = 0; i < ROWS; i++) {
-            v.set(i, storage.get(baseIndex + (i * COLUMNS)));
-        }
-        return v;
+        return columnView(col).toVectorDouble();
+    }
+
+    /**
+     * Returns a view of a column of the matrix. The view reads and writes the
+     * storage of the matrix with a stride of one row, so no data is copied and
+     * the updates of the view are visible in the matrix.
+     *
+     * @param col
+     *     index of the column
+     * @return {@link ColumnView} of the column
+     * @since 1.1.2
+     */
+    public ColumnView columnView(int col) {
+        return ColumnView.ofDouble(getSegment(), col, ROWS, COLUMNS);
     }
 
     public VectorDouble diag() {
@@ -139,15 +168,8 @@ public final class Matrix2DDouble extends Matrix2DType implements TornadoMatrixI
     }
 
     public void multiply(Matrix2DDouble a, Matrix2DDouble b) {
-        for (int row = 0; row < getNumRows(); row++) {
-            for (int col = 0; col < getNumColumns(); col++) {
-                double sum = 0f;
-                for (int k = 0; k < b.getNumRows(); k++) {
-                    sum += a.get(row, k) * b.get(k, col);
-                }
-                set(row, col, sum);
-            }
-        }
+        MatrixOps.checkMultiply(this, a, b);
+        MatrixOps.multiplyDouble(a.getSegment(), b.getSegment(), getSegment(), ROWS, COLUMNS, a.COLUMNS);
     }
 
     public Matrix2DDouble duplicate() {
@@ -216,5 +238,4 @@ public final class Matrix2DDouble extends Matrix2DType implements TornadoMatrixI
     public MemorySegment getSegmentWithHeader() {
         return storage.getSegmentWithHeader();
     }
-
 }
@@ -20,7 +20,6 @@ package uk.ac.manchester.tornado.api.types.matrix;
 import java.lang.foreign.MemorySegment;
 import java.nio.FloatBuffer;
 
-import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.collections.VectorFloat;
 import uk.ac.manchester.tornado.api.types.utils.FloatOps;
@@ -79,23 +78,27 @@ public final class Matrix2DFloat4 extends Matrix2DType implements TornadoMatrixI
      *     matrix to transpose
      */
     public static void transpose(Matrix2DFloat4 matrix) {
-        if (matrix.COLUMNS == matrix.ROWS) {
-            for (int i = 0; i < matrix.ROWS; i++) {
-                for (int j = 0; j < i; j++) {
-                    final Float4 tmp = matrix.get(i, j);
-                    matrix.set(i, j, matrix.get(j, i));
-                    matrix.set(j, i, tmp);
-                }
-            }
-        } else {
-            throw new TornadoRuntimeException("Square matrix expected");
-        }
+        MatrixOps.checkSquare(matrix);
+        MatrixOps.transpose(matrix.getSegment(), matrix.getSegment(), matrix.ROWS, matrix.COLUMNS, VECTOR_ELEMENTS);
+    }
+
+    /**
+     * Transposes a matrix out-of-place. The destination matrix must have as many
+     * rows as columns has the source matrix, and vice versa.
+     *
+     * @param src
+     *     matrix to transpose
+     * @param dst
+     *     transposed matrix
+     * @since 1.1.2
+     */
+    public static void transpose(Matrix2DFloat4 src, Matrix2DFloat4 dst) {
+        MatrixOps.checkTranspose(src, dst);
+        MatrixOps.transpose(src.getSegment(), dst.getSegment(), src.ROWS, src.COLUMNS, VECTOR_ELEMENTS);
     }
 
     public static void scale(Matrix2DFloat4 matrix, float value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, matrix.storage.get(i) * value);
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
@@ -131,15 +134,22 @@ public final class Matrix2DFloat4 extends Matrix2DType implements TornadoMatrixI
 
     public VectorFloat row(int row) {
         int index = StorageFormats.toRowMajor(row, 0, COLUMNS);
-        int to = getFinalIndexOfRange(index);
-        int size = to - index;
-        FloatArray f = new FloatArray(size);
-        int j = 0;
-        for (int i = index; i < to; i++) {
-            f.set(j, storage.get(i));
-            j++;
-        }
-        return new VectorFloat(COLUMNS, f);
+        return new VectorFloat(COLUMNS, storage.slice(index, COLUMNS));
+    }
+
+    /**
+     * Returns a view of a row of the matrix. The segment shares the storage of
+     * the matrix, so no data is copied and the updates of the segment are
+     * visible in the matrix.
+     *
+     * @param row
+     *     index of the row
+     * @return {@link MemorySegment} with the elements of the row
+     * @since 1.1.2
+     */
+    public MemorySegment rowSegment(int row) {
+        long rowBytes = (long) COLUMNS * VECTOR_ELEMENTS * Float.BYTES;
+        return getSegment().asSlice(row * rowBytes, rowBytes);
     }
 
     public VectorFloat column(int col) {
@@ -151,6 +161,20 @@ public final class Matrix2DFloat4 extends Matrix2DType implements TornadoMatrixI
         return v;
     }
 
+    /**
+     * Returns a view of a column of the matrix. The view reads and writes the
+     * storage of the matrix with a stride of one row, so no data is copied and
+     * the updates of the view are visible in the matrix.
+     *
+     * @param col
+     *     index of the column
+     * @return {@link ColumnView} of the column
+     * @since 1.1.2
+     */
+    public ColumnView columnView(int col) {
+        return ColumnView.ofFloat4(getSegment(), col, ROWS, COLUMNS);
+    }
+
     public VectorFloat diag() {
         final VectorFloat v = new VectorFloat(Math.min(ROWS, COLUMNS));
         for (int i = 0; i < ROWS; i++) {
@@ -166,18 +190,8 @@ public final class Matrix2DFloat4 extends Matrix2DType implements TornadoMatrixI
     }
 
     public void multiply(Matrix2DFloat4 a, Matrix2DFloat4 b) {
-        for (int row = 0; row < getNumRows(); row++) {
-            for (int col = 0; col < getNumColumns(); col++) {
-                Float4 sum = new Float4();
-                for (int k = 0; k < b.getNumRows(); k++) {
-                    Float4 fa = a.get(row, k);
-                    Float4 fb = b.get(k, col);
-                    Float4 fc = Float4.mult(fa, fb);
-                    sum = Float4.add(fc, sum);
-                }
-                set(row, col, sum);
-            }
-        }
+        MatrixOps.checkMultiply(this, a, b);
+        MatrixOps.multiplyFloat4(a.getSegment(), b.getSegment(), getSegment(), ROWS, COLUMNS, a.COLUMNS);
     }
 
     public Matrix2DFloat4 duplicate() {
@@ -247,5 +261,4 @@ public final class Matrix2DFloat4 extends Matrix2DType implements TornadoMatrixI
     public MemorySegment getSegmentWithHeader() {
         return storage.getSegmentWithHeader();
     }
-
 }
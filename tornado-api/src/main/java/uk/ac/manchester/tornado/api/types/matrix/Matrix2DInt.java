@@ -76,25 +76,32 @@ public final class Matrix2DInt extends Matrix2DType implements TornadoMatrixInte
      *
      * @param matrix
      *     matrix to transpose
+     * @throws uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException
+     *     if the matrix is not square. Use {@link #transpose(Matrix2DInt, Matrix2DInt)} for
+     *     rectangular matrices.
      */
     public static void transpose(Matrix2DInt matrix) {
+        MatrixOps.checkSquare(matrix);
+        MatrixOps.transpose(matrix.getSegment(), matrix.getSegment(), matrix.ROWS, matrix.COLUMNS, 1);
+    }
 
-        if (matrix.COLUMNS == matrix.ROWS) {
-            // transpose square matrix
-            for (int i = 0; i < matrix.ROWS; i++) {
-                for (int j = 0; j < i; j++) {
-                    final int tmp = matrix.get(i, j);
-                    matrix.set(i, j, matrix.get(j, i));
-                    matrix.set(j, i, tmp);
-                }
-            }
-        }
+    /**
+     * Transposes a matrix out-of-place. The destination matrix must have as many
+     * rows as columns has the source matrix, and vice versa.
+     *
+     * @param src
+     *     matrix to transpose
+     * @param dst
+     *     transposed matrix
+     * @since 1.1.2
+     */
+    public static void transpose(Matrix2DInt src, Matrix2DInt dst) {
+        MatrixOps.checkTranspose(src, dst);
+        MatrixOps.transpose(src.getSegment(), dst.getSegment(), src.ROWS, src.COLUMNS, 1);
     }
 
     public static void scale(Matrix2DInt matrix, int value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, matrix.storage.get(i) * value);
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
@@ -111,25 +118,39 @@ public final class Matrix2DInt extends Matrix2DType implements TornadoMatrixInte
     }
 
     public VectorInt row(int row) {
-        int baseIndex = toRowMajor(row, 0, COLUMNS);
-        int to = getFinalIndexOfRange(baseIndex);
-        int size = to - baseIndex;
-        IntArray f = new IntArray(size);
-        int j = 0;
-        for (int i = baseIndex; i < to; i++) {
-            f.set(j, storage.get(i));
-            j++;
-        }
-        return new VectorInt(COLUMNS, f);
+        return new VectorInt(COLUMNS, storage.slice(toRowMajor(row, 0, COLUMNS), COLUMNS));
+    }
+
+    /**
+     * Returns a view of a row of the matrix. The segment shares the storage of
+     * the matrix, so no data is copied and the updates of the segment are
+     * visible in the matrix.
+     *
+     * @param row
+     *     index of the row
+     * @return {@link MemorySegment} with the elements of the row
+     * @since 1.1.2
+     */
+    public MemorySegment rowSegment(int row) {
+        return getSegment().asSlice((long) toRowMajor(row, 0, COLUMNS) * Integer.BYTES, (long) COLUMNS * Integer.BYTES);
     }
 
     public VectorInt column(int col) {
-        int index = StorageFormats.toRowMajor(0, col, COLUMNS);
-        final VectorInt v = new VectorInt(ROWS);
-        for (int i = 0; i < ROWS; i++) {
-            v.set(i, storage.get(index + (i * COLUMNS)));
-        }
-        return v;
+        return columnView(col).toVectorInt();
+    }
+
+    /**
+     * Returns a view of a column of the matrix. The view reads and writes the
+     * storage of the matrix with a stride of one row, so no data is copied and
+     * the updates of the view are visible in the matrix.
+     *
+     * @param col
+     *     index of the column
+     * @return {@link ColumnView} of the column
+     * @since 1.1.2
+     */
+    public ColumnView columnView(int col) {
+        return ColumnView.ofInt(getSegment(), col, ROWS, COLUMNS);
     }
 
     public VectorInt diag() {
@@ -147,15 +168,8 @@ public final class Matrix2DInt extends Matrix2DType implements TornadoMatrixInte
     }
 
     public void multiply(Matrix2DInt a, Matrix2DInt b) {
-        for (int row = 0; row < getNumRows(); row++) {
-            for (int col = 0; col < getNumColumns(); col++) {
-                int sum = 0;
-                for (int k = 0; k < b.getNumRows(); k++) {
-                    sum += a.get(row, k) * b.get(k, col);
-                }
-                set(row, col, sum);
-            }
-        }
+        MatrixOps.checkMultiply(this, a, b);
+        MatrixOps.multiplyInt(a.getSegment(), b.getSegment(), getSegment(), ROWS, COLUMNS, a.COLUMNS);
     }
 
     public Matrix2DInt duplicate() {
@@ -225,5 +239,4 @@ public final class Matrix2DInt extends Matrix2DType implements TornadoMatrixInte
     public MemorySegment getSegmentWithHeader() {
         return storage.getSegmentWithHeader();
     }
-
 }
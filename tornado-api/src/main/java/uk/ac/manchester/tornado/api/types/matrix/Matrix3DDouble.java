@@ -64,9 +64,7 @@ public final class Matrix3DDouble extends Matrix3DType implements TornadoMatrixI
     }
 
     public static void scale(Matrix3DDouble matrix, double value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, matrix.storage.get(i) * value);
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
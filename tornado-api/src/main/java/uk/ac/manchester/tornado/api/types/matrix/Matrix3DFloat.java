@@ -69,9 +69,7 @@ public final class Matrix3DFloat extends Matrix3DType implements TornadoMatrixIn
     }
 
     public static void scale(Matrix3DFloat matrix, float value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, matrix.storage.get(i) * value);
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
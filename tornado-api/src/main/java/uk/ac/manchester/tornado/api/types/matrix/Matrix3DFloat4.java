@@ -74,9 +74,7 @@ public final class Matrix3DFloat4 extends Matrix3DType implements TornadoMatrixI
     }
 
     public static void scale(Matrix3DFloat4 matrix, float value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, matrix.storage.get(i) * value);
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
@@ -69,9 +69,7 @@ public final class Matrix3DLong extends Matrix3DType implements TornadoMatrixInt
     }
 
     public static void scale(Matrix3DLong matrix, long value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, matrix.storage.get(i) * value);
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
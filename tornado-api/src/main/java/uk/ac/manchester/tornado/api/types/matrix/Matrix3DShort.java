@@ -64,9 +64,7 @@ public final class Matrix3DShort extends Matrix3DType implements TornadoMatrixIn
     }
 
     public static void scale(Matrix3DShort matrix, short value) {
-        for (int i = 0; i < matrix.storage.getSize(); i++) {
-            matrix.storage.set(i, (short) (matrix.storage.get(i) * value));
-        }
+        MatrixOps.scale(matrix.getSegment(), matrix.storage.getSize(), value);
     }
 
     @Override
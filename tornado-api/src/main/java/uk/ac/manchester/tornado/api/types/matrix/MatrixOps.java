@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.matrix;
+
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+import java.lang.foreign.MemorySegment;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Host implementations of the matrix operations (multiplication, transposition
+ * and scaling) used by the matrix types on the CPU.
+ *
+ * <p>
+ * The data is copied in bulk from the off-heap storage to on-heap arrays, so
+ * the inner loops are simple counted loops over contiguous elements that the
+ * JIT compiler vectorises. The multiplication and the transposition are
+ * blocked for the CPU caches, and the blocks of large matrices are distributed
+ * across the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+ * The off-heap storage is only accessed by the calling thread. The
+ * multiplication accumulates the products in the same order as the naive
+ * triple loop, so the results are identical.
+ * </p>
+ */
+final class MatrixOps {
+
+    /**
+     * Rows of the output computed by a task of the multiplication.
+     */
+    private static final int BLOCK_ROWS = 32;
+
+    /**
+     * Block of the reduction dimension, so the rows of the right-hand matrix
+     * used by a block stay in the L2 cache.
+     */
+    private static final int BLOCK_K = 64;
+
+    /**
+     * Block of the output columns, so the partial rows of the output stay in the
+     * L1 cache.
+     */
+    private static final int BLOCK_COLUMNS = 512;
+
+    /**
+     * Tile size of the transposition.
+     */
+    private static final int TILE = 32;
+
+    /**
+     * Number of elements scaled at a time.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Minimum number of multiply-add operations (or elements moved, for the
+     * transposition) to run in parallel.
+     */
+    private static final long PARALLEL_THRESHOLD = 1L << 21;
+
+    private MatrixOps() {
+    }
+
+    private static boolean runInParallel(long work, int numBlocks) {
+        return work >= PARALLEL_THRESHOLD && numBlocks > 1;
+    }
+
+    static void checkMultiply(Matrix2DType c, Matrix2DType a, Matrix2DType b) {
+        if (a.getNumColumns() != b.getNumRows() || a.getNumRows() != c.getNumRows() || b.getNumColumns() != c.getNumColumns()) {
+            throw new TornadoRuntimeException(String.format("Cannot multiply <%d x %d> by <%d x %d> into <%d x %d>", //
+                    a.getNumRows(), a.getNumColumns(), b.getNumRows(), b.getNumColumns(), c.getNumRows(), c.getNumColumns()));
+        }
+    }
+
+    static void checkTranspose(Matrix2DType src, Matrix2DType dst) {
+        if (src.getNumRows() != dst.getNumColumns() || src.getNumColumns() != dst.getNumRows()) {
+            throw new TornadoRuntimeException(String.format("Cannot transpose <%d x %d> into <%d x %d>", //
+                    src.getNumRows(), src.getNumColumns(), dst.getNumRows(), dst.getNumColumns()));
+        }
+    }
+
+    static void checkSquare(Matrix2DType matrix) {
+        if (matrix.getNumRows() != matrix.getNumColumns()) {
+            throw new TornadoRuntimeException("Square matrix expected. Use transpose(src, dst) for rectangular matrices");
+        }
+    }
+
+    // ---------------------------------------------------------------------------
+    // Multiplication: c (m x n) = a (m x k) * b (k x n)
+    // ---------------------------------------------------------------------------
+
+    static void multiplyFloat(MemorySegment a, MemorySegment b, MemorySegment c, int m, int n, int k) {
+        float[] heapA = new float[m * k];
+        float[] heapB = new float[k * n];
+        float[] heapC = new float[m * n];
+        MemorySegment.copy(a, JAVA_FLOAT, 0, heapA, 0, heapA.length);
+        MemorySegment.copy(b, JAVA_FLOAT, 0, heapB, 0, heapB.length);
+        int numBlocks = Math.ceilDiv(m, BLOCK_ROWS);
+        if (runInParallel((long) m * n * k, numBlocks)) {
+            IntStream.range(0, numBlocks).parallel().forEach(block -> multiplyRows(heapA, heapB, heapC, n, k, block * BLOCK_ROWS, Math.min(m, (block + 1) * BLOCK_ROWS)));
+        } else {
+            multiplyRows(heapA, heapB, heapC, n, k, 0, m);
+        }
+        MemorySegment.copy(heapC, 0, c, JAVA_FLOAT, 0, heapC.length);
+    }
+
+    private static void multiplyRows(float[] a, float[] b, float[] c, int n, int k, int rowStart, int rowEnd) {
+        for (int kk = 0; kk < k; kk += BLOCK_K) {
+            int kEnd = Math.min(k, kk + BLOCK_K);
+            for (int jj = 0; jj < n; jj += BLOCK_COLUMNS) {
+                int jEnd = Math.min(n, jj + BLOCK_COLUMNS);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int rowC = i * n;
+                    for (int x = kk; x < kEnd; x++) {
+                        float valueA = a[i * k + x];
+                        int rowB = x * n;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[rowC + j] += valueA * b[rowB + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void multiplyDouble(MemorySegment a, MemorySegment b, MemorySegment c, int m, int n, int k) {
+        double[] heapA = new double[m * k];
+        double[] heapB = new double[k * n];
+        double[] heapC = new double[m * n];
+        MemorySegment.copy(a, JAVA_DOUBLE, 0, heapA, 0, heapA.length);
+        MemorySegment.copy(b, JAVA_DOUBLE, 0, heapB, 0, heapB.length);
+        int numBlocks = Math.ceilDiv(m, BLOCK_ROWS);
+        if (runInParallel((long) m * n * k, numBlocks)) {
+            IntStream.range(0, numBlocks).parallel().forEach(block -> multiplyRows(heapA, heapB, heapC, n, k, block * BLOCK_ROWS, Math.min(m, (block + 1) * BLOCK_ROWS)));
+        } else {
+            multiplyRows(heapA, heapB, heapC, n, k, 0, m);
+        }
+        MemorySegment.copy(heapC, 0, c, JAVA_DOUBLE, 0, heapC.length);
+    }
+
+    private static void multiplyRows(double[] a, double[] b, double[] c, int n, int k, int rowStart, int rowEnd) {
+        for (int kk = 0; kk < k; kk += BLOCK_K) {
+            int kEnd = Math.min(k, kk + BLOCK_K);
+            for (int jj = 0; jj < n; jj += BLOCK_COLUMNS) {
+                int jEnd = Math.min(n, jj + BLOCK_COLUMNS);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int rowC = i * n;
+                    for (int x = kk; x < kEnd; x++) {
+                        double valueA = a[i * k + x];
+                        int rowB = x * n;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[rowC + j] += valueA * b[rowB + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void multiplyInt(MemorySegment a, MemorySegment b, MemorySegment c, int m, int n, int k) {
+        int[] heapA = new int[m * k];
+        int[] heapB = new int[k * n];
+        int[] heapC = new int[m * n];
+        MemorySegment.copy(a, JAVA_INT, 0, heapA, 0, heapA.length);
+        MemorySegment.copy(b, JAVA_INT, 0, heapB, 0, heapB.length);
+        int numBlocks = Math.ceilDiv(m, BLOCK_ROWS);
+        if (runInParallel((long) m * n * k, numBlocks)) {
+            IntStream.range(0, numBlocks).parallel().forEach(block -> multiplyRows(heapA, heapB, heapC, n, k, block * BLOCK_ROWS, Math.min(m, (block + 1) * BLOCK_ROWS)));
+        } else {
+            multiplyRows(heapA, heapB, heapC, n, k, 0, m);
+        }
+        MemorySegment.copy(heapC, 0, c, JAVA_INT, 0, heapC.length);
+    }
+
+    private static void multiplyRows(int[] a, int[] b, int[] c, int n, int k, int rowStart, int rowEnd) {
+        for (int kk = 0; kk < k; kk += BLOCK_K) {
+            int kEnd = Math.min(k, kk + BLOCK_K);
+            for (int jj = 0; jj < n; jj += BLOCK_COLUMNS) {
+                int jEnd = Math.min(n, jj + BLOCK_COLUMNS);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int rowC = i * n;
+                    for (int x = kk; x < kEnd; x++) {
+                        int valueA = a[i * k + x];
+                        int rowB = x * n;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[rowC + j] += valueA * b[rowB + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplication of matrices of {@code Float4} elements, lane by lane.
+     */
+    static void multiplyFloat4(MemorySegment a, MemorySegment b, MemorySegment c, int m, int n, int k) {
+        float[] heapA = new float[m * k * 4];
+        float[] heapB = new float[k * n * 4];
+        float[] heapC = new float[m * n * 4];
+        MemorySegment.copy(a, JAVA_FLOAT, 0, heapA, 0, heapA.length);
+        MemorySegment.copy(b, JAVA_FLOAT, 0, heapB, 0, heapB.length);
+        int numBlocks = Math.ceilDiv(m, BLOCK_ROWS);
+        if (runInParallel((long) m * n * k * 4, numBlocks)) {
+            IntStream.range(0, numBlocks).parallel().forEach(block -> multiplyRowsFloat4(heapA, heapB, heapC, n, k, block * BLOCK_ROWS, Math.min(m, (block + 1) * BLOCK_ROWS)));
+        } else {
+            multiplyRowsFloat4(heapA, heapB, heapC, n, k, 0, m);
+        }
+        MemorySegment.copy(heapC, 0, c, JAVA_FLOAT, 0, heapC.length);
+    }
+
+    private static void multiplyRowsFloat4(float[] a, float[] b, float[] c, int n, int k, int rowStart, int rowEnd) {
+        for (int kk = 0; kk < k; kk += BLOCK_K) {
+            int kEnd = Math.min(k, kk + BLOCK_K);
+            for (int i = rowStart; i < rowEnd; i++) {
+                int rowC = i * n * 4;
+                for (int x = kk; x < kEnd; x++) {
+                    int indexA = (i * k + x) * 4;
+                    float ax = a[indexA];
+                    float ay = a[indexA + 1];
+                    float az = a[indexA + 2];
+                    float aw = a[indexA + 3];
+                    int rowB = x * n * 4;
+                    for (int j = 0; j < n * 4; j += 4) {
+                        c[rowC + j] += ax * b[rowB + j];
+                        c[rowC + j + 1] += ay * b[rowB + j + 1];
+                        c[rowC + j + 2] += az * b[rowB + j + 2];
+                        c[rowC + j + 3] += aw * b[rowB + j + 3];
+                    }
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------------
+    // Transposition
+    // ---------------------------------------------------------------------------
+
+    /**
+     * Transposes a row-major matrix of {@code rows x columns} elements into a
+     * matrix of {@code columns x rows} elements. The transposition only moves
+     * data, so each element is handled as {@code width} 32-bit words (e.g., 1 for
+     * float and int, 2 for double, 4 for Float4). The source is read before the
+     * destination is written, so both can be the same segment.
+     */
+    static void transpose(MemorySegment src, MemorySegment dst, int rows, int columns, int width) {
+        int[] heapSrc = new int[rows * columns * width];
+        int[] heapDst = new int[heapSrc.length];
+        MemorySegment.copy(src, JAVA_INT, 0, heapSrc, 0, heapSrc.length);
+        int numTiles = Math.ceilDiv(rows, TILE);
+        if (runInParallel(heapSrc.length, numTiles)) {
+            IntStream.range(0, numTiles).parallel().forEach(tile -> transposeRows(heapSrc, heapDst, rows, columns, width, tile * TILE, Math.min(rows, (tile + 1) * TILE)));
+        } else {
+            transposeRows(heapSrc, heapDst, rows, columns, width, 0, rows);
+        }
+        MemorySegment.copy(heapDst, 0, dst, JAVA_INT, 0, heapDst.length);
+    }
+
+    private static void transposeRows(int[] src, int[] dst, int rows, int columns, int width, int rowStart, int rowEnd) {
+        for (int jj = 0; jj < columns; jj += TILE) {
+            int jEnd = Math.min(columns, jj + TILE);
+            for (int i = rowStart; i < rowEnd; i++) {
+                if (width == 1) {
+                    for (int j = jj; j < jEnd; j++) {
+                        dst[j * rows + i] = src[i * columns + j];
+                    }
+                } else {
+                    for (int j = jj; j < jEnd; j++) {
+                        System.arraycopy(src, (i * columns + j) * width, dst, (j * rows + i) * width, width);
+                    }
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------------
+    // Scaling
+    // ---------------------------------------------------------------------------
+
+    static void scale(MemorySegment data, int length, float value) {
+        float[] chunk = new float[Math.min(length, CHUNK_SIZE)];
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            long offset = (long) start * Float.BYTES;
+            MemorySegment.copy(data, JAVA_FLOAT, offset, chunk, 0, size);
+            for (int i = 0; i < size; i++) {
+                chunk[i] *= value;
+            }
+            MemorySegment.copy(chunk, 0, data, JAVA_FLOAT, offset, size);
+        }
+    }
+
+    static void scale(MemorySegment data, int length, double value) {
+        double[] chunk = new double[Math.min(length, CHUNK_SIZE)];
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            long offset = (long) start * Double.BYTES;
+            MemorySegment.copy(data, JAVA_DOUBLE, offset, chunk, 0, size);
+            for (int i = 0; i < size; i++) {
+                chunk[i] *= value;
+            }
+            MemorySegment.copy(chunk, 0, data, JAVA_DOUBLE, offset, size);
+        }
+    }
+
+    static void scale(MemorySegment data, int length, int value) {
+        int[] chunk = new int[Math.min(length, CHUNK_SIZE)];
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            long offset = (long) start * Integer.BYTES;
+            MemorySegment.copy(data, JAVA_INT, offset, chunk, 0, size);
+            for (int i = 0; i < size; i++) {
+                chunk[i] *= value;
+            }
+            MemorySegment.copy(chunk, 0, data, JAVA_INT, offset, size);
+        }
+    }
+
+    static void scale(MemorySegment data, int length, long value) {
+        long[] chunk = new long[Math.min(length, CHUNK_SIZE)];
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            long offset = (long) start * Long.BYTES;
+            MemorySegment.copy(data, JAVA_LONG, offset, chunk, 0, size);
+            for (int i = 0; i < size; i++) {
+                chunk[i] *= value;
+            }
+            MemorySegment.copy(chunk, 0, data, JAVA_LONG, offset, size);
+        }
+    }
+
+    static void scale(MemorySegment data, int length, short value) {
+        short[] chunk = new short[Math.min(length, CHUNK_SIZE)];
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            long offset = (long) start * Short.BYTES;
+            MemorySegment.copy(data, JAVA_SHORT, offset, chunk, 0, size);
+            for (int i = 0; i < size; i++) {
+                chunk[i] *= value;
+            }
+            MemorySegment.copy(chunk, 0, data, JAVA_SHORT, offset, size);
+        }
+    }
+}
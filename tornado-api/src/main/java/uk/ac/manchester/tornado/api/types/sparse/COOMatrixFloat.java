@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+
+/**
+ * Sparse matrix in coordinate (COO) format: the row, column and value of each
+ * non-zero element, in any order. This is the format of the Matrix Market
+ * files, and the one used to build the other formats.
+ *
+ * @since 1.1.2
+ */
+public final class COOMatrixFloat implements SparseMatrixFloat {
+
+    private final int numRows;
+    private final int numColumns;
+    private final IntArray rows;
+    private final IntArray columns;
+    private final FloatArray values;
+
+    /**
+     * Creates a matrix from its arrays. The arrays are not copied.
+     *
+     * @param numRows
+     *     Number of rows
+     * @param numColumns
+     *     Number of columns
+     * @param rows
+     *     Row of each non-zero element
+     * @param columns
+     *     Column of each non-zero element
+     * @param values
+     *     Value of each non-zero element
+     */
+    public COOMatrixFloat(int numRows, int numColumns, IntArray rows, IntArray columns, FloatArray values) {
+        if (rows.getSize() != values.getSize() || columns.getSize() != values.getSize()) {
+            throw new IllegalArgumentException("The number of rows, columns and values do not match");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.rows = rows;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    @Override
+    public int getNumNonZeros() {
+        return values.getSize();
+    }
+
+    public IntArray getRows() {
+        return rows;
+    }
+
+    public IntArray getColumns() {
+        return columns;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    @Override
+    public void multiply(FloatArray x, FloatArray y) {
+        toCSR().multiply(x, y);
+    }
+
+    /**
+     * Converts the matrix to CSR format. The elements are sorted by row and
+     * column with a radix sort of the coordinates, and the elements with the
+     * same coordinates keep their order.
+     *
+     * @return {@link CSRMatrixFloat}
+     */
+    @Override
+    public CSRMatrixFloat toCSR() {
+        final int numNonZeros = getNumNonZeros();
+        LongArray keys = new LongArray(numNonZeros);
+        IntArray permutation = new IntArray(numNonZeros);
+        IntStream.range(0, numNonZeros).parallel().forEach(i -> {
+            keys.set(i, ((long) rows.get(i) << 32) | columns.get(i));
+            permutation.set(i, i);
+        });
+        HostPrimitives.sort(keys, permutation);
+
+        IntArray sortedColumns = new IntArray(numNonZeros);
+        FloatArray sortedValues = new FloatArray(numNonZeros);
+        IntStream.range(0, numNonZeros).parallel().forEach(i -> {
+            sortedColumns.set(i, columns.get(permutation.get(i)));
+            sortedValues.set(i, values.get(permutation.get(i)));
+        });
+
+        // The first element of each row is found with a binary search of the sorted coordinates
+        IntArray rowOffsets = new IntArray(numRows + 1);
+        IntStream.rangeClosed(0, numRows).parallel().forEach(row -> rowOffsets.set(row, lowerBound(keys, (long) row << 32)));
+        return new CSRMatrixFloat(numRows, numColumns, rowOffsets, sortedColumns, sortedValues);
+    }
+
+    private static int lowerBound(LongArray keys, long key) {
+        int low = 0;
+        int high = keys.getSize();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("COOMatrixFloat <%d x %d>, %d non-zeros", numRows, numColumns, getNumNonZeros());
+    }
+}
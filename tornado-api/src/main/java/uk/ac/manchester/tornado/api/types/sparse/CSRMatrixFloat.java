@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.IntSummaryStatistics;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in Compressed Sparse Row (CSR) format. The non-zero elements
+ * are stored row after row, sorted by column within each row. The elements of
+ * row <code>i</code> are in <code>[rowOffsets[i], rowOffsets[i + 1])</code> of
+ * the arrays of columns and values.
+ *
+ * <p>
+ * CSR is the most compact format for general matrices, and the one used by
+ * the adaptive SpMV of
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#spmv(String, CSRMatrixFloat, FloatArray, FloatArray)}.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class CSRMatrixFloat implements SparseMatrixFloat {
+
+    private final int numRows;
+    private final int numColumns;
+    private final IntArray rowOffsets;
+    private final IntArray columns;
+    private final FloatArray values;
+    private volatile RowStatistics rowStatistics;
+
+    /**
+     * Creates a matrix from its arrays. The arrays are not copied.
+     *
+     * @param numRows
+     *     Number of rows
+     * @param numColumns
+     *     Number of columns
+     * @param rowOffsets
+     *     Offset of the first element of each row, with <code>numRows + 1</code>
+     *     elements. The last one is the number of non-zero elements.
+     * @param columns
+     *     Column of each non-zero element
+     * @param values
+     *     Value of each non-zero element
+     */
+    public CSRMatrixFloat(int numRows, int numColumns, IntArray rowOffsets, IntArray columns, FloatArray values) {
+        if (rowOffsets.getSize() != numRows + 1) {
+            throw new IllegalArgumentException("The row offsets need " + (numRows + 1) + " elements, found " + rowOffsets.getSize());
+        }
+        if (columns.getSize() != values.getSize() || rowOffsets.get(numRows) != values.getSize()) {
+            throw new IllegalArgumentException("The number of columns, values and the last row offset do not match");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.rowOffsets = rowOffsets;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    @Override
+    public int getNumNonZeros() {
+        return values.getSize();
+    }
+
+    public IntArray getRowOffsets() {
+        return rowOffsets;
+    }
+
+    public IntArray getColumns() {
+        return columns;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    public int getRowLength(int row) {
+        return rowOffsets.get(row + 1) - rowOffsets.get(row);
+    }
+
+    /**
+     * Statistics of the lengths of the rows. They are computed on the first
+     * call.
+     *
+     * @return {@link RowStatistics}
+     */
+    public RowStatistics getRowStatistics() {
+        RowStatistics statistics = rowStatistics;
+        if (statistics == null) {
+            IntSummaryStatistics lengths = IntStream.range(0, numRows).parallel().map(this::getRowLength).summaryStatistics();
+            double mean = numRows == 0 ? 0 : (double) lengths.getSum() / numRows;
+            double sumOfSquares = IntStream.range(0, numRows).parallel().mapToDouble(row -> {
+                double difference = getRowLength(row) - mean;
+                return difference * difference;
+            }).sum();
+            double standardDeviation = numRows == 0 ? 0 : Math.sqrt(sumOfSquares / numRows);
+            statistics = new RowStatistics(numRows, lengths.getSum(), numRows == 0 ? 0 : lengths.getMin(), numRows == 0 ? 0 : lengths.getMax(), mean, standardDeviation);
+            rowStatistics = statistics;
+        }
+        return statistics;
+    }
+
+    @Override
+    public void multiply(FloatArray x, FloatArray y) {
+        IntStream.range(0, numRows).parallel().forEach(row -> {
+            float sum = 0.0f;
+            for (int i = rowOffsets.get(row); i < rowOffsets.get(row + 1); i++) {
+                sum += values.get(i) * x.get(columns.get(i));
+            }
+            y.set(row, sum);
+        });
+    }
+
+    @Override
+    public CSRMatrixFloat toCSR() {
+        return this;
+    }
+
+    /**
+     * Converts the matrix to coordinate format. The columns and values are
+     * shared with this matrix.
+     *
+     * @return {@link COOMatrixFloat}
+     */
+    public COOMatrixFloat toCOO() {
+        IntArray rows = new IntArray(getNumNonZeros());
+        IntStream.range(0, numRows).parallel().forEach(row -> {
+            for (int i = rowOffsets.get(row); i < rowOffsets.get(row + 1); i++) {
+                rows.set(i, row);
+            }
+        });
+        return new COOMatrixFloat(numRows, numColumns, rows, columns, values);
+    }
+
+    /**
+     * Converts the matrix to ELLPACK format, padding all rows to the length of
+     * the longest one.
+     *
+     * @return {@link ELLMatrixFloat}
+     */
+    public ELLMatrixFloat toELL() {
+        return ELLMatrixFloat.fromCSR(this);
+    }
+
+    /**
+     * Converts the matrix to SELL-C-&sigma; format.
+     *
+     * @param sliceSize
+     *     Number of rows of each slice (C), usually the number of threads that
+     *     run in lockstep on the device, such as 32 on NVIDIA GPUs.
+     * @param sortWindow
+     *     Number of consecutive rows sorted by length before they are split in
+     *     slices (&sigma;). It must be 1, which does not sort the rows, or a
+     *     multiple of the slice size.
+     * @return {@link SELLMatrixFloat}
+     */
+    public SELLMatrixFloat toSELL(int sliceSize, int sortWindow) {
+        return SELLMatrixFloat.fromCSR(this, sliceSize, sortWindow);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CSRMatrixFloat <%d x %d>, %d non-zeros", numRows, numColumns, getNumNonZeros());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in ELLPACK (ELL) format. Every row is padded to the length of
+ * the longest one (the width), and the elements are stored column-major:
+ * element <code>k</code> of row <code>i</code> is at
+ * <code>k * numRows + i</code>. The threads of consecutive rows read
+ * consecutive addresses, so the accesses are coalesced on GPUs. The padding
+ * elements have column -1 and value 0, and they are at the end of the rows.
+ *
+ * <p>
+ * ELL is a good fit for matrices whose rows have similar lengths, such as the
+ * ones of structured meshes. A single long row makes the whole matrix as wide
+ * as that row, and {@link SELLMatrixFloat} should be used instead.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class ELLMatrixFloat implements SparseMatrixFloat {
+
+    public static final int PADDING = -1;
+
+    private final int numRows;
+    private final int numColumns;
+    private final int width;
+    private final int numNonZeros;
+    private final IntArray columns;
+    private final FloatArray values;
+
+    /**
+     * Creates a matrix from its arrays. The arrays are not copied.
+     *
+     * @param numRows
+     *     Number of rows
+     * @param numColumns
+     *     Number of columns
+     * @param width
+     *     Number of elements of each row, including the padding
+     * @param numNonZeros
+     *     Number of non-zero elements, without the padding
+     * @param columns
+     *     Column of each element, with <code>numRows * width</code> elements
+     * @param values
+     *     Value of each element, with <code>numRows * width</code> elements
+     */
+    public ELLMatrixFloat(int numRows, int numColumns, int width, int numNonZeros, IntArray columns, FloatArray values) {
+        if ((long) numRows * width != columns.getSize() || columns.getSize() != values.getSize()) {
+            throw new IllegalArgumentException("The columns and values need " + ((long) numRows * width) + " elements");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.width = width;
+        this.numNonZeros = numNonZeros;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    static ELLMatrixFloat fromCSR(CSRMatrixFloat matrix) {
+        final int numRows = matrix.getNumRows();
+        final int width = matrix.getRowStatistics().maxLength();
+        if ((long) numRows * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The matrix needs more than 2^31 elements in ELL format, use SELL-C-sigma instead");
+        }
+        IntArray rowOffsets = matrix.getRowOffsets();
+        IntArray columns = new IntArray(numRows * width);
+        FloatArray values = new FloatArray(numRows * width);
+        IntStream.range(0, numRows).parallel().forEach(row -> {
+            final int start = rowOffsets.get(row);
+            final int length = rowOffsets.get(row + 1) - start;
+            for (int k = 0; k < width; k++) {
+                int index = k * numRows + row;
+                if (k < length) {
+                    columns.set(index, matrix.getColumns().get(start + k));
+                    values.set(index, matrix.getValues().get(start + k));
+                } else {
+                    columns.set(index, PADDING);
+                    values.set(index, 0.0f);
+                }
+            }
+        });
+        return new ELLMatrixFloat(numRows, matrix.getNumColumns(), width, matrix.getNumNonZeros(), columns, values);
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    @Override
+    public int getNumNonZeros() {
+        return numNonZeros;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public IntArray getColumns() {
+        return columns;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    @Override
+    public void multiply(FloatArray x, FloatArray y) {
+        IntStream.range(0, numRows).parallel().forEach(row -> {
+            float sum = 0.0f;
+            for (int k = 0; k < width; k++) {
+                int column = columns.get(k * numRows + row);
+                if (column != PADDING) {
+                    sum += values.get(k * numRows + row) * x.get(column);
+                }
+            }
+            y.set(row, sum);
+        });
+    }
+
+    @Override
+    public CSRMatrixFloat toCSR() {
+        IntArray lengths = new IntArray(numRows + 1);
+        IntStream.range(0, numRows).parallel().forEach(row -> {
+            int length = 0;
+            while (length < width && columns.get(length * numRows + row) != PADDING) {
+                length++;
+            }
+            lengths.set(row, length);
+        });
+        IntArray rowOffsets = new IntArray(numRows + 1);
+        HostPrimitives.exclusiveScan(lengths, rowOffsets);
+
+        IntArray csrColumns = new IntArray(rowOffsets.get(numRows));
+        FloatArray csrValues = new FloatArray(rowOffsets.get(numRows));
+        IntStream.range(0, numRows).parallel().forEach(row -> {
+            final int start = rowOffsets.get(row);
+            for (int k = 0; k < lengths.get(row); k++) {
+                csrColumns.set(start + k, columns.get(k * numRows + row));
+                csrValues.set(start + k, values.get(k * numRows + row));
+            }
+        });
+        return new CSRMatrixFloat(numRows, numColumns, rowOffsets, csrColumns, csrValues);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ELLMatrixFloat <%d x %d>, %d non-zeros, width=%d", numRows, numColumns, numNonZeros, width);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+/**
+ * Statistics of the number of non-zero elements of the rows of a sparse
+ * matrix. They are used to select the kernels for the matrix, for example in
+ * {@link uk.ac.manchester.tornado.api.primitives.SparseMatrixVector#select(RowStatistics)}.
+ *
+ * @param numRows
+ *     Number of rows
+ * @param numNonZeros
+ *     Number of non-zero elements
+ * @param minLength
+ *     Number of non-zero elements of the shortest row
+ * @param maxLength
+ *     Number of non-zero elements of the longest row
+ * @param mean
+ *     Mean number of non-zero elements per row
+ * @param standardDeviation
+ *     Standard deviation of the number of non-zero elements per row
+ *
+ * @since 1.1.2
+ */
+public record RowStatistics(int numRows, long numNonZeros, int minLength, int maxLength, double mean, double standardDeviation) {
+
+    /**
+     * @return the standard deviation relative to the mean. Matrices with a
+     *     coefficient larger than 1 have very different row lengths, for example
+     *     the ones of power-law graphs.
+     */
+    public double coefficientOfVariation() {
+        return mean == 0 ? 0 : standardDeviation / mean;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rows=%d, non-zeros=%d, row length: min=%d, max=%d, mean=%.2f, stddev=%.2f", numRows, numNonZeros, minLength, maxLength, mean, standardDeviation);
+    }
+}
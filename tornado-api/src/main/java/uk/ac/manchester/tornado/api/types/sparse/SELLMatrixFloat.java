@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in SELL-C-&sigma; format. The rows are sorted by length within
+ * windows of &sigma; rows, and then split in slices of C rows. Each slice is
+ * stored in ELL format with the width of its longest row, so the padding is
+ * limited to the rows of the slice, and the threads of a slice read consecutive
+ * addresses. Element <code>k</code> of lane <code>l</code> of slice
+ * <code>s</code> is at <code>sliceOffsets[s] + k * C + l</code>.
+ *
+ * <p>
+ * The permutation maps the position of each row after sorting to the row of
+ * the matrix, and it is -1 for the positions that pad the last slice. The
+ * padding elements have column -1 and value 0.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class SELLMatrixFloat implements SparseMatrixFloat {
+
+    public static final int PADDING = -1;
+
+    private final int numRows;
+    private final int numColumns;
+    private final int sliceSize;
+    private final int sortWindow;
+    private final int numNonZeros;
+    private final IntArray sliceOffsets;
+    private final IntArray permutation;
+    private final IntArray columns;
+    private final FloatArray values;
+
+    /**
+     * Creates a matrix from its arrays. The arrays are not copied.
+     *
+     * @param numRows
+     *     Number of rows
+     * @param numColumns
+     *     Number of columns
+     * @param sliceSize
+     *     Number of rows of each slice (C)
+     * @param sortWindow
+     *     Number of rows sorted by length together (&sigma;)
+     * @param numNonZeros
+     *     Number of non-zero elements, without the padding
+     * @param sliceOffsets
+     *     Offset of the first element of each slice, with
+     *     <code>numSlices + 1</code> elements
+     * @param permutation
+     *     Row of the matrix at each position, with
+     *     <code>numSlices * sliceSize</code> elements
+     * @param columns
+     *     Column of each element
+     * @param values
+     *     Value of each element
+     */
+    public SELLMatrixFloat(int numRows, int numColumns, int sliceSize, int sortWindow, int numNonZeros, IntArray sliceOffsets, IntArray permutation, IntArray columns, FloatArray values) {
+        if (permutation.getSize() != (sliceOffsets.getSize() - 1) * sliceSize || permutation.getSize() < numRows) {
+            throw new IllegalArgumentException("The permutation needs " + ((sliceOffsets.getSize() - 1) * sliceSize) + " elements");
+        }
+        if (columns.getSize() != values.getSize() || sliceOffsets.get(sliceOffsets.getSize() - 1) != values.getSize()) {
+            throw new IllegalArgumentException("The number of columns, values and the last slice offset do not match");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.sliceSize = sliceSize;
+        this.sortWindow = sortWindow;
+        this.numNonZeros = numNonZeros;
+        this.sliceOffsets = sliceOffsets;
+        this.permutation = permutation;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    static SELLMatrixFloat fromCSR(CSRMatrixFloat matrix, int sliceSize, int sortWindow) {
+        if (sliceSize < 1 || sortWindow < 1 || (sortWindow != 1 && sortWindow % sliceSize != 0)) {
+            throw new IllegalArgumentException("The sort window must be 1 or a multiple of the slice size, found C=" + sliceSize + ", sigma=" + sortWindow);
+        }
+        final int numRows = matrix.getNumRows();
+        final int numSlices = (numRows + sliceSize - 1) / sliceSize;
+        final int numPositions = numSlices * sliceSize;
+
+        // Sort the rows of each window from the longest one, and keep the order of the rows with the same length
+        IntArray permutation = new IntArray(numPositions);
+        final int numWindows = (numRows + sortWindow - 1) / sortWindow;
+        IntStream.range(0, numWindows).parallel().forEach(window -> {
+            final int start = window * sortWindow;
+            final int end = Math.min(start + sortWindow, numRows);
+            long[] keys = new long[end - start];
+            for (int row = start; row < end; row++) {
+                keys[row - start] = ((long) (Integer.MAX_VALUE - matrix.getRowLength(row)) << 32) | row;
+            }
+            if (sortWindow > 1) {
+                Arrays.sort(keys);
+            }
+            for (int i = 0; i < keys.length; i++) {
+                permutation.set(start + i, (int) keys[i]);
+            }
+        });
+        for (int position = numRows; position < numPositions; position++) {
+            permutation.set(position, PADDING);
+        }
+
+        IntArray sliceLengths = new IntArray(numSlices + 1);
+        IntStream.range(0, numSlices).parallel().forEach(slice -> {
+            int width = 0;
+            for (int lane = 0; lane < sliceSize; lane++) {
+                int row = permutation.get(slice * sliceSize + lane);
+                if (row != PADDING) {
+                    width = Math.max(width, matrix.getRowLength(row));
+                }
+            }
+            sliceLengths.set(slice, width * sliceSize);
+        });
+        long numElements = IntStream.range(0, numSlices).mapToLong(sliceLengths::get).sum();
+        if (numElements > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The matrix needs more than 2^31 elements in SELL-C-sigma format");
+        }
+        IntArray sliceOffsets = new IntArray(numSlices + 1);
+        HostPrimitives.exclusiveScan(sliceLengths, sliceOffsets);
+
+        IntArray rowOffsets = matrix.getRowOffsets();
+        IntArray columns = new IntArray((int) numElements);
+        FloatArray values = new FloatArray((int) numElements);
+        IntStream.range(0, numSlices).parallel().forEach(slice -> {
+            final int offset = sliceOffsets.get(slice);
+            final int width = sliceLengths.get(slice) / sliceSize;
+            for (int lane = 0; lane < sliceSize; lane++) {
+                final int row = permutation.get(slice * sliceSize + lane);
+                final int start = row == PADDING ? 0 : rowOffsets.get(row);
+                final int length = row == PADDING ? 0 : rowOffsets.get(row + 1) - start;
+                for (int k = 0; k < width; k++) {
+                    int index = offset + k * sliceSize + lane;
+                    if (k < length) {
+                        columns.set(index, matrix.getColumns().get(start + k));
+                        values.set(index, matrix.getValues().get(start + k));
+                    } else {
+                        columns.set(index, PADDING);
+                        values.set(index, 0.0f);
+                    }
+                }
+            }
+        });
+        return new SELLMatrixFloat(numRows, matrix.getNumColumns(), sliceSize, sortWindow, matrix.getNumNonZeros(), sliceOffsets, permutation, columns, values);
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    @Override
+    public int getNumNonZeros() {
+        return numNonZeros;
+    }
+
+    public int getSliceSize() {
+        return sliceSize;
+    }
+
+    public int getSortWindow() {
+        return sortWindow;
+    }
+
+    public int getNumSlices() {
+        return sliceOffsets.getSize() - 1;
+    }
+
+    public IntArray getSliceOffsets() {
+        return sliceOffsets;
+    }
+
+    public IntArray getPermutation() {
+        return permutation;
+    }
+
+    public IntArray getColumns() {
+        return columns;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    /**
+     * @return the number of padding elements relative to the number of
+     *     non-zero elements.
+     */
+    public double getPaddingRatio() {
+        return numNonZeros == 0 ? 0 : (double) (values.getSize() - numNonZeros) / numNonZeros;
+    }
+
+    private int getLength(int position) {
+        final int slice = position / sliceSize;
+        final int lane = position - slice * sliceSize;
+        final int width = (sliceOffsets.get(slice + 1) - sliceOffsets.get(slice)) / sliceSize;
+        int length = 0;
+        while (length < width && columns.get(sliceOffsets.get(slice) + length * sliceSize + lane) != PADDING) {
+            length++;
+        }
+        return length;
+    }
+
+    @Override
+    public void multiply(FloatArray x, FloatArray y) {
+        IntStream.range(0, permutation.getSize()).parallel().forEach(position -> {
+            final int row = permutation.get(position);
+            if (row == PADDING) {
+                return;
+            }
+            final int slice = position / sliceSize;
+            final int lane = position - slice * sliceSize;
+            final int offset = sliceOffsets.get(slice);
+            final int width = (sliceOffsets.get(slice + 1) - offset) / sliceSize;
+            float sum = 0.0f;
+            for (int k = 0; k < width; k++) {
+                int column = columns.get(offset + k * sliceSize + lane);
+                if (column != PADDING) {
+                    sum += values.get(offset + k * sliceSize + lane) * x.get(column);
+                }
+            }
+            y.set(row, sum);
+        });
+    }
+
+    @Override
+    public CSRMatrixFloat toCSR() {
+        IntArray lengths = new IntArray(numRows + 1);
+        IntStream.range(0, permutation.getSize()).parallel().forEach(position -> {
+            int row = permutation.get(position);
+            if (row != PADDING) {
+                lengths.set(row, getLength(position));
+            }
+        });
+        IntArray rowOffsets = new IntArray(numRows + 1);
+        HostPrimitives.exclusiveScan(lengths, rowOffsets);
+
+        IntArray csrColumns = new IntArray(rowOffsets.get(numRows));
+        FloatArray csrValues = new FloatArray(rowOffsets.get(numRows));
+        IntStream.range(0, permutation.getSize()).parallel().forEach(position -> {
+            final int row = permutation.get(position);
+            if (row == PADDING) {
+                return;
+            }
+            final int slice = position / sliceSize;
+            final int lane = position - slice * sliceSize;
+            final int start = rowOffsets.get(row);
+            for (int k = 0; k < lengths.get(row); k++) {
+                int index = sliceOffsets.get(slice) + k * sliceSize + lane;
+                csrColumns.set(start + k, columns.get(index));
+                csrValues.set(start + k, values.get(index));
+            }
+        });
+        return new CSRMatrixFloat(numRows, numColumns, rowOffsets, csrColumns, csrValues);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SELLMatrixFloat <%d x %d>, %d non-zeros, C=%d, sigma=%d, padding=%.2f", numRows, numColumns, numNonZeros, sliceSize, sortWindow, getPaddingRatio());
+    }
+}
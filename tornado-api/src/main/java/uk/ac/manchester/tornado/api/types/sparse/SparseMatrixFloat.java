@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Sparse matrix of floats. The formats differ in the layout of the non-zero
+ * elements, and each of them suits a different kind of matrix and kernel. All
+ * of them can be converted to and from {@link CSRMatrixFloat}, which is the
+ * format used to exchange matrices between the others.
+ *
+ * <p>
+ * The matrices are immutable: the conversions return a new matrix, and the
+ * arrays of the matrix should not be written after it is built.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public interface SparseMatrixFloat {
+
+    int getNumRows();
+
+    int getNumColumns();
+
+    /**
+     * @return the number of non-zero elements, without the padding of the
+     *     formats that have one.
+     */
+    int getNumNonZeros();
+
+    /**
+     * Computes <code>y = A * x</code> on the host, with the rows split between
+     * the threads of the common fork-join pool.
+     *
+     * @param x
+     *     Vector with <code>getNumColumns()</code> elements
+     * @param y
+     *     Vector with <code>getNumRows()</code> elements
+     */
+    void multiply(FloatArray x, FloatArray y);
+
+    CSRMatrixFloat toCSR();
+}
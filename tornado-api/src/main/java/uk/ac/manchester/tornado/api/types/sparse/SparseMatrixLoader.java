@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Loads sparse matrices from Matrix Market files and from a binary format.
+ *
+ * <p>
+ * The Matrix Market files are read in a single buffer, which is split in
+ * chunks of lines parsed in parallel. The entries go straight into native
+ * arrays, with an exclusive scan of the number of entries of each chunk to
+ * find where each chunk writes. Symmetric matrices are expanded with a
+ * compaction of the entries outside the diagonal, and the conversion to CSR
+ * sorts the coordinates with a radix sort. Only real, integer and pattern
+ * coordinate matrices are supported. The values of pattern matrices are 1.
+ * </p>
+ *
+ * <p>
+ * The binary format stores a matrix in CSR format: a header with a magic
+ * number, the number of rows, columns and non-zero elements, followed by the
+ * row offsets, columns and values, in the byte order of the machine that wrote
+ * the file. It is much faster to load than a Matrix Market file, and it can be
+ * used to cache the matrices converted from Matrix Market.
+ * </p>
+ *
+ * @since 1.1.2
+ */
+public final class SparseMatrixLoader {
+
+    private static final int BINARY_MAGIC = 0x43535246; // "CSRF"
+    private static final int BINARY_HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * Files smaller than this size are parsed by a single thread.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Powers of ten that are exact in double precision.
+     */
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private SparseMatrixLoader() {
+    }
+
+    public static COOMatrixFloat loadMatrixMarket(Path path) throws IOException {
+        return parseMatrixMarket(Files.readAllBytes(path));
+    }
+
+    public static COOMatrixFloat loadMatrixMarket(InputStream inputStream) throws IOException {
+        return parseMatrixMarket(inputStream.readAllBytes());
+    }
+
+    private static COOMatrixFloat parseMatrixMarket(byte[] buffer) throws IOException {
+        int position = 0;
+        int lineEnd = endOfLine(buffer, position);
+        String[] banner = new String(buffer, position, lineEnd - position, StandardCharsets.US_ASCII).trim().toLowerCase(Locale.ROOT).split("\\s+");
+        if (banner.length < 5 || !banner[0].equals("%%matrixmarket") || !banner[1].equals("matrix")) {
+            throw new IOException("The file is not a Matrix Market matrix");
+        }
+        if (!banner[2].equals("coordinate")) {
+            throw new IOException("Only sparse matrices in coordinate format are supported, found " + banner[2]);
+        }
+        final boolean pattern = banner[3].equals("pattern");
+        if (!pattern && !banner[3].equals("real") && !banner[3].equals("integer")) {
+            throw new IOException("Unsupported field type " + banner[3]);
+        }
+        final boolean symmetric = banner[4].equals("symmetric");
+        if (!symmetric && !banner[4].equals("general")) {
+            throw new IOException("Unsupported symmetry " + banner[4]);
+        }
+
+        // Skip the comments up to the line with the size of the matrix
+        String[] size;
+        do {
+            position = lineEnd + 1;
+            if (position >= buffer.length) {
+                throw new IOException("The Matrix Market file has no size line");
+            }
+            lineEnd = endOfLine(buffer, position);
+            size = new String(buffer, position, lineEnd - position, StandardCharsets.US_ASCII).trim().split("\\s+");
+        } while (size[0].isEmpty() || size[0].startsWith("%"));
+        final int numRows = Integer.parseInt(size[0]);
+        final int numColumns = Integer.parseInt(size[1]);
+        final int numEntries = Integer.parseInt(size[2]);
+
+        // Split the entries in chunks that start at the beginning of a line
+        final int start = Math.min(lineEnd + 1, buffer.length);
+        final int numChunks = Math.max(1, Math.min((buffer.length - start) / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD));
+        final int[] chunkStarts = new int[numChunks + 1];
+        chunkStarts[numChunks] = buffer.length;
+        for (int chunk = 0; chunk < numChunks; chunk++) {
+            int chunkStart = start + (int) ((long) (buffer.length - start) * chunk / numChunks);
+            chunkStarts[chunk] = chunk == 0 ? start : Math.min(endOfLine(buffer, chunkStart - 1) + 1, buffer.length);
+        }
+
+        IntArray counts = new IntArray(numChunks + 1);
+        IntStream.range(0, numChunks).parallel().forEach(chunk -> counts.set(chunk, countEntries(buffer, chunkStarts[chunk], chunkStarts[chunk + 1])));
+        IntArray offsets = new IntArray(numChunks + 1);
+        HostPrimitives.exclusiveScan(counts, offsets);
+        if (offsets.get(numChunks) != numEntries) {
+            throw new IOException("The Matrix Market file declares " + numEntries + " entries, found " + offsets.get(numChunks));
+        }
+
+        IntArray rows = new IntArray(numEntries);
+        IntArray columns = new IntArray(numEntries);
+        FloatArray values = new FloatArray(numEntries);
+        try {
+            IntStream.range(0, numChunks).parallel().forEach(chunk -> parseEntries(buffer, chunkStarts[chunk], chunkStarts[chunk + 1], offsets.get(chunk), pattern, rows, columns, values));
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed value in the Matrix Market file: " + e.getMessage(), e);
+        }
+        boolean outOfRange = IntStream.range(0, numEntries).parallel().anyMatch(i -> rows.get(i) < 0 || rows.get(i) >= numRows || columns.get(i) < 0 || columns.get(i) >= numColumns);
+        if (outOfRange) {
+            throw new IOException("The Matrix Market file has entries outside of the matrix");
+        }
+
+        COOMatrixFloat matrix = new COOMatrixFloat(numRows, numColumns, rows, columns, values);
+        return symmetric ? expandSymmetric(matrix) : matrix;
+    }
+
+    private static int endOfLine(byte[] buffer, int position) {
+        int i = position;
+        while (i < buffer.length && buffer[i] != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSpace(byte character) {
+        return character == ' ' || character == '\t' || character == '\r';
+    }
+
+    private static int skipSpaces(byte[] buffer, int position, int end) {
+        int i = position;
+        while (i < end && isSpace(buffer[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isEntry(byte[] buffer, int position, int lineEnd) {
+        int i = skipSpaces(buffer, position, lineEnd);
+        return i < lineEnd && buffer[i] != '%';
+    }
+
+    private static int countEntries(byte[] buffer, int start, int end) {
+        int count = 0;
+        int position = start;
+        while (position < end) {
+            int lineEnd = Math.min(endOfLine(buffer, position), end);
+            if (isEntry(buffer, position, lineEnd)) {
+                count++;
+            }
+            position = lineEnd + 1;
+        }
+        return count;
+    }
+
+    private static void parseEntries(byte[] buffer, int start, int end, int offset, boolean pattern, IntArray rows, IntArray columns, FloatArray values) {
+        int entry = offset;
+        int position = start;
+        while (position < end) {
+            int lineEnd = Math.min(endOfLine(buffer, position), end);
+            if (isEntry(buffer, position, lineEnd)) {
+                int i = skipSpaces(buffer, position, lineEnd);
+                int tokenEnd = endOfToken(buffer, i, lineEnd);
+                rows.set(entry, parseInt(buffer, i, tokenEnd) - 1);
+                i = skipSpaces(buffer, tokenEnd, lineEnd);
+                tokenEnd = endOfToken(buffer, i, lineEnd);
+                columns.set(entry, parseInt(buffer, i, tokenEnd) - 1);
+                if (pattern) {
+                    values.set(entry, 1.0f);
+                } else {
+                    i = skipSpaces(buffer, tokenEnd, lineEnd);
+                    tokenEnd = endOfToken(buffer, i, lineEnd);
+                    values.set(entry, parseFloat(buffer, i, tokenEnd));
+                }
+                entry++;
+            }
+            position = lineEnd + 1;
+        }
+    }
+
+    private static int endOfToken(byte[] buffer, int position, int end) {
+        int i = position;
+        while (i < end && !isSpace(buffer[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int parseInt(byte[] buffer, int start, int end) {
+        if (start == end) {
+            // Malformed lines give an index that is out of the matrix
+            return Integer.MIN_VALUE;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses a decimal number. Numbers with up to 15 significant digits and a
+     * small exponent are computed exactly in double precision, and the others
+     * fall back to {@link Float#parseFloat(String)}.
+     */
+    private static float parseFloat(byte[] buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int numDigits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte character = buffer[i];
+            if (character >= '0' && character <= '9') {
+                if (mantissa != 0 || character != '0') {
+                    numDigits++;
+                }
+                mantissa = mantissa * 10 + (character - '0');
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (character == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+                negativeExponent = buffer[i] == '-';
+                i++;
+            }
+            int value = 0;
+            for (; i < end && buffer[i] >= '0' && buffer[i] <= '9' && value < 10000; i++) {
+                value = value * 10 + (buffer[i] - '0');
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i != end || numDigits > 15 || exponent < -22 || exponent > 22) {
+            return Float.parseFloat(new String(buffer, start, end - start, StandardCharsets.US_ASCII));
+        }
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return (float) (negative ? -value : value);
+    }
+
+    /**
+     * Adds the transposed entries outside of the diagonal, which are not
+     * stored in the files of symmetric matrices.
+     */
+    private static COOMatrixFloat expandSymmetric(COOMatrixFloat matrix) {
+        final int numEntries = matrix.getNumNonZeros();
+        IntArray rows = matrix.getRows();
+        IntArray columns = matrix.getColumns();
+        FloatArray values = matrix.getValues();
+        IntArray offDiagonal = new IntArray(numEntries);
+        IntStream.range(0, numEntries).parallel().forEach(i -> offDiagonal.set(i, rows.get(i) != columns.get(i) ? 1 : 0));
+
+        IntArray transposedRows = new IntArray(numEntries);
+        IntArray transposedColumns = new IntArray(numEntries);
+        FloatArray transposedValues = new FloatArray(numEntries);
+        final int numTransposed = HostPrimitives.compact(columns, offDiagonal, transposedRows);
+        HostPrimitives.compact(rows, offDiagonal, transposedColumns);
+        HostPrimitives.compact(values, offDiagonal, transposedValues);
+
+        return new COOMatrixFloat(matrix.getNumRows(), matrix.getNumColumns(), //
+                IntArray.concat(rows, transposedRows.slice(0, numTransposed)), //
+                IntArray.concat(columns, transposedColumns.slice(0, numTransposed)), //
+                FloatArray.concat(values, transposedValues.slice(0, numTransposed)));
+    }
+
+    /**
+     * Loads a matrix written with {@link #saveBinary(CSRMatrixFloat, Path)}.
+     * The file is mapped in memory and copied into the arrays of the matrix.
+     */
+    public static CSRMatrixFloat loadBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ); Arena arena = Arena.ofConfined()) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (file.byteSize() < BINARY_HEADER_SIZE || file.get(ValueLayout.JAVA_INT_UNALIGNED, 0) != BINARY_MAGIC) {
+                throw new IOException("The file is not a binary sparse matrix, or it was written with a different byte order");
+            }
+            final int numRows = file.get(ValueLayout.JAVA_INT_UNALIGNED, Integer.BYTES);
+            final int numColumns = file.get(ValueLayout.JAVA_INT_UNALIGNED, 2L * Integer.BYTES);
+            final int numNonZeros = file.get(ValueLayout.JAVA_INT_UNALIGNED, 3L * Integer.BYTES);
+            final long rowOffsetsSize = (numRows + 1L) * Integer.BYTES;
+            final long columnsSize = (long) numNonZeros * Integer.BYTES;
+            final long valuesSize = (long) numNonZeros * Float.BYTES;
+            if (file.byteSize() != BINARY_HEADER_SIZE + rowOffsetsSize + columnsSize + valuesSize) {
+                throw new IOException("The size of the binary sparse matrix does not match its header");
+            }
+            long offset = BINARY_HEADER_SIZE;
+            IntArray rowOffsets = IntArray.fromSegment(file.asSlice(offset, rowOffsetsSize));
+            offset += rowOffsetsSize;
+            IntArray columns = IntArray.fromSegment(file.asSlice(offset, columnsSize));
+            offset += columnsSize;
+            FloatArray values = FloatArray.fromSegment(file.asSlice(offset, valuesSize));
+            return new CSRMatrixFloat(numRows, numColumns, rowOffsets, columns, values);
+        }
+    }
+
+    public static void saveBinary(CSRMatrixFloat matrix, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_SIZE).order(ByteOrder.nativeOrder());
+        header.putInt(BINARY_MAGIC).putInt(matrix.getNumRows()).putInt(matrix.getNumColumns()).putInt(matrix.getNumNonZeros()).flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ByteBuffer buffer : new ByteBuffer[] { header, matrix.getRowOffsets().getSegment().asByteBuffer(), matrix.getColumns().getSegment().asByteBuffer(),
+                    matrix.getValues().getSegment().asByteBuffer() }) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ package uk.ac.manchester.tornado.api.types.tensors;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 
@@ -82,6 +83,112 @@ public final class TensorFP16 extends Tensor {
         return new HalfFloat(halfFloatValue);
     }
 
+    /**
+     * Gets the value stored at the specified index as a 32-bit float, without
+     * creating a {@link HalfFloat} object.
+     *
+     * @param index
+     *     The index of which to retrieve the value.
+     * @return The value converted to float.
+     * @since 1.1.2
+     */
+    public float getFloat(int index) {
+        return tensorStorage.getFloat(index);
+    }
+
+    /**
+     * Converts a 32-bit float to half float and stores it at the specified index,
+     * without creating a {@link HalfFloat} object.
+     *
+     * @param index
+     *     The index at which to set the value.
+     * @param value
+     *     The float value to store.
+     * @since 1.1.2
+     */
+    public void setFloat(int index, float value) {
+        tensorStorage.setFloat(index, value);
+    }
+
+    /**
+     * Gets the binary representation (IEEE 754 binary16) of the half float stored
+     * at the specified index.
+     *
+     * @param index
+     *     The index of which to retrieve the value.
+     * @return The half float bits.
+     * @since 1.1.2
+     */
+    public short getRaw(int index) {
+        return tensorStorage.getRaw(index);
+    }
+
+    /**
+     * Stores the binary representation (IEEE 754 binary16) of a half float at
+     * the specified index.
+     *
+     * @param index
+     *     The index at which to set the value.
+     * @param value
+     *     The half float bits.
+     * @since 1.1.2
+     */
+    public void setRaw(int index, short value) {
+        tensorStorage.setRaw(index, value);
+    }
+
+    /**
+     * Converts the values of an on-heap float array to half floats and stores
+     * them in the tensor, in row-major order. The array must have as many
+     * elements as the tensor.
+     *
+     * @param values
+     *     The on-heap float array.
+     * @since 1.1.2
+     */
+    public void setFloats(float[] values) {
+        if (values.length != numberOfElements) {
+            throw new IllegalArgumentException("Size mismatch: " + values.length + " elements, expected " + numberOfElements);
+        }
+        tensorStorage.setFloats(0, values, 0, values.length);
+    }
+
+    /**
+     * Converts the values of a {@link FloatArray} to half floats and stores them
+     * in the tensor, in row-major order. The array must have as many elements
+     * as the tensor.
+     *
+     * @param values
+     *     The {@link FloatArray}.
+     * @since 1.1.2
+     */
+    public void setFloats(FloatArray values) {
+        tensorStorage.setFloats(values);
+    }
+
+    /**
+     * Converts the values of the tensor to floats and stores them in a
+     * {@link FloatArray}. The array must have as many elements as the tensor.
+     *
+     * @param values
+     *     The destination {@link FloatArray}.
+     * @since 1.1.2
+     */
+    public void getFloats(FloatArray values) {
+        tensorStorage.getFloats(values);
+    }
+
+    /**
+     * Converts the values of the tensor to a new on-heap float array, in
+     * row-major order.
+     *
+     * @return A new on-heap float array.
+     * @since 1.1.2
+     */
+    public float[] toFloatArray() {
+        return tensorStorage.toFloatArray();
+    }
+
     @Override
     public int getSize() {
         return numberOfElements;
@@ -109,7 +216,7 @@ public final class TensorFP16 extends Tensor {
 
     @Override
     protected void clear() {
-        init(new HalfFloat(0));
+        tensorStorage.clear();
     }
 
     @Override
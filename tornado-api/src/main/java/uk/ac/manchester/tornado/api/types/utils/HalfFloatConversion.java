@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.utils;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Bulk conversion between 32-bit floats and half floats (float-16) stored in
+ * off-heap memory.
+ *
+ * <p>
+ * The values are converted in chunks, with counted loops over on-heap arrays
+ * that the JIT compiler vectorises with the float-16 conversion instructions of
+ * the CPU (e.g., F16C or AVX-512 on x86, FCVT on AArch64). The chunks are then
+ * copied in bulk to or from the off-heap memory. The chunk buffers are
+ * allocated once per thread and reused by all the calls, so a bulk conversion
+ * does not allocate. The conversion uses
+ * {@link Float#floatToFloat16} and {@link Float#float16ToFloat}, so the results
+ * are identical to the conversion of each element with
+ * {@link uk.ac.manchester.tornado.api.types.HalfFloat}.
+ * </p>
+ */
+public final class HalfFloatConversion {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final ThreadLocal<Chunks> CHUNKS = ThreadLocal.withInitial(Chunks::new);
+
+    private HalfFloatConversion() {
+    }
+
+    /**
+     * Scratch buffers of a thread for the conversion of a chunk.
+     */
+    private static final class Chunks {
+        private final short[] halfs = new short[CHUNK_SIZE];
+        private final float[] floats = new float[CHUNK_SIZE];
+    }
+
+    /**
+     * Converts {@code length} floats from an on-heap array into half floats stored
+     * in a memory segment.
+     *
+     * @param src
+     *     Source array.
+     * @param srcOffset
+     *     Index of the first element to convert in the source array.
+     * @param dst
+     *     Destination segment.
+     * @param dstByteOffset
+     *     Offset, in bytes, of the first half float in the destination segment.
+     * @param length
+     *     Number of elements to convert.
+     */
+    public static void floatToHalf(float[] src, int srcOffset, MemorySegment dst, long dstByteOffset, int length) {
+        short[] chunk = CHUNKS.get().halfs;
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            floatToHalf(src, srcOffset + start, chunk, size);
+            MemorySegment.copy(chunk, 0, dst, JAVA_SHORT, dstByteOffset + (long) start * Short.BYTES, size);
+        }
+    }
+
+    /**
+     * Converts {@code length} floats stored in a memory segment into half floats
+     * stored in another memory segment.
+     *
+     * @param src
+     *     Source segment.
+     * @param srcByteOffset
+     *     Offset, in bytes, of the first float in the source segment.
+     * @param dst
+     *     Destination segment.
+     * @param dstByteOffset
+     *     Offset, in bytes, of the first half float in the destination segment.
+     * @param length
+     *     Number of elements to convert.
+     */
+    public static void floatToHalf(MemorySegment src, long srcByteOffset, MemorySegment dst, long dstByteOffset, int length) {
+        Chunks chunks = CHUNKS.get();
+        float[] floats = chunks.floats;
+        short[] chunk = chunks.halfs;
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            MemorySegment.copy(src, JAVA_FLOAT, srcByteOffset + (long) start * Float.BYTES, floats, 0, size);
+            floatToHalf(floats, 0, chunk, size);
+            MemorySegment.copy(chunk, 0, dst, JAVA_SHORT, dstByteOffset + (long) start * Short.BYTES, size);
+        }
+    }
+
+    /**
+     * Converts {@code length} half floats stored in a memory segment into floats
+     * stored in an on-heap array.
+     *
+     * @param src
+     *     Source segment.
+     * @param srcByteOffset
+     *     Offset, in bytes, of the first half float in the source segment.
+     * @param dst
+     *     Destination array.
+     * @param dstOffset
+     *     Index of the first element to write in the destination array.
+     * @param length
+     *     Number of elements to convert.
+     */
+    public static void halfToFloat(MemorySegment src, long srcByteOffset, float[] dst, int dstOffset, int length) {
+        short[] chunk = CHUNKS.get().halfs;
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            MemorySegment.copy(src, JAVA_SHORT, srcByteOffset + (long) start * Short.BYTES, chunk, 0, size);
+            halfToFloat(chunk, dst, dstOffset + start, size);
+        }
+    }
+
+    /**
+     * Converts {@code length} half floats stored in a memory segment into floats
+     * stored in another memory segment.
+     *
+     * @param src
+     *     Source segment.
+     * @param srcByteOffset
+     *     Offset, in bytes, of the first half float in the source segment.
+     * @param dst
+     *     Destination segment.
+     * @param dstByteOffset
+     *     Offset, in bytes, of the first float in the destination segment.
+     * @param length
+     *     Number of elements to convert.
+     */
+    public static void halfToFloat(MemorySegment src, long srcByteOffset, MemorySegment dst, long dstByteOffset, int length) {
+        Chunks chunks = CHUNKS.get();
+        short[] chunk = chunks.halfs;
+        float[] floats = chunks.floats;
+        for (int start = 0; start < length; start += chunk.length) {
+            int size = Math.min(chunk.length, length - start);
+            MemorySegment.copy(src, JAVA_SHORT, srcByteOffset + (long) start * Short.BYTES, chunk, 0, size);
+            halfToFloat(chunk, floats, 0, size);
+            MemorySegment.copy(floats, 0, dst, JAVA_FLOAT, dstByteOffset + (long) start * Float.BYTES, size);
+        }
+    }
+
+    // The loops below are kept simple, so they are vectorised by the JIT compiler
+
+    private static void floatToHalf(float[] src, int srcOffset, short[] dst, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[i] = Float.floatToFloat16(src[srcOffset + i]);
+        }
+    }
+
+    private static void halfToFloat(short[] src, float[] dst, int dstOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = Float.float16ToFloat(src[i]);
+        }
+    }
+}
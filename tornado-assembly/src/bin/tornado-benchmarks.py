@@ -73,6 +73,8 @@ __DISABLE_LEVEL_ZERO_DEFAULT_SCHEDULER__ = (
     " -Dtornado.spirv.levelzero.thread.dispatcher=False "
 )
 __ENABLE_SPIRV_OPTIMIZER__ = " -Dtornado.spirv.loadstore=True "
+__VIRTUAL_DEVICE__ = " -Dtornado.virtual.device=True -Dtornado.device.desc=" + os.path.join(os.environ.get("TORNADO_SDK", ""), "etc", "virtual-device-template.json") + " "
+__JMH_OVERHEAD__ = "uk.ac.manchester.tornado.benchmarks.overhead.JMHRuntimeOverhead"
 ## ========================================================================================
 
 ## ========================================================================================
@@ -303,6 +305,18 @@ def runWithJMH(args):
     os.system(command)
 
 
+def runOverheadWithJMH(args):
+    jvm_options, tornado_options = composeAllOptions(args)
+    jvm_options = jvm_options + __VIRTUAL_DEVICE__
+    if args.jmh_overhead_result:
+        jvm_options = jvm_options + " -Dtornado.benchmarks.overhead.result=" + args.jmh_overhead_result + " "
+    print(Colors.CYAN + "[INFO] TornadoVM options: " + tornado_options +
+          jvm_options + Colors.RESET)
+    command = __TORNADO_COMMAND__ + tornado_options + '--jvm="' + jvm_options + '" -m tornado.benchmarks/' + __JMH_OVERHEAD__
+    print(command)
+    os.system(command)
+
+
 def runDefaultSizePerBenchmark(args):
     if args.benchmark and args.benchmark not in allSizes:
         print(f"Error: '{args.benchmark}' does not match a valid key in allSizes. Please provide a valid benchmark.")
@@ -407,6 +421,20 @@ def parseArguments():
     parser.add_argument(
         "--jmh", action="store_true", dest="jmh", default=False, help="Run with JMH"
     )
+    parser.add_argument(
+        "--jmhOverhead",
+        action="store_true",
+        dest="jmh_overhead",
+        default=False,
+        help="Run the JMH benchmarks for the host-side overheads of TornadoVM on the virtual device",
+    )
+    parser.add_argument(
+        "--jmhOverheadResult",
+        action="store",
+        dest="jmh_overhead_result",
+        default=None,
+        help="JSON file to store the results of --jmhOverhead (default: jmh-overhead.json)",
+    )
     parser.add_argument(
         "--jvm",
         "-J",
@@ -486,6 +514,9 @@ def main():
     elif args.jmh:
         print("[INFO] Running default size with JMH")
         runWithJMH(args)
+    elif args.jmh_overhead:
+        print("[INFO] Running host-side overhead benchmarks with JMH")
+        runOverheadWithJMH(args)
     elif args.properties:
         printProperties()
     else:
@@ -22,6 +22,8 @@ module tornado.benchmarks {
 
     requires transitive tornado.api;
     requires transitive tornado.matrices;
+    requires tornado.kernels;
+    requires tornado.runtime;
 
     exports uk.ac.manchester.tornado.benchmarks;
     exports uk.ac.manchester.tornado.benchmarks.addImage;
@@ -35,9 +37,13 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.dotvector;
     exports uk.ac.manchester.tornado.benchmarks.euler;
     exports uk.ac.manchester.tornado.benchmarks.hilbert;
+    exports uk.ac.manchester.tornado.benchmarks.hostmatrix;
     exports uk.ac.manchester.tornado.benchmarks.mandelbrot;
     exports uk.ac.manchester.tornado.benchmarks.montecarlo;
     exports uk.ac.manchester.tornado.benchmarks.nbody;
+    exports uk.ac.manchester.tornado.benchmarks.overhead;
+    exports uk.ac.manchester.tornado.benchmarks.primitives;
+    exports uk.ac.manchester.tornado.benchmarks.resizeimage;
     exports uk.ac.manchester.tornado.benchmarks.rotateimage;
     exports uk.ac.manchester.tornado.benchmarks.rotatevector;
     exports uk.ac.manchester.tornado.benchmarks.saxpy;
@@ -45,4 +51,5 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.sgemv;
     exports uk.ac.manchester.tornado.benchmarks.spmv;
     exports uk.ac.manchester.tornado.benchmarks.stencil;
+    exports uk.ac.manchester.tornado.benchmarks.transformer;
 }
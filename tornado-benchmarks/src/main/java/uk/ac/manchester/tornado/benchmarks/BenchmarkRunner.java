@@ -269,7 +269,9 @@ public abstract class BenchmarkRunner {
             case "mandelbrot" -> new uk.ac.manchester.tornado.benchmarks.mandelbrot.Benchmark();
             case "montecarlo" -> new uk.ac.manchester.tornado.benchmarks.montecarlo.Benchmark();
             case "nbody" -> new uk.ac.manchester.tornado.benchmarks.nbody.Benchmark();
+            case "primitives" -> new uk.ac.manchester.tornado.benchmarks.primitives.Benchmark();
             case "rendertrack" -> new uk.ac.manchester.tornado.benchmarks.renderTrack.Benchmark();
+            case "resizeimage" -> new uk.ac.manchester.tornado.benchmarks.resizeimage.Benchmark();
             case "rotateimage" -> new uk.ac.manchester.tornado.benchmarks.rotateimage.Benchmark();
             case "rotatevector" -> new uk.ac.manchester.tornado.benchmarks.rotatevector.Benchmark();
             case "saxpy" -> new uk.ac.manchester.tornado.benchmarks.saxpy.Benchmark();
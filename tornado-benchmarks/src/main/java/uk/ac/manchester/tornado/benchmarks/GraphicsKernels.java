@@ -28,6 +28,7 @@ import uk.ac.manchester.tornado.api.types.collections.VectorFloat3;
 import uk.ac.manchester.tornado.api.types.images.ImageFloat;
 import uk.ac.manchester.tornado.api.types.images.ImageFloat3;
 import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.api.types.images.ImageSampler;
 import uk.ac.manchester.tornado.api.types.matrix.Matrix4x4Float;
 import uk.ac.manchester.tornado.api.types.vectors.Float3;
 
@@ -42,6 +43,9 @@ public final class GraphicsKernels {
     private static final float MOVE_X = 0;
     private static final float MOVE_Y = 0;
 
+    // Bilinear sampler of resizeImage. It is a constant, so the OpenCL backend can read the input through an image
+    private static final int RESIZE_SAMPLER = ImageSampler.NORMALIZED_COORDS | ImageSampler.ADDRESS_CLAMP_TO_EDGE | ImageSampler.FILTER_LINEAR;
+
     public static void rotateVector(VectorFloat3 output, Matrix4x4Float m, VectorFloat3 input) {
         for (@Parallel int i = 0; i < output.getLength(); i++) {
             final Float3 x = input.get(i);
@@ -78,6 +82,26 @@ public final class GraphicsKernels {
         });
     }
 
+    public static void resizeImage(ImageFloat4 output, ImageFloat4 input) {
+        for (@Parallel int i = 0; i < output.Y(); i++) {
+            for (@Parallel int j = 0; j < output.X(); j++) {
+                final float u = (j + 0.5f) / output.X();
+                final float v = (i + 0.5f) / output.Y();
+                output.set(j, i, input.read(RESIZE_SAMPLER, u, v));
+            }
+        }
+    }
+
+    public static void resizeImageStreams(ImageFloat4 output, ImageFloat4 input) {
+        IntStream.range(0, output.X() * output.Y()).parallel().forEach((int index) -> {
+            final int j = index % output.X();
+            final int i = index / output.X();
+            final float u = (j + 0.5f) / output.X();
+            final float v = (i + 0.5f) / output.Y();
+            output.set(j, i, input.read(RESIZE_SAMPLER, u, v));
+        });
+    }
+
     public static void dotImage(ImageFloat3 A, ImageFloat3 B, ImageFloat C) {
         for (@Parallel int i = 0; i < C.Y(); i++) {
             for (@Parallel int j = 0; j < C.X(); j++) {
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.hostmatrix;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.collections.VectorFloat;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+
+/**
+ * Host implementations of the operations of {@link Matrix2DFloat} (blocked,
+ * vectorised by the JIT compiler and parallel for large matrices) compared
+ * with the element-by-element loops over {@code get} and {@code set} that they
+ * replace. This benchmark does not use any device.
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.hostmatrix.JMHHostMatrixOperations
+ * </code>
+ */
+public class JMHHostMatrixOperations {
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "256", "1024" })
+        private int size;
+
+        private Matrix2DFloat a;
+        private Matrix2DFloat b;
+        private Matrix2DFloat c;
+        private Matrix2DFloat rectangular;
+        private Matrix2DFloat rectangularTransposed;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            Random random = new Random(7);
+            a = new Matrix2DFloat(size, size);
+            b = new Matrix2DFloat(size, size);
+            c = new Matrix2DFloat(size, size);
+            rectangular = new Matrix2DFloat(size, size / 2);
+            rectangularTransposed = new Matrix2DFloat(size / 2, size);
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    a.set(i, j, random.nextFloat());
+                    b.set(i, j, random.nextFloat());
+                }
+                for (int j = 0; j < size / 2; j++) {
+                    rectangular.set(i, j, random.nextFloat());
+                }
+            }
+        }
+    }
+
+    // Loops of the previous implementation, used as the baseline
+
+    private static void naiveMultiply(Matrix2DFloat c, Matrix2DFloat a, Matrix2DFloat b) {
+        for (int row = 0; row < c.getNumRows(); row++) {
+            for (int col = 0; col < c.getNumColumns(); col++) {
+                float sum = 0f;
+                for (int k = 0; k < b.getNumRows(); k++) {
+                    sum += a.get(row, k) * b.get(k, col);
+                }
+                c.set(row, col, sum);
+            }
+        }
+    }
+
+    private static void naiveTranspose(Matrix2DFloat matrix) {
+        for (int i = 0; i < matrix.getNumRows(); i++) {
+            for (int j = 0; j < i; j++) {
+                final float tmp = matrix.get(i, j);
+                matrix.set(i, j, matrix.get(j, i));
+                matrix.set(j, i, tmp);
+            }
+        }
+    }
+
+    private static void naiveTranspose(Matrix2DFloat src, Matrix2DFloat dst) {
+        for (int i = 0; i < src.getNumRows(); i++) {
+            for (int j = 0; j < src.getNumColumns(); j++) {
+                dst.set(j, i, src.get(i, j));
+            }
+        }
+    }
+
+    private static void naiveScale(Matrix2DFloat matrix, float value) {
+        for (int i = 0; i < matrix.getNumRows(); i++) {
+            for (int j = 0; j < matrix.getNumColumns(); j++) {
+                matrix.set(i, j, matrix.get(i, j) * value);
+            }
+        }
+    }
+
+    private static VectorFloat naiveRow(Matrix2DFloat matrix, int row) {
+        FloatArray f = new FloatArray(matrix.getNumColumns());
+        for (int j = 0; j < matrix.getNumColumns(); j++) {
+            f.set(j, matrix.get(row, j));
+        }
+        return new VectorFloat(matrix.getNumColumns(), f);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void multiplyLoops(BenchmarkSetup state) {
+        naiveMultiply(state.c, state.a, state.b);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void multiply(BenchmarkSetup state) {
+        state.c.multiply(state.a, state.b);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void transposeLoops(BenchmarkSetup state) {
+        naiveTranspose(state.a);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void transpose(BenchmarkSetup state) {
+        Matrix2DFloat.transpose(state.a);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void transposeRectangularLoops(BenchmarkSetup state) {
+        naiveTranspose(state.rectangular, state.rectangularTransposed);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void transposeRectangular(BenchmarkSetup state) {
+        Matrix2DFloat.transpose(state.rectangular, state.rectangularTransposed);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void scaleLoops(BenchmarkSetup state) {
+        naiveScale(state.b, 1.0f);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void scale(BenchmarkSetup state) {
+        Matrix2DFloat.scale(state.b, 1.0f);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void rowLoops(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(naiveRow(state.a, state.size / 2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void row(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.a.row(state.size / 2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void rowSegment(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.a.rowSegment(state.size / 2));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHHostMatrixOperations.class.getName() + ".*") //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.overhead;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Host-side costs of synthetic task-graphs with many tasks, as the ones
+ * generated for pipelines of operators. The tasks form a chain (each task reads
+ * the output of the previous one) and a fan-in (all tasks update the same
+ * array), so the TornadoGraph has a long chain of dependencies and a large
+ * table of constants.
+ *
+ * <ul>
+ * <li>{@code snapshot}: building the {@code TaskGraph} and taking its snapshot,
+ * which registers the tasks and their arguments in the execution context.</li>
+ * <li>{@code compile}: {@code withPreCompilation} of a new task-graph:
+ * {@code TornadoGraphBuilder}, the TornadoVM byte-code generation and the
+ * compilation of each task. The cost of the graph over the cost of the tasks is
+ * the growth per task when the number of tasks increases.</li>
+ * </ul>
+ *
+ * <p>
+ * The benchmarks are meant to run with the virtual device
+ * ({@code tornado.virtual.device}), so they do not need any hardware.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=$TORNADO_SDK/etc/virtual-device-template.json" -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.overhead.JMHLargeTaskGraphs
+ * </code>
+ */
+public class JMHLargeTaskGraphs {
+
+    private static final AtomicInteger GRAPH_ID = new AtomicInteger(0);
+
+    private static final int SIZE = 256;
+
+    public enum Shape {
+        CHAIN, FAN_IN
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "64", "256", "512" })
+        private int numTasks;
+
+        @Param({ "CHAIN", "FAN_IN" })
+        private Shape shape;
+
+        @Param({ "0:0" })
+        private String device;
+
+        private FloatArray[] arrays;
+        private TornadoDevice tornadoDevice;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            String[] indices = device.split(":");
+            tornadoDevice = TornadoExecutionPlan.getDevice(Integer.parseInt(indices[0]), Integer.parseInt(indices[1]));
+            arrays = new FloatArray[numTasks + 1];
+            for (int i = 0; i < arrays.length; i++) {
+                arrays[i] = new FloatArray(SIZE);
+            }
+        }
+    }
+
+    public static void increment(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            output.set(i, input.get(i) + 1.0f);
+        }
+    }
+
+    public static void accumulate(FloatArray array, float value) {
+        for (@Parallel int i = 0; i < array.getSize(); i++) {
+            array.set(i, array.get(i) + value);
+        }
+    }
+
+    private static TaskGraph buildTaskGraph(BenchmarkSetup state, String name) {
+        FloatArray[] arrays = state.arrays;
+        TaskGraph taskGraph = new TaskGraph(name) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrays[0]);
+        for (int i = 0; i < state.numTasks; i++) {
+            if (state.shape == Shape.CHAIN) {
+                taskGraph.task("t" + i, JMHLargeTaskGraphs::increment, arrays[i], arrays[i + 1]);
+            } else {
+                taskGraph.task("t" + i, JMHLargeTaskGraphs::accumulate, arrays[0], (float) i);
+            }
+        }
+        return taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, state.shape == Shape.CHAIN ? arrays[state.numTasks] : arrays[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public ImmutableTaskGraph snapshot(BenchmarkSetup state) {
+        return buildTaskGraph(state, "snapshot").snapshot();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(1)
+    public void compile(BenchmarkSetup state, Blackhole blackhole) throws TornadoExecutionPlanException {
+        // A new task-graph name per invocation, so the code cache of the device is not hit
+        ImmutableTaskGraph immutableTaskGraph = buildTaskGraph(state, "large" + GRAPH_ID.getAndIncrement()).snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph).withDevice(state.tornadoDevice)) {
+            executionPlan.withPreCompilation();
+            blackhole.consume(executionPlan);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        // JMH options given in the command line (e.g. -p numTasks=1024) are also applied
+        Options opt = new OptionsBuilder() //
+                .parent(new CommandLineOptions(args)) //
+                .include(JMHLargeTaskGraphs.class.getName() + ".*") //
+                .resultFormat(ResultFormatType.JSON) //
+                .result(System.getProperty("tornado.benchmarks.overhead.result", "jmh-large-task-graphs.json")) //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.overhead;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.benchmarks.overhead.OverheadKernels.Data;
+import uk.ac.manchester.tornado.benchmarks.overhead.OverheadKernels.Kernel;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
+
+/**
+ * Host-side costs of TornadoVM: everything the runtime does on the CPU before
+ * and around a kernel launch. The benchmarks are meant to run with the virtual
+ * device ({@code tornado.virtual.device}), so they do not need any hardware
+ * and the kernels are never launched.
+ *
+ * <ul>
+ * <li>{@code snapshot}: building a {@code TaskGraph} and taking its snapshot
+ * (task-graph API and high-level byte-code).</li>
+ * <li>{@code compile}: {@code withPreCompilation} of a new task-graph, with the
+ * sketches already built: {@code TornadoGraphBuilder}, the TornadoVM byte-code
+ * generation and the high, mid and low tiers of the backend, including the
+ * driver install.</li>
+ * <li>{@code coldCompile}: the same compilation as the first one in a new JVM.
+ * The difference with {@code compile} is the cost of the sketcher and of the
+ * class loading and initialization of the compiler.</li>
+ * <li>{@code dispatch}: a call to {@code execute} of a precompiled execution
+ * plan, which runs the TornadoVM interpreter.</li>
+ * <li>{@code dispatchLivePlans}: the same as {@code dispatch} for a set of
+ * execution plans that are alive at the same time.</li>
+ * </ul>
+ *
+ * <p>
+ * The compilation and dispatch benchmarks also report the time of each stage
+ * of the runtime per operation, in microseconds, as secondary results (e.g.
+ * {@code compile:highTierUs}):
+ * </p>
+ *
+ * <ul>
+ * <li>{@code graphBuilderUs}: {@code TornadoGraphBuilder}, from the high-level
+ * byte-code of the task-graph to the {@code TornadoGraph}.</li>
+ * <li>{@code bytecodeGenerationUs}: {@code TornadoVMGraphCompiler}, from the
+ * {@code TornadoGraph} to the TornadoVM byte-code.</li>
+ * <li>{@code sketcherUs}: the graph builder suite and the sketch tier of each
+ * method. The sketches are cached per method, so it is only non-zero in
+ * {@code coldCompile}.</li>
+ * <li>{@code highTierUs}, {@code midTierUs} and {@code lowTierUs}: the Graal
+ * tiers of the backend for each task.</li>
+ * <li>{@code interpreterUs}: the TornadoVM interpreter, that is, the dispatch
+ * of the byte-code, including the driver calls it makes.</li>
+ * </ul>
+ *
+ * <p>
+ * The GC profiler of JMH is enabled, so the results include the bytes
+ * allocated per operation ({@code gc.alloc.rate.norm}) in addition to the
+ * latency.
+ * </p>
+ *
+ * <p>
+ * The device is selected with the {@code device} parameter
+ * ({@code backendIndex:deviceIndex}), so the OpenCL, PTX and SPIR-V backends
+ * can be compared when the hardware is available (e.g.
+ * {@code -p device=0:0,1:0}). The virtual device is only provided by the OpenCL
+ * backend. With a physical device, {@code dispatch} also includes the data
+ * transfers and the kernel execution.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=$TORNADO_SDK/etc/virtual-device-template.json" -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.overhead.JMHRuntimeOverhead
+ * </code>
+ *
+ * <p>
+ * The results are stored in JSON format in the file given by the
+ * {@code tornado.benchmarks.overhead.result} property (default
+ * {@code jmh-overhead.json}), which can be kept as a baseline to track
+ * regressions.
+ * </p>
+ */
+public class JMHRuntimeOverhead {
+
+    private static final AtomicInteger GRAPH_ID = new AtomicInteger(0);
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "MATVEC", "REDUCTION", "KERNEL_CONTEXT", "HALF_FLOAT" })
+        private Kernel kernel;
+
+        @Param({ "0:0" })
+        private String device;
+
+        private Data data;
+        private TornadoDevice tornadoDevice;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            String[] indices = device.split(":");
+            tornadoDevice = TornadoExecutionPlan.getDevice(Integer.parseInt(indices[0]), Integer.parseInt(indices[1]));
+            data = new Data();
+        }
+    }
+
+    /**
+     * Precompiled execution plan for the dispatch benchmark. It is a separate
+     * state, so the compilation benchmarks do not build the sketches during the
+     * setup.
+     */
+    @State(Scope.Thread)
+    public static class DispatchSetup {
+
+        private TornadoExecutionPlan executionPlan;
+
+        @Setup(Level.Trial)
+        public void doSetup(BenchmarkSetup state) {
+            executionPlan = newExecutionPlan(state, "dispatch");
+            executionPlan.withPreCompilation();
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws TornadoExecutionPlanException {
+            executionPlan.close();
+        }
+    }
+
+    /**
+     * Many execution plans alive at the same time, as in applications that
+     * keep one plan per layer or per operator. Each call dispatches all plans
+     * once, so the per-plan state of the interpreter (e.g., the event lists)
+     * does not fit in the CPU caches.
+     */
+    @State(Scope.Thread)
+    public static class LivePlansSetup {
+
+        @Param({ "256" })
+        private int livePlans;
+
+        private TornadoExecutionPlan[] executionPlans;
+
+        @Setup(Level.Trial)
+        public void doSetup(BenchmarkSetup state) {
+            executionPlans = new TornadoExecutionPlan[livePlans];
+            for (int i = 0; i < livePlans; i++) {
+                executionPlans[i] = newExecutionPlan(state, "live" + i);
+                executionPlans[i].withPreCompilation();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws TornadoExecutionPlanException {
+            for (TornadoExecutionPlan executionPlan : executionPlans) {
+                executionPlan.close();
+            }
+        }
+    }
+
+    /**
+     * Time of each stage of the runtime, read from {@link RuntimeStageTimers}
+     * after every operation and reported by JMH as the mean per operation of the
+     * iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StageTimes {
+
+        public double graphBuilderUs;
+        public double bytecodeGenerationUs;
+        public double sketcherUs;
+        public double highTierUs;
+        public double midTierUs;
+        public double lowTierUs;
+        public double interpreterUs;
+
+        private final long[] totals = new long[Stage.values().length];
+        private long operations;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            RuntimeStageTimers.setEnabled(true);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            // Drop the time of the setups and of the previous iteration
+            for (Stage stage : Stage.values()) {
+                RuntimeStageTimers.drain(stage);
+            }
+            Arrays.fill(totals, 0);
+            operations = 0;
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            RuntimeStageTimers.setEnabled(false);
+        }
+
+        private double meanMicros(Stage stage) {
+            return totals[stage.ordinal()] / (operations * 1000.0);
+        }
+
+        void record() {
+            for (Stage stage : Stage.values()) {
+                totals[stage.ordinal()] += RuntimeStageTimers.drain(stage);
+            }
+            operations++;
+            graphBuilderUs = meanMicros(Stage.GRAPH_BUILDER);
+            bytecodeGenerationUs = meanMicros(Stage.BYTECODE_GENERATION);
+            sketcherUs = meanMicros(Stage.SKETCHER);
+            highTierUs = meanMicros(Stage.HIGH_TIER);
+            midTierUs = meanMicros(Stage.MID_TIER);
+            lowTierUs = meanMicros(Stage.LOW_TIER);
+            interpreterUs = meanMicros(Stage.INTERPRETER);
+        }
+    }
+
+    private static String newGraphName(BenchmarkSetup state) {
+        return "overhead" + state.kernel.ordinal() + "_" + GRAPH_ID.getAndIncrement();
+    }
+
+    private static TornadoExecutionPlan newExecutionPlan(BenchmarkSetup state, String name) {
+        ImmutableTaskGraph immutableTaskGraph = OverheadKernels.buildTaskGraph(state.kernel, name, state.data).snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph).withDevice(state.tornadoDevice);
+        GridScheduler gridScheduler = OverheadKernels.buildGridScheduler(state.kernel, name);
+        if (gridScheduler != null) {
+            executionPlan.withGridScheduler(gridScheduler);
+        }
+        return executionPlan;
+    }
+
+    private static void precompileNewGraph(BenchmarkSetup state, Blackhole blackhole) throws TornadoExecutionPlanException {
+        // A new task-graph name per invocation, so the code cache of the device is not hit
+        try (TornadoExecutionPlan executionPlan = newExecutionPlan(state, newGraphName(state))) {
+            executionPlan.withPreCompilation();
+            blackhole.consume(executionPlan);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public ImmutableTaskGraph snapshot(BenchmarkSetup state) {
+        return OverheadKernels.buildTaskGraph(state.kernel, "snapshot", state.data).snapshot();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 30)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(1)
+    public void compile(BenchmarkSetup state, StageTimes stageTimes, Blackhole blackhole) throws TornadoExecutionPlanException {
+        precompileNewGraph(state, blackhole);
+        stageTimes.record();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(5)
+    public void coldCompile(BenchmarkSetup state, StageTimes stageTimes, Blackhole blackhole) throws TornadoExecutionPlanException {
+        precompileNewGraph(state, blackhole);
+        stageTimes.record();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void dispatch(DispatchSetup state, StageTimes stageTimes, Blackhole blackhole) {
+        blackhole.consume(state.executionPlan.execute());
+        stageTimes.record();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void dispatchLivePlans(LivePlansSetup state, StageTimes stageTimes, Blackhole blackhole) {
+        for (TornadoExecutionPlan executionPlan : state.executionPlans) {
+            blackhole.consume(executionPlan.execute());
+        }
+        stageTimes.record();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        // JMH options given in the command line (e.g. -p device=0:0,1:0) are also applied
+        Options opt = new OptionsBuilder() //
+                .parent(new CommandLineOptions(args)) //
+                .include(JMHRuntimeOverhead.class.getName() + ".*") //
+                .addProfiler(GCProfiler.class) //
+                .resultFormat(ResultFormatType.JSON) //
+                .result(System.getProperty("tornado.benchmarks.overhead.result", "jmh-overhead.json")) //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.overhead;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays;
+
+/**
+ * Representative kernels used to measure the host-side costs of TornadoVM. The
+ * data sizes are small on purpose: the benchmarks measure the runtime and the
+ * compiler, not the kernels.
+ */
+public final class OverheadKernels {
+
+    public static final int SIZE = 1024;
+
+    public enum Kernel {
+        MATVEC, //
+        REDUCTION, //
+        KERNEL_CONTEXT, //
+        HALF_FLOAT
+    }
+
+    private OverheadKernels() {
+    }
+
+    public static void reduceAdd(FloatArray input, @Reduce FloatArray result) {
+        result.set(0, 0.0f);
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) + input.get(i));
+        }
+    }
+
+    public static void vectorAddContext(KernelContext context, FloatArray a, FloatArray b, FloatArray c) {
+        int idx = context.globalIdx;
+        c.set(idx, a.get(idx) + b.get(idx));
+    }
+
+    public static void vectorAddHalfFloat(HalfFloatArray a, HalfFloatArray b, HalfFloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, HalfFloat.add(a.get(i), b.get(i)));
+        }
+    }
+
+    /**
+     * Input and output arrays of the kernels. The same instance can be shared
+     * by multiple task-graphs.
+     */
+    public static final class Data {
+        private final FloatArray matrix = new FloatArray(SIZE * SIZE);
+        private final FloatArray a = new FloatArray(SIZE);
+        private final FloatArray b = new FloatArray(SIZE);
+        private final FloatArray c = new FloatArray(SIZE);
+        private final FloatArray result = new FloatArray(1);
+        private final HalfFloatArray ha = new HalfFloatArray(SIZE);
+        private final HalfFloatArray hb = new HalfFloatArray(SIZE);
+        private final HalfFloatArray hc = new HalfFloatArray(SIZE);
+
+        public Data() {
+            matrix.init(1.0f);
+            a.init(1.0f);
+            b.init(2.0f);
+            ha.init(new HalfFloat(1.0f));
+            hb.init(new HalfFloat(2.0f));
+        }
+    }
+
+    public static TaskGraph buildTaskGraph(Kernel kernel, String name, Data data) {
+        TaskGraph taskGraph = new TaskGraph(name);
+        return switch (kernel) {
+            case MATVEC -> taskGraph //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, data.matrix, data.a) //
+                    .task("t0", LinearAlgebraArrays::sgemv, SIZE, SIZE, data.matrix, data.a, data.c) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, data.c);
+            case REDUCTION -> taskGraph //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, data.a) //
+                    .task("t0", OverheadKernels::reduceAdd, data.a, data.result) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, data.result);
+            case KERNEL_CONTEXT -> taskGraph //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, data.a, data.b) //
+                    .task("t0", OverheadKernels::vectorAddContext, new KernelContext(), data.a, data.b, data.c) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, data.c);
+            case HALF_FLOAT -> taskGraph //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, data.ha, data.hb) //
+                    .task("t0", OverheadKernels::vectorAddHalfFloat, data.ha, data.hb, data.hc) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, data.hc);
+        };
+    }
+
+    /**
+     * @return the grid scheduler for kernels that use the {@link KernelContext}
+     *     API, or null if the kernel does not need one.
+     */
+    public static GridScheduler buildGridScheduler(Kernel kernel, String name) {
+        if (kernel != Kernel.KERNEL_CONTEXT) {
+            return null;
+        }
+        WorkerGrid1D workerGrid = new WorkerGrid1D(SIZE);
+        workerGrid.setLocalWork(64, 1, 1);
+        return new GridScheduler(name + ".t0", workerGrid);
+    }
+}
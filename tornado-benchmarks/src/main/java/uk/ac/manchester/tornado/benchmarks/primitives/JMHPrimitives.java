@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.primitives;
+
+import static uk.ac.manchester.tornado.benchmarks.primitives.Benchmark.initData;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Scan, radix sort and top-k selection of the task-graph primitives, against
+ * the host implementations of {@link HostPrimitives}.
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.primitives.JMHPrimitives
+ * </code>
+ */
+public class JMHPrimitives {
+
+    private static final int TOP_K = 16;
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+        private IntArray input;
+        private IntArray output;
+        private IntArray keys;
+        private IntArray values;
+        private IntArray topValues;
+        private IntArray topIndices;
+        private TornadoExecutionPlan executorScan;
+        private TornadoExecutionPlan executorSort;
+        private TornadoExecutionPlan executorTopK;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            int size = Integer.parseInt(System.getProperty("primitives.size", "4194304"));
+            input = new IntArray(size);
+            output = new IntArray(size);
+            keys = new IntArray(size);
+            values = new IntArray(size);
+            topValues = new IntArray(TOP_K);
+            topIndices = new IntArray(TOP_K);
+            initData(input, keys, values);
+
+            executorScan = createExecutionPlan(new TaskGraph("scan") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .scan("scan", input, output) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, output));
+            executorSort = createExecutionPlan(new TaskGraph("sort") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values) //
+                    .sort("sort", keys, values) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, keys, values));
+            executorTopK = createExecutionPlan(new TaskGraph("topK") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .topK("topK", input, topValues, topIndices) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, topValues, topIndices));
+        }
+
+        private TornadoExecutionPlan createExecutionPlan(TaskGraph taskGraph) {
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withPreCompilation();
+            return executionPlan;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void scanJava(BenchmarkSetup state) {
+        HostPrimitives.scan(state.input, state.output);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void scanTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorScan;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void sortJava(BenchmarkSetup state) {
+        HostPrimitives.sort(state.keys, state.values);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void sortTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorSort;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void topKJava(BenchmarkSetup state) {
+        HostPrimitives.topK(state.input, state.topValues, state.topIndices);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void topKTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorTopK;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHPrimitives.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(30)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(30)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
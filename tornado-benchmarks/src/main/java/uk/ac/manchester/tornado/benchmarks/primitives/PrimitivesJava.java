@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.primitives;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class PrimitivesJava extends BenchmarkDriver {
+
+    private final int size;
+
+    private IntArray input;
+    private IntArray output;
+    private IntArray keys;
+    private IntArray values;
+
+    public PrimitivesJava(int iterations, int size) {
+        super(iterations);
+        this.size = size;
+    }
+
+    @Override
+    public void setUp() {
+        input = new IntArray(size);
+        output = new IntArray(size);
+        keys = new IntArray(size);
+        values = new IntArray(size);
+        Benchmark.initData(input, keys, values);
+    }
+
+    @Override
+    public void tearDown() {
+        input = null;
+        output = null;
+        keys = null;
+        values = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        HostPrimitives.scan(input, output);
+        HostPrimitives.sort(keys, values);
+    }
+
+    @Override
+    public void barrier() {
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-host-primitives, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+}
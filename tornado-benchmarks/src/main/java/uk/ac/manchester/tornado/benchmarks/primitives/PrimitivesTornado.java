@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.primitives;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+/**
+ * Inclusive scan and key-value radix sort of the task-graph primitives.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner primitives
+ * </code>
+ */
+public class PrimitivesTornado extends BenchmarkDriver {
+
+    private final int size;
+
+    private IntArray input;
+    private IntArray output;
+    private IntArray keys;
+    private IntArray values;
+    private IntArray originalKeys;
+
+    public PrimitivesTornado(int iterations, int size) {
+        super(iterations);
+        this.size = size;
+    }
+
+    @Override
+    public void setUp() {
+        input = new IntArray(size);
+        output = new IntArray(size);
+        keys = new IntArray(size);
+        values = new IntArray(size);
+        Benchmark.initData(input, keys, values);
+        originalKeys = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            originalKeys.set(i, keys.get(i));
+        }
+
+        taskGraph = new TaskGraph("benchmark") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, keys, values) //
+                .scan("scan", input, output) //
+                .sort("sort", keys, values) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output, keys, values);
+
+        immutableTaskGraph = taskGraph.snapshot();
+        executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.withPreCompilation();
+    }
+
+    @Override
+    public void tearDown() {
+        executionResult.getProfilerResult().dumpProfiles();
+
+        input = null;
+        output = null;
+        keys = null;
+        values = null;
+        originalKeys = null;
+
+        executionPlan.resetDevice();
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        executionResult = executionPlan.withDevice(device).execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+
+        final IntArray ref = new IntArray(size);
+
+        runBenchmark(device);
+        executionPlan.clearProfiles();
+
+        HostPrimitives.scan(input, ref);
+        for (int i = 0; i < size; i++) {
+            if (output.get(i) != ref.get(i)) {
+                return false;
+            }
+        }
+        // The sort is stable and moves the values with their keys
+        for (int i = 0; i < size; i++) {
+            if ((i > 0 && keys.get(i - 1) > keys.get(i)) || keys.get(i) != originalKeys.get(values.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
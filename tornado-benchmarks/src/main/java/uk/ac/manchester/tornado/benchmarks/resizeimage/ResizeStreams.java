@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.resizeimage;
+
+import static uk.ac.manchester.tornado.benchmarks.GraphicsKernels.resizeImageStreams;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class ResizeStreams extends BenchmarkDriver {
+
+    private final int numElementsX;
+    private final int numElementsY;
+
+    private ImageFloat4 input;
+    private ImageFloat4 output;
+
+    public ResizeStreams(int iterations, int numElementsX, int numElementsY) {
+        super(iterations);
+        this.numElementsX = numElementsX;
+        this.numElementsY = numElementsY;
+    }
+
+    @Override
+    public void setUp() {
+        input = ResizeTornado.createInput(numElementsX, numElementsY);
+        output = new ImageFloat4(numElementsX * 2, numElementsY * 2);
+    }
+
+    @Override
+    public void tearDown() {
+        input = null;
+        output = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        resizeImageStreams(output, input);
+    }
+
+    @Override
+    public void barrier() {
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-serial, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+}
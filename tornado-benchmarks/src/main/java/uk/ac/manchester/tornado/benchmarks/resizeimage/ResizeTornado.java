@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.resizeimage;
+
+import static uk.ac.manchester.tornado.benchmarks.GraphicsKernels.resizeImage;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.api.types.vectors.Float4;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.GraphicsKernels;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner resizeimage
+ * tornado --jvm="-Dtornado.opencl.images=True" -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner resizeimage
+ * </code>
+ */
+public class ResizeTornado extends BenchmarkDriver {
+
+    // The weights of the hardware filtering are fixed point, with 8 bits of fraction
+    private static final float TOLERANCE = 1e-2f;
+
+    private final int numElementsX;
+    private final int numElementsY;
+    private ImageFloat4 input;
+    private ImageFloat4 output;
+
+    public ResizeTornado(int iterations, int numElementsX, int numElementsY) {
+        super(iterations);
+        this.numElementsX = numElementsX;
+        this.numElementsY = numElementsY;
+    }
+
+    static ImageFloat4 createInput(int numElementsX, int numElementsY) {
+        ImageFloat4 image = new ImageFloat4(numElementsX, numElementsY);
+        for (int i = 0; i < image.Y(); i++) {
+            for (int j = 0; j < image.X(); j++) {
+                float x = (float) j / numElementsX;
+                float y = (float) i / numElementsY;
+                image.set(j, i, new Float4(x, y, (x + y) / 2, x * y));
+            }
+        }
+        return image;
+    }
+
+    @Override
+    public void setUp() {
+        input = createInput(numElementsX, numElementsY);
+        output = new ImageFloat4(numElementsX * 2, numElementsY * 2);
+
+        taskGraph = new TaskGraph("benchmark");
+        taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        taskGraph.task("resizeImage", GraphicsKernels::resizeImage, output, input);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        immutableTaskGraph = taskGraph.snapshot();
+        executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.withPreCompilation();
+    }
+
+    @Override
+    public void tearDown() {
+        executionResult.getProfilerResult().dumpProfiles();
+
+        input = null;
+        output = null;
+
+        executionPlan.resetDevice();
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        executionResult = executionPlan.withDevice(device).execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+
+        final ImageFloat4 result = new ImageFloat4(numElementsX * 2, numElementsY * 2);
+
+        runBenchmark(device);
+        executionPlan.clearProfiles();
+
+        resizeImage(result, input);
+
+        for (int i = 0; i < result.Y(); i++) {
+            for (int j = 0; j < result.X(); j++) {
+                Float4 expected = result.get(j, i);
+                Float4 actual = output.get(j, i);
+                if (Math.abs(expected.getX() - actual.getX()) > TOLERANCE || Math.abs(expected.getY() - actual.getY()) > TOLERANCE || Math.abs(expected.getZ() - actual.getZ()) > TOLERANCE
+                        || Math.abs(expected.getW() - actual.getW()) > TOLERANCE) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
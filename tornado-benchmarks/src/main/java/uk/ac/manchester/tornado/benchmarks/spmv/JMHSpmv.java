@@ -44,11 +44,16 @@ import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
 import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.SparseMatrixVector;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
 import uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays;
 import uk.ac.manchester.tornado.matrix.SparseMatrixUtils;
 
 /**
+ * Sparse matrix-vector multiplication with the matrix in CSR, ELL and
+ * SELL-C-&sigma; formats, and with each of the CSR kernels.
+ *
  * <p>
  * How to run in isolation?
  * </p>
@@ -58,12 +63,20 @@ import uk.ac.manchester.tornado.matrix.SparseMatrixUtils;
  */
 public class JMHSpmv {
 
+    private static final int SELL_SLICE_SIZE = 32;
+    private static final int SELL_SORT_WINDOW = 32 * SELL_SLICE_SIZE;
+
     @State(Scope.Thread)
     public static class BenchmarkSetup {
         private SparseMatrixUtils.CSRMatrix<FloatArray> matrix;
         private FloatArray v;
         private FloatArray y;
         private TornadoExecutionPlan executor;
+        private TornadoExecutionPlan executorVectorRow;
+        private TornadoExecutionPlan executorMergePath;
+        private TornadoExecutionPlan executorAdaptive;
+        private TornadoExecutionPlan executorELL;
+        private TornadoExecutionPlan executorSELL;
 
         @Setup(Level.Trial)
         public void doSetup() {
@@ -79,6 +92,25 @@ public class JMHSpmv {
             ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
             executor = new TornadoExecutionPlan(immutableTaskGraph);
             executor.withPreCompilation();
+
+            // The matrix is copied once by the spmv tasks, and the vectors on each execution
+            CSRMatrixFloat csrMatrix = new CSRMatrixFloat(matrix.size, matrix.size, matrix.rows, matrix.cols, matrix.vals);
+            executorVectorRow = createExecutionPlan(newTaskGraph("vectorRow").spmv("spmv", csrMatrix, SparseMatrixVector.Kernel.VECTOR_ROW, v, y));
+            executorMergePath = createExecutionPlan(newTaskGraph("mergePath").spmv("spmv", csrMatrix, SparseMatrixVector.Kernel.MERGE_PATH, v, y));
+            executorAdaptive = createExecutionPlan(newTaskGraph("adaptive").spmv("spmv", csrMatrix, v, y));
+            executorELL = createExecutionPlan(newTaskGraph("ell").spmv("spmv", csrMatrix.toELL(), v, y));
+            executorSELL = createExecutionPlan(newTaskGraph("sell").spmv("spmv", csrMatrix.toSELL(SELL_SLICE_SIZE, SELL_SORT_WINDOW), v, y));
+        }
+
+        private TaskGraph newTaskGraph(String name) {
+            return new TaskGraph(name).transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+        }
+
+        private TornadoExecutionPlan createExecutionPlan(TaskGraph taskGraph) {
+            taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withPreCompilation();
+            return executionPlan;
         }
     }
 
@@ -105,6 +137,66 @@ public class JMHSpmv {
         blackhole.consume(executor);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvTornadoVectorRow(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorVectorRow;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvTornadoMergePath(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorMergePath;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvTornadoAdaptive(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorAdaptive;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvTornadoELL(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorELL;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvTornadoSELL(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorSELL;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder() //
                 .include(JMHSpmv.class.getName() + ".*") //
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.transformer;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.Int8Array;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.kernels.transformer.TransformerKernels;
+import uk.ac.manchester.tornado.kernels.transformer.TransformerReference;
+
+/**
+ * Fused transformer kernels of the tornado-kernels module (RMSNorm, attention
+ * with one work-group per KV head, SwiGLU feed-forward and
+ * Q8 matrix-vector) against their Java versions. The sizes are those of a 1B
+ * parameters model.
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.transformer.JMHTransformerKernels
+ * </code>
+ */
+public class JMHTransformerKernels {
+
+    private static final int DIM = 2048;
+    private static final int HIDDEN_DIM = 8192;
+    private static final int N_HEADS = 32;
+    private static final int HEAD_SIZE = DIM / N_HEADS;
+    private static final int KV_MUL = 4;
+    private static final int KV_DIM = DIM / KV_MUL;
+    private static final int CONTEXT_LENGTH = 2048;
+    private static final int LOCAL_SIZE = 128;
+    private static final float EPSILON = 1e-5f;
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+        private FloatArray x;
+        private FloatArray weights;
+        private FloatArray normalized;
+        private FloatArray q;
+        private FloatArray keyCache;
+        private FloatArray valueCache;
+        private HalfFloatArray keyCacheHalf;
+        private HalfFloatArray valueCacheHalf;
+        private FloatArray attentionOutput;
+        private IntArray position;
+        private FloatArray w1;
+        private FloatArray w3;
+        private FloatArray hb;
+        private Int8Array quantized;
+        private HalfFloatArray scales;
+        private FloatArray out;
+        private TornadoExecutionPlan executorRmsNorm;
+        private TornadoExecutionPlan executorFlashAttention;
+        private TornadoExecutionPlan executorFlashAttentionHalf;
+        private TornadoExecutionPlan executorSwiGLU;
+        private TornadoExecutionPlan executorMatrixVectorQ8;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            Random random = new Random(7);
+            x = randomArray(DIM, random);
+            weights = randomArray(DIM, random);
+            normalized = new FloatArray(DIM);
+            q = randomArray(DIM, random);
+            keyCache = randomArray(CONTEXT_LENGTH * KV_DIM, random);
+            valueCache = randomArray(CONTEXT_LENGTH * KV_DIM, random);
+            keyCacheHalf = toHalf(keyCache);
+            valueCacheHalf = toHalf(valueCache);
+            attentionOutput = new FloatArray(DIM);
+            position = new IntArray(1);
+            position.set(0, CONTEXT_LENGTH - 1);
+            w1 = randomArray(DIM * HIDDEN_DIM, random);
+            w3 = randomArray(DIM * HIDDEN_DIM, random);
+            hb = new FloatArray(HIDDEN_DIM);
+            quantized = new Int8Array(DIM * HIDDEN_DIM);
+            scales = new HalfFloatArray(DIM * HIDDEN_DIM / TransformerKernels.Q8_BLOCK_SIZE);
+            TransformerReference.quantizeQ8(w1, quantized, scales, DIM);
+            out = new FloatArray(HIDDEN_DIM);
+
+            // The weights and the cache are copied once, and the activations on each execution
+            executorRmsNorm = createExecutionPlan(new TaskGraph("rmsNorm") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                    .task("t0", TransformerKernels::rmsNormScale, new KernelContext(), normalized, x, weights, DIM, EPSILON, 1024) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, normalized), TransformerKernels.workerGrid(1, 1024));
+            executorFlashAttention = createExecutionPlan(new TaskGraph("flashAttention") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, keyCache, valueCache) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, q, position) //
+                    .task("t0", TransformerKernels::flashAttention, new KernelContext(), q, keyCache, valueCache, attentionOutput, position, 0, CONTEXT_LENGTH, HEAD_SIZE, KV_DIM, KV_MUL, LOCAL_SIZE) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, attentionOutput), TransformerKernels.workerGrid(KV_DIM / HEAD_SIZE, LOCAL_SIZE));
+            executorFlashAttentionHalf = createExecutionPlan(new TaskGraph("flashAttentionHalf") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, keyCacheHalf, valueCacheHalf) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, q, position) //
+                    .task("t0", TransformerKernels::flashAttentionHalf, new KernelContext(), q, keyCacheHalf, valueCacheHalf, attentionOutput, position, 0, CONTEXT_LENGTH, HEAD_SIZE, KV_DIM, KV_MUL,
+                            LOCAL_SIZE) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, attentionOutput), TransformerKernels.workerGrid(KV_DIM / HEAD_SIZE, LOCAL_SIZE));
+            executorSwiGLU = createExecutionPlan(new TaskGraph("swiGLU") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, w1, w3) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                    .task("t0", TransformerKernels::swiGLU, new KernelContext(), x, hb, w1, w3, DIM, HIDDEN_DIM, LOCAL_SIZE) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, hb), TransformerKernels.workerGrid(HIDDEN_DIM, LOCAL_SIZE));
+            executorMatrixVectorQ8 = createExecutionPlan(new TaskGraph("matrixVectorQ8") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, quantized, scales) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                    .task("t0", TransformerKernels::matrixVectorQ8, new KernelContext(), x, out, quantized, scales, DIM, HIDDEN_DIM, LOCAL_SIZE) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, out), TransformerKernels.workerGrid(HIDDEN_DIM, LOCAL_SIZE));
+        }
+
+        private static FloatArray randomArray(int size, Random random) {
+            FloatArray array = new FloatArray(size);
+            for (int i = 0; i < size; i++) {
+                array.set(i, random.nextFloat() * 0.2f - 0.1f);
+            }
+            return array;
+        }
+
+        private static HalfFloatArray toHalf(FloatArray array) {
+            HalfFloatArray half = new HalfFloatArray(array.getSize());
+            for (int i = 0; i < array.getSize(); i++) {
+                half.setFloat(i, array.get(i));
+            }
+            return half;
+        }
+
+        private static TornadoExecutionPlan createExecutionPlan(TaskGraph taskGraph, WorkerGrid workerGrid) {
+            GridScheduler gridScheduler = new GridScheduler(taskGraph.getTaskGraphName() + ".t0", workerGrid);
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withGridScheduler(gridScheduler).withPreCompilation();
+            return executionPlan;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void rmsNormJava(BenchmarkSetup state) {
+        TransformerReference.rmsNormScale(state.normalized, state.x, state.weights, DIM, EPSILON);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void rmsNormTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorRmsNorm;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void attentionJava(BenchmarkSetup state) {
+        TransformerReference.attention(state.q, state.keyCache, state.valueCache, state.attentionOutput, state.position, 0, CONTEXT_LENGTH, N_HEADS, HEAD_SIZE, KV_DIM, KV_MUL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void flashAttentionTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorFlashAttention;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void attentionHalfJava(BenchmarkSetup state) {
+        TransformerReference.attentionHalf(state.q, state.keyCacheHalf, state.valueCacheHalf, state.attentionOutput, state.position, 0, CONTEXT_LENGTH, N_HEADS, HEAD_SIZE, KV_DIM, KV_MUL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void flashAttentionHalfTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorFlashAttentionHalf;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void swiGLUJava(BenchmarkSetup state) {
+        TransformerReference.swiGLU(state.x, state.hb, state.w1, state.w3, DIM, HIDDEN_DIM);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void swiGLUTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorSwiGLU;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void matrixVectorQ8Java(BenchmarkSetup state) {
+        TransformerReference.matrixVectorQ8(state.x, state.out, state.quantized, state.scales, DIM, HIDDEN_DIM);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void matrixVectorQ8Tornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.executorMatrixVectorQ8;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHTransformerKernels.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(30)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(30)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded pool of the command queues (OpenCL and Level Zero) or streams (CUDA)
+ * of one device.
+ *
+ * <p>
+ * Each execution plan is bound to one queue the first time it enqueues a
+ * command, and it keeps the same queue until it is released. Therefore, the
+ * commands of a plan stay in order, whichever Java thread (platform or
+ * virtual) runs the plan. The pool creates queues on demand up to a maximum.
+ * A new plan gets the queue with the fewest plans, visiting the queues in
+ * round-robin order from the queue after the last one assigned. Once the
+ * maximum is reached, plans share queues.
+ * </p>
+ *
+ * <p>
+ * Queues are not destroyed when their plans are released. They are recycled
+ * and handed to the next plans, and they are only destroyed with
+ * {@link #destroyAll()}.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe. Looking up the queue of a plan that is already
+ * bound does not take a lock.
+ * </p>
+ *
+ * @param <Q>
+ *     type of the queue
+ */
+public final class CommandQueuePool<Q> {
+
+    /**
+     * Creates and releases the queues of a device.
+     *
+     * @param <Q>
+     *     type of the queue
+     */
+    public interface QueueFactory<Q> {
+
+        Q create();
+
+        /**
+         * Called when the last plan bound to a queue is released, before the
+         * queue is handed to other plans.
+         */
+        default void recycle(Q queue) {
+        }
+
+        void destroy(Q queue);
+    }
+
+    private static final class Slot<Q> {
+
+        private final Q queue;
+
+        /**
+         * Number of plans bound to the queue. It is only written with the lock
+         * of the pool held.
+         */
+        private volatile int numPlans;
+
+        private Slot(Q queue) {
+            this.queue = queue;
+        }
+    }
+
+    private final int maxQueues;
+    private final QueueFactory<Q> factory;
+    private final List<Slot<Q>> slots;
+    private final Map<Long, Slot<Q>> planAffinity;
+    private final ReentrantLock lock;
+    private final LongAdder numSharedAcquisitions;
+    private int nextSlot;
+    private long numCreatedQueues;
+    private long numSharedAssignments;
+
+    public CommandQueuePool(int maxQueues, QueueFactory<Q> factory) {
+        if (maxQueues < 1) {
+            throw new IllegalArgumentException("The maximum number of queues must be at least 1: " + maxQueues);
+        }
+        this.maxQueues = maxQueues;
+        this.factory = factory;
+        this.slots = new ArrayList<>();
+        this.planAffinity = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        this.numSharedAcquisitions = new LongAdder();
+    }
+
+    /**
+     * Returns the queue of an execution plan, and binds the plan to a queue if
+     * it is not bound yet.
+     *
+     * @param executionPlanId
+     *     id of the execution plan
+     * @return the queue of the plan
+     */
+    public Q acquire(long executionPlanId) {
+        Slot<Q> slot = planAffinity.get(executionPlanId);
+        if (slot == null) {
+            slot = bind(executionPlanId);
+        }
+        if (slot.numPlans > 1) {
+            numSharedAcquisitions.increment();
+        }
+        return slot.queue;
+    }
+
+    /**
+     * @param executionPlanId
+     *     id of the execution plan
+     * @return the queue of the plan, or null if the plan is not bound to a
+     *     queue.
+     */
+    public Q get(long executionPlanId) {
+        Slot<Q> slot = planAffinity.get(executionPlanId);
+        return slot != null ? slot.queue : null;
+    }
+
+    private Slot<Q> bind(long executionPlanId) {
+        lock.lock();
+        try {
+            Slot<Q> slot = planAffinity.get(executionPlanId);
+            if (slot != null) {
+                return slot;
+            }
+            slot = selectSlot();
+            if (slot.numPlans > 0) {
+                numSharedAssignments++;
+            }
+            slot.numPlans++;
+            planAffinity.put(executionPlanId, slot);
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Slot<Q> selectSlot() {
+        int selected = -1;
+        for (int i = 0; i < slots.size(); i++) {
+            int index = (nextSlot + i) % slots.size();
+            if (selected == -1 || slots.get(index).numPlans < slots.get(selected).numPlans) {
+                selected = index;
+            }
+        }
+        if ((selected == -1 || slots.get(selected).numPlans > 0) && slots.size() < maxQueues) {
+            slots.add(new Slot<>(factory.create()));
+            numCreatedQueues++;
+            selected = slots.size() - 1;
+        }
+        nextSlot = (selected + 1) % slots.size();
+        return slots.get(selected);
+    }
+
+    /**
+     * Unbinds an execution plan from its queue. The queue is recycled if no
+     * other plan is bound to it.
+     *
+     * @param executionPlanId
+     *     id of the execution plan
+     * @return true if the plan was bound to a queue.
+     */
+    public boolean release(long executionPlanId) {
+        lock.lock();
+        try {
+            Slot<Q> slot = planAffinity.remove(executionPlanId);
+            if (slot == null) {
+                return false;
+            }
+            slot.numPlans--;
+            if (slot.numPlans == 0) {
+                factory.recycle(slot.queue);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Destroys all the queues of the pool and unbinds all the plans. The pool
+     * can still be used afterwards, and it creates new queues on demand.
+     */
+    public void destroyAll() {
+        lock.lock();
+        try {
+            for (Slot<Q> slot : slots) {
+                factory.destroy(slot.queue);
+            }
+            slots.clear();
+            planAffinity.clear();
+            nextSlot = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxQueues() {
+        return maxQueues;
+    }
+
+    /**
+     * @return the number of queues currently in the pool.
+     */
+    public int getNumQueues() {
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of execution plans currently bound to a queue.
+     */
+    public int getNumPlans() {
+        return planAffinity.size();
+    }
+
+    /**
+     * @return the number of queues created since the pool was built, including
+     *     the queues that were destroyed.
+     */
+    public long getNumCreatedQueues() {
+        lock.lock();
+        try {
+            return numCreatedQueues;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of plans that were bound to a queue already used by
+     *     other plans, because the pool was full.
+     */
+    public long getNumSharedAssignments() {
+        lock.lock();
+        try {
+            return numSharedAssignments;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of times a plan looked up a queue that was shared
+     *     with other plans. The commands of those plans are serialized on the
+     *     same queue.
+     */
+    public long getNumSharedAcquisitions() {
+        return numSharedAcquisitions.sum();
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return String.format("queues=%d/%d, plans=%d, created=%d, shared assignments=%d, shared acquisitions=%d", slots.size(), maxQueues, planAffinity.size(), numCreatedQueues,
+                    numSharedAssignments, numSharedAcquisitions.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common;
+
+import java.util.Arrays;
+
+/**
+ * Last arguments set on a device kernel. The kernel objects of OpenCL and
+ * Level Zero keep their arguments between launches, so the drivers keep one
+ * cache per installed code and only set the arguments that changed since the
+ * previous launch.
+ *
+ * <p>
+ * A slot holds a value copied into the kernel (a primitive or a device
+ * pointer) with its size in bytes, a local memory region of a given size, or an
+ * unused argument. The cache only allocates when a kernel has more arguments
+ * than the slots already reserved.
+ * </p>
+ *
+ * <p>
+ * The drivers report every argument they set on a kernel with
+ * {@link #argumentSet(int)}, so a {@link Listener} sees the arguments of each
+ * launch. The tests use it to check what a launch sets.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe. The drivers use it from the thread that
+ * launches the kernel.
+ * </p>
+ */
+public final class KernelArgumentCache {
+
+    /**
+     * Receives the arguments that the drivers set on the kernels.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void argumentSet(String kernelName, int index);
+    }
+
+    private static final int DEFAULT_NUM_SLOTS = 16;
+
+    private static final byte EMPTY = 0;
+    private static final byte VALUE = 1;
+    private static final byte LOCAL_REGION = 2;
+    private static final byte UNUSED = 3;
+
+    private static volatile Listener listener;
+
+    private final String kernelName;
+
+    private byte[] kinds;
+    private long[] values;
+    private long[] sizes;
+    private long numSkipped;
+
+    public KernelArgumentCache(String kernelName) {
+        this(kernelName, DEFAULT_NUM_SLOTS);
+    }
+
+    public KernelArgumentCache(String kernelName, int numSlots) {
+        this.kernelName = kernelName;
+        kinds = new byte[Math.max(numSlots, 1)];
+        values = new long[kinds.length];
+        sizes = new long[kinds.length];
+    }
+
+    /**
+     * Records a value argument.
+     *
+     * @param index
+     *     index of the kernel argument
+     * @param value
+     *     bits of the value, or the device pointer
+     * @param size
+     *     size of the value in bytes
+     * @return true if the argument has to be set on the kernel, false if the
+     *     kernel already has the same value.
+     */
+    public boolean update(int index, long value, int size) {
+        return update(index, VALUE, value, size);
+    }
+
+    /**
+     * Records a local memory region argument.
+     *
+     * @param index
+     *     index of the kernel argument
+     * @param size
+     *     size of the region in bytes
+     * @return true if the argument has to be set on the kernel, false if the
+     *     kernel already has a region of the same size.
+     */
+    public boolean updateLocalRegion(int index, long size) {
+        return update(index, LOCAL_REGION, 0, size);
+    }
+
+    /**
+     * Records an argument that the kernel does not use.
+     *
+     * @param index
+     *     index of the kernel argument
+     * @return true if the argument has to be set on the kernel, false if it was
+     *     already set as unused.
+     */
+    public boolean updateUnused(int index) {
+        return update(index, UNUSED, 0, 0);
+    }
+
+    private boolean update(int index, byte kind, long value, long size) {
+        if (index >= kinds.length) {
+            grow(index + 1);
+        }
+        if (kinds[index] == kind && values[index] == value && sizes[index] == size) {
+            numSkipped++;
+            return false;
+        }
+        kinds[index] = kind;
+        values[index] = value;
+        sizes[index] = size;
+        return true;
+    }
+
+    private void grow(int minSlots) {
+        int numSlots = Math.max(minSlots, kinds.length * 2);
+        kinds = Arrays.copyOf(kinds, numSlots);
+        values = Arrays.copyOf(values, numSlots);
+        sizes = Arrays.copyOf(sizes, numSlots);
+    }
+
+    /**
+     * Sets the listener of the arguments set on all kernels.
+     *
+     * @param listener
+     *     the {@link Listener}, or null to remove it.
+     */
+    public static void setListener(Listener listener) {
+        KernelArgumentCache.listener = listener;
+    }
+
+    /**
+     * Called by the drivers after they set an argument on the kernel.
+     *
+     * @param index
+     *     index of the kernel argument
+     */
+    public void argumentSet(int index) {
+        Listener current = listener;
+        if (current != null) {
+            current.argumentSet(kernelName, index);
+        }
+    }
+
+    /**
+     * Forgets the argument of one slot, so it is set on the next launch.
+     *
+     * @param index
+     *     index of the kernel argument
+     */
+    public void invalidate(int index) {
+        if (index < kinds.length) {
+            kinds[index] = EMPTY;
+        }
+    }
+
+    /**
+     * Forgets all the arguments, for example when the kernel object is
+     * released or rebuilt.
+     */
+    public void invalidate() {
+        Arrays.fill(kinds, EMPTY);
+    }
+
+    /**
+     * @return the number of arguments that were not set on the kernel because
+     *     they had not changed since the previous launch.
+     */
+    public long getNumSkipped() {
+        return numSkipped;
+    }
+}
@@ -27,12 +27,15 @@ import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.DEVICE_AVAI
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.api.TornadoTargetDevice;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
+import uk.ac.manchester.tornado.runtime.common.DeviceMemoryEvictionManager;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
@@ -50,6 +53,7 @@ public abstract class TornadoBufferProvider {
     protected final HashMap<Access, ArrayList<BufferContainer>> freeBuffers;
     protected final HashMap<Access, ArrayList<BufferContainer>> usedBuffers;
     protected long currentMemoryAvailable;
+    private final ReentrantLock lock;
     private TornadoLogger logger = new TornadoLogger(this.getClass());
 
     private static final String RESET = "\u001B[0m";
@@ -61,6 +65,7 @@ public abstract class TornadoBufferProvider {
         this.usedBuffers = initializeBufferHashMap();
         this.freeBuffers = initializeBufferHashMap();
         currentMemoryAvailable = TornadoOptions.DEVICE_AVAILABLE_MEMORY;
+        lock = new ReentrantLock();
     }
 
     private HashMap<Access, ArrayList<BufferContainer>> initializeBufferHashMap() {
@@ -105,41 +110,120 @@ public abstract class TornadoBufferProvider {
 
     protected abstract void releaseBuffer(long buffer);
 
-    private synchronized long allocate(long size, Access access) {
-        long buffer = allocateBuffer(size, access);
-        currentMemoryAvailable -= size;
+    /**
+     * Allocates a buffer whose size has already been reserved from
+     * {@link #currentMemoryAvailable}. The native allocation is performed out of
+     * the lock of the provider.
+     */
+    private long allocate(long size, Access access) {
+        long buffer;
+        try {
+            buffer = allocateBuffer(size, access);
+        } catch (RuntimeException e) {
+            returnMemory(size);
+            throw e;
+        }
         BufferContainer bufferInfo = new BufferContainer(buffer, size, access);
-        usedBuffers.get(access).add(bufferInfo);
+        lock.lock();
+        try {
+            usedBuffers.get(access).add(bufferInfo);
+        } finally {
+            lock.unlock();
+        }
         logger.debug("Buffer %s has been allocated and included in the usedBuffers list with access: %s", bufferInfo, access);
         return bufferInfo.buffer;
     }
 
-    private synchronized void freeBuffers(long size, Access access) {
-        // Attempts to free buffers of given size.
-        long remainingSize = size;
-        while (!freeBuffers.get(access).isEmpty() && remainingSize > 0) {
-            BufferContainer bufferInfo = freeBuffers.get(access).removeFirst();
-            TornadoInternalError.guarantee(!usedBuffers.get(access).contains(bufferInfo), "This buffer should not be used");
-            remainingSize -= bufferInfo.size;
-            currentMemoryAvailable += bufferInfo.size;
-            releaseBuffer(bufferInfo.buffer);
+    private void returnMemory(long size) {
+        lock.lock();
+        try {
+            currentMemoryAvailable += size;
+        } finally {
+            lock.unlock();
         }
     }
 
-    public synchronized long deallocate(Access access) {
-        // Attempts to free buffers of given size.
+    /**
+     * Removes free buffers of an access type from the free list, until the given
+     * size is collected.
+     */
+    private List<BufferContainer> takeFreeBuffers(long size, Access access) {
+        List<BufferContainer> buffers = new ArrayList<>();
+        lock.lock();
+        try {
+            long remainingSize = size;
+            while (!freeBuffers.get(access).isEmpty() && remainingSize > 0) {
+                BufferContainer bufferInfo = freeBuffers.get(access).removeFirst();
+                TornadoInternalError.guarantee(!usedBuffers.get(access).contains(bufferInfo), "This buffer should not be used");
+                remainingSize -= bufferInfo.size;
+                buffers.add(bufferInfo);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return buffers;
+    }
+
+    /**
+     * Releases the native buffers and returns their memory to the provider. The
+     * memory is returned after the native release, so it is never handed to
+     * another allocation while the device still holds it.
+     */
+    private long releaseBuffers(List<BufferContainer> buffers) {
         long spaceDeallocated = 0;
-        while (!freeBuffers.get(access).isEmpty()) {
-            BufferContainer bufferInfo = freeBuffers.get(access).removeFirst();
-            TornadoInternalError.guarantee(!usedBuffers.get(access).contains(bufferInfo), "This buffer should not be used");
-            currentMemoryAvailable += bufferInfo.size;
-            spaceDeallocated += bufferInfo.size;
+        for (BufferContainer bufferInfo : buffers) {
             releaseBuffer(bufferInfo.buffer);
+            spaceDeallocated += bufferInfo.size;
+        }
+        if (spaceDeallocated > 0) {
+            returnMemory(spaceDeallocated);
         }
         return spaceDeallocated;
     }
 
-    private synchronized BufferContainer markBufferUsed(int freeBufferIndex, Access access) {
+    public long deallocate(Access access) {
+        // Attempts to free all the free buffers of the given access.
+        return releaseBuffers(takeFreeBuffers(Long.MAX_VALUE, access));
+    }
+
+    /**
+     * Releases a single native buffer, whether it is in the used or in the free
+     * list, and returns its memory to the provider. The other free buffers of the
+     * same access type are kept for reuse.
+     *
+     * @param buffer
+     *     Native buffer to release.
+     * @param access
+     *     Access type the buffer was allocated with.
+     * @return Number of bytes released, or 0 if the buffer is not handled by
+     *     this provider.
+     */
+    public long deallocate(long buffer, Access access) {
+        BufferContainer bufferInfo = null;
+        lock.lock();
+        try {
+            for (ArrayList<BufferContainer> bufferList : List.of(usedBuffers.get(access), freeBuffers.get(access))) {
+                for (int i = 0; i < bufferList.size(); i++) {
+                    if (bufferList.get(i).buffer == buffer) {
+                        bufferInfo = bufferList.remove(i);
+                        break;
+                    }
+                }
+                if (bufferInfo != null) {
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (bufferInfo == null) {
+            return 0;
+        }
+        logger.debug("Buffer %s has been released for access: %s", bufferInfo, access);
+        return releaseBuffers(List.of(bufferInfo));
+    }
+
+    private BufferContainer markBufferUsed(int freeBufferIndex, Access access) {
         BufferContainer buffer = freeBuffers.get(access).get(freeBufferIndex);
         usedBuffers.get(access).add(buffer);
         freeBuffers.get(access).remove(buffer);
@@ -157,7 +241,7 @@ public abstract class TornadoBufferProvider {
      * @return returns the index position of a free buffer within the free buffer
      *     list. It returns -1 if a free buffer slot is not found.
      */
-    private synchronized int bufferIndexOfAFreeSpace(long sizeInBytes, Access access) {
+    private int bufferIndexOfAFreeSpace(long sizeInBytes, Access access) {
         int minBufferIndex = -1;
         for (int i = 0; i < freeBuffers.get(access).size(); i++) {
             BufferContainer bufferInfo = freeBuffers.get(access).get(i);
@@ -169,19 +253,52 @@ public abstract class TornadoBufferProvider {
     }
 
     /**
-     * There is no buffer to fulfill the size. Start freeing unused buffers and try
-     * to allocate.
+     * There is no buffer to fulfill the size. Takes the unused buffers to release
+     * from the free lists: first the ones of the same access type and, if they
+     * are not enough and the eviction is enabled, the free buffers of all access
+     * types. It runs with the lock of the provider held, and the buffers are
+     * released by {@link #freeUnusedNativeBuffers} after unlocking.
      *
      * @param sizeInBytes
      *     Size in bytes for the requested buffer.
-     * @return It returns a buffer native pointer.
+     * @return the buffers to release.
      */
-    private synchronized long freeUnusedNativeBufferAndAssignRegion(long sizeInBytes, Access access) {
-        freeBuffers(sizeInBytes, access);
-        if (sizeInBytes <= currentMemoryAvailable) {
-            return allocate(sizeInBytes, access);
-        } else {
-            throw new TornadoOutOfMemoryException("Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
+    private List<BufferContainer> takeUnusedBuffers(long sizeInBytes, Access access) {
+        List<BufferContainer> buffers = takeFreeBuffers(sizeInBytes, access);
+        if (TornadoOptions.DEVICE_MEMORY_EVICTION && sizeInBytes > currentMemoryAvailable + buffers.stream().mapToLong(BufferContainer::size).sum()) {
+            for (Access freeAccess : Access.values()) {
+                buffers.addAll(takeFreeBuffers(Long.MAX_VALUE, freeAccess));
+            }
+        }
+        return buffers;
+    }
+
+    /**
+     * Releases the unused native buffers and, if there is still not enough
+     * memory, evicts the least recently used buffers that persist across
+     * executions (see {@link DeviceMemoryEvictionManager}). This is the slow path
+     * and it runs out of the lock of the provider, so the native releases and the
+     * write-backs of the evicted buffers do not block the other threads that
+     * allocate or release buffers of the device.
+     *
+     * @param sizeInBytes
+     *     Size in bytes for the requested buffer.
+     * @param unusedBuffers
+     *     Buffers taken from the free lists by {@link #takeUnusedBuffers}.
+     */
+    private void freeUnusedNativeBuffers(long sizeInBytes, List<BufferContainer> unusedBuffers) {
+        releaseBuffers(unusedBuffers);
+        if (TornadoOptions.DEVICE_MEMORY_EVICTION) {
+            long missingMemory;
+            lock.lock();
+            try {
+                missingMemory = sizeInBytes - currentMemoryAvailable;
+            } finally {
+                lock.unlock();
+            }
+            if (missingMemory > 0) {
+                DeviceMemoryEvictionManager.getInstance().evict(deviceContext, missingMemory);
+            }
         }
     }
 
@@ -190,6 +307,15 @@ public abstract class TornadoBufferProvider {
      * memory buffer is found, it performs the native buffer allocation on the
      * target device. Otherwise, it throws an exception.
      *
+     * <p>
+     * The bookkeeping of the provider is protected by a {@link ReentrantLock}
+     * instead of a monitor, so virtual threads that wait for it are not pinned
+     * to their carrier threads. The lock is only held to update the lists of
+     * buffers and the available memory: the memory is reserved with the lock
+     * held, and the native allocations, releases and evictions are performed
+     * after releasing it.
+     * </p>
+     *
      * @param sizeInBytes
      *     Size in bytes for the requested buffer.
      * @return Returns a pointer to the native buffer (JNI).
@@ -197,43 +323,67 @@ public abstract class TornadoBufferProvider {
      * @throws {@link
      *     TornadoOutOfMemoryException}
      */
-    public synchronized long getOrAllocateBufferWithSize(long sizeInBytes, Access access) {
+    public long getOrAllocateBufferWithSize(long sizeInBytes, Access access) {
         TornadoTargetDevice device = deviceContext.getDevice();
-        if (sizeInBytes <= currentMemoryAvailable && sizeInBytes < device.getDeviceMaxAllocationSize()) {
-            // Allocate if there is enough device memory.
-            return allocate(sizeInBytes, access);
-        } else if (sizeInBytes < device.getDeviceMaxAllocationSize()) {
-            int minBufferIndex = bufferIndexOfAFreeSpace(sizeInBytes, access);
-            // If a buffer was found, mark it as used and return it.
-            if (minBufferIndex != -1) {
-                return markBufferUsed(minBufferIndex, access).buffer;
+        if (sizeInBytes >= device.getDeviceMaxAllocationSize()) {
+            throw new TornadoOutOfMemoryException("[ERROR] Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
+        }
+        List<BufferContainer> unusedBuffers = null;
+        lock.lock();
+        try {
+            if (sizeInBytes > currentMemoryAvailable) {
+                int minBufferIndex = bufferIndexOfAFreeSpace(sizeInBytes, access);
+                // If a buffer was found, mark it as used and return it.
+                if (minBufferIndex != -1) {
+                    return markBufferUsed(minBufferIndex, access).buffer;
+                }
+                unusedBuffers = takeUnusedBuffers(sizeInBytes, access);
             } else {
-                return freeUnusedNativeBufferAndAssignRegion(sizeInBytes, access);
+                // Reserve the memory, so the native allocation can run out of the lock
+                currentMemoryAvailable -= sizeInBytes;
             }
-        } else {
-            throw new TornadoOutOfMemoryException("[ERROR] Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
+        } finally {
+            lock.unlock();
         }
+        if (unusedBuffers != null) {
+            freeUnusedNativeBuffers(sizeInBytes, unusedBuffers);
+            lock.lock();
+            try {
+                if (sizeInBytes > currentMemoryAvailable) {
+                    throw new TornadoOutOfMemoryException("Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
+                }
+                currentMemoryAvailable -= sizeInBytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return allocate(sizeInBytes, access);
     }
 
     /**
      * Removes the buffer from the {@link #usedBuffers} list and add it to
      * the @{@link #freeBuffers} list.
      */
-    public synchronized void markBufferReleased(long buffer, Access access) {
-        int foundIndex = -1;
-        for (int i = 0; i < usedBuffers.get(access).size(); i++) {
-            // find the buffer slot to mark it as free
-            if (usedBuffers.get(access).get(i) != null && usedBuffers.get(access).get(i).buffer == buffer) {
-                foundIndex = i;
-                break;
+    public void markBufferReleased(long buffer, Access access) {
+        lock.lock();
+        try {
+            int foundIndex = -1;
+            for (int i = 0; i < usedBuffers.get(access).size(); i++) {
+                // find the buffer slot to mark it as free
+                if (usedBuffers.get(access).get(i) != null && usedBuffers.get(access).get(i).buffer == buffer) {
+                    foundIndex = i;
+                    break;
+                }
             }
-        }
 
-        if (foundIndex != -1) {
-            // if found, we mark it as free by inserting it into the free list
-            BufferContainer removedBuffer = usedBuffers.get(access).remove(foundIndex);
-            freeBuffers.get(access).add(removedBuffer);
-            logger.debug("Buffer %s has been released and included in the freeBuffers list for access: %s", removedBuffer, access);
+            if (foundIndex != -1) {
+                // if found, we mark it as free by inserting it into the free list
+                BufferContainer removedBuffer = usedBuffers.get(access).remove(foundIndex);
+                freeBuffers.get(access).add(removedBuffer);
+                logger.debug("Buffer %s has been released and included in the freeBuffers list for access: %s", removedBuffer, access);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -248,8 +398,8 @@ public abstract class TornadoBufferProvider {
         return freeBuffers.get(access).size() >= numBuffers;
     }
 
-    public synchronized void resetBuffers(Access access) {
-        freeBuffers(DEVICE_AVAILABLE_MEMORY, access);
+    public void resetBuffers(Access access) {
+        releaseBuffers(takeFreeBuffers(DEVICE_AVAILABLE_MEMORY, access));
     }
 
     private record BufferContainer(long buffer, long size, Access access) {
@@ -0,0 +1,623 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.compiler.phases.loops;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.graalvm.collections.EconomicMap;
+import org.graalvm.collections.Equivalence;
+import org.graalvm.compiler.graph.Node;
+import org.graalvm.compiler.nodes.AbstractBeginNode;
+import org.graalvm.compiler.nodes.AbstractMergeNode;
+import org.graalvm.compiler.nodes.BeginNode;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.ControlSplitNode;
+import org.graalvm.compiler.nodes.EndNode;
+import org.graalvm.compiler.nodes.FixedNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.GraphState;
+import org.graalvm.compiler.nodes.IfNode;
+import org.graalvm.compiler.nodes.LogicNode;
+import org.graalvm.compiler.nodes.LoopBeginNode;
+import org.graalvm.compiler.nodes.LoopExitNode;
+import org.graalvm.compiler.nodes.MergeNode;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ParameterNode;
+import org.graalvm.compiler.nodes.PhiNode;
+import org.graalvm.compiler.nodes.PiNode;
+import org.graalvm.compiler.nodes.ProfileData.BranchProbabilityData;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.ValuePhiNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.ConditionalNode;
+import org.graalvm.compiler.nodes.calc.FloatingNode;
+import org.graalvm.compiler.nodes.calc.IntegerEqualsNode;
+import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
+import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.extended.JavaReadNode;
+import org.graalvm.compiler.nodes.extended.JavaWriteNode;
+import org.graalvm.compiler.nodes.java.LoadFieldNode;
+import org.graalvm.compiler.nodes.java.LoadIndexedNode;
+import org.graalvm.compiler.nodes.java.StoreIndexedNode;
+import org.graalvm.compiler.nodes.loop.CountedLoopInfo;
+import org.graalvm.compiler.nodes.loop.InductionVariable;
+import org.graalvm.compiler.nodes.loop.LoopEx;
+import org.graalvm.compiler.nodes.loop.LoopsData;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.memory.address.OffsetAddressNode;
+import org.graalvm.compiler.nodes.util.GraphUtil;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AbstractParallelNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelOffsetNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelRangeNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoLoopsData;
+import uk.ac.manchester.tornado.runtime.graal.nodes.calc.TornadoAddressArithmeticNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+import uk.ac.manchester.tornado.runtime.tasks.meta.LoopTiling;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+/**
+ * It tiles the 2D parallel loop nests in which the threads of a work-group read
+ * the same data in a sequential inner loop, such as the rows and the columns of
+ * a matrix multiplication:
+ *
+ * <pre>
+ * for (@Parallel int i = 0; i < n; i++) {
+ *     for (@Parallel int j = 0; j < n; j++) {
+ *         for (int k = 0; k < n; k++) {
+ *             sum += a.get(i, k) * b.get(k, j);
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * A read whose index depends on the inner loop and on a single parallel index
+ * is shared by the threads of a work-group that have the same value of this
+ * index. The work-group is a square tile of {@code T x T} threads. Every
+ * {@code T} iterations of the inner loop, each thread loads one element of the
+ * next {@code T} iterations into a local array, between two local barriers, and
+ * the read is replaced by a read of the local array:
+ * </p>
+ *
+ * <pre>
+ * if (((k - start) & (T - 1)) == 0) {
+ *     barrier(LOCAL);
+ *     tileA[lid(o) * T + lid(d)] = a.get(i, min(k + lid(o), end - 1));
+ *     barrier(LOCAL);
+ * }
+ * sum += tileA[((k - start) & (T - 1)) * T + lid(d)] * ...;
+ * </pre>
+ *
+ * <p>
+ * where {@code d} is the dimension of the parallel index of the read and
+ * {@code o} is the other dimension. All the threads of a work-group must reach
+ * the barriers, so the loop nest is only tiled when the ranges of the parallel
+ * loops are multiples of the tile, the paths to the reads do not branch and the
+ * bounds of the inner loop are the same for all threads. The phase runs before
+ * the parallel loops are scheduled, and the result is stored in the
+ * {@link TaskDataContext} of the task as a {@link LoopTiling}. The scheduler of
+ * the backend must launch the kernel with the tile as the local work.
+ * </p>
+ */
+public abstract class TornadoLoopTiling extends BasePhase<TornadoHighTierContext> {
+
+    private static final int DIMENSIONS = 2;
+
+    private final TornadoLogger logger = new TornadoLogger(this.getClass());
+
+    @Override
+    public Optional<NotApplicable> notApplicableTo(GraphState graphState) {
+        return ALWAYS_APPLICABLE;
+    }
+
+    /**
+     * Creates an array of the given length in the local memory of the
+     * work-group.
+     */
+    protected abstract ValueNode createLocalArray(StructuredGraph graph, ResolvedJavaType elementType, int length);
+
+    /**
+     * Creates a barrier for the threads of the work-group that orders the
+     * accesses to the local memory.
+     */
+    protected abstract FixedWithNextNode createLocalBarrier(StructuredGraph graph);
+
+    /**
+     * Creates the index of the thread within the work-group in a dimension.
+     */
+    protected abstract ValueNode createLocalThreadId(StructuredGraph graph, int dimension);
+
+    private record ParallelLoop(LoopEx loop, ValuePhiNode index, ParallelRangeNode range) {
+    }
+
+    private record SharedRead(JavaReadNode read, int dimension, int argument) {
+    }
+
+    private static class TilingReport {
+        private final Map<Integer, Integer> tiledArguments = new LinkedHashMap<>();
+        private final Map<String, Set<Integer>> notTiledArguments = new LinkedHashMap<>();
+
+        void notTiled(String reason, int argument) {
+            notTiledArguments.computeIfAbsent(reason, r -> new TreeSet<>()).add(argument);
+        }
+
+        String describeNotTiled() {
+            StringBuilder description = new StringBuilder();
+            notTiledArguments.forEach((reason, arguments) -> description.append(description.isEmpty() ? "" : ", ").append("the reads of arguments ").append(arguments).append(" ").append(reason));
+            return description.toString();
+        }
+    }
+
+    private static ParallelRangeNode getRange(StructuredGraph graph, ParallelOffsetNode offset) {
+        for (ParallelRangeNode range : graph.getNodes().filter(ParallelRangeNode.class)) {
+            if (range.offset() == offset) {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    private static int getConstant(ValueNode value) {
+        return value instanceof ConstantNode constant ? constant.asJavaConstant().asInt() : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the argument that is accessed through the address, or null if the
+     * address is not in an argument of the task.
+     */
+    private static ParameterNode getArgument(AddressNode address) {
+        if (!(address instanceof OffsetAddressNode offsetAddress)) {
+            return null;
+        }
+        ValueNode base = offsetAddress.getBase();
+        while (true) {
+            if (base instanceof PiNode piNode) {
+                base = piNode.object();
+            } else if (base instanceof TornadoAddressArithmeticNode arithmeticNode) {
+                base = arithmeticNode.getBase();
+            } else if (base instanceof LoadFieldNode loadFieldNode && !loadFieldNode.isStatic()) {
+                base = loadFieldNode.object();
+            } else {
+                break;
+            }
+        }
+        return base instanceof ParameterNode parameterNode ? parameterNode : null;
+    }
+
+    /**
+     * Returns the loop indices that a value depends on, or null when the value
+     * depends on other values that may differ between the threads of a
+     * work-group. Constants, arguments and the reads of them are the same for all
+     * threads.
+     */
+    private static Set<ValuePhiNode> getIndices(Node node, Set<ValuePhiNode> indices, Map<Node, Set<ValuePhiNode>> visited) {
+        if (visited.containsKey(node)) {
+            return visited.get(node);
+        }
+        // Break the cycles through the phis while the inputs are visited
+        visited.put(node, null);
+        Set<ValuePhiNode> result = null;
+        if (node instanceof ValuePhiNode phi && indices.contains(phi)) {
+            result = Set.of(phi);
+        } else if (node instanceof ConstantNode || node instanceof ParameterNode || node instanceof AbstractParallelNode) {
+            result = Set.of();
+        } else if (node instanceof LoadFieldNode loadFieldNode) {
+            result = loadFieldNode.isStatic() ? Set.of() : getUniformIndices(loadFieldNode.object(), indices, visited);
+        } else if (node instanceof JavaReadNode javaReadNode) {
+            result = getUniformIndices(javaReadNode.getAddress(), indices, visited);
+        } else if ((node instanceof FloatingNode && !(node instanceof PhiNode)) || node instanceof AddressNode) {
+            result = new HashSet<>();
+            for (Node input : getValueInputs(node)) {
+                Set<ValuePhiNode> inputIndices = getIndices(input, indices, visited);
+                if (inputIndices == null) {
+                    result = null;
+                    break;
+                }
+                result.addAll(inputIndices);
+            }
+        }
+        visited.put(node, result);
+        return result;
+    }
+
+    /**
+     * Returns the inputs of a floating node without the guards and the anchors,
+     * which do not change its value.
+     */
+    private static List<Node> getValueInputs(Node node) {
+        List<Node> inputs = new ArrayList<>();
+        for (Node input : node.inputs()) {
+            if (input instanceof ValueNode value && value.getStackKind() != JavaKind.Void) {
+                inputs.add(input);
+            }
+        }
+        return inputs;
+    }
+
+    private static Set<ValuePhiNode> getUniformIndices(Node node, Set<ValuePhiNode> indices, Map<Node, Set<ValuePhiNode>> visited) {
+        Set<ValuePhiNode> result = getIndices(node, indices, visited);
+        return result != null && result.isEmpty() ? result : null;
+    }
+
+    private static boolean isExitCheck(ControlSplitNode split, LoopBeginNode loopBegin) {
+        if (!(split instanceof IfNode ifNode)) {
+            return false;
+        }
+        return (ifNode.trueSuccessor() instanceof LoopExitNode exit && exit.loopBegin() == loopBegin) || (ifNode.falseSuccessor() instanceof LoopExitNode falseExit && falseExit
+                .loopBegin() == loopBegin);
+    }
+
+    /**
+     * Checks that all the threads that run an iteration of the loop reach the
+     * node: the path from the header of the loop to the node only branches to
+     * exit the loop.
+     */
+    private static boolean isOnUniformPath(FixedNode node, LoopBeginNode loopBegin) {
+        Node current = node.predecessor();
+        while (current != loopBegin) {
+            if (current == null || current instanceof AbstractMergeNode || current instanceof LoopExitNode) {
+                return false;
+            }
+            if (current instanceof ControlSplitNode split && !isExitCheck(split, loopBegin)) {
+                return false;
+            }
+            current = current.predecessor();
+        }
+        return loopBegin.loopExits().count() == 1;
+    }
+
+    private static int getTileSize(TornadoXPUDevice device) {
+        long[] maxWorkGroupSize = device.getPhysicalDevice().getDeviceMaxWorkGroupSize();
+        long[] maxWorkItemSizes = device.getPhysicalDevice().getDeviceMaxWorkItemSizes();
+        long maxThreads = (maxWorkGroupSize == null || maxWorkGroupSize.length == 0) ? Long.MAX_VALUE : maxWorkGroupSize[0];
+        int tileSize = Integer.highestOneBit(Math.max(TornadoOptions.LOOP_TILE_SIZE, 1));
+        while (tileSize > 1 && ((long) tileSize * tileSize > maxThreads || tileSize > maxWorkItemSizes[0] || tileSize > maxWorkItemSizes[1])) {
+            tileSize >>= 1;
+        }
+        return tileSize;
+    }
+
+    private static boolean isSupportedKind(JavaKind kind) {
+        return kind == JavaKind.Int || kind == JavaKind.Long || kind == JavaKind.Float || kind == JavaKind.Double;
+    }
+
+    private LoopTiling tile(StructuredGraph graph, TornadoHighTierContext context) {
+        TaskDataContext meta = context.getMeta();
+        TornadoXPUDevice device = context.getDeviceMapping();
+        if (!meta.hasDomain() || meta.getDomain().getDepth() != DIMENSIONS) {
+            return LoopTiling.notTiled("the loop nest has " + (meta.hasDomain() ? meta.getDomain().getDepth() : 0) + " parallel dimensions");
+        }
+        if (device.getDeviceType() != TornadoDeviceType.GPU) {
+            return LoopTiling.notTiled("the device is not a GPU");
+        }
+        if (meta.isWorkerGridAvailable() || meta.shouldUseOpenCLDriverScheduling()) {
+            return LoopTiling.notTiled("the work-groups are not selected by TornadoVM");
+        }
+        if (context.getBatchCompilationConfig() != null && context.getBatchCompilationConfig().getBatchThreads() > 0) {
+            return LoopTiling.notTiled("the task runs in batches");
+        }
+        int tileSize = getTileSize(device);
+        if (tileSize <= 1) {
+            return LoopTiling.notTiled("the device does not support 2D work-groups");
+        }
+
+        LoopsData loopsData = new TornadoLoopsData(graph);
+        loopsData.detectCountedLoops();
+        ParallelLoop[] parallelLoops = new ParallelLoop[DIMENSIONS];
+        for (LoopEx loop : loopsData.loops()) {
+            for (ValuePhiNode phi : loop.loopBegin().valuePhis()) {
+                if (phi.valueAt(0) instanceof ParallelOffsetNode offset && offset.index() < DIMENSIONS) {
+                    parallelLoops[offset.index()] = new ParallelLoop(loop, phi, getRange(graph, offset));
+                }
+            }
+        }
+        for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+            ParallelLoop parallelLoop = parallelLoops[dimension];
+            if (parallelLoop == null || parallelLoop.range() == null) {
+                return LoopTiling.notTiled("the parallel indices are not induction variables");
+            }
+            ParallelRangeNode range = parallelLoop.range();
+            if (getConstant(range.offset().value()) != 0 || getConstant(range.stride().value()) != 1) {
+                return LoopTiling.notTiled("the parallel loop of dimension " + dimension + " does not start at 0 with step 1");
+            }
+            if (getConstant(range.value()) % tileSize != 0) {
+                return LoopTiling.notTiled("the range of dimension " + dimension + " is not a multiple of the tile " + tileSize);
+            }
+        }
+
+        ParallelLoop outer;
+        ParallelLoop inner;
+        if (parallelLoops[1].loop().parent() == parallelLoops[0].loop()) {
+            outer = parallelLoops[0];
+            inner = parallelLoops[1];
+        } else if (parallelLoops[0].loop().parent() == parallelLoops[1].loop()) {
+            outer = parallelLoops[1];
+            inner = parallelLoops[0];
+        } else {
+            return LoopTiling.notTiled("the parallel loops are not nested");
+        }
+        if (!isOnUniformPath(inner.loop().loopBegin().forwardEnd(), outer.loop().loopBegin()) || inner.loop().loopBegin().loopExits().count() != 1) {
+            return LoopTiling.notTiled("the inner parallel loop is not reached by all the threads");
+        }
+
+        Set<Integer> writtenArguments = new HashSet<>();
+        for (JavaWriteNode write : graph.getNodes().filter(JavaWriteNode.class)) {
+            ParameterNode argument = getArgument(write.getAddress());
+            if (argument != null) {
+                writtenArguments.add(argument.index());
+            }
+        }
+
+        TilingReport report = new TilingReport();
+        long localMemory = device.getPhysicalDevice().getDeviceLocalMemorySize();
+        long usedLocalMemory = 0;
+        boolean hasSequentialLoop = false;
+        for (LoopEx loop : loopsData.loops()) {
+            if (loop.parent() != inner.loop()) {
+                continue;
+            }
+            hasSequentialLoop = true;
+            List<SharedRead> sharedReads = findSharedReads(loop, parallelLoops, inner, writtenArguments, report);
+            if (sharedReads.isEmpty()) {
+                continue;
+            }
+            long tileBytes = 0;
+            for (SharedRead sharedRead : sharedReads) {
+                tileBytes += (long) tileSize * tileSize * sharedRead.read().getReadKind().getByteCount();
+            }
+            if (localMemory > 0 && usedLocalMemory + tileBytes > localMemory) {
+                sharedReads.forEach(sharedRead -> report.notTiled("do not fit in the local memory", sharedRead.argument()));
+                continue;
+            }
+            usedLocalMemory += tileBytes;
+            tileLoop(graph, context, loop, sharedReads, tileSize);
+            sharedReads.forEach(sharedRead -> report.tiledArguments.put(sharedRead.argument(), sharedRead.dimension()));
+        }
+
+        if (report.tiledArguments.isEmpty()) {
+            if (!hasSequentialLoop) {
+                return LoopTiling.notTiled("there is no sequential loop inside the parallel loops");
+            }
+            String reason = report.describeNotTiled();
+            return LoopTiling.notTiled(reason.isEmpty() ? "the threads do not read the same data" : reason);
+        }
+        StringBuilder reason = new StringBuilder();
+        report.tiledArguments.forEach((argument, dimension) -> reason.append(reason.isEmpty() ? "" : ", ").append("the reads of argument ").append(argument).append(
+                " are shared along dimension ").append(dimension));
+        String notTiled = report.describeNotTiled();
+        if (!notTiled.isEmpty()) {
+            reason.append("; not tiled: ").append(notTiled);
+        }
+        return LoopTiling.tiled(new long[] { tileSize, tileSize }, reason.toString());
+    }
+
+    /**
+     * Returns the reads of the sequential loop that are shared by the threads of
+     * a tile. The reads must be done in every iteration of the loop, before any
+     * branch, so they can be loaded ahead for the next iterations.
+     */
+    private List<SharedRead> findSharedReads(LoopEx loop, ParallelLoop[] parallelLoops, ParallelLoop inner, Set<Integer> writtenArguments, TilingReport report) {
+        List<SharedRead> sharedReads = new ArrayList<>();
+        if (!loop.isCounted() || loop.counted().isInverted()) {
+            return sharedReads;
+        }
+        CountedLoopInfo counted = loop.counted();
+        InductionVariable inductionVariable = counted.getBodyIV();
+        if (!inductionVariable.isConstantStride() || inductionVariable.constantStride() != 1 || !(inductionVariable.valueNode() instanceof ValuePhiNode loopIndex)) {
+            return sharedReads;
+        }
+        if (!isOnUniformPath(loop.loopBegin().forwardEnd(), inner.loop().loopBegin()) || !isOnUniformPath(counted.getBody(), loop.loopBegin())) {
+            return sharedReads;
+        }
+
+        Map<Node, Set<ValuePhiNode>> visited = new HashMap<>();
+        Set<ValuePhiNode> indices = Set.of(parallelLoops[0].index(), parallelLoops[1].index(), loopIndex);
+        if (getUniformIndices(counted.getBodyIVStart(), indices, visited) == null || getUniformIndices(counted.getLimit(), indices, visited) == null) {
+            return sharedReads;
+        }
+
+        for (FixedNode node = counted.getBody(); node instanceof FixedWithNextNode fixedNode; node = fixedNode.next()) {
+            if (!(node instanceof JavaReadNode read)) {
+                continue;
+            }
+            ParameterNode argument = getArgument(read.getAddress());
+            if (argument == null) {
+                continue;
+            }
+            Set<ValuePhiNode> readIndices = getIndices(read.getAddress(), indices, visited);
+            if (readIndices == null) {
+                report.notTiled("depend on values that differ between threads", argument.index());
+            } else if (!readIndices.contains(loopIndex)) {
+                continue;
+            } else if (writtenArguments.contains(argument.index())) {
+                report.notTiled("are written by the task", argument.index());
+            } else if (!isSupportedKind(read.getReadKind())) {
+                report.notTiled("are not of a supported type", argument.index());
+            } else if (readIndices.contains(parallelLoops[0].index()) && readIndices.contains(parallelLoops[1].index())) {
+                report.notTiled("depend on both parallel indices", argument.index());
+            } else if (readIndices.contains(parallelLoops[0].index())) {
+                sharedReads.add(new SharedRead(read, 0, argument.index()));
+            } else if (readIndices.contains(parallelLoops[1].index())) {
+                sharedReads.add(new SharedRead(read, 1, argument.index()));
+            } else {
+                report.notTiled("are the same for all threads", argument.index());
+            }
+        }
+        return sharedReads;
+    }
+
+    /**
+     * Returns the nodes that compute the address of a read inside the body of
+     * the loop: the nodes that depend on the index of the loop or on the fixed
+     * nodes of the body.
+     */
+    private static boolean collectLoopNodes(Node node, ValuePhiNode loopIndex, Set<Node> body, Map<Node, Boolean> visited, Set<Node> loopNodes) {
+        Boolean result = visited.get(node);
+        if (result != null) {
+            return result;
+        }
+        boolean inLoop = node == loopIndex || body.contains(node);
+        if (!(node instanceof PhiNode) && !(node instanceof FixedNode)) {
+            for (Node input : getValueInputs(node)) {
+                inLoop |= collectLoopNodes(input, loopIndex, body, visited, loopNodes);
+            }
+        } else if (body.contains(node)) {
+            // The fixed reads of the body that the address depends on are duplicated with it
+            for (Node input : node.inputs()) {
+                collectLoopNodes(input, loopIndex, body, visited, loopNodes);
+            }
+        }
+        if (inLoop && node != loopIndex) {
+            loopNodes.add(node);
+        }
+        visited.put(node, inLoop);
+        return inLoop;
+    }
+
+    private static FixedWithNextNode append(FixedWithNextNode last, FixedWithNextNode node) {
+        last.setNext(node);
+        return node;
+    }
+
+    private void tileLoop(StructuredGraph graph, TornadoHighTierContext context, LoopEx loop, List<SharedRead> sharedReads, int tileSize) {
+        CountedLoopInfo counted = loop.counted();
+        ValuePhiNode loopIndex = (ValuePhiNode) counted.getBodyIV().valueNode();
+        ValueNode end = counted.isLimitIncluded() ? graph.addOrUniqueWithInputs(new AddNode(counted.getLimit(), ConstantNode.forInt(1))) : counted.getLimit();
+        ValueNode last = graph.addOrUniqueWithInputs(new SubNode(end, ConstantNode.forInt(1)));
+
+        // Position of the iteration in the tile
+        ValueNode iteration = graph.addOrUniqueWithInputs(new SubNode(loopIndex, counted.getBodyIVStart()));
+        ValueNode tileIteration = graph.addOrUniqueWithInputs(new AndNode(iteration, ConstantNode.forInt(tileSize - 1)));
+        LogicNode isFirstIteration = graph.addOrUniqueWithInputs(IntegerEqualsNode.create(tileIteration, ConstantNode.forInt(0), NodeView.DEFAULT));
+
+        // if (first iteration of the tile) { barrier; load the tiles; barrier; }
+        AbstractBeginNode body = counted.getBody();
+        FixedNode next = body.next();
+        body.setNext(null);
+        BeginNode loadBegin = graph.add(new BeginNode());
+        BeginNode skipBegin = graph.add(new BeginNode());
+        IfNode ifNode = graph.add(new IfNode(isFirstIteration, loadBegin, skipBegin, BranchProbabilityData.unknown()));
+        body.setNext(ifNode);
+
+        List<FixedNode> bodyNodes = new ArrayList<>();
+        for (FixedNode node = next; node instanceof FixedWithNextNode fixedNode; node = fixedNode.next()) {
+            bodyNodes.add(node);
+        }
+        Set<Node> bodySet = new HashSet<>(bodyNodes);
+
+        FixedWithNextNode lastNode = append(loadBegin, createLocalBarrier(graph));
+        Map<JavaReadNode, LoadIndexedNode> tileReads = new LinkedHashMap<>();
+        for (SharedRead sharedRead : sharedReads) {
+            JavaReadNode read = sharedRead.read();
+            int dimension = sharedRead.dimension();
+            ValueNode localId = createLocalThreadId(graph, dimension);
+            ValueNode otherLocalId = createLocalThreadId(graph, 1 - dimension);
+
+            // Each thread loads the iteration of the tile given by its index in the other dimension
+            ValueNode loadedIteration = graph.addOrUniqueWithInputs(new AddNode(loopIndex, otherLocalId));
+            LogicNode isInRange = graph.addOrUniqueWithInputs(IntegerLessThanNode.create(loadedIteration, end, NodeView.DEFAULT));
+            ValueNode clampedIteration = graph.addOrUniqueWithInputs(new ConditionalNode(isInRange, loadedIteration, last));
+
+            Set<Node> loopNodes = new HashSet<>();
+            collectLoopNodes(read, loopIndex, bodySet, new HashMap<>(), loopNodes);
+            EconomicMap<Node, Node> replacements = EconomicMap.create(Equivalence.IDENTITY);
+            replacements.put(loopIndex, clampedIteration);
+            EconomicMap<Node, Node> duplicates = graph.addDuplicates(loopNodes, graph, loopNodes.size(), replacements);
+            for (FixedNode node : bodyNodes) {
+                if (duplicates.get(node) instanceof FixedWithNextNode duplicate) {
+                    duplicate.setNext(null);
+                    lastNode = append(lastNode, duplicate);
+                }
+            }
+
+            JavaKind elementKind = read.getReadKind();
+            ResolvedJavaType elementType = context.getMetaAccess().lookupJavaType(elementKind.toJavaClass());
+            ValueNode tile = createLocalArray(graph, elementType, tileSize * tileSize);
+            ValueNode storeIndex = graph.addOrUniqueWithInputs(new AddNode(new MulNode(otherLocalId, ConstantNode.forInt(tileSize)), localId));
+            lastNode = append(lastNode, graph.add(new StoreIndexedNode(tile, storeIndex, null, null, elementKind, (ValueNode) duplicates.get(read))));
+
+            ValueNode loadIndex = graph.addOrUniqueWithInputs(new AddNode(new MulNode(tileIteration, ConstantNode.forInt(tileSize)), localId));
+            tileReads.put(read, graph.add(new LoadIndexedNode(null, tile, loadIndex, null, elementKind)));
+        }
+        lastNode = append(lastNode, createLocalBarrier(graph));
+
+        EndNode loadEnd = graph.add(new EndNode());
+        lastNode.setNext(loadEnd);
+        EndNode skipEnd = graph.add(new EndNode());
+        skipBegin.setNext(skipEnd);
+        MergeNode merge = graph.add(new MergeNode());
+        merge.addForwardEnd(loadEnd);
+        merge.addForwardEnd(skipEnd);
+        merge.setNext(next);
+
+        tileReads.forEach((read, tileRead) -> {
+            AddressNode address = read.getAddress();
+            graph.replaceFixedWithFixed(read, tileRead);
+            if (address.hasNoUsages()) {
+                GraphUtil.killWithUnusedFloatingInputs(address);
+            }
+        });
+
+        // The reads of the body that were only used by the addresses of the tiled reads are now duplicated in the tiles
+        for (FixedNode node : bodyNodes) {
+            if (!node.isDeleted() && node.hasNoUsages() && (node instanceof LoadFieldNode || node instanceof JavaReadNode)) {
+                graph.removeFixed((FixedWithNextNode) node);
+            }
+        }
+    }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!TornadoOptions.LOOP_TILING || !context.hasMeta() || context.getDeviceMapping() == null) {
+            return;
+        }
+        TaskDataContext meta = context.getMeta();
+        LoopTiling loopTiling = tile(graph, context);
+        meta.setLoopTiling(loopTiling);
+
+        logger.debug("loop tiling of %s: %s", meta.getId(), loopTiling);
+        if (meta.isPrintKernelEnabled()) {
+            System.out.println("[TornadoVM] Loop tiling of " + meta.getId() + ": " + loopTiling);
+        }
+    }
+}
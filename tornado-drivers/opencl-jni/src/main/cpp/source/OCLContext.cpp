@@ -160,6 +160,29 @@ JNIEXPORT jlong JNICALL Java_uk_ac_manchester_tornado_drivers_opencl_OCLContext_
     return (jlong) mem;
 }
 
+/*
+ * Class:     uk_ac_manchester_tornado_drivers_opencl_OCLContext
+ * Method:    createImage2D
+ * Signature: (JJIIJJ)J
+ */
+JNIEXPORT jlong JNICALL Java_uk_ac_manchester_tornado_drivers_opencl_OCLContext_createImage2D
+(JNIEnv *env, jclass clazz, jlong context_id, jlong flags, jint channel_order, jint channel_type, jlong width, jlong height) {
+    cl_image_format format;
+    format.image_channel_order = (cl_channel_order) channel_order;
+    format.image_channel_data_type = (cl_channel_type) channel_type;
+
+    cl_image_desc desc;
+    memset(&desc, 0, sizeof(cl_image_desc));
+    desc.image_type = CL_MEM_OBJECT_IMAGE2D;
+    desc.image_width = (size_t) width;
+    desc.image_height = (size_t) height;
+
+    cl_int status;
+    cl_mem mem = clCreateImage((cl_context) context_id, (cl_mem_flags) flags, &format, &desc, NULL, &status);
+    LOG_OCL_AND_VALIDATE("clCreateImage", status);
+    return (status == CL_SUCCESS) ? (jlong) mem : 0;
+}
+
 /*
  * Class:     uk_ac_manchester_tornado_drivers_opencl_OCLContext
  * Method:    clReleaseMemObject
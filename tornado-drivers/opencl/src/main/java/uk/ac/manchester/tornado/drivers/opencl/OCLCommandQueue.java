@@ -127,6 +127,8 @@ public class OCLCommandQueue extends CommandQueue {
 
     static native void clEnqueueWaitForEvents(long queueId, long[] events) throws OCLException;
 
+    static native long clEnqueueCopyBufferToImage(long queueId, long srcBuffer, long dstImage, long srcOffset, long width, long height, long[] events) throws OCLException;
+
     /*
      * for OpenCL 1.2 implementations
      */
@@ -388,6 +390,19 @@ public class OCLCommandQueue extends CommandQueue {
         }
     }
 
+    /**
+     * Copies a 2D region of a buffer into an image object. The copy is done on
+     * the device, so the pixels never travel back to the host.
+     */
+    public long enqueueCopyBufferToImage(long srcBuffer, long dstImage, long srcOffset, long width, long height, long[] waitEvents) {
+        try {
+            return clEnqueueCopyBufferToImage(commandQueuePtr, srcBuffer, dstImage, srcOffset, width, height, waitEvents);
+        } catch (OCLException e) {
+            logger.error(e.getMessage());
+            throw new TornadoBailoutRuntimeException(e.getMessage());
+        }
+    }
+
     public long enqueueBarrier(long[] waitEvents) {
         return (openclVersion < 120) ? enqueueBarrier_OCLv1_1(waitEvents) : enqueueBarrier_OCLv1_2(waitEvents);
     }
@@ -72,6 +72,8 @@ public class OCLContext implements OCLContextInterface {
 
     native long createSubBuffer(long buffer, long flags, int createType, byte[] createInfo) throws OCLException;
 
+    native long createImage2D(long contextId, long flags, int channelOrder, int channelType, long width, long height) throws OCLException;
+
     native void clReleaseMemObject(long memId) throws OCLException;
 
     native long clCreateProgramWithSource(long contextId, byte[] data, long[] lengths) throws OCLException;
@@ -175,6 +177,10 @@ public class OCLContext implements OCLContextInterface {
             }
         }
 
+        for (OCLDeviceContext deviceContext : deviceContexts) {
+            deviceContext.destroyCommandQueues();
+        }
+
         try {
             long t1 = System.nanoTime();
             clReleaseContext(contextID);
@@ -218,6 +224,23 @@ public class OCLContext implements OCLContextInterface {
         return null;
     }
 
+    /**
+     * Creates a 2D image object. Images are released with
+     * {@link #releaseBuffer(long)}, like any other memory object.
+     *
+     * @return the image object, or 0 if the device cannot create it.
+     */
+    public long createImage2D(long flags, int channelOrder, int channelType, long width, long height) {
+        try {
+            final long image = createImage2D(contextID, flags, channelOrder, channelType, width, height);
+            logger.info("image allocated %dx%d @ 0x%x", width, height, image);
+            return image;
+        } catch (OCLException e) {
+            logger.error(e.getMessage());
+        }
+        return 0;
+    }
+
     public void releaseBuffer(long bufferId) {
         try {
             clReleaseMemObject(bufferId);
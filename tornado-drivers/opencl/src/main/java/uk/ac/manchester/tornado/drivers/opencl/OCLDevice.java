@@ -403,6 +403,12 @@ public class OCLDevice implements OCLTargetDevice {
         return deviceAddressBits;
     }
 
+    @Override
+    public boolean isImageSupported() {
+        queryOpenCLAPI(OCLDeviceInfo.CL_DEVICE_IMAGE_SUPPORT.getValue());
+        return buffer.getInt() == OpenCL.CL_TRUE;
+    }
+
     public boolean hasDeviceUnifiedMemory() {
         queryOpenCLAPI(OCLDeviceInfo.CL_DEVICE_HOST_UNIFIED_MEMORY.getValue());
         return buffer.getInt() == OpenCL.CL_TRUE;
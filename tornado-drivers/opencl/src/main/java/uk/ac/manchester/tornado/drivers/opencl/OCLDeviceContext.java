@@ -38,6 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.common.power.PowerMetric;
 import uk.ac.manchester.tornado.drivers.common.utils.EventDescriptor;
@@ -49,6 +50,7 @@ import uk.ac.manchester.tornado.drivers.opencl.power.OCLEmptyPowerMetricHandler;
 import uk.ac.manchester.tornado.drivers.opencl.power.OCLNvidiaPowerMetricHandler;
 import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLBufferProvider;
 import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 
@@ -57,9 +59,10 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
     private final OCLTargetDevice device;
 
     /**
-     * Table to represent {@link uk.ac.manchester.tornado.api.TornadoExecutionPlan} -> {@link OCLCommandQueueTable}
+     * Command queues of the device. Each {@link uk.ac.manchester.tornado.api.TornadoExecutionPlan} is bound to one
+     * queue of a bounded pool.
      */
-    private final Map<Long, OCLCommandQueueTable> commandQueueTable;
+    private final OCLCommandQueueTable commandQueueTable;
     private final OCLContext context;
     private final PowerMetric powerMetricHandler;
     private final OCLMemoryManager memoryManager;
@@ -74,13 +77,15 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
      */
     private final Map<Long, OCLCodeCache> codeCache;
 
+    private final TornadoLogger logger = new TornadoLogger(this.getClass());
+
     public OCLDeviceContext(OCLTargetDevice device, OCLContext context) {
         this.device = device;
         this.context = context;
         this.memoryManager = new OCLMemoryManager(this);
         this.oclEventPool = new ConcurrentHashMap<>();
         this.bufferProvider = new OCLBufferProvider(this);
-        this.commandQueueTable = new ConcurrentHashMap<>();
+        this.commandQueueTable = new OCLCommandQueueTable();
         this.device.setDeviceContext(this);
         this.executionIDs = Collections.synchronizedSet(new HashSet<>());
         if (isDeviceContextOfNvidia()) {
@@ -195,6 +200,17 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
                 : null), EventDescriptor.DESC_PARALLEL_KERNEL, commandQueue);
     }
 
+    /**
+     * Copies the pixels stored in a buffer into a 2D image on the device.
+     */
+    public int enqueueCopyBufferToImage(long executionPlanId, long bufferId, long imageId, long offset, long width, long height, int[] waitEvents) {
+        OCLCommandQueue commandQueue = getCommandQueue(executionPlanId);
+        OCLEventPool eventPool = getOCLEventPool(executionPlanId);
+        return eventPool.registerEvent(commandQueue.enqueueCopyBufferToImage(bufferId, imageId, offset, width, height, eventPool.serialiseEvents(waitEvents, commandQueue)
+                ? eventPool.waitEventsBuffer
+                : null), EventDescriptor.DESC_COPY_TO_IMAGE, commandQueue);
+    }
+
     public long getPowerUsage() {
         long[] powerUsage = new long[1];
         powerMetricHandler.getPowerUsage(powerUsage);
@@ -266,13 +282,22 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
 
     private OCLCommandQueue getCommandQueue(long executionPlanId) {
         executionIDs.add(executionPlanId);
-        if (!commandQueueTable.containsKey(executionPlanId)) {
-            OCLTargetDevice device = context.devices().get(getDeviceIndex());
-            OCLCommandQueueTable oclCommandQueueTable = new OCLCommandQueueTable();
-            oclCommandQueueTable.get(device, context);
-            commandQueueTable.put(executionPlanId, oclCommandQueueTable);
+        return commandQueueTable.get(executionPlanId, device, context);
+    }
+
+    /**
+     * @return the pool of command queues of the device, with the number of
+     *     queues and how often they are shared between execution plans.
+     */
+    public CommandQueuePool<OCLCommandQueue> getCommandQueuePool() {
+        return commandQueueTable.getPool(device, context);
+    }
+
+    void destroyCommandQueues() {
+        if (TornadoOptions.FULL_DEBUG) {
+            logger.info("cleanup: command queues of %s: %s", getDeviceName(), getCommandQueuePool());
         }
-        return commandQueueTable.get(executionPlanId).get(context.devices().get(getDeviceIndex()), context);
+        commandQueueTable.destroyAll();
     }
 
     private OCLEventPool getOCLEventPool(long executionPlanId) {
@@ -516,14 +541,8 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
         OCLEventPool eventPool = getOCLEventPool(executionPlanId);
         eventPool.reset();
         oclEventPool.remove(executionPlanId);
-        OCLCommandQueueTable table = commandQueueTable.get(executionPlanId);
-        if (table != null) {
-            table.cleanup(device);
-            if (table.size() == 0) {
-                commandQueueTable.remove(executionPlanId);
-            }
-            executionIDs.remove(executionPlanId);
-        }
+        commandQueueTable.cleanup(executionPlanId, device);
+        executionIDs.remove(executionPlanId);
         getMemoryManager().releaseKernelStackFrame(executionPlanId);
         OCLCodeCache oclCodeCache = getOCLCodeCache(executionPlanId);
         oclCodeCache.reset();
@@ -54,6 +54,8 @@ public class OCLTargetDescription extends TargetDescription {
     private final String extensions;
     private final boolean supportsInt64Atomics;
 
+    private final boolean supportsInt64ExtendedAtomics;
+
     private final boolean supportsF16;
 
     public OCLTargetDescription(Architecture arch, boolean supportsFP64, String extensions) {
@@ -65,6 +67,7 @@ public class OCLTargetDescription extends TargetDescription {
         this.supportsFP64 = supportsFP64;
         this.extensions = extensions;
         supportsInt64Atomics = extensions.contains("cl_khr_int64_base_atomics");
+        supportsInt64ExtendedAtomics = extensions.contains("cl_khr_int64_extended_atomics");
         supportsF16 = extensions.contains("cl_khr_fp16");
     }
     //@formatter:on
@@ -103,6 +106,10 @@ public class OCLTargetDescription extends TargetDescription {
         return supportsInt64Atomics;
     }
 
+    public boolean supportsInt64ExtendedAtomics() {
+        return supportsInt64ExtendedAtomics;
+    }
+
     public String getExtensions() {
         return extensions;
     }
@@ -63,4 +63,6 @@ public interface OCLTargetDevice extends TornadoTargetDevice {
     int deviceVersion();
 
     boolean isSPIRVSupported();
+
+    boolean isImageSupported();
 }
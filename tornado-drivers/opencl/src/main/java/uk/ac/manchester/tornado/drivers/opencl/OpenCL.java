@@ -188,7 +188,7 @@ public class OpenCL {
 
         // Pass arguments to the call callWrapper
         for (int i = 0; i < numArgs; i++) {
-            callWrapper.addCallArgument(states.get(i).getXPUBuffer().toBuffer(), true);
+            callWrapper.addReferenceArgument(parameters[i], states.get(i).getXPUBuffer());
         }
 
         // Run the code
@@ -54,12 +54,14 @@ import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDevice;
 import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilerConfiguration;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.plugins.OCLGraphBuilderPlugins;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.plugins.OCLImagePlugins;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLAddressLowering;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
 import uk.ac.manchester.tornado.drivers.providers.TornadoMetaAccessExtensionProvider;
 import uk.ac.manchester.tornado.drivers.providers.TornadoPlatformConfigurationProvider;
 import uk.ac.manchester.tornado.drivers.providers.TornadoWordTypes;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfigAccess;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.DummySnippetFactory;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoConstantFieldProvider;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoForeignCallsProvider;
@@ -111,7 +113,7 @@ public class OCLHotSpotBackendFactory {
             ClassfileBytecodeProvider bytecodeProvider = new ClassfileBytecodeProvider(metaAccess, snippetReflection);
             GraalDebugHandlersFactory graalDebugHandlersFactory = new GraalDebugHandlersFactory(snippetReflection);
             TornadoReplacements replacements = new TornadoReplacements(graalDebugHandlersFactory, p, snippetReflection, bytecodeProvider, target);
-            plugins = createGraphBuilderPlugins(metaAccess, replacements, snippetReflection, lowerer);
+            plugins = createGraphBuilderPlugins(metaAccess, replacements, snippetReflection, lowerer, TornadoOptions.OPENCL_IMAGES && device.isImageSupported());
 
             replacements.setGraphBuilderPlugins(plugins);
 
@@ -128,7 +130,7 @@ public class OCLHotSpotBackendFactory {
     }
 
     protected static Plugins createGraphBuilderPlugins(HotSpotMetaAccessProvider metaAccess, Replacements replacements, SnippetReflectionProvider snippetReflectionProvider,
-            LoweringProvider loweringProvider) {
+            LoweringProvider loweringProvider, boolean imageSupport) {
         InvocationPlugins invocationPlugins = new InvocationPlugins();
         Plugins plugins = new Plugins(invocationPlugins);
 
@@ -143,6 +145,9 @@ public class OCLHotSpotBackendFactory {
                 false, //
                 loweringProvider);
         OCLGraphBuilderPlugins.registerInvocationPlugins(plugins, invocationPlugins);
+        if (imageSupport) {
+            OCLImagePlugins.registerPlugins(invocationPlugins);
+        }
         return plugins;
     }
 
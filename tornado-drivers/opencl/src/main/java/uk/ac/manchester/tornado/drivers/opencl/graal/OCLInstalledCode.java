@@ -27,19 +27,30 @@ import static uk.ac.manchester.tornado.runtime.common.RuntimeUtilities.isBoxedPr
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.DEBUG;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 
 import jdk.vm.ci.code.InstalledCode;
 import jdk.vm.ci.code.InvalidInstalledCodeException;
+import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.memory.XPUBuffer;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.images.ImageByte4;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.drivers.common.KernelArgumentCache;
 import uk.ac.manchester.tornado.drivers.common.mm.PrimitiveSerialiser;
 import uk.ac.manchester.tornado.drivers.opencl.OCLDeviceContext;
 import uk.ac.manchester.tornado.drivers.opencl.OCLKernel;
 import uk.ac.manchester.tornado.drivers.opencl.OCLProgram;
+import uk.ac.manchester.tornado.drivers.opencl.enums.OCLMemFlags;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLImageParameter;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLByteBuffer;
+import uk.ac.manchester.tornado.drivers.opencl.mm.OCLFieldBuffer;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLKernelStackFrame;
 import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
 import uk.ac.manchester.tornado.drivers.opencl.scheduler.OCLGenericGPUScheduler;
@@ -66,6 +77,14 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
     private final long[] singleThreadGlobalWorkSize = new long[] { 1 };
     private final long[] singleThreadLocalWorkSize = new long[] { 1 };
     private final boolean isSPIRVBinary;
+    private final KernelArgumentCache argumentCache;
+    private final boolean useArgumentCache = TornadoOptions.KERNEL_ARGUMENT_CACHE;
+    private List<OCLImageParameter> imageParameters = List.of();
+    private long[] images = new long[0];
+    private int[][] imageSizes = new int[0][];
+    // Buffer and version of the parameter each image was copied from
+    private long[] imageSources = new long[0];
+    private long[] imageVersions = new long[0];
     private boolean valid;
     TornadoLogger logger = new TornadoLogger(this.getClass());
 
@@ -80,16 +99,110 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
         valid = kernel != null;
         buffer.order(deviceContext.getByteOrder());
         this.isSPIRVBinary = isSPIRVBinary;
+        this.argumentCache = new KernelArgumentCache(entryPoint);
     }
 
     @Override
     public void invalidate() {
         if (valid) {
             program.cleanup();
+            argumentCache.invalidate();
+            releaseImages();
             valid = false;
         }
     }
 
+    /**
+     * Sets the parameters that the kernel reads through OpenCL images. The
+     * images are appended to the arguments of the kernel, in the same order.
+     */
+    public void setImageParameters(List<OCLImageParameter> imageParameters) {
+        this.imageParameters = imageParameters;
+        this.images = new long[imageParameters.size()];
+        this.imageSizes = new int[imageParameters.size()][];
+        this.imageSources = new long[imageParameters.size()];
+        this.imageVersions = new long[imageParameters.size()];
+    }
+
+    private void releaseImages() {
+        for (int i = 0; i < images.length; i++) {
+            if (images[i] != 0) {
+                deviceContext.getPlatformContext().releaseBuffer(images[i]);
+                images[i] = 0;
+            }
+        }
+    }
+
+    private static int[] getImageSize(Object image) {
+        return switch (image) {
+            case ImageFloat imageFloat -> new int[] { imageFloat.X(), imageFloat.Y() };
+            case ImageFloat4 imageFloat4 -> new int[] { imageFloat4.X(), imageFloat4.Y() };
+            case ImageByte4 imageByte4 -> new int[] { imageByte4.X(), imageByte4.Y() };
+            case null, default -> throw new TornadoRuntimeException("[ERROR] Unsupported image parameter: " + image);
+        };
+    }
+
+    /**
+     * Copies the pixels of the image parameters into their OpenCL images. The
+     * copies run on the device, from the storage of the image that is already in
+     * the device buffer of the parameter. The images stay resident across
+     * launches, and they are only copied again when the device buffer of the
+     * parameter was written since the last copy, by a transfer from the host or
+     * by a kernel ({@link OCLFieldBuffer#getVersion()}). A kernel reads the
+     * pixels as they were when it was launched.
+     *
+     * @return the events of the copies, -1 for the images that are up to date,
+     *     or null if the kernel has no image parameters.
+     */
+    private int[] copyImages(long executionPlanId, OCLKernelStackFrame kernelArgs, int[] waitEvents) {
+        if (imageParameters.isEmpty()) {
+            return null;
+        }
+        int[] copyEvents = new int[imageParameters.size()];
+        for (int i = 0; i < imageParameters.size(); i++) {
+            OCLImageParameter image = imageParameters.get(i);
+            KernelStackFrame.CallArgument arg = kernelArgs.getCallArguments().get(image.argumentIndex());
+            if (!(arg.getBuffer() instanceof OCLFieldBuffer fieldBuffer)) {
+                throw new TornadoRuntimeException("[ERROR] The buffer of the image parameter " + image.getName() + " is not available");
+            }
+            int[] size = getImageSize(arg.getReference());
+            boolean resized = images[i] == 0 || !Arrays.equals(size, imageSizes[i]);
+            if (!resized && imageSources[i] == fieldBuffer.toBuffer() && imageVersions[i] == fieldBuffer.getVersion()) {
+                copyEvents[i] = -1;
+                continue;
+            }
+            if (resized) {
+                if (images[i] != 0) {
+                    deviceContext.getPlatformContext().releaseBuffer(images[i]);
+                }
+                images[i] = deviceContext.getPlatformContext().createImage2D(OCLMemFlags.CL_MEM_READ_ONLY, image.type().getChannelOrder(), image.type().getChannelType(), size[0], size[1]);
+                if (images[i] == 0) {
+                    throw new TornadoRuntimeException("[ERROR] Unable to create the image " + image.getName() + " of " + size[0] + "x" + size[1] + " pixels");
+                }
+                imageSizes[i] = size;
+            }
+            long storageOffset = fieldBuffer.getFieldBufferOffset("storage") + TornadoNativeArray.ARRAY_HEADER;
+            copyEvents[i] = deviceContext.enqueueCopyBufferToImage(executionPlanId, fieldBuffer.toBuffer(), images[i], storageOffset, size[0], size[1], waitEvents);
+            imageSources[i] = fieldBuffer.toBuffer();
+            imageVersions[i] = fieldBuffer.getVersion();
+        }
+        return copyEvents;
+    }
+
+    /**
+     * Marks the objects that the kernel might modify, so the images created from
+     * them are copied again before their next use.
+     */
+    private void markWrittenParameters(OCLKernelStackFrame kernelArgs, TaskDataContext meta) {
+        Access[] accesses = meta == null ? null : meta.getArgumentsAccess();
+        List<KernelStackFrame.CallArgument> callArguments = kernelArgs.getCallArguments();
+        for (int i = 0; i < callArguments.size(); i++) {
+            if (callArguments.get(i).getBuffer() instanceof OCLFieldBuffer fieldBuffer && (accesses == null || i >= accesses.length || accesses[i] != Access.READ_ONLY)) {
+                fieldBuffer.markWritten();
+            }
+        }
+    }
+
     public OCLProgram getProgram() {
         return program;
     }
@@ -118,20 +231,24 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
     }
 
     /**
-     * Set arguments into the OpenCL device Kernel.
+     * Set arguments into the OpenCL device Kernel. The OpenCL kernel keeps its
+     * arguments between launches, so only the arguments that changed since the
+     * previous launch are set, unless {@link TornadoOptions#KERNEL_ARGUMENT_CACHE}
+     * is disabled.
      *
+     * @param executionPlanId
+     *     execution plan that launches the kernel
      * @param kernelArgs
      *     OpenCL kernel parameters {@link OCLByteBuffer}
      * @param meta
      *     task metadata {@link TaskDataContext}
      */
-    private void setKernelArgs(final OCLKernelStackFrame kernelArgs, final XPUBuffer atomicSpace, TaskDataContext meta) {
+    private void setKernelArgs(long executionPlanId, final OCLKernelStackFrame kernelArgs, final XPUBuffer atomicSpace, TaskDataContext meta) {
+        final long numSkippedBefore = argumentCache.getNumSkipped();
         int index = 0;
 
         // kernel context
-        buffer.clear();
-        buffer.putLong(kernelArgs.toBuffer());
-        kernel.setArg(index, buffer);
+        setLongArg(index, kernelArgs.toBuffer());
         index++;
 
         if (isSPIRVBinary) {
@@ -140,65 +257,95 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
                 KernelStackFrame.CallArgument arg = kernelArgs.getCallArguments().get(i);
                 // Include the extra kernel context argument for SPIR-V binaries.
                 if (arg.getValue() instanceof KernelStackFrame.KernelContextArgument) {
-                    buffer.clear();
-                    buffer.putLong(kernelArgs.toBuffer());
-                    kernel.setArg(index + argIndex, buffer);
+                    setLongArg(index + argIndex, kernelArgs.toBuffer());
                     argIndex++;
                     continue;
                 }
                 if (isBoxedPrimitive(arg.getValue()) || arg.getValue().getClass().isPrimitive()) {
-                    buffer.clear();
-                    PrimitiveSerialiser.put(buffer, arg.getValue());
-                    kernel.setArg(index + argIndex, buffer);
+                    setPrimitiveArg(index + argIndex, arg.getValue());
                 } else {
                     shouldNotReachHere();
                 }
                 argIndex++;
             }
+            updateProfilerSkippedArguments(meta, argumentCache.getNumSkipped() - numSkippedBefore);
             return;
         }
 
         // constant memory
         if (meta != null && meta.getConstantSize() > 0) {
+            argumentCache.invalidate(index);
             kernel.setArg(index, ByteBuffer.wrap(meta.getConstantData()));
+            argumentCache.argumentSet(index);
         } else {
-            buffer.clear();
-            buffer.putLong(kernelArgs.toConstantAddress());
-            kernel.setArg(index, buffer);
+            setLongArg(index, kernelArgs.toConstantAddress());
         }
         index++;
 
         // local memory buffers
         if (meta != null && meta.getLocalSize() > 0) {
-            logger.info("\tallocating %s of local memory", RuntimeUtilities.humanReadableByteCount(meta.getLocalSize(), true));
-            kernel.setLocalRegion(index, meta.getLocalSize());
-        } else {
+            if (!useArgumentCache || argumentCache.updateLocalRegion(index, meta.getLocalSize())) {
+                logger.info("\tallocating %s of local memory", RuntimeUtilities.humanReadableByteCount(meta.getLocalSize(), true));
+                kernel.setLocalRegion(index, meta.getLocalSize());
+                argumentCache.argumentSet(index);
+            }
+        } else if (!useArgumentCache || argumentCache.updateUnused(index)) {
             kernel.setArgUnused(index);
+            argumentCache.argumentSet(index);
         }
         index++;
 
         // Atomics in Global Memory
-        buffer.clear();
-        buffer.putLong(kernelArgs.toAtomicAddress());
-        kernel.setArg(index, buffer);
+        setLongArg(index, kernelArgs.toAtomicAddress(executionPlanId));
         index++;
 
         // Parameters
-        for (int i = 0, argIndex = 0; i < kernelArgs.getCallArguments().size(); i++) {
+        int argIndex = 0;
+        for (int i = 0; i < kernelArgs.getCallArguments().size(); i++) {
             KernelStackFrame.CallArgument arg = kernelArgs.getCallArguments().get(i);
             if (arg.getValue() instanceof KernelStackFrame.KernelContextArgument) {
                 // We do not set any kernel context argument. This is only for the Java side.
                 continue;
             }
             if (isBoxedPrimitive(arg.getValue()) || arg.getValue().getClass().isPrimitive()) {
-                buffer.clear();
-                PrimitiveSerialiser.put(buffer, arg.getValue());
-                kernel.setArg(index + argIndex, buffer);
+                setPrimitiveArg(index + argIndex, arg.getValue());
             } else {
                 shouldNotReachHere();
             }
             argIndex++;
         }
+
+        // Images, after the parameters
+        for (int i = 0; i < images.length; i++) {
+            setLongArg(index + argIndex + i, images[i]);
+        }
+        updateProfilerSkippedArguments(meta, argumentCache.getNumSkipped() - numSkippedBefore);
+    }
+
+    private void setLongArg(int index, long value) {
+        if (!useArgumentCache || argumentCache.update(index, value, Long.BYTES)) {
+            buffer.clear();
+            buffer.putLong(value);
+            kernel.setArg(index, buffer);
+            argumentCache.argumentSet(index);
+        }
+    }
+
+    private void setPrimitiveArg(int index, Object value) {
+        // The buffer is cleared, so the bits of values smaller than a long are comparable
+        buffer.clear();
+        buffer.putLong(0, 0L);
+        PrimitiveSerialiser.put(buffer, value);
+        if (!useArgumentCache || argumentCache.update(index, buffer.getLong(0), buffer.position())) {
+            kernel.setArg(index, buffer);
+            argumentCache.argumentSet(index);
+        }
+    }
+
+    private void updateProfilerSkippedArguments(TaskDataContext meta, long numSkipped) {
+        if (TornadoOptions.isProfilerEnabled() && meta != null && numSkipped > 0) {
+            meta.getProfiler().addValueToMetric(ProfilerType.SKIPPED_KERNEL_ARGUMENTS, meta.getId(), numSkipped);
+        }
     }
 
     private void printDebugLaunchInfo(final TaskDataContext meta) {
@@ -220,9 +367,15 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
          * Only set the kernel arguments if they are either: - not set or - have changed
          */
         final int[] waitEvents;
-        setKernelArgs(kernelArgs, atomicSpace, meta);
+        final int[] imageEvents = copyImages(executionPlanId, kernelArgs, events);
+        setKernelArgs(executionPlanId, kernelArgs, atomicSpace, meta);
         internalEvents[0] = kernelArgs.enqueueWrite(executionPlanId, events);
-        waitEvents = internalEvents;
+        if (imageEvents == null) {
+            waitEvents = internalEvents;
+        } else {
+            waitEvents = Arrays.copyOf(imageEvents, imageEvents.length + 1);
+            waitEvents[imageEvents.length] = internalEvents[0];
+        }
         updateProfilerKernelContextWrite(executionPlanId, internalEvents[0], meta, kernelArgs);
 
         int task;
@@ -242,6 +395,7 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
                 }
             }
         }
+        markWrittenParameters(kernelArgs, meta);
         return task;
     }
 
@@ -303,7 +457,9 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
             logger.info("kernel submitted: id=0x%x, method = %s, device =%s", kernel.getOclKernelID(), kernel.getName(), deviceContext.getDevice().getDeviceName());
         }
 
-        setKernelArgs(oclKernelStackFrame, atomicSpace, meta);
+        // The queue is in order, so the kernel runs after the copies of the images
+        copyImages(executionPlanId, oclKernelStackFrame, null);
+        setKernelArgs(executionPlanId, oclKernelStackFrame, atomicSpace, meta);
         int kernelContextWriteEventId = oclKernelStackFrame.enqueueWrite(executionPlanId);
         updateProfilerKernelContextWrite(executionPlanId, kernelContextWriteEventId, meta, oclKernelStackFrame);
 
@@ -312,6 +468,7 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
         } else {
             launchKernel(executionPlanId, oclKernelStackFrame, meta, batchThreads);
         }
+        markWrittenParameters(oclKernelStackFrame, meta);
     }
 
     private void updateProfilerKernelContextWrite(long executionPlanId, int kernelContextWriteEventId, TaskDataContext meta, OCLKernelStackFrame callWrapper) {
@@ -80,6 +80,10 @@ public final class OCLAssembler extends Assembler {
             emitLine("#pragma OPENCL EXTENSION cl_khr_int64_base_atomics : enable  ");
         }
 
+        if (((OCLTargetDescription) target).supportsInt64ExtendedAtomics()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_int64_extended_atomics : enable  ");
+        }
+
         if (EMIT_INTRINSICS) {
             emitAtomicIntrinsics();
         }
@@ -698,6 +702,21 @@ public final class OCLAssembler extends Assembler {
         public static final OCLUnaryIntrinsic ATOMIC_VAR_INIT = new OCLUnaryIntrinsic("ATOMIC_VAR_INIT");
         public static final OCLUnaryIntrinsic ATOMIC_DEC = new OCLUnaryIntrinsic("atomic_dec");
         public static final OCLUnaryIntrinsic ATOMIC_GET = new OCLUnaryIntrinsic("atomic[0]");
+        public static final OCLUnaryIntrinsic ATOMIC_CMPXCHG = new OCLUnaryIntrinsic("atomic_cmpxchg");
+        public static final OCLUnaryIntrinsic ATOMIC_XCHG = new OCLUnaryIntrinsic("atomic_xchg");
+        public static final OCLUnaryIntrinsic ATOMIC_MIN = new OCLUnaryIntrinsic("atomic_min");
+        public static final OCLUnaryIntrinsic ATOMIC_MAX = new OCLUnaryIntrinsic("atomic_max");
+        public static final OCLUnaryIntrinsic ATOMIC_AND = new OCLUnaryIntrinsic("atomic_and");
+        public static final OCLUnaryIntrinsic ATOMIC_OR = new OCLUnaryIntrinsic("atomic_or");
+        public static final OCLUnaryIntrinsic ATOMIC_XOR = new OCLUnaryIntrinsic("atomic_xor");
+        public static final OCLUnaryIntrinsic ATOM_CMPXCHG = new OCLUnaryIntrinsic("atom_cmpxchg");
+        public static final OCLUnaryIntrinsic ATOM_XCHG = new OCLUnaryIntrinsic("atom_xchg");
+        public static final OCLUnaryIntrinsic ATOM_MIN = new OCLUnaryIntrinsic("atom_min");
+        public static final OCLUnaryIntrinsic ATOM_MAX = new OCLUnaryIntrinsic("atom_max");
+        public static final OCLUnaryIntrinsic ATOM_AND = new OCLUnaryIntrinsic("atom_and");
+        public static final OCLUnaryIntrinsic ATOM_OR = new OCLUnaryIntrinsic("atom_or");
+        public static final OCLUnaryIntrinsic ATOM_XOR = new OCLUnaryIntrinsic("atom_xor");
+        public static final OCLUnaryIntrinsic ATOM_INC = new OCLUnaryIntrinsic("atom_inc");
 
         public static final OCLUnaryIntrinsic MEMORY_ORDER_RELAXED = new OCLUnaryIntrinsic("memory_order_relaxed");
 
@@ -31,10 +31,13 @@ import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getDebugContex
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.ENABLE_EXCEPTIONS;
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_ENABLED;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.graalvm.compiler.code.CompilationResult;
@@ -91,12 +94,15 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssemblerConstants;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResultBuilder;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLDataBuilder;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLImageParameter;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLLIRGenerationResult;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLLIRGenerator;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLNodeLIRBuilder;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLNodeMatchRules;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLReferenceMapBuilder;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLImageRead;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.FPGAWorkGroupSizeNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.OCLTokens;
@@ -275,6 +281,18 @@ public class OCLBackend extends XPUBackend<OCLProviders> implements FrameMap.Ref
 
     }
 
+    private void emitImageParameters(OCLAssembler asm, Map<Integer, OCLImageParameter> images) {
+        for (OCLImageParameter image : images.values()) {
+            asm.emit(", __read_only image2d_t %s", image.getName());
+        }
+    }
+
+    private void emitSamplers(OCLAssembler asm, Set<Integer> samplers) {
+        for (int sampler : samplers) {
+            asm.emitStmt("const sampler_t %s = %s", OCLImageRead.getSamplerName(sampler), OCLImageRead.getSamplerInitializer(sampler));
+        }
+    }
+
     private void emitDebugKernelArgs(OCLAssembler asm, ResolvedJavaMethod method) {
         asm.emitLine("if(get_global_id(0) == 0 && get_global_id(1) ==0){");
         asm.pushIndent();
@@ -294,6 +312,18 @@ public class OCLBackend extends XPUBackend<OCLProviders> implements FrameMap.Ref
         String methodName = crb.compilationResult.getName();
         final CallingConvention incomingArguments = CodeUtil.getCallingConvention(codeCache, HotSpotCallingConventionType.JavaCallee, method);
 
+        // Images and samplers of the image reads, sorted to keep the signature stable
+        final Map<Integer, OCLImageParameter> images = new TreeMap<>();
+        final Set<Integer> samplers = new TreeSet<>();
+        for (int b : lir.linearScanOrder()) {
+            for (LIRInstruction lirInstruction : lir.getLIRforBlock(lir.getBlockById(b))) {
+                if (lirInstruction instanceof OCLLIRStmt.AssignStmt assign && assign.getExpr() instanceof OCLImageRead imageRead) {
+                    images.put(imageRead.getImage().parameterIndex(), imageRead.getImage());
+                    samplers.add(imageRead.getSampler());
+                }
+            }
+        }
+
         if (crb.isKernel()) {
             /*
              * BUG There is a bug on some OpenCL devices which requires us to insert an
@@ -313,10 +343,13 @@ public class OCLBackend extends XPUBackend<OCLProviders> implements FrameMap.Ref
 
             asm.emit("%s void %s(%s", OCLAssemblerConstants.KERNEL_MODIFIER, methodName, architecture.getABI());
             emitMethodParameters(asm, method, incomingArguments, true);
+            emitImageParameters(asm, images);
             asm.emitLine(")");
 
             asm.beginScope();
+            emitSamplers(asm, samplers);
             emitVariableDefs(crb, asm, lir);
+            crb.getResult().setImageParameters(new ArrayList<>(images.values()));
 
             if (TornadoOptions.DEBUG_KERNEL_ARGS && !method.getDeclaringClass().getUnqualifiedName().equalsIgnoreCase(this.getClass().getSimpleName())) {
                 emitDebugKernelArgs(asm, method);
@@ -327,6 +360,9 @@ public class OCLBackend extends XPUBackend<OCLProviders> implements FrameMap.Ref
             }
             asm.eol();
         } else {
+            if (!images.isEmpty()) {
+                unimplemented("image reads are only supported in kernels, not in %s", method.getName());
+            }
 
             methodName = OCLUtils.makeMethodName(method);
 
@@ -23,6 +23,7 @@ package uk.ac.manchester.tornado.drivers.opencl.graal.compiler;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.graalvm.compiler.code.CompilationResult;
@@ -37,6 +38,7 @@ public class OCLCompilationResult extends CompilationResult {
     private TaskDataContext meta;
     private OCLBackend backend;
     private String id;
+    private List<OCLImageParameter> imageParameters = List.of();
 
     public OCLCompilationResult(String id, String name, TaskDataContext meta, OCLBackend backend) {
         super(name);
@@ -79,4 +81,12 @@ public class OCLCompilationResult extends CompilationResult {
     public String getId() {
         return id;
     }
+
+    public List<OCLImageParameter> getImageParameters() {
+        return imageParameters;
+    }
+
+    public void setImageParameters(List<OCLImageParameter> imageParameters) {
+        this.imageParameters = imageParameters;
+    }
 }
@@ -50,6 +50,7 @@ import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoF
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoLocalMemoryAllocation;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoNewArrayDevirtualizationReplacement;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoPrivateArrayPiRemoval;
+import uk.ac.manchester.tornado.drivers.opencl.graal.phases.OCLLoopTiling;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoBatchGlobalIndexOffset;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoHalfFloatReplacement;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoOpenCLIntrinsicsReplacements;
@@ -103,6 +104,7 @@ public class OCLHighTier extends TornadoHighTier {
         }
 
         appendPhase(new TornadoShapeAnalysis());
+        appendPhase(new OCLLoopTiling());
         appendPhase(canonicalizer);
         appendPhase(new TornadoParallelScheduler());
 
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.compiler;
+
+import uk.ac.manchester.tornado.drivers.opencl.enums.OCLImageFormat;
+
+/**
+ * Parameter of a kernel that is read through an OpenCL image. The generated
+ * kernel receives the image as an extra {@code image2d_t} argument after the
+ * regular parameters, and the pixels are copied into it from the storage of the
+ * parameter when the kernel is launched.
+ *
+ * @param parameterIndex
+ *     index of the parameter in the signature of the Java method
+ * @param argumentIndex
+ *     index of the parameter in the call arguments of the kernel
+ * @param type
+ *     format of the image
+ */
+public record OCLImageParameter(int parameterIndex, int argumentIndex, Type type) {
+
+    public enum Type {
+        // @formatter:off
+        FLOAT(OCLImageFormat.CL_R, OCLImageFormat.CL_FLOAT),
+        FLOAT4(OCLImageFormat.CL_RGBA, OCLImageFormat.CL_FLOAT),
+        BYTE4(OCLImageFormat.CL_RGBA, OCLImageFormat.CL_UNORM_INT8);
+        // @formatter:on
+
+        private final int channelOrder;
+        private final int channelType;
+
+        Type(int channelOrder, int channelType) {
+            this.channelOrder = channelOrder;
+            this.channelType = channelType;
+        }
+
+        public int getChannelOrder() {
+            return channelOrder;
+        }
+
+        public int getChannelType() {
+            return channelType;
+        }
+    }
+
+    public String getName() {
+        return "_image" + parameterIndex;
+    }
+}
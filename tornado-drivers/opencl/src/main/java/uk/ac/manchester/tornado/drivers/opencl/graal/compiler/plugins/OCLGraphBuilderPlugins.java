@@ -99,6 +99,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomAddNodeTemplate;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicAddNodeTemplate;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicArrayOperationNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.DecAtomicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GetAtomicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GlobalThreadIdNode;
@@ -293,6 +294,46 @@ public class OCLGraphBuilderPlugins {
         registerAtomicAddPlugin(r, "atomicAdd", LongArray.class, OCLKind.ULONG, longHeaderSupplier);
         registerUnsupportedAtomicAddPlugin(r);
         registerUnsupportedAtomicAddPlugin(r);
+
+        registerAtomicArrayOperations(r, IntArray.class, JavaKind.Int, intHeaderSupplier);
+        registerAtomicArrayOperations(r, LongArray.class, JavaKind.Long, longHeaderSupplier);
+    }
+
+    private static void registerAtomicArrayOperations(Registration r, Class<?> arrayType, JavaKind kind, Supplier<Integer> headerSupplier) {
+        Class<?> type = kind.toJavaClass();
+        r.register(new InvocationPlugin("atomicCompareAndSwap", InvocationPlugin.Receiver.class, arrayType, Integer.TYPE, type, type) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index, ValueNode expected, ValueNode newValue) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(AtomicArrayOperationNode.Operation.COMPARE_AND_SWAP, address, expected, newValue, kind));
+                return true;
+            }
+        });
+        registerAtomicArrayOperation(r, "atomicExchange", AtomicArrayOperationNode.Operation.EXCHANGE, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicMin", AtomicArrayOperationNode.Operation.MIN, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicMax", AtomicArrayOperationNode.Operation.MAX, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicAnd", AtomicArrayOperationNode.Operation.AND, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicOr", AtomicArrayOperationNode.Operation.OR, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicXor", AtomicArrayOperationNode.Operation.XOR, arrayType, kind, headerSupplier);
+        r.register(new InvocationPlugin("atomicIncrement", InvocationPlugin.Receiver.class, arrayType, Integer.TYPE) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(AtomicArrayOperationNode.Operation.INCREMENT, address, null, null, kind));
+                return true;
+            }
+        });
+    }
+
+    private static void registerAtomicArrayOperation(Registration r, String methodName, AtomicArrayOperationNode.Operation operation, Class<?> arrayType, JavaKind kind, Supplier<Integer> headerSupplier) {
+        r.register(new InvocationPlugin(methodName, InvocationPlugin.Receiver.class, arrayType, Integer.TYPE, kind.toJavaClass()) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index, ValueNode value) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(operation, address, null, value, kind));
+                return true;
+            }
+        });
     }
 
     private static void registerAtomicAddPlugin(Registration r, String methodName, Class<?> arrayType, OCLKind kind, Supplier<Integer> headerSupplier) {
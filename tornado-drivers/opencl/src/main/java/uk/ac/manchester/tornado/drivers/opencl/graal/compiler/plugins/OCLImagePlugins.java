@@ -0,0 +1,90 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.compiler.plugins;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.graalvm.compiler.nodes.ParameterNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.graphbuilderconf.GraphBuilderContext;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugin;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins.Registration;
+import org.graalvm.compiler.nodes.util.GraphUtil;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.types.images.ImageByte4;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLImageParameter;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLImageReadNode;
+
+/**
+ * Maps {@code read(sampler, x, y)} of the image types to OpenCL images. The
+ * read is only mapped when the image is a parameter of the kernel and the
+ * sampler is a constant. Otherwise the call is inlined, and the software
+ * sampler of the image type is compiled instead.
+ */
+public class OCLImagePlugins {
+
+    public static void registerPlugins(final InvocationPlugins plugins) {
+        registerImageRead(plugins, ImageFloat.class, OCLImageParameter.Type.FLOAT, JavaKind.Float);
+        registerImageRead(plugins, ImageFloat4.class, OCLImageParameter.Type.FLOAT4, JavaKind.Object);
+        registerImageRead(plugins, ImageByte4.class, OCLImageParameter.Type.BYTE4, JavaKind.Object);
+    }
+
+    private static void registerImageRead(InvocationPlugins plugins, Class<?> imageClass, OCLImageParameter.Type type, JavaKind returnKind) {
+        final Registration r = new Registration(plugins, imageClass);
+        r.register(new InvocationPlugin("read", InvocationPlugin.Receiver.class, int.class, float.class, float.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode sampler, ValueNode x, ValueNode y) {
+                ResolvedJavaMethod kernel = b.getGraph().method();
+                ValueNode image = GraphUtil.unproxify(receiver.get(false));
+                if (kernel == null || !kernel.isStatic() || !(image instanceof ParameterNode parameter) || !sampler.isJavaConstant()) {
+                    return false;
+                }
+                int parameterIndex = parameter.index();
+                OCLImageParameter imageParameter = new OCLImageParameter(parameterIndex, getArgumentIndex(kernel, parameterIndex), type);
+                int samplerValue = sampler.asJavaConstant().asInt();
+                b.push(returnKind, b.append(new OCLImageReadNode(imageParameter, samplerValue, x, y)));
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Atomic integers are not passed as call arguments, so they are not counted
+     * in the index of the call argument.
+     */
+    private static int getArgumentIndex(ResolvedJavaMethod kernel, int parameterIndex) {
+        int argumentIndex = parameterIndex;
+        for (int i = 0; i < parameterIndex; i++) {
+            if (kernel.getSignature().getParameterType(i, null).toJavaName().equals(AtomicInteger.class.getName())) {
+                argumentIndex--;
+            }
+        }
+        return argumentIndex;
+    }
+}
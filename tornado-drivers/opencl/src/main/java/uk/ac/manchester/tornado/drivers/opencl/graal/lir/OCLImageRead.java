@@ -0,0 +1,104 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.lir.LIRInstruction.Use;
+import org.graalvm.compiler.lir.Opcode;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.api.types.images.ImageSampler;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResultBuilder;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLImageParameter;
+
+/**
+ * Reads an image parameter with {@code read_imagef}. The image and the sampler
+ * are declared by the prologue of the kernel.
+ */
+@Opcode("READ_IMAGE")
+public class OCLImageRead extends OCLLIROp {
+
+    private final OCLImageParameter image;
+    private final int sampler;
+
+    @Use
+    protected Value x;
+    @Use
+    protected Value y;
+
+    public OCLImageRead(LIRKind lirKind, OCLImageParameter image, int sampler, Value x, Value y) {
+        super(lirKind);
+        this.image = image;
+        this.sampler = sampler;
+        this.x = x;
+        this.y = y;
+    }
+
+    public OCLImageParameter getImage() {
+        return image;
+    }
+
+    public int getSampler() {
+        return sampler;
+    }
+
+    public static String getSamplerName(int sampler) {
+        return String.format("_sampler%x", sampler);
+    }
+
+    /**
+     * Builds the OpenCL C initializer of a sampler from the bits of
+     * {@link ImageSampler}.
+     */
+    public static String getSamplerInitializer(int sampler) {
+        String coordinates = ImageSampler.isNormalized(sampler) ? "CLK_NORMALIZED_COORDS_TRUE" : "CLK_NORMALIZED_COORDS_FALSE";
+        String addressing = switch (ImageSampler.getAddressingMode(sampler)) {
+            case ImageSampler.ADDRESS_CLAMP_TO_EDGE -> "CLK_ADDRESS_CLAMP_TO_EDGE";
+            case ImageSampler.ADDRESS_CLAMP -> "CLK_ADDRESS_CLAMP";
+            case ImageSampler.ADDRESS_REPEAT -> "CLK_ADDRESS_REPEAT";
+            case ImageSampler.ADDRESS_MIRRORED_REPEAT -> "CLK_ADDRESS_MIRRORED_REPEAT";
+            default -> "CLK_ADDRESS_NONE";
+        };
+        String filter = ImageSampler.isLinear(sampler) ? "CLK_FILTER_LINEAR" : "CLK_FILTER_NEAREST";
+        return coordinates + " | " + addressing + " | " + filter;
+    }
+
+    @Override
+    public void emit(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+        asm.emit("read_imagef(%s, %s, (float2)(", image.getName(), getSamplerName(sampler));
+        asm.emitValue(crb, x);
+        asm.emit(", ");
+        asm.emitValue(crb, y);
+        asm.emit("))");
+        if (image.type() == OCLImageParameter.Type.FLOAT) {
+            asm.emit(".x");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("read_imagef %s %s %s", image.getName(), x, y);
+    }
+}
@@ -144,6 +144,54 @@ public class OCLUnary {
         }
     }
 
+    /**
+     * Atomic operation on an element of an array in global memory. The
+     * intrinsic receives the pointer to the element followed by the operands,
+     * for example {@code atomic_cmpxchg(p, cmp, val)} or {@code atomic_inc(p)},
+     * and returns the previous value of the element.
+     */
+    @Opcode("AtomicArrayOp")
+    public static class AtomicArrayOperation extends UnaryConsumer {
+
+        @Use
+        OCLUnary.MemoryAccess address;
+
+        @Use
+        Value[] operands;
+
+        private final OCLAssembler.OCLUnaryIntrinsic atomicOp;
+
+        public AtomicArrayOperation(OCLAssembler.OCLUnaryIntrinsic atomicOp, LIRKind lirKind, OCLUnary.MemoryAccess address, Value... operands) {
+            super(atomicOp, lirKind, address);
+            this.address = address;
+            this.operands = operands;
+            this.atomicOp = atomicOp;
+        }
+
+        @Override
+        public void emit(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            atomicOp.emit(crb);
+            asm.emitSymbol(OCLAssemblerConstants.OPEN_PARENTHESIS);
+            asm.emitSymbol(OCLAssemblerConstants.OPEN_PARENTHESIS);
+            asm.emitSymbol(OCLAssemblerConstants.VOLATILE);
+            asm.space();
+            asm.emitSymbol(address.getBase().getMemorySpace().name());
+            asm.space();
+            asm.emit(getLIRKind().getPlatformKind().toString().toLowerCase());
+            asm.space();
+            asm.emitSymbol(OCLAssemblerConstants.MULT);
+            asm.emitSymbol(OCLAssemblerConstants.CLOSE_PARENTHESIS);
+            asm.space();
+            address.emit(crb, asm);
+            for (Value operand : operands) {
+                asm.emitSymbol(OCLAssemblerConstants.EXPR_DELIMITER);
+                asm.space();
+                asm.emitValue(crb, operand);
+            }
+            asm.emitSymbol(OCLAssemblerConstants.CLOSE_PARENTHESIS);
+        }
+    }
+
     public static class IntrinsicAtomicFetch extends UnaryConsumer {
 
         public IntrinsicAtomicFetch(OCLUnaryOp opcode, LIRKind lirKind, Value value) {
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.SingleMemoryKill;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary;
+
+/**
+ * Atomic operation on an element of an {@code IntArray} or a {@code LongArray}
+ * from the {@code KernelContext} API. The node returns the value of the element
+ * before the operation. The 32-bit operations use the core {@code atomic_*}
+ * functions and the 64-bit operations the {@code atom_*} functions of the
+ * {@code cl_khr_int64_base_atomics} and {@code cl_khr_int64_extended_atomics}
+ * extensions.
+ */
+@NodeInfo(shortName = "AtomicArrayOp")
+public class AtomicArrayOperationNode extends FixedWithNextNode implements LIRLowerable, SingleMemoryKill {
+
+    public static final NodeClass<AtomicArrayOperationNode> TYPE = NodeClass.create(AtomicArrayOperationNode.class);
+
+    public enum Operation {
+        COMPARE_AND_SWAP(OCLUnaryIntrinsic.ATOMIC_CMPXCHG, OCLUnaryIntrinsic.ATOM_CMPXCHG), //
+        EXCHANGE(OCLUnaryIntrinsic.ATOMIC_XCHG, OCLUnaryIntrinsic.ATOM_XCHG), //
+        MIN(OCLUnaryIntrinsic.ATOMIC_MIN, OCLUnaryIntrinsic.ATOM_MIN), //
+        MAX(OCLUnaryIntrinsic.ATOMIC_MAX, OCLUnaryIntrinsic.ATOM_MAX), //
+        AND(OCLUnaryIntrinsic.ATOMIC_AND, OCLUnaryIntrinsic.ATOM_AND), //
+        OR(OCLUnaryIntrinsic.ATOMIC_OR, OCLUnaryIntrinsic.ATOM_OR), //
+        XOR(OCLUnaryIntrinsic.ATOMIC_XOR, OCLUnaryIntrinsic.ATOM_XOR), //
+        INCREMENT(OCLUnaryIntrinsic.ATOMIC_INC, OCLUnaryIntrinsic.ATOM_INC);
+
+        private final OCLUnaryIntrinsic intIntrinsic;
+        private final OCLUnaryIntrinsic longIntrinsic;
+
+        Operation(OCLUnaryIntrinsic intIntrinsic, OCLUnaryIntrinsic longIntrinsic) {
+            this.intIntrinsic = intIntrinsic;
+            this.longIntrinsic = longIntrinsic;
+        }
+
+        OCLUnaryIntrinsic getIntrinsic(JavaKind kind) {
+            return kind == JavaKind.Long ? longIntrinsic : intIntrinsic;
+        }
+    }
+
+    @Input
+    AddressNode address;
+
+    @OptionalInput
+    ValueNode expected;
+
+    @OptionalInput
+    ValueNode value;
+
+    private final Operation operation;
+    private final JavaKind kind;
+
+    public AtomicArrayOperationNode(Operation operation, AddressNode address, ValueNode expected, ValueNode value, JavaKind kind) {
+        super(TYPE, StampFactory.forKind(kind));
+        this.operation = operation;
+        this.address = address;
+        this.expected = expected;
+        this.value = value;
+        this.kind = kind;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return LocationIdentity.any();
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        LIRKind lirKind = tool.getLIRKind(stamp);
+        Variable result = tool.newVariable(lirKind);
+        Value[] operands;
+        if (expected != null) {
+            operands = new Value[] { gen.operand(expected), gen.operand(value) };
+        } else if (value != null) {
+            operands = new Value[] { gen.operand(value) };
+        } else {
+            operands = new Value[0];
+        }
+        OCLUnary.MemoryAccess memoryAccess = (OCLUnary.MemoryAccess) gen.operand(address);
+        tool.append(new OCLLIRStmt.AssignStmt(result, new OCLUnary.AtomicArrayOperation(operation.getIntrinsic(kind), lirKind, memoryAccess, operands)));
+        gen.setResult(this, result);
+    }
+}
@@ -55,6 +55,7 @@ public class LocalArrayNode extends FixedNode implements LIRLowerable, MarkLocal
     protected OCLArchitecture.OCLMemoryBase memoryRegister;
     protected OCLAssembler.OCLBinaryTemplate arrayTemplate;
     private OCLKind kind;
+    private boolean fixedLength;
 
     public LocalArrayNode(OCLArchitecture.OCLMemoryBase memoryRegister, ResolvedJavaType elementType, ValueNode length) {
         super(TYPE, StampFactory.objectNonNull(TypeReference.createTrustedWithoutAssumptions(elementType.getArrayClass())));
@@ -92,6 +93,19 @@ public class LocalArrayNode extends FixedNode implements LIRLowerable, MarkLocal
         return kind;
     }
 
+    /**
+     * Keeps the length of the array when the local memory is allocated for the
+     * work-group, such as for the tiles of the loop tiling.
+     */
+    public void setFixedLength() {
+        this.fixedLength = true;
+    }
+
+    @Override
+    public boolean hasFixedLength() {
+        return fixedLength;
+    }
+
     @Override
     public void generate(NodeLIRBuilderTool gen) {
         final Value lengthValue = gen.operand(length);
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLStampFactory;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLImageParameter;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLImageRead;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
+
+/**
+ * Read of an image parameter through an OpenCL sampler. It replaces the
+ * software sampler of the image types when {@code tornado.opencl.images} is
+ * enabled.
+ */
+@NodeInfo
+public class OCLImageReadNode extends FixedWithNextNode implements LIRLowerable {
+
+    public static final NodeClass<OCLImageReadNode> TYPE = NodeClass.create(OCLImageReadNode.class);
+
+    @Input
+    private ValueNode x;
+    @Input
+    private ValueNode y;
+
+    private final OCLImageParameter image;
+    private final int sampler;
+
+    public OCLImageReadNode(OCLImageParameter image, int sampler, ValueNode x, ValueNode y) {
+        super(TYPE, image.type() == OCLImageParameter.Type.FLOAT ? StampFactory.forKind(JavaKind.Float) : OCLStampFactory.getStampFor(OCLKind.FLOAT4));
+        this.image = image;
+        this.sampler = sampler;
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool generator) {
+        LIRGeneratorTool tool = generator.getLIRGeneratorTool();
+        OCLKind kind = image.type() == OCLImageParameter.Type.FLOAT ? OCLKind.FLOAT : OCLKind.FLOAT4;
+        Variable result = tool.newVariable(LIRKind.value(kind));
+        tool.append(new OCLLIRStmt.AssignStmt(result, new OCLImageRead(LIRKind.value(kind), image, sampler, generator.operand(x), generator.operand(y))));
+        generator.setResult(this, result);
+    }
+}
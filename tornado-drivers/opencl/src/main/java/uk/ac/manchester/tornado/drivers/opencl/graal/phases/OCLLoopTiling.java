@@ -0,0 +1,60 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.phases;
+
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.loops.TornadoLoopTiling;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalThreadIdNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode;
+
+/**
+ * Loop tiling with the OpenCL local arrays, local barriers and local thread
+ * indices.
+ */
+public class OCLLoopTiling extends TornadoLoopTiling {
+
+    @Override
+    protected ValueNode createLocalArray(StructuredGraph graph, ResolvedJavaType elementType, int length) {
+        LocalArrayNode localArrayNode = graph.addWithoutUnique(new LocalArrayNode(OCLArchitecture.localSpace, elementType, ConstantNode.forInt(length, graph)));
+        localArrayNode.setFixedLength();
+        return localArrayNode;
+    }
+
+    @Override
+    protected FixedWithNextNode createLocalBarrier(StructuredGraph graph) {
+        return graph.add(new OCLBarrierNode(OCLBarrierNode.OCLMemFenceFlags.LOCAL));
+    }
+
+    @Override
+    protected ValueNode createLocalThreadId(StructuredGraph graph, int dimension) {
+        return graph.addOrUnique(new LocalThreadIdNode(ConstantNode.forInt(dimension, graph)));
+    }
+}
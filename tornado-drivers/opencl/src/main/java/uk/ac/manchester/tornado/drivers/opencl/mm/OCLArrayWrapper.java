@@ -132,6 +132,15 @@ public abstract class OCLArrayWrapper<T> implements XPUBuffer {
         return deviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        TornadoInternalError.guarantee(bufferId != INIT_VALUE, "Fatal error: trying to release an invalid buffer");
+        long released = deviceContext.getBufferProvider().deallocate(bufferId, access);
+        bufferId = INIT_VALUE;
+        bufferSize = INIT_VALUE;
+        return released;
+    }
+
     @Override
     public long size() {
         return bufferSize;
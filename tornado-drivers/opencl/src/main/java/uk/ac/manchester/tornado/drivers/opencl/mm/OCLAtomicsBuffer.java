@@ -42,6 +42,8 @@ public class OCLAtomicsBuffer implements XPUBuffer {
     private final OCLDeviceContext deviceContext;
     private long setSubRegionSize;
     private Access access;
+    // Execution plan that owns the region of the atomics, see OCLMemoryManager
+    private long executionPlanId = -1;
 
     private static final TornadoLogger logger = new TornadoLogger(OCLAtomicsBuffer.class);
 
@@ -49,7 +51,6 @@ public class OCLAtomicsBuffer implements XPUBuffer {
         this.deviceContext = deviceContext;
         this.atomicsList = arr;
         this.access = access;
-        deviceContext.getMemoryManager().allocateAtomicRegion();
     }
 
     @Override
@@ -84,7 +85,9 @@ public class OCLAtomicsBuffer implements XPUBuffer {
 
     @Override
     public int enqueueRead(long executionPlanId, Object reference, long hostOffset, int[] events, boolean useDeps) {
-        return deviceContext.readBuffer(executionPlanId, deviceContext.getMemoryManager().toAtomicAddress(), OFFSET, 4 * atomicsList.length, atomicsList, 0, events);
+        this.executionPlanId = executionPlanId;
+        long atomicsRegion = deviceContext.getMemoryManager().allocateAtomicRegion(executionPlanId, atomicsList.length);
+        return deviceContext.readBuffer(executionPlanId, atomicsRegion, OFFSET, 4 * atomicsList.length, atomicsList, 0, events);
     }
 
     @Override
@@ -93,12 +96,15 @@ public class OCLAtomicsBuffer implements XPUBuffer {
         if (atomicsList.length == 0) {
             return null;
         }
-        return new ArrayList<>(deviceContext.enqueueWriteBuffer(executionPlanId, deviceContext.getMemoryManager().toAtomicAddress(), OFFSET, 4 * atomicsList.length, atomicsList, 0, events));
+        // The kernel might use more atomics than the current region of the plan
+        this.executionPlanId = executionPlanId;
+        long atomicsRegion = deviceContext.getMemoryManager().allocateAtomicRegion(executionPlanId, atomicsList.length);
+        return new ArrayList<>(deviceContext.enqueueWriteBuffer(executionPlanId, atomicsRegion, OFFSET, 4 * atomicsList.length, atomicsList, 0, events));
     }
 
     @Override
     public void allocate(Object reference, long batchSize, Access access) throws TornadoOutOfMemoryException, TornadoMemoryException {
-        deviceContext.getMemoryManager().allocateAtomicRegion();
+        // The region is allocated for the execution plan on the first write
     }
 
     @Override
@@ -143,13 +149,20 @@ public class OCLAtomicsBuffer implements XPUBuffer {
 
     @Override
     public long deallocate() {
-        // Do not deallocate the global area for atomics by default since all
-        // atomics go to the same area
-        if (TornadoOptions.cleanUpAtomicsSpace()) {
-            deviceContext.getMemoryManager().deallocateAtomicRegion();
-            return OCLMemoryManager.atomicRegionSize();
+        // Do not deallocate the area for atomics by default since all the
+        // atomics of the execution plan go to the same area. It is released
+        // with the execution plan.
+        if (TornadoOptions.cleanUpAtomicsSpace() && executionPlanId != -1) {
+            return deviceContext.getMemoryManager().deallocateAtomicRegion(executionPlanId);
         }
         return 0;
     }
 
+    @Override
+    public long release() {
+        // The atomics area is shared by all the kernels of the device, and it is
+        // not handled by the BufferProvider.
+        return 0;
+    }
+
 }
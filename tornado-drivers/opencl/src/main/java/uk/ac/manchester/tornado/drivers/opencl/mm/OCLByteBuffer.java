@@ -285,8 +285,8 @@ public class OCLByteBuffer {
         return deviceContext.getMemoryManager().toConstantAddress();
     }
 
-    public long toAtomicAddress() {
-        return deviceContext.getMemoryManager().toAtomicAddress();
+    public long toAtomicAddress(long executionPlanId) {
+        return deviceContext.getMemoryManager().toAtomicAddress(executionPlanId);
     }
 
 }
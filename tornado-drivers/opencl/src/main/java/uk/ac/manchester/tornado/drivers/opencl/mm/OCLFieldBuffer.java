@@ -79,6 +79,8 @@ public class OCLFieldBuffer implements XPUBuffer {
     private long setSubRegionSize;
     private final TornadoLogger logger;
     private final Access access;
+    // Number of writes of the device copy, used to refresh the images created from it
+    private long version;
 
     public OCLFieldBuffer(final OCLDeviceContext device, Object object, Access access) {
         this.objectType = object.getClass();
@@ -322,6 +324,7 @@ public class OCLFieldBuffer implements XPUBuffer {
         serialise(object);
         // XXX: Offset 0
         deviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset, getObjectSize(), buffer.array(), 0, null);
+        version++;
         for (int i = 0; i < fields.length; i++) {
             if (wrappedFields[i] != null) {
                 wrappedFields[i].write(executionPlanId, object);
@@ -356,6 +359,37 @@ public class OCLFieldBuffer implements XPUBuffer {
         return bufferOffset;
     }
 
+    /**
+     * Offset of the buffer of a field inside the buffer of the object.
+     *
+     * @param name
+     *     name of the field
+     * @return the offset, or -1 if the field is not wrapped in a buffer
+     */
+    /**
+     * Records that a kernel might have modified the device copy of the object.
+     */
+    public void markWritten() {
+        version++;
+    }
+
+    /**
+     * @return the number of times the device copy of the object was written,
+     *     by a transfer from the host or by a kernel.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public long getFieldBufferOffset(String name) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getName().equals(name) && wrappedFields[i] != null) {
+                return wrappedFields[i].getBufferOffset();
+            }
+        }
+        return -1;
+    }
+
     @Override
     public void read(long executionPlanId, Object object) {
         // XXX: offset 0
@@ -439,6 +473,7 @@ public class OCLFieldBuffer implements XPUBuffer {
 
         serialise(ref);
         eventList.add(deviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset, getObjectSize(), buffer.array(), hostOffset, (useDeps) ? events : null));
+        version++;
         for (final FieldBuffer field : wrappedFields) {
             if (field != null) {
                 eventList.addAll(field.enqueueWrite(executionPlanId, ref, (useDeps) ? events : null, useDeps));
@@ -491,6 +526,13 @@ public class OCLFieldBuffer implements XPUBuffer {
         return deviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        long released = deviceContext.getBufferProvider().deallocate(bufferId, access);
+        bufferId = -1;
+        return released;
+    }
+
     @Override
     public void mapOnDeviceMemoryRegion(long executionPlanId, XPUBuffer srcPointer, long offset) {
         throw new UnsupportedOperationException();
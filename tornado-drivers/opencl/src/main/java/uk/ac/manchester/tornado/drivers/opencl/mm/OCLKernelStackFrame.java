@@ -23,6 +23,7 @@
  */
 package uk.ac.manchester.tornado.drivers.opencl.mm;
 
+import uk.ac.manchester.tornado.api.memory.XPUBuffer;
 import uk.ac.manchester.tornado.drivers.opencl.OCLDeviceContext;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 
@@ -51,6 +52,12 @@ public class OCLKernelStackFrame extends OCLByteBuffer implements KernelStackFra
         callArguments.add(new CallArgument(value, isReferenceType));
     }
 
+    @Override
+    public void addReferenceArgument(Object reference, XPUBuffer buffer) {
+        // Image parameters are copied from the buffer when the kernel is launched
+        callArguments.add(new CallArgument(buffer.toBuffer(), true, reference, buffer));
+    }
+
     @Override
     public void reset() {
         callArguments.clear();
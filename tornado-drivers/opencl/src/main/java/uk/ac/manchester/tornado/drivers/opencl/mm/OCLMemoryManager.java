@@ -26,8 +26,10 @@ package uk.ac.manchester.tornado.drivers.opencl.mm;
 import static uk.ac.manchester.tornado.drivers.opencl.mm.OCLKernelStackFrame.RESERVED_SLOTS;
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.DEVICE_AVAILABLE_MEMORY;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.memory.TornadoMemoryProvider;
@@ -38,13 +40,19 @@ import uk.ac.manchester.tornado.drivers.opencl.enums.OCLMemFlags;
 
 public class OCLMemoryManager implements TornadoMemoryProvider {
 
-    private static final int MAX_NUMBER_OF_ATOMICS_PER_KERNEL = 32;
+    /**
+     * Number of atomics of the region allocated for an execution plan. The region
+     * grows when a kernel of the plan uses more atomics.
+     */
+    private static final int INITIAL_NUMBER_OF_ATOMICS = 32;
     private static final int INTEGER_BYTES_SIZE = 4;
     private final OCLDeviceContext deviceContext;
     private Map<Long, OCLKernelStackFrame> oclKernelStackFrame = new ConcurrentHashMap<>();
     private long constantMemoryPointer;
     private long NON_EXISTING_ADDRESS = -1;
-    private long atomicsRegionPointer = -1;
+    // Regions for the atomics, one per execution plan, guarded by atomicRegionsLock
+    private final Map<Long, AtomicRegion> atomicRegions = new HashMap<>();
+    private final ReentrantLock atomicRegionsLock = new ReentrantLock();
 
     public OCLMemoryManager(final OCLDeviceContext deviceContext) {
         this.deviceContext = deviceContext;
@@ -64,11 +72,16 @@ public class OCLMemoryManager implements TornadoMemoryProvider {
         return oclKernelStackFrame.get(executionPlanId);
     }
 
+    /**
+     * Releases the kernel stack frame and the region for the atomics of an
+     * execution plan.
+     */
     public void releaseKernelStackFrame(long executionPlanId) {
         OCLKernelStackFrame stackFrame = oclKernelStackFrame.remove(executionPlanId);
         if (stackFrame != null) {
             stackFrame.invalidate();
         }
+        deallocateAtomicRegion(executionPlanId);
     }
 
     public XPUBuffer createAtomicsBuffer(final int[] array, Access access) {
@@ -80,7 +93,6 @@ public class OCLMemoryManager implements TornadoMemoryProvider {
      */
     public void allocateDeviceMemoryRegions() {
         this.constantMemoryPointer = createBuffer(4, OCLMemFlags.CL_MEM_READ_ONLY | OCLMemFlags.CL_MEM_ALLOC_HOST_PTR).getBuffer();
-        allocateAtomicRegion();
     }
 
     public OCLContext.OCLBufferResult createBuffer(long size, long flags) {
@@ -95,24 +107,69 @@ public class OCLMemoryManager implements TornadoMemoryProvider {
         return constantMemoryPointer;
     }
 
-    long toAtomicAddress() {
-        return atomicsRegionPointer;
+    /**
+     * Returns the region for the atomics of an execution plan, which is passed to
+     * each kernel of the plan. The region is allocated on the first use.
+     *
+     * @param executionPlanId
+     *     execution plan of the kernel
+     */
+    long toAtomicAddress(long executionPlanId) {
+        return allocateAtomicRegion(executionPlanId, INITIAL_NUMBER_OF_ATOMICS);
     }
 
-    void allocateAtomicRegion() {
-        if (this.atomicsRegionPointer == NON_EXISTING_ADDRESS) {
-            this.atomicsRegionPointer = deviceContext.getPlatformContext().createBuffer(OCLMemFlags.CL_MEM_READ_WRITE | OCLMemFlags.CL_MEM_ALLOC_HOST_PTR, atomicRegionSize()).getBuffer();
+    /**
+     * Allocates the region for the atomics of an execution plan. Each plan has
+     * its own region, so the kernels of other plans that run at the same time do
+     * not share it. The region is only allocated again when a kernel uses more
+     * atomics than the region can hold.
+     *
+     * @param executionPlanId
+     *     execution plan of the kernel
+     * @param numberOfAtomics
+     *     number of atomics used by the kernel
+     * @return the address of the region
+     */
+    long allocateAtomicRegion(long executionPlanId, int numberOfAtomics) {
+        long requiredSize = (long) INTEGER_BYTES_SIZE * Math.max(numberOfAtomics, INITIAL_NUMBER_OF_ATOMICS);
+        atomicRegionsLock.lock();
+        try {
+            AtomicRegion region = atomicRegions.get(executionPlanId);
+            if (region != null && region.size() >= requiredSize) {
+                return region.pointer();
+            }
+            long size = requiredSize;
+            if (region != null) {
+                size = Math.max(requiredSize, 2 * region.size());
+                deviceContext.getPlatformContext().releaseBuffer(region.pointer());
+            }
+            long pointer = deviceContext.getPlatformContext().createBuffer(OCLMemFlags.CL_MEM_READ_WRITE | OCLMemFlags.CL_MEM_ALLOC_HOST_PTR, size).getBuffer();
+            atomicRegions.put(executionPlanId, new AtomicRegion(pointer, size));
+            return pointer;
+        } finally {
+            atomicRegionsLock.unlock();
         }
     }
 
-    void deallocateAtomicRegion() {
-        if (this.atomicsRegionPointer != NON_EXISTING_ADDRESS) {
-            deviceContext.getPlatformContext().releaseBuffer(this.atomicsRegionPointer);
-            this.atomicsRegionPointer = NON_EXISTING_ADDRESS;
+    /**
+     * Releases the region for the atomics of an execution plan.
+     *
+     * @return the number of bytes released
+     */
+    long deallocateAtomicRegion(long executionPlanId) {
+        atomicRegionsLock.lock();
+        try {
+            AtomicRegion region = atomicRegions.remove(executionPlanId);
+            if (region == null) {
+                return 0;
+            }
+            deviceContext.getPlatformContext().releaseBuffer(region.pointer());
+            return region.size();
+        } finally {
+            atomicRegionsLock.unlock();
         }
     }
 
-    public static long atomicRegionSize() {
-        return INTEGER_BYTES_SIZE * MAX_NUMBER_OF_ATOMICS_PER_KERNEL;
+    private record AtomicRegion(long pointer, long size) {
     }
 }
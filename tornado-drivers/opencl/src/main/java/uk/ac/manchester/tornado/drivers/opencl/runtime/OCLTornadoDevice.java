@@ -36,6 +36,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -113,6 +114,8 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
     private final int platformIndex;
     private final String platformName;
     private XPUBuffer atomicsBuffer;
+    // Lock instead of a monitor, so virtual threads are not pinned while allocating
+    private final ReentrantLock allocationLock = new ReentrantLock();
     private ConcurrentHashMap<Object, Integer> mappingAtomics;
     private TornadoLogger logger = new TornadoLogger(this.getClass());
 
@@ -297,6 +300,9 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
                 // B) for CPU multi-core or GPU
                 installedCode = deviceContext.installCode(executionPlanId, result);
             }
+            if (installedCode != null && !result.getImageParameters().isEmpty()) {
+                installedCode.setImageParameters(result.getImageParameters());
+            }
             profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
 
@@ -579,25 +585,30 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
     }
 
     @Override
-    public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
-        TornadoBufferProvider bufferProvider = getDeviceContext().getBufferProvider();
-        HashMap<Access, Integer> distinctAccesses = getNumOfDistinctAccess(accesses);
-        for (Access access : distinctAccesses.keySet()) {
-            int numOfObjectsForAccessType = distinctAccesses.get(access);
-            if (!bufferProvider.isNumFreeBuffersAvailable(numOfObjectsForAccessType, access)) {
-                bufferProvider.resetBuffers(access);
+    public long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+        allocationLock.lock();
+        try {
+            TornadoBufferProvider bufferProvider = getDeviceContext().getBufferProvider();
+            HashMap<Access, Integer> distinctAccesses = getNumOfDistinctAccess(accesses);
+            for (Access access : distinctAccesses.keySet()) {
+                int numOfObjectsForAccessType = distinctAccesses.get(access);
+                if (!bufferProvider.isNumFreeBuffersAvailable(numOfObjectsForAccessType, access)) {
+                    bufferProvider.resetBuffers(access);
+                }
             }
-        }
 
-        long allocatedSpace = 0L;
-        for (int i = 0; i < objects.length; i++) {
-            if (!reuseBatchBuffer(batchSize, accesses[i], bufferProvider, distinctAccesses, states[i])) {
-                logger.debug("Allocate object %s with access: %s", objects[i], accesses[i]);
-                allocatedSpace += allocate(objects[i], batchSize, states[i], accesses[i]);
-            }
+            long allocatedSpace = 0L;
+            for (int i = 0; i < objects.length; i++) {
+                if (!reuseBatchBuffer(batchSize, accesses[i], bufferProvider, distinctAccesses, states[i])) {
+                    logger.debug("Allocate object %s with access: %s", objects[i], accesses[i]);
+                    allocatedSpace += allocate(objects[i], batchSize, states[i], accesses[i]);
+                }
 
+            }
+            return allocatedSpace;
+        } finally {
+            allocationLock.unlock();
         }
-        return allocatedSpace;
     }
 
     private boolean reuseBatchBuffer(long batchSize, Access access, TornadoBufferProvider bufferProvider, HashMap<Access, Integer> distinctAccesses, DeviceBufferState state) {
@@ -640,18 +651,23 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
     }
 
     @Override
-    public synchronized long deallocate(DeviceBufferState deviceBufferState) {
-        long deallocatedSpace = 0L;
-        if (deviceBufferState.isLockedBuffer()) {
+    public long deallocate(DeviceBufferState deviceBufferState) {
+        allocationLock.lock();
+        try {
+            long deallocatedSpace = 0L;
+            if (deviceBufferState.isLockedBuffer()) {
+                return deallocatedSpace;
+            }
+            deviceBufferState.getXPUBuffer().markAsFreeBuffer();
+            if (TornadoOptions.isDeallocateBufferEnabled()) {
+                deallocatedSpace = deviceBufferState.getXPUBuffer().deallocate();
+            }
+            deviceBufferState.setContents(false);
+            deviceBufferState.setXPUBuffer(null);
             return deallocatedSpace;
+        } finally {
+            allocationLock.unlock();
         }
-        deviceBufferState.getXPUBuffer().markAsFreeBuffer();
-        if (TornadoOptions.isDeallocateBufferEnabled()) {
-            deallocatedSpace = deviceBufferState.getXPUBuffer().deallocate();
-        }
-        deviceBufferState.setContents(false);
-        deviceBufferState.setXPUBuffer(null);
-        return deallocatedSpace;
     }
 
     @Override
@@ -26,12 +26,14 @@ import java.util.Arrays;
 
 import uk.ac.manchester.tornado.api.WorkerGrid;
 import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.runtime.common.UpsMeterReader;
 import uk.ac.manchester.tornado.drivers.opencl.OCLDeviceContext;
 import uk.ac.manchester.tornado.drivers.opencl.OCLGridInfo;
 import uk.ac.manchester.tornado.drivers.opencl.OCLKernel;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.tasks.meta.LoopTiling;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 
 public abstract class OCLKernelScheduler {
@@ -135,6 +137,27 @@ public abstract class OCLKernelScheduler {
         }
     }
 
+    /**
+     * Uses the tile of the loop nest of the task as the local work group. The
+     * tiled kernel loads its shared data into local memory with one thread per
+     * element of the tile, so it cannot run with any other local work group.
+     *
+     * @param meta
+     *     TaskMetaData.
+     */
+    private void applyLoopTiling(final TaskDataContext meta) {
+        LoopTiling loopTiling = meta.getLoopTiling();
+        if (loopTiling == null || !loopTiling.isTiled()) {
+            return;
+        }
+        long[] tiledLocalWork = meta.getTiledLocalWork();
+        if (tiledLocalWork == null) {
+            throw new TornadoRuntimeException("[ERROR] The global work " + Arrays.toString(meta.getGlobalWork()) + " of task " + meta.getId() + " is not a multiple of its tile " + Arrays
+                    .toString(loopTiling.getTile()) + ". Run it with -Dtornado.loop.tiling=False.");
+        }
+        System.arraycopy(tiledLocalWork, 0, meta.getLocalWork(), 0, tiledLocalWork.length);
+    }
+
     public int submit(long executionPlanId, final OCLKernel kernel, final TaskDataContext meta, final int[] waitEvents, long batchThreads) {
         if (!meta.isWorkerGridAvailable()) {
             if (!meta.isGlobalWorkDefined()) {
@@ -144,6 +167,7 @@ public abstract class OCLKernelScheduler {
                 calculateLocalWork(meta);
                 checkAndAdaptLocalWork(meta);
             }
+            applyLoopTiling(meta);
         } else {
             checkLocalWorkGroupFitsOnDevice(meta);
         }
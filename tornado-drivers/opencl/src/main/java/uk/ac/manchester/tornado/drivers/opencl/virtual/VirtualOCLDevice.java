@@ -208,6 +208,11 @@ public class VirtualOCLDevice implements OCLTargetDevice {
         return true;
     }
 
+    @Override
+    public boolean isImageSupported() {
+        return true;
+    }
+
     public int getWordSize() {
         return getDeviceAddressBits() >> 3;
     }
@@ -290,13 +290,13 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
     }
 
     @Override
-    public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+    public long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
         unimplemented();
         return -1;
     }
 
     @Override
-    public synchronized long deallocate(DeviceBufferState state) {
+    public long deallocate(DeviceBufferState state) {
         unimplemented();
         return -1;
     }
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.api.WorkerGrid;
@@ -44,6 +45,7 @@ import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
 import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.common.power.PowerMetric;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXCodeUtil;
@@ -66,9 +68,10 @@ public class PTXDeviceContext implements TornadoDeviceContext {
     private final PTXScheduler scheduler;
     private final TornadoBufferProvider bufferProvider;
     private final PowerMetric powerMetricHandler;
-    private final Map<Long, PTXStreamTable> streamTable;
+    private final PTXStreamTable streamTable;
     private boolean wasReset;
     private final Set<Long> executionIDs;
+    private final ReentrantLock resetLock = new ReentrantLock();
 
     /**
      * Map table to represent the compiled-code per execution plan. Each entry in the execution plan has its own
@@ -78,7 +81,7 @@ public class PTXDeviceContext implements TornadoDeviceContext {
 
     public PTXDeviceContext(PTXDevice device) {
         this.device = device;
-        streamTable = new ConcurrentHashMap<>();
+        streamTable = new PTXStreamTable();
         this.scheduler = new PTXScheduler(device);
         this.powerMetricHandler = new PTXNvidiaPowerMetricHandler(this);
         codeCache = new ConcurrentHashMap<>();
@@ -249,19 +252,18 @@ public class PTXDeviceContext implements TornadoDeviceContext {
     }
 
     @Override
-    public synchronized void reset(long executionPlanId) {
-        PTXStreamTable table = streamTable.get(executionPlanId);
-        if (table != null) {
-            table.cleanup(device);
-            if (table.size() == 0) {
-                streamTable.remove(executionPlanId);
-            }
+    public void reset(long executionPlanId) {
+        resetLock.lock();
+        try {
+            streamTable.cleanup(executionPlanId, device);
             executionIDs.remove(executionPlanId);
+            getMemoryManager().releaseKernelStackFrame(executionPlanId);
+            PTXCodeCache ptxCodeCache = getPTXCodeCache(executionPlanId);
+            ptxCodeCache.reset();
+            wasReset = true;
+        } finally {
+            resetLock.unlock();
         }
-        getMemoryManager().releaseKernelStackFrame(executionPlanId);
-        PTXCodeCache ptxCodeCache = getPTXCodeCache(executionPlanId);
-        ptxCodeCache.reset();
-        wasReset = true;
     }
 
     public int enqueueKernelLaunch(long executionPlanId, PTXModule module, KernelStackFrame kernelArgs, TaskDataContext taskMeta, long batchThreads) {
@@ -299,6 +301,7 @@ public class PTXDeviceContext implements TornadoDeviceContext {
 
     private byte[] writePTXKernelContextOnDevice(long executionPlanId, PTXKernelStackFrame ptxKernelArgs, TaskDataContext meta) {
         int capacity = Long.BYTES + ptxKernelArgs.getCallArguments().size() * Long.BYTES;
+        // A new block per launch: launches of the same module can run from different threads
         ByteBuffer args = ByteBuffer.allocate(capacity);
         args.order(getByteOrder());
 
@@ -581,12 +584,15 @@ public class PTXDeviceContext implements TornadoDeviceContext {
 
     private PTXStream getStream(long executionPlanId) {
         executionIDs.add(executionPlanId);
-        if (!streamTable.containsKey(executionPlanId)) {
-            PTXStreamTable ptxStreamTable = new PTXStreamTable();
-            ptxStreamTable.get(device);
-            streamTable.put(executionPlanId, ptxStreamTable);
-        }
-        return streamTable.get(executionPlanId).get(device);
+        return streamTable.get(executionPlanId, device);
+    }
+
+    /**
+     * @return the pool of CUDA streams of the device, with the number of
+     *     streams and how often they are shared between execution plans.
+     */
+    public CommandQueuePool<PTXStream> getStreamPool() {
+        return streamTable.getPool(device);
     }
 
     private PTXCodeCache getPTXCodeCache(long executionPlanId) {
@@ -597,10 +603,7 @@ public class PTXDeviceContext implements TornadoDeviceContext {
     }
 
     private PTXStream getStreamIfNeeded(long executionPlanId) {
-        if (!streamTable.containsKey(executionPlanId)) {
-            return null;
-        }
-        return streamTable.get(executionPlanId).get(device);
+        return streamTable.getIfBound(executionPlanId, device);
     }
 
     public long mapOnDeviceMemoryRegion(long executionPlanId, long destDevicePtr, long srcDevicePtr, long offset, int sizeOfType) {
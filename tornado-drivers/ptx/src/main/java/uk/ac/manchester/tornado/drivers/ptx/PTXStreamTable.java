@@ -23,69 +23,87 @@
  */
 package uk.ac.manchester.tornado.drivers.ptx;
 
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.MAX_QUEUES_PER_DEVICE;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
+
+/**
+ * CUDA streams of the PTX devices. Each device has a bounded
+ * {@link CommandQueuePool}, and each execution plan is bound to one stream of
+ * the pool, independently of the Java thread that runs the plan.
+ */
 public class PTXStreamTable {
 
-    private final Map<PTXDevice, ThreadStreamTable> deviceStream;
+    private static final CommandQueuePool.QueueFactory<PTXStream> STREAM_FACTORY = new CommandQueuePool.QueueFactory<>() {
+        @Override
+        public PTXStream create() {
+            return new PTXStream();
+        }
+
+        @Override
+        public void recycle(PTXStream stream) {
+            stream.sync();
+            stream.reset();
+        }
+
+        @Override
+        public void destroy(PTXStream stream) {
+            stream.reset();
+            if (!stream.isDestroy()) {
+                stream.cuDestroyStream();
+            }
+        }
+    };
+
+    private final Map<PTXDevice, CommandQueuePool<PTXStream>> deviceStream;
 
     PTXStreamTable() {
         deviceStream = new ConcurrentHashMap<>();
     }
 
-    public PTXStream get(PTXDevice device) {
-        if (Thread.currentThread().threadId() == PTX.SHUTDOW_THREAD_ID_HOOK) {
+    public PTXStream get(long executionPlanId, PTXDevice device) {
+        if (isShutdownThread()) {
             return null;
         }
-        if (!deviceStream.containsKey(device)) {
-            ThreadStreamTable threadStreamTable = new ThreadStreamTable();
-            threadStreamTable.get(Thread.currentThread().threadId());
-            deviceStream.put(device, threadStreamTable);
-        }
-        return deviceStream.get(device).get(Thread.currentThread().threadId());
+        return getPool(device).acquire(executionPlanId);
     }
 
-    public void cleanup(PTXDevice device) {
-        if (deviceStream.containsKey(device)) {
-            deviceStream.get(device).cleanup(Thread.currentThread().threadId());
-        }
-        if (deviceStream.get(device).size() == 0) {
-            deviceStream.remove(device);
+    /**
+     * @return the stream of the execution plan, or null if the plan did not
+     *     enqueue any command on the device.
+     */
+    public PTXStream getIfBound(long executionPlanId, PTXDevice device) {
+        CommandQueuePool<PTXStream> pool = deviceStream.get(device);
+        if (pool == null || isShutdownThread()) {
+            return null;
         }
+        return pool.get(executionPlanId);
     }
 
-    public int size() {
-        return deviceStream.size();
+    private static boolean isShutdownThread() {
+        return Thread.currentThread().threadId() == PTX.SHUTDOW_THREAD_ID_HOOK;
     }
 
-    private static class ThreadStreamTable {
-
-        private final Map<Long, PTXStream> streamTable;
-
-        ThreadStreamTable() {
-            streamTable = new ConcurrentHashMap<>();
-        }
-
-        public PTXStream get(long threadId) {
-            if (!streamTable.containsKey(threadId)) {
-                PTXStream stream = new PTXStream();
-                streamTable.put(threadId, stream);
-            }
-            return streamTable.get(threadId);
-        }
+    public CommandQueuePool<PTXStream> getPool(PTXDevice device) {
+        return deviceStream.computeIfAbsent(device, d -> new CommandQueuePool<>(MAX_QUEUES_PER_DEVICE, STREAM_FACTORY));
+    }
 
-        public void cleanup(long threadId) {
-            if (streamTable.containsKey(threadId)) {
-                PTXStream queue = streamTable.remove(threadId);
-                queue.reset();
-                queue.cuDestroyStream();
-            }
+    public void cleanup(long executionPlanId, PTXDevice device) {
+        CommandQueuePool<PTXStream> pool = deviceStream.get(device);
+        if (pool != null) {
+            pool.release(executionPlanId);
         }
+    }
 
-        public int size() {
-            return streamTable.size();
-        }
+    public void destroyAll() {
+        deviceStream.values().forEach(CommandQueuePool::destroyAll);
+        deviceStream.clear();
+    }
 
+    public int size() {
+        return deviceStream.size();
     }
 }
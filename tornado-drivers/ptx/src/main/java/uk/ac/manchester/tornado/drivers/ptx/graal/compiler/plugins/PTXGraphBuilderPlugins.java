@@ -91,6 +91,7 @@ import uk.ac.manchester.tornado.api.utils.QuantizationUtils;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXArchitecture;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.AtomAddNodeTemplate;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.AtomicArrayOperationNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.DP4APackedNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.Dp4aNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalArrayNode;
@@ -294,6 +295,47 @@ public class PTXGraphBuilderPlugins {
         registerAtomicAddPlugin(r, "atomicAdd", LongArray.class, PTXKind.U64, headerSupplier8Byte);
         registerAtomicAddPlugin(r, "atomicAdd", FloatArray.class, PTXKind.F32, headerSupplier4Byte);
         registerAtomicAddPlugin(r, "atomicAdd", DoubleArray.class, PTXKind.F64, headerSupplier8Byte);
+
+        registerAtomicArrayOperations(r, IntArray.class, JavaKind.Int, headerSupplier4Byte);
+        registerAtomicArrayOperations(r, LongArray.class, JavaKind.Long, headerSupplier8Byte);
+    }
+
+    private static void registerAtomicArrayOperations(Registration r, Class<?> arrayType, JavaKind kind, Supplier<Integer> headerSupplier) {
+        Class<?> type = kind.toJavaClass();
+        r.register(new InvocationPlugin("atomicCompareAndSwap", InvocationPlugin.Receiver.class, arrayType, Integer.TYPE, type, type) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index, ValueNode expected, ValueNode newValue) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(AtomicArrayOperationNode.Operation.COMPARE_AND_SWAP, address, expected, newValue, kind));
+                return true;
+            }
+        });
+        registerAtomicArrayOperation(r, "atomicExchange", AtomicArrayOperationNode.Operation.EXCHANGE, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicMin", AtomicArrayOperationNode.Operation.MIN, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicMax", AtomicArrayOperationNode.Operation.MAX, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicAnd", AtomicArrayOperationNode.Operation.AND, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicOr", AtomicArrayOperationNode.Operation.OR, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicXor", AtomicArrayOperationNode.Operation.XOR, arrayType, kind, headerSupplier);
+        r.register(new InvocationPlugin("atomicIncrement", InvocationPlugin.Receiver.class, arrayType, Integer.TYPE) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                ValueNode one = b.add(kind == JavaKind.Long ? ConstantNode.forLong(1) : ConstantNode.forInt(1));
+                b.addPush(kind, new AtomicArrayOperationNode(AtomicArrayOperationNode.Operation.INCREMENT, address, null, one, kind));
+                return true;
+            }
+        });
+    }
+
+    private static void registerAtomicArrayOperation(Registration r, String methodName, AtomicArrayOperationNode.Operation operation, Class<?> arrayType, JavaKind kind, Supplier<Integer> headerSupplier) {
+        r.register(new InvocationPlugin(methodName, InvocationPlugin.Receiver.class, arrayType, Integer.TYPE, kind.toJavaClass()) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index, ValueNode value) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(operation, address, null, value, kind));
+                return true;
+            }
+        });
     }
 
     private static void registerAtomicAddPlugin(Registration r, String methodName, Class<?> arrayType, PTXKind kind, Supplier<Integer> headerSupplier) {
@@ -1485,6 +1485,64 @@ public class PTXLIRStmt {
         }
     }
 
+    /**
+     * Atomic operation on an element of an array that writes the previous value
+     * of the element into the destination, for example
+     * {@code atom.global.cas.b32 dest, [addr], cmp, val}. The type of the
+     * instruction depends on the operation: bitwise operations, exchange and
+     * compare-and-swap use {@code .b32/.b64}, minimum and maximum use
+     * {@code .s32/.s64} and addition uses {@code .u32/.u64}.
+     */
+    @Opcode("AtomicArrayOp")
+    public static class AtomicArrayOperation extends AbstractInstruction {
+        public static final LIRInstructionClass<AtomicArrayOperation> TYPE = LIRInstructionClass.create(AtomicArrayOperation.class);
+
+        @Def
+        protected Variable dest;
+
+        @Use
+        PTXUnary.MemoryAccess address;
+
+        @Use
+        Value[] operands;
+
+        private final String operation;
+        private final String type;
+
+        public AtomicArrayOperation(PTXUnary.MemoryAccess address, Variable dest, String operation, String type, Value... operands) {
+            super(TYPE);
+            this.address = address;
+            this.dest = dest;
+            this.operation = operation;
+            this.type = type;
+            this.operands = operands;
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            PTXNullaryOp.ATOM.emit(crb, null);
+            asm.emitSymbol(DOT);
+            asm.emit(address.getBase().memorySpace.getName());
+            asm.emitSymbol(DOT);
+            asm.emit(operation);
+            asm.emitSymbol(DOT);
+            asm.emit(type);
+            asm.emitSymbol(TAB);
+
+            asm.emitValue(dest);
+            asm.emitSymbol(COMMA);
+            asm.space();
+            address.emit(crb, asm, null);
+            for (Value operand : operands) {
+                asm.emitSymbol(COMMA);
+                asm.space();
+                asm.emitValue(operand);
+            }
+            asm.delimiter();
+            asm.eol();
+        }
+    }
+
     /*
      * This method helps to resolve the PTX type for the atom.add operation. The valid types for instruction 'atom'
      * .u32 or .s32 or .u64 or .f64 or f16 or f16x2 or .f32 or .bf16 or .bf16x2.
@@ -479,6 +479,18 @@ public class CUDAFieldBuffer implements XPUBuffer {
         return deviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        long released = deviceContext.getBufferProvider().deallocate(address, access);
+        address = -1;
+        for (FieldBuffer buffer : wrappedFields) {
+            if (buffer != null) {
+                buffer.deallocate();
+            }
+        }
+        return released;
+    }
+
     @Override
     public void mapOnDeviceMemoryRegion(long executionPlanId, XPUBuffer srcPointer, long offset) {
         throw new UnsupportedOperationException();
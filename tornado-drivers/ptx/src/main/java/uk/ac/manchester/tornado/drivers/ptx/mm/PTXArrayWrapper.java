@@ -239,6 +239,15 @@ public abstract class PTXArrayWrapper<T> implements XPUBuffer {
         return deviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        TornadoInternalError.guarantee(buffer != INIT_VALUE, "Fatal error: trying to release an invalid buffer");
+        long released = deviceContext.getBufferProvider().deallocate(buffer, access);
+        buffer = INIT_VALUE;
+        bufferSize = INIT_VALUE;
+        return released;
+    }
+
     private long sizeOf(final T array) {
         return (long) arrayHeaderSize + ((long) Array.getLength(array) * (long) kind.getByteCount());
     }
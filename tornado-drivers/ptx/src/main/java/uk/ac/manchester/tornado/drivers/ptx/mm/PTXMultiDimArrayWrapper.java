@@ -133,6 +133,14 @@ public class PTXMultiDimArrayWrapper<T, E> extends PTXArrayWrapper<T> {
         addresses = null;
     }
 
+    @Override
+    public long release() {
+        long released = Arrays.stream(wrappers).mapToLong(PTXArrayWrapper::release).sum() + tableWrapper.release();
+        wrappers = null;
+        addresses = null;
+        return released;
+    }
+
     private void deallocateElements() {
         Arrays.stream(wrappers).forEach(PTXArrayWrapper::markAsFreeBuffer);
     }
@@ -127,6 +127,15 @@ public class PTXVectorWrapper implements XPUBuffer {
         return deviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        TornadoInternalError.guarantee(buffer != INIT_VALUE, "Fatal error: trying to release an invalid buffer");
+        long released = deviceContext.getBufferProvider().deallocate(buffer, access);
+        buffer = INIT_VALUE;
+        bufferSize = INIT_VALUE;
+        return released;
+    }
+
     @Override
     public long size() {
         return bufferSize;
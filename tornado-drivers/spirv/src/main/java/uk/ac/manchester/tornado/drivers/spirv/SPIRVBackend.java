@@ -133,6 +133,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVNodeLIRBuilder
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVNodeMatchRules;
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVReferenceMapBuilder;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.AtomicArrayOperationNode;
 import uk.ac.manchester.tornado.drivers.spirv.mm.SPIRVKernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.backend.XPUBackend;
@@ -357,6 +358,15 @@ public class SPIRVBackend extends XPUBackend<SPIRVProviders> implements FrameMap
         fp16CapabilityEnabled = true;
     }
 
+    private static boolean usesInt64Atomics(StructuredGraph graph) {
+        for (AtomicArrayOperationNode atomicNode : graph.getNodes().filter(AtomicArrayOperationNode.class)) {
+            if (atomicNode.getStackKind() == JavaKind.Long) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void emitSPIRVCapabilities(SPIRVModule module) {
         // Emit Capabilities
         module.add(new SPIRVOpCapability(SPIRVCapability.Addresses())); // Uses physical addressing, non-logical addressing modes.
@@ -798,6 +808,9 @@ public class SPIRVBackend extends XPUBackend<SPIRVProviders> implements FrameMap
         if (idTable.kindToVariable.containsKey(SPIRVKind.OP_TYPE_FLOAT_16)) {
             emitFP16Capability(module);
         }
+        if (usesInt64Atomics(cfg.graph)) {
+            module.add(new SPIRVOpCapability(SPIRVCapability.Int64Atomics())); // To use atomics on longs
+        }
 
         // ----------------------------------
         // Emit Entry Kernel
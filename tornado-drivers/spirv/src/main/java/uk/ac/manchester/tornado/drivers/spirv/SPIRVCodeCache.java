@@ -23,19 +23,20 @@
  */
 package uk.ac.manchester.tornado.drivers.spirv;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.io.PrintStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.ConcurrentHashMap;
 
+import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVTool;
+import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.Disassembler;
+import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPIRVDisassemblerOptions;
+import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPVFileReader;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVInstalledCode;
-import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 
 public abstract class SPIRVCodeCache {
@@ -67,17 +68,6 @@ public abstract class SPIRVCodeCache {
         return cache.get(id + "-" + entryPoint);
     }
 
-    protected void writeBufferToFile(ByteBuffer buffer, String filepath) {
-        buffer.flip();
-        try (FileOutputStream fos = new FileOutputStream(filepath)) {
-            fos.write(buffer.array());
-        } catch (Exception e) {
-            throw new RuntimeException("[ERROR] Store of the SPIR-V File failed.");
-        } finally {
-            buffer.clear();
-        }
-    }
-
     protected void checkBinaryFileExists(String pathToFile) {
         final Path pathToSPIRVBin = Paths.get(pathToFile);
         if (!pathToSPIRVBin.toFile().exists()) {
@@ -92,30 +82,76 @@ public abstract class SPIRVCodeCache {
         return tempDirectory + pathSeparator + user + pathSeparator + "tornadoVM-spirv";
     }
 
+    /**
+     * Disassembles a SPIR-V binary module. The disassembler of the SPIR-V toolkit
+     * reads the module from a file, so the module is written to a temporary file
+     * that is removed afterwards. This is only used to print the kernels.
+     *
+     * @param binary
+     *     SPIR-V binary module.
+     * @param out
+     *     Stream for the disassembled module.
+     */
+    public static void disassemble(byte[] binary, PrintStream out) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("tornadoVM-", ".spv");
+            Files.write(file, binary);
+            SPIRVDisassemblerOptions disassemblerOptions = new SPIRVDisassemblerOptions(true, true, false, true, false);
+            SPIRVTool spirvTool = new Disassembler(new SPVFileReader(file.toString()), out, disassemblerOptions);
+            spirvTool.run();
+        } catch (Exception e) {
+            throw new TornadoBailoutRuntimeException(e.getMessage());
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // The file is in the temp directory, it is not worth failing for it
+                }
+            }
+        }
+    }
+
+    /**
+     * Installs a SPIR-V module generated by the JIT compiler. The module is passed
+     * to the driver from memory.
+     */
     public SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, byte[] binary) {
         if (binary == null || binary.length == 0) {
             throw new RuntimeException("[ERROR] SPIR-V Binary Module is Empty");
         }
-        ByteBuffer buffer = ByteBuffer.allocate(binary.length);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.put(binary);
-        String spirvTempDirectory = createSPIRVTempDirectoryName();
-        Path path = Paths.get(spirvTempDirectory);
+        return installSPIRVBinary(meta, id, entryPoint, binary, null);
+    }
+
+    /**
+     * Installs a pre-compiled SPIR-V module stored in a file.
+     */
+    public SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, String pathToFile) {
+        checkBinaryFileExists(pathToFile);
+        byte[] binary;
         try {
-            Files.createDirectories(path);
+            binary = Files.readAllBytes(Paths.get(pathToFile));
         } catch (IOException e) {
-            throw new TornadoBailoutRuntimeException("Error - Exception when creating the temp directory for SPIR-V");
-        }
-        long timeStamp = System.nanoTime();
-        String pathSeparator = FileSystems.getDefault().getSeparator();
-        String spirvFile = spirvTempDirectory + pathSeparator + timeStamp + "-" + id + entryPoint + ".spv";
-        if (TornadoOptions.DEBUG) {
-            System.out.println("SPIR-V Binary File: " + spirvFile);
+            throw new TornadoBailoutRuntimeException("[ERROR] Unable to read the SPIR-V binary file " + pathToFile);
         }
-
-        writeBufferToFile(buffer, spirvFile);
-        return installSPIRVBinary(meta, id, entryPoint, spirvFile);
+        return installSPIRVBinary(meta, id, entryPoint, binary, pathToFile);
     }
 
-    public abstract SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, String pathToFile);
+    /**
+     * Builds the module in the driver and installs the kernel in the code cache.
+     *
+     * @param meta
+     *     Task meta-data.
+     * @param id
+     *     Id of the task.
+     * @param entryPoint
+     *     Name of the kernel.
+     * @param binary
+     *     SPIR-V binary module.
+     * @param pathToFile
+     *     File of the module, or null if the module is only in memory.
+     * @return the installed code.
+     */
+    protected abstract SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, byte[] binary, String pathToFile);
 }
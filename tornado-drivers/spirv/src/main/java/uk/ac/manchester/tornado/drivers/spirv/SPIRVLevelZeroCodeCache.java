@@ -23,12 +23,11 @@
  */
 package uk.ac.manchester.tornado.drivers.spirv;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
-import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVTool;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.Disassembler;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPIRVDisassemblerOptions;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPVFileReader;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.drivers.common.logging.Logger;
@@ -52,12 +51,36 @@ import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 
 public class SPIRVLevelZeroCodeCache extends SPIRVCodeCache {
 
+    // Directory in memory for the scratch files, if available
+    private static final Path SHARED_MEMORY_DIRECTORY = Paths.get("/dev/shm");
+
     public SPIRVLevelZeroCodeCache(SPIRVDeviceContext deviceContext) {
         super(deviceContext);
     }
 
+    /**
+     * The Level Zero JNI library only creates modules from files. The modules
+     * generated in memory are written to a scratch file, in shared memory if the
+     * system has it, that is removed once the module is built.
+     */
+    private Path writeScratchFile(String id, String entryPoint, byte[] binary) {
+        try {
+            Path directory;
+            if (Files.isDirectory(SHARED_MEMORY_DIRECTORY) && Files.isWritable(SHARED_MEMORY_DIRECTORY)) {
+                directory = SHARED_MEMORY_DIRECTORY;
+            } else {
+                directory = Files.createDirectories(Paths.get(createSPIRVTempDirectoryName()));
+            }
+            Path file = Files.createTempFile(directory, "tornadoVM-" + id + entryPoint + "-", ".spv");
+            Files.write(file, binary);
+            return file;
+        } catch (IOException e) {
+            throw new TornadoBailoutRuntimeException("Error - Exception when writing the SPIR-V module for Level Zero: " + e.getMessage());
+        }
+    }
+
     @Override
-    public synchronized SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, String pathToFile) {
+    protected synchronized SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, byte[] binary, String pathToFile) {
         ZeModuleHandle module = new ZeModuleHandle();
         ZeModuleDescriptor moduleDesc = new ZeModuleDescriptor();
         ZeBuildLogHandle buildLog = new ZeBuildLogHandle();
@@ -65,8 +88,6 @@ public class SPIRVLevelZeroCodeCache extends SPIRVCodeCache {
         final String compilerFlags = meta.getCompilerFlags(TornadoVMBackendType.SPIRV);
         moduleDesc.setBuildFlags(compilerFlags);
 
-        checkBinaryFileExists(pathToFile);
-
         SPIRVContext spirvContext = deviceContext.getSpirvContext();
         SPIRVLevelZeroContext levelZeroContext = (SPIRVLevelZeroContext) spirvContext;
         LevelZeroContext context = levelZeroContext.getLevelZeroContext();
@@ -78,7 +99,24 @@ public class SPIRVLevelZeroCodeCache extends SPIRVCodeCache {
         TornadoLogger logger = new TornadoLogger(this.getClass());
         logger.debug("\tSPIR-V/LeveZero compiler flags = %s", compilerFlags);
 
-        int result = context.zeModuleCreate(context.getDefaultContextPtr(), device.getDeviceHandlerPtr(), moduleDesc, module, buildLog, pathToFile);
+        Path scratchFile = pathToFile == null ? writeScratchFile(id, entryPoint, binary) : null;
+        int result;
+        try {
+            String moduleFile = scratchFile == null ? pathToFile : scratchFile.toString();
+            result = context.zeModuleCreate(context.getDefaultContextPtr(), device.getDeviceHandlerPtr(), moduleDesc, module, buildLog, moduleFile);
+        } finally {
+            if (scratchFile != null) {
+                if (TornadoOptions.DEBUG) {
+                    System.out.println("SPIR-V Binary File: " + scratchFile);
+                } else {
+                    try {
+                        Files.deleteIfExists(scratchFile);
+                    } catch (IOException e) {
+                        logger.warn("Unable to remove the SPIR-V scratch file %s", scratchFile);
+                    }
+                }
+            }
+        }
         LevelZeroUtils.errorLog("zeModuleCreate", result);
 
         if (result != ZeResult.ZE_RESULT_SUCCESS) {
@@ -95,19 +133,7 @@ public class SPIRVLevelZeroCodeCache extends SPIRVCodeCache {
         }
 
         if (meta.isPrintKernelEnabled()) {
-            SPVFileReader reader;
-            try {
-                reader = new SPVFileReader(pathToFile);
-            } catch (FileNotFoundException e) {
-                throw new TornadoBailoutRuntimeException(e.getMessage());
-            }
-            SPIRVDisassemblerOptions disassemblerOptions = new SPIRVDisassemblerOptions(true, true, false, true, false);
-            SPIRVTool spirvTool = new Disassembler(reader, System.out, disassemblerOptions);
-            try {
-                spirvTool.run();
-            } catch (Exception e) {
-                throw new TornadoBailoutRuntimeException(e.getMessage());
-            }
+            disassemble(binary, System.out);
         }
 
         // Create Module Object
@@ -129,7 +155,7 @@ public class SPIRVLevelZeroCodeCache extends SPIRVCodeCache {
         // Create a Level Zero kernel Object
         LevelZeroKernel levelZeroKernel = new LevelZeroKernel(kernelDesc, kernel, levelZeroModule);
 
-        SPIRVModule spirvModule = new SPIRVLevelZeroModule(levelZeroModule, levelZeroKernel, entryPoint, pathToFile);
+        SPIRVModule spirvModule = new SPIRVLevelZeroModule(levelZeroModule, levelZeroKernel, entryPoint, binary, pathToFile);
         SPIRVInstalledCode installedCode = new SPIRVLevelZeroInstalledCode(id, spirvModule, deviceContext);
 
         // Install module in the code cache
@@ -23,11 +23,12 @@
  */
 package uk.ac.manchester.tornado.drivers.spirv;
 
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.MAX_QUEUES_PER_DEVICE;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
-import uk.ac.manchester.tornado.drivers.opencl.OCLCommandQueue;
-import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDevice;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
 import uk.ac.manchester.tornado.drivers.spirv.levelzero.LevelZeroCommandList;
 import uk.ac.manchester.tornado.drivers.spirv.levelzero.LevelZeroCommandQueue;
 import uk.ac.manchester.tornado.drivers.spirv.levelzero.LevelZeroContext;
@@ -43,53 +44,58 @@ import uk.ac.manchester.tornado.drivers.spirv.levelzero.ZeCommandQueueMode;
 import uk.ac.manchester.tornado.drivers.spirv.levelzero.ZeCommandQueuePriority;
 import uk.ac.manchester.tornado.drivers.spirv.levelzero.utils.LevelZeroUtils;
 
+/**
+ * Level Zero command queues and command lists of the SPIR-V devices. Each
+ * device has a bounded {@link CommandQueuePool}, and each execution plan is
+ * bound to one queue of the pool, independently of the Java thread that runs
+ * the plan.
+ */
 public class SPIRVLevelZeroCommandQueueTable {
 
-    private final Map<SPIRVDevice, ThreadCommandQueueTable> deviceCommandMap;
+    private final Map<SPIRVDevice, CommandQueuePool<SPIRVLevelZeroCommandQueue>> deviceCommandMap;
 
     public SPIRVLevelZeroCommandQueueTable() {
         deviceCommandMap = new ConcurrentHashMap<>();
     }
 
-    public SPIRVLevelZeroCommandQueue get(SPIRVDevice device, LevelZeroContext levelZeroContext) {
-        if (!deviceCommandMap.containsKey(device)) {
-            ThreadCommandQueueTable table = new ThreadCommandQueueTable();
-            table.get(Thread.currentThread().threadId(), device, levelZeroContext);
-            deviceCommandMap.put(device, table);
-        }
-        return deviceCommandMap.get(device).get(Thread.currentThread().threadId(), device, levelZeroContext);
+    public SPIRVLevelZeroCommandQueue get(long executionPlanId, SPIRVDevice device, LevelZeroContext levelZeroContext) {
+        return getPool(device, levelZeroContext).acquire(executionPlanId);
     }
 
-    public void cleanup(SPIRVDevice device, LevelZeroContext levelZeroContext) {
-        if (deviceCommandMap.containsKey(device)) {
-            deviceCommandMap.get(device).cleanup(Thread.currentThread().threadId(), levelZeroContext);
-        }
-        if (deviceCommandMap.get(device).size() == 0) {
-            deviceCommandMap.remove(device);
+    public CommandQueuePool<SPIRVLevelZeroCommandQueue> getPool(SPIRVDevice device, LevelZeroContext levelZeroContext) {
+        return deviceCommandMap.computeIfAbsent(device, d -> new CommandQueuePool<>(MAX_QUEUES_PER_DEVICE, new CommandQueueFactory(d, levelZeroContext)));
+    }
+
+    public void cleanup(long executionPlanId, SPIRVDevice device) {
+        CommandQueuePool<SPIRVLevelZeroCommandQueue> pool = deviceCommandMap.get(device);
+        if (pool != null) {
+            pool.release(executionPlanId);
         }
     }
 
+    public void destroyAll() {
+        deviceCommandMap.values().forEach(CommandQueuePool::destroyAll);
+        deviceCommandMap.clear();
+    }
+
     public int size() {
         return deviceCommandMap.size();
     }
 
-    private static class ThreadCommandQueueTable {
+    private record CommandQueueFactory(SPIRVDevice device, LevelZeroContext levelZeroContext) implements CommandQueuePool.QueueFactory<SPIRVLevelZeroCommandQueue> {
 
-        private final Map<Long, SPIRVLevelZeroCommandQueue> commandQueueMap;
-
-        ThreadCommandQueueTable() {
-            commandQueueMap = new ConcurrentHashMap<>();
+        @Override
+        public SPIRVLevelZeroCommandQueue create() {
+            // Create Command Queue and Command List
+            LevelZeroCommandQueue commandQueue = createCommandQueue(levelZeroContext, device);
+            LevelZeroCommandList commandList = createCommandList(levelZeroContext, device);
+            return new SPIRVLevelZeroCommandQueue(commandQueue, commandList, (LevelZeroDevice) device.getDeviceRuntime());
         }
 
-        public SPIRVLevelZeroCommandQueue get(long threadId, SPIRVDevice device, LevelZeroContext levelZeroContext) {
-            if (!commandQueueMap.containsKey(threadId)) {
-                // Create Command Queue and Command List
-                LevelZeroCommandQueue commandQueue = createCommandQueue(levelZeroContext, device);
-                LevelZeroCommandList commandList = createCommandList(levelZeroContext, device);
-                SPIRVLevelZeroCommandQueue spirvLevelZeroCommandQueue = new SPIRVLevelZeroCommandQueue(commandQueue, commandList, (LevelZeroDevice) device.getDeviceRuntime());
-                commandQueueMap.put(threadId, spirvLevelZeroCommandQueue);
-            }
-            return commandQueueMap.get(threadId);
+        @Override
+        public void destroy(SPIRVLevelZeroCommandQueue queue) {
+            levelZeroContext.zeCommandQueueDestroy(queue.getCommandQueue().getCommandQueueHandle());
+            levelZeroContext.zeCommandListDestroy(queue.getCommandList().getCommandListHandler());
         }
 
         private LevelZeroCommandQueue createCommandQueue(LevelZeroContext context, SPIRVDevice spirvDevice) {
@@ -144,18 +150,5 @@ public class SPIRVLevelZeroCommandQueueTable {
             }
             return ordinal;
         }
-
-        public void cleanup(long threadId, LevelZeroContext levelZeroContext) {
-            if (commandQueueMap.containsKey(threadId)) {
-                SPIRVLevelZeroCommandQueue queue = commandQueueMap.remove(threadId);
-                levelZeroContext.zeCommandQueueDestroy(queue.getCommandQueue().getCommandQueueHandle());
-                levelZeroContext.zeCommandListDestroy(queue.getCommandList().getCommandListHandler());
-            }
-        }
-
-        public int size() {
-            return commandQueueMap.size();
-        }
     }
-
 }
@@ -31,6 +31,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
 import uk.ac.manchester.tornado.drivers.opencl.OCLContextInterface;
 import uk.ac.manchester.tornado.drivers.opencl.OCLEventPool;
 import uk.ac.manchester.tornado.drivers.opencl.natives.NativeCommandQueue;
@@ -60,7 +61,7 @@ public class SPIRVLevelZeroContext extends SPIRVContext {
     // Maps buffer ID -> LevelZeroByteBuffer
     private final Map<Long, LevelZeroByteBuffer> deviceBufferMap;
 
-    private final Map<Long, SPIRVLevelZeroCommandQueueTable> commmandQueueTable;
+    private final SPIRVLevelZeroCommandQueueTable commandQueueTable;
 
     public SPIRVLevelZeroContext(SPIRVPlatform platform, List<SPIRVDevice> devices, LevelZeroContext levelZeroContext) {
         super(platform, devices);
@@ -68,7 +69,7 @@ public class SPIRVLevelZeroContext extends SPIRVContext {
 
         spirvDeviceContext = new ArrayList<>();
         deviceBufferMap = new ConcurrentHashMap<>();
-        commmandQueueTable = new ConcurrentHashMap<>();
+        commandQueueTable = new SPIRVLevelZeroCommandQueueTable();
 
         // Create LevelZeroDeviceContext per level-zero device
         for (SPIRVDevice device : devices) {
@@ -99,13 +100,11 @@ public class SPIRVLevelZeroContext extends SPIRVContext {
 
     @Override
     public SPIRVLevelZeroCommandQueue getCommandQueueForDevice(long executionPlanId, int deviceIndex) {
-        if (!commmandQueueTable.containsKey(executionPlanId)) {
-            SPIRVDevice device = devices.get(deviceIndex);
-            SPIRVLevelZeroCommandQueueTable spirvCommandQueueTable = new SPIRVLevelZeroCommandQueueTable();
-            spirvCommandQueueTable.get(device, levelZeroContext);
-            commmandQueueTable.put(executionPlanId, spirvCommandQueueTable);
-        }
-        return commmandQueueTable.get(executionPlanId).get(devices.get(deviceIndex), levelZeroContext);
+        return commandQueueTable.get(executionPlanId, devices.get(deviceIndex), levelZeroContext);
+    }
+
+    public CommandQueuePool<SPIRVLevelZeroCommandQueue> getCommandQueuePool(int deviceIndex) {
+        return commandQueueTable.getPool(devices.get(deviceIndex), levelZeroContext);
     }
 
     private ZeDeviceMemAllocDescriptor createDeviceDescription() {
@@ -583,14 +582,7 @@ public class SPIRVLevelZeroContext extends SPIRVContext {
 
     @Override
     public void reset(long executionPlanId, int deviceIndex) {
-        SPIRVLevelZeroCommandQueueTable table = commmandQueueTable.get(executionPlanId);
-        if (table != null) {
-            SPIRVDevice device = devices.get(deviceIndex);
-            table.cleanup(device, levelZeroContext);
-            if (table.size() == 0) {
-                commmandQueueTable.remove(executionPlanId);
-            }
-        }
+        commandQueueTable.cleanup(executionPlanId, devices.get(deviceIndex));
     }
 
     @Override
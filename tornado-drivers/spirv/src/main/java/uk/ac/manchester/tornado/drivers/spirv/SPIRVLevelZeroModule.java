@@ -31,12 +31,14 @@ public class SPIRVLevelZeroModule implements SPIRVModule {
     private final LevelZeroModule levelZeroModule;
     private final LevelZeroKernel kernel;
     private final String entryPoint;
+    private final byte[] spirvBinary;
     private final String pathToSPIRVBinary;
 
-    public SPIRVLevelZeroModule(LevelZeroModule levelZeroModule, LevelZeroKernel kernel, String entryPoint, String pathToSPIRVBinary) {
+    public SPIRVLevelZeroModule(LevelZeroModule levelZeroModule, LevelZeroKernel kernel, String entryPoint, byte[] spirvBinary, String pathToSPIRVBinary) {
         this.levelZeroModule = levelZeroModule;
         this.kernel = kernel;
         this.entryPoint = entryPoint;
+        this.spirvBinary = spirvBinary;
         this.pathToSPIRVBinary = pathToSPIRVBinary;
     }
 
@@ -53,6 +55,11 @@ public class SPIRVLevelZeroModule implements SPIRVModule {
         return entryPoint;
     }
 
+    @Override
+    public byte[] getSPIRVBinary() {
+        return spirvBinary;
+    }
+
     @Override
     public String getPathToSPIRVBinary() {
         return pathToSPIRVBinary;
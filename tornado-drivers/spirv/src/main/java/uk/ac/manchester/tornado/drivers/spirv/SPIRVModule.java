@@ -25,6 +25,15 @@ package uk.ac.manchester.tornado.drivers.spirv;
 
 public interface SPIRVModule {
 
+    /**
+     * @return the SPIR-V binary module installed in the driver.
+     */
+    byte[] getSPIRVBinary();
+
+    /**
+     * @return the file of the SPIR-V binary module, or null if the module has
+     *     been installed from memory.
+     */
     String getPathToSPIRVBinary();
 
     String getEntryPoint();
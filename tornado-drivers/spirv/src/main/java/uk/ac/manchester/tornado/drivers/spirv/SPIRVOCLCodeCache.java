@@ -23,17 +23,7 @@
  */
 package uk.ac.manchester.tornado.drivers.spirv;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVTool;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.Disassembler;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPIRVDisassemblerOptions;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPVFileReader;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
-import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.drivers.opencl.OCLErrorCode;
 import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDevice;
@@ -49,47 +39,13 @@ public class SPIRVOCLCodeCache extends SPIRVCodeCache {
         super(deviceContext);
     }
 
-    private byte[] readFile(String spirvFile) {
-        File file = new File(spirvFile);
-        FileInputStream fileStream;
-        try {
-            fileStream = new FileInputStream(file);
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException(e);
-        }
-        byte[] spirvBinary = new byte[(int) file.length()];
-        try {
-            fileStream.read(spirvBinary);
-            fileStream.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        return spirvBinary;
-    }
-
     @Override
-    public SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, String pathToFile) {
-
-        checkBinaryFileExists(pathToFile);
+    protected SPIRVInstalledCode installSPIRVBinary(TaskDataContext meta, String id, String entryPoint, byte[] binary, String pathToFile) {
 
         if (meta.isPrintKernelEnabled()) {
-            SPVFileReader reader;
-            try {
-                reader = new SPVFileReader(pathToFile);
-            } catch (FileNotFoundException e) {
-                throw new TornadoBailoutRuntimeException(e.getMessage());
-            }
-            SPIRVDisassemblerOptions disassemblerOptions = new SPIRVDisassemblerOptions(true, true, false, true, false);
-            SPIRVTool spirvTool = new Disassembler(reader, System.out, disassemblerOptions);
-            try {
-                spirvTool.run();
-            } catch (Exception e) {
-                throw new TornadoBailoutRuntimeException(e.getMessage());
-            }
+            disassemble(binary, System.out);
         }
 
-        byte[] binary = readFile(pathToFile);
-
         long contextId = deviceContext.getSpirvContext().getOpenCLLayer().getContextId();
         long programPointer;
 
@@ -117,7 +73,7 @@ public class SPIRVOCLCodeCache extends SPIRVCodeCache {
             throw new TornadoRuntimeException("[ERROR] - clCreateKernel failed");
         }
 
-        SPIRVOCLModule module = new SPIRVOCLModule(kernelPointer, entryPoint, pathToFile);
+        SPIRVOCLModule module = new SPIRVOCLModule(kernelPointer, entryPoint, binary, pathToFile);
         final SPIRVOCLInstalledCode installedCode = new SPIRVOCLInstalledCode(entryPoint, module, deviceContext);
 
         // Install code in the code cache
@@ -23,77 +23,77 @@
  */
 package uk.ac.manchester.tornado.drivers.spirv;
 
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.MAX_QUEUES_PER_DEVICE;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
 import uk.ac.manchester.tornado.drivers.opencl.OCLCommandQueue;
 import uk.ac.manchester.tornado.drivers.opencl.OCLContext;
-import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDevice;
 import uk.ac.manchester.tornado.drivers.opencl.exceptions.OCLException;
 
+/**
+ * OpenCL command queues of the SPIR-V devices. Each device has a bounded
+ * {@link CommandQueuePool}, and each execution plan is bound to one queue of
+ * the pool, independently of the Java thread that runs the plan.
+ */
 public class SPIRVOCLCommandQueueTable {
 
-    private final Map<SPIRVOCLDevice, ThreadCommandQueueTable> deviceCommandMap;
+    private final Map<SPIRVOCLDevice, CommandQueuePool<OCLCommandQueue>> deviceCommandMap;
 
     public SPIRVOCLCommandQueueTable() {
         deviceCommandMap = new ConcurrentHashMap<>();
     }
 
-    public OCLCommandQueue get(SPIRVOCLDevice device, OCLContext context) {
-        if (!deviceCommandMap.containsKey(device)) {
-            ThreadCommandQueueTable table = new ThreadCommandQueueTable();
-            table.get(Thread.currentThread().threadId(), device, context);
-            deviceCommandMap.put(device, table);
-        }
-        return deviceCommandMap.get(device).get(Thread.currentThread().threadId(), device, context);
+    public OCLCommandQueue get(long executionPlanId, SPIRVOCLDevice device, OCLContext context) {
+        return getPool(device, context).acquire(executionPlanId);
     }
 
-    public void cleanup(SPIRVOCLDevice device) {
-        if (deviceCommandMap.containsKey(device)) {
-            deviceCommandMap.get(device).cleanup(Thread.currentThread().threadId());
-        }
-        if (deviceCommandMap.get(device).size() == 0) {
-            deviceCommandMap.remove(device);
+    public CommandQueuePool<OCLCommandQueue> getPool(SPIRVOCLDevice device, OCLContext context) {
+        return deviceCommandMap.computeIfAbsent(device, d -> new CommandQueuePool<>(MAX_QUEUES_PER_DEVICE, new CommandQueueFactory(d, context)));
+    }
+
+    public void cleanup(long executionPlanId, SPIRVOCLDevice device) {
+        CommandQueuePool<OCLCommandQueue> pool = deviceCommandMap.get(device);
+        if (pool != null) {
+            pool.release(executionPlanId);
         }
     }
 
+    public void destroyAll() {
+        deviceCommandMap.values().forEach(CommandQueuePool::destroyAll);
+        deviceCommandMap.clear();
+    }
+
     public int size() {
         return deviceCommandMap.size();
     }
 
-    private static class ThreadCommandQueueTable {
-        private final Map<Long, OCLCommandQueue> commandQueueMap;
+    private record CommandQueueFactory(SPIRVOCLDevice device, OCLContext context) implements CommandQueuePool.QueueFactory<OCLCommandQueue> {
 
-        ThreadCommandQueueTable() {
-            commandQueueMap = new ConcurrentHashMap<>();
-        }
-
-        public OCLCommandQueue get(long threadId, SPIRVOCLDevice device, OCLContext context) {
-            if (!commandQueueMap.containsKey(threadId)) {
-                final int deviceVersion = device.deviceVersion();
-                long commandProperties = context.getProperties();
-                long commandQueuePtr;
-                try {
-                    commandQueuePtr = context.clCreateCommandQueue(context.getContextId(), device.getId(), commandProperties);
-                } catch (OCLException e) {
-                    throw new TornadoRuntimeException(e);
-                }
-                OCLCommandQueue commandQueue = new OCLCommandQueue(commandQueuePtr, commandProperties, deviceVersion);
-                commandQueueMap.put(threadId, commandQueue);
+        @Override
+        public OCLCommandQueue create() {
+            final int deviceVersion = device.deviceVersion();
+            long commandProperties = context.getProperties();
+            long commandQueuePtr;
+            try {
+                commandQueuePtr = context.clCreateCommandQueue(context.getContextId(), device.getId(), commandProperties);
+            } catch (OCLException e) {
+                throw new TornadoRuntimeException(e);
             }
-            return commandQueueMap.get(threadId);
+            return new OCLCommandQueue(commandQueuePtr, commandProperties, deviceVersion);
         }
 
-        public void cleanup(long threadId) {
-            if (commandQueueMap.containsKey(threadId)) {
-                OCLCommandQueue queue = commandQueueMap.remove(threadId);
-                queue.cleanup();
-            }
+        @Override
+        public void recycle(OCLCommandQueue queue) {
+            queue.finish();
         }
 
-        public int size() {
-            return commandQueueMap.size();
+        @Override
+        public void destroy(OCLCommandQueue queue) {
+            queue.cleanup();
         }
     }
-}
\ No newline at end of file
+}
@@ -35,6 +35,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.drivers.common.CommandQueue;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
 import uk.ac.manchester.tornado.drivers.common.utils.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.opencl.OCLCommandQueue;
 import uk.ac.manchester.tornado.drivers.opencl.OCLContext;
@@ -48,7 +49,7 @@ public class SPIRVOCLContext extends SPIRVContext {
     private OCLContextInterface oclContext;
     private List<SPIRVOCLDeviceContext> spirvoclDeviceContext;
 
-    private final Map<Long, SPIRVOCLCommandQueueTable> commmandQueueTable;
+    private final SPIRVOCLCommandQueueTable commandQueueTable;
     private final Map<Long, OCLEventPool> oclEventPool;
     private Set<Long> executionIDs;
 
@@ -56,7 +57,7 @@ public class SPIRVOCLContext extends SPIRVContext {
         super(platform, devices);
         this.oclContext = context;
 
-        commmandQueueTable = new ConcurrentHashMap<>();
+        commandQueueTable = new SPIRVOCLCommandQueueTable();
         oclEventPool = new ConcurrentHashMap<>();
         executionIDs = Collections.synchronizedSet(new HashSet<>());
 
@@ -89,13 +90,11 @@ public class SPIRVOCLContext extends SPIRVContext {
     }
 
     public OCLCommandQueue getCommandQueue(long executionPlanId, int deviceIndex) {
-        if (!commmandQueueTable.containsKey(executionPlanId)) {
-            SPIRVDevice device = devices.get(deviceIndex);
-            SPIRVOCLCommandQueueTable oclCommandQueueTable = new SPIRVOCLCommandQueueTable();
-            oclCommandQueueTable.get((SPIRVOCLDevice) device, (OCLContext) oclContext);
-            commmandQueueTable.put(executionPlanId, oclCommandQueueTable);
-        }
-        return commmandQueueTable.get(executionPlanId).get((SPIRVOCLDevice) devices.get(deviceIndex), (OCLContext) oclContext);
+        return commandQueueTable.get(executionPlanId, (SPIRVOCLDevice) devices.get(deviceIndex), (OCLContext) oclContext);
+    }
+
+    public CommandQueuePool<OCLCommandQueue> getCommandQueuePool(int deviceIndex) {
+        return commandQueueTable.getPool((SPIRVOCLDevice) devices.get(deviceIndex), (OCLContext) oclContext);
     }
 
     public OCLEventPool getOCLEventPool(long executionPlanId) {
@@ -303,15 +302,8 @@ public class SPIRVOCLContext extends SPIRVContext {
         OCLEventPool eventPool = getOCLEventPool(executionPlanId);
         eventPool.reset();
         oclEventPool.remove(executionPlanId);
-        SPIRVOCLCommandQueueTable table = commmandQueueTable.get(executionPlanId);
-        if (table != null) {
-            SPIRVDevice device = devices.get(deviceIndex);
-            table.cleanup((SPIRVOCLDevice) device);
-            if (table.size() == 0) {
-                commmandQueueTable.remove(executionPlanId);
-            }
-            executionIDs.remove(executionPlanId);
-        }
+        commandQueueTable.cleanup(executionPlanId, (SPIRVOCLDevice) devices.get(deviceIndex));
+        executionIDs.remove(executionPlanId);
     }
 
     @Override
@@ -27,11 +27,13 @@ public class SPIRVOCLModule implements SPIRVModule {
 
     private final long kernelPointer;
     private final String entryPoint;
+    private final byte[] spirvBinary;
     private final String pathToSPIRVBinary;
 
-    public SPIRVOCLModule(long kernel, String entryPoint, String pathToSPIRVBinary) {
+    public SPIRVOCLModule(long kernel, String entryPoint, byte[] spirvBinary, String pathToSPIRVBinary) {
         this.kernelPointer = kernel;
         this.entryPoint = entryPoint;
+        this.spirvBinary = spirvBinary;
         this.pathToSPIRVBinary = pathToSPIRVBinary;
     }
 
@@ -44,6 +46,11 @@ public class SPIRVOCLModule implements SPIRVModule {
         return entryPoint;
     }
 
+    @Override
+    public byte[] getSPIRVBinary() {
+        return spirvBinary;
+    }
+
     @Override
     public String getPathToSPIRVBinary() {
         return pathToSPIRVBinary;
@@ -23,19 +23,12 @@
  */
 package uk.ac.manchester.tornado.drivers.spirv.graal;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.IOException;
+import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 
 import jdk.vm.ci.code.InstalledCode;
-import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVTool;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.Disassembler;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPIRVDisassemblerOptions;
-import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPVFileReader;
-import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVCodeCache;
 import uk.ac.manchester.tornado.drivers.spirv.SPIRVDeviceContext;
 import uk.ac.manchester.tornado.drivers.spirv.SPIRVModule;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -60,56 +53,16 @@ public abstract class SPIRVInstalledCode extends InstalledCode implements Tornad
     }
 
     /**
-     * Gets the installed SPIR-V binary code and invokes the disassembler. It stores
-     * the result in the same path with the asm extension.
+     * The SPIR-V backend generates a binary, not source code. This method returns
+     * the disassembled SPIR-V module that is installed.
      *
-     * @param pathToFile
-     *     Path of the input SPIR-V Binary code
-     * @return String of the whole disassembled SPIR-V module
-     * @throws IOException
-     */
-    private String getDisassembledCode(String pathToFile) throws IOException {
-        PrintStream pr = new PrintStream(pathToFile + ".asm");
-        SPVFileReader reader = null;
-        try {
-            reader = new SPVFileReader(pathToFile);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
-
-        SPIRVDisassemblerOptions disassemblerOptions = new SPIRVDisassemblerOptions(true, true, false, true, false);
-        SPIRVTool spirvTool = new Disassembler(reader, pr, disassemblerOptions);
-        try {
-            spirvTool.run();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        pr.close();
-        File file = new File(pathToFile + ".asm");
-        BufferedReader br = new BufferedReader(new FileReader(file));
-        String line;
-        StringBuffer sb = new StringBuffer();
-        final String EOL = System.getProperty("line.separator");
-        while ((line = br.readLine()) != null) {
-            sb.append(line + EOL);
-        }
-        br.close();
-        return sb.toString();
-    }
-
-    /**
-     * The SPIR-V backend generates a binary, not source code. This method is not
-     * applicable for this backend.
-     *
-     * @return String.
+     * @return String of the whole disassembled SPIR-V module.
      */
     public String getGeneratedSourceCode() {
-        String spirvFile = spirvModule.getPathToSPIRVBinary();
-        try {
-            return getDisassembledCode(spirvFile);
-        } catch (IOException e) {
-            throw new TornadoRuntimeException(e);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PrintStream printStream = new PrintStream(out, true, StandardCharsets.UTF_8)) {
+            SPIRVCodeCache.disassemble(spirvModule.getSPIRVBinary(), printStream);
         }
+        return out.toString(StandardCharsets.UTF_8);
     }
 }
@@ -30,6 +30,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.memory.XPUBuffer;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.runtime.common.UpsMeterReader;
+import uk.ac.manchester.tornado.drivers.common.KernelArgumentCache;
 import uk.ac.manchester.tornado.drivers.spirv.SPIRVDeviceContext;
 import uk.ac.manchester.tornado.drivers.spirv.SPIRVLevelZeroCommandQueue;
 import uk.ac.manchester.tornado.drivers.spirv.SPIRVLevelZeroModule;
@@ -60,10 +61,13 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
     private LevelZeroKernelTimeStamp kernelTimeStamp;
     private ThreadBlockDispatcher threadBlockDispatcher;
     private DeviceThreadScheduling deviceThreadScheduling;
+    private final KernelArgumentCache argumentCache;
+    private final boolean useArgumentCache = TornadoOptions.KERNEL_ARGUMENT_CACHE;
 
     public SPIRVLevelZeroInstalledCode(String name, SPIRVModule spirvModule, SPIRVDeviceContext deviceContext) {
         super(name, spirvModule, deviceContext);
         this.valid = true;
+        this.argumentCache = new KernelArgumentCache(name);
     }
 
     @Override
@@ -71,17 +75,17 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
         throw new RuntimeException("Unimplemented");
     }
 
-    private void setKernelArgs(long executionPlanId, final SPIRVKernelStackFrame callWrapper) {
+    private void setKernelArgs(long executionPlanId, final SPIRVKernelStackFrame callWrapper, final TaskDataContext meta) {
         // Enqueue write
         callWrapper.enqueueWrite(executionPlanId, null);
 
         SPIRVLevelZeroModule module = (SPIRVLevelZeroModule) spirvModule;
         LevelZeroKernel levelZeroKernel = module.getKernel();
         ZeKernelHandle kernel = levelZeroKernel.getKernelHandle();
+        final long numSkippedBefore = argumentCache.getNumSkipped();
 
         // device's kernel context
-        int result = levelZeroKernel.zeKernelSetArgumentValue(kernel.getPtrZeKernelHandle(), 0, Sizeof.LONG.getNumBytes(), callWrapper.toBuffer());
-        LevelZeroUtils.errorLog("zeKernelSetArgumentValue", result);
+        setArg(levelZeroKernel, kernel, 0, callWrapper.toBuffer());
 
         // Set all user parameters to the SPIR-V kernel
         for (int argIndex = 0; argIndex < callWrapper.getCallArguments().size(); argIndex++) {
@@ -89,8 +93,7 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
             KernelStackFrame.CallArgument arg = callWrapper.getCallArguments().get(argIndex);
 
             if (arg.getValue() instanceof KernelStackFrame.KernelContextArgument) {
-                result = levelZeroKernel.zeKernelSetArgumentValue(kernel.getPtrZeKernelHandle(), kernelParamIndex, Sizeof.LONG.getNumBytes(), callWrapper.toBuffer());
-                LevelZeroUtils.errorLog("zeKernelSetArgumentValue", result);
+                setArg(levelZeroKernel, kernel, kernelParamIndex, callWrapper.toBuffer());
                 continue;
             }
 
@@ -98,12 +101,30 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
                 if (!arg.isReferenceType()) {
                     continue;
                 }
-                result = levelZeroKernel.zeKernelSetArgumentValue(kernel.getPtrZeKernelHandle(), kernelParamIndex, Sizeof.LONG.getNumBytes(), ((Number) arg.getValue()).longValue());
-                LevelZeroUtils.errorLog("zeKernelSetArgumentValue", result);
+                setArg(levelZeroKernel, kernel, kernelParamIndex, ((Number) arg.getValue()).longValue());
             } else {
                 TornadoInternalError.shouldNotReachHere();
             }
         }
+        updateProfilerSkippedArguments(meta, argumentCache.getNumSkipped() - numSkippedBefore);
+    }
+
+    private void setArg(LevelZeroKernel levelZeroKernel, ZeKernelHandle kernel, int index, long value) {
+        if (!useArgumentCache || argumentCache.update(index, value, Sizeof.LONG.getNumBytes())) {
+            int result = levelZeroKernel.zeKernelSetArgumentValue(kernel.getPtrZeKernelHandle(), index, Sizeof.LONG.getNumBytes(), value);
+            if (result != ZeResult.ZE_RESULT_SUCCESS) {
+                argumentCache.invalidate(index);
+            } else {
+                argumentCache.argumentSet(index);
+            }
+            LevelZeroUtils.errorLog("zeKernelSetArgumentValue", result);
+        }
+    }
+
+    private void updateProfilerSkippedArguments(TaskDataContext meta, long numSkipped) {
+        if (TornadoOptions.isProfilerEnabled() && numSkipped > 0) {
+            meta.getProfiler().addValueToMetric(ProfilerType.SKIPPED_KERNEL_ARGUMENTS, meta.getId(), numSkipped);
+        }
     }
 
     private DeviceThreadScheduling calculateGlobalAndLocalBlockOfThreads(TaskDataContext meta, long batchThreads) {
@@ -220,7 +241,7 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
         LevelZeroKernel levelZeroKernel = module.getKernel();
         ZeKernelHandle kernel = levelZeroKernel.getKernelHandle();
 
-        setKernelArgs(executionPlanId, (SPIRVKernelStackFrame) callWrapper);
+        setKernelArgs(executionPlanId, (SPIRVKernelStackFrame) callWrapper, meta);
 
         if (computeThreadBlock(meta)) {
             // if the worker grid is available, the user can update the number of threads to
@@ -363,6 +384,7 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
     @Override
     public void invalidate() {
         valid = false;
+        argumentCache.invalidate();
     }
 
     private static class DeviceThreadScheduling {
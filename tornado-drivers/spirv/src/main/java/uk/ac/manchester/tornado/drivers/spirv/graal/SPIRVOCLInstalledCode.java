@@ -32,6 +32,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.memory.XPUBuffer;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.runtime.common.UpsMeterReader;
+import uk.ac.manchester.tornado.drivers.common.KernelArgumentCache;
 import uk.ac.manchester.tornado.drivers.common.utils.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.opencl.OCLCommandQueue;
 import uk.ac.manchester.tornado.drivers.opencl.OCLErrorCode;
@@ -53,10 +54,14 @@ public class SPIRVOCLInstalledCode extends SPIRVInstalledCode {
     public static final String WARNING_THREAD_LOCAL = "[TornadoVM SPIR-V] Warning: TornadoVM changed the user-defined local thread sizes to the suggested values by the driver.";
     private static final int WARP_SIZE = 32;
     private boolean ADJUST_IRREGULAR = false;
+    private final SPIRVOCLNativeDispatcher dispatcher = new SPIRVOCLNativeDispatcher();
+    private final KernelArgumentCache argumentCache;
+    private final boolean useArgumentCache = TornadoOptions.KERNEL_ARGUMENT_CACHE;
 
     public SPIRVOCLInstalledCode(String name, SPIRVModule spirvModule, SPIRVDeviceContext deviceContext) {
         super(name, spirvModule, deviceContext);
         this.valid = true;
+        this.argumentCache = new KernelArgumentCache(name);
     }
 
     @Override
@@ -68,7 +73,7 @@ public class SPIRVOCLInstalledCode extends SPIRVInstalledCode {
     public int launchWithoutDependencies(long executionPlanId, KernelStackFrame callWrapper, XPUBuffer atomicSpace, TaskDataContext meta, long batchThreads) {
 
         // Set kernel args
-        setKernelArgs(executionPlanId, (SPIRVKernelStackFrame) callWrapper);
+        setKernelArgs(executionPlanId, (SPIRVKernelStackFrame) callWrapper, meta);
         SPIRVOCLModule module = (SPIRVOCLModule) spirvModule;
         long kernelPointer = module.getKernelPointer();
 
@@ -85,17 +90,16 @@ public class SPIRVOCLInstalledCode extends SPIRVInstalledCode {
         }
     }
 
-    private void setKernelArgs(long executionPlanId, final SPIRVKernelStackFrame callWrapper) {
+    private void setKernelArgs(long executionPlanId, final SPIRVKernelStackFrame callWrapper, final TaskDataContext meta) {
         // Enqueue write
         callWrapper.enqueueWrite(executionPlanId, null);
 
         SPIRVOCLModule module = (SPIRVOCLModule) spirvModule;
         long kernelPointer = module.getKernelPointer();
+        final long numSkippedBefore = argumentCache.getNumSkipped();
 
         // device's kernel context
-        SPIRVOCLNativeDispatcher dispatcher = new SPIRVOCLNativeDispatcher();
-        int status = dispatcher.clSetKernelArg(kernelPointer, 0, Sizeof.LONG.getNumBytes(), callWrapper.toBuffer());
-        checkStatus(status, "clSetKernelArg");
+        setArg(kernelPointer, 0, callWrapper.toBuffer());
 
         // Set all user parameters to the SPIR-V kernel
         for (int argIndex = 0; argIndex < callWrapper.getCallArguments().size(); argIndex++) {
@@ -103,23 +107,40 @@ public class SPIRVOCLInstalledCode extends SPIRVInstalledCode {
             KernelStackFrame.CallArgument arg = callWrapper.getCallArguments().get(argIndex);
 
             if (arg.getValue() instanceof KernelStackFrame.KernelContextArgument) {
-                status = dispatcher.clSetKernelArg(kernelPointer, kernelParamIndex, Sizeof.LONG.getNumBytes(), callWrapper.toBuffer());
-                checkStatus(status, "clSetKernelArg");
+                setArg(kernelPointer, kernelParamIndex, callWrapper.toBuffer());
                 continue;
             }
 
             if (RuntimeUtilities.isBoxedPrimitive(arg.getValue()) || arg.getValue().getClass().isPrimitive()) {
                 if (!arg.isReferenceType()) {
                     // In OpenCL, we need to set the argument. But it is set as buffer pointer. So we add the kernelContext as a dummy one.
-                    status = dispatcher.clSetKernelArg(kernelPointer, kernelParamIndex, Sizeof.LONG.getNumBytes(), callWrapper.toBuffer());
+                    setArg(kernelPointer, kernelParamIndex, callWrapper.toBuffer());
                 } else {
-                    status = dispatcher.clSetKernelArg(kernelPointer, kernelParamIndex, Sizeof.LONG.getNumBytes(), ((Number) arg.getValue()).longValue());
+                    setArg(kernelPointer, kernelParamIndex, ((Number) arg.getValue()).longValue());
                 }
-                checkStatus(status, "clSetKernelArg");
             } else {
                 TornadoInternalError.shouldNotReachHere();
             }
         }
+        updateProfilerSkippedArguments(meta, argumentCache.getNumSkipped() - numSkippedBefore);
+    }
+
+    private void setArg(long kernelPointer, int index, long value) {
+        if (!useArgumentCache || argumentCache.update(index, value, Sizeof.LONG.getNumBytes())) {
+            int status = dispatcher.clSetKernelArg(kernelPointer, index, Sizeof.LONG.getNumBytes(), value);
+            if (status != OCLErrorCode.CL_SUCCESS) {
+                argumentCache.invalidate(index);
+            } else {
+                argumentCache.argumentSet(index);
+            }
+            checkStatus(status, "clSetKernelArg");
+        }
+    }
+
+    private void updateProfilerSkippedArguments(TaskDataContext meta, long numSkipped) {
+        if (TornadoOptions.isProfilerEnabled() && numSkipped > 0) {
+            meta.getProfiler().addValueToMetric(ProfilerType.SKIPPED_KERNEL_ARGUMENTS, meta.getId(), numSkipped);
+        }
     }
 
     public void submit(long executionPlanId, long kernelPointer, final TaskDataContext meta, long[] waitEvents) {
@@ -142,7 +163,6 @@ public class SPIRVOCLInstalledCode extends SPIRVInstalledCode {
     }
 
     public int launch(long executionPlanId, long kernelPointer, final TaskDataContext meta, long[] waitEvents, long[] kernelEvent) {
-        SPIRVOCLNativeDispatcher dispatcher = new SPIRVOCLNativeDispatcher();
         OCLCommandQueue commandQueue = (OCLCommandQueue) deviceContext.getSpirvContext().getCommandQueueForDevice(executionPlanId, deviceContext.getDeviceIndex());
         long queuePointer = commandQueue.getCommandQueuePtr();
 
@@ -311,5 +331,6 @@ public class SPIRVOCLInstalledCode extends SPIRVInstalledCode {
     @Override
     public void invalidate() {
         valid = false;
+        argumentCache.invalidate();
     }
 }
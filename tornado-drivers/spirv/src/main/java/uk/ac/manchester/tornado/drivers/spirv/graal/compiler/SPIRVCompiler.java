@@ -84,6 +84,7 @@ import uk.ac.manchester.tornado.drivers.spirv.SPIRVBackend;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVProviders;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVSuitesProvider;
 import uk.ac.manchester.tornado.drivers.spirv.graal.asm.SPIRVAssembler;
+import uk.ac.manchester.tornado.drivers.spirv.passes.SPIRVModuleOptimizer;
 import uk.ac.manchester.tornado.runtime.common.BatchCompilationConfig;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
@@ -423,6 +424,9 @@ public class SPIRVCompiler {
         // asm.module.close().write(asm.getSPIRVByteBuffer());
         asm.module.close().write(out);
         out.flip();
+        if (TornadoOptions.SPIRV_MODULE_PASSES) {
+            out = SPIRVModuleOptimizer.optimize(out);
+        }
         asm.setSPIRVByteBuffer(out);
         // asm.getSPIRVByteBuffer().flip();
 
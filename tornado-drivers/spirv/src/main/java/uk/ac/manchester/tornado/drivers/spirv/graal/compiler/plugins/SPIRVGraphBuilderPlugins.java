@@ -48,6 +48,7 @@ import static uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVIntBinaryI
 
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.util.function.Supplier;
 
 import jdk.vm.ci.meta.MetaAccessProvider;
 import jdk.vm.ci.meta.ResolvedJavaType;
@@ -56,7 +57,9 @@ import org.graalvm.compiler.core.common.memory.MemoryOrderMode;
 import org.graalvm.compiler.core.common.type.StampFactory;
 import org.graalvm.compiler.nodes.ConstantNode;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.SignExtendNode;
 import org.graalvm.compiler.nodes.extended.JavaReadNode;
 import org.graalvm.compiler.nodes.extended.JavaWriteNode;
 import org.graalvm.compiler.nodes.graphbuilderconf.GraphBuilderConfiguration.Plugins;
@@ -71,14 +74,18 @@ import org.graalvm.compiler.replacements.InlineDuringParsingPlugin;
 import org.graalvm.word.LocationIdentity;
 
 import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.RawConstant;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.types.arrays.Int8Array;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.utils.QuantizationUtils;
 import uk.ac.manchester.tornado.drivers.common.logging.Logger;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVArchitecture;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.AtomicArrayOperationNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVBarrierNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVConvertHalfToFloat;
@@ -87,6 +94,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVFPUnaryIntrinsicN
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVIntUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SlotsBaseAddressNode;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.directives.CompilerInternals;
 
@@ -98,7 +106,8 @@ public class SPIRVGraphBuilderPlugins {
 
     public static void registerNewInstancePlugins(Plugins plugins) {
         plugins.appendNodePlugin(new SPIRVVectorNodePlugin());
-        // FIXME: Atomics for SPIRV Backend not implemented.
+        // FIXME: AtomicInteger for SPIRV Backend not implemented. The atomics on
+        // native arrays are registered with the KernelContext plugins.
     }
 
     public static void registerInvocationPlugins(Plugins plugins, final InvocationPlugins invocationPlugins) {
@@ -159,6 +168,60 @@ public class SPIRVGraphBuilderPlugins {
         registerLocalBarrier(r);
         registerGlobalBarrier(r);
         localArraysPlugins(r);
+        registerAtomicArrayOperations(r);
+    }
+
+    private static void registerAtomicArrayOperations(Registration r) {
+        // The header sizes are obtained at compile time, once the VM configuration is available.
+        Supplier<Integer> intHeaderSupplier = () -> TornadoCoreRuntime.getVMConfig().getArrayBaseOffset(JavaKind.Int) / JavaKind.Int.getByteCount();
+        Supplier<Integer> longHeaderSupplier = () -> TornadoCoreRuntime.getVMConfig().getArrayBaseOffset(JavaKind.Long) / JavaKind.Long.getByteCount();
+        registerAtomicArrayOperations(r, IntArray.class, JavaKind.Int, intHeaderSupplier);
+        registerAtomicArrayOperations(r, LongArray.class, JavaKind.Long, longHeaderSupplier);
+    }
+
+    private static void registerAtomicArrayOperations(Registration r, Class<?> arrayType, JavaKind kind, Supplier<Integer> headerSupplier) {
+        Class<?> type = kind.toJavaClass();
+        r.register(new InvocationPlugin("atomicCompareAndSwap", InvocationPlugin.Receiver.class, arrayType, Integer.TYPE, type, type) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index, ValueNode expected, ValueNode newValue) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(AtomicArrayOperationNode.Operation.COMPARE_AND_SWAP, address, expected, newValue, kind));
+                return true;
+            }
+        });
+        registerAtomicArrayOperation(r, "atomicExchange", AtomicArrayOperationNode.Operation.EXCHANGE, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicMin", AtomicArrayOperationNode.Operation.MIN, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicMax", AtomicArrayOperationNode.Operation.MAX, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicAnd", AtomicArrayOperationNode.Operation.AND, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicOr", AtomicArrayOperationNode.Operation.OR, arrayType, kind, headerSupplier);
+        registerAtomicArrayOperation(r, "atomicXor", AtomicArrayOperationNode.Operation.XOR, arrayType, kind, headerSupplier);
+        r.register(new InvocationPlugin("atomicIncrement", InvocationPlugin.Receiver.class, arrayType, Integer.TYPE) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(AtomicArrayOperationNode.Operation.INCREMENT, address, null, null, kind));
+                return true;
+            }
+        });
+    }
+
+    private static void registerAtomicArrayOperation(Registration r, String methodName, AtomicArrayOperationNode.Operation operation, Class<?> arrayType, JavaKind kind, Supplier<Integer> headerSupplier) {
+        r.register(new InvocationPlugin(methodName, InvocationPlugin.Receiver.class, arrayType, Integer.TYPE, kind.toJavaClass()) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode segment, ValueNode index, ValueNode value) {
+                AddressNode address = computeAddress(b, segment, index, headerSupplier.get(), kind);
+                b.addPush(kind, new AtomicArrayOperationNode(operation, address, null, value, kind));
+                return true;
+            }
+        });
+    }
+
+    private static AddressNode computeAddress(GraphBuilderContext b, ValueNode segment, ValueNode index, int panamaOffset, JavaKind kind) {
+        ConstantNode constantNode = b.append(new ConstantNode(new RawConstant(panamaOffset), StampFactory.forKind(JavaKind.Int)));
+        AddNode newIndex = b.append(new AddNode(index, constantNode));
+        SignExtendNode signExtendNode = b.append(new SignExtendNode(newIndex, JavaKind.Long.getBitCount()));
+        MulNode mulNode = b.append(new MulNode(signExtendNode, ConstantNode.forInt(kind.getByteCount())));
+        return b.append(new OffsetAddressNode(segment, mulNode));
     }
 
     private static void registerLocalBarrier(Registration r) {
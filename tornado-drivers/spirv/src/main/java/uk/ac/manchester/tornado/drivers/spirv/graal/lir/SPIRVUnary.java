@@ -35,6 +35,15 @@ import jdk.vm.ci.meta.AllocatableValue;
 import jdk.vm.ci.meta.Local;
 import jdk.vm.ci.meta.Value;
 import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVInstScope;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVInstruction;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicAnd;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicCompareExchange;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicExchange;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicIIncrement;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicOr;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicSMax;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicSMin;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicXor;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpCompositeExtract;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpControlBarrier;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpConvertFToS;
@@ -66,6 +75,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.asm.SPIRVAssembler;
 import uk.ac.manchester.tornado.drivers.spirv.graal.asm.SPIRVAssembler.SPIRVUnaryOp;
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVCompilationResultBuilder;
 import uk.ac.manchester.tornado.drivers.spirv.graal.meta.SPIRVMemorySpace;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.AtomicArrayOperationNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVBarrierNode;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
@@ -1173,6 +1183,68 @@ public class SPIRVUnary {
         }
     }
 
+    /**
+     * Atomic operation on an element of an array in global memory. The
+     * operations use the device scope and relaxed semantics on the
+     * CrossWorkgroup memory, as the {@code atomic_*} functions of OpenCL C.
+     *
+     * <code>
+     * %result = OpAtomicCompareExchange %int %ptr %uint_1 %uint_512 %uint_512 %value %expected
+     * </code>
+     */
+    public static class AtomicArrayOperation extends UnaryConsumer {
+
+        private static final int DEVICE_SCOPE = 1;
+        private static final int CROSS_WORKGROUP_MEMORY = 0x200;
+
+        private final AtomicArrayOperationNode.Operation operation;
+
+        @Use
+        private SPIRVAddressCast cast;
+
+        @Use
+        private Value expected;
+
+        @Use
+        private Value operand;
+
+        public AtomicArrayOperation(AtomicArrayOperationNode.Operation operation, LIRKind lirKind, SPIRVAddressCast cast, Value expected, Value operand) {
+            super(null, null, lirKind, cast);
+            this.operation = operation;
+            this.cast = cast;
+            this.expected = expected;
+            this.operand = operand;
+        }
+
+        @Override
+        public void emit(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm) {
+            Logger.traceCodeGen(Logger.BACKEND.SPIRV, "emit AtomicArrayOperation " + operation + " in address: " + cast);
+
+            cast.emit(crb, asm);
+            SPIRVId pointer = asm.lookUpLIRInstructions(cast);
+
+            SPIRVId type = asm.primitives.getTypePrimitive((SPIRVKind) getLIRKind().getPlatformKind());
+            SPIRVId scope = asm.lookUpConstant(Integer.toString(DEVICE_SCOPE), SPIRVKind.OP_TYPE_INT_32);
+            SPIRVId semantics = asm.lookUpConstant(Integer.toString(CROSS_WORKGROUP_MEMORY), SPIRVKind.OP_TYPE_INT_32);
+            SPIRVId value = operand != null ? loadSPIRVId(crb, asm, operand) : null;
+            SPIRVId comparator = expected != null ? loadSPIRVId(crb, asm, expected) : null;
+
+            SPIRVId result = asm.module.getNextId();
+            SPIRVInstruction instruction = switch (operation) {
+                case COMPARE_AND_SWAP -> new SPIRVOpAtomicCompareExchange(type, result, pointer, scope, semantics, semantics, value, comparator);
+                case EXCHANGE -> new SPIRVOpAtomicExchange(type, result, pointer, scope, semantics, value);
+                case MIN -> new SPIRVOpAtomicSMin(type, result, pointer, scope, semantics, value);
+                case MAX -> new SPIRVOpAtomicSMax(type, result, pointer, scope, semantics, value);
+                case AND -> new SPIRVOpAtomicAnd(type, result, pointer, scope, semantics, value);
+                case OR -> new SPIRVOpAtomicOr(type, result, pointer, scope, semantics, value);
+                case XOR -> new SPIRVOpAtomicXor(type, result, pointer, scope, semantics, value);
+                case INCREMENT -> new SPIRVOpAtomicIIncrement(type, result, pointer, scope, semantics);
+            };
+            asm.currentBlockScope().add(instruction);
+            asm.registerLIRInstructionValue(this, result);
+        }
+    }
+
     public static class LoadParameter extends SPIRVLIROp {
 
         @Use
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.SingleMemoryKill;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.common.logging.Logger;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVLIRStmt;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVUnary;
+
+/**
+ * Atomic operation on an element of an {@code IntArray} or a {@code LongArray}
+ * from the {@code KernelContext} API. The node returns the value of the element
+ * before the operation.
+ *
+ * <p>
+ * Instructions: OpAtomicCompareExchange, OpAtomicExchange, OpAtomicSMin,
+ * OpAtomicSMax, OpAtomicAnd, OpAtomicOr, OpAtomicXor and OpAtomicIIncrement.
+ * </p>
+ */
+@NodeInfo(shortName = "AtomicArrayOp")
+public class AtomicArrayOperationNode extends FixedWithNextNode implements LIRLowerable, SingleMemoryKill {
+
+    public static final NodeClass<AtomicArrayOperationNode> TYPE = NodeClass.create(AtomicArrayOperationNode.class);
+
+    public enum Operation {
+        COMPARE_AND_SWAP, //
+        EXCHANGE, //
+        MIN, //
+        MAX, //
+        AND, //
+        OR, //
+        XOR, //
+        INCREMENT
+    }
+
+    @Input
+    AddressNode address;
+
+    @OptionalInput
+    ValueNode expected;
+
+    @OptionalInput
+    ValueNode value;
+
+    private final Operation operation;
+
+    public AtomicArrayOperationNode(Operation operation, AddressNode address, ValueNode expected, ValueNode value, JavaKind kind) {
+        super(TYPE, StampFactory.forKind(kind));
+        this.operation = operation;
+        this.address = address;
+        this.expected = expected;
+        this.value = value;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return LocationIdentity.any();
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "emit AtomicArrayOperation: " + operation);
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        LIRKind lirKind = tool.getLIRKind(stamp);
+        Variable result = tool.newVariable(lirKind);
+        SPIRVUnary.MemoryAccess memoryAccess = (SPIRVUnary.MemoryAccess) gen.operand(address);
+        SPIRVUnary.SPIRVAddressCast cast = new SPIRVUnary.SPIRVAddressCast(memoryAccess.getValue(), memoryAccess.getMemoryRegion(), lirKind);
+        Value expectedValue = expected != null ? gen.operand(expected) : null;
+        Value operand = value != null ? gen.operand(value) : null;
+        tool.append(new SPIRVLIRStmt.AssignStmt(result, new SPIRVUnary.AtomicArrayOperation(operation, lirKind, cast, expectedValue, operand)));
+        gen.setResult(this, result);
+    }
+}
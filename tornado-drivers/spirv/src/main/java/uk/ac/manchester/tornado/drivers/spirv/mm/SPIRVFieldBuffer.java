@@ -492,6 +492,13 @@ public class SPIRVFieldBuffer implements XPUBuffer {
         return deviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        long released = deviceContext.getBufferProvider().deallocate(bufferId, access);
+        bufferId = -1;
+        return released;
+    }
+
     @Override
     public void mapOnDeviceMemoryRegion(long executionPlanId, XPUBuffer srcPointer, long offset) {
         throw new TornadoRuntimeException("[ERROR] not implemented");
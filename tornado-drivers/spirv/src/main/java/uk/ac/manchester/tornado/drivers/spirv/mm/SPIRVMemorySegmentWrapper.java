@@ -218,6 +218,15 @@ public class SPIRVMemorySegmentWrapper implements XPUBuffer {
         return spirvDeviceContext.getBufferProvider().deallocate(access);
     }
 
+    @Override
+    public long release() {
+        TornadoInternalError.guarantee(bufferId != INIT_VALUE, "Fatal error: trying to release an invalid buffer");
+        long released = spirvDeviceContext.getBufferProvider().deallocate(bufferId, access);
+        bufferId = INIT_VALUE;
+        bufferSize = INIT_VALUE;
+        return released;
+    }
+
     @Override
     public void mapOnDeviceMemoryRegion(long executionPlanId, XPUBuffer srcPointer, long offset) {
         if (!(srcPointer instanceof SPIRVMemorySegmentWrapper spirvMemorySegmentWrapper)) {
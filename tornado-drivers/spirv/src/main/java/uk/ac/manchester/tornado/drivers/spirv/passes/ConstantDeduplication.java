@@ -0,0 +1,72 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Merges the constants with the same type and value. The constant composites
+ * are merged after their elements, so equal composites of duplicated constants
+ * are merged too. Decorated constants are not merged.
+ */
+final class ConstantDeduplication implements SPIRVModulePass {
+
+    private static boolean isConstant(int opcode) {
+        return opcode >= SPIRVInstruction.OP_CONSTANT_TRUE && opcode <= SPIRVInstruction.OP_CONSTANT_NULL && opcode != SPIRVInstruction.OP_CONSTANT_SAMPLER;
+    }
+
+    @Override
+    public boolean apply(SPIRVBinaryModule module) {
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        Set<Integer> decorated = module.getDecoratedIds();
+        SPIRVIdReplacements replacements = new SPIRVIdReplacements();
+        HashMap<SPIRVInstruction.ValueKey, Integer> constants = new HashMap<>();
+        HashSet<Integer> removedIds = new HashSet<>();
+
+        int end = module.getFirstFunctionIndex();
+        for (int i = 0; i < end; i++) {
+            SPIRVInstruction instruction = instructions.get(i);
+            if (!isConstant(instruction.getOpcode()) || decorated.contains(instruction.getResultId())) {
+                continue;
+            }
+            instruction.replaceReferences(replacements);
+            Integer existing = constants.putIfAbsent(instruction.getValueKey(), instruction.getResultId());
+            if (existing != null) {
+                replacements.replace(instruction.getResultId(), existing);
+                removedIds.add(instruction.getResultId());
+            }
+        }
+
+        if (removedIds.isEmpty()) {
+            return false;
+        }
+        instructions.removeIf(instruction -> removedIds.contains(instruction.getResultId()));
+        module.replaceReferences(replacements);
+        module.removeAnnotations(removedIds);
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Removes the types, constants, undefined values and global variables that are
+ * not used, together with their debug names and decorations. A removed
+ * declaration can leave other declarations unused, so the pass is repeated
+ * until no declaration is removed.
+ */
+final class DeadDeclarationElimination implements SPIRVModulePass {
+
+    private static boolean isRemovable(SPIRVInstruction instruction) {
+        int opcode = instruction.getOpcode();
+        boolean isType = opcode >= SPIRVInstruction.OP_TYPE_VOID && opcode <= SPIRVInstruction.OP_TYPE_PIPE;
+        boolean isConstant = opcode >= SPIRVInstruction.OP_CONSTANT_TRUE && opcode <= SPIRVInstruction.OP_SPEC_CONSTANT_OP;
+        return isType || isConstant || opcode == SPIRVInstruction.OP_VARIABLE || opcode == SPIRVInstruction.OP_UNDEF;
+    }
+
+    @Override
+    public boolean apply(SPIRVBinaryModule module) {
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        HashSet<Integer> removedIds = new HashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            HashMap<Integer, Integer> uses = module.countUses();
+            int end = module.getFirstFunctionIndex();
+            for (int i = end - 1; i >= 0; i--) {
+                SPIRVInstruction instruction = instructions.get(i);
+                int id = instruction.getResultId();
+                if (id >= 0 && isRemovable(instruction) && !uses.containsKey(id)) {
+                    instructions.remove(i);
+                    removedIds.add(id);
+                    changed = true;
+                }
+            }
+        }
+        module.removeAnnotations(removedIds);
+        return !removedIds.isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes the functions that are not reachable, through calls, from the entry
+ * points and from the functions exported by the module.
+ */
+final class DeadFunctionElimination implements SPIRVModulePass {
+
+    private record FunctionRange(int start, int end) {
+    }
+
+    @Override
+    public boolean apply(SPIRVBinaryModule module) {
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        HashMap<Integer, FunctionRange> functions = new HashMap<>();
+        int start = -1;
+        int id = -1;
+        for (int i = 0; i < instructions.size(); i++) {
+            SPIRVInstruction instruction = instructions.get(i);
+            if (instruction.getOpcode() == SPIRVInstruction.OP_FUNCTION) {
+                start = i;
+                id = instruction.getResultId();
+            } else if (instruction.getOpcode() == SPIRVInstruction.OP_FUNCTION_END && start >= 0) {
+                functions.put(id, new FunctionRange(start, i + 1));
+                start = -1;
+            }
+        }
+
+        ArrayDeque<Integer> worklist = new ArrayDeque<>();
+        for (SPIRVInstruction instruction : instructions) {
+            if (instruction.getOpcode() == SPIRVInstruction.OP_ENTRY_POINT) {
+                worklist.add(instruction.getOperand(1));
+            } else if (isExport(instruction)) {
+                worklist.add(instruction.getOperand(0));
+            }
+        }
+
+        HashSet<Integer> reachable = new HashSet<>();
+        while (!worklist.isEmpty()) {
+            int function = worklist.poll();
+            FunctionRange range = functions.get(function);
+            if (range == null || !reachable.add(function)) {
+                continue;
+            }
+            for (int i = range.start(); i < range.end(); i++) {
+                SPIRVInstruction instruction = instructions.get(i);
+                if (instruction.getOpcode() == SPIRVInstruction.OP_FUNCTION_CALL) {
+                    worklist.add(instruction.getOperand(2));
+                }
+            }
+        }
+
+        if (reachable.size() == functions.size()) {
+            return false;
+        }
+
+        // Remove the dead functions from the end, so the ranges are still valid
+        HashSet<Integer> removedIds = new HashSet<>();
+        functions.entrySet().stream() //
+                .filter(entry -> !reachable.contains(entry.getKey())) //
+                .map(Map.Entry::getValue) //
+                .sorted((a, b) -> Integer.compare(b.start(), a.start())) //
+                .forEach(range -> {
+                    List<SPIRVInstruction> body = instructions.subList(range.start(), range.end());
+                    for (SPIRVInstruction instruction : body) {
+                        if (instruction.getResultId() >= 0) {
+                            removedIds.add(instruction.getResultId());
+                        }
+                    }
+                    body.clear();
+                });
+        module.removeAnnotations(removedIds);
+        return true;
+    }
+
+    private static boolean isExport(SPIRVInstruction instruction) {
+        return instruction.getOpcode() == SPIRVInstruction.OP_DECORATE //
+                && instruction.getNumOperands() > 2 //
+                && instruction.getOperand(1) == SPIRVInstruction.DECORATION_LINKAGE_ATTRIBUTES //
+                && instruction.getOperand(instruction.getNumOperands() - 1) == SPIRVInstruction.LINKAGE_TYPE_EXPORT;
+    }
+}
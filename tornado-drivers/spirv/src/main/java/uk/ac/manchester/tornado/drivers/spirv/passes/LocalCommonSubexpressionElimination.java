@@ -0,0 +1,112 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Common subexpression elimination within each basic block, for the
+ * instructions without side effects (arithmetic, conversions, comparisons,
+ * bitwise operations, composites, selects and access chains). The results of
+ * these instructions that are not used after the elimination are removed too.
+ * Decorated results are kept.
+ */
+final class LocalCommonSubexpressionElimination implements SPIRVModulePass {
+
+    static boolean isPure(int opcode) {
+        return switch (opcode) {
+            case 65, 66, 67, 70 -> true; // Access chains
+            case 77, 78, 79, 80, 81, 82, 83, 84 -> true; // Vectors and composites
+            default -> (opcode >= 109 && opcode <= 124) // Conversions
+                    || (opcode >= 126 && opcode <= 205); // Arithmetic, relational, logical and bit instructions
+        };
+    }
+
+    @Override
+    public boolean apply(SPIRVBinaryModule module) {
+        boolean changed = eliminateCommonSubexpressions(module);
+        return removeUnusedValues(module) || changed;
+    }
+
+    private boolean eliminateCommonSubexpressions(SPIRVBinaryModule module) {
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        Set<Integer> decorated = module.getDecoratedIds();
+        SPIRVIdReplacements replacements = new SPIRVIdReplacements();
+        HashMap<SPIRVInstruction.ValueKey, Integer> values = new HashMap<>();
+        HashSet<Integer> removedIds = new HashSet<>();
+
+        for (int i = module.getFirstFunctionIndex(); i < instructions.size(); i++) {
+            SPIRVInstruction instruction = instructions.get(i);
+            int opcode = instruction.getOpcode();
+            if (opcode == SPIRVInstruction.OP_LABEL || opcode == SPIRVInstruction.OP_FUNCTION) {
+                values.clear();
+                continue;
+            }
+            instruction.replaceReferences(replacements);
+            if (!isPure(opcode) || decorated.contains(instruction.getResultId())) {
+                continue;
+            }
+            Integer existing = values.putIfAbsent(instruction.getValueKey(), instruction.getResultId());
+            if (existing != null) {
+                replacements.replace(instruction.getResultId(), existing);
+                removedIds.add(instruction.getResultId());
+            }
+        }
+
+        if (removedIds.isEmpty()) {
+            return false;
+        }
+        // A value can be used before its definition (e.g., by a phi in a loop header)
+        instructions.removeIf(instruction -> removedIds.contains(instruction.getResultId()));
+        module.replaceReferences(replacements);
+        module.removeAnnotations(removedIds);
+        return true;
+    }
+
+    private boolean removeUnusedValues(SPIRVBinaryModule module) {
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        Set<Integer> decorated = module.getDecoratedIds();
+        HashSet<Integer> removedIds = new HashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            HashMap<Integer, Integer> uses = module.countUses();
+            int start = module.getFirstFunctionIndex();
+            for (int i = instructions.size() - 1; i >= start; i--) {
+                SPIRVInstruction instruction = instructions.get(i);
+                int id = instruction.getResultId();
+                if (isPure(instruction.getOpcode()) && !uses.containsKey(id) && !decorated.contains(id)) {
+                    instructions.remove(i);
+                    removedIds.add(id);
+                    changed = true;
+                }
+            }
+        }
+        module.removeAnnotations(removedIds);
+        return !removedIds.isEmpty();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Removes redundant loads and stores of the variables of the functions
+ * ({@code Function} storage class) whose address does not escape, that is, the
+ * variables that are only used as the pointer of non-volatile loads and
+ * stores. Within each basic block:
+ *
+ * <ul>
+ * <li>A load after a store is replaced by the stored value.</li>
+ * <li>A load after a load is replaced by the first loaded value.</li>
+ * <li>A store followed by another store, without a load in between, is
+ * removed.</li>
+ * </ul>
+ *
+ * The variables that are never loaded after these transformations are removed
+ * with all their stores.
+ *
+ * <p>
+ * This complements the option {@code tornado.spirv.loadstore}, which avoids
+ * the variables for the values of the LIR when the code is generated.
+ * </p>
+ */
+final class RedundantLoadStoreElimination implements SPIRVModulePass {
+
+    private static boolean isVolatile(SPIRVInstruction instruction, int memoryAccessIndex) {
+        return instruction.getNumOperands() > memoryAccessIndex && (instruction.getOperand(memoryAccessIndex) & SPIRVInstruction.MEMORY_ACCESS_VOLATILE) != 0;
+    }
+
+    /**
+     * @return the local variables that are only used by non-volatile loads and
+     *     stores.
+     */
+    private static HashSet<Integer> findLocalVariables(SPIRVBinaryModule module) {
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        HashSet<Integer> variables = new HashSet<>();
+        for (int i = module.getFirstFunctionIndex(); i < instructions.size(); i++) {
+            SPIRVInstruction instruction = instructions.get(i);
+            if (instruction.getOpcode() == SPIRVInstruction.OP_VARIABLE && instruction.getOperand(2) == SPIRVInstruction.STORAGE_CLASS_FUNCTION) {
+                variables.add(instruction.getResultId());
+            }
+        }
+        variables.removeAll(module.getDecoratedIds());
+
+        for (SPIRVInstruction instruction : instructions) {
+            int opcode = instruction.getOpcode();
+            if (opcode == SPIRVInstruction.OP_NAME || variables.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < instruction.getNumReferences(); i++) {
+                int id = instruction.getReference(i);
+                if (!variables.contains(id)) {
+                    continue;
+                }
+                boolean load = opcode == SPIRVInstruction.OP_LOAD && instruction.getOperand(2) == id && !isVolatile(instruction, 3);
+                boolean store = opcode == SPIRVInstruction.OP_STORE && instruction.getOperand(0) == id && instruction.getOperand(1) != id && !isVolatile(instruction, 2);
+                if (!load && !store) {
+                    variables.remove(id);
+                }
+            }
+        }
+        return variables;
+    }
+
+    @Override
+    public boolean apply(SPIRVBinaryModule module) {
+        HashSet<Integer> variables = findLocalVariables(module);
+        if (variables.isEmpty()) {
+            return false;
+        }
+        List<SPIRVInstruction> instructions = module.getInstructions();
+        SPIRVIdReplacements replacements = new SPIRVIdReplacements();
+        HashSet<SPIRVInstruction> removed = new HashSet<>();
+        HashMap<Integer, Integer> knownValues = new HashMap<>();
+        HashMap<Integer, SPIRVInstruction> pendingStores = new HashMap<>();
+
+        for (int i = module.getFirstFunctionIndex(); i < instructions.size(); i++) {
+            SPIRVInstruction instruction = instructions.get(i);
+            int opcode = instruction.getOpcode();
+            if (opcode == SPIRVInstruction.OP_LABEL || opcode == SPIRVInstruction.OP_FUNCTION) {
+                knownValues.clear();
+                pendingStores.clear();
+                continue;
+            }
+            instruction.replaceReferences(replacements);
+            if (opcode == SPIRVInstruction.OP_STORE && variables.contains(instruction.getOperand(0))) {
+                int variable = instruction.getOperand(0);
+                SPIRVInstruction overwritten = pendingStores.put(variable, instruction);
+                if (overwritten != null) {
+                    removed.add(overwritten);
+                }
+                knownValues.put(variable, instruction.getOperand(1));
+            } else if (opcode == SPIRVInstruction.OP_LOAD && variables.contains(instruction.getOperand(2))) {
+                int variable = instruction.getOperand(2);
+                Integer value = knownValues.get(variable);
+                if (value != null) {
+                    replacements.replace(instruction.getResultId(), value);
+                    removed.add(instruction);
+                } else {
+                    knownValues.put(variable, instruction.getResultId());
+                }
+                pendingStores.remove(variable);
+            }
+        }
+
+        instructions.removeIf(removed::contains);
+        module.replaceReferences(replacements);
+
+        // Remove the variables that are not loaded anymore, and their stores
+        HashSet<Integer> loaded = new HashSet<>();
+        for (SPIRVInstruction instruction : instructions) {
+            if (instruction.getOpcode() == SPIRVInstruction.OP_LOAD) {
+                loaded.add(instruction.getOperand(2));
+            }
+        }
+        variables.removeAll(loaded);
+        if (!variables.isEmpty()) {
+            instructions.removeIf(instruction -> variables.contains(instruction.getResultId()) //
+                    || (instruction.getOpcode() == SPIRVInstruction.OP_STORE && variables.contains(instruction.getOperand(0))));
+            module.removeAnnotations(variables);
+        }
+        return !removed.isEmpty() || !variables.isEmpty();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SPIR-V module decoded from its binary form. The module of the SPIR-V toolkit
+ * can only be appended while it is generated, so the passes work on the
+ * instructions of the binary module once the module is closed.
+ */
+public final class SPIRVBinaryModule {
+
+    private static final int MAGIC_NUMBER = 0x07230203;
+    private static final int HEADER_WORDS = 5;
+    private static final int BOUND_INDEX = 3;
+    private static final String OPENCL_EXTENDED_SET = "OpenCL.std";
+
+    // OpenCL.std instructions with a literal as the last operand (vloadn,
+    // vload_halfn, vstore_half_r, vstore_halfn_r, vloada_halfn, vstorea_halfn_r)
+    private static final Set<Integer> OPENCL_INSTRUCTIONS_WITH_LITERAL = Set.of(171, 174, 176, 177, 178, 180);
+
+    private final int[] header;
+    private final ByteOrder byteOrder;
+    private final ArrayList<SPIRVInstruction> instructions;
+
+    private SPIRVBinaryModule(int[] header, ByteOrder byteOrder, ArrayList<SPIRVInstruction> instructions) {
+        this.header = header;
+        this.byteOrder = byteOrder;
+        this.instructions = instructions;
+    }
+
+    /**
+     * Decodes a SPIR-V binary module, from the position to the limit of the
+     * buffer.
+     *
+     * @param binary
+     *     SPIR-V binary.
+     * @return the decoded module, or null if the binary is not a valid module or
+     *     if it contains an instruction that the passes do not support.
+     */
+    public static SPIRVBinaryModule parse(ByteBuffer binary) {
+        ByteBuffer buffer = binary.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_WORDS * Integer.BYTES || buffer.remaining() % Integer.BYTES != 0) {
+            return null;
+        }
+        if (buffer.getInt(0) != MAGIC_NUMBER) {
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(0) != MAGIC_NUMBER) {
+                return null;
+            }
+        }
+        IntBuffer words = buffer.asIntBuffer();
+        int[] header = new int[HEADER_WORDS];
+        words.get(header);
+
+        ArrayList<SPIRVInstruction> instructions = new ArrayList<>();
+        HashMap<Integer, Integer> integerWidths = new HashMap<>();
+        HashMap<Integer, Integer> valueTypes = new HashMap<>();
+        HashSet<Integer> openclSets = new HashSet<>();
+        while (words.hasRemaining()) {
+            int first = words.get();
+            int wordCount = first >>> 16;
+            int opcode = first & 0xFFFF;
+            if (wordCount == 0 || wordCount - 1 > words.remaining()) {
+                return null;
+            }
+            int[] operands = new int[wordCount - 1];
+            words.get(operands);
+
+            int trailingLiterals = 0;
+            if (opcode == SPIRVInstruction.OP_EXT_INST && operands.length >= 4 && openclSets.contains(operands[2]) && OPENCL_INSTRUCTIONS_WITH_LITERAL.contains(operands[3])) {
+                trailingLiterals = 1;
+            }
+            int switchLiteralWords = 1;
+            if (opcode == SPIRVInstruction.OP_SWITCH && operands.length > 0) {
+                Integer width = integerWidths.get(valueTypes.get(operands[0]));
+                if (width != null && width > 32) {
+                    switchLiteralWords = 2;
+                }
+            }
+
+            SPIRVInstruction instruction = SPIRVOperandLayout.decode(opcode, operands, trailingLiterals, switchLiteralWords);
+            if (instruction == null) {
+                return null;
+            }
+            if (opcode == SPIRVInstruction.OP_TYPE_INT) {
+                integerWidths.put(operands[0], operands[1]);
+            } else if (opcode == SPIRVInstruction.OP_EXT_INST_IMPORT && OPENCL_EXTENDED_SET.equals(decodeString(operands, 1))) {
+                openclSets.add(operands[0]);
+            }
+            if (instruction.getResultType() >= 0 && instruction.getResultId() >= 0) {
+                valueTypes.put(instruction.getResultId(), instruction.getResultType());
+            }
+            instructions.add(instruction);
+        }
+        return new SPIRVBinaryModule(header, buffer.order(), instructions);
+    }
+
+    private static String decodeString(int[] operands, int index) {
+        byte[] bytes = new byte[(operands.length - index) * Integer.BYTES];
+        int length = 0;
+        for (int i = index; i < operands.length; i++) {
+            for (int shift = 0; shift < 32; shift += 8) {
+                byte b = (byte) (operands[i] >>> shift);
+                if (b == 0) {
+                    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+                }
+                bytes[length++] = b;
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes the module with the byte order of the original binary.
+     *
+     * @return a buffer with the binary module, whose backing array has the exact
+     *     size of the module.
+     */
+    public ByteBuffer toByteBuffer() {
+        int numWords = HEADER_WORDS;
+        for (SPIRVInstruction instruction : instructions) {
+            numWords += instruction.getNumOperands() + 1;
+        }
+        int[] words = new int[numWords];
+        System.arraycopy(header, 0, words, 0, HEADER_WORDS);
+        int offset = HEADER_WORDS;
+        for (SPIRVInstruction instruction : instructions) {
+            instruction.write(words, offset);
+            offset += instruction.getNumOperands() + 1;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(numWords * Integer.BYTES).order(byteOrder);
+        buffer.asIntBuffer().put(words);
+        return buffer;
+    }
+
+    public List<SPIRVInstruction> getInstructions() {
+        return instructions;
+    }
+
+    public int getIdBound() {
+        return header[BOUND_INDEX];
+    }
+
+    /**
+     * @return the index of the first {@code OpFunction}, that is, the end of the
+     *     declarations of the module.
+     */
+    int getFirstFunctionIndex() {
+        for (int i = 0; i < instructions.size(); i++) {
+            if (instructions.get(i).getOpcode() == SPIRVInstruction.OP_FUNCTION) {
+                return i;
+            }
+        }
+        return instructions.size();
+    }
+
+    /**
+     * Debug names and decorations refer to ids, but they do not use them.
+     */
+    static boolean isAnnotation(SPIRVInstruction instruction) {
+        return switch (instruction.getOpcode()) {
+            case SPIRVInstruction.OP_NAME, SPIRVInstruction.OP_MEMBER_NAME, SPIRVInstruction.OP_DECORATE, SPIRVInstruction.OP_MEMBER_DECORATE, SPIRVInstruction.OP_DECORATE_ID -> true;
+            default -> SPIRVOperandLayout.isDecorateString(instruction.getOpcode());
+        };
+    }
+
+    /**
+     * @return the ids that are the target of a decoration.
+     */
+    Set<Integer> getDecoratedIds() {
+        HashSet<Integer> decorated = new HashSet<>();
+        for (SPIRVInstruction instruction : instructions) {
+            int opcode = instruction.getOpcode();
+            if (isAnnotation(instruction) && opcode != SPIRVInstruction.OP_NAME && opcode != SPIRVInstruction.OP_MEMBER_NAME) {
+                decorated.add(instruction.getOperand(0));
+            }
+        }
+        return decorated;
+    }
+
+    /**
+     * Counts the uses of each id, without the debug names and the decorations.
+     */
+    HashMap<Integer, Integer> countUses() {
+        HashMap<Integer, Integer> uses = new HashMap<>();
+        for (SPIRVInstruction instruction : instructions) {
+            if (!isAnnotation(instruction)) {
+                for (int i = 0; i < instruction.getNumReferences(); i++) {
+                    uses.merge(instruction.getReference(i), 1, Integer::sum);
+                }
+            }
+        }
+        return uses;
+    }
+
+    /**
+     * Renames the ids referenced by all the instructions of the module.
+     */
+    void replaceReferences(SPIRVIdReplacements replacements) {
+        if (!replacements.isEmpty()) {
+            for (SPIRVInstruction instruction : instructions) {
+                instruction.replaceReferences(replacements);
+            }
+        }
+    }
+
+    /**
+     * Removes the debug names and the decorations of removed ids.
+     */
+    void removeAnnotations(Set<Integer> removedIds) {
+        if (!removedIds.isEmpty()) {
+            instructions.removeIf(instruction -> isAnnotation(instruction) && removedIds.contains(instruction.getOperand(0)));
+        }
+    }
+}
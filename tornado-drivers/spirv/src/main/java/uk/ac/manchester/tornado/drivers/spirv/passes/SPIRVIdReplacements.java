@@ -0,0 +1,55 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.HashMap;
+
+/**
+ * Ids replaced by the passes. An id can be replaced by an id that has been
+ * replaced later, so the replacements are resolved transitively.
+ */
+final class SPIRVIdReplacements {
+
+    private final HashMap<Integer, Integer> replacements = new HashMap<>();
+
+    void replace(int id, int replacement) {
+        int resolved = resolve(replacement);
+        if (resolved != id) {
+            replacements.put(id, resolved);
+        }
+    }
+
+    int resolve(int id) {
+        Integer replacement = replacements.get(id);
+        while (replacement != null) {
+            id = replacement;
+            replacement = replacements.get(id);
+        }
+        return id;
+    }
+
+    boolean isEmpty() {
+        return replacements.isEmpty();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.Arrays;
+
+/**
+ * Instruction of a SPIR-V binary module. It keeps the operand words of the
+ * instruction and the position of the result id and of the ids that the
+ * instruction references, so the passes can rename ids without knowing the
+ * layout of each opcode.
+ */
+public final class SPIRVInstruction {
+
+    static final int OP_UNDEF = 1;
+    static final int OP_NAME = 5;
+    static final int OP_MEMBER_NAME = 6;
+    static final int OP_EXT_INST_IMPORT = 11;
+    static final int OP_EXT_INST = 12;
+    static final int OP_ENTRY_POINT = 15;
+    static final int OP_TYPE_VOID = 19;
+    static final int OP_TYPE_INT = 21;
+    static final int OP_TYPE_PIPE = 38;
+    static final int OP_CONSTANT_TRUE = 41;
+    static final int OP_CONSTANT = 43;
+    static final int OP_CONSTANT_COMPOSITE = 44;
+    static final int OP_CONSTANT_SAMPLER = 45;
+    static final int OP_CONSTANT_NULL = 46;
+    static final int OP_SPEC_CONSTANT_TRUE = 48;
+    static final int OP_SPEC_CONSTANT_OP = 52;
+    static final int OP_FUNCTION = 54;
+    static final int OP_FUNCTION_END = 56;
+    static final int OP_FUNCTION_CALL = 57;
+    static final int OP_VARIABLE = 59;
+    static final int OP_LOAD = 61;
+    static final int OP_STORE = 62;
+    static final int OP_DECORATE = 71;
+    static final int OP_MEMBER_DECORATE = 72;
+    static final int OP_PHI = 245;
+    static final int OP_LABEL = 248;
+    static final int OP_BRANCH = 249;
+    static final int OP_BRANCH_CONDITIONAL = 250;
+    static final int OP_SWITCH = 251;
+    static final int OP_KILL = 252;
+    static final int OP_RETURN = 253;
+    static final int OP_RETURN_VALUE = 254;
+    static final int OP_UNREACHABLE = 255;
+    static final int OP_DECORATE_ID = 332;
+
+    static final int STORAGE_CLASS_FUNCTION = 7;
+    static final int DECORATION_LINKAGE_ATTRIBUTES = 41;
+    static final int LINKAGE_TYPE_EXPORT = 0;
+    static final int MEMORY_ACCESS_VOLATILE = 0x1;
+
+    private final int opcode;
+    private final int[] operands;
+    private final int resultTypeIndex;
+    private final int resultIndex;
+    private final int[] referenceIndexes;
+
+    SPIRVInstruction(int opcode, int[] operands, int resultTypeIndex, int resultIndex, int[] referenceIndexes) {
+        this.opcode = opcode;
+        this.operands = operands;
+        this.resultTypeIndex = resultTypeIndex;
+        this.resultIndex = resultIndex;
+        this.referenceIndexes = referenceIndexes;
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public int getNumOperands() {
+        return operands.length;
+    }
+
+    public int getOperand(int index) {
+        return operands[index];
+    }
+
+    /**
+     * @return the result id of the instruction, or -1 if the instruction does not
+     *     define an id.
+     */
+    public int getResultId() {
+        return resultIndex < 0 ? -1 : operands[resultIndex];
+    }
+
+    /**
+     * @return the id of the result type, or -1 if the instruction does not have a
+     *     result type.
+     */
+    public int getResultType() {
+        return resultTypeIndex < 0 ? -1 : operands[resultTypeIndex];
+    }
+
+    /**
+     * @return the number of ids referenced by the instruction, including the
+     *     result type.
+     */
+    public int getNumReferences() {
+        return referenceIndexes.length;
+    }
+
+    public int getReference(int index) {
+        return operands[referenceIndexes[index]];
+    }
+
+    /**
+     * Renames the ids referenced by the instruction. The result id is never
+     * renamed.
+     *
+     * @param replacements
+     *     Map of replaced ids.
+     * @return true if any id has been renamed.
+     */
+    boolean replaceReferences(SPIRVIdReplacements replacements) {
+        boolean changed = false;
+        for (int index : referenceIndexes) {
+            int id = replacements.resolve(operands[index]);
+            if (id != operands[index]) {
+                operands[index] = id;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Key that identifies the value computed by the instruction: the opcode, the
+     * result type and the operands, without the result id. Two instructions with
+     * the same key compute the same value if the opcode has no side effects.
+     */
+    ValueKey getValueKey() {
+        int[] key = new int[operands.length + (resultIndex < 0 ? 1 : 0)];
+        key[0] = opcode;
+        int k = 1;
+        for (int i = 0; i < operands.length; i++) {
+            if (i != resultIndex) {
+                key[k++] = operands[i];
+            }
+        }
+        return new ValueKey(key);
+    }
+
+    void write(int[] words, int offset) {
+        words[offset] = ((operands.length + 1) << 16) | opcode;
+        System.arraycopy(operands, 0, words, offset + 1, operands.length);
+    }
+
+    @Override
+    public String toString() {
+        return "SPIRVInstruction[opcode=" + opcode + ", operands=" + Arrays.toString(operands) + "]";
+    }
+
+    record ValueKey(int[] words) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ValueKey key && Arrays.equals(words, key.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(words);
+        }
+    }
+}
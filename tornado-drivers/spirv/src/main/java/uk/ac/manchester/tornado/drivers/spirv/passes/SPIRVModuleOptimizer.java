@@ -0,0 +1,77 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pipeline of passes over the SPIR-V binary modules generated by the SPIR-V
+ * backend, before they are installed in the driver:
+ *
+ * <ol>
+ * <li>Removal of the functions that are not reachable from the entry
+ * points.</li>
+ * <li>Deduplication of constants.</li>
+ * <li>Elimination of redundant loads and stores of local variables.</li>
+ * <li>Common subexpression elimination within basic blocks.</li>
+ * <li>Removal of the unused types, constants and global variables.</li>
+ * </ol>
+ *
+ * If the module contains an instruction that the passes do not support, the
+ * module is returned unchanged.
+ */
+public final class SPIRVModuleOptimizer {
+
+    private static final SPIRVModulePass[] PASSES = { //
+            new DeadFunctionElimination(), //
+            new ConstantDeduplication(), //
+            new RedundantLoadStoreElimination(), //
+            new LocalCommonSubexpressionElimination(), //
+            new DeadDeclarationElimination() //
+    };
+
+    private SPIRVModuleOptimizer() {
+    }
+
+    /**
+     * Optimizes a SPIR-V binary module.
+     *
+     * @param binary
+     *     Buffer with the SPIR-V binary module, between its position and its
+     *     limit.
+     * @return a new buffer with the optimized module, or the same buffer if the
+     *     module has not changed.
+     */
+    public static ByteBuffer optimize(ByteBuffer binary) {
+        SPIRVBinaryModule module = SPIRVBinaryModule.parse(binary);
+        if (module == null) {
+            return binary;
+        }
+        boolean changed = false;
+        for (SPIRVModulePass pass : PASSES) {
+            changed |= pass.apply(module);
+        }
+        return changed ? module.toByteBuffer() : binary;
+    }
+}
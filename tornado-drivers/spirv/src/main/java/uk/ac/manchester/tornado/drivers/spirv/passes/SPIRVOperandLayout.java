@@ -0,0 +1,232 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.passes;
+
+import java.util.Arrays;
+
+/**
+ * Layout of the operands of the SPIR-V instructions that the passes can
+ * rename. Each layout is a sequence of codes, one per operand:
+ *
+ * <ul>
+ * <li>{@code T}: id of the result type.</li>
+ * <li>{@code R}: result id.</li>
+ * <li>{@code I}: id.</li>
+ * <li>{@code L}: literal word.</li>
+ * <li>{@code S}: literal string.</li>
+ * <li>{@code *}: the remaining operands are ids.</li>
+ * <li>{@code #}: the remaining operands are literals.</li>
+ * <li>{@code M}: optional literal mask followed by ids (image operands).</li>
+ * <li>{@code W}: pairs of literal and label of {@code OpSwitch}.</li>
+ * </ul>
+ *
+ * Operands at the end of a layout are optional. A module that contains an
+ * opcode without a layout is not optimized.
+ */
+final class SPIRVOperandLayout {
+
+    private static final String[] LAYOUTS = new String[400];
+
+    private static final int OP_DECORATE_STRING = 5632;
+
+    static {
+        set("TR", 1);
+        set("S", 2, 4, 10, 330);
+        set("LLIS", 3);
+        set("IS", 5);
+        set("ILS", 6);
+        set("RS", 7, 11, 31);
+        set("ILL", 8);
+        set("TRIL*", 12, 52, 264, 265, 266, 267, 268, 269, 270);
+        set("LL", 14);
+        set("LIS*", 15);
+        set("IL#", 16, 71);
+        set("L", 17);
+        set("R", 19, 20, 26, 34, 35, 36, 37, 248);
+        set("RLL", 21);
+        set("RL#", 22);
+        set("RIL", 23, 24);
+        set("RI#", 25);
+        set("RI", 27, 29);
+        set("RII", 28);
+        set("R*", 30);
+        set("RLI", 32);
+        set("RI*", 33);
+        set("RL", 38);
+        set("TR", 41, 42, 46, 48, 49, 55);
+        set("TR#", 43, 50);
+        set("TR*", 44, 51, 80, 245);
+        set("TRLLL", 45);
+        set("TRLI", 54);
+        set("", 56, 252, 253, 255, 317);
+        set("TRI*", 57, 65, 66);
+        set("TRL*", 59);
+        set("TRIII", 60, 78, 169, 202, 203, 227, 232, 233);
+        set("TRI#", 61, 81);
+        set("II#", 62, 63);
+        set("III#", 64, 250);
+        set("TRII*", 67, 70);
+        set("TRIL", 68, 123);
+        set("TRI", 69, 83, 84, 100, 101, 102, 104, 106, 107, 124, 126, 127, 154, 155, 156, 157, 158, 159, 160, 168, 200, 204, 205, 321);
+        set("ILL#", 72);
+        set("TRII", 77, 86, 103, 105, 261, 262);
+        set("TRII#", 79, 82);
+        set("TRIIM", 87, 88, 91, 92, 95, 98);
+        set("TRIIIM", 89, 90, 93, 94, 96, 97);
+        set("IIIM", 99);
+        range("TRI", 109, 122);
+        range("TRII", 128, 152);
+        range("TRII", 161, 167);
+        range("TRII", 170, 191);
+        range("TRII", 194, 199);
+        set("TRIIII", 201, 229);
+        range("TRI", 207, 215);
+        set("III", 224, 260);
+        set("II", 225);
+        set("IIII", 228);
+        set("TRIIIIII", 230, 231, 259);
+        range("TRIIII", 234, 242);
+        set("IIL#", 246);
+        set("IL", 247, 256, 257);
+        set("I", 249, 254);
+        set("IIW", 251);
+        set("TRIII", 263);
+        set("IL*", 331, 332);
+    }
+
+    private SPIRVOperandLayout() {
+    }
+
+    private static void set(String layout, int... opcodes) {
+        for (int opcode : opcodes) {
+            LAYOUTS[opcode] = layout;
+        }
+    }
+
+    private static void range(String layout, int first, int last) {
+        for (int opcode = first; opcode <= last; opcode++) {
+            LAYOUTS[opcode] = layout;
+        }
+    }
+
+    static boolean isDecorateString(int opcode) {
+        return opcode == OP_DECORATE_STRING;
+    }
+
+    static String getLayout(int opcode) {
+        if (opcode == OP_DECORATE_STRING) {
+            return "IL#";
+        }
+        return opcode < LAYOUTS.length ? LAYOUTS[opcode] : null;
+    }
+
+    /**
+     * Decodes the operands of an instruction.
+     *
+     * @param opcode
+     *     Opcode of the instruction.
+     * @param operands
+     *     Operand words.
+     * @param trailingLiterals
+     *     Number of operands at the end of a list of ids that are literals (used
+     *     for the extended instructions with literal operands).
+     * @param switchLiteralWords
+     *     Number of words of each literal of {@code OpSwitch}.
+     * @return the instruction, or null if the opcode is unknown or the operands
+     *     do not match the layout.
+     */
+    static SPIRVInstruction decode(int opcode, int[] operands, int trailingLiterals, int switchLiteralWords) {
+        String layout = getLayout(opcode);
+        if (layout == null) {
+            return null;
+        }
+        int resultTypeIndex = -1;
+        int resultIndex = -1;
+        int[] references = new int[operands.length];
+        int numReferences = 0;
+        int i = 0;
+        for (int c = 0; c < layout.length() && i < operands.length; c++) {
+            switch (layout.charAt(c)) {
+                case 'T':
+                    resultTypeIndex = i;
+                    references[numReferences++] = i++;
+                    break;
+                case 'R':
+                    resultIndex = i++;
+                    break;
+                case 'I':
+                    references[numReferences++] = i++;
+                    break;
+                case 'L':
+                    i++;
+                    break;
+                case 'S':
+                    i = skipString(operands, i);
+                    break;
+                case '#':
+                    i = operands.length;
+                    break;
+                case 'M':
+                    i++;
+                    // fall through: the mask is followed by ids
+                case '*':
+                    int lastId = operands.length - trailingLiterals;
+                    while (i < lastId) {
+                        references[numReferences++] = i++;
+                    }
+                    i = Math.max(i, operands.length);
+                    break;
+                case 'W':
+                    while (i < operands.length) {
+                        i += switchLiteralWords;
+                        if (i < operands.length) {
+                            references[numReferences++] = i;
+                        }
+                        i++;
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        }
+        if (i != operands.length) {
+            return null;
+        }
+        return new SPIRVInstruction(opcode, operands, resultTypeIndex, resultIndex, Arrays.copyOf(references, numReferences));
+    }
+
+    /**
+     * @return the index of the first operand after a null-terminated string.
+     */
+    private static int skipString(int[] operands, int index) {
+        while (index < operands.length) {
+            int word = operands[index++];
+            if ((word & 0xFF) == 0 || (word & 0xFF00) == 0 || (word & 0xFF0000) == 0 || (word & 0xFF000000) == 0) {
+                return index;
+            }
+        }
+        // Unterminated string
+        return operands.length + 1;
+    }
+}
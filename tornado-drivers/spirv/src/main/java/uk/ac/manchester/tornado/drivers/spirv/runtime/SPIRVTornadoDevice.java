@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.common.Access;
@@ -93,6 +94,8 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
     private static SPIRVBackendImpl driver = null;
     private final SPIRVDevice device;
     private final int deviceIndex;
+    // Lock instead of a monitor, so virtual threads are not pinned while allocating
+    private final ReentrantLock allocationLock = new ReentrantLock();
     private TornadoLogger logger = new TornadoLogger(this.getClass());
 
     public SPIRVTornadoDevice(SPIRVDevice lowLevelDevice) {
@@ -325,23 +328,28 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
     }
 
     @Override
-    public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
-        TornadoBufferProvider bufferProvider = getDeviceContext().getBufferProvider();
-        HashMap<Access, Integer> distinctAccesses = getNumOfDistinctAccess(accesses);
-        for (Access access : accesses) {
-            if (!bufferProvider.isNumFreeBuffersAvailable(objects.length, access)) {
-                bufferProvider.resetBuffers(access);
-            }
-        }
-        long allocatedSpace = 0;
-        for (int i = 0; i < objects.length; i++) {
-            if (!reuseBatchBuffer(batchSize, accesses[i], bufferProvider, distinctAccesses)) {
-                logger.debug("Allocate object %s with access: %s", objects[i], accesses[i]);
-                allocatedSpace += allocate(objects[i], batchSize, states[i], accesses[i]);
+    public long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+        allocationLock.lock();
+        try {
+            TornadoBufferProvider bufferProvider = getDeviceContext().getBufferProvider();
+            HashMap<Access, Integer> distinctAccesses = getNumOfDistinctAccess(accesses);
+            for (Access access : accesses) {
+                if (!bufferProvider.isNumFreeBuffersAvailable(objects.length, access)) {
+                    bufferProvider.resetBuffers(access);
+                }
             }
+            long allocatedSpace = 0;
+            for (int i = 0; i < objects.length; i++) {
+                if (!reuseBatchBuffer(batchSize, accesses[i], bufferProvider, distinctAccesses)) {
+                    logger.debug("Allocate object %s with access: %s", objects[i], accesses[i]);
+                    allocatedSpace += allocate(objects[i], batchSize, states[i], accesses[i]);
+                }
 
+            }
+            return allocatedSpace;
+        } finally {
+            allocationLock.unlock();
         }
-        return allocatedSpace;
     }
 
     private boolean reuseBatchBuffer(long batchSize, Access access, TornadoBufferProvider bufferProvider, HashMap<Access, Integer> distinctAccesses) {
@@ -383,19 +391,24 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
     }
 
     @Override
-    public synchronized long deallocate(DeviceBufferState deviceBufferState) {
-        long deallocatedSpace = 0;
-        if (deviceBufferState.isLockedBuffer()) {
-            return deallocatedSpace;
-        }
+    public long deallocate(DeviceBufferState deviceBufferState) {
+        allocationLock.lock();
+        try {
+            long deallocatedSpace = 0;
+            if (deviceBufferState.isLockedBuffer()) {
+                return deallocatedSpace;
+            }
 
-        deviceBufferState.getXPUBuffer().markAsFreeBuffer();
-        if (TornadoOptions.isDeallocateBufferEnabled()) {
-            deallocatedSpace = deviceBufferState.getXPUBuffer().deallocate();
+            deviceBufferState.getXPUBuffer().markAsFreeBuffer();
+            if (TornadoOptions.isDeallocateBufferEnabled()) {
+                deallocatedSpace = deviceBufferState.getXPUBuffer().deallocate();
+            }
+            deviceBufferState.setContents(false);
+            deviceBufferState.setXPUBuffer(null);
+            return deallocatedSpace;
+        } finally {
+            allocationLock.unlock();
         }
-        deviceBufferState.setContents(false);
-        deviceBufferState.setXPUBuffer(null);
-        return deallocatedSpace;
     }
 
     /**
@@ -0,0 +1,279 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVCodeCache;
+import uk.ac.manchester.tornado.drivers.spirv.passes.SPIRVBinaryModule;
+import uk.ac.manchester.tornado.drivers.spirv.passes.SPIRVInstruction;
+import uk.ac.manchester.tornado.drivers.spirv.passes.SPIRVModuleOptimizer;
+
+/**
+ * Testing the module-level passes over SPIR-V binary modules. The test builds
+ * a small module, optimizes it, and checks the result by disassembling it with
+ * the SPIR-V toolkit. It does not need any device.
+ *
+ * How to run?
+ *
+ * <code>
+ * $ tornado uk.ac.manchester.tornado.drivers.spirv.tests.TestSPIRVModulePasses
+ * </code>
+ */
+public class TestSPIRVModulePasses {
+
+    // Opcodes
+    private static final int OP_NAME = 5;
+    private static final int OP_EXT_INST_IMPORT = 11;
+    private static final int OP_MEMORY_MODEL = 14;
+    private static final int OP_ENTRY_POINT = 15;
+    private static final int OP_CAPABILITY = 17;
+    private static final int OP_TYPE_VOID = 19;
+    private static final int OP_TYPE_INT = 21;
+    private static final int OP_TYPE_FLOAT = 22;
+    private static final int OP_TYPE_POINTER = 32;
+    private static final int OP_TYPE_FUNCTION = 33;
+    private static final int OP_CONSTANT = 43;
+    private static final int OP_FUNCTION = 54;
+    private static final int OP_FUNCTION_PARAMETER = 55;
+    private static final int OP_FUNCTION_END = 56;
+    private static final int OP_VARIABLE = 59;
+    private static final int OP_LOAD = 61;
+    private static final int OP_STORE = 62;
+    private static final int OP_IADD = 128;
+    private static final int OP_IMUL = 132;
+    private static final int OP_LABEL = 248;
+    private static final int OP_RETURN = 253;
+
+    // Ids
+    private static final int OPENCL_STD = 1;
+    private static final int VOID = 2;
+    private static final int INT = 3;
+    private static final int FLOAT = 4;
+    private static final int POINTER_FUNCTION_INT = 5;
+    private static final int POINTER_GLOBAL_INT = 6;
+    private static final int KERNEL_TYPE = 7;
+    private static final int UNUSED_FUNCTION_TYPE = 8;
+    private static final int ONE = 9;
+    private static final int ONE_DUPLICATED = 10;
+    private static final int TWO = 11;
+    private static final int SEVEN = 12;
+    private static final int KERNEL = 13;
+    private static final int PARAMETER = 14;
+    private static final int KERNEL_LABEL = 15;
+    private static final int VARIABLE = 16;
+    private static final int VARIABLE_NOT_LOADED = 17;
+    private static final int LOAD_A = 18;
+    private static final int LOAD_B = 19;
+    private static final int ADD_A = 20;
+    private static final int ADD_B = 21;
+    private static final int MUL = 22;
+    private static final int UNUSED_FUNCTION = 23;
+    private static final int UNUSED_LABEL = 24;
+    private static final int BOUND = 25;
+
+    private static final int STORAGE_CLASS_CROSS_WORKGROUP = 5;
+    private static final int STORAGE_CLASS_FUNCTION = 7;
+
+    private final ArrayList<Integer> words = new ArrayList<>();
+
+    private void emit(int opcode, int... operands) {
+        words.add(((operands.length + 1) << 16) | opcode);
+        for (int operand : operands) {
+            words.add(operand);
+        }
+    }
+
+    private static int[] string(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int[] result = new int[bytes.length / 4 + 1];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i / 4] |= (bytes[i] & 0xFF) << (8 * (i % 4));
+        }
+        return result;
+    }
+
+    private static int[] concat(int[] a, int... b) {
+        int[] result = new int[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    /**
+     * Builds a kernel with dead code, duplicated constants, redundant loads and
+     * stores, and a common subexpression:
+     *
+     * <pre>
+     * kernel(int* p) {
+     *     int v = 1;
+     *     v = 2;
+     *     int a = v;
+     *     int b = v;
+     *     int w = (a + 1) * (b + 1);
+     *     *p = w;
+     * }
+     * </pre>
+     */
+    private ByteBuffer buildModule() {
+        words.add(0x07230203);
+        words.add(0x00010000);
+        words.add(0);
+        words.add(BOUND);
+        words.add(0);
+
+        emit(OP_CAPABILITY, 4); // Addresses
+        emit(OP_CAPABILITY, 6); // Kernel
+        emit(OP_EXT_INST_IMPORT, concat(new int[] { OPENCL_STD }, string("OpenCL.std")));
+        emit(OP_MEMORY_MODEL, 2, 2);
+        emit(OP_ENTRY_POINT, concat(new int[] { 6, KERNEL }, string("kernel")));
+        emit(OP_NAME, concat(new int[] { UNUSED_FUNCTION }, string("unusedFunction")));
+        emit(OP_NAME, concat(new int[] { VARIABLE_NOT_LOADED }, string("notLoaded")));
+        emit(OP_TYPE_VOID, VOID);
+        emit(OP_TYPE_INT, INT, 32, 0);
+        emit(OP_TYPE_FLOAT, FLOAT, 32);
+        emit(OP_TYPE_POINTER, POINTER_FUNCTION_INT, STORAGE_CLASS_FUNCTION, INT);
+        emit(OP_TYPE_POINTER, POINTER_GLOBAL_INT, STORAGE_CLASS_CROSS_WORKGROUP, INT);
+        emit(OP_TYPE_FUNCTION, KERNEL_TYPE, VOID, POINTER_GLOBAL_INT);
+        emit(OP_TYPE_FUNCTION, UNUSED_FUNCTION_TYPE, VOID);
+        emit(OP_CONSTANT, INT, ONE, 1);
+        emit(OP_CONSTANT, INT, ONE_DUPLICATED, 1);
+        emit(OP_CONSTANT, INT, TWO, 2);
+        emit(OP_CONSTANT, INT, SEVEN, 7);
+
+        emit(OP_FUNCTION, VOID, KERNEL, 0, KERNEL_TYPE);
+        emit(OP_FUNCTION_PARAMETER, POINTER_GLOBAL_INT, PARAMETER);
+        emit(OP_LABEL, KERNEL_LABEL);
+        emit(OP_VARIABLE, POINTER_FUNCTION_INT, VARIABLE, STORAGE_CLASS_FUNCTION);
+        emit(OP_VARIABLE, POINTER_FUNCTION_INT, VARIABLE_NOT_LOADED, STORAGE_CLASS_FUNCTION);
+        emit(OP_STORE, VARIABLE, ONE);
+        emit(OP_STORE, VARIABLE, TWO);
+        emit(OP_LOAD, INT, LOAD_A, VARIABLE);
+        emit(OP_LOAD, INT, LOAD_B, VARIABLE);
+        emit(OP_IADD, INT, ADD_A, LOAD_A, ONE);
+        emit(OP_IADD, INT, ADD_B, LOAD_B, ONE_DUPLICATED);
+        emit(OP_IMUL, INT, MUL, ADD_A, ADD_B);
+        emit(OP_STORE, VARIABLE_NOT_LOADED, MUL);
+        emit(OP_STORE, PARAMETER, MUL);
+        emit(OP_RETURN);
+        emit(OP_FUNCTION_END);
+
+        emit(OP_FUNCTION, VOID, UNUSED_FUNCTION, 0, UNUSED_FUNCTION_TYPE);
+        emit(OP_LABEL, UNUSED_LABEL);
+        emit(OP_RETURN);
+        emit(OP_FUNCTION_END);
+
+        ByteBuffer buffer = ByteBuffer.allocate(words.size() * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int word : words) {
+            buffer.putInt(word);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int count(SPIRVBinaryModule module, int opcode) {
+        int count = 0;
+        for (SPIRVInstruction instruction : module.getInstructions()) {
+            if (instruction.getOpcode() == opcode) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int count(String text, String pattern) {
+        int count = 0;
+        int index = text.indexOf(pattern);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(pattern, index + pattern.length());
+        }
+        return count;
+    }
+
+    private static String disassemble(ByteBuffer binary) {
+        byte[] bytes = new byte[binary.remaining()];
+        binary.duplicate().get(bytes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PrintStream printStream = new PrintStream(out, true, StandardCharsets.UTF_8)) {
+            SPIRVCodeCache.disassemble(bytes, printStream);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static boolean check(String message, int expected, int actual) {
+        if (expected != actual) {
+            System.err.println(message + ": expected " + expected + " but found " + actual);
+            return false;
+        }
+        return true;
+    }
+
+    public void test() {
+        ByteBuffer input = buildModule();
+        ByteBuffer output = SPIRVModuleOptimizer.optimize(input);
+        SPIRVBinaryModule module = SPIRVBinaryModule.parse(output);
+
+        boolean correct = module != null;
+        if (correct) {
+            correct &= check("Functions", 1, count(module, OP_FUNCTION));
+            correct &= check("Constants", 2, count(module, OP_CONSTANT));
+            correct &= check("Variables", 0, count(module, OP_VARIABLE));
+            correct &= check("Loads", 0, count(module, OP_LOAD));
+            correct &= check("Stores", 1, count(module, OP_STORE));
+            correct &= check("Additions", 1, count(module, OP_IADD));
+            correct &= check("Float types", 0, count(module, OP_TYPE_FLOAT));
+            correct &= check("Pointer types", 1, count(module, OP_TYPE_POINTER));
+            correct &= check("Names", 0, count(module, OP_NAME));
+            correct &= check("Id bound", BOUND, module.getIdBound());
+        }
+
+        // Round trip through the disassembler of the SPIR-V toolkit
+        String before = disassemble(input);
+        String after = disassemble(output);
+        System.out.println(after);
+        correct &= check("Disassembled additions before the passes", 2, count(before, "OpIAdd"));
+        correct &= check("Disassembled additions", 1, count(after, "OpIAdd"));
+        correct &= check("Disassembled loads", 0, count(after, "OpLoad"));
+        correct &= check("Disassembled stores", 1, count(after, "OpStore"));
+        correct &= check("Disassembled multiplications", 1, count(after, "OpIMul"));
+        correct &= check("Disassembled unused function", 0, count(after, "unusedFunction"));
+
+        if (correct) {
+            System.out.println(" ................ [PASS]");
+        } else {
+            System.out.println(" ................ [FAIL]");
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Running Native: uk.ac.manchester.tornado.drivers.spirv.tests.TestSPIRVModulePasses");
+        new TestSPIRVModulePasses().test();
+    }
+}
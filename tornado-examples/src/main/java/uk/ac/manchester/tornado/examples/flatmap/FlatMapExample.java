@@ -28,9 +28,13 @@ import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 
 /**
- * Simple example of how to perform a flat-map with TornadoVM. Since we
- * currently don't support dynamic memory allocation, the space for the output
- * has to be allocated before running the method on the target device.
+ * Simple example of how to perform a flat-map with TornadoVM. The tasks can not
+ * allocate memory on the device, so the space for the output has to be
+ * allocated before running the method on the target device. When the number of
+ * elements produced is only known on the device, the tasks can store it in a
+ * count and the output can be copied back with
+ * {@link TaskGraph#transferToHostPrefix}, so only the produced elements are
+ * transferred.
  */
 public class FlatMapExample {
 
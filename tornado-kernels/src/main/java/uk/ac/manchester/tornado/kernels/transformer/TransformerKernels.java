@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.kernels.transformer;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.Int8Array;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Fused kernels for the building blocks of a transformer decoder (LLaMA-style
+ * models): RMS normalization, rotary position embedding, attention over the
+ * KV cache, SwiGLU feed-forward and matrix-vector multiplications with fp32,
+ * fp16 and 8-bit quantized weights.
+ *
+ * <p>
+ * All kernels use the {@link KernelContext} API. The local work-group size is
+ * passed as a parameter, and it must be a power of two, because it is used as
+ * the size of the local memory reductions. {@link #workerGrid(int, int)}
+ * builds the worker grid of a kernel that runs one work-group per row or per
+ * head. {@link TransformerReference} contains the Java version of each
+ * kernel.
+ * </p>
+ *
+ * <p>
+ * The caches of keys and values are laid out as
+ * {@code [layer][position][kvDim]}, and the current position is read from an
+ * {@link IntArray}, so the same compiled plan serves all the tokens.
+ * </p>
+ */
+public final class TransformerKernels {
+
+    /**
+     * Number of weights that share a scale in the 8-bit quantized format (Q8_0).
+     */
+    public static final int Q8_BLOCK_SIZE = 32;
+
+    private TransformerKernels() {
+    }
+
+    /**
+     * Builds a 1D worker grid of {@code numGroups} work-groups of
+     * {@code localSize} threads.
+     *
+     * @param numGroups
+     *     Number of work-groups (rows of a matrix, or attention heads).
+     * @param localSize
+     *     Threads per work-group. It must be a power of two.
+     * @return {@link WorkerGrid}
+     */
+    public static WorkerGrid workerGrid(int numGroups, int localSize) {
+        if (numGroups < 1) {
+            throw new IllegalArgumentException("The number of work-groups must be at least 1: " + numGroups);
+        }
+        if (localSize < 1 || Integer.bitCount(localSize) != 1) {
+            throw new IllegalArgumentException("The local work-group size must be a power of two: " + localSize);
+        }
+        WorkerGrid workerGrid = new WorkerGrid1D(numGroups * localSize);
+        workerGrid.setLocalWork(localSize, 1, 1);
+        return workerGrid;
+    }
+
+    /**
+     * Sums a value over the threads of a work-group with a tree reduction in
+     * local memory. The result is returned to all the threads of the
+     * work-group. All the threads must reach the barriers of the reduction, so
+     * the kernels that call it do not return early: the work-groups past the
+     * last row reduce an empty slice and skip the store.
+     */
+    private static float reduceSum(KernelContext context, float value, int localSize) {
+        int localId = context.localIdx;
+        float[] partialSums = context.allocateFloatLocalArray(localSize);
+        partialSums[localId] = value;
+        for (int stride = localSize / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localId < stride) {
+                partialSums[localId] += partialSums[localId + stride];
+            }
+        }
+        context.localBarrier();
+        return partialSums[0];
+    }
+
+    /**
+     * Sigmoid-weighted linear unit: {@code x * sigmoid(x)}.
+     */
+    public static float silu(float x) {
+        return x / (1.0f + TornadoMath.exp(-x));
+    }
+
+    /**
+     * Fused RMS normalization and scaling:
+     * {@code output[i] = weights[i] * x[i] / sqrt(mean(x^2) + epsilon)}.
+     *
+     * <p>
+     * It runs in a single work-group ({@code workerGrid(1, localSize)}). Each
+     * thread accumulates the squares of a strided slice of the input, the
+     * work-group reduces them in local memory, and the same threads scale their
+     * slice. The input is normalized in one kernel, without storing the
+     * partial sums or the scale factor in global memory.
+     * </p>
+     */
+    public static void rmsNormScale(KernelContext context, FloatArray output, FloatArray x, FloatArray weights, int size, float epsilon, int localSize) {
+        int localId = context.localIdx;
+
+        float sumOfSquares = 0.0f;
+        for (int i = localId; i < size; i += localSize) {
+            float value = x.get(i);
+            sumOfSquares += value * value;
+        }
+        sumOfSquares = reduceSum(context, sumOfSquares, localSize);
+
+        float scale = 1.0f / TornadoMath.sqrt(sumOfSquares / size + epsilon);
+        for (int i = localId; i < size; i += localSize) {
+            output.set(i, weights.get(i) * (scale * x.get(i)));
+        }
+    }
+
+    private static void rotate(FloatArray vector, int index, float cos, float sin) {
+        float v0 = vector.get(index);
+        float v1 = vector.get(index + 1);
+        vector.set(index, v0 * cos - v1 * sin);
+        vector.set(index + 1, v0 * sin + v1 * cos);
+    }
+
+    /**
+     * Rotary position embedding of the queries and keys of the current
+     * position, in place. Each thread rotates one pair of dimensions of the
+     * query and, if the pair is within {@code kvDim}, of the key. The kernel
+     * runs with {@code q.getSize() / 2} threads.
+     *
+     * @param position
+     *     Current position at index 0.
+     * @param theta
+     *     Base of the rotation frequencies (10000 in LLaMA 2, 500000 in
+     *     LLaMA 3).
+     */
+    public static void rope(KernelContext context, IntArray position, FloatArray q, FloatArray k, int kvDim, int headSize, float theta) {
+        int i = context.globalIdx * 2;
+        if (i < q.getSize()) {
+            int headDim = i % headSize;
+            float frequency = 1.0f / TornadoMath.pow(theta, headDim / (float) headSize);
+            float angle = position.get(0) * frequency;
+            float cos = TornadoMath.cos(angle);
+            float sin = TornadoMath.sin(angle);
+            rotate(q, i, cos, sin);
+            if (i < kvDim) {
+                rotate(k, i, cos, sin);
+            }
+        }
+    }
+
+    /**
+     * Loads the {@code kvMul} query heads of the KV head of the work-group into
+     * local memory and resets the accumulators and the running statistics of
+     * the online softmax.
+     */
+    private static void initAttention(KernelContext context, FloatArray q, float[] queries, float[] accumulators, float[] statistics, int headSize, int kvMul, int localSize) {
+        int localId = context.localIdx;
+        int queryOffset = context.groupIdx * kvMul * headSize;
+        for (int i = localId; i < kvMul * headSize; i += localSize) {
+            queries[i] = q.get(queryOffset + i);
+            accumulators[i] = 0.0f;
+        }
+        for (int g = localId; g < kvMul; g += localSize) {
+            statistics[g] = -Float.MAX_VALUE;
+            statistics[kvMul + g] = 0.0f;
+        }
+        context.localBarrier();
+    }
+
+    /**
+     * Online softmax of a tile. On entry, {@code tileWeights} holds the dot
+     * products of the tile for each query head. For each query head, the
+     * work-group reduces the maximum and the sum of the exponentials of the
+     * tile, replaces the dot products with the weights, updates the running
+     * maximum and sum in {@code statistics}, and each thread rescales the
+     * dimensions {@code d = localId (mod localSize)} of the accumulators it
+     * owns.
+     */
+    private static void softmaxTile(KernelContext context, float[] tileWeights, float[] reduction, float[] statistics, float[] accumulators, boolean valid, int headSize, int kvMul,
+            int localSize) {
+        int localId = context.localIdx;
+        float scale = 1.0f / TornadoMath.sqrt(headSize);
+        for (int g = 0; g < kvMul; g++) {
+            float score = valid ? tileWeights[g * localSize + localId] * scale : -Float.MAX_VALUE;
+            reduction[localId] = score;
+            for (int stride = localSize / 2; stride > 0; stride /= 2) {
+                context.localBarrier();
+                if (localId < stride) {
+                    reduction[localId] = TornadoMath.max(reduction[localId], reduction[localId + stride]);
+                }
+            }
+            context.localBarrier();
+            float maximum = TornadoMath.max(statistics[g], reduction[0]);
+            float weight = valid ? TornadoMath.exp(score - maximum) : 0.0f;
+            tileWeights[g * localSize + localId] = weight;
+            context.localBarrier();
+
+            reduction[localId] = weight;
+            for (int stride = localSize / 2; stride > 0; stride /= 2) {
+                context.localBarrier();
+                if (localId < stride) {
+                    reduction[localId] += reduction[localId + stride];
+                }
+            }
+            context.localBarrier();
+            if (localId == 0) {
+                float correction = TornadoMath.exp(statistics[g] - maximum);
+                statistics[2 * kvMul + g] = correction;
+                statistics[kvMul + g] = statistics[kvMul + g] * correction + reduction[0];
+                statistics[g] = maximum;
+            }
+            context.localBarrier();
+        }
+
+        for (int d = localId; d < headSize; d += localSize) {
+            for (int g = 0; g < kvMul; g++) {
+                accumulators[g * headSize + d] *= statistics[2 * kvMul + g];
+            }
+        }
+    }
+
+    /**
+     * Writes the normalized accumulators of the {@code kvMul} query heads of
+     * the work-group to the output.
+     */
+    private static void storeAttention(KernelContext context, FloatArray output, float[] accumulators, float[] statistics, int headSize, int kvMul, int localSize) {
+        int queryOffset = context.groupIdx * kvMul * headSize;
+        for (int i = context.localIdx; i < kvMul * headSize; i += localSize) {
+            output.set(queryOffset + i, accumulators[i] / statistics[kvMul + i / headSize]);
+        }
+    }
+
+    /**
+     * Single-pass attention of the current position over the KV cache with the
+     * online softmax, where the query heads of a group share the reads of the
+     * KV cache (flash-decoding style). It runs one work-group per KV head
+     * ({@code workerGrid(kvDim / headSize, localSize)}), and the work-group
+     * computes the {@code kvMul} query heads {@code kvHead * kvMul ..
+     * kvHead * kvMul + kvMul - 1} that read this KV head. With
+     * {@code kvMul == 1}, this is the plain multi-head attention with one
+     * work-group per head.
+     *
+     * <p>
+     * The positions {@code 0..pos} are processed in tiles of {@code localSize}.
+     * Each thread reads the key of one position once and computes its score
+     * for all the query heads of the group. Then, for each query head, the
+     * work-group reduces the maximum and the sum of the exponentials of the
+     * tile, and rescales the running sum and the weighted sum of the values
+     * when the maximum grows. Each value of the tile is also read once and
+     * accumulated for all the query heads, so the KV cache is streamed once per
+     * KV head instead of once per query head, and the scores are never written
+     * to global memory.
+     * </p>
+     *
+     * <p>
+     * Local memory: {@code 2 * kvMul * headSize + (kvMul + 1) * localSize +
+     * 3 * kvMul} floats.
+     * </p>
+     *
+     * @param position
+     *     Current position at index 0.
+     */
+    public static void flashAttention(KernelContext context, FloatArray q, FloatArray keyCache, FloatArray valueCache, FloatArray output, IntArray position, int layer, int contextLength,
+            int headSize, int kvDim, int kvMul, int localSize) {
+        int localId = context.localIdx;
+        int pos = position.get(0);
+        int cacheOffset = layer * contextLength * kvDim + context.groupIdx * headSize;
+
+        float[] queries = context.allocateFloatLocalArray(kvMul * headSize);
+        float[] accumulators = context.allocateFloatLocalArray(kvMul * headSize);
+        float[] tileWeights = context.allocateFloatLocalArray(kvMul * localSize);
+        float[] reduction = context.allocateFloatLocalArray(localSize);
+        // Running maximum, running sum and correction factor of each query head
+        float[] statistics = context.allocateFloatLocalArray(3 * kvMul);
+        initAttention(context, q, queries, accumulators, statistics, headSize, kvMul, localSize);
+
+        for (int tileStart = 0; tileStart <= pos; tileStart += localSize) {
+            int t = tileStart + localId;
+            boolean valid = t <= pos;
+
+            // Scores of all the query heads, with a single read of the key
+            for (int g = 0; g < kvMul; g++) {
+                tileWeights[g * localSize + localId] = 0.0f;
+            }
+            if (valid) {
+                int keyOffset = cacheOffset + t * kvDim;
+                for (int i = 0; i < headSize; i++) {
+                    float key = keyCache.get(keyOffset + i);
+                    for (int g = 0; g < kvMul; g++) {
+                        tileWeights[g * localSize + localId] += queries[g * headSize + i] * key;
+                    }
+                }
+            }
+            softmaxTile(context, tileWeights, reduction, statistics, accumulators, valid, headSize, kvMul, localSize);
+
+            // Each value is read once and accumulated for all the query heads
+            int tileLength = TornadoMath.min(localSize, pos + 1 - tileStart);
+            for (int d = localId; d < headSize; d += localSize) {
+                for (int j = 0; j < tileLength; j++) {
+                    float value = valueCache.get(cacheOffset + (tileStart + j) * kvDim + d);
+                    for (int g = 0; g < kvMul; g++) {
+                        accumulators[g * headSize + d] += tileWeights[g * localSize + j] * value;
+                    }
+                }
+            }
+            context.localBarrier();
+        }
+        storeAttention(context, output, accumulators, statistics, headSize, kvMul, localSize);
+    }
+
+    /**
+     * {@link #flashAttention} with the keys and values stored in fp16, which
+     * halves the size of the KV cache and the traffic of the kernel. Only the
+     * reads of the cache differ; the scores and the accumulation are computed
+     * in fp32 by the same helpers.
+     *
+     * @param position
+     *     Current position at index 0.
+     */
+    public static void flashAttentionHalf(KernelContext context, FloatArray q, HalfFloatArray keyCache, HalfFloatArray valueCache, FloatArray output, IntArray position, int layer,
+            int contextLength, int headSize, int kvDim, int kvMul, int localSize) {
+        int localId = context.localIdx;
+        int pos = position.get(0);
+        int cacheOffset = layer * contextLength * kvDim + context.groupIdx * headSize;
+
+        float[] queries = context.allocateFloatLocalArray(kvMul * headSize);
+        float[] accumulators = context.allocateFloatLocalArray(kvMul * headSize);
+        float[] tileWeights = context.allocateFloatLocalArray(kvMul * localSize);
+        float[] reduction = context.allocateFloatLocalArray(localSize);
+        float[] statistics = context.allocateFloatLocalArray(3 * kvMul);
+        initAttention(context, q, queries, accumulators, statistics, headSize, kvMul, localSize);
+
+        for (int tileStart = 0; tileStart <= pos; tileStart += localSize) {
+            int t = tileStart + localId;
+            boolean valid = t <= pos;
+
+            for (int g = 0; g < kvMul; g++) {
+                tileWeights[g * localSize + localId] = 0.0f;
+            }
+            if (valid) {
+                int keyOffset = cacheOffset + t * kvDim;
+                for (int i = 0; i < headSize; i++) {
+                    float key = keyCache.get(keyOffset + i).getFloat32();
+                    for (int g = 0; g < kvMul; g++) {
+                        tileWeights[g * localSize + localId] += queries[g * headSize + i] * key;
+                    }
+                }
+            }
+            softmaxTile(context, tileWeights, reduction, statistics, accumulators, valid, headSize, kvMul, localSize);
+
+            int tileLength = TornadoMath.min(localSize, pos + 1 - tileStart);
+            for (int d = localId; d < headSize; d += localSize) {
+                for (int j = 0; j < tileLength; j++) {
+                    float value = valueCache.get(cacheOffset + (tileStart + j) * kvDim + d).getFloat32();
+                    for (int g = 0; g < kvMul; g++) {
+                        accumulators[g * headSize + d] += tileWeights[g * localSize + j] * value;
+                    }
+                }
+            }
+            context.localBarrier();
+        }
+        storeAttention(context, output, accumulators, statistics, headSize, kvMul, localSize);
+    }
+
+    /**
+     * Fused SwiGLU feed-forward: {@code hb[row] = silu(w1[row] . x) * (w3[row] . x)}.
+     * It runs one work-group per row ({@code workerGrid(d, localSize)}), and both
+     * dot products are computed in the same pass over the input.
+     */
+    public static void swiGLU(KernelContext context, FloatArray x, FloatArray hb, FloatArray w1, FloatArray w3, int n, int d, int localSize) {
+        int row = context.groupIdx;
+        int localId = context.localIdx;
+        int rowLength = row < d ? n : 0;
+        int rowOffset = row * n;
+        float gate = 0.0f;
+        float up = 0.0f;
+        for (int j = localId; j < rowLength; j += localSize) {
+            float value = x.get(j);
+            gate += w1.get(rowOffset + j) * value;
+            up += w3.get(rowOffset + j) * value;
+        }
+        gate = reduceSum(context, gate, localSize);
+        up = reduceSum(context, up, localSize);
+        if (localId == 0 && row < d) {
+            hb.set(row, silu(gate) * up);
+        }
+    }
+
+    /**
+     * Fused SwiGLU feed-forward with fp16 weights. See
+     * {@link #swiGLU(KernelContext, FloatArray, FloatArray, FloatArray, FloatArray, int, int, int)}.
+     */
+    public static void swiGLUHalf(KernelContext context, FloatArray x, FloatArray hb, HalfFloatArray w1, HalfFloatArray w3, int n, int d, int localSize) {
+        int row = context.groupIdx;
+        int localId = context.localIdx;
+        int rowLength = row < d ? n : 0;
+        int rowOffset = row * n;
+        float gate = 0.0f;
+        float up = 0.0f;
+        for (int j = localId; j < rowLength; j += localSize) {
+            float value = x.get(j);
+            gate += w1.get(rowOffset + j).getFloat32() * value;
+            up += w3.get(rowOffset + j).getFloat32() * value;
+        }
+        gate = reduceSum(context, gate, localSize);
+        up = reduceSum(context, up, localSize);
+        if (localId == 0 && row < d) {
+            hb.set(row, silu(gate) * up);
+        }
+    }
+
+    /**
+     * Matrix-vector multiplication {@code out = w . x} with a row-major
+     * {@code d x n} matrix. It runs one work-group per row
+     * ({@code workerGrid(d, localSize)}).
+     */
+    public static void matrixVector(KernelContext context, FloatArray x, FloatArray out, FloatArray w, int n, int d, int localSize) {
+        int row = context.groupIdx;
+        int localId = context.localIdx;
+        int rowLength = row < d ? n : 0;
+        int rowOffset = row * n;
+        float sum = 0.0f;
+        for (int j = localId; j < rowLength; j += localSize) {
+            sum += w.get(rowOffset + j) * x.get(j);
+        }
+        sum = reduceSum(context, sum, localSize);
+        if (localId == 0 && row < d) {
+            out.set(row, sum);
+        }
+    }
+
+    /**
+     * Matrix-vector multiplication that adds the result to the output (residual
+     * connection): {@code out += w . x}.
+     */
+    public static void matrixVectorResidual(KernelContext context, FloatArray x, FloatArray out, FloatArray w, int n, int d, int localSize) {
+        int row = context.groupIdx;
+        int localId = context.localIdx;
+        int rowLength = row < d ? n : 0;
+        int rowOffset = row * n;
+        float sum = 0.0f;
+        for (int j = localId; j < rowLength; j += localSize) {
+            sum += w.get(rowOffset + j) * x.get(j);
+        }
+        sum = reduceSum(context, sum, localSize);
+        if (localId == 0 && row < d) {
+            out.set(row, out.get(row) + sum);
+        }
+    }
+
+    /**
+     * Matrix-vector multiplication with fp16 weights.
+     */
+    public static void matrixVectorHalf(KernelContext context, FloatArray x, FloatArray out, HalfFloatArray w, int n, int d, int localSize) {
+        int row = context.groupIdx;
+        int localId = context.localIdx;
+        int rowLength = row < d ? n : 0;
+        int rowOffset = row * n;
+        float sum = 0.0f;
+        for (int j = localId; j < rowLength; j += localSize) {
+            sum += w.get(rowOffset + j).getFloat32() * x.get(j);
+        }
+        sum = reduceSum(context, sum, localSize);
+        if (localId == 0 && row < d) {
+            out.set(row, sum);
+        }
+    }
+
+    /**
+     * Matrix-vector multiplication with 8-bit quantized weights (Q8_0): each
+     * block of {@link #Q8_BLOCK_SIZE} consecutive weights of a row shares one
+     * fp16 scale, and {@code n} must be a multiple of the block size (see
+     * {@link TransformerReference#quantizeQ8}). Each thread accumulates whole
+     * blocks, so the scale is applied once per block.
+     */
+    public static void matrixVectorQ8(KernelContext context, FloatArray x, FloatArray out, Int8Array weights, HalfFloatArray scales, int n, int d, int localSize) {
+        int row = context.groupIdx;
+        int localId = context.localIdx;
+        int numBlocks = n / Q8_BLOCK_SIZE;
+        int rowBlocks = row < d ? numBlocks : 0;
+        int rowOffset = row * n;
+        float sum = 0.0f;
+        for (int block = localId; block < rowBlocks; block += localSize) {
+            int blockOffset = block * Q8_BLOCK_SIZE;
+            float blockSum = 0.0f;
+            for (int i = 0; i < Q8_BLOCK_SIZE; i++) {
+                blockSum += weights.get(rowOffset + blockOffset + i) * x.get(blockOffset + i);
+            }
+            sum += blockSum * scales.get(row * numBlocks + block).getFloat32();
+        }
+        sum = reduceSum(context, sum, localSize);
+        if (localId == 0 && row < d) {
+            out.set(row, sum);
+        }
+    }
+}
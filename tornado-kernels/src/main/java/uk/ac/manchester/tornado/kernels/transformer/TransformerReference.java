@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.kernels.transformer;
+
+import static uk.ac.manchester.tornado.kernels.transformer.TransformerKernels.Q8_BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.Int8Array;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sequential Java versions of the {@link TransformerKernels}, with the same
+ * parameters and memory layouts. They are the reference used to validate the
+ * kernels and the baseline of the benchmarks. The attention is computed in
+ * the textbook way: scores, maximum, exponentials and weighted sum of the
+ * values.
+ */
+public final class TransformerReference {
+
+    private TransformerReference() {
+    }
+
+    public static float silu(float x) {
+        return (float) (x / (1.0 + Math.exp(-x)));
+    }
+
+    public static void rmsNormScale(FloatArray output, FloatArray x, FloatArray weights, int size, float epsilon) {
+        float sumOfSquares = 0.0f;
+        for (int i = 0; i < size; i++) {
+            sumOfSquares += x.get(i) * x.get(i);
+        }
+        float scale = (float) (1.0 / Math.sqrt(sumOfSquares / size + epsilon));
+        for (int i = 0; i < size; i++) {
+            output.set(i, weights.get(i) * (scale * x.get(i)));
+        }
+    }
+
+    public static void rope(IntArray position, FloatArray q, FloatArray k, int kvDim, int headSize, float theta) {
+        for (int i = 0; i < q.getSize(); i += 2) {
+            int headDim = i % headSize;
+            float frequency = (float) (1.0 / Math.pow(theta, headDim / (float) headSize));
+            float angle = position.get(0) * frequency;
+            float cos = (float) Math.cos(angle);
+            float sin = (float) Math.sin(angle);
+            rotate(q, i, cos, sin);
+            if (i < kvDim) {
+                rotate(k, i, cos, sin);
+            }
+        }
+    }
+
+    private static void rotate(FloatArray vector, int index, float cos, float sin) {
+        float v0 = vector.get(index);
+        float v1 = vector.get(index + 1);
+        vector.set(index, v0 * cos - v1 * sin);
+        vector.set(index + 1, v0 * sin + v1 * cos);
+    }
+
+    public static void attention(FloatArray q, FloatArray keyCache, FloatArray valueCache, FloatArray output, IntArray position, int layer, int contextLength, int nHeads, int headSize, int kvDim,
+            int kvMul) {
+        int pos = position.get(0);
+        float[] scores = new float[pos + 1];
+        for (int head = 0; head < nHeads; head++) {
+            int queryOffset = head * headSize;
+            int cacheOffset = layer * contextLength * kvDim + (head / kvMul) * headSize;
+            float maximum = -Float.MAX_VALUE;
+            for (int t = 0; t <= pos; t++) {
+                float dot = 0.0f;
+                for (int i = 0; i < headSize; i++) {
+                    dot += q.get(queryOffset + i) * keyCache.get(cacheOffset + t * kvDim + i);
+                }
+                scores[t] = (float) (dot / Math.sqrt(headSize));
+                maximum = Math.max(maximum, scores[t]);
+            }
+            float sum = 0.0f;
+            for (int t = 0; t <= pos; t++) {
+                scores[t] = (float) Math.exp(scores[t] - maximum);
+                sum += scores[t];
+            }
+            for (int d = 0; d < headSize; d++) {
+                float value = 0.0f;
+                for (int t = 0; t <= pos; t++) {
+                    value += scores[t] * valueCache.get(cacheOffset + t * kvDim + d);
+                }
+                output.set(queryOffset + d, value / sum);
+            }
+        }
+    }
+
+    public static void attentionHalf(FloatArray q, HalfFloatArray keyCache, HalfFloatArray valueCache, FloatArray output, IntArray position, int layer, int contextLength, int nHeads, int headSize, int kvDim,
+            int kvMul) {
+        int pos = position.get(0);
+        float[] scores = new float[pos + 1];
+        for (int head = 0; head < nHeads; head++) {
+            int queryOffset = head * headSize;
+            int cacheOffset = layer * contextLength * kvDim + (head / kvMul) * headSize;
+            float maximum = -Float.MAX_VALUE;
+            for (int t = 0; t <= pos; t++) {
+                float dot = 0.0f;
+                for (int i = 0; i < headSize; i++) {
+                    dot += q.get(queryOffset + i) * keyCache.get(cacheOffset + t * kvDim + i).getFloat32();
+                }
+                scores[t] = (float) (dot / Math.sqrt(headSize));
+                maximum = Math.max(maximum, scores[t]);
+            }
+            float sum = 0.0f;
+            for (int t = 0; t <= pos; t++) {
+                scores[t] = (float) Math.exp(scores[t] - maximum);
+                sum += scores[t];
+            }
+            for (int d = 0; d < headSize; d++) {
+                float value = 0.0f;
+                for (int t = 0; t <= pos; t++) {
+                    value += scores[t] * valueCache.get(cacheOffset + t * kvDim + d).getFloat32();
+                }
+                output.set(queryOffset + d, value / sum);
+            }
+        }
+    }
+
+    public static void swiGLU(FloatArray x, FloatArray hb, FloatArray w1, FloatArray w3, int n, int d) {
+        for (int row = 0; row < d; row++) {
+            float gate = 0.0f;
+            float up = 0.0f;
+            for (int j = 0; j < n; j++) {
+                gate += w1.get(row * n + j) * x.get(j);
+                up += w3.get(row * n + j) * x.get(j);
+            }
+            hb.set(row, silu(gate) * up);
+        }
+    }
+
+    public static void swiGLUHalf(FloatArray x, FloatArray hb, HalfFloatArray w1, HalfFloatArray w3, int n, int d) {
+        for (int row = 0; row < d; row++) {
+            float gate = 0.0f;
+            float up = 0.0f;
+            for (int j = 0; j < n; j++) {
+                gate += w1.get(row * n + j).getFloat32() * x.get(j);
+                up += w3.get(row * n + j).getFloat32() * x.get(j);
+            }
+            hb.set(row, silu(gate) * up);
+        }
+    }
+
+    public static void matrixVector(FloatArray x, FloatArray out, FloatArray w, int n, int d) {
+        for (int row = 0; row < d; row++) {
+            float sum = 0.0f;
+            for (int j = 0; j < n; j++) {
+                sum += w.get(row * n + j) * x.get(j);
+            }
+            out.set(row, sum);
+        }
+    }
+
+    public static void matrixVectorResidual(FloatArray x, FloatArray out, FloatArray w, int n, int d) {
+        for (int row = 0; row < d; row++) {
+            float sum = 0.0f;
+            for (int j = 0; j < n; j++) {
+                sum += w.get(row * n + j) * x.get(j);
+            }
+            out.set(row, out.get(row) + sum);
+        }
+    }
+
+    public static void matrixVectorHalf(FloatArray x, FloatArray out, HalfFloatArray w, int n, int d) {
+        for (int row = 0; row < d; row++) {
+            float sum = 0.0f;
+            for (int j = 0; j < n; j++) {
+                sum += w.get(row * n + j).getFloat32() * x.get(j);
+            }
+            out.set(row, sum);
+        }
+    }
+
+    public static void matrixVectorQ8(FloatArray x, FloatArray out, Int8Array weights, HalfFloatArray scales, int n, int d) {
+        int numBlocks = n / Q8_BLOCK_SIZE;
+        for (int row = 0; row < d; row++) {
+            float sum = 0.0f;
+            for (int j = 0; j < n; j++) {
+                sum += weights.get(row * n + j) * scales.get(row * numBlocks + j / Q8_BLOCK_SIZE).getFloat32() * x.get(j);
+            }
+            out.set(row, sum);
+        }
+    }
+
+    /**
+     * Quantizes a row-major {@code d x n} matrix to the Q8_0 format of
+     * {@link TransformerKernels#matrixVectorQ8}: each block of
+     * {@link TransformerKernels#Q8_BLOCK_SIZE} weights is divided by
+     * {@code max(|w|) / 127} and rounded, and the scale is stored in fp16.
+     *
+     * @param weights
+     *     Matrix to quantize.
+     * @param quantized
+     *     Quantized weights, with the size of the matrix.
+     * @param scales
+     *     Scales, one per block.
+     * @param n
+     *     Number of columns. It must be a multiple of the block size.
+     */
+    public static void quantizeQ8(FloatArray weights, Int8Array quantized, HalfFloatArray scales, int n) {
+        if (n % Q8_BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("The number of columns must be a multiple of " + Q8_BLOCK_SIZE + ": " + n);
+        }
+        int numBlocks = weights.getSize() / Q8_BLOCK_SIZE;
+        if (quantized.getSize() != weights.getSize() || scales.getSize() != numBlocks) {
+            throw new IllegalArgumentException("Expected " + weights.getSize() + " quantized weights and " + numBlocks + " scales");
+        }
+        for (int block = 0; block < numBlocks; block++) {
+            int blockOffset = block * Q8_BLOCK_SIZE;
+            float maxAbs = 0.0f;
+            for (int i = 0; i < Q8_BLOCK_SIZE; i++) {
+                maxAbs = Math.max(maxAbs, Math.abs(weights.get(blockOffset + i)));
+            }
+            float scale = maxAbs / 127.0f;
+            float inverseScale = (scale == 0.0f) ? 0.0f : 1.0f / scale;
+            for (int i = 0; i < Q8_BLOCK_SIZE; i++) {
+                quantized.set(blockOffset + i, (byte) Math.round(weights.get(blockOffset + i) * inverseScale));
+            }
+            scales.setFloat(block, scale);
+        }
+    }
+}
@@ -29,6 +29,7 @@ open module tornado.runtime {
     exports uk.ac.manchester.tornado.runtime.graph;
     exports uk.ac.manchester.tornado.runtime.graph.nodes;
     exports uk.ac.manchester.tornado.runtime.profiler;
+    exports uk.ac.manchester.tornado.runtime.profiler.costmodel;
     exports uk.ac.manchester.tornado.runtime.sketcher;
     exports uk.ac.manchester.tornado.runtime.tasks;
     exports uk.ac.manchester.tornado.runtime.tasks.meta;
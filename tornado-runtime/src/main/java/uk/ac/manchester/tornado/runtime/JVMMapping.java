@@ -142,12 +142,12 @@ public class JVMMapping implements TornadoXPUDevice {
     }
 
     @Override
-    public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+    public long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
         return -1;
     }
 
     @Override
-    public synchronized long deallocate(DeviceBufferState state) {
+    public long deallocate(DeviceBufferState state) {
         return 0;
     }
 
@@ -46,6 +46,8 @@ import uk.ac.manchester.tornado.runtime.graph.TornadoGraph;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeResult;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMGraphCompiler;
 import uk.ac.manchester.tornado.runtime.interpreter.TornadoVMInterpreter;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
 import uk.ac.manchester.tornado.runtime.tasks.TornadoTaskGraph;
 
 /**
@@ -76,7 +78,9 @@ public class TornadoVM {
     public TornadoVM(TornadoExecutionContext executionContext, TornadoGraph tornadoGraph, TornadoProfiler timeProfiler) {
         this.executionContext = executionContext;
         this.timeProfiler = timeProfiler;
+        final long start = RuntimeStageTimers.start();
         this.tornadoVMBytecodes = TornadoVMGraphCompiler.compile(tornadoGraph, executionContext);
+        RuntimeStageTimers.stop(Stage.BYTECODE_GENERATION, start);
         this.tornadoVMInterpreters = new TornadoVMInterpreter[executionContext.getValidContextSize()];
         bindBytecodesToInterpreters();
     }
@@ -108,10 +112,15 @@ public class TornadoVM {
         this.timeProfiler = profiler;
         Arrays.stream(tornadoVMInterpreters).forEach(tornadoVMInterpreter -> tornadoVMInterpreter.setTimeProfiler(timeProfiler));
 
-        if (shouldInterpreterRunInParallel(isParallel)) {
-            return executeInterpreterThreadManager(isParallel);
-        } else {
-            return executeInterpreterSingleThreaded();
+        final long start = RuntimeStageTimers.start();
+        try {
+            if (shouldInterpreterRunInParallel(isParallel)) {
+                return executeInterpreterThreadManager(isParallel);
+            } else {
+                return executeInterpreterSingleThreaded();
+            }
+        } finally {
+            RuntimeStageTimers.stop(Stage.INTERPRETER, start);
         }
     }
 
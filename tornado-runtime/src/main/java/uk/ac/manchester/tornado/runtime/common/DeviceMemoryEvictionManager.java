@@ -0,0 +1,424 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.memory.XPUBuffer;
+
+/**
+ * Tracks the device buffers that stay resident across executions (persisted,
+ * consumed and reused buffers) and evicts them, in least recently used order,
+ * when a device runs out of memory.
+ *
+ * <p>
+ * The buffer provider of each backend calls {@link #evict} before reporting
+ * an out-of-memory error. The victims are buffers of the same device that are
+ * not used by any execution in progress. If the device copy of a victim may
+ * have been modified by a kernel, it is copied back to the host before its
+ * device memory is released. The {@link XPUBuffer} object is kept, so all the
+ * task-graphs that share it see the eviction. The TornadoVM interpreter
+ * allocates and copies the buffer again, from the host, the next time it is
+ * used ({@link #rematerialize}).
+ * </p>
+ *
+ * <p>
+ * The number of evictions and the bytes moved are counted per thread, and they
+ * are read by the interpreter to update the profiler.
+ * </p>
+ *
+ * <p>
+ * The buffers used by an execution are pinned until the execution finishes.
+ * The pins are recorded per execution, that is, per execution plan and per
+ * thread that runs it, so concurrent executions of the same plan do not unpin
+ * the buffers of each other.
+ * </p>
+ *
+ * <p>
+ * The state of the manager is protected by a {@link ReentrantLock}, so virtual
+ * threads that wait for it, or for a buffer that is being rematerialized, are
+ * not pinned to their carrier threads. The lock is only held to pick and unlink
+ * the victims: the write-backs and the releases of the device memory run out
+ * of it.
+ * </p>
+ */
+public final class DeviceMemoryEvictionManager {
+
+    private static final DeviceMemoryEvictionManager INSTANCE = new DeviceMemoryEvictionManager();
+
+    private final IdentityHashMap<XPUBuffer, ResidentBuffer> residentBuffers;
+    private final HashMap<Execution, List<ResidentBuffer>> pinnedBuffers;
+    private final ThreadLocal<EvictionStatistics> statistics;
+    private final TornadoLogger logger;
+    private final ReentrantLock lock;
+
+    // Logical clock used to order the uses of the resident buffers
+    private long clock;
+
+    private DeviceMemoryEvictionManager() {
+        residentBuffers = new IdentityHashMap<>();
+        pinnedBuffers = new HashMap<>();
+        statistics = ThreadLocal.withInitial(EvictionStatistics::new);
+        logger = new TornadoLogger(this.getClass());
+        lock = new ReentrantLock();
+    }
+
+    public static DeviceMemoryEvictionManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a use of a resident buffer by an execution plan. The buffer is
+     * registered the first time it is used, and it cannot be evicted until the
+     * execution finishes ({@link #endExecution}).
+     *
+     * @param deviceContext
+     *     Device that holds the buffer.
+     * @param executionPlanId
+     *     Execution plan that uses the buffer.
+     * @param reference
+     *     Host object of the buffer.
+     * @param buffer
+     *     Device buffer.
+     * @param access
+     *     Access of the buffer, used to allocate it again after an eviction.
+     */
+    public void use(TornadoDeviceContext deviceContext, long executionPlanId, Object reference, XPUBuffer buffer, Access access) {
+        lock.lock();
+        try {
+            ResidentBuffer residentBuffer = residentBuffers.get(buffer);
+            if (residentBuffer == null) {
+                residentBuffer = new ResidentBuffer(deviceContext, reference, buffer, access);
+                residentBuffers.put(buffer, residentBuffer);
+            }
+            residentBuffer.executionPlanId = executionPlanId;
+            residentBuffer.lastUse = ++clock;
+            if (!residentBuffer.evicted) {
+                residentBuffer.size = buffer.size();
+            }
+
+            List<ResidentBuffer> pinned = pinnedBuffers.computeIfAbsent(Execution.current(executionPlanId), execution -> new ArrayList<>());
+            if (!pinned.contains(residentBuffer)) {
+                pinned.add(residentBuffer);
+                residentBuffer.pins++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the buffers used on a device by the execution of a plan that runs
+     * in the current thread, so they can be evicted again.
+     *
+     * @param deviceContext
+     *     Device used by the execution.
+     * @param executionPlanId
+     *     Execution plan that finished.
+     */
+    public void endExecution(TornadoDeviceContext deviceContext, long executionPlanId) {
+        final Execution execution = Execution.current(executionPlanId);
+        lock.lock();
+        try {
+            List<ResidentBuffer> pinned = pinnedBuffers.get(execution);
+            if (pinned == null) {
+                return;
+            }
+            pinned.removeIf(residentBuffer -> {
+                if (residentBuffer.deviceContext == deviceContext) {
+                    residentBuffer.pins--;
+                    return true;
+                }
+                return false;
+            });
+            if (pinned.isEmpty()) {
+                pinnedBuffers.remove(execution);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the device copy of a buffer as modified, so it is copied back to the
+     * host if the buffer is evicted.
+     */
+    public void markDirty(XPUBuffer buffer) {
+        lock.lock();
+        try {
+            ResidentBuffer residentBuffer = residentBuffers.get(buffer);
+            if (residentBuffer != null) {
+                residentBuffer.dirty = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the device copy of a buffer as identical to the host copy.
+     */
+    public void markClean(XPUBuffer buffer) {
+        lock.lock();
+        try {
+            ResidentBuffer residentBuffer = residentBuffers.get(buffer);
+            if (residentBuffer != null) {
+                residentBuffer.dirty = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEvicted(XPUBuffer buffer) {
+        lock.lock();
+        try {
+            ResidentBuffer residentBuffer = residentBuffers.get(buffer);
+            return residentBuffer != null && residentBuffer.evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops tracking a buffer. This is called when the runtime releases the
+     * buffer.
+     *
+     * @param buffer
+     *     Device buffer.
+     * @return true if the buffer was evicted, and therefore, it does not hold
+     *     device memory.
+     */
+    public boolean unregister(XPUBuffer buffer) {
+        lock.lock();
+        try {
+            ResidentBuffer residentBuffer = residentBuffers.remove(buffer);
+            if (residentBuffer == null) {
+                return false;
+            }
+            for (List<ResidentBuffer> pinned : pinnedBuffers.values()) {
+                if (pinned.remove(residentBuffer)) {
+                    residentBuffer.pins--;
+                }
+            }
+            return residentBuffer.evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Allocates again an evicted buffer and copies the host data into it. The
+     * buffer must have been used ({@link #use}) by the same execution, so it
+     * cannot be evicted while it is allocated.
+     *
+     * @param executionPlanId
+     *     Execution plan that uses the buffer.
+     * @param buffer
+     *     Device buffer.
+     * @return Number of bytes copied to the device, or 0 if the buffer was not
+     *     evicted.
+     */
+    public long rematerialize(long executionPlanId, XPUBuffer buffer) {
+        final ResidentBuffer residentBuffer;
+        lock.lock();
+        try {
+            residentBuffer = residentBuffers.get(buffer);
+            if (residentBuffer == null || !residentBuffer.evicted) {
+                return 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // The allocation might need to evict other buffers. It is done out of the
+        // lock of the manager, because the buffer provider locks are taken first
+        // when evicting.
+        residentBuffer.rematerializationLock.lock();
+        try {
+            if (!residentBuffer.evicted) {
+                return 0;
+            }
+            buffer.allocate(residentBuffer.reference, 0, residentBuffer.access);
+            buffer.write(executionPlanId, residentBuffer.reference);
+            lock.lock();
+            try {
+                residentBuffer.evicted = false;
+                residentBuffer.dirty = false;
+                residentBuffer.size = buffer.size();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            residentBuffer.rematerializationLock.unlock();
+        }
+        logger.debug("Rematerialized buffer of %d bytes for %s", residentBuffer.size, residentBuffer.reference.getClass().getSimpleName());
+        statistics.get().rematerializedBytes += residentBuffer.size;
+        return residentBuffer.size;
+    }
+
+    /**
+     * Evicts resident buffers of a device, in least recently used order, until
+     * the requested number of bytes is released or there are no more buffers to
+     * evict. This is invoked by the buffer provider of the device when an
+     * allocation does not fit.
+     *
+     * @param deviceContext
+     *     Device that ran out of memory.
+     * @param sizeInBytes
+     *     Number of bytes to release.
+     * @return Number of bytes released on the device.
+     */
+    public long evict(TornadoDeviceContext deviceContext, long sizeInBytes) {
+        long released = 0;
+        while (released < sizeInBytes) {
+            final ResidentBuffer victim;
+            final boolean dirty;
+            final long executionPlanId;
+            lock.lock();
+            try {
+                victim = leastRecentlyUsed(deviceContext);
+                if (victim == null) {
+                    break;
+                }
+                // The victim is unlinked before unlocking: other evictions skip it, and
+                // the executions that use it again wait in rematerialize() until
+                // its write-back and release finish. The victim is not evicted, so no
+                // thread holds its rematerialization lock to update the manager.
+                victim.rematerializationLock.lock();
+                victim.evicted = true;
+                dirty = victim.dirty;
+                victim.dirty = false;
+                executionPlanId = victim.executionPlanId;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                released += evict(victim, dirty, executionPlanId);
+            } finally {
+                victim.rematerializationLock.unlock();
+            }
+        }
+        return released;
+    }
+
+    private ResidentBuffer leastRecentlyUsed(TornadoDeviceContext deviceContext) {
+        ResidentBuffer victim = null;
+        for (ResidentBuffer residentBuffer : residentBuffers.values()) {
+            if (residentBuffer.deviceContext == deviceContext && !residentBuffer.evicted && residentBuffer.pins == 0 && (victim == null || residentBuffer.lastUse < victim.lastUse)) {
+                victim = residentBuffer;
+            }
+        }
+        return victim;
+    }
+
+    private long evict(ResidentBuffer victim, boolean dirty, long executionPlanId) {
+        EvictionStatistics threadStatistics = statistics.get();
+        if (dirty) {
+            victim.buffer.read(executionPlanId, victim.reference);
+            threadStatistics.writeBackBytes += victim.size;
+        }
+        long released = victim.buffer.release();
+        threadStatistics.evictions++;
+        threadStatistics.evictedBytes += victim.size;
+        logger.debug("Evicted buffer of %d bytes for %s", victim.size, victim.reference.getClass().getSimpleName());
+        return released;
+    }
+
+    /**
+     * Returns the statistics of the evictions and rematerializations performed by
+     * the current thread since the last call, and resets them.
+     *
+     * @return {@link EvictionStatistics}
+     */
+    public EvictionStatistics drainStatistics() {
+        EvictionStatistics threadStatistics = statistics.get();
+        statistics.set(new EvictionStatistics());
+        return threadStatistics;
+    }
+
+    public static final class EvictionStatistics {
+        private long evictions;
+        private long evictedBytes;
+        private long writeBackBytes;
+        private long rematerializedBytes;
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getEvictedBytes() {
+            return evictedBytes;
+        }
+
+        public long getWriteBackBytes() {
+            return writeBackBytes;
+        }
+
+        public long getRematerializedBytes() {
+            return rematerializedBytes;
+        }
+
+        public boolean isEmpty() {
+            return evictions == 0 && rematerializedBytes == 0;
+        }
+    }
+
+    /**
+     * Execution of a plan by a thread. The TornadoVM interpreter pins and
+     * unpins the buffers of an execution from the thread that runs it.
+     */
+    private record Execution(long executionPlanId, Thread thread) {
+        static Execution current(long executionPlanId) {
+            return new Execution(executionPlanId, Thread.currentThread());
+        }
+    }
+
+    private static final class ResidentBuffer {
+        private final TornadoDeviceContext deviceContext;
+        private final Object reference;
+        private final XPUBuffer buffer;
+        private final Access access;
+        private final ReentrantLock rematerializationLock;
+        private long executionPlanId;
+        private long size;
+        private long lastUse;
+        private int pins;
+        private boolean dirty;
+        private volatile boolean evicted;
+
+        ResidentBuffer(TornadoDeviceContext deviceContext, Object reference, XPUBuffer buffer, Access access) {
+            this.deviceContext = deviceContext;
+            this.reference = reference;
+            this.buffer = buffer;
+            this.access = access;
+            this.rematerializationLock = new ReentrantLock();
+        }
+    }
+}
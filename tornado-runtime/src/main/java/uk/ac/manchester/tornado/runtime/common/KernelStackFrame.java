@@ -26,6 +26,8 @@ package uk.ac.manchester.tornado.runtime.common;
 import java.util.HashMap;
 import java.util.List;
 
+import uk.ac.manchester.tornado.api.memory.XPUBuffer;
+
 public interface KernelStackFrame {
 
     // Marks an argument of type KernelContext being passed explicitly as a parameter.
@@ -35,10 +37,18 @@ public interface KernelStackFrame {
     class CallArgument {
         private final Object value;
         private final boolean isReferenceType;
+        private final Object reference;
+        private final XPUBuffer buffer;
 
         public CallArgument(Object value, boolean isReferenceType) {
+            this(value, isReferenceType, null, null);
+        }
+
+        public CallArgument(Object value, boolean isReferenceType, Object reference, XPUBuffer buffer) {
             this.value = value;
             this.isReferenceType = isReferenceType;
+            this.reference = reference;
+            this.buffer = buffer;
         }
 
         public Object getValue() {
@@ -48,6 +58,22 @@ public interface KernelStackFrame {
         public boolean isReferenceType() {
             return isReferenceType;
         }
+
+        /**
+         * @return the host object of a reference argument, or null if the stack
+         *     frame does not keep it.
+         */
+        public Object getReference() {
+            return reference;
+        }
+
+        /**
+         * @return the device buffer of a reference argument, or null if the stack
+         *     frame does not keep it.
+         */
+        public XPUBuffer getBuffer() {
+            return buffer;
+        }
     }
 
     void reset();
@@ -56,6 +82,15 @@ public interface KernelStackFrame {
 
     void addCallArgument(Object value, boolean isReferenceType);
 
+    /**
+     * Adds a reference argument. Stack frames that need the host object or the
+     * device buffer of the argument at launch time keep them in the
+     * {@link CallArgument}.
+     */
+    default void addReferenceArgument(Object reference, XPUBuffer buffer) {
+        addCallArgument(buffer.toBuffer(), true);
+    }
+
     void setKernelContext(HashMap<Integer, Integer> map);
 
     boolean isValid();
@@ -32,7 +32,6 @@ import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -55,6 +54,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.types.HalfFloat;
 import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelRangeNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoLoopsData;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerLogWriter;
 
 public final class RuntimeUtilities {
 
@@ -490,12 +490,7 @@ public final class RuntimeUtilities {
     }
 
     public static void profilerFileWriter(String jsonProfile) {
-        try (FileWriter fileWriter = new FileWriter(TornadoOptions.PROFILER_DIRECTORY, true)) {
-            PrintWriter printWriter = new PrintWriter(fileWriter);
-            printWriter.println(jsonProfile);
-        } catch (IOException e) {
-            throw new TornadoRuntimeException("JSon profiler file cannot be append");
-        }
+        ProfilerLogWriter.getInstance(TornadoOptions.PROFILER_DIRECTORY).append(jsonProfile);
     }
 
     public static void writeBytecodeToFile(StringBuilder logBuilder) {
@@ -72,6 +72,22 @@ public class TornadoOptions {
      */
     public static final boolean TORNADO_LOOP_INTERCHANGE = getBooleanValue("tornado.loop.interchange", "True");
 
+    /**
+     * Enable/disable the tiling of 2D parallel loop nests in which the threads
+     * read the same data along an inner loop, such as matrix multiplications.
+     * The shared reads go through local memory, loaded cooperatively by square
+     * work-groups, and the analysis is reported with the thread information and
+     * with {@code tornado.printKernel}. OpenCL only. True by default.
+     */
+    public static final boolean LOOP_TILING = getBooleanValue("tornado.loop.tiling", TRUE);
+
+    /**
+     * Maximum number of threads per dimension of the tiles of
+     * {@link #LOOP_TILING}. The tiles are smaller when the device does not
+     * support the work-group size. 16 by default.
+     */
+    public static final int LOOP_TILE_SIZE = getIntValue("tornado.loop.tiling.size", "16");
+
     /**
      * Enable thread deployment debugging from the TornadoVM runtime and code dispatcher.
      */
@@ -105,6 +121,55 @@ public class TornadoOptions {
      * Option to set the device maximum memory usage. It is set to 4GB by default.
      */
     public static final long DEVICE_AVAILABLE_MEMORY = RuntimeUtilities.parseSize(System.getProperty("tornado.device.memory", "4GB"));
+    /**
+     * Option to evict the least recently used persisted and consumed buffers
+     * when the device memory set with {@code tornado.device.memory} is
+     * exhausted. Evicted buffers are copied back to the host if needed and they
+     * are allocated again on their next use. True by default.
+     */
+    public static final boolean DEVICE_MEMORY_EVICTION = getBooleanValue("tornado.device.memory.eviction", TRUE);
+    /**
+     * Option to reuse the graph of a task-graph when it is compiled again for
+     * other devices and the tasks share devices in the same way. True by
+     * default.
+     */
+    public static final boolean REUSE_TORNADO_GRAPH = getBooleanValue("tornado.graph.reuse", TRUE);
+    /**
+     * Option to only set the kernel arguments that changed since the previous
+     * launch of the same kernel. True by default.
+     */
+    public static final boolean KERNEL_ARGUMENT_CACHE = getBooleanValue("tornado.kernel.args.cache", TRUE);
+    /**
+     * Option to set the maximum number of command queues (or CUDA streams) per
+     * device. Each execution plan is bound to one of them, and plans share
+     * queues when there are more plans than queues. It is set to 16 by default.
+     */
+    public static final int MAX_QUEUES_PER_DEVICE = getIntValue("tornado.device.queues", "16");
+    /**
+     * Option to compile the tasks of an execution plan for all devices at the
+     * same time, the first time the plan is executed. The first execution runs
+     * on the first device that has its code ready, and the following executions
+     * run on the device of the plan. It is disabled by default.
+     */
+    public static final boolean SPECULATIVE_COMPILATION = getBooleanValue("tornado.speculative.compilation", FALSE);
+    /**
+     * Option to allow the first execution of a plan to run the Java code of the
+     * tasks while the speculative compilation is in progress. The Java code
+     * always wins the race with the devices, so it is disabled by default.
+     */
+    public static final boolean SPECULATIVE_COMPILATION_JAVA = getBooleanValue("tornado.speculative.compilation.java", FALSE);
+    /**
+     * Option to apply the residency analysis of execution plans with multiple
+     * task-graphs: buffers copied out by a task-graph and copied in again by the
+     * next one stay on the device, and dead copy-outs are skipped. True by
+     * default.
+     */
+    public static final boolean PLAN_RESIDENCY = getBooleanValue("tornado.plan.residency", TRUE);
+    /**
+     * Option to print the warnings of the residency analysis of execution plans
+     * with multiple task-graphs. True by default.
+     */
+    public static final boolean PLAN_RESIDENCY_WARNINGS = getBooleanValue("tornado.plan.residency.warnings", TRUE);
     /**
      * Option to enable exceptions for the OpenCL generated code. This is
      * experimental.
@@ -125,6 +190,12 @@ public class TornadoOptions {
      * reductions.
      */
     public static final boolean EXPERIMENTAL_REDUCE = getBooleanValue("tornado.experimental.reduce", TRUE);
+    /**
+     * Option to run the final stage of a reduction on the device (GPUs and
+     * accelerators) instead of on the host. The reduced value is kept resident
+     * in the original variable. True by default.
+     */
+    public static final boolean DEVICE_FINAL_REDUCTION = getBooleanValue("tornado.reductions.device.final", TRUE);
     /**
      * Temporal option for disabling null checks for Apache-Flink.
      */
@@ -133,6 +204,19 @@ public class TornadoOptions {
      * Option to enable profiler-feature extractions.
      */
     public static final boolean FEATURE_EXTRACTION = getBooleanValue("tornado.feature.extraction", FALSE);
+    /**
+     * Option to collect the features and the profiles of the application in the
+     * kernel cost model. It needs the feature extraction and the profiler.
+     */
+    public static final boolean COST_MODEL = getBooleanValue("tornado.costmodel", FALSE);
+    /**
+     * Feature-extraction dump used to train the kernel cost model.
+     */
+    public static final String COST_MODEL_FEATURES = getProperty("tornado.costmodel.features", "");
+    /**
+     * Profiler dump used to train the kernel cost model.
+     */
+    public static final String COST_MODEL_PROFILES = getProperty("tornado.costmodel.profiles", "");
     /**
      * Enable/Disable FMA Optimizations. True by default.
      */
@@ -187,6 +271,21 @@ public class TornadoOptions {
      * Option to redirect profiler output.
      */
     public static final String PROFILER_DIRECTORY = getProperty("tornado.profiler.dump.dir", "");
+    /**
+     * Size, in characters, of the buffer of the profiler and feature dumps. The
+     * records that do not fit while the buffer is written are dropped. Default
+     * is 1MB.
+     */
+    public static final int PROFILER_DUMP_BUFFER_SIZE = (int) RuntimeUtilities.parseSize(System.getProperty("tornado.profiler.dump.buffer", "1MB"));
+    /**
+     * Size at which the profiler and feature dumps are rotated. Zero disables the
+     * rotation. Default is 64MB.
+     */
+    public static final long PROFILER_DUMP_ROTATE_SIZE = RuntimeUtilities.parseSize(System.getProperty("tornado.profiler.dump.rotate.size", "64MB"));
+    /**
+     * Number of rotated dump files that are kept. Default is 5.
+     */
+    public static final int PROFILER_DUMP_ROTATE_FILES = getIntValue("tornado.profiler.dump.rotate.files", "5");
     /**
      * Dump the Control-Flow-Graph with IGV for the compiled-graph after the last
      * phase in the Low-Tier.
@@ -289,6 +388,13 @@ public class TornadoOptions {
      * registers. Experimental Feature.
      */
     public static final boolean OPTIMIZE_LOAD_STORE_SPIRV = getBooleanValue("tornado.spirv.loadstore", TRUE);
+    /**
+     * It runs the module-level passes over the SPIR-V binary modules (dead code
+     * removal, constant deduplication, common subexpression elimination and
+     * redundant load/store elimination) before they are installed. True by
+     * default.
+     */
+    public static final boolean SPIRV_MODULE_PASSES = getBooleanValue("tornado.spirv.passes", TRUE);
     /**
      * Use Level Zero Thread Suggestions for the Thread Dispatcher. True by default.
      */
@@ -321,13 +427,6 @@ public class TornadoOptions {
      */
     public static final long PANAMA_OBJECT_HEADER_SIZE = TornadoNativeArray.ARRAY_HEADER;
 
-    /**
-     * Option to define the maximum number of internal events related to OpenCL/PTX/SPIR-V events to keep alive.
-     * This is application specific. In a large application, there are probably many events that need to keep alive
-     * to perform the sync.
-     */
-    public static final int MAX_EVENTS = getIntValue("tornado.max.events", "32768");
-
     /**
      * Partitions the iteration space into blocks. When running on CPUs, the number of blocks is equal to the
      * number of CPU visible cores at runtime. False by default.
@@ -409,6 +508,20 @@ public class TornadoOptions {
      */
     public static final boolean DEBUG_KERNEL_ARGS = getBooleanValue("tornado.debug.kernelargs", FALSE);
 
+    /**
+     * Maps {@code read(sampler, x, y)} of the image types to OpenCL images and
+     * samplers when the device supports images. The image is copied from the
+     * pixel buffer when the kernel is launched, only if the buffer was written
+     * since the previous copy. Disabled by default.
+     *
+     * <p>
+     * Only the OpenCL backend uses hardware images. The PTX and SPIR-V backends
+     * always compile the software sampler of the image types, so they do not
+     * use CUDA texture objects or SPIR-V image types.
+     * </p>
+     */
+    public static final boolean OPENCL_IMAGES = getBooleanValue("tornado.opencl.images", FALSE);
+
     /**
      * Use flush in OpenCL to sync all pending commands from the command queue. Disabled by default.
      */
@@ -23,10 +23,13 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.PhaseSuite;
 import org.graalvm.compiler.phases.common.CanonicalizerPhase;
 
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
 
 public abstract class TornadoHighTier extends PhaseSuite<TornadoHighTierContext> {
 
@@ -39,4 +42,11 @@ public abstract class TornadoHighTier extends PhaseSuite<TornadoHighTierContext>
     public TornadoHighTier(CanonicalizerPhase.CustomSimplification customCanonicalizer) {
         this.customCanonicalizer = customCanonicalizer;
     }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        long start = RuntimeStageTimers.start();
+        super.run(graph, context);
+        RuntimeStageTimers.stop(Stage.HIGH_TIER, start);
+    }
 }
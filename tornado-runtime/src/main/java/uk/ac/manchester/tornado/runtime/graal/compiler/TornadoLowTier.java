@@ -21,8 +21,18 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.PhaseSuite;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLowTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
 
 public abstract class TornadoLowTier extends PhaseSuite<TornadoLowTierContext> {
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoLowTierContext context) {
+        long start = RuntimeStageTimers.start();
+        super.run(graph, context);
+        RuntimeStageTimers.stop(Stage.LOW_TIER, start);
+    }
 }
@@ -20,10 +20,19 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.PhaseSuite;
 
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
 
 public abstract class TornadoMidTier extends PhaseSuite<TornadoMidTierContext> {
 
+    @Override
+    protected void run(StructuredGraph graph, TornadoMidTierContext context) {
+        long start = RuntimeStageTimers.start();
+        super.run(graph, context);
+        RuntimeStageTimers.stop(Stage.MID_TIER, start);
+    }
 }
@@ -28,4 +28,12 @@ package uk.ac.manchester.tornado.runtime.graal.nodes.interfaces;
  * scope of opencl-driver package.
  */
 public interface MarkLocalArray {
+
+    /**
+     * Whether the length of the array is kept when the local memory is allocated
+     * for the work-group.
+     */
+    default boolean hasFixedLength() {
+        return false;
+    }
 }
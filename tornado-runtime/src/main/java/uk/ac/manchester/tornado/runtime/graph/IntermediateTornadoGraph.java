@@ -37,10 +37,12 @@ import uk.ac.manchester.tornado.runtime.graph.nodes.TaskNode;
  * graph and retrieve information about the graph's dependencies .
  */
 public class IntermediateTornadoGraph {
+    private static final int[] NO_USERS = new int[0];
     private final TornadoGraph graph;
     private final BitSet asyncNodes;
     private final BitSet tasks;
     private BitSet[] dependencies;
+    private int[][] users;
     private int[] nodeIds;
     private int index;
     private int numberOfDependencies;
@@ -93,6 +95,39 @@ public class IntermediateTornadoGraph {
             }
             index++;
         }
+        users = calculateUsers();
+    }
+
+    /**
+     * It returns the indexes of the async nodes that depend on a node of the
+     * graph, in increasing order.
+     *
+     * @param nodeId
+     *     The identifier of the node in the {@link TornadoGraph}.
+     * @return The indexes of the dependent nodes in {@link #getDependencies()}.
+     */
+    public int[] getUsers(int nodeId) {
+        return (nodeId < users.length && users[nodeId] != null) ? users[nodeId] : NO_USERS;
+    }
+
+    private int[][] calculateUsers() {
+        final int[] numUsers = new int[graph.getValid().length()];
+        for (BitSet dependency : dependencies) {
+            for (int i = dependency.nextSetBit(0); i != -1; i = dependency.nextSetBit(i + 1)) {
+                numUsers[i]++;
+            }
+        }
+        final int[][] nodeUsers = new int[numUsers.length][];
+        for (int j = 0; j < dependencies.length; j++) {
+            for (int i = dependencies[j].nextSetBit(0); i != -1; i = dependencies[j].nextSetBit(i + 1)) {
+                if (nodeUsers[i] == null) {
+                    nodeUsers[i] = new int[numUsers[i]];
+                    numUsers[i] = 0;
+                }
+                nodeUsers[i][numUsers[i]++] = j;
+            }
+        }
+        return nodeUsers;
     }
 
     private BitSet calculateDependencies(TornadoGraph graph, int i) {
@@ -67,18 +67,24 @@ import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleContext;
 public class TornadoExecutionContext {
 
     public static int INIT_VALUE = -1;
-    private final int MAX_TASKS = 256;
+    private final int MAX_KERNEL_STACK_FRAMES = 256;
+    private final int INITIAL_TASK_CAPACITY = 256;
     private final int INITIAL_DEVICE_CAPACITY = 16;
     private final String name;
     private ScheduleContext meta;
     private KernelStackFrame[] kernelStackFrame;
     private List<SchedulableTask> tasks;
+    private Map<String, Integer> taskIdIndexes;
     private List<Object> constants;
+    private Map<Object, Integer> constantIndexes;
     private Map<Integer, Integer> objectMap;
     private HashMap<Object, Access> objectsAccesses;
     private List<Object> objects;
     private List<Object> persistedObjects;
+    private Set<Object> persistedObjectSet;
     private Map<String, List<Object>> persistedTaskToObjectsMap;
+    private Set<Object> residentInputs;
+    private Set<Object> skippedCopyOuts;
 
     private List<LocalObjectState> objectState;
     private List<TornadoXPUDevice> devices;
@@ -100,17 +106,23 @@ public class TornadoExecutionContext {
         name = id;
         meta = new ScheduleContext(name);
         tasks = new ArrayList<>();
+        taskIdIndexes = new HashMap<>();
         constants = new ArrayList<>();
+        constantIndexes = new HashMap<>();
         objectMap = new HashMap<>();
         objects = new ArrayList<>();
         persistedObjects = new ArrayList<>();
+        persistedObjectSet = new HashSet<>();
         objectsAccesses = new HashMap<>();
         objectState = new ArrayList<>();
         persistedTaskToObjectsMap =  new HashMap<>();
+        residentInputs = Collections.emptySet();
+        skippedCopyOuts = Collections.emptySet();
         devices = new ArrayList<>(INITIAL_DEVICE_CAPACITY);
-        kernelStackFrame = new KernelStackFrame[MAX_TASKS];
-        taskToDeviceMapTable = new TornadoXPUDevice[MAX_TASKS];
-        Arrays.fill(taskToDeviceMapTable, null);
+        // One kernel stack frame per device context
+        kernelStackFrame = new KernelStackFrame[MAX_KERNEL_STACK_FRAMES];
+        // It grows with the number of tasks
+        taskToDeviceMapTable = new TornadoXPUDevice[INITIAL_TASK_CAPACITY];
         nextTask = 0;
         batchSize = INIT_VALUE;
         executionPlanMemoryLimit = INIT_VALUE;
@@ -127,10 +139,13 @@ public class TornadoExecutionContext {
     public int insertVariable(Object parameter, Access access) {
         int index;
         if (parameter.getClass().isPrimitive() || RuntimeUtilities.isBoxedPrimitiveClass(parameter.getClass())) {
-            index = constants.indexOf(parameter);
-            if (index == -1) {
+            Integer constantIndex = constantIndexes.get(parameter);
+            if (constantIndex == null) {
                 index = constants.size();
                 constants.add(parameter);
+                constantIndexes.put(parameter, index);
+            } else {
+                index = constantIndex;
             }
         } else if (objectMap.containsKey(parameter.hashCode())) {
             // update access of the object if the sketcher has deducted it is READ_WRITE
@@ -220,8 +235,15 @@ public class TornadoExecutionContext {
          */
         int index;
         if (oldObj.getClass().isPrimitive() || RuntimeUtilities.isBoxedPrimitiveClass(oldObj.getClass())) {
-            index = constants.indexOf(oldObj);
+            index = constantIndexes.get(oldObj);
             constants.set(index, newObj);
+            // The index of a constant is the one of its first occurrence in the constant table
+            constantIndexes.remove(oldObj);
+            int nextOccurrence = constants.indexOf(oldObj);
+            if (nextOccurrence != -1) {
+                constantIndexes.put(oldObj, nextOccurrence);
+            }
+            constantIndexes.merge(newObj, index, Math::min);
         } else {
             int oldIndex = objectMap.get(oldObj.hashCode());
             LocalObjectState oldLocalObjectState = objectState.remove(oldIndex);
@@ -257,17 +279,34 @@ public class TornadoExecutionContext {
     }
 
     public int addTask(SchedulableTask task) {
-        int index = tasks.indexOf(task);
-        if (index == -1) {
-            index = tasks.size();
-            tasks.add(task);
+        // Tasks are equal when they have the same identifier
+        Integer taskIndex = taskIdIndexes.get(task.getId());
+        if (taskIndex != null) {
+            if (task.equals(tasks.get(taskIndex))) {
+                return taskIndex;
+            }
+            int index = tasks.indexOf(task);
+            if (index != -1) {
+                return index;
+            }
         }
+        int index = tasks.size();
+        tasks.add(task);
+        taskIdIndexes.putIfAbsent(task.getId(), index);
+        ensureTaskCapacity(tasks.size());
         return index;
     }
 
+    private void ensureTaskCapacity(int numTasks) {
+        if (numTasks > taskToDeviceMapTable.length) {
+            taskToDeviceMapTable = Arrays.copyOf(taskToDeviceMapTable, Math.max(numTasks, taskToDeviceMapTable.length * 2));
+        }
+    }
+
     public void addPersistedObject(Object object) {
         if (object != null) {
             persistedObjects.add(object);
+            persistedObjectSet.add(object);
         }
     }
 
@@ -275,8 +314,54 @@ public class TornadoExecutionContext {
         return persistedObjects;
     }
 
+    /**
+     * It checks if an object has been marked as persisted on the device, without
+     * traversing the list of persisted objects.
+     *
+     * @param object
+     *     The object to check.
+     * @return {@code true} if the object is persisted, {@code false} otherwise.
+     */
+    public boolean isPersistedObject(Object object) {
+        return persistedObjectSet.contains(object);
+    }
+
+    /**
+     * Sets the objects whose data transfers are redundant in the current
+     * execution of the plan. The resident inputs are already on the device, in
+     * the buffer of a previous task-graph, so they are not allocated nor copied
+     * in. The copy-outs of the skipped objects are overwritten by a later
+     * task-graph before the host can read them.
+     *
+     * @param residentInputs
+     *     Objects that are not copied to the device.
+     * @param skippedCopyOuts
+     *     Objects that are not copied to the host.
+     */
+    public void setResidencyHints(Set<Object> residentInputs, Set<Object> skippedCopyOuts) {
+        this.residentInputs = residentInputs;
+        this.skippedCopyOuts = skippedCopyOuts;
+    }
+
+    public void clearResidencyHints() {
+        residentInputs = Collections.emptySet();
+        skippedCopyOuts = Collections.emptySet();
+    }
+
+    public boolean isResidentInput(Object object) {
+        return residentInputs.contains(object);
+    }
+
+    public boolean isCopyOutSkipped(Object object) {
+        return skippedCopyOuts.contains(object);
+    }
+
     public void setTask(int index, SchedulableTask task) {
-        tasks.set(index, task);
+        SchedulableTask oldTask = tasks.set(index, task);
+        if (oldTask != task) {
+            taskIdIndexes.remove(oldTask.getId(), index);
+            taskIdIndexes.putIfAbsent(task.getId(), index);
+        }
     }
 
     public List<Object> getConstants() {
@@ -523,8 +608,13 @@ public class TornadoExecutionContext {
     }
 
     public SchedulableTask getTask(String id) {
+        String canonicalId = canonicalizeId(id);
+        Integer index = taskIdIndexes.get(canonicalId);
+        if (index != null) {
+            return tasks.get(index);
+        }
+        // Task identifiers are not case-sensitive
         for (SchedulableTask task : tasks) {
-            String canonicalId = canonicalizeId(id);
             if (task.getId().equalsIgnoreCase(canonicalId)) {
                 return task;
             }
@@ -532,6 +622,19 @@ public class TornadoExecutionContext {
         return null;
     }
 
+    /**
+     * It returns the index of the task with the given identifier, or -1 if there
+     * is not a task with that identifier. The identifier must match exactly.
+     *
+     * @param id
+     *     The identifier of the task (e.g., {@code s0.t0}).
+     * @return The index of the task in the execution context.
+     */
+    public int getTaskIndex(String id) {
+        Integer index = taskIdIndexes.get(id);
+        return index == null ? -1 : index;
+    }
+
     private String canonicalizeId(String id) {
         return id.startsWith(getId()) ? id : getId() + "." + id;
     }
@@ -639,10 +742,14 @@ public class TornadoExecutionContext {
 
         newExecutionContext.tasks = new ArrayList<>(tasks);
 
+        newExecutionContext.taskIdIndexes = new HashMap<>(taskIdIndexes);
+
         newExecutionContext.kernelStackFrame = this.kernelStackFrame.clone();
 
         newExecutionContext.constants = new ArrayList<>(this.constants);
 
+        newExecutionContext.constantIndexes = new HashMap<>(this.constantIndexes);
+
         newExecutionContext.objectMap = new HashMap<>(objectMap);
 
         newExecutionContext.objectsAccesses = new HashMap<>(objectsAccesses);
@@ -651,6 +758,8 @@ public class TornadoExecutionContext {
 
         newExecutionContext.persistedObjects = new ArrayList<>(persistedObjects);
 
+        newExecutionContext.persistedObjectSet = new HashSet<>(persistedObjectSet);
+
         newExecutionContext.persistedTaskToObjectsMap = new HashMap<>(persistedTaskToObjectsMap);
 
         List<LocalObjectState> objectStateCopy = new ArrayList<>();
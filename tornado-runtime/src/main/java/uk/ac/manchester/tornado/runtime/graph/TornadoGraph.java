@@ -22,11 +22,15 @@
  */
 package uk.ac.manchester.tornado.runtime.graph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.runtime.graph.nodes.AbstractNode;
 
 /**
@@ -42,10 +46,17 @@ public class TornadoGraph {
     private BitSet valid;
     private int nextNode;
 
+    /**
+     * Nodes indexed by class, so {@link #addUnique} only compares a new node
+     * with the nodes of the same type.
+     */
+    private final Map<Class<?>, List<AbstractNode>> nodesByType;
+
     TornadoGraph() {
         nodes = new AbstractNode[INITIAL_SIZE];
         valid = new BitSet(INITIAL_SIZE);
         nextNode = 0;
+        nodesByType = new HashMap<>();
     }
 
     public AbstractNode getNode(int index) {
@@ -60,14 +71,19 @@ public class TornadoGraph {
         node.setId(nextNode);
         nodes[nextNode] = node;
         valid.set(nextNode);
+        nodesByType.computeIfAbsent(node.getClass(), type -> new ArrayList<>()).add(node);
         nextNode++;
     }
 
     @SuppressWarnings("unchecked")
     <T extends AbstractNode> T addUnique(T node) {
-        for (int i = valid.nextSetBit(0); i != -1 && i < nodes.length; i = valid.nextSetBit(i + 1)) {
-            if (nodes[i].compareTo(node) == 0) {
-                return (T) nodes[i];
+        // Nodes of different types never compare as equal
+        List<AbstractNode> candidates = nodesByType.get(node.getClass());
+        if (candidates != null) {
+            for (AbstractNode candidate : candidates) {
+                if (candidate.getId() >= 0 && valid.get(candidate.getId()) && candidate.compareTo(node) == 0) {
+                    return (T) candidate;
+                }
             }
         }
         add(node);
@@ -80,7 +96,7 @@ public class TornadoGraph {
     }
 
     private void resize() {
-        TornadoInternalError.unimplemented("Tornado Graph resize not implemented yet.");
+        nodes = Arrays.copyOf(nodes, nodes.length * 2);
     }
 
     public <T extends AbstractNode> BitSet filter(Class<T> type) {
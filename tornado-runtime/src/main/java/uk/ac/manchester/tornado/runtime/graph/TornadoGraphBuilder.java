@@ -298,7 +298,7 @@ public class TornadoGraphBuilder {
                 Object targetObject = objects.get(objectNode.getIndex());
 
                 // Check if the target object is marked as persistent in the execution context.
-                boolean isPersistedObject = executionContext.getPersistedObjects().contains(targetObject);
+                boolean isPersistedObject = executionContext.isPersistedObject(targetObject);
 
                 // If the object is NOT persistent, proceed with de-allocation. Prevents dealloc for Under_Demand objects
                 if (isPersistedObject) {
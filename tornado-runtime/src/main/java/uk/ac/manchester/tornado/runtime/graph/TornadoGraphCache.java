@@ -0,0 +1,233 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graph;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
+import uk.ac.manchester.tornado.runtime.graph.nodes.ContextNode;
+import uk.ac.manchester.tornado.runtime.tasks.LocalObjectState;
+
+/**
+ * Cache of the {@link TornadoGraph} objects built for a task-graph. A task-graph
+ * is compiled again to TornadoVM bytecodes when the device of its tasks
+ * changes, but the structure of its {@link TornadoGraph} only depends on the
+ * high-level bitcodes, on which tasks share a device, and on the state of the
+ * objects. When these are the same as in a previous build, the graph is reused
+ * and its context nodes are bound to the current devices, instead of building
+ * the graph again. For example, moving all tasks from one device to another
+ * reuses the graph.
+ *
+ * <p>
+ * The graphs are not modified by the TornadoVM bytecode generation, so the
+ * same graph can be compiled many times.
+ * </p>
+ */
+public class TornadoGraphCache {
+
+    private static final int MAX_CACHED_GRAPHS = 4;
+
+    private final Map<GraphSignature, CachedGraph> graphs;
+
+    public TornadoGraphCache() {
+        graphs = new LinkedHashMap<>(MAX_CACHED_GRAPHS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GraphSignature, CachedGraph> eldest) {
+                return size() > MAX_CACHED_GRAPHS;
+            }
+        };
+    }
+
+    /**
+     * It returns the {@link TornadoGraph} for the high-level bitcodes in the
+     * buffer. The graph is built with {@link TornadoGraphBuilder} if it is not
+     * in the cache.
+     *
+     * @param executionContext
+     *     The {@link TornadoExecutionContext} with the tasks already assigned
+     *     to devices.
+     * @param buffer
+     *     The {@link ByteBuffer} with the high-level bitcodes, with the limit
+     *     set to the last bitcode.
+     * @return The {@link TornadoGraph}.
+     */
+    public TornadoGraph buildGraph(TornadoExecutionContext executionContext, ByteBuffer buffer) {
+        if (!TornadoOptions.REUSE_TORNADO_GRAPH) {
+            return TornadoGraphBuilder.buildGraph(executionContext, buffer);
+        }
+
+        final GraphSignature signature = GraphSignature.of(executionContext, buffer.limit());
+        if (signature == null) {
+            return TornadoGraphBuilder.buildGraph(executionContext, buffer);
+        }
+
+        final CachedGraph cachedGraph = graphs.get(signature);
+        if (cachedGraph != null) {
+            cachedGraph.bindDevices(signature.deviceIndexes, executionContext.getDevices());
+            new TornadoLogger().debug("[%s] Reusing the TornadoGraph of %s", getClass().getSimpleName(), executionContext.getId());
+            return cachedGraph.graph;
+        }
+
+        final TornadoGraph graph = TornadoGraphBuilder.buildGraph(executionContext, buffer);
+        graphs.put(signature, CachedGraph.of(graph, signature.deviceIndexes));
+        return graph;
+    }
+
+    /**
+     * A graph with its context nodes, in the order in which their devices are
+     * first used by the tasks.
+     */
+    private record CachedGraph(TornadoGraph graph, ContextNode[] contexts) {
+
+        static CachedGraph of(TornadoGraph graph, int[] deviceIndexes) {
+            final ContextNode[] contexts = new ContextNode[deviceIndexes.length];
+            graph.apply(node -> {
+                if (node instanceof ContextNode contextNode) {
+                    for (int i = 0; i < deviceIndexes.length; i++) {
+                        if (deviceIndexes[i] == contextNode.getDeviceIndex()) {
+                            contexts[i] = contextNode;
+                        }
+                    }
+                }
+            });
+            return new CachedGraph(graph, contexts);
+        }
+
+        void bindDevices(int[] deviceIndexes, List<TornadoXPUDevice> devices) {
+            for (int i = 0; i < contexts.length; i++) {
+                contexts[i].setDeviceIndex(deviceIndexes[i]);
+                contexts[i].setDevice(devices.get(deviceIndexes[i]));
+            }
+        }
+    }
+
+    /**
+     * Everything that {@link TornadoGraphBuilder} reads from the execution
+     * context. The devices are numbered in the order in which the tasks use
+     * them, so the signature does not depend on their position in the device
+     * table. The tasks are compared by identity, as the access of their
+     * arguments comes from their sketches.
+     */
+    private static final class GraphSignature {
+
+        private static final int STREAM_IN = 1;
+        private static final int FORCED_STREAM_IN = 1 << 1;
+        private static final int STREAM_OUT = 1 << 2;
+        private static final int ON_DEVICE = 1 << 3;
+        private static final int UNDER_DEMAND = 1 << 4;
+        private static final int PERSISTED = 1 << 5;
+
+        private final int[] values;
+        private final SchedulableTask[] tasks;
+        private final int hash;
+
+        /**
+         * Position in the device table of each device used by the tasks. It is
+         * not part of the signature.
+         */
+        private final int[] deviceIndexes;
+
+        private GraphSignature(int[] values, SchedulableTask[] tasks, int[] deviceIndexes) {
+            this.values = values;
+            this.tasks = tasks;
+            this.deviceIndexes = deviceIndexes;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        /**
+         * It builds the signature of the current state of the execution context,
+         * or returns {@code null} if a task is not assigned to a device of the
+         * device table.
+         */
+        static GraphSignature of(TornadoExecutionContext executionContext, int bitcodeSize) {
+            final List<SchedulableTask> tasks = executionContext.getTasks();
+            final List<Object> objects = executionContext.getObjects();
+            final List<LocalObjectState> states = executionContext.getObjectStates();
+            final List<TornadoXPUDevice> devices = executionContext.getDevices();
+
+            final int[] values = new int[4 + 3 * tasks.size() + objects.size()];
+            int[] deviceIndexes = new int[0];
+            int index = 0;
+            values[index++] = bitcodeSize;
+            values[index++] = executionContext.getConstants().size();
+            values[index++] = objects.size();
+            values[index++] = tasks.size();
+            for (int i = 0; i < tasks.size(); i++) {
+                final TornadoXPUDevice device = executionContext.getDeviceForTask(i);
+                final int deviceIndex = (device == null) ? -1 : devices.indexOf(device);
+                if (deviceIndex == -1) {
+                    return null;
+                }
+                int label = 0;
+                while (label < deviceIndexes.length && deviceIndexes[label] != deviceIndex) {
+                    label++;
+                }
+                if (label == deviceIndexes.length) {
+                    deviceIndexes = Arrays.copyOf(deviceIndexes, label + 1);
+                    deviceIndexes[label] = deviceIndex;
+                }
+                values[index++] = label;
+                values[index++] = tasks.get(i).meta().getBackendIndex();
+                values[index++] = tasks.get(i).meta().getDeviceIndex();
+            }
+            for (int i = 0; i < objects.size(); i++) {
+                final LocalObjectState state = states.get(i);
+                int flags = 0;
+                flags |= state.isStreamIn() ? STREAM_IN : 0;
+                flags |= state.isForcedStreamIn() ? FORCED_STREAM_IN : 0;
+                flags |= state.isStreamOut() ? STREAM_OUT : 0;
+                flags |= state.isOnDevice() ? ON_DEVICE : 0;
+                flags |= state.isUnderDemand() ? UNDER_DEMAND : 0;
+                flags |= executionContext.isPersistedObject(objects.get(i)) ? PERSISTED : 0;
+                values[index++] = flags;
+            }
+            return new GraphSignature(values, tasks.toArray(new SchedulableTask[0]), deviceIndexes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GraphSignature other) || hash != other.hash || !Arrays.equals(values, other.values)) {
+                return false;
+            }
+            for (int i = 0; i < tasks.length; i++) {
+                if (tasks[i] != other.tasks[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import static uk.ac.manchester.tornado.runtime.common.Tornado.getProperty;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.List;
 
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
@@ -47,22 +48,23 @@ import uk.ac.manchester.tornado.runtime.graph.nodes.TaskNode;
 
 public class TornadoVMBytecodeBuilder {
 
+    /**
+     * Initial size of the buffer for the TornadoVM bytecodes. The buffer grows
+     * when the bytecodes of large task-graphs do not fit.
+     */
     public static final int MAX_TORNADO_VM_BYTECODE_SIZE = Integer.parseInt(getProperty("tornado.tvm.maxbytecodesize", "4096"));
 
-    private final byte[] code;
-
     private final TornadoVMBytecodeAssembler bitcodeASM;
 
     private boolean isSingleContext;
 
     /**
      * It constructs a new TornadoVMBytecodeBuilder instance. Initializes the byte
-     * array to hold the bytecode with the maximum bytecode size. Initializes the
+     * array to hold the bytecode with the initial bytecode size. Initializes the
      * TornadoVMBytecodeAssembler with the byte array.
      */
     public TornadoVMBytecodeBuilder(boolean isSingleContext) {
-        code = new byte[MAX_TORNADO_VM_BYTECODE_SIZE];
-        bitcodeASM = new TornadoVMBytecodeAssembler(code);
+        bitcodeASM = new TornadoVMBytecodeAssembler(new byte[MAX_TORNADO_VM_BYTECODE_SIZE]);
         this.isSingleContext = isSingleContext;
     }
 
@@ -142,7 +144,7 @@ public class TornadoVMBytecodeBuilder {
     }
 
     public byte[] getCode() {
-        return code;
+        return bitcodeASM.getCode();
     }
 
     public int getCodeSize() {
@@ -154,8 +156,11 @@ public class TornadoVMBytecodeBuilder {
     }
 
     private static class TornadoVMBytecodeAssembler {
-        private final ByteBuffer buffer;
+        private ByteBuffer buffer;
         private int lastCopyOutPosition;
+        private int eventListSizesPosition;
+        private int[] pendingEvents;
+        private int[] eventListSizes;
 
         /**
          * It constructs a new {@link TornadoVMBytecodeAssembler} instance.
@@ -168,36 +173,75 @@ public class TornadoVMBytecodeBuilder {
             buffer.order(ByteOrder.LITTLE_ENDIAN);
         }
 
+        /**
+         * It makes room for the next bytecode, doubling the size of the buffer
+         * when it does not fit.
+         *
+         * @param numBytes
+         *     The size of the next bytecode in bytes.
+         */
+        private void reserve(int numBytes) {
+            if (buffer.remaining() < numBytes) {
+                final int position = buffer.position();
+                final byte[] code = Arrays.copyOf(buffer.array(), Math.max(buffer.capacity() * 2, position + numBytes));
+                buffer = ByteBuffer.wrap(code);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.position(position);
+            }
+        }
+
+        byte[] getCode() {
+            return buffer.array();
+        }
+
         public int position() {
             return buffer.position();
         }
 
         void begin() {
+            reserve(1);
             buffer.put(TornadoVMBytecodes.BEGIN.value);
         }
 
         public void end() {
+            reserve(1);
             buffer.put(TornadoVMBytecodes.END.value);
+            // The sizes of the event lists are known once all bytecodes are emitted
+            for (int i = 0; i < eventListSizes.length; i++) {
+                buffer.putInt(eventListSizesPosition + i * Integer.BYTES, eventListSizes[i]);
+            }
         }
 
         void setup(int numContexts, int numStacks, int numDeps) {
+            reserve(13 + numDeps * Integer.BYTES);
             buffer.put(TornadoVMBytecodes.INIT.value);
             buffer.putInt(numContexts);
             buffer.putInt(numStacks);
             buffer.putInt(numDeps);
+            eventListSizesPosition = buffer.position();
+            for (int i = 0; i < numDeps; i++) {
+                buffer.putInt(0);
+            }
+            pendingEvents = new int[numDeps];
+            eventListSizes = new int[numDeps];
         }
 
         void addDependency(int index) {
+            reserve(5);
             buffer.put(TornadoVMBytecodes.ADD_DEPENDENCY.value);
             buffer.putInt(index);
+            pendingEvents[index]++;
+            eventListSizes[index] = Math.max(eventListSizes[index], pendingEvents[index]);
         }
 
         public void context(int index) {
+            reserve(5);
             buffer.put(TornadoVMBytecodes.CONTEXT.value);
             buffer.putInt(index);
         }
 
         public void allocate(List<AbstractNode> values, long batchSize) {
+            reserve(13 + values.size() * Integer.BYTES);
             buffer.put(TornadoVMBytecodes.ALLOC.value);
             buffer.putLong(batchSize);
             buffer.putInt(values.size());
@@ -207,23 +251,27 @@ public class TornadoVMBytecodeBuilder {
         }
 
         public void onDevice(int object, int dep) {
+            reserve(9);
             buffer.put(TornadoVMBytecodes.ON_DEVICE.value);
             buffer.putInt(object);
             buffer.putInt(dep);
         }
 
         public void persist(int object, int dep) {
+            reserve(9);
             buffer.put(TornadoVMBytecodes.PERSIST.value);
             buffer.putInt(object);
             buffer.putInt(dep);
         }
 
         public void deallocate(int object) {
+            reserve(5);
             buffer.put(TornadoVMBytecodes.DEALLOC.value);
             buffer.putInt(object);
         }
 
         void transferToDeviceOnce(int obj, int dep, long offset, long size) {
+            reserve(25);
             buffer.put(TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value);
             buffer.putInt(obj);
             buffer.putInt(dep);
@@ -232,6 +280,7 @@ public class TornadoVMBytecodeBuilder {
         }
 
         void transferToDeviceAlways(int obj, int dep, long offset, long size) {
+            reserve(25);
             buffer.put(TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS.value);
             buffer.putInt(obj);
             buffer.putInt(dep);
@@ -240,6 +289,7 @@ public class TornadoVMBytecodeBuilder {
         }
 
         void transferToHost(int obj, int dep, long offset, long size) {
+            reserve(25);
             lastCopyOutPosition = buffer.position();
             buffer.put(TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value);
             buffer.putInt(obj);
@@ -249,6 +299,7 @@ public class TornadoVMBytecodeBuilder {
         }
 
         void launch(int callStackDeviceIndex, int taskIndex, int numParameters, int dep, long offset, long size) {
+            reserve(33);
             buffer.put(TornadoVMBytecodes.LAUNCH.value);
             buffer.putInt(callStackDeviceIndex);
             buffer.putInt(taskIndex);
@@ -259,16 +310,23 @@ public class TornadoVMBytecodeBuilder {
         }
 
         public void barrier(int dep) {
+            reserve(5);
             buffer.put(TornadoVMBytecodes.BARRIER.value);
             buffer.putInt(dep);
+            // The interpreter empties the event list after the barrier
+            if (dep != -1) {
+                pendingEvents[dep] = 0;
+            }
         }
 
         void constantArg(int index) {
+            reserve(5);
             buffer.put(TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value);
             buffer.putInt(index);
         }
 
         void referenceArg(int index) {
+            reserve(5);
             buffer.put(TornadoVMBytecodes.PUSH_REFERENCE_ARGUMENT.value);
             buffer.putInt(index);
         }
@@ -116,7 +116,7 @@ public enum TornadoVMBytecodes {
      * Format:
      *
      * <code>
-     * INIT(num contexts, num stacks, num dep lists)
+     * INIT(num contexts, num stacks, num dep lists, size of each dep list)
      * </code>
      */
     INIT((byte) 17),
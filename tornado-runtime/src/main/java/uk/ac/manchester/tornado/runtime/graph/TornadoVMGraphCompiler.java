@@ -22,7 +22,6 @@
  */
 package uk.ac.manchester.tornado.runtime.graph;
 
-import java.nio.BufferOverflowException;
 import java.util.Arrays;
 import java.util.BitSet;
 
@@ -149,7 +148,7 @@ public class TornadoVMGraphCompiler {
         final BitSet[] dependencies = intermediateTornadoGraph.getDependencies();
 
         final BitSet scheduled = new BitSet(dependencies.length);
-        scheduled.clear();
+        int numScheduled = 0;
         final BitSet nodes = new BitSet(graph.getValid().length());
         final int[] depLists = new int[dependencies.length];
         Arrays.fill(depLists, -1);
@@ -165,41 +164,38 @@ public class TornadoVMGraphCompiler {
             }
         }
 
-        while (scheduled.cardinality() < dependencies.length) {
-            for (int i = 0; i < dependencies.length; i++) {
-                if (!scheduled.get(i)) {
-                    final BitSet outstandingDeps = new BitSet(nodes.length());
-                    outstandingDeps.or(dependencies[i]);
-                    outstandingDeps.andNot(nodes);
-
-                    if (outstandingDeps.isEmpty()) {
-                        final ContextOpNode asyncNode = (ContextOpNode) graph.getNode(nodeIds[i]);
-
-                        if (shouldEmitAsyncNodeForTheCurrentContext(id, asyncNode, tornadoVMBytecodeBuilder.isSingleContext(), executionContext)) {
-                            try {
-                                tornadoVMBytecodeBuilder.emitAsyncNode(asyncNode, (dependencies[i].isEmpty()) ? -1 : depLists[i], offset, bufferBatchSize, nThreads);
-                            } catch (BufferOverflowException e) {
-                                throw new TornadoRuntimeException(
-                                        "[ERROR] Buffer Overflow exception. To increase the buffer size, use -Dtornado.tvm.maxbytecodesize=" + TornadoVMBytecodeBuilder.MAX_TORNADO_VM_BYTECODE_SIZE);
-                            }
-                        }
+        while (numScheduled < dependencies.length) {
+            for (int i = scheduled.nextClearBit(0); i < dependencies.length; i = scheduled.nextClearBit(i + 1)) {
+                if (areDependenciesScheduled(dependencies[i], nodes)) {
+                    final ContextOpNode asyncNode = (ContextOpNode) graph.getNode(nodeIds[i]);
+
+                    if (shouldEmitAsyncNodeForTheCurrentContext(id, asyncNode, tornadoVMBytecodeBuilder.isSingleContext(), executionContext)) {
+                        tornadoVMBytecodeBuilder.emitAsyncNode(asyncNode, (dependencies[i].isEmpty()) ? -1 : depLists[i], offset, bufferBatchSize, nThreads);
+                    }
 
-                        for (int j = 0; j < dependencies.length; j++) {
-                            if (j == i) {
-                                continue;
-                            }
-                            if (dependencies[j].get(nodeIds[i]) && depLists[j] != -1) {
-                                tornadoVMBytecodeBuilder.emitAddDependency(depLists[j]);
-                            }
+                    // The users are in the order of the async nodes
+                    for (int j : intermediateTornadoGraph.getUsers(nodeIds[i])) {
+                        if (j != i && depLists[j] != -1) {
+                            tornadoVMBytecodeBuilder.emitAddDependency(depLists[j]);
                         }
-                        scheduled.set(i);
-                        nodes.set(nodeIds[i]);
                     }
+                    scheduled.set(i);
+                    numScheduled++;
+                    nodes.set(nodeIds[i]);
                 }
             }
         }
     }
 
+    private static boolean areDependenciesScheduled(BitSet dependencies, BitSet scheduledNodes) {
+        for (int i = dependencies.nextSetBit(0); i != -1; i = dependencies.nextSetBit(i + 1)) {
+            if (!scheduledNodes.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * It determines whether an asynchronous node should be emitted for the current
      * context based on the provided parameters.
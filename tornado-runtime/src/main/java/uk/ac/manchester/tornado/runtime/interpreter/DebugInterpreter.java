@@ -63,6 +63,15 @@ class DebugInterpreter {
         appendLogBuilder(verbose, logBuilder);
     }
 
+    static void logSkippedTransfer(String bytecode, Object object, TornadoXPUDevice interpreterDevice, StringBuilder logBuilder) {
+        String verbose = String.format("bc: %s[0x%x] %s on %s (skipped by the residency analysis)", //
+                InterpreterUtilities.debugHighLightBC(bytecode), //
+                object.hashCode(), //
+                object, //
+                InterpreterUtilities.debugDeviceBC(interpreterDevice));
+        appendLogBuilder(verbose, logBuilder);
+    }
+
     static void logPersistedObject(Object object, TornadoXPUDevice interpreterDevice, StringBuilder logBuilder) {
         String verbose = String.format("bc: %s[0x%x] %s on %s", //
                 InterpreterUtilities.debugHighLightBC("PERSIST"), //
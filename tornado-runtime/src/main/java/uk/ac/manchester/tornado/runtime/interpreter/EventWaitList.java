@@ -0,0 +1,95 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
+
+/**
+ * List of events that a TornadoVM bytecode waits for. The capacity is the
+ * maximum number of dependencies of the list, as computed by the bytecode
+ * builder.
+ *
+ * <p>
+ * The list is stamped with the generation (invocation number of the
+ * interpreter) in which it was last filled. A list with an old stamp is
+ * empty, so the lists do not need to be cleared at the beginning of each
+ * execution. The drivers receive the backing array and skip the entries set
+ * to -1. Since the bytecodes are the same for every execution, a list is
+ * usually filled up to the same position, and the stale entries only need to
+ * be cleared when the list is shorter than in the previous generation.
+ * </p>
+ */
+final class EventWaitList {
+
+    private static final int[] EMPTY_WAIT_LIST = new int[0];
+    private static final long STALE = -1;
+
+    private final int[] events;
+    private int size;
+    private int written;
+    private long generation;
+
+    EventWaitList(int capacity) {
+        events = new int[capacity];
+        Arrays.fill(events, -1);
+        generation = STALE;
+    }
+
+    void add(long currentGeneration, int event) {
+        if (generation != currentGeneration) {
+            generation = currentGeneration;
+            size = 0;
+        }
+        TornadoInternalError.guarantee(size < events.length, "event list is too small");
+        events[size++] = event;
+        written = Math.max(written, size);
+    }
+
+    /**
+     * @return the events to wait for. Entries set to -1 must be skipped.
+     */
+    int[] get(long currentGeneration) {
+        if (generation != currentGeneration) {
+            return EMPTY_WAIT_LIST;
+        }
+        if (written > size) {
+            Arrays.fill(events, size, written, -1);
+            written = size;
+        }
+        return events;
+    }
+
+    /**
+     * Empties the list after a barrier.
+     */
+    void reset() {
+        generation = STALE;
+    }
+
+    int capacity() {
+        return events.length;
+    }
+}
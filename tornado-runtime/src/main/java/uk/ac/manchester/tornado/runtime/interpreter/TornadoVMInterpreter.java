@@ -54,6 +54,8 @@ import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
 import uk.ac.manchester.tornado.runtime.EmptyEvent;
 import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
+import uk.ac.manchester.tornado.runtime.common.DeviceMemoryEvictionManager;
+import uk.ac.manchester.tornado.runtime.common.DeviceMemoryEvictionManager.EvictionStatistics;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -79,7 +81,6 @@ import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 public class TornadoVMInterpreter {
     private static final Event EMPTY_EVENT = new EmptyEvent();
 
-    private static final int MAX_EVENTS = TornadoOptions.MAX_EVENTS;
     private final boolean useDependencies;
 
     private final HashMap<Object, Access> objectAccesses;
@@ -87,8 +88,7 @@ public class TornadoVMInterpreter {
 
     private final DataObjectState[] dataObjectStates;
     private final KernelStackFrame[] kernelStackFrame;
-    private final int[][] events;
-    private final int[] eventsIndexes;
+    private final EventWaitList[] eventLists;
     private final TornadoXPUDevice interpreterDevice;
     private final TornadoInstalledCode[] installedCodes;
 
@@ -97,9 +97,11 @@ public class TornadoVMInterpreter {
     private final List<SchedulableTask> localTaskList;
     private final TornadoExecutionContext graphExecutionContext;
     private final TornadoVMBytecodeResult bytecodeResult;
+    private final DeviceMemoryEvictionManager evictionManager;
     private TornadoProfiler timeProfiler;
     private double totalTime;
     private long invocations;
+    private long generation;
     private boolean finishedWarmup;
 
     private GridScheduler gridScheduler;
@@ -128,6 +130,7 @@ public class TornadoVMInterpreter {
 
         assert device != null;
         this.interpreterDevice = device;
+        this.evictionManager = DeviceMemoryEvictionManager.getInstance();
 
         useDependencies = VM_USE_DEPS;
         totalTime = 0;
@@ -138,20 +141,18 @@ public class TornadoVMInterpreter {
         this.bytecodeResult.getLong(); // Skips bytes not needed
 
         kernelStackFrame = graphExecutionContext.getKernelStackFrame();
-        events = new int[this.bytecodeResult.getInt()][MAX_EVENTS];
-        eventsIndexes = new int[events.length];
+        // The bytecode builder computes the maximum length of each event list
+        eventLists = new EventWaitList[this.bytecodeResult.getInt()];
+        for (int i = 0; i < eventLists.length; i++) {
+            eventLists[i] = new EventWaitList(this.bytecodeResult.getInt());
+        }
 
         localTaskList = graphExecutionContext.getTasksForDevice(interpreterDevice.getDeviceContext());
 
         installedCodes = new TornadoInstalledCode[localTaskList.size()];
 
-        for (int i = 0; i < events.length; i++) {
-            Arrays.fill(events[i], -1);
-            eventsIndexes[i] = 0;
-        }
-
         logger.debug("created %d kernelStackFrame", kernelStackFrame.length);
-        logger.debug("created %d event lists", events.length);
+        logger.debug("created %d event lists", eventLists.length);
         objectAccesses = graphExecutionContext.getObjectsAccesses();
         objects = graphExecutionContext.getObjects();
         initBatchDataStructures(graphExecutionContext);
@@ -272,7 +273,8 @@ public class TornadoVMInterpreter {
 
         final long t0 = System.nanoTime();
         int lastEvent = -1;
-        initWaitEventList();
+        // Event lists from the previous execution become empty
+        generation++;
 
         StringBuilder logBuilder = null;
         if (TornadoOptions.LOG_BYTECODES() && !isWarmup) {
@@ -305,7 +307,7 @@ public class TornadoVMInterpreter {
                 final int eventId = bytecodeResult.getInt();
                 final long offset = bytecodeResult.getLong();
                 final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
+                final int[] waitList = getWaitList(eventId);
                 if (isWarmup) {
                     continue;
                 }
@@ -315,7 +317,7 @@ public class TornadoVMInterpreter {
                 final int eventId = bytecodeResult.getInt();
                 final long offset = bytecodeResult.getLong();
                 final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
+                final int[] waitList = getWaitList(eventId);
                 if (isWarmup) {
                     continue;
                 }
@@ -325,7 +327,7 @@ public class TornadoVMInterpreter {
                 final int eventId = bytecodeResult.getInt();
                 final long offset = bytecodeResult.getLong();
                 final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies) ? events[eventId] : null;
+                final int[] waitList = getWaitList(eventId);
                 if (isWarmup) {
                     continue;
                 }
@@ -335,7 +337,7 @@ public class TornadoVMInterpreter {
                 final int eventId = bytecodeResult.getInt();
                 final long offset = bytecodeResult.getLong();
                 final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies) ? events[eventId] : null;
+                final int[] waitList = getWaitList(eventId);
                 if (isWarmup) {
                     continue;
                 }
@@ -375,7 +377,7 @@ public class TornadoVMInterpreter {
                 lastEvent = executePersist(logBuilder, objectIndex, eventId);
             } else if (op == TornadoVMBytecodes.BARRIER.value()) {
                 final int eventId = bytecodeResult.getInt();
-                final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
+                final int[] waitList = getWaitList(eventId);
                 if (isWarmup) {
                     continue;
                 }
@@ -426,12 +428,6 @@ public class TornadoVMInterpreter {
         return barrier;
     }
 
-    private void initWaitEventList() {
-        for (int[] waitList : events) {
-            Arrays.fill(waitList, -1);
-        }
-    }
-
     /**
      * Checks if the given object exists in the persistent task objects map in
      * order to prevent excess allocations.
@@ -447,6 +443,15 @@ public class TornadoVMInterpreter {
         return graphExecutionContext.getPersistedTaskToObjectsMap().values().stream().filter(Objects::nonNull).anyMatch(taskObjects -> taskObjects.contains(object));
     }
 
+    /**
+     * Checks if the buffer of the given object is provided by another task-graph,
+     * either because the object is persisted or because the residency analysis
+     * of the execution plan keeps it on the device in the current execution.
+     */
+    private boolean isPreallocatedObject(Object object) {
+        return isPersistentObject(object) || graphExecutionContext.isResidentInput(object);
+    }
+
     /**
      * Counts and classifies objects in the args array by determining which objects are persistent
      * and which need to be allocated.
@@ -460,7 +465,7 @@ public class TornadoVMInterpreter {
         int persistentObjectsInArgs = 0;
         for (int arg : args) {
             Object dataObject = this.objects.get(arg);
-            if (isPersistentObject(dataObject)) {
+            if (isPreallocatedObject(dataObject)) {
                 persistentObjectsInArgs++;
             }
         }
@@ -472,6 +477,13 @@ public class TornadoVMInterpreter {
     }
 
     private int executeAlloc(StringBuilder logBuilder, int[] args, long sizeBatch) {
+        final boolean trackResidentBuffers = TornadoOptions.DEVICE_MEMORY_EVICTION && sizeBatch == 0;
+        if (trackResidentBuffers) {
+            // Buffers kept from previous executions might have been evicted
+            pinResidentBuffers(args);
+            rematerializeEvictedBuffers(args);
+        }
+
         // Extract the counting and classification of objects into a separate method
         ObjectAllocationInfo allocationInfo = countAndClassifyObjects(args);
 
@@ -484,7 +496,7 @@ public class TornadoVMInterpreter {
 
         for (int arg : args) {
             Object dataObject = this.objects.get(arg);
-            if (!isPersistentObject(dataObject)) {
+            if (!isPreallocatedObject(dataObject)) {
                 objects[allocCounter] = this.objects.get(arg);
                 objectStates[allocCounter] = resolveObjectState(arg);
                 accesses[allocCounter] = this.objectAccesses.get(objects[allocCounter]);
@@ -522,9 +534,52 @@ public class TornadoVMInterpreter {
                 timeProfiler.addValueToMetric(ProfilerType.ALLOCATION_BYTES, TimeProfiler.NO_TASK_NAME, objectState.getXPUBuffer().size());
             }
         }
+
+        if (trackResidentBuffers) {
+            // Register the buffers allocated for this execution that stay on the device
+            pinResidentBuffers(args);
+            updateEvictionProfiler();
+        }
         return -1;
     }
 
+    private boolean isResidentBuffer(XPUDeviceBufferState state) {
+        return state.hasObjectBuffer() && state.isLockedBuffer() && !state.isAtomicRegionPresent();
+    }
+
+    /**
+     * Records the use of the buffers that stay on the device across executions,
+     * so they are not evicted while this execution is running.
+     */
+    private void pinResidentBuffers(int[] args) {
+        for (int arg : args) {
+            final Object object = objects.get(arg);
+            final XPUDeviceBufferState state = resolveObjectState(arg);
+            if (isResidentBuffer(state) && isNotObjectAtomic(object) && !isObjectKernelContext(object)) {
+                evictionManager.use(interpreterDevice.getDeviceContext(), graphExecutionContext.getExecutionPlanId(), object, state.getXPUBuffer(), objectAccesses.get(object));
+            }
+        }
+    }
+
+    private void rematerializeEvictedBuffers(int[] args) {
+        for (int arg : args) {
+            final XPUDeviceBufferState state = resolveObjectState(arg);
+            if (isResidentBuffer(state)) {
+                evictionManager.rematerialize(graphExecutionContext.getExecutionPlanId(), state.getXPUBuffer());
+            }
+        }
+    }
+
+    private void updateEvictionProfiler() {
+        EvictionStatistics evictionStatistics = evictionManager.drainStatistics();
+        if (TornadoOptions.isProfilerEnabled() && !evictionStatistics.isEmpty()) {
+            timeProfiler.addValueToMetric(ProfilerType.EVICTIONS, TimeProfiler.NO_TASK_NAME, evictionStatistics.getEvictions());
+            timeProfiler.addValueToMetric(ProfilerType.EVICTED_BYTES, TimeProfiler.NO_TASK_NAME, evictionStatistics.getEvictedBytes());
+            timeProfiler.addValueToMetric(ProfilerType.EVICTION_WRITE_BACK_BYTES, TimeProfiler.NO_TASK_NAME, evictionStatistics.getWriteBackBytes());
+            timeProfiler.addValueToMetric(ProfilerType.REMATERIALIZED_BYTES, TimeProfiler.NO_TASK_NAME, evictionStatistics.getRematerializedBytes());
+        }
+    }
+
     private void increaseBatchNumber(long sizeBatch) {
         if (sizeBatch != 0) {
             for (Object object : objects) {
@@ -546,6 +601,11 @@ public class TornadoVMInterpreter {
             }
         }
 
+        if (graphExecutionContext.isResidentInput(object)) {
+            // The buffer belongs to the task-graph that produced the object
+            return -1;
+        }
+
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
         long spaceDeallocated = interpreterDevice.deallocate(objectState);
         // Update current device area use
@@ -582,6 +642,14 @@ public class TornadoVMInterpreter {
             return;
         }
 
+        if (graphExecutionContext.isResidentInput(object)) {
+            if (TornadoOptions.LOG_BYTECODES()) {
+                DebugInterpreter.logSkippedTransfer("TRANSFER_HOST_TO_DEVICE_ONCE", object, interpreterDevice, logBuilder);
+            }
+            resetEventIndexes(eventId);
+            return;
+        }
+
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
 
         // We need to stream-in when using batches, because the whole data is not copied
@@ -620,6 +688,14 @@ public class TornadoVMInterpreter {
             return;
         }
 
+        if (graphExecutionContext.isResidentInput(object)) {
+            if (TornadoOptions.LOG_BYTECODES()) {
+                DebugInterpreter.logSkippedTransfer("TRANSFER_HOST_TO_DEVICE_ALWAYS", object, interpreterDevice, logBuilder);
+            }
+            resetEventIndexes(eventId);
+            return;
+        }
+
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
         List<Integer> allEvents = interpreterDevice.streamIn(graphExecutionContext.getExecutionPlanId(), object, sizeBatch, offset, objectState, eventWaitList);
 
@@ -654,6 +730,14 @@ public class TornadoVMInterpreter {
             return 0;
         }
 
+        if (graphExecutionContext.isCopyOutSkipped(object)) {
+            if (TornadoOptions.LOG_BYTECODES()) {
+                DebugInterpreter.logSkippedTransfer("TRANSFER_DEVICE_TO_HOST_ALWAYS", object, interpreterDevice, logBuilder);
+            }
+            resetEventIndexes(eventId);
+            return -1;
+        }
+
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
         if (TornadoOptions.LOG_BYTECODES()) {
             long sizeObject = objectState.getXPUBuffer().size();
@@ -661,6 +745,7 @@ public class TornadoVMInterpreter {
         }
 
         int readEvent = interpreterDevice.streamOutBlocking(graphExecutionContext.getExecutionPlanId(), object, offset, objectState, eventWaitList);
+        markCleanAfterCopyOut(objectState, offset, sizeBatch);
 
         resetEventIndexes(eventId);
 
@@ -688,12 +773,23 @@ public class TornadoVMInterpreter {
             return;
         }
 
+        if (graphExecutionContext.isCopyOutSkipped(object)) {
+            if (TornadoOptions.LOG_BYTECODES()) {
+                DebugInterpreter.logSkippedTransfer("TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING", object, interpreterDevice, logBuilder);
+            }
+            // The task-graph still completes before returning to the host
+            interpreterDevice.sync(graphExecutionContext.getExecutionPlanId());
+            resetEventIndexes(eventId);
+            return;
+        }
+
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
         if (TornadoOptions.LOG_BYTECODES()) {
             long sizeOfObject = objectState.getXPUBuffer().size();
             DebugInterpreter.logTransferToHostAlwaysBlocking(object, interpreterDevice, logBuilder, sizeOfObject, sizeBatch, offset, eventId);
         }
         final int readEvent = interpreterDevice.streamOutBlocking(graphExecutionContext.getExecutionPlanId(), object, offset, objectState, eventWaitList);
+        markCleanAfterCopyOut(objectState, offset, sizeBatch);
 
         if (TornadoOptions.isProfilerEnabled() && readEvent != -1) {
             Event event = interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), readEvent);
@@ -711,6 +807,13 @@ public class TornadoVMInterpreter {
         resetEventIndexes(eventId);
     }
 
+    private void markCleanAfterCopyOut(XPUDeviceBufferState objectState, long offset, long sizeBatch) {
+        // The host has an up-to-date copy only if the whole buffer was copied
+        if (TornadoOptions.DEVICE_MEMORY_EVICTION && offset == 0 && sizeBatch == 0 && objectState.getPartialCopySize() == 0) {
+            evictionManager.markClean(objectState.getXPUBuffer());
+        }
+    }
+
     private boolean isRecompilationNeededForLastBatch(int taskIndex, SchedulableTask task, long batchThreads) {
         return (!shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)]) && task.getBatchThreads() != 0 && task.getBatchThreads() != batchThreads);
     }
@@ -752,7 +855,7 @@ public class TornadoVMInterpreter {
 
         final KernelStackFrame kernelStackFrame = resolveCallWrapper(callWrapperIndex, numArgs, this.kernelStackFrame, interpreterDevice, redeployOnDevice);
 
-        final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
+        final int[] waitList = getWaitList(eventId);
         final SchedulableTask task = taskExecutionContexts.get(taskIndex);
         int currentBatch = task.getBatchNumber();
         TaskContextInterface meta = task.meta();
@@ -875,7 +978,11 @@ public class TornadoVMInterpreter {
                 final XPUDeviceBufferState objectState = globalState.getDeviceBufferState(interpreterDevice);
                 if (!isObjectInAtomicRegion(objectState, interpreterDevice, task)) {
                     // Add a reference (arrays, vector types, panama regions)
-                    stackFrame.addCallArgument(objectState.getXPUBuffer().toBuffer(), true);
+                    stackFrame.addReferenceArgument(objects.get(argIndex), objectState.getXPUBuffer());
+                    if (TornadoOptions.DEVICE_MEMORY_EVICTION && objectAccesses.get(objects.get(argIndex)) != Access.READ_ONLY) {
+                        // The kernel might update the buffer. It must be copied back if it is evicted
+                        evictionManager.markDirty(objectState.getXPUBuffer());
+                    }
                 } else {
                     // Add the atomic buffer
                     atomicsArray = interpreterDevice.updateAtomicRegionAndObjectState(task, atomicsArray, i, objects.get(argIndex), objectState);
@@ -938,9 +1045,7 @@ public class TornadoVMInterpreter {
             if (TornadoOptions.LOG_BYTECODES()) {
                 DebugInterpreter.logAddDependency(lastEvent, eventId, logBuilder);
             }
-            TornadoInternalError.guarantee(eventsIndexes[eventId] < events[eventId].length, "event list is too small");
-            events[eventId][eventsIndexes[eventId]] = lastEvent;
-            eventsIndexes[eventId]++;
+            eventLists[eventId].add(generation, lastEvent);
         }
     }
 
@@ -976,10 +1081,14 @@ public class TornadoVMInterpreter {
 
     private void resetEventIndexes(int eventList) {
         if (eventList != -1) {
-            eventsIndexes[eventList] = 0;
+            eventLists[eventList].reset();
         }
     }
 
+    private int[] getWaitList(int eventId) {
+        return (useDependencies && eventId != -1) ? eventLists[eventId].get(generation) : null;
+    }
+
     private KernelStackFrame resolveCallWrapper(int index, int numArgs, KernelStackFrame[] kernelStackFrame, TornadoXPUDevice device, boolean redeployOnDevice) {
         if (graphExecutionContext.meta().isDebug() && redeployOnDevice) {
             logger.debug("Recompiling task on device " + device);
@@ -1025,7 +1134,14 @@ public class TornadoVMInterpreter {
     }
 
     public Event execute() {
-        return execute(false);
+        try {
+            return execute(false);
+        } finally {
+            if (TornadoOptions.DEVICE_MEMORY_EVICTION) {
+                // The resident buffers used by this execution can be evicted again
+                evictionManager.endExecution(interpreterDevice.getDeviceContext(), graphExecutionContext.getExecutionPlanId());
+            }
+        }
     }
 
     public void clearInstalledCode() {
@@ -25,10 +25,7 @@
 
 package uk.ac.manchester.tornado.runtime.profiler;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -38,6 +35,8 @@ import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoVMClient;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.KernelCostModel;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.KernelFeatures;
 import uk.ac.manchester.tornado.runtime.utils.JsonHandler;
 
 public final class FeatureExtractionUtilities {
@@ -52,29 +51,27 @@ public final class FeatureExtractionUtilities {
         String name = graph.name.split("-")[1];
 
         if (!name.equals(LOOKUP_BUFFER_ADDRESS_NAME)) {
-            HashMap<String, HashMap<String, Integer>> task = new HashMap<>();
             String fullName = getBaseClass(graph.method().getDeclaringClass().toClassName()) + "." + name;
-            task.put(fullName, encodeFeatureMap(entry));
+            LinkedHashMap<String, Integer> features = encodeFeatureMap(entry);
             JsonHandler jsonHandler = new JsonHandler();
-            String json = jsonHandler.createJSon(encodeFeatureMap(entry), fullName, deviceContext);
+            if (TornadoOptions.COST_MODEL) {
+                KernelCostModel.getInstance().addFeatures(KernelFeatures.fromFeatureDump(fullName, deviceContext.getDeviceName(), features));
+            }
             if (!FEATURES_DIRECTORY.isEmpty()) {
-                File fileLog = new File(FEATURES_DIRECTORY);
-                try {
-                    try (FileWriter file = new FileWriter(fileLog, fileLog.exists())) {
-                        file.write(json);
-                        file.write("\n");
-                    }
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+                StringBuilder record = new StringBuilder();
+                jsonHandler.writeJson(record, features, fullName, deviceContext, true);
+                ProfilerLogWriter featureWriter = ProfilerLogWriter.getInstance(FEATURES_DIRECTORY);
+                featureWriter.append(record);
+                // Kernels are compiled rarely: the file is complete when the compilation finishes
+                featureWriter.flush();
             } else {
-                System.out.println(json);
+                System.out.println(jsonHandler.createJSon(features, fullName, deviceContext));
             }
 
             if (!TornadoOptions.SOCKET_PORT.isEmpty()) {
                 TornadoVMClient tornadoVMClient = new TornadoVMClient();
                 try {
-                    tornadoVMClient.sentLogOverSocket(json);
+                    tornadoVMClient.sentLogOverSocket(jsonHandler.createJSon(features, fullName, deviceContext));
                 } catch (IOException e) {
                     System.out.println(e);
                 }
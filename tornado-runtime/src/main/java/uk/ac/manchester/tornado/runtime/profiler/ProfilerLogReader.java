@@ -0,0 +1,119 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Reads the records of a profiler or feature dump, including the files
+ * rotated by {@link ProfilerLogWriter}, from the oldest to the newest. A record
+ * is a complete top-level JSON object, so dumps in the indented format of
+ * previous versions, where a record spans several lines, are also accepted.
+ */
+public final class ProfilerLogReader {
+
+    private ProfilerLogReader() {
+    }
+
+    static Path rotatedFile(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    /**
+     * @return the existing files of a dump, from the oldest to the newest.
+     */
+    public static List<Path> getFiles(Path file) {
+        List<Path> rotated = new ArrayList<>();
+        for (int i = 1; Files.exists(rotatedFile(file, i)); i++) {
+            rotated.addFirst(rotatedFile(file, i));
+        }
+        if (Files.exists(file)) {
+            rotated.add(file);
+        }
+        return rotated;
+    }
+
+    /**
+     * Calls the consumer with each record of the dump, in order.
+     */
+    public static void forEachRecord(Path file, Consumer<String> consumer) {
+        for (Path path : getFiles(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                readRecords(reader, consumer);
+            } catch (IOException e) {
+                throw new TornadoRuntimeException("[TornadoVM-Profiler] Unable to read " + path + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public static List<String> readRecords(Path file) {
+        List<String> records = new ArrayList<>();
+        forEachRecord(file, records::add);
+        return records;
+    }
+
+    private static void readRecords(BufferedReader reader, Consumer<String> consumer) throws IOException {
+        StringBuilder record = new StringBuilder();
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (depth == 0 && ch != '{') {
+                // Text between records
+                continue;
+            }
+            record.append(ch);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (ch == '\\') {
+                    escaped = true;
+                } else if (ch == '"') {
+                    inString = false;
+                }
+            } else if (ch == '"') {
+                inString = true;
+            } else if (ch == '{') {
+                depth++;
+            } else if (ch == '}') {
+                depth--;
+                if (depth == 0) {
+                    consumer.accept(record.toString());
+                    record.setLength(0);
+                }
+            }
+        }
+    }
+}
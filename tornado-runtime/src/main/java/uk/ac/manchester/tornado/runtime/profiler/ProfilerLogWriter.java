@@ -0,0 +1,311 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Writer of the profiler and feature dumps. Each record is a JSON document in
+ * a single line (JSON Lines). The records are copied into a bounded ring
+ * buffer and written to the file by a background thread, so the execution of
+ * the task graphs does not wait for the file system. When the buffer is full
+ * the record is dropped and counted, instead of blocking the caller.
+ *
+ * <p>
+ * When the file reaches the rotation size, it is renamed to
+ * {@code file.1}, the previous {@code file.1} to {@code file.2}, and so on,
+ * keeping the configured number of files. The rotation happens between
+ * records, so every file contains complete records. Use
+ * {@link ProfilerLogReader} to read them back in order.
+ * </p>
+ */
+public final class ProfilerLogWriter implements AutoCloseable {
+
+    private static final ConcurrentHashMap<Path, ProfilerLogWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final long rotateSize;
+    private final int rotateFiles;
+
+    private final char[] ring;
+    private int head;
+    private int size;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private boolean writing;
+    private boolean closed;
+    private long droppedRecords;
+    private long writtenRecords;
+
+    private final Thread drainThread;
+    private Writer writer;
+    private long fileSize;
+
+    /**
+     * Creates a writer that appends to a file.
+     *
+     * @param file
+     *     Path of the dump.
+     * @param bufferSize
+     *     Size of the ring buffer in characters.
+     * @param rotateSize
+     *     Size, in bytes, at which the file is rotated. Zero disables the
+     *     rotation.
+     * @param rotateFiles
+     *     Number of rotated files that are kept.
+     */
+    public ProfilerLogWriter(Path file, int bufferSize, long rotateSize, int rotateFiles) {
+        this.file = file;
+        this.ring = new char[bufferSize];
+        this.rotateSize = rotateSize;
+        this.rotateFiles = rotateFiles;
+        this.drainThread = new Thread(this::drain, "tornado-profiler-writer-" + file.getFileName());
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Returns the writer of a dump file, configured with the
+     * {@code tornado.profiler.dump.*} options. The writer is created on first
+     * use and closed when the JVM exits. The callers that append often (e.g.
+     * each task graph) keep the returned writer instead of looking it up for
+     * every record.
+     */
+    public static ProfilerLogWriter getInstance(String fileName) {
+        return WRITERS.computeIfAbsent(Paths.get(fileName).toAbsolutePath(), path -> {
+            ProfilerLogWriter logWriter = new ProfilerLogWriter(path, TornadoOptions.PROFILER_DUMP_BUFFER_SIZE, TornadoOptions.PROFILER_DUMP_ROTATE_SIZE,
+                    TornadoOptions.PROFILER_DUMP_ROTATE_FILES);
+            Runtime.getRuntime().addShutdownHook(new Thread(logWriter::close));
+            return logWriter;
+        });
+    }
+
+    /**
+     * Appends a record. Line breaks in the record are not allowed, since they
+     * separate the records in the file.
+     *
+     * @return {@code false} if the record was dropped, because the buffer is full
+     *     or the writer is closed.
+     */
+    public boolean append(CharSequence record) {
+        final int length = record.length();
+        lock.lock();
+        try {
+            if (closed || length + 1 > ring.length - size) {
+                droppedRecords++;
+                return false;
+            }
+            int tail = (head + size) % ring.length;
+            for (int i = 0; i < length; i++) {
+                ring[tail] = record.charAt(i);
+                tail = tail + 1 == ring.length ? 0 : tail + 1;
+            }
+            ring[tail] = '\n';
+            size += length + 1;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all the records appended so far are written to the file.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            while ((size > 0 || writing) && drainThread.isAlive()) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the pending records and stops the background thread.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (droppedRecords > 0) {
+            System.err.println("[TornadoVM-Profiler] " + droppedRecords + " records dropped in " + file + ". Increase -Dtornado.profiler.dump.buffer.");
+        }
+    }
+
+    public long getDroppedRecords() {
+        lock.lock();
+        try {
+            return droppedRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getWrittenRecords() {
+        lock.lock();
+        try {
+            return writtenRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void drain() {
+        char[] chunk = new char[ring.length];
+        try {
+            while (true) {
+                int length;
+                int records = 0;
+                lock.lock();
+                try {
+                    while (size == 0 && !closed) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+                    if (size == 0) {
+                        break;
+                    }
+                    // The buffer only holds complete records
+                    length = size;
+                    int first = Math.min(length, ring.length - head);
+                    System.arraycopy(ring, head, chunk, 0, first);
+                    System.arraycopy(ring, 0, chunk, first, length - first);
+                    head = (head + length) % ring.length;
+                    size = 0;
+                    writing = true;
+                } finally {
+                    lock.unlock();
+                }
+
+                for (int i = 0; i < length; i++) {
+                    if (chunk[i] == '\n') {
+                        records++;
+                    }
+                }
+                write(chunk, length);
+
+                lock.lock();
+                try {
+                    writing = false;
+                    writtenRecords += records;
+                    drained.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[TornadoVM-Profiler] Unable to write " + file + ": " + e.getMessage());
+        } finally {
+            closeFile();
+            lock.lock();
+            try {
+                closed = true;
+                writing = false;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(char[] chunk, int length) throws IOException {
+        if (writer != null && !Files.exists(file)) {
+            // The file was removed by the user: start a new one
+            writer.close();
+            writer = null;
+        }
+        if (writer == null) {
+            fileSize = Files.exists(file) ? Files.size(file) : 0;
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        // The records are ASCII, so the number of characters is the number of bytes
+        if (rotateSize > 0 && fileSize > 0 && fileSize + length > rotateSize) {
+            rotate();
+        }
+        writer.write(chunk, 0, length);
+        writer.flush();
+        fileSize += length;
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        if (rotateFiles > 0) {
+            Files.deleteIfExists(ProfilerLogReader.rotatedFile(file, rotateFiles));
+            for (int i = rotateFiles - 1; i >= 1; i--) {
+                Path rotated = ProfilerLogReader.rotatedFile(file, i);
+                if (Files.exists(rotated)) {
+                    Files.move(rotated, ProfilerLogReader.rotatedFile(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, ProfilerLogReader.rotatedFile(file, 1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileSize = 0;
+    }
+
+    private void closeFile() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("[TornadoVM-Profiler] Unable to close " + file + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulated host time of each stage of the TornadoVM runtime, from the
+ * task-graph to the dispatch of the byte-code. The timers are global (the
+ * sketcher runs in a thread pool shared by all task-graphs) and they are
+ * disabled by default, so the only cost in the runtime is a volatile read per
+ * stage.
+ *
+ * <p>
+ * They are used by the overhead benchmarks ({@code JMHRuntimeOverhead}) to
+ * report the time of each stage of a compilation or of a dispatch.
+ * </p>
+ */
+public final class RuntimeStageTimers {
+
+    public enum Stage {
+        GRAPH_BUILDER, //
+        BYTECODE_GENERATION, //
+        SKETCHER, //
+        HIGH_TIER, //
+        MID_TIER, //
+        LOW_TIER, //
+        INTERPRETER
+    }
+
+    private static final LongAdder[] TOTALS = new LongAdder[Stage.values().length];
+
+    private static volatile boolean enabled;
+
+    static {
+        for (int i = 0; i < TOTALS.length; i++) {
+            TOTALS[i] = new LongAdder();
+        }
+    }
+
+    private RuntimeStageTimers() {
+    }
+
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start timestamp of a stage, or 0 when the timers are disabled.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since {@code start} to the given stage.
+     *
+     * @param stage
+     *     the {@link Stage} that has finished.
+     * @param start
+     *     the value returned by {@link #start()}.
+     */
+    public static void stop(Stage stage, long start) {
+        if (start != 0) {
+            TOTALS[stage.ordinal()].add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return the time in nanoseconds accumulated by the stage since the previous
+     *     call, which resets it.
+     */
+    public static long drain(Stage stage) {
+        return TOTALS[stage.ordinal()].sumThenReset();
+    }
+}
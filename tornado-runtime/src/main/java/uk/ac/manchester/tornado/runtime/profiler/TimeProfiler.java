@@ -23,14 +23,20 @@
  */
 package uk.ac.manchester.tornado.runtime.profiler;
 
-import java.util.HashMap;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.utils.JsonStreamWriter;
 
+/**
+ * Profiler of the task-graphs. The timers and metrics are kept in concurrent
+ * maps, so the profiler does not take any lock, and it can be used by many
+ * threads (platform or virtual) without pinning them to their carriers.
+ */
 public class TimeProfiler implements TornadoProfiler {
 
     /**
@@ -40,154 +46,146 @@ public class TimeProfiler implements TornadoProfiler {
      */
     public static String NO_TASK_NAME = "noTask";
 
-    private HashMap<ProfilerType, Long> profilerTime;
-    private HashMap<String, HashMap<ProfilerType, Long>> taskTimers;
-    private HashMap<String, HashMap<ProfilerType, String>> taskPowerMetrics;
-    private HashMap<String, HashMap<ProfilerType, Long>> taskSizeMetrics;
-    private HashMap<String, HashMap<ProfilerType, String>> taskDeviceIdentifiers;
-    private HashMap<String, HashMap<ProfilerType, String>> taskMethodNames;
-
-    private HashMap<String, HashMap<ProfilerType, String>> taskBackends;
+    private final ConcurrentHashMap<ProfilerType, Long> profilerTime;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, Long>> taskTimers;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, String>> taskPowerMetrics;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, Long>> taskSizeMetrics;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, String>> taskDeviceIdentifiers;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, String>> taskMethodNames;
 
-    private StringBuilder indent;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, String>> taskBackends;
 
     public TimeProfiler() {
-        profilerTime = new HashMap<>();
-        taskTimers = new HashMap<>();
-        taskPowerMetrics = new HashMap<>();
-        taskDeviceIdentifiers = new HashMap<>();
-        taskMethodNames = new HashMap<>();
-        taskSizeMetrics = new HashMap<>();
-        taskBackends = new HashMap<>();
-        indent = new StringBuilder("");
+        profilerTime = new ConcurrentHashMap<>();
+        taskTimers = new ConcurrentHashMap<>();
+        taskPowerMetrics = new ConcurrentHashMap<>();
+        taskDeviceIdentifiers = new ConcurrentHashMap<>();
+        taskMethodNames = new ConcurrentHashMap<>();
+        taskSizeMetrics = new ConcurrentHashMap<>();
+        taskBackends = new ConcurrentHashMap<>();
     }
 
-    @Override
-    public synchronized void addValueToMetric(ProfilerType type, String taskName, long value) {
-        if (!taskSizeMetrics.containsKey(taskName)) {
-            taskSizeMetrics.put(taskName, new HashMap<>());
+    private static <V> ConcurrentHashMap<ProfilerType, V> entriesOf(ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, V>> table, String taskName) {
+        return table.computeIfAbsent(taskName, name -> new ConcurrentHashMap<>());
+    }
+
+    private static void putString(ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, String>> table, String taskName, ProfilerType type, String value) {
+        // The concurrent maps do not accept null values
+        if (value != null) {
+            entriesOf(table, taskName).put(type, value);
+        } else {
+            entriesOf(table, taskName).remove(type);
         }
-        HashMap<ProfilerType, Long> profilerType = taskSizeMetrics.get(taskName);
-        profilerType.put(type, profilerType.get(type) != null ? profilerType.get(type) + value : value);
-        taskSizeMetrics.put(taskName, profilerType);
     }
 
     @Override
-    public synchronized void start(ProfilerType type) {
+    public void addValueToMetric(ProfilerType type, String taskName, long value) {
+        entriesOf(taskSizeMetrics, taskName).merge(type, value, Long::sum);
+    }
+
+    @Override
+    public void start(ProfilerType type) {
         long start = System.nanoTime();
         profilerTime.put(type, start);
     }
 
     @Override
-    public synchronized void start(ProfilerType type, String taskName) {
+    public void start(ProfilerType type, String taskName) {
         long start = System.nanoTime();
-        if (!taskTimers.containsKey(taskName)) {
-            taskTimers.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, Long> profilerType = taskTimers.get(taskName);
-        profilerType.put(type, start);
-        taskTimers.put(taskName, profilerType);
+        entriesOf(taskTimers, taskName).put(type, start);
     }
 
     @Override
-    public synchronized void registerMethodHandle(ProfilerType type, String taskName, String methodName) {
-        if (!taskMethodNames.containsKey(taskName)) {
-            taskMethodNames.put(taskName, new HashMap<>());
+    public void registerMethodHandle(ProfilerType type, String taskName, String methodName) {
+        putString(taskMethodNames, taskName, type, methodName);
+        if (methodName != null) {
+            taskMethodNames.put(methodName, entriesOf(taskMethodNames, taskName));
         }
-        HashMap<ProfilerType, String> profilerType = taskMethodNames.get(taskName);
-        profilerType.put(type, methodName);
-        taskMethodNames.put(methodName, profilerType);
     }
 
     @Override
-    public synchronized void registerDeviceName(String taskName, String deviceInfo) {
-        if (!taskDeviceIdentifiers.containsKey(taskName)) {
-            taskDeviceIdentifiers.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskDeviceIdentifiers.get(taskName);
-        profilerType.put(ProfilerType.DEVICE, deviceInfo);
-        taskDeviceIdentifiers.put(taskName, profilerType);
+    public void registerDeviceName(String taskName, String deviceInfo) {
+        putString(taskDeviceIdentifiers, taskName, ProfilerType.DEVICE, deviceInfo);
     }
 
     @Override
-    public synchronized void registerBackend(String taskName, String backend) {
-        if (!taskBackends.containsKey(taskName)) {
-            taskBackends.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskBackends.get(taskName);
-
-        profilerType.put(ProfilerType.BACKEND, backend);
-        taskBackends.put(taskName, profilerType);
+    public void registerBackend(String taskName, String backend) {
+        putString(taskBackends, taskName, ProfilerType.BACKEND, backend);
     }
 
     @Override
-    public synchronized void registerDeviceID(String taskName, String deviceID) {
-        if (!taskDeviceIdentifiers.containsKey(taskName)) {
-            taskDeviceIdentifiers.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskDeviceIdentifiers.get(taskName);
-        profilerType.put(ProfilerType.DEVICE_ID, deviceID);
-        taskDeviceIdentifiers.put(taskName, profilerType);
+    public void registerDeviceID(String taskName, String deviceID) {
+        putString(taskDeviceIdentifiers, taskName, ProfilerType.DEVICE_ID, deviceID);
     }
 
     @Override
-    public synchronized void stop(ProfilerType type) {
+    public void stop(ProfilerType type) {
         long end = System.nanoTime();
-        long start = profilerTime.get(type);
-        long total = end - start;
-        profilerTime.put(type, total);
+        profilerTime.computeIfPresent(type, (key, start) -> end - start);
     }
 
     @Override
-    public synchronized void stop(ProfilerType type, String taskName) {
+    public void stop(ProfilerType type, String taskName) {
         long end = System.nanoTime();
-        HashMap<ProfilerType, Long> profiledType = taskTimers.get(taskName);
-        long start = profiledType.get(type);
-        long total = end - start;
-        profiledType.put(type, total);
-        taskTimers.put(taskName, profiledType);
+        ConcurrentHashMap<ProfilerType, Long> profiledType = taskTimers.get(taskName);
+        if (profiledType != null) {
+            profiledType.computeIfPresent(type, (key, start) -> end - start);
+        }
+    }
+
+    /**
+     * @return the names of the tasks with timers in the last execution.
+     */
+    public Set<String> getTaskNames() {
+        return taskTimers.keySet();
+    }
+
+    /**
+     * @return the task method, {@code Class.method}, registered for a task, or
+     *     {@code null}.
+     */
+    public String getTaskMethod(String taskName) {
+        return valueOf(taskMethodNames, taskName, ProfilerType.METHOD);
+    }
+
+    /**
+     * @return the name of the device registered for a task, or {@code null}.
+     */
+    public String getTaskDevice(String taskName) {
+        return valueOf(taskDeviceIdentifiers, taskName, ProfilerType.DEVICE);
     }
 
     @Override
     public long getTimer(ProfilerType type) {
-        if (!profilerTime.containsKey(type)) {
-            return 0;
-        }
-        return profilerTime.get(type);
+        return profilerTime.getOrDefault(type, 0L);
     }
 
     @Override
     public long getSize(ProfilerType type) {
         // for all tasks in the task graph, accumulate the size
-        Set<String> strings = taskSizeMetrics.keySet();
         long size = 0;
-        for (String s : taskSizeMetrics.keySet()) {
-            HashMap<ProfilerType, Long> copySizes = taskSizeMetrics.get(s);
-            if (copySizes.containsKey(type)) {
-                size += copySizes.get(type);
-            }
+        for (ConcurrentHashMap<ProfilerType, Long> copySizes : taskSizeMetrics.values()) {
+            size += copySizes.getOrDefault(type, 0L);
         }
         return size;
     }
 
     @Override
     public long getTaskTimer(ProfilerType type, String taskName) {
-        if (!taskTimers.containsKey(taskName)) {
+        ConcurrentHashMap<ProfilerType, Long> timers = taskTimers.get(taskName);
+        if (timers == null) {
             return 0;
         }
-        if (!taskTimers.get(taskName).containsKey(type)) {
-            return 0;
-        }
-        return taskTimers.get(taskName).get(type);
+        return timers.getOrDefault(type, 0L);
     }
 
     @Override
-    public synchronized void setTimer(ProfilerType type, long time) {
+    public void setTimer(ProfilerType type, long time) {
         profilerTime.put(type, time);
     }
 
     @Override
-    public synchronized void dump() {
+    public void dump() {
         for (ProfilerType p : profilerTime.keySet()) {
             System.out.println("[PROFILER] " + p.getDescription() + ": " + profilerTime.get(p));
         }
@@ -198,143 +196,99 @@ public class TimeProfiler implements TornadoProfiler {
         }
     }
 
-    private void increaseIndent() {
-        indent.append("    ");
-    }
-
-    private void decreaseIndent() {
-        indent.delete(indent.length() - 4, indent.length());
-    }
-
-    private void closeScope(StringBuilder json) {
-        json.append(indent.toString() + "}");
+    @Override
+    public String createJson(StringBuilder json, String sectionName) {
+        writeJson(json, sectionName, false);
+        return json.toString();
     }
 
-    private void newLine(StringBuilder json) {
-        json.append("\n");
+    private static String valueOf(ConcurrentHashMap<String, ConcurrentHashMap<ProfilerType, String>> table, String taskName, ProfilerType type) {
+        ConcurrentHashMap<ProfilerType, String> values = table.get(taskName);
+        return values != null ? values.get(type) : null;
     }
 
     @Override
-    public String createJson(StringBuilder json, String sectionName) {
-        json.append("{\n");
-        increaseIndent();
-        json.append(indent.toString() + "\"" + sectionName + "\": " + "{\n");
-        increaseIndent();
+    public void writeJson(StringBuilder json, String sectionName, boolean compact) {
+        JsonStreamWriter writer = new JsonStreamWriter(json, compact);
+        writer.beginObject().beginObject(sectionName);
         for (ProfilerType p : profilerTime.keySet()) {
-            json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + profilerTime.get(p) + "\",\n");
+            writer.value(p.name(), profilerTime.get(p));
         }
-        if (taskSizeMetrics.containsKey(NO_TASK_NAME)) {
-            HashMap<ProfilerType, Long> noTaskValues = taskSizeMetrics.get(NO_TASK_NAME);
+        ConcurrentHashMap<ProfilerType, Long> noTaskValues = taskSizeMetrics.get(NO_TASK_NAME);
+        if (noTaskValues != null) {
             for (ProfilerType p : noTaskValues.keySet()) {
-                json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + noTaskValues.get(p) + "\",\n");
+                writer.value(p.name(), noTaskValues.get(p));
             }
         }
 
-        final int size = taskTimers.keySet().size();
-        int counter = 0;
         for (String p : taskTimers.keySet()) {
-            json.append(indent.toString() + "\"" + p + "\"" + ": {\n");
-            increaseIndent();
-            counter++;
+            writer.beginObject(p);
             if (TornadoOptions.LOG_IP) {
-                json.append(indent.toString() + "\"" + "IP" + "\"" + ": " + "\"" + RuntimeUtilities.getTornadoInstanceIP() + "\",\n");
+                writer.value("IP", RuntimeUtilities.getTornadoInstanceIP());
             }
-            json.append(indent.toString() + "\"" + ProfilerType.BACKEND + "\"" + ": " + "\"" + taskBackends.get(p).get(ProfilerType.BACKEND) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.METHOD + "\"" + ": " + "\"" + taskMethodNames.get(p).get(ProfilerType.METHOD) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.DEVICE_ID + "\"" + ": " + "\"" + taskDeviceIdentifiers.get(p).get(ProfilerType.DEVICE_ID) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.DEVICE + "\"" + ": " + "\"" + taskDeviceIdentifiers.get(p).get(ProfilerType.DEVICE) + "\",\n");
-            if (taskSizeMetrics.containsKey(p)) {
-                for (ProfilerType p1 : taskSizeMetrics.get(p).keySet()) {
-                    json.append(indent.toString() + "\"" + p1 + "\"" + ": " + "\"" + taskSizeMetrics.get(p).get(p1) + "\",\n");
+            writer.value(ProfilerType.BACKEND.name(), valueOf(taskBackends, p, ProfilerType.BACKEND));
+            writer.value(ProfilerType.METHOD.name(), valueOf(taskMethodNames, p, ProfilerType.METHOD));
+            writer.value(ProfilerType.DEVICE_ID.name(), valueOf(taskDeviceIdentifiers, p, ProfilerType.DEVICE_ID));
+            writer.value(ProfilerType.DEVICE.name(), valueOf(taskDeviceIdentifiers, p, ProfilerType.DEVICE));
+            ConcurrentHashMap<ProfilerType, Long> sizes = taskSizeMetrics.get(p);
+            if (sizes != null) {
+                for (ProfilerType p1 : sizes.keySet()) {
+                    writer.value(p1.name(), sizes.get(p1));
                 }
             }
-            if (taskPowerMetrics.containsKey(p)) {
-                for (ProfilerType p1 : taskPowerMetrics.get(p).keySet()) {
-                    json.append(indent.toString() + "\"" + p1 + "\"" + ": " + "\"" + taskPowerMetrics.get(p).get(p1) + "\",\n");
+            ConcurrentHashMap<ProfilerType, String> powerMetrics = taskPowerMetrics.get(p);
+            if (powerMetrics != null) {
+                for (ProfilerType p1 : powerMetrics.keySet()) {
+                    writer.value(p1.name(), powerMetrics.get(p1));
                 }
             }
-            for (ProfilerType p2 : taskTimers.get(p).keySet()) {
-                json.append(indent.toString() + "\"" + p2 + "\"" + ": " + "\"" + taskTimers.get(p).get(p2) + "\",\n");
-            }
-            json.delete(json.length() - 2, json.length() - 1); // remove last comma
-            decreaseIndent();
-            closeScope(json);
-            if (counter != size) {
-                json.append(", ");
+            ConcurrentHashMap<ProfilerType, Long> timers = taskTimers.get(p);
+            if (timers != null) {
+                for (ProfilerType p2 : timers.keySet()) {
+                    writer.value(p2.name(), timers.get(p2));
+                }
             }
-            newLine(json);
+            writer.endObject();
         }
-        decreaseIndent();
-        closeScope(json);
-        newLine(json);
-        decreaseIndent();
-        closeScope(json);
-        newLine(json);
-        return json.toString();
+        writer.endObject().endObject();
     }
 
     @Override
-    public synchronized void dumpJson(StringBuilder json, String id) {
+    public void dumpJson(StringBuilder json, String id) {
         String jsonContent = createJson(json, id);
         System.out.println(jsonContent);
     }
 
     @Override
-    public synchronized void clean() {
+    public void clean() {
         taskSizeMetrics.clear();
         profilerTime.clear();
         taskTimers.clear();
-        indent = new StringBuilder("");
     }
 
     @Override
-    public synchronized void setTaskTimer(ProfilerType type, String taskID, long timer) {
-        if (!taskTimers.containsKey(taskID)) {
-            taskTimers.put(taskID, new HashMap<>());
-        }
-        taskTimers.get(taskID).put(type, timer);
+    public void setTaskTimer(ProfilerType type, String taskID, long timer) {
+        entriesOf(taskTimers, taskID).put(type, timer);
     }
 
     @Override
-    public synchronized void setTaskPowerUsage(ProfilerType type, String taskID, long power) {
-        if (!taskPowerMetrics.containsKey(taskID)) {
-            taskPowerMetrics.put(taskID, new HashMap<>());
-        }
-        if (power > 0) {
-            taskPowerMetrics.get(taskID).put(type, Long.toString(power));
-        } else {
-            taskPowerMetrics.get(taskID).put(type, "n/a");
-        }
+    public void setTaskPowerUsage(ProfilerType type, String taskID, long power) {
+        entriesOf(taskPowerMetrics, taskID).put(type, power > 0 ? Long.toString(power) : "n/a");
     }
 
     @Override
     public void setSystemPowerConsumption(ProfilerType systemPowerConsumptionType, String taskID, long powerConsumption) {
-        if (!taskPowerMetrics.containsKey(taskID)) {
-            taskPowerMetrics.put(taskID, new HashMap<>());
-        }
-        if (powerConsumption > 0) {
-            taskPowerMetrics.get(taskID).put(systemPowerConsumptionType, Long.toString(powerConsumption));
-        } else {
-            taskPowerMetrics.get(taskID).put(systemPowerConsumptionType, "n/a");
-        }
+        entriesOf(taskPowerMetrics, taskID).put(systemPowerConsumptionType, powerConsumption > 0 ? Long.toString(powerConsumption) : "n/a");
     }
 
     @Override
     public void setSystemVoltage(ProfilerType systemPowerVoltageType, String taskID, long voltage) {
-        if (!taskPowerMetrics.containsKey(taskID)) {
-            taskPowerMetrics.put(taskID, new HashMap<>());
-        }
-        if (voltage > 0) {
-            taskPowerMetrics.get(taskID).put(systemPowerVoltageType, Float.toString(voltage));
-        } else {
-            taskPowerMetrics.get(taskID).put(systemPowerVoltageType, "n/a");
-        }
+        entriesOf(taskPowerMetrics, taskID).put(systemPowerVoltageType, voltage > 0 ? Float.toString(voltage) : "n/a");
     }
 
     @Override
-    public synchronized void sum(ProfilerType acc, long value) {
-        long sum = getTimer(acc) + value;
-        profilerTime.put(acc, sum);
+    public void sum(ProfilerType acc, long value) {
+        profilerTime.merge(acc, value, Long::sum);
     }
 
 }
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+import java.nio.file.Paths;
+
+/**
+ * Trains the {@link KernelCostModel} offline, from the dumps of the feature
+ * extraction and of the profiler, and prints the fitted models. No device is
+ * needed.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.runtime/uk.ac.manchester.tornado.runtime.profiler.costmodel.CostModelTrainer --features features.json --profiles profiler.json [--predict Class.method device bytes]
+ * </code>
+ */
+public class CostModelTrainer {
+
+    private static void usage() {
+        System.out.println("Usage: CostModelTrainer --features <file> --profiles <file> [--predict <Class.method> <device> <bytes>]");
+    }
+
+    public static void main(String[] args) {
+        KernelCostModel model = new KernelCostModel();
+        String[] query = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--features" -> model.loadFeatures(Paths.get(args[++i]));
+                case "--profiles" -> model.loadProfiles(Paths.get(args[++i]));
+                case "--predict" -> {
+                    query = new String[] { args[i + 1], args[i + 2], args[i + 3] };
+                    i += 3;
+                }
+                default -> {
+                    usage();
+                    return;
+                }
+            }
+        }
+
+        model.train();
+        System.out.print(model.describe());
+
+        if (query != null) {
+            long bytes = Long.parseLong(query[2]);
+            CostPrediction prediction = model.predict(query[0], query[1], bytes, bytes, bytes);
+            if (prediction == null) {
+                System.out.println("No prediction for " + query[0] + " on " + query[1]);
+            } else {
+                System.out.printf("%s on %s (%d bytes): kernel %.0f ns, copy-in %.0f ns, copy-out %.0f ns, total %.0f ns%n", query[0], query[1], bytes, prediction.kernelTimeNs(), prediction.copyInTimeNs(),
+                        prediction.copyOutTimeNs(), prediction.totalTimeNs());
+            }
+        }
+    }
+}
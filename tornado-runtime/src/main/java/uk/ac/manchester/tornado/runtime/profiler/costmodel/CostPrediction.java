@@ -0,0 +1,41 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+/**
+ * Predicted cost, in nanoseconds, of running a task on a device.
+ *
+ * @param kernelTimeNs
+ *     Kernel time.
+ * @param copyInTimeNs
+ *     Time to copy the inputs to the device.
+ * @param copyOutTimeNs
+ *     Time to copy the outputs to the host.
+ */
+public record CostPrediction(double kernelTimeNs, double copyInTimeNs, double copyOutTimeNs) {
+
+    public double totalTimeNs() {
+        return kernelTimeNs + copyInTimeNs + copyOutTimeNs;
+    }
+}
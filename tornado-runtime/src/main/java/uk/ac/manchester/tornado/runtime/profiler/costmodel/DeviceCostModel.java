@@ -0,0 +1,210 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Models fitted with the samples of one device.
+ *
+ * <p>
+ * Kernel time: for a method with samples on the device, the time is a linear
+ * function of the input bytes. For any other method with known features, it
+ * is predicted with a regression shared by all kernels of the device, where
+ * each feature count is multiplied by the input bytes:
+ * {@code t = c + w0 * bytes + sum(wj * count[j] * bytes)}.
+ * </p>
+ *
+ * <p>
+ * Transfers: the time of each direction is {@code latency + bytes / bandwidth}.
+ * </p>
+ */
+final class DeviceCostModel {
+
+    private static final double RIDGE_FACTOR = 1e-3;
+
+    private final String device;
+    private final Map<String, LinearRegression> methodModels;
+    private final LinearRegression featureModel;
+    private final LinearRegression copyInModel;
+    private final LinearRegression copyOutModel;
+    private final int numKernelSamples;
+
+    private DeviceCostModel(String device, Map<String, LinearRegression> methodModels, LinearRegression featureModel, LinearRegression copyInModel, LinearRegression copyOutModel,
+            int numKernelSamples) {
+        this.device = device;
+        this.methodModels = methodModels;
+        this.featureModel = featureModel;
+        this.copyInModel = copyInModel;
+        this.copyOutModel = copyOutModel;
+        this.numKernelSamples = numKernelSamples;
+    }
+
+    static DeviceCostModel train(String device, List<KernelProfileSample> kernelSamples, List<TransferSample> transferSamples, Map<String, KernelFeatures> features) {
+        Map<String, List<KernelProfileSample>> samplesPerMethod = new HashMap<>();
+        for (KernelProfileSample sample : kernelSamples) {
+            samplesPerMethod.computeIfAbsent(sample.method(), method -> new ArrayList<>()).add(sample);
+        }
+
+        Map<String, LinearRegression> methodModels = new HashMap<>();
+        for (Map.Entry<String, List<KernelProfileSample>> entry : samplesPerMethod.entrySet()) {
+            List<KernelProfileSample> samples = entry.getValue();
+            double[] bytes = new double[samples.size()];
+            double[] times = new double[samples.size()];
+            for (int i = 0; i < samples.size(); i++) {
+                bytes[i] = samples.get(i).inputBytes();
+                times[i] = samples.get(i).kernelTimeNs();
+            }
+            methodModels.put(entry.getKey(), fitSize(bytes, times));
+        }
+
+        List<double[]> rows = new ArrayList<>();
+        List<Double> times = new ArrayList<>();
+        for (KernelProfileSample sample : kernelSamples) {
+            KernelFeatures kernelFeatures = features.get(sample.method());
+            if (kernelFeatures != null) {
+                rows.add(featureRow(kernelFeatures, sample.inputBytes()));
+                times.add((double) sample.kernelTimeNs());
+            }
+        }
+        LinearRegression featureModel = null;
+        if (rows.size() > 1) {
+            double[] y = times.stream().mapToDouble(Double::doubleValue).toArray();
+            featureModel = LinearRegression.fit(rows.toArray(new double[0][]), y, RIDGE_FACTOR * rows.size());
+        }
+
+        List<double[]> copyIn = new ArrayList<>();
+        List<double[]> copyOut = new ArrayList<>();
+        for (TransferSample sample : transferSamples) {
+            if (sample.copyInBytes() > 0 && sample.copyInTimeNs() > 0) {
+                copyIn.add(new double[] { sample.copyInBytes(), sample.copyInTimeNs() });
+            }
+            if (sample.copyOutBytes() > 0 && sample.copyOutTimeNs() > 0) {
+                copyOut.add(new double[] { sample.copyOutBytes(), sample.copyOutTimeNs() });
+            }
+        }
+
+        return new DeviceCostModel(device, methodModels, featureModel, fitTransfers(copyIn), fitTransfers(copyOut), kernelSamples.size());
+    }
+
+    private static double[] featureRow(KernelFeatures features, long inputBytes) {
+        double[] counts = features.getCounts();
+        double[] row = new double[counts.length + 1];
+        row[0] = inputBytes;
+        for (int j = 0; j < counts.length; j++) {
+            row[j + 1] = counts[j] * inputBytes;
+        }
+        return row;
+    }
+
+    private static LinearRegression fitSize(double[] bytes, double[] times) {
+        boolean distinctSizes = false;
+        for (int i = 1; i < bytes.length && !distinctSizes; i++) {
+            distinctSizes = bytes[i] != bytes[0];
+        }
+        if (!distinctSizes) {
+            // A single input size: the time is scaled with the size
+            return LinearRegression.fitThroughOrigin(bytes, times);
+        }
+        double[][] x = new double[bytes.length][];
+        for (int i = 0; i < bytes.length; i++) {
+            x[i] = new double[] { bytes[i] };
+        }
+        return LinearRegression.fit(x, times, 0);
+    }
+
+    private static LinearRegression fitTransfers(List<double[]> samples) {
+        if (samples.isEmpty()) {
+            return null;
+        }
+        double[] bytes = new double[samples.size()];
+        double[] times = new double[samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            bytes[i] = samples.get(i)[0];
+            times[i] = samples.get(i)[1];
+        }
+        return fitSize(bytes, times);
+    }
+
+    /**
+     * @return the kernel time in nanoseconds, or {@link Double#NaN} if the method
+     *     has no samples on this device and its features are unknown.
+     */
+    double predictKernelTime(String method, KernelFeatures features, long inputBytes) {
+        LinearRegression methodModel = methodModels.get(method);
+        if (methodModel != null) {
+            return Math.max(0, methodModel.predict(inputBytes));
+        }
+        if (featureModel != null && features != null) {
+            return Math.max(0, featureModel.predict(featureRow(features, inputBytes)));
+        }
+        return Double.NaN;
+    }
+
+    double predictCopyInTime(long bytes) {
+        return predictTransfer(copyInModel, bytes);
+    }
+
+    double predictCopyOutTime(long bytes) {
+        return predictTransfer(copyOutModel, bytes);
+    }
+
+    private static double predictTransfer(LinearRegression model, long bytes) {
+        if (bytes <= 0) {
+            return 0;
+        }
+        if (model == null) {
+            return Double.NaN;
+        }
+        return Math.max(0, model.predict(bytes));
+    }
+
+    boolean hasSamples(String method) {
+        return methodModels.containsKey(method);
+    }
+
+    String describe() {
+        StringBuilder description = new StringBuilder();
+        description.append(device).append(": ").append(numKernelSamples).append(" kernel samples, ").append(methodModels.size()).append(" methods\n");
+        for (Map.Entry<String, LinearRegression> entry : methodModels.entrySet()) {
+            LinearRegression model = entry.getValue();
+            description.append(String.format("    %s: %.3f ns + %.6f ns/byte%n", entry.getKey(), model.getIntercept(), model.getCoefficients()[0]));
+        }
+        description.append("    feature model: ").append(featureModel != null ? "trained" : "not enough samples").append("\n");
+        appendTransferModel(description, "copy-in", copyInModel);
+        appendTransferModel(description, "copy-out", copyOutModel);
+        return description.toString();
+    }
+
+    private static void appendTransferModel(StringBuilder description, String name, LinearRegression model) {
+        if (model == null) {
+            description.append("    ").append(name).append(": no samples\n");
+        } else {
+            description.append(String.format("    %s: %.3f ns + %.6f ns/byte%n", name, model.getIntercept(), model.getCoefficients()[0]));
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerLogReader;
+import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
+
+/**
+ * Cost model that predicts the kernel and data-transfer times of a task on a
+ * device before the task runs. It joins the static features of each kernel
+ * (feature extraction, {@code -Dtornado.feature.extraction=True}) with the
+ * times measured by the profiler, using the name of the task method,
+ * {@code Class.method}, and the name of the device. A lightweight regression is
+ * fitted for each device (see {@link DeviceCostModel}).
+ *
+ * <p>
+ * The model can be trained offline from the JSON files dumped with
+ * {@code -Dtornado.features.dump.dir} and {@code -Dtornado.profiler.dump.dir}
+ * (see {@link CostModelTrainer}), without any device. The instance returned by
+ * {@link #getInstance()} loads the files given with
+ * {@code -Dtornado.costmodel.features} and {@code -Dtornado.costmodel.profiles},
+ * and, with {@code -Dtornado.costmodel=True}, it also collects the features and
+ * profiles of the running application.
+ * </p>
+ *
+ * <p>
+ * The model keeps the last {@link #MAX_SAMPLES} samples of each method on each
+ * device, and of the transfers of each device, so the memory and the cost of a
+ * fit are bounded in long-running applications. A new sample only invalidates
+ * the model of its device, which is fitted again by the next prediction for
+ * that device.
+ * </p>
+ */
+public final class KernelCostModel {
+
+    /**
+     * Number of samples kept per method and device, and of transfer samples per
+     * device. The oldest sample is dropped when a new one is added.
+     */
+    public static final int MAX_SAMPLES = 256;
+
+    private static volatile KernelCostModel instance;
+
+    // Features per device and method
+    private final Map<String, Map<String, KernelFeatures>> features = new HashMap<>();
+    // Features per method, for devices without a feature dump
+    private final Map<String, KernelFeatures> anyDeviceFeatures = new HashMap<>();
+    // Samples per device and method
+    private final Map<String, Map<String, ArrayDeque<KernelProfileSample>>> kernelSamples = new HashMap<>();
+    private final Map<String, ArrayDeque<TransferSample>> transferSamples = new HashMap<>();
+
+    // Fitted models per device. A device without an entry is fitted on demand
+    private final Map<String, DeviceCostModel> deviceModels = new HashMap<>();
+
+    public static KernelCostModel getInstance() {
+        if (instance == null) {
+            synchronized (KernelCostModel.class) {
+                if (instance == null) {
+                    KernelCostModel model = new KernelCostModel();
+                    if (!TornadoOptions.COST_MODEL_FEATURES.isEmpty()) {
+                        model.loadFeatures(Paths.get(TornadoOptions.COST_MODEL_FEATURES));
+                    }
+                    if (!TornadoOptions.COST_MODEL_PROFILES.isEmpty()) {
+                        model.loadProfiles(Paths.get(TornadoOptions.COST_MODEL_PROFILES));
+                    }
+                    instance = model;
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static long getLong(Map<String, Object> entries, ProfilerType type) {
+        Object value = entries.get(type.name());
+        if (!(value instanceof String string)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(string.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Loads a file written by the feature extraction, including its rotated
+     * files.
+     */
+    public void loadFeatures(Path file) {
+        ProfilerLogReader.forEachRecord(file, this::addFeaturesJson);
+    }
+
+    /**
+     * Loads a file written by the profiler, including its rotated files.
+     */
+    public void loadProfiles(Path file) {
+        ProfilerLogReader.forEachRecord(file, this::addProfileJson);
+    }
+
+    /**
+     * Adds the features of one or more kernels, in the JSON format of the
+     * feature extraction.
+     */
+    @SuppressWarnings("unchecked")
+    public void addFeaturesJson(String json) {
+        for (Map<String, Object> object : ProfileJsonReader.readObjects(json)) {
+            for (Map.Entry<String, Object> kernel : object.entrySet()) {
+                if (kernel.getValue() instanceof Map<?, ?> entries) {
+                    Object device = entries.get("Device");
+                    addFeatures(KernelFeatures.fromFeatureDump(kernel.getKey(), device != null ? device.toString() : "", (Map<String, Object>) entries));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the samples of one or more executions, in the JSON format of the
+     * profiler. The input size of each task is the number of bytes allocated
+     * on the device in the execution, or the bytes copied when the execution
+     * does not allocate.
+     */
+    @SuppressWarnings("unchecked")
+    public void addProfileJson(String json) {
+        for (Map<String, Object> object : ProfileJsonReader.readObjects(json)) {
+            for (Object section : object.values()) {
+                if (section instanceof Map<?, ?> entries) {
+                    addProfileSection((Map<String, Object>) entries);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addProfileSection(Map<String, Object> section) {
+        List<TaskTime> tasks = new ArrayList<>();
+        for (Object value : section.values()) {
+            if (value instanceof Map<?, ?> task && task.containsKey(ProfilerType.METHOD.name())) {
+                Map<String, Object> taskEntries = (Map<String, Object>) task;
+                tasks.add(new TaskTime(taskEntries.get(ProfilerType.METHOD.name()).toString(), String.valueOf(taskEntries.get(ProfilerType.DEVICE.name())), getLong(taskEntries,
+                        ProfilerType.TASK_KERNEL_TIME)));
+            }
+        }
+        addExecution(tasks, getLong(section, ProfilerType.TOTAL_COPY_IN_SIZE_BYTES), getLong(section, ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES), getLong(section, ProfilerType.ALLOCATION_BYTES),
+                getLong(section, ProfilerType.COPY_IN_TIME), getLong(section, ProfilerType.COPY_OUT_TIME));
+    }
+
+    /**
+     * Adds the samples of the last execution of a task graph, read directly
+     * from its profiler. It is used by the online mode
+     * ({@code -Dtornado.costmodel=True}), so the profiler values are not
+     * serialised to JSON and parsed back on every execution.
+     */
+    public void addProfile(TimeProfiler profiler) {
+        List<TaskTime> tasks = new ArrayList<>();
+        for (String taskName : profiler.getTaskNames()) {
+            String method = profiler.getTaskMethod(taskName);
+            if (method != null) {
+                tasks.add(new TaskTime(method, String.valueOf(profiler.getTaskDevice(taskName)), profiler.getTaskTimer(ProfilerType.TASK_KERNEL_TIME, taskName)));
+            }
+        }
+        addExecution(tasks, profiler.getSize(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES), profiler.getSize(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES), profiler.getSize(ProfilerType.ALLOCATION_BYTES),
+                profiler.getTimer(ProfilerType.COPY_IN_TIME), profiler.getTimer(ProfilerType.COPY_OUT_TIME));
+    }
+
+    private record TaskTime(String method, String device, long kernelTimeNs) {
+    }
+
+    private void addExecution(List<TaskTime> tasks, long copyInBytes, long copyOutBytes, long allocatedBytes, long copyInTime, long copyOutTime) {
+        long inputBytes = allocatedBytes > 0 ? allocatedBytes : copyInBytes + copyOutBytes;
+        String graphDevice = null;
+        for (TaskTime task : tasks) {
+            if (graphDevice == null) {
+                graphDevice = task.device();
+            }
+            if (task.kernelTimeNs() > 0 && inputBytes > 0) {
+                addSample(new KernelProfileSample(task.method(), task.device(), inputBytes, task.kernelTimeNs()));
+            }
+        }
+
+        if (graphDevice != null && (copyInBytes > 0 || copyOutBytes > 0)) {
+            addSample(new TransferSample(graphDevice, copyInBytes, copyInTime, copyOutBytes, copyOutTime));
+        }
+    }
+
+    private static <T> void addBounded(ArrayDeque<T> samples, T sample) {
+        if (samples.size() == MAX_SAMPLES) {
+            samples.removeFirst();
+        }
+        samples.addLast(sample);
+    }
+
+    public synchronized void addFeatures(KernelFeatures kernelFeatures) {
+        features.computeIfAbsent(kernelFeatures.getDevice(), device -> new HashMap<>()).put(kernelFeatures.getMethod(), kernelFeatures);
+        anyDeviceFeatures.put(kernelFeatures.getMethod(), kernelFeatures);
+        // The features of a method without a device are used by all devices
+        deviceModels.clear();
+    }
+
+    public synchronized void addSample(KernelProfileSample sample) {
+        addBounded(kernelSamples.computeIfAbsent(sample.device(), device -> new HashMap<>()).computeIfAbsent(sample.method(), method -> new ArrayDeque<>()), sample);
+        deviceModels.remove(sample.device());
+    }
+
+    public synchronized void addSample(TransferSample sample) {
+        addBounded(transferSamples.computeIfAbsent(sample.device(), device -> new ArrayDeque<>()), sample);
+        deviceModels.remove(sample.device());
+    }
+
+    /**
+     * Fits the models of all devices that have new samples since their last
+     * fit. The predictions fit the model of their device on demand, so calling
+     * this method is optional.
+     */
+    public synchronized void train() {
+        for (String device : getDevices()) {
+            getDeviceModel(device);
+        }
+    }
+
+    private DeviceCostModel trainDevice(String device) {
+        List<KernelProfileSample> samples = new ArrayList<>();
+        for (ArrayDeque<KernelProfileSample> methodSamples : kernelSamples.getOrDefault(device, Map.of()).values()) {
+            samples.addAll(methodSamples);
+        }
+        List<TransferSample> transfers = new ArrayList<>(transferSamples.getOrDefault(device, new ArrayDeque<>()));
+        return DeviceCostModel.train(device, samples, transfers, getFeatures(device));
+    }
+
+    private Map<String, KernelFeatures> getFeatures(String device) {
+        Map<String, KernelFeatures> deviceFeatures = new HashMap<>(anyDeviceFeatures);
+        deviceFeatures.putAll(features.getOrDefault(device, Map.of()));
+        return deviceFeatures;
+    }
+
+    private synchronized DeviceCostModel getDeviceModel(String device) {
+        DeviceCostModel model = deviceModels.get(device);
+        if (model == null && (kernelSamples.containsKey(device) || transferSamples.containsKey(device))) {
+            model = trainDevice(device);
+            deviceModels.put(device, model);
+        }
+        return model;
+    }
+
+    /**
+     * Predicts the cost of a task.
+     *
+     * @param method
+     *     Name of the task method, {@code Class.method}.
+     * @param device
+     *     Name of the device.
+     * @param inputBytes
+     *     Bytes of data used by the task.
+     * @param copyInBytes
+     *     Bytes copied to the device.
+     * @param copyOutBytes
+     *     Bytes copied back to the host.
+     * @return the prediction, or {@code null} if there are no samples of the
+     *     device, or the method has neither samples nor features.
+     */
+    public CostPrediction predict(String method, String device, long inputBytes, long copyInBytes, long copyOutBytes) {
+        KernelFeatures kernelFeatures;
+        synchronized (this) {
+            kernelFeatures = getFeatures(device).get(method);
+        }
+        return predict(method, kernelFeatures, device, inputBytes, copyInBytes, copyOutBytes);
+    }
+
+    /**
+     * Predicts the cost of a kernel that has not been profiled, from its
+     * features.
+     */
+    public CostPrediction predict(KernelFeatures kernelFeatures, String device, long inputBytes, long copyInBytes, long copyOutBytes) {
+        return predict(kernelFeatures.getMethod(), kernelFeatures, device, inputBytes, copyInBytes, copyOutBytes);
+    }
+
+    private CostPrediction predict(String method, KernelFeatures kernelFeatures, String device, long inputBytes, long copyInBytes, long copyOutBytes) {
+        DeviceCostModel model = getDeviceModel(device);
+        if (model == null) {
+            return null;
+        }
+        double kernelTime = model.predictKernelTime(method, kernelFeatures, inputBytes);
+        double copyInTime = model.predictCopyInTime(copyInBytes);
+        double copyOutTime = model.predictCopyOutTime(copyOutBytes);
+        if (Double.isNaN(kernelTime) || Double.isNaN(copyInTime) || Double.isNaN(copyOutTime)) {
+            return null;
+        }
+        return new CostPrediction(kernelTime, copyInTime, copyOutTime);
+    }
+
+    /**
+     * Selects the device with the lowest predicted time for a task.
+     *
+     * @return the name of the device, or {@code null} if the cost cannot be
+     *     predicted for any of the devices.
+     */
+    public String selectDevice(String method, Collection<String> devices, long inputBytes, long copyInBytes, long copyOutBytes) {
+        String best = null;
+        double bestTime = Double.MAX_VALUE;
+        for (String device : devices) {
+            CostPrediction prediction = predict(method, device, inputBytes, copyInBytes, copyOutBytes);
+            if (prediction != null && prediction.totalTimeNs() < bestTime) {
+                bestTime = prediction.totalTimeNs();
+                best = device;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Largest batch, in bytes, that is predicted to run within a time budget.
+     * Each batch is copied to the device and back, as in the batch processing
+     * of the task graphs.
+     *
+     * @return the size of the batch in bytes, or {@code 0} if no batch fits in
+     *     the budget or the cost cannot be predicted.
+     */
+    public long maxBatchBytes(String method, String device, long timeBudgetNs) {
+        long low = 0;
+        long high = 1;
+        // Upper bound of the search: 1 PB
+        final long limit = 1L << 50;
+        while (high < limit && fitsInBudget(method, device, high, timeBudgetNs)) {
+            low = high;
+            high <<= 1;
+        }
+        if (high >= limit) {
+            return low;
+        }
+        while (high - low > 1) {
+            long middle = low + (high - low) / 2;
+            if (fitsInBudget(method, device, middle, timeBudgetNs)) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private boolean fitsInBudget(String method, String device, long bytes, long timeBudgetNs) {
+        CostPrediction prediction = predict(method, device, bytes, bytes, bytes);
+        return prediction != null && prediction.totalTimeNs() <= timeBudgetNs;
+    }
+
+    public synchronized boolean hasSamples(String method, String device) {
+        DeviceCostModel model = getDeviceModel(device);
+        return model != null && model.hasSamples(method);
+    }
+
+    public synchronized Collection<String> getDevices() {
+        TreeSet<String> devices = new TreeSet<>(kernelSamples.keySet());
+        devices.addAll(transferSamples.keySet());
+        return devices;
+    }
+
+    public synchronized String describe() {
+        StringBuilder description = new StringBuilder();
+        for (String device : getDevices()) {
+            description.append(getDeviceModel(device).describe());
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerCodeFeatures;
+
+/**
+ * Static features of a compiled kernel, as counted by the feature extraction
+ * phase. The counts are indexed by the ordinal of {@link ProfilerCodeFeatures}.
+ */
+public final class KernelFeatures {
+
+    // Prefix of the graph name used by the backends for the compiled kernel
+    private static final String KERNEL_PREFIX = "kernel";
+
+    private final String method;
+    private final String device;
+    private final double[] counts;
+
+    public KernelFeatures(String method, String device, double[] counts) {
+        if (counts.length != ProfilerCodeFeatures.values().length) {
+            throw new IllegalArgumentException("Expected " + ProfilerCodeFeatures.values().length + " feature counts, got " + counts.length);
+        }
+        this.method = method;
+        this.device = device;
+        this.counts = Arrays.copyOf(counts, counts.length);
+    }
+
+    /**
+     * Builds the features from the entries of the feature extraction. The name
+     * of the kernel, {@code Class.kernelMethod}, is renamed to
+     * {@code Class.method}, which is the name the profiler uses for the task.
+     *
+     * @param kernelName
+     *     Name of the kernel in the feature dump.
+     * @param device
+     *     Name of the device.
+     * @param entries
+     *     Counts, keyed by the description of each feature.
+     * @return the features of the kernel.
+     */
+    public static KernelFeatures fromFeatureDump(String kernelName, String device, Map<String, ?> entries) {
+        double[] counts = new double[ProfilerCodeFeatures.values().length];
+        for (ProfilerCodeFeatures feature : ProfilerCodeFeatures.values()) {
+            Object value = entries.get(feature.toString());
+            if (value != null) {
+                counts[feature.ordinal()] = Double.parseDouble(value.toString().trim());
+            }
+        }
+        return new KernelFeatures(toTaskMethodName(kernelName), device, counts);
+    }
+
+    static String toTaskMethodName(String kernelName) {
+        int dot = kernelName.lastIndexOf('.');
+        String methodName = kernelName.substring(dot + 1);
+        if (methodName.startsWith(KERNEL_PREFIX) && methodName.length() > KERNEL_PREFIX.length()) {
+            return kernelName.substring(0, dot + 1) + methodName.substring(KERNEL_PREFIX.length());
+        }
+        return kernelName;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getDevice() {
+        return device;
+    }
+
+    public double getCount(ProfilerCodeFeatures feature) {
+        return counts[feature.ordinal()];
+    }
+
+    double[] getCounts() {
+        return counts;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+import java.util.Arrays;
+
+/**
+ * Linear model {@code y = intercept + sum(coefficients[j] * x[j])} fitted with
+ * ridge least squares. The columns are standardised before the fit, so a
+ * single regularisation factor works for features of different magnitudes
+ * (e.g. operation counts and bytes). The intercept is not regularised.
+ */
+public final class LinearRegression {
+
+    private final double intercept;
+    private final double[] coefficients;
+
+    private LinearRegression(double intercept, double[] coefficients) {
+        this.intercept = intercept;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Fits the model by solving the normal equations
+     * {@code (X^T X + lambda I) w = X^T y} over the centred and scaled columns.
+     *
+     * @param x
+     *     Rows of the design matrix.
+     * @param y
+     *     Observed values, one per row.
+     * @param lambda
+     *     Regularisation factor. Zero gives ordinary least squares.
+     * @return the fitted model.
+     */
+    public static LinearRegression fit(double[][] x, double[] y, double lambda) {
+        final int rows = y.length;
+        final int columns = x[0].length;
+
+        double[] mean = new double[columns];
+        double[] scale = new double[columns];
+        double meanY = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                mean[j] += x[i][j];
+            }
+            meanY += y[i];
+        }
+        for (int j = 0; j < columns; j++) {
+            mean[j] /= rows;
+        }
+        meanY /= rows;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                double d = x[i][j] - mean[j];
+                scale[j] += d * d;
+            }
+        }
+        for (int j = 0; j < columns; j++) {
+            scale[j] = Math.sqrt(scale[j] / rows);
+            if (scale[j] == 0) {
+                // Constant column: it only contributes to the intercept
+                scale[j] = 1;
+            }
+        }
+
+        double[][] gram = new double[columns][columns];
+        double[] rhs = new double[columns];
+        double[] row = new double[columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                row[j] = (x[i][j] - mean[j]) / scale[j];
+            }
+            double centredY = y[i] - meanY;
+            for (int j = 0; j < columns; j++) {
+                rhs[j] += row[j] * centredY;
+                for (int k = j; k < columns; k++) {
+                    gram[j][k] += row[j] * row[k];
+                }
+            }
+        }
+        for (int j = 0; j < columns; j++) {
+            for (int k = 0; k < j; k++) {
+                gram[j][k] = gram[k][j];
+            }
+            gram[j][j] += lambda;
+        }
+
+        double[] w = solve(gram, rhs);
+        double[] coefficients = new double[columns];
+        double intercept = meanY;
+        for (int j = 0; j < columns; j++) {
+            coefficients[j] = w[j] / scale[j];
+            intercept -= coefficients[j] * mean[j];
+        }
+        return new LinearRegression(intercept, coefficients);
+    }
+
+    /**
+     * Fits {@code y = slope * x} when there are not enough distinct values of
+     * {@code x} to estimate an intercept.
+     */
+    public static LinearRegression fitThroughOrigin(double[] x, double[] y) {
+        double xy = 0;
+        double xx = 0;
+        for (int i = 0; i < x.length; i++) {
+            xy += x[i] * y[i];
+            xx += x[i] * x[i];
+        }
+        return new LinearRegression(0, new double[] { xx == 0 ? 0 : xy / xx });
+    }
+
+    /**
+     * Gaussian elimination with partial pivoting. Singular directions, which
+     * can only appear without regularisation, get a zero weight.
+     */
+    private static double[] solve(double[][] a, double[] b) {
+        final int n = b.length;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int r = col + 1; r < n; r++) {
+                if (Math.abs(a[r][col]) > Math.abs(a[pivot][col])) {
+                    pivot = r;
+                }
+            }
+            double[] tmpRow = a[col];
+            a[col] = a[pivot];
+            a[pivot] = tmpRow;
+            double tmp = b[col];
+            b[col] = b[pivot];
+            b[pivot] = tmp;
+
+            if (Math.abs(a[col][col]) < 1e-12) {
+                continue;
+            }
+            for (int r = col + 1; r < n; r++) {
+                double factor = a[r][col] / a[col][col];
+                for (int c = col; c < n; c++) {
+                    a[r][c] -= factor * a[col][c];
+                }
+                b[r] -= factor * b[col];
+            }
+        }
+
+        double[] x = new double[n];
+        for (int r = n - 1; r >= 0; r--) {
+            if (Math.abs(a[r][r]) < 1e-12) {
+                x[r] = 0;
+                continue;
+            }
+            double sum = b[r];
+            for (int c = r + 1; c < n; c++) {
+                sum -= a[r][c] * x[c];
+            }
+            x[r] = sum / a[r][r];
+        }
+        return x;
+    }
+
+    public double predict(double... x) {
+        double value = intercept;
+        for (int j = 0; j < coefficients.length; j++) {
+            value += coefficients[j] * x[j];
+        }
+        return value;
+    }
+
+    public double getIntercept() {
+        return intercept;
+    }
+
+    public double[] getCoefficients() {
+        return Arrays.copyOf(coefficients, coefficients.length);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Minimal reader for the JSON emitted by the profiler and by the feature
+ * extraction. Both dumps append one JSON object per execution (or per kernel)
+ * to the same file, so the reader accepts a sequence of top-level objects.
+ * Objects are returned as ordered maps, arrays as lists, and strings, numbers
+ * and literals as strings.
+ */
+public final class ProfileJsonReader {
+
+    private final String content;
+    private int position;
+
+    private ProfileJsonReader(String content) {
+        this.content = content;
+    }
+
+    /**
+     * Reads all top-level objects of the content.
+     *
+     * @throws TornadoRuntimeException
+     *     if an object is malformed.
+     */
+    public static List<Map<String, Object>> readObjects(String content) {
+        ProfileJsonReader reader = new ProfileJsonReader(content);
+        List<Map<String, Object>> objects = new ArrayList<>();
+        reader.skipWhitespace();
+        while (reader.position < content.length()) {
+            if (content.charAt(reader.position) == '{') {
+                objects.add(reader.readObject());
+            } else {
+                // Text printed between two JSON objects
+                reader.position++;
+            }
+            reader.skipWhitespace();
+        }
+        return objects;
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return object;
+            } else if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        expect('[');
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return array;
+            } else if (c != ',') {
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        return switch (peek()) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            default -> readLiteral();
+        };
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return value.toString();
+            } else if (c == '\\') {
+                char escaped = next();
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        if (position + 4 > content.length()) {
+                            throw error("Incomplete unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(content.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> value.append(escaped);
+                }
+            } else {
+                value.append(c);
+            }
+        }
+    }
+
+    private String readLiteral() {
+        int start = position;
+        while (position < content.length()) {
+            char c = content.charAt(position);
+            if (c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+            position++;
+        }
+        if (start == position) {
+            throw error("Expected a value");
+        }
+        return content.substring(start, position);
+    }
+
+    private void skipWhitespace() {
+        while (position < content.length() && Character.isWhitespace(content.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= content.length()) {
+            throw error("Unexpected end of input");
+        }
+        return content.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private TornadoRuntimeException error(String message) {
+        return new TornadoRuntimeException("[Cost Model] Malformed JSON at position " + position + ": " + message);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler.costmodel;
+
+/**
+ * Data transfers of one execution of a task graph measured by the profiler.
+ *
+ * @param device
+ *     Name of the device.
+ * @param copyInBytes
+ *     Bytes copied from the host to the device.
+ * @param copyInTimeNs
+ *     Time of the copies to the device in nanoseconds.
+ * @param copyOutBytes
+ *     Bytes copied from the device to the host.
+ * @param copyOutTimeNs
+ *     Time of the copies to the host in nanoseconds.
+ */
+public record TransferSample(String device, long copyInBytes, long copyInTimeNs, long copyOutBytes, long copyOutTimeNs) {
+}
@@ -31,12 +31,11 @@ import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getDebugContex
 import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getOptions;
 import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getTornadoExecutor;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -59,7 +58,6 @@ import org.graalvm.compiler.phases.util.Providers;
 
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.common.Access;
-import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
@@ -70,6 +68,8 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSketchTier;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoSketchTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
 
 public class TornadoSketcher {
 
@@ -86,11 +86,9 @@ public class TornadoSketcher {
             return false;
         }
 
-        synchronized (entries) {
-            for (TornadoSketcherCacheEntry entry : entries) {
-                if (entry.matchesDriverAndDevice(driverIndex, deviceIndex)) {
-                    return true;
-                }
+        for (TornadoSketcherCacheEntry entry : entries) {
+            if (entry.matchesDriverAndDevice(driverIndex, deviceIndex)) {
+                return true;
             }
         }
         return false;
@@ -101,12 +99,12 @@ public class TornadoSketcher {
         guarantee(cache.containsKey(resolvedMethod), "cache miss for: %s", resolvedMethod.getName());
         List<TornadoSketcherCacheEntry> entries = cache.get(resolvedMethod);
         try {
-            synchronized (entries) {
-                for (TornadoSketcherCacheEntry entry : entries) {
-                    if (entry.matchesDriverAndDevice(driverIndex, deviceIndex)) {
-                        sketch = entry.getSketchFuture().get();
-                        break;
-                    }
+            // The entries are a copy-on-write list, so the sketch is awaited without
+            // holding any lock. A virtual thread that waits for it can unmount.
+            for (TornadoSketcherCacheEntry entry : entries) {
+                if (entry.matchesDriverAndDevice(driverIndex, deviceIndex)) {
+                    sketch = entry.getSketchFuture().get();
+                    break;
                 }
             }
             guarantee(sketch != null, "No sketch available for %d:%d %s", driverIndex, deviceIndex, resolvedMethod.getName());
@@ -131,7 +129,7 @@ public class TornadoSketcher {
         if (cacheContainsSketch(request.resolvedMethod, request.driverIndex, request.deviceIndex)) {
             return;
         }
-        List<TornadoSketcherCacheEntry> sketches = cache.computeIfAbsent(request.resolvedMethod, k -> Collections.synchronizedList(new ArrayList<>(TornadoVMBackendType.values().length)));
+        List<TornadoSketcherCacheEntry> sketches = cache.computeIfAbsent(request.resolvedMethod, k -> new CopyOnWriteArrayList<>());
         Future<Sketch> result = getTornadoExecutor().submit(new TornadoSketcherCallable(request));
         sketches.add(new TornadoSketcherCacheEntry(request.driverIndex, request.deviceIndex, result));
     }
@@ -153,6 +151,7 @@ public class TornadoSketcher {
         }
 
         try (DebugContext.Scope ignored = getDebugContext().scope("Tornado-Sketcher", new DebugDumpScope("Tornado-Sketcher")); DebugCloseable ignored1 = Sketcher.start(getDebugContext())) {
+            final long start = RuntimeStageTimers.start();
             final TornadoSketchTierContext highTierContext = new TornadoSketchTierContext(providers, graphBuilderSuite, optimisticOpts, resolvedMethod, backendIndex, deviceIndex);
             if (graph.start().next() == null) {
                 graphBuilderSuite.apply(graph, highTierContext);
@@ -163,6 +162,8 @@ public class TornadoSketcher {
 
             sketchTier.apply(graph, highTierContext);
             graph.maybeCompress();
+            // The sketches of the callees are built by other tasks of the pool
+            RuntimeStageTimers.stop(Stage.SKETCHER, start);
 
             // Compile all non-inlined call-targets into a single compilation-unit
             graph.getInvokes() //
@@ -23,17 +23,34 @@
  */
 package uk.ac.manchester.tornado.runtime.tasks;
 
+import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
 import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
-import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 
 class ReduceFactory {
 
     private static final String ERROR_MESSAGE = "[ERROR] Reduce data type not supported yet: ";
 
+    /**
+     * Number of threads of the single work-group that runs the second stage of a
+     * reduction on the device. It must be a power of two.
+     */
+    static final int REDUCE_GROUP_SIZE = 256;
+
+    /**
+     * The second stage of the reduction can run as a work-group kernel only for
+     * the off-heap array types. Java primitive arrays keep the single-thread
+     * final reduction.
+     */
+    static boolean isSupportedOnDevice(Object reduceArray) {
+        return reduceArray instanceof IntArray || reduceArray instanceof FloatArray || reduceArray instanceof DoubleArray || reduceArray instanceof LongArray;
+    }
+
     private static void rAdd(int[] array, final int size) {
         int acc = array[0];
         for (int i = 1; i < size; i++) {
@@ -413,4 +430,364 @@ class ReduceFactory {
                 throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
         }
     }
+
+    private static void rAddGroup(KernelContext context, IntArray array, final int size, IntArray result) {
+        int localIdx = context.localIdx;
+        int[] localAcc = context.allocateIntLocalArray(REDUCE_GROUP_SIZE);
+        int acc = 0;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc += array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] += localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rAddGroup(KernelContext context, FloatArray array, final int size, FloatArray result) {
+        int localIdx = context.localIdx;
+        float[] localAcc = context.allocateFloatLocalArray(REDUCE_GROUP_SIZE);
+        float acc = 0.0f;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc += array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] += localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rAddGroup(KernelContext context, DoubleArray array, final int size, DoubleArray result) {
+        int localIdx = context.localIdx;
+        double[] localAcc = context.allocateDoubleLocalArray(REDUCE_GROUP_SIZE);
+        double acc = 0.0;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc += array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] += localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rAddGroup(KernelContext context, LongArray array, final int size, LongArray result) {
+        int localIdx = context.localIdx;
+        long[] localAcc = context.allocateLongLocalArray(REDUCE_GROUP_SIZE);
+        long acc = 0L;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc += array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] += localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMulGroup(KernelContext context, IntArray array, final int size, IntArray result) {
+        int localIdx = context.localIdx;
+        int[] localAcc = context.allocateIntLocalArray(REDUCE_GROUP_SIZE);
+        int acc = 1;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc *= array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] *= localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMulGroup(KernelContext context, FloatArray array, final int size, FloatArray result) {
+        int localIdx = context.localIdx;
+        float[] localAcc = context.allocateFloatLocalArray(REDUCE_GROUP_SIZE);
+        float acc = 1.0f;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc *= array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] *= localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMulGroup(KernelContext context, DoubleArray array, final int size, DoubleArray result) {
+        int localIdx = context.localIdx;
+        double[] localAcc = context.allocateDoubleLocalArray(REDUCE_GROUP_SIZE);
+        double acc = 1.0;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc *= array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] *= localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMulGroup(KernelContext context, LongArray array, final int size, LongArray result) {
+        int localIdx = context.localIdx;
+        long[] localAcc = context.allocateLongLocalArray(REDUCE_GROUP_SIZE);
+        long acc = 1L;
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc *= array.get(i);
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] *= localAcc[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMaxGroup(KernelContext context, IntArray array, final int size, IntArray result) {
+        int localIdx = context.localIdx;
+        int[] localAcc = context.allocateIntLocalArray(REDUCE_GROUP_SIZE);
+        int acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.max(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.max(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMaxGroup(KernelContext context, FloatArray array, final int size, FloatArray result) {
+        int localIdx = context.localIdx;
+        float[] localAcc = context.allocateFloatLocalArray(REDUCE_GROUP_SIZE);
+        float acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.max(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.max(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMaxGroup(KernelContext context, DoubleArray array, final int size, DoubleArray result) {
+        int localIdx = context.localIdx;
+        double[] localAcc = context.allocateDoubleLocalArray(REDUCE_GROUP_SIZE);
+        double acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.max(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.max(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMaxGroup(KernelContext context, LongArray array, final int size, LongArray result) {
+        int localIdx = context.localIdx;
+        long[] localAcc = context.allocateLongLocalArray(REDUCE_GROUP_SIZE);
+        long acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.max(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.max(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMinGroup(KernelContext context, IntArray array, final int size, IntArray result) {
+        int localIdx = context.localIdx;
+        int[] localAcc = context.allocateIntLocalArray(REDUCE_GROUP_SIZE);
+        int acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.min(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.min(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMinGroup(KernelContext context, FloatArray array, final int size, FloatArray result) {
+        int localIdx = context.localIdx;
+        float[] localAcc = context.allocateFloatLocalArray(REDUCE_GROUP_SIZE);
+        float acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.min(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.min(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMinGroup(KernelContext context, DoubleArray array, final int size, DoubleArray result) {
+        int localIdx = context.localIdx;
+        double[] localAcc = context.allocateDoubleLocalArray(REDUCE_GROUP_SIZE);
+        double acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.min(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.min(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    private static void rMinGroup(KernelContext context, LongArray array, final int size, LongArray result) {
+        int localIdx = context.localIdx;
+        long[] localAcc = context.allocateLongLocalArray(REDUCE_GROUP_SIZE);
+        long acc = array.get(0);
+        for (int i = localIdx; i < size; i += REDUCE_GROUP_SIZE) {
+            acc = TornadoMath.min(acc, array.get(i));
+        }
+        localAcc[localIdx] = acc;
+        for (int stride = REDUCE_GROUP_SIZE / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localAcc[localIdx] = TornadoMath.min(localAcc[localIdx], localAcc[localIdx + stride]);
+            }
+        }
+        if (localIdx == 0) {
+            array.set(0, localAcc[0]);
+            result.set(0, localAcc[0]);
+        }
+    }
+
+    static void handleAddOnDevice(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray) {
+            case IntArray intArray -> task.task(taskName, ReduceFactory::rAddGroup, new KernelContext(), intArray, sizeReduceArray, (IntArray) result);
+            case FloatArray floatArray -> task.task(taskName, ReduceFactory::rAddGroup, new KernelContext(), floatArray, sizeReduceArray, (FloatArray) result);
+            case DoubleArray doubleArray -> task.task(taskName, ReduceFactory::rAddGroup, new KernelContext(), doubleArray, sizeReduceArray, (DoubleArray) result);
+            case LongArray longArray -> task.task(taskName, ReduceFactory::rAddGroup, new KernelContext(), longArray, sizeReduceArray, (LongArray) result);
+            default -> throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleMulOnDevice(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray) {
+            case IntArray intArray -> task.task(taskName, ReduceFactory::rMulGroup, new KernelContext(), intArray, sizeReduceArray, (IntArray) result);
+            case FloatArray floatArray -> task.task(taskName, ReduceFactory::rMulGroup, new KernelContext(), floatArray, sizeReduceArray, (FloatArray) result);
+            case DoubleArray doubleArray -> task.task(taskName, ReduceFactory::rMulGroup, new KernelContext(), doubleArray, sizeReduceArray, (DoubleArray) result);
+            case LongArray longArray -> task.task(taskName, ReduceFactory::rMulGroup, new KernelContext(), longArray, sizeReduceArray, (LongArray) result);
+            default -> throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleMaxOnDevice(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray) {
+            case IntArray intArray -> task.task(taskName, ReduceFactory::rMaxGroup, new KernelContext(), intArray, sizeReduceArray, (IntArray) result);
+            case FloatArray floatArray -> task.task(taskName, ReduceFactory::rMaxGroup, new KernelContext(), floatArray, sizeReduceArray, (FloatArray) result);
+            case DoubleArray doubleArray -> task.task(taskName, ReduceFactory::rMaxGroup, new KernelContext(), doubleArray, sizeReduceArray, (DoubleArray) result);
+            case LongArray longArray -> task.task(taskName, ReduceFactory::rMaxGroup, new KernelContext(), longArray, sizeReduceArray, (LongArray) result);
+            default -> throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleMinOnDevice(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray) {
+            case IntArray intArray -> task.task(taskName, ReduceFactory::rMinGroup, new KernelContext(), intArray, sizeReduceArray, (IntArray) result);
+            case FloatArray floatArray -> task.task(taskName, ReduceFactory::rMinGroup, new KernelContext(), floatArray, sizeReduceArray, (FloatArray) result);
+            case DoubleArray doubleArray -> task.task(taskName, ReduceFactory::rMinGroup, new KernelContext(), doubleArray, sizeReduceArray, (DoubleArray) result);
+            case LongArray longArray -> task.task(taskName, ReduceFactory::rMinGroup, new KernelContext(), longArray, sizeReduceArray, (LongArray) result);
+            default -> throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
 }
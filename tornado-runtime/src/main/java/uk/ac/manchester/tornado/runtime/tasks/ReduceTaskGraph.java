@@ -41,11 +41,14 @@ import org.graalvm.compiler.nodes.StructuredGraph;
 
 import jdk.vm.ci.code.InstalledCode;
 import jdk.vm.ci.code.InvalidInstalledCodeException;
+import uk.ac.manchester.tornado.api.GridScheduler;
 import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
 import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
@@ -93,6 +96,13 @@ class ReduceTaskGraph {
     private List<HybridThreadMeta> hybridThreadMetas;
     private Map<Object, Object> neutralElementsNew = new HashMap<>();
     private Map<Object, Object> neutralElementsOriginal = new HashMap<>();
+    /**
+     * Partial-results arrays whose final reduction runs as a work-group kernel on
+     * the device. The value is the original reduce variable, which the kernel
+     * writes directly on the device.
+     */
+    private Map<Object, Object> deviceReducedVariables = new HashMap<>();
+    private GridScheduler finalReductionGridScheduler;
     private TaskGraph rewrittenTaskGraph;
     private Map<Object, List<Integer>> reduceOperandTable;
     private boolean hybridMode;
@@ -356,12 +366,39 @@ class ReduceTaskGraph {
             for (int i = 0; i < streamOutObjects.size(); i++) {
                 if (originalReduceVariables.containsKey(streamOutObjects.get(i))) {
                     Object newArray = originalReduceVariables.get(streamOutObjects.get(i));
-                    streamOutObjects.set(i, newArray);
+                    // If the reduction finishes on the device, only the final value is copied out
+                    if (!deviceReducedVariables.containsKey(newArray)) {
+                        streamOutObjects.set(i, newArray);
+                    }
                 }
             }
         }
     }
 
+    /**
+     * The final stage of a reduction runs on the device as a single work-group
+     * kernel when the target is a GPU or an accelerator and the reduce variable
+     * is an off-heap array. In this case, the result is written into the
+     * original reduce variable on the device, and the host does not need to
+     * copy-out the whole array of partial results nor to finish the reduction.
+     */
+    private boolean isFinalReductionOnDevice(int backendIndex, int deviceIndex, Object partialResults, int sizeReductionArray) {
+        if (!TornadoOptions.DEVICE_FINAL_REDUCTION || isAheadOfTime() || sizeReductionArray <= 1 || !ReduceFactory.isSupportedOnDevice(partialResults)) {
+            return false;
+        }
+        TornadoDeviceType deviceType = TornadoCoreRuntime.getTornadoRuntime().getBackend(backendIndex).getDevice(deviceIndex).getDeviceType();
+        return deviceType == TornadoDeviceType.GPU || deviceType == TornadoDeviceType.ACCELERATOR;
+    }
+
+    private void registerFinalReductionWorkerGrid(String fullTaskName) {
+        if (finalReductionGridScheduler == null) {
+            finalReductionGridScheduler = new GridScheduler();
+        }
+        WorkerGrid workerGrid = new WorkerGrid1D(ReduceFactory.REDUCE_GROUP_SIZE);
+        workerGrid.setLocalWork(ReduceFactory.REDUCE_GROUP_SIZE, 1, 1);
+        finalReductionGridScheduler.addWorkerGrid(fullTaskName, workerGrid);
+    }
+
     private boolean isDeviceAnAccelerator(final int deviceToRun) {
         TornadoDeviceType deviceType = TornadoRuntimeProvider.getTornadoRuntime().getBackend(0).getDevice(deviceToRun).getDeviceType();
         return (deviceType == TornadoDeviceType.ACCELERATOR);
@@ -490,6 +527,10 @@ class ReduceTaskGraph {
                     if (hybridMode) {
                         hostHybridVariables.put(newDeviceArray, hostHybridModeArray);
                     }
+
+                    if (hostHybridModeArray == null && isFinalReductionOnDevice(backendToRun, deviceToRun, newDeviceArray, sizeReductionArray)) {
+                        deviceReducedVariables.put(newDeviceArray, originalReduceArray);
+                    }
                 }
 
                 streamReduceTable.put(taskNumber, streamReduceList);
@@ -573,12 +614,24 @@ class ReduceTaskGraph {
                         TornadoRuntimeProvider.setProperty(fullName + ".device", backendToRun + ":" + deviceToRun);
                         inspectBinariesFPGA(taskScheduleReduceName, graphName, taskPackage.getId(), true);
 
-                        switch (operation) {
-                            case SUM -> ReduceFactory.handleAdd(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
-                            case MUL -> ReduceFactory.handleMul(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
-                            case MAX -> ReduceFactory.handleMax(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
-                            case MIN -> ReduceFactory.handleMin(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
-                            default -> throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
+                        if (deviceReducedVariables.containsKey(newArray)) {
+                            Object result = deviceReducedVariables.get(newArray);
+                            switch (operation) {
+                                case SUM -> ReduceFactory.handleAddOnDevice(newArray, result, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                case MUL -> ReduceFactory.handleMulOnDevice(newArray, result, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                case MAX -> ReduceFactory.handleMaxOnDevice(newArray, result, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                case MIN -> ReduceFactory.handleMinOnDevice(newArray, result, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                default -> throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
+                            }
+                            registerFinalReductionWorkerGrid(fullName);
+                        } else {
+                            switch (operation) {
+                                case SUM -> ReduceFactory.handleAdd(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                case MUL -> ReduceFactory.handleMul(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                case MAX -> ReduceFactory.handleMax(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                case MIN -> ReduceFactory.handleMin(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                                default -> throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
+                            }
                         }
 
                         if (hybridMode) {
@@ -598,6 +651,9 @@ class ReduceTaskGraph {
         TornadoTaskGraph.performStreamOutThreads(DataTransferMode.EVERY_EXECUTION, rewrittenTaskGraph, streamOutObjects);
         ImmutableTaskGraph immutableTaskGraph = rewrittenTaskGraph.snapshot();
         this.executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        if (finalReductionGridScheduler != null) {
+            executionPlan.withGridScheduler(finalReductionGridScheduler);
+        }
 
         executeExpression();
         counterName.incrementAndGet();
@@ -801,6 +857,11 @@ class ReduceTaskGraph {
         for (Entry<Object, Object> pair : originalReduceVariables.entrySet()) {
             Object originalReduceVariable = pair.getKey();
             Object newArray = pair.getValue();
+            if (deviceReducedVariables.containsKey(newArray)) {
+                // The final value was written by the device and copied-out with the
+                // rest of the outputs
+                continue;
+            }
             if (hostHybridVariables != null && hostHybridVariables.containsKey(newArray)) {
                 mergeHybridMode(originalReduceVariable, newArray);
             } else {
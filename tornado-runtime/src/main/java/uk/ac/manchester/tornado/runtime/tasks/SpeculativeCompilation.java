@@ -0,0 +1,351 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Speculative compilation of the first execution of a task graph.
+ *
+ * <p>
+ * The tasks are compiled for the device of the task graph in the background.
+ * At the same time, they are compiled for all the other devices, each one with
+ * a copy of the task graph, because the tasks of a graph share their
+ * meta-data. The first execution runs on the first device that has its code
+ * ready, or it runs the Java code of the tasks, which needs no compilation.
+ * The following executions wait for the device of the task graph, and the
+ * copies are then released. Freeing the device memory of the task graph also
+ * waits for the compilations and releases the copies.
+ * </p>
+ *
+ * <p>
+ * The copies send the inputs and copy the outputs back to the host in every
+ * execution. The inputs copied only in the first execution that the tasks
+ * write are also copied back, so the device of the task graph starts from the
+ * same state.
+ * </p>
+ */
+public class SpeculativeCompilation {
+
+    private static final AtomicInteger COUNTER_NAME = new AtomicInteger();
+    private static final AtomicLong FIRST_EXECUTIONS_JAVA = new AtomicLong();
+    private static final AtomicLong FIRST_EXECUTIONS_OTHER_DEVICE = new AtomicLong();
+
+    private static final ThreadFactory compilerThreadFactory = new ThreadFactory() {
+        private final AtomicInteger threadId = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, String.format("TornadoSpeculativeCompiler - %d", threadId.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
+    /**
+     * Compilations run on their own threads, because the compilation of a task
+     * waits for the sketcher threads of the runtime.
+     */
+    private static final ExecutorService COMPILER = Executors.newCachedThreadPool(compilerThreadFactory);
+
+    /**
+     * A device compiling the tasks. The execution plan is null for the device
+     * of the task graph.
+     */
+    private record Candidate(TornadoDevice device, TornadoExecutionPlan executionPlan) {
+    }
+
+    private final TornadoTaskGraph taskGraph;
+    private final List<TaskPackage> taskPackages;
+    private final List<StreamingObject> inputModesObjects;
+    private final List<StreamingObject> outputModeObjects;
+    private final Map<Object, Access> objectsAccesses;
+    private final GridScheduler gridScheduler;
+    private final boolean runJavaCode;
+    private final CompletableFuture<Candidate> firstReady;
+    private final AtomicInteger pendingCandidates;
+    private final List<CompletableFuture<TornadoExecutionPlan>> speculativePlans;
+    private final List<CompletableFuture<Void>> releases;
+    private CompletableFuture<Void> preferredCompilation;
+    private boolean migrated;
+
+    SpeculativeCompilation(TornadoTaskGraph taskGraph, List<TaskPackage> taskPackages, List<StreamingObject> inputModesObjects, List<StreamingObject> outputModeObjects,
+            Map<Object, Access> objectsAccesses, GridScheduler gridScheduler) {
+        this.taskGraph = taskGraph;
+        this.taskPackages = taskPackages;
+        this.inputModesObjects = inputModesObjects;
+        this.outputModeObjects = outputModeObjects;
+        this.objectsAccesses = objectsAccesses;
+        this.gridScheduler = gridScheduler;
+        this.runJavaCode = TornadoOptions.SPECULATIVE_COMPILATION_JAVA && !usesKernelContext();
+        this.firstReady = new CompletableFuture<>();
+        this.pendingCandidates = new AtomicInteger();
+        this.speculativePlans = new ArrayList<>();
+        this.releases = new ArrayList<>();
+    }
+
+    /**
+     * @return the number of first executions that ran the Java code of the
+     *     tasks.
+     */
+    public static long getFirstExecutionsWithJavaCode() {
+        return FIRST_EXECUTIONS_JAVA.get();
+    }
+
+    /**
+     * @return the number of first executions that ran a copy of the task graph
+     *     on another device.
+     */
+    public static long getFirstExecutionsOnOtherDevices() {
+        return FIRST_EXECUTIONS_OTHER_DEVICE.get();
+    }
+
+    private boolean usesKernelContext() {
+        for (TaskPackage taskPackage : taskPackages) {
+            for (Object parameter : taskPackage.getTaskParameters()) {
+                if (parameter instanceof KernelContext) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts the compilation for all the devices. When the Java code of the
+     * tasks can run the first execution, only the device of the task graph is
+     * compiled, because the Java code is always ready first.
+     */
+    void start(ExecutorFrame executorFrame) {
+        TornadoDevice preferredDevice = taskGraph.getDevice();
+        List<TornadoDevice> devices = runJavaCode ? Collections.emptyList() : getOtherDevices(preferredDevice);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (TornadoDevice device : devices) {
+            try {
+                candidates.add(new Candidate(device, createSpeculativePlan(device)));
+            } catch (TornadoRuntimeException e) {
+                new TornadoLogger().debug("[Speculative Compilation] task graph %s not created for device %s: %s", taskGraph.getTaskGraphName(), device, e.getMessage());
+            }
+        }
+
+        pendingCandidates.set(candidates.size() + 1);
+        preferredCompilation = compile(new Candidate(preferredDevice, null), () -> taskGraph.withPreCompilation(executorFrame));
+        for (Candidate candidate : candidates) {
+            TornadoExecutionPlan executionPlan = candidate.executionPlan();
+            speculativePlans.add(compile(candidate, executionPlan::withPreCompilation).handle((ignored, error) -> executionPlan));
+        }
+    }
+
+    private static List<TornadoDevice> getOtherDevices(TornadoDevice preferredDevice) {
+        List<TornadoDevice> devices = new ArrayList<>();
+        TornadoCoreRuntime runtime = TornadoCoreRuntime.getTornadoRuntime();
+        for (int backendIndex = 0; backendIndex < runtime.getNumBackends(); backendIndex++) {
+            TornadoBackend backend = runtime.getBackend(backendIndex);
+            for (int deviceIndex = 0; deviceIndex < backend.getNumDevices(); deviceIndex++) {
+                TornadoDevice device = backend.getDevice(deviceIndex);
+                // FPGAs compile ahead of time, so they can never be ready first
+                if (!device.equals(preferredDevice) && !device.getDeviceContext().isPlatformFPGA()) {
+                    devices.add(device);
+                }
+            }
+        }
+        return devices;
+    }
+
+    private TornadoExecutionPlan createSpeculativePlan(TornadoDevice device) {
+        String name = TornadoTaskGraph.GENERATED_TASK_GRAPH_PREFIX + "speculative" + COUNTER_NAME.getAndIncrement();
+        TaskGraph speculativeTaskGraph = new TaskGraph(name);
+
+        Set<Object> outputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> objectsToHost = new ArrayList<>();
+        for (StreamingObject outputObject : outputModeObjects) {
+            if (outputs.add(outputObject.getObject())) {
+                objectsToHost.add(outputObject.getObject());
+            }
+        }
+        for (StreamingObject inputObject : inputModesObjects) {
+            Object object = inputObject.getObject();
+            speculativeTaskGraph.transferToDevice(inputObject.getMode(), object);
+            if (inputObject.getMode() == DataTransferMode.FIRST_EXECUTION && isWritten(object) && outputs.add(object)) {
+                objectsToHost.add(object);
+            }
+        }
+        for (TaskPackage taskPackage : taskPackages) {
+            speculativeTaskGraph.addTask(taskPackage);
+        }
+        speculativeTaskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, objectsToHost.toArray());
+
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(speculativeTaskGraph.snapshot());
+        executionPlan.withDevice(device);
+        if (gridScheduler != null) {
+            executionPlan.withGridScheduler(renameWorkerGrids(name));
+        }
+        return executionPlan;
+    }
+
+    private boolean isWritten(Object object) {
+        Access access = objectsAccesses.get(object);
+        return access == Access.WRITE_ONLY || access == Access.READ_WRITE;
+    }
+
+    private GridScheduler renameWorkerGrids(String name) {
+        String prefix = taskGraph.getTaskGraphName() + ".";
+        GridScheduler renamed = new GridScheduler();
+        for (String taskName : gridScheduler.keySet()) {
+            if (taskName.startsWith(prefix)) {
+                renamed.addWorkerGrid(name + "." + taskName.substring(prefix.length()), gridScheduler.get(taskName));
+            }
+        }
+        return renamed;
+    }
+
+    private CompletableFuture<Void> compile(Candidate candidate, Runnable compilation) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(compilation, COMPILER);
+        future.whenComplete((ignored, error) -> {
+            if (error == null) {
+                firstReady.complete(candidate);
+            } else {
+                new TornadoLogger().debug("[Speculative Compilation] task graph %s not compiled for device %s: %s", taskGraph.getTaskGraphName(), candidate.device(), error.getMessage());
+                if (pendingCandidates.decrementAndGet() == 0) {
+                    firstReady.completeExceptionally(error);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Runs the first execution of the task graph with the Java code of the
+     * tasks, or with the copy of the task graph compiled first.
+     *
+     * @return true if the execution was done. It returns false when the device
+     *     of the task graph was ready first, or when no device could run the
+     *     tasks, and then the task graph runs as usual.
+     */
+    boolean runFirstExecution() {
+        if (runJavaCode) {
+            taskGraph.executeSequential();
+            FIRST_EXECUTIONS_JAVA.incrementAndGet();
+            return true;
+        }
+
+        Candidate candidate;
+        try {
+            candidate = firstReady.join();
+        } catch (CompletionException e) {
+            return false;
+        }
+        if (candidate.executionPlan() == null) {
+            return false;
+        }
+
+        try {
+            candidate.executionPlan().execute();
+            FIRST_EXECUTIONS_OTHER_DEVICE.incrementAndGet();
+            new TornadoLogger().debug("[Speculative Compilation] first execution of task graph %s on device %s", taskGraph.getTaskGraphName(), candidate.device());
+            return true;
+        } catch (TornadoRuntimeException e) {
+            new TornadoLogger().debug("[Speculative Compilation] task graph %s failed on device %s: %s", taskGraph.getTaskGraphName(), candidate.device(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Waits for the code of the device of the task graph, and releases the
+     * copies of the task graph once their compilation finishes, whether it
+     * succeeded or not. It does nothing after the first call.
+     */
+    void migrateToPreferredDevice() {
+        if (migrated) {
+            return;
+        }
+        migrated = true;
+        try {
+            preferredCompilation.join();
+        } catch (CompletionException e) {
+            // The task graph compiles again, and bails out if needed, in the next execution
+            new TornadoLogger().debug("[Speculative Compilation] task graph %s not precompiled: %s", taskGraph.getTaskGraphName(), e.getMessage());
+        }
+        for (CompletableFuture<TornadoExecutionPlan> speculativePlan : speculativePlans) {
+            releases.add(speculativePlan.thenAcceptAsync(SpeculativeCompilation::release, COMPILER));
+        }
+    }
+
+    boolean isMigrated() {
+        return migrated;
+    }
+
+    /**
+     * Waits for all the compilations and for the release of the copies of the
+     * task graph, so that no background thread uses the task graph or the
+     * devices once its memory is freed.
+     */
+    void close() {
+        migrateToPreferredDevice();
+        for (CompletableFuture<Void> release : releases) {
+            try {
+                release.join();
+            } catch (CompletionException e) {
+                new TornadoLogger().debug("[Speculative Compilation] device memory not released: %s", e.getMessage());
+            }
+        }
+    }
+
+    private static void release(TornadoExecutionPlan executionPlan) {
+        try {
+            executionPlan.close();
+        } catch (TornadoExecutionPlanException e) {
+            new TornadoLogger().debug("[Speculative Compilation] device memory not released: %s", e.getMessage());
+        }
+    }
+}
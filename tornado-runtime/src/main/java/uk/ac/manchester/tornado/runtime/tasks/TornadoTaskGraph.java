@@ -40,12 +40,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -87,6 +90,7 @@ import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.memory.XPUBuffer;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
@@ -96,12 +100,14 @@ import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.TornadoVM;
 import uk.ac.manchester.tornado.runtime.analyzer.MetaReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.TaskUtils;
 import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
+import uk.ac.manchester.tornado.runtime.common.DeviceMemoryEvictionManager;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
@@ -111,10 +117,14 @@ import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSuitesProvider;
 import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 import uk.ac.manchester.tornado.runtime.graph.TornadoGraph;
-import uk.ac.manchester.tornado.runtime.graph.TornadoGraphBuilder;
+import uk.ac.manchester.tornado.runtime.graph.TornadoGraphCache;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeBuilder;
 import uk.ac.manchester.tornado.runtime.profiler.EmptyProfiler;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerLogWriter;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers;
+import uk.ac.manchester.tornado.runtime.profiler.RuntimeStageTimers.Stage;
 import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.KernelCostModel;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.SketchRequest;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
@@ -138,6 +148,10 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private static final CompileInfo NOT_COMPILE_UPDATE = new CompileInfo(false, false);
     private MetaReduceCodeAnalysis analysisTaskGraph;
     private TornadoExecutionContext executionContext;
+    // CONTEXT, ARG_LIST and LAUNCH bitcodes of a task, and LOAD_* of each argument
+    private static final int HIGH_LEVEL_TASK_SIZE = 15;
+    private static final int HIGH_LEVEL_ARGUMENT_SIZE = 5;
+
     private byte[] highLevelCode = new byte[8192];
     private ByteBuffer hlBuffer;
     private TornadoVMBytecodeBuilder bytecodeBuilder;
@@ -149,6 +163,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private TornadoVM vm;
     // HashMap to keep an instance of the TornadoVM per Device
     private Map<TornadoXPUDevice, TornadoVM> vmTable;
+    private final TornadoGraphCache graphCache = new TornadoGraphCache();
     private Event event;
     private String taskGraphName;
     private List<TaskPackage> taskPackages;
@@ -159,7 +174,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private Set<Object> argumentsLookUp;
     private List<StreamingObject> inputModesObjects; // List of objects with its data transfer mode (IN)
     private List<StreamingObject> outputModeObjects; // List of objects with its data transfer mode (OUT)
+    private List<PrefixOutput> prefixOutputs; // Outputs copied out up to the count produced by the tasks
     private StringBuilder bufferLogProfiler = new StringBuilder();
+    private final StringBuilder profilerRecord = new StringBuilder();
+    // Writer of the profiler dump, resolved on the first execution
+    private ProfilerLogWriter profilerLogWriter;
     private Graph compilationGraph;
     /**
      * Options for new reductions - experimental.
@@ -171,11 +190,21 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private boolean updateData;
     private boolean isFinished;
     private GridScheduler gridScheduler;
+
+    /**
+     * Worker grids of the task packages, for example the stages of the
+     * primitives. The grid scheduler of the execution plan has priority over
+     * them.
+     */
+    private GridScheduler taskWorkerGrids;
     private ProfilerMode profilerMode;
     private boolean isConcurrentDevicesEnabled;
     private long executionPlanId;
     private boolean bailout;
     private Access[] accesses;
+    private SpeculativeCompilation speculativeCompilation;
+    // Buffers of this task-graph replaced by the buffers of the resident inputs in the current execution
+    private final Map<XPUDeviceBufferState, XPUBuffer> residentInputBuffers = new IdentityHashMap<>();
 
     /**
      * Task Schedule implementation that uses GPU/FPGA and multicore backends. This constructor must be public. It is invoked using the reflection API.
@@ -198,6 +227,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         streamInObjects = new ArrayList<>();
         inputModesObjects = new ArrayList<>();
         outputModeObjects = new ArrayList<>();
+        prefixOutputs = new ArrayList<>();
         taskToPersistentObjectMap = new HashMap<>();
     }
 
@@ -303,6 +333,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         newTaskGraph.inputModesObjects = Collections.unmodifiableList(this.inputModesObjects);
         newTaskGraph.streamInObjects = Collections.unmodifiableList(this.streamInObjects);
         newTaskGraph.outputModeObjects = Collections.unmodifiableList(this.outputModeObjects);
+        newTaskGraph.prefixOutputs = Collections.unmodifiableList(this.prefixOutputs);
         newTaskGraph.taskToPersistentObjectMap = Collections.unmodifiableMap(this.taskToPersistentObjectMap);
 
         newTaskGraph.lastExecutedTaskGraph = this.lastExecutedTaskGraph;
@@ -321,6 +352,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
         newTaskGraph.timeProfiler = this.timeProfiler;
         newTaskGraph.gridScheduler = this.gridScheduler;
+        newTaskGraph.taskWorkerGrids = this.taskWorkerGrids;
 
         // Pass the profiler to the execution context
         newTaskGraph.executionContext.withProfiler(timeProfiler);
@@ -385,10 +417,26 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void withGridScheduler(GridScheduler gridScheduler) {
-        this.gridScheduler = gridScheduler;
+        this.gridScheduler = mergeTaskWorkerGrids(gridScheduler);
         checkGridSchedulerNames();
     }
 
+    private GridScheduler mergeTaskWorkerGrids(GridScheduler gridScheduler) {
+        if (taskWorkerGrids == null) {
+            return gridScheduler;
+        }
+        GridScheduler merged = new GridScheduler();
+        for (String taskName : taskWorkerGrids.keySet()) {
+            merged.addWorkerGrid(taskName, taskWorkerGrids.get(taskName));
+        }
+        if (gridScheduler != null) {
+            for (String taskName : gridScheduler.keySet()) {
+                merged.addWorkerGrid(taskName, gridScheduler.get(taskName));
+            }
+        }
+        return merged;
+    }
+
     @Override
     public long getCurrentDeviceMemoryUsage() {
         return executionContext.getCurrentDeviceMemoryUsage();
@@ -399,6 +447,41 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return executionContext.getPersistedTaskToObjectsMap();
     }
 
+    @Override
+    public Map<Object, Integer> getInputTransferModes() {
+        Map<Object, Integer> transferModes = new LinkedHashMap<>();
+        inputModesObjects.forEach(streamingObject -> transferModes.put(streamingObject.getObject(), streamingObject.getMode()));
+        return transferModes;
+    }
+
+    @Override
+    public Map<Object, Integer> getOutputTransferModes() {
+        Map<Object, Integer> transferModes = new LinkedHashMap<>();
+        outputModeObjects.forEach(streamingObject -> transferModes.put(streamingObject.getObject(), streamingObject.getMode()));
+        return transferModes;
+    }
+
+    @Override
+    public void logWarnings(List<String> warnings) {
+        if (TornadoOptions.PLAN_RESIDENCY_WARNINGS) {
+            Logger logger = Logger.getLogger(TornadoTaskGraph.class.getName());
+            warnings.forEach(warning -> logger.warning("[TornadoVM] Warning: " + warning));
+        }
+    }
+
+    @Override
+    public void logInfo(String message) {
+        new TornadoLogger(TornadoTaskGraph.class).info(message);
+    }
+
+    @Override
+    public void invalidateDeviceBuffers() {
+        TornadoDevice device = meta().getXPUDevice();
+        for (LocalObjectState localState : executionContext.getObjectStates()) {
+            localState.getDataObjectState().getDeviceBufferState(device).setContents(false);
+        }
+    }
+
     @Override
     public void withCompilerFlags(TornadoVMBackendType backendType, String compilerFlags) {
         executionContext.meta().setCompilerFlags(backendType, compilerFlags);
@@ -490,6 +573,26 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return getProfilerValue(ALLOCATION_BYTES);
     }
 
+    @Override
+    public long getNumEvictions() {
+        return getProfilerValue(ProfilerType.EVICTIONS);
+    }
+
+    @Override
+    public long getTotalBytesEvicted() {
+        return getProfilerValue(ProfilerType.EVICTED_BYTES);
+    }
+
+    @Override
+    public long getTotalBytesRematerialized() {
+        return getProfilerValue(ProfilerType.REMATERIALIZED_BYTES);
+    }
+
+    @Override
+    public long getNumSkippedKernelArguments() {
+        return getProfilerValue(ProfilerType.SKIPPED_KERNEL_ARGUMENTS);
+    }
+
     @Override
     public SchedulableTask getTask(String id) {
         return executionContext.getTask(id);
@@ -596,22 +699,74 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    @Override
+    public void withResidencyHints(Map<Object, TornadoTaskGraphInterface> residentInputs, Set<Object> deadCopyOuts) {
+        if (!TornadoOptions.PLAN_RESIDENCY || !hasFullTransfers() || (speculativeCompilation != null && !speculativeCompilation.isMigrated())) {
+            return;
+        }
+        final TornadoXPUDevice device = meta().getXPUDevice();
+        Set<Object> sharedInputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        residentInputs.forEach((object, taskGraphSrc) -> {
+            TornadoTaskGraph graphSrc = (TornadoTaskGraph) taskGraphSrc;
+            XPUDeviceBufferState deviceStateSrc = graphSrc.getResidentBufferState(object, device);
+            // The tasks of this graph may modify the buffer of the source, which is only safe if the source copies it in again
+            boolean isReadOnly = executionContext.getObjectsAccesses().get(object) == Access.READ_ONLY;
+            if (deviceStateSrc != null && (isReadOnly || graphSrc.isCopiedInEveryExecution(object))) {
+                XPUDeviceBufferState deviceStateDest = executionContext.getLocalStateObject(object, getObjectAccess(object)).getDataObjectState().getDeviceBufferState(device);
+                residentInputBuffers.put(deviceStateDest, deviceStateDest.getXPUBuffer());
+                deviceStateDest.setXPUBuffer(deviceStateSrc.getXPUBuffer());
+                sharedInputs.add(object);
+            }
+        });
+        executionContext.setResidencyHints(sharedInputs, deadCopyOuts);
+    }
+
+    @Override
+    public void withoutResidencyHints() {
+        residentInputBuffers.forEach(XPUDeviceBufferState::setXPUBuffer);
+        residentInputBuffers.clear();
+        executionContext.clearResidencyHints();
+    }
+
+    /**
+     * Checks that the task-graph copies whole objects, without batches or
+     * prefixes, so the host copy of an object is the content of its buffer.
+     */
+    private boolean hasFullTransfers() {
+        return batchSizeBytes == TornadoExecutionContext.INIT_VALUE && prefixOutputs.isEmpty();
+    }
+
+    private boolean isCopiedInEveryExecution(Object object) {
+        return inputModesObjects.stream().anyMatch(inputObject -> inputObject.getObject() == object && inputObject.getMode() == DataTransferMode.EVERY_EXECUTION);
+    }
+
+    /**
+     * Buffer of an object that stays on the given device after the execution of
+     * this task-graph, or null if the buffer is released, evicted or on another
+     * device.
+     */
+    private XPUDeviceBufferState getResidentBufferState(Object object, TornadoXPUDevice device) {
+        if (!device.equals(meta().getXPUDevice()) || !hasFullTransfers()) {
+            return null;
+        }
+        XPUDeviceBufferState deviceState = executionContext.getLocalStateObject(object, getObjectAccess(object)).getDataObjectState().getDeviceBufferState(device);
+        return deviceState.hasObjectBuffer() && deviceState.isLockedBuffer() && !isEvicted(deviceState) ? deviceState : null;
+    }
+
     @Override
     public void setDevice(String taskName, TornadoDevice device) {
 
         TornadoDevice oldDevice = meta().getXPUDevice();
 
         // Make sure that a sketch is available for the device.
-        for (int i = 0; i < executionContext.getTaskCount(); i++) {
-            SchedulableTask task = executionContext.getTask(i);
-            String name = task.getId();
-            if (name.equals(taskName)) {
-                task.meta().setDevice(device);
-                if (task instanceof CompilableTask) {
-                    ResolvedJavaMethod method = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(((CompilableTask) task).getMethod());
-                    if (!task.getDevice().getDeviceContext().isCached(executionPlanId, method.getName(), task)) {
-                        updateInner(i, task);
-                    }
+        int taskIndex = executionContext.getTaskIndex(taskName);
+        if (taskIndex != -1) {
+            SchedulableTask task = executionContext.getTask(taskIndex);
+            task.meta().setDevice(device);
+            if (task instanceof CompilableTask) {
+                ResolvedJavaMethod method = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(((CompilableTask) task).getMethod());
+                if (!task.getDevice().getDeviceContext().isCached(executionPlanId, method.getName(), task)) {
+                    updateInner(taskIndex, task);
                 }
             }
         }
@@ -680,13 +835,14 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
 
         // Prepare Initial Graph before the TornadoVM bytecode generation
+        final Object[] args = task.getArguments();
+        reserveHighLevelCode(HIGH_LEVEL_TASK_SIZE + args.length * HIGH_LEVEL_ARGUMENT_SIZE);
         hlBuffer.put(TornadoGraphBitcodes.CONTEXT.index());
         int globalTaskId = executionContext.getTaskCountAndIncrement();
         hlBuffer.putInt(globalTaskId);
         hlBuffer.putInt(index);
 
         // create parameter list
-        final Object[] args = task.getArguments();
         hlBuffer.put(TornadoGraphBitcodes.ARG_LIST.index());
         hlBuffer.putInt(args.length);
         int i = 0;
@@ -706,6 +862,24 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         hlBuffer.put(TornadoGraphBitcodes.LAUNCH.index());
     }
 
+    /**
+     * It makes room in the high-level bitcode buffer for the next task. The
+     * buffer doubles its size when the task does not fit, so the number of tasks
+     * of a task-graph is not limited by the initial size.
+     *
+     * @param numBytes
+     *     The size of the bitcodes of the task in bytes.
+     */
+    private void reserveHighLevelCode(int numBytes) {
+        if (hlBuffer.remaining() < numBytes) {
+            final int position = hlBuffer.position();
+            highLevelCode = Arrays.copyOf(highLevelCode, Math.max(highLevelCode.length * 2, position + numBytes));
+            hlBuffer = ByteBuffer.wrap(highLevelCode);
+            hlBuffer.order(ByteOrder.LITTLE_ENDIAN);
+            hlBuffer.position(position);
+        }
+    }
+
     private void logTaskMethodHandle(SchedulableTask task) {
         if ((task.getTaskName() != null) && (task.getId() != null)) {
             String methodName = (task instanceof PrebuiltTask prebuiltTask)
@@ -731,7 +905,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         buffer.order(ByteOrder.LITTLE_ENDIAN);
         buffer.limit(hlBuffer.position());
 
-        final TornadoGraph tornadoGraph = TornadoGraphBuilder.buildGraph(executionContext, buffer);
+        final long start = RuntimeStageTimers.start();
+        final TornadoGraph tornadoGraph = graphCache.buildGraph(executionContext, buffer);
+        RuntimeStageTimers.stop(Stage.GRAPH_BUILDER, start);
 
         if (setNewDevice) {
             // setNewDevice does not need to propagate any further as executionContext is
@@ -882,8 +1058,17 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
 
         if (!TornadoOptions.PROFILER_DIRECTORY.isEmpty()) {
-            String jsonFile = timeProfiler.createJson(new StringBuilder(), this.getId());
-            RuntimeUtilities.profilerFileWriter(jsonFile);
+            // One-line record, built in a buffer reused across executions
+            profilerRecord.setLength(0);
+            timeProfiler.writeJson(profilerRecord, this.getId(), true);
+            if (profilerLogWriter == null) {
+                profilerLogWriter = ProfilerLogWriter.getInstance(TornadoOptions.PROFILER_DIRECTORY);
+            }
+            profilerLogWriter.append(profilerRecord);
+        }
+
+        if (TornadoOptions.COST_MODEL && timeProfiler instanceof TimeProfiler profiler) {
+            KernelCostModel.getInstance().addProfile(profiler);
         }
     }
 
@@ -913,6 +1098,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
         try {
             event = vm.execute(isConcurrentDevicesEnabled, timeProfiler);
+            transferPrefixOutputsToHost();
             timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
             updateProfiler();
         } catch (TornadoBailoutRuntimeException e) {
@@ -1104,6 +1290,35 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    @Override
+    public void transferToHostPrefix(IntArray count, TornadoNativeArray... outputs) {
+        transferToHost(DataTransferMode.EVERY_EXECUTION, count);
+        // The runtime copies the outputs after the count, so they are handled as under demand
+        transferToHost(DataTransferMode.UNDER_DEMAND, (Object[]) outputs);
+        for (TornadoNativeArray output : outputs) {
+            prefixOutputs.add(new PrefixOutput(count, output));
+        }
+    }
+
+    /**
+     * Copies out the first elements of the outputs tagged with
+     * {@link #transferToHostPrefix}, once the count arrays are on the host.
+     */
+    private void transferPrefixOutputsToHost() {
+        for (PrefixOutput prefixOutput : prefixOutputs) {
+            TornadoNativeArray output = prefixOutput.output();
+            long numElements = Math.min(Math.max(prefixOutput.count().get(0), 0), output.getSize());
+            if (numElements == 0) {
+                continue;
+            }
+            long numBytes = numElements * output.getElementSize();
+            syncParameter(output, TornadoNativeArray.ARRAY_HEADER, numBytes);
+            if (TornadoOptions.isProfilerEnabled()) {
+                timeProfiler.addValueToMetric(TOTAL_COPY_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, numBytes);
+            }
+        }
+    }
+
     @Override
     public void dump() {
         final int width = 16;
@@ -1195,6 +1410,10 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void freeDeviceMemory() {
+        if (speculativeCompilation != null) {
+            speculativeCompilation.close();
+            speculativeCompilation = null;
+        }
         free();
     }
 
@@ -1238,7 +1457,13 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         final XPUDeviceBufferState deviceBufferState = dataObjectState.getDeviceBufferState(device);
         deviceBufferState.setLockBuffer(false);
         if (deviceBufferState.hasObjectBuffer()) {
-            device.deallocate(deviceBufferState);
+            if (DeviceMemoryEvictionManager.getInstance().unregister(deviceBufferState.getXPUBuffer())) {
+                // The buffer was evicted, so it does not hold device memory
+                deviceBufferState.setContents(false);
+                deviceBufferState.setXPUBuffer(null);
+            } else {
+                device.deallocate(deviceBufferState);
+            }
         }
     }
 
@@ -1254,13 +1479,21 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         updateProfiler();
     }
 
+    /**
+     * The host copy of an evicted buffer is up to date (modified buffers are copied
+     * back when they are evicted), so there is nothing to copy.
+     */
+    private boolean isEvicted(XPUDeviceBufferState deviceState) {
+        return deviceState.hasObjectBuffer() && DeviceMemoryEvictionManager.getInstance().isEvicted(deviceState.getXPUBuffer());
+    }
+
     private Event syncObjectInner(Object object) {
         Access objectAccess = getObjectAccess(object);
         final LocalObjectState localState = executionContext.getLocalStateObject(object, objectAccess);
         final DataObjectState dataObjectState = localState.getDataObjectState();
         final TornadoXPUDevice device = meta().getXPUDevice();
         final XPUDeviceBufferState deviceState = dataObjectState.getDeviceBufferState(device);
-        if (deviceState.isLockedBuffer()) {
+        if (deviceState.isLockedBuffer() && !isEvicted(deviceState)) {
             return device.resolveEvent(executionPlanId, device.streamOutBlocking(executionPlanId, object, 0, deviceState, null));
         }
         return null;
@@ -1273,10 +1506,13 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         final TornadoXPUDevice device = meta().getXPUDevice();
         final XPUDeviceBufferState deviceState = dataObjectState.getDeviceBufferState(device);
         deviceState.setPartialCopySize(partialCopySize);
-        if (deviceState.isLockedBuffer()) {
-            return device.resolveEvent(executionPlanId, device.streamOutBlocking(executionPlanId, object, offset, deviceState, null));
+        Event event = null;
+        if (deviceState.isLockedBuffer() && !isEvicted(deviceState)) {
+            event = device.resolveEvent(executionPlanId, device.streamOutBlocking(executionPlanId, object, offset, deviceState, null));
         }
-        return null;
+        // The partial size only applies to this copy, the next ones copy the whole buffer
+        deviceState.setPartialCopySize(0);
+        return event;
     }
 
     private Event syncObjectInnerLazy(Object object, long hostOffset, long bufferSize) {
@@ -1285,7 +1521,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         final DataObjectState dataObjectState = localState.getDataObjectState();
         final TornadoXPUDevice device = meta().getXPUDevice();
         final XPUDeviceBufferState deviceBufferState = dataObjectState.getDeviceBufferState(device);
-        if (deviceBufferState.isLockedBuffer()) {
+        if (deviceBufferState.isLockedBuffer() && !isEvicted(deviceBufferState)) {
             deviceBufferState.getXPUBuffer().setSizeSubRegion(bufferSize);
             return device.resolveEvent(executionPlanId, device.streamOutBlocking(executionPlanId, object, hostOffset, deviceBufferState, null));
         }
@@ -1594,10 +1830,70 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     public TornadoTaskGraphInterface execute(ExecutorFrame executorFrame) {
         executionPlanId = executorFrame.getExecutionPlanId();
         checkProfilerOn(executorFrame);
+        if (speculativeCompilation != null) {
+            speculativeCompilation.migrateToPreferredDevice();
+        } else if (vm == null && isSpeculativeCompilationEnabled(executorFrame)) {
+            speculativeCompilation = new SpeculativeCompilation(this, taskPackages, inputModesObjects, outputModeObjects, executionContext.getObjectsAccesses(), gridScheduler);
+            speculativeCompilation.start(executorFrame);
+            if (speculativeCompilation.runFirstExecution()) {
+                isFinished = true;
+                return this;
+            }
+            speculativeCompilation.migrateToPreferredDevice();
+        }
         return execute();
 
     }
 
+    /**
+     * The speculative compilation only runs task graphs whose first execution
+     * can move to another device: all the tasks on the same device, no batches,
+     * reductions, prebuilt tasks, persisted objects or partial copies, and no
+     * profiler, because the first execution is not recorded.
+     */
+    private boolean isSpeculativeCompilationEnabled(ExecutorFrame executorFrame) {
+        if (!TornadoOptions.SPECULATIVE_COMPILATION || bailout || isConcurrentDevicesEnabled || getId().startsWith(GENERATED_TASK_GRAPH_PREFIX)) {
+            return false;
+        }
+        if (executorFrame.getProfilerMode() != null || batchSizeBytes != -1 || !prefixOutputs.isEmpty() || !executionContext.getPersistedObjects().isEmpty()) {
+            return false;
+        }
+        TornadoDevice device = getDevice();
+        if (device.getDeviceContext().isPlatformFPGA()) {
+            return false;
+        }
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (!device.equals(task.getDevice())) {
+                return false;
+            }
+        }
+        for (TaskPackage taskPackage : taskPackages) {
+            if (taskPackage.isPrebuiltTask()) {
+                return false;
+            }
+        }
+        for (StreamingObject inputObject : inputModesObjects) {
+            if (inputObject.getMode() == DataTransferMode.UNDER_DEMAND) {
+                return false;
+            }
+        }
+        for (StreamingObject outputObject : outputModeObjects) {
+            if (outputObject.getMode() == DataTransferMode.UNDER_DEMAND) {
+                return false;
+            }
+        }
+        if (TornadoOptions.EXPERIMENTAL_REDUCE) {
+            MetaReduceCodeAnalysis analysis = ReduceCodeAnalysis.analyzeTaskGraph(taskPackages);
+            return analysis == null || !analysis.isValid();
+        }
+        return true;
+    }
+
+    @Override
+    public void executeSequential() {
+        runAllTasksJavaSequential();
+    }
+
     private boolean isTaskNamePresent(String taskName) {
         for (TaskPackage taskPackage : taskPackages) {
             if (taskName.equals(taskGraphName + "." + taskPackage.getId())) {
@@ -1744,6 +2040,13 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     public void addTask(TaskPackage taskPackage) {
         taskPackages.add(taskPackage);
         String id = taskPackage.getId();
+        if (taskPackage.getWorkerGrid() != null) {
+            if (taskWorkerGrids == null) {
+                taskWorkerGrids = new GridScheduler();
+            }
+            taskWorkerGrids.addWorkerGrid(taskGraphName + "." + id, taskPackage.getWorkerGrid());
+            gridScheduler = mergeTaskWorkerGrids(gridScheduler);
+        }
         int type = taskPackage.getTaskType();
         Object[] parameters = taskPackage.getTaskParameters();
 
@@ -1871,6 +2174,10 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             case TOTAL_COPY_IN_SIZE_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalBytesCopyIn();
             case TOTAL_COPY_OUT_SIZE_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalBytesCopyOut();
             case ALLOCATION_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalDeviceMemoryUsage();
+            case EVICTIONS -> reduceTaskGraph.getExecutionResult().getProfilerResult().getNumEvictions();
+            case EVICTED_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalBytesEvicted();
+            case REMATERIALIZED_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalBytesRematerialized();
+            case SKIPPED_KERNEL_ARGUMENTS -> reduceTaskGraph.getExecutionResult().getProfilerResult().getNumSkippedKernelArguments();
             default -> 0L;
         };
     }
@@ -1888,6 +2195,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             case TOTAL_COPY_IN_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES);
             case TOTAL_COPY_OUT_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES);
             case ALLOCATION_BYTES -> timeProfiler.getSize(ProfilerType.ALLOCATION_BYTES);
+            case EVICTIONS, EVICTED_BYTES, REMATERIALIZED_BYTES, SKIPPED_KERNEL_ARGUMENTS -> timeProfiler.getSize(profilerType);
             default -> 0L;
         };
     }
@@ -1926,4 +2234,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private record CompileInfo(boolean compile, boolean updateDevice) {
     }
 
+    private record PrefixOutput(IntArray count, TornadoNativeArray output) {
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks.meta;
+
+import java.util.Arrays;
+
+/**
+ * Result of the tiling of the parallel loop nest of a task. When the threads
+ * of a 2D loop nest read the same data along an inner loop (for example, the
+ * rows and columns in a matrix multiplication), the kernel loads each tile of
+ * that data once per work-group into local memory, and the work-groups must
+ * be square tiles of the size the kernel was compiled for. The reason is
+ * reported in both cases.
+ */
+public final class LoopTiling {
+
+    private final boolean tiled;
+    private final long[] tile;
+    private final String reason;
+
+    private LoopTiling(boolean tiled, long[] tile, String reason) {
+        this.tiled = tiled;
+        this.tile = tile;
+        this.reason = reason;
+    }
+
+    public static LoopTiling tiled(long[] tile, String reason) {
+        return new LoopTiling(true, tile.clone(), reason);
+    }
+
+    public static LoopTiling notTiled(String reason) {
+        return new LoopTiling(false, null, reason);
+    }
+
+    public boolean isTiled() {
+        return tiled;
+    }
+
+    public long[] getTile() {
+        return tile == null ? null : tile.clone();
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Local work for the global work of the task, or null when the loop nest is
+     * not tiled or the global work is not a multiple of the tile.
+     *
+     * @param globalWork
+     *     global work of the task.
+     * @return long[]
+     */
+    public long[] getLocalWork(long[] globalWork) {
+        if (!tiled || globalWork == null || globalWork.length != tile.length) {
+            return null;
+        }
+        for (int i = 0; i < tile.length; i++) {
+            if (globalWork[i] < tile[i] || globalWork[i] % tile[i] != 0) {
+                return null;
+            }
+        }
+        return tile.clone();
+    }
+
+    @Override
+    public String toString() {
+        if (tiled) {
+            return "tiled " + Arrays.toString(tile) + ": " + reason;
+        }
+        return "not tiled: " + reason;
+    }
+}
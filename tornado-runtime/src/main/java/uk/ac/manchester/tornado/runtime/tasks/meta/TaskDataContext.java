@@ -58,6 +58,7 @@ public class TaskDataContext extends AbstractRTContext {
     private long[] localWork;
     private boolean localWorkDefined;
     private boolean globalWorkDefined;
+    private LoopTiling loopTiling;
 
     public TaskDataContext(ScheduleContext scheduleMetaData, String taskID, int numParameters) {
         super(scheduleMetaData.getId() + "." + taskID, scheduleMetaData);
@@ -196,6 +197,25 @@ public class TaskDataContext extends AbstractRTContext {
         }
     }
 
+    public LoopTiling getLoopTiling() {
+        return loopTiling;
+    }
+
+    public void setLoopTiling(LoopTiling loopTiling) {
+        this.loopTiling = loopTiling;
+    }
+
+    /**
+     * Local work of the tile selected for the loop nest of the task, or null
+     * when the loop nest is not tiled or the global work is not a multiple of
+     * the tile.
+     *
+     * @return long[]
+     */
+    public long[] getTiledLocalWork() {
+        return loopTiling == null ? null : loopTiling.getLocalWork(globalWork);
+    }
+
     public long[] getGlobalOffset() {
         return globalOffset;
     }
@@ -304,6 +324,9 @@ public class TaskDataContext extends AbstractRTContext {
             deviceDebug.append("\tLocal  work size  : " + (lw == null ? "null" : formatWorkDimensionArray(lw, "1")) + "\n");
             deviceDebug.append("\tNumber of workgroups  : " + (nw == null ? "null" : formatWorkDimensionArray(nw, "1")) + "\n");
         }
+        if (loopTiling != null) {
+            deviceDebug.append("\tLoop tiling       : " + loopTiling + "\n");
+        }
         System.out.println(deviceDebug);
     }
 
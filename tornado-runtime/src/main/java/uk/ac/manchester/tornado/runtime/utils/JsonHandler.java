@@ -33,43 +33,29 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
 public class JsonHandler {
 
-    private static final String SEPARATOR = "\":  \"";
-    private static final String END_LINE = "\",\n";
     private static final String DEVICE_ID = "Device ID";
     private static final String DEVICE = "Device";
     private static final String IP = "IP";
-    private StringBuilder indent;
 
-    private void increaseIndent() {
-        indent.append("    ");
-    }
-
-    private void decreaseIndent() {
-        indent.delete(0, 4);
+    public String createJSon(Map<String, Integer> entry, String name, TornadoDeviceContext device) {
+        StringBuilder json = new StringBuilder();
+        writeJson(json, entry, name, device, false);
+        return json.toString();
     }
 
-    public String createJSon(Map<String, Integer> entry, String name, TornadoDeviceContext device) {
-        indent = new StringBuilder();
-        StringBuilder json = new StringBuilder("");
-        json.append("{\n");
-        increaseIndent();
-        json.append(indent.toString() + "\"" + name + "\": { \n");
-        increaseIndent();
+    public void writeJson(StringBuilder json, Map<String, Integer> entry, String name, TornadoDeviceContext device, boolean compact) {
+        JsonStreamWriter writer = new JsonStreamWriter(json, compact);
+        writer.beginObject().beginObject(name);
         if (TornadoOptions.LOG_IP) {
-            json.append(indent.toString() + "\"" + IP + "\"" + ": " + "\"" + RuntimeUtilities.getTornadoInstanceIP() + END_LINE);
+            writer.value(IP, RuntimeUtilities.getTornadoInstanceIP());
         }
         TornadoVMBackendType backendType = TornadoRuntimeProvider.getTornadoRuntime().getBackend(device.getDriverIndex()).getBackendType();
-        json.append(indent.toString() + "\"" + ProfilerType.BACKEND + "\" : \"" + backendType + END_LINE);
-        json.append(indent.toString() + "\"" + DEVICE_ID + SEPARATOR + device.getDriverIndex() + ":" + device.getDevicePlatform() + END_LINE);
-        json.append(indent.toString() + "\"" + DEVICE + SEPARATOR + device.getDeviceName() + END_LINE);
-        for (String s : entry.keySet()) {
-            json.append(indent.toString() + "\"" + s + SEPARATOR + entry.get(s) + END_LINE);
+        writer.value(ProfilerType.BACKEND.name(), backendType.toString());
+        writer.value(DEVICE_ID, device.getDriverIndex() + ":" + device.getDevicePlatform());
+        writer.value(DEVICE, device.getDeviceName());
+        for (Map.Entry<String, Integer> feature : entry.entrySet()) {
+            writer.value(feature.getKey(), (long) feature.getValue());
         }
-        json.delete(json.length() - 2, json.length() - 1); // remove last comma
-        decreaseIndent();
-        json.append(indent.toString() + "}\n");
-        decreaseIndent();
-        json.append(indent.toString() + "}\n");
-        return json.toString();
+        writer.endObject().endObject();
     }
 }
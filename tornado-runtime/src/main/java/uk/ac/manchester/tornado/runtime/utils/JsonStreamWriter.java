@@ -0,0 +1,153 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.utils;
+
+import java.util.Arrays;
+
+/**
+ * Streaming writer for the JSON documents of the profiler and the feature
+ * extraction. Elements are appended to a {@link StringBuilder} as they are
+ * written, so the separators are emitted in place and nothing has to be
+ * removed afterwards. The same builder can be reused across documents to
+ * avoid allocations.
+ *
+ * <p>
+ * In compact mode a document is written in a single line, as expected by the
+ * JSON Lines dumps. Otherwise, it is indented with four spaces per level.
+ * Values are written as JSON strings, as in all dumps of TornadoVM.
+ * </p>
+ */
+public final class JsonStreamWriter {
+
+    private static final int INDENT = 4;
+
+    private final StringBuilder out;
+    private final boolean compact;
+    private int depth;
+    // Whether the object at each level already has an element
+    private boolean[] hasElements = new boolean[8];
+
+    public JsonStreamWriter(StringBuilder out, boolean compact) {
+        this.out = out;
+        this.compact = compact;
+    }
+
+    public JsonStreamWriter beginObject() {
+        separator();
+        return open();
+    }
+
+    public JsonStreamWriter beginObject(CharSequence name) {
+        key(name);
+        return open();
+    }
+
+    public JsonStreamWriter endObject() {
+        boolean empty = !hasElements[depth];
+        depth--;
+        if (!compact && !empty) {
+            newLine();
+        }
+        out.append('}');
+        if (!compact && depth == 0) {
+            out.append('\n');
+        }
+        return this;
+    }
+
+    public JsonStreamWriter value(CharSequence name, CharSequence value) {
+        key(name);
+        out.append('"');
+        escape(value == null ? "null" : value);
+        out.append('"');
+        return this;
+    }
+
+    public JsonStreamWriter value(CharSequence name, long value) {
+        key(name);
+        out.append('"').append(value).append('"');
+        return this;
+    }
+
+    public JsonStreamWriter value(CharSequence name, Long value) {
+        return value == null ? value(name, (CharSequence) null) : value(name, value.longValue());
+    }
+
+    private JsonStreamWriter open() {
+        out.append('{');
+        depth++;
+        if (depth == hasElements.length) {
+            hasElements = Arrays.copyOf(hasElements, depth * 2);
+        }
+        hasElements[depth] = false;
+        return this;
+    }
+
+    private void key(CharSequence name) {
+        separator();
+        out.append('"');
+        escape(name);
+        out.append(compact ? "\":" : "\": ");
+    }
+
+    private void separator() {
+        if (depth == 0) {
+            return;
+        }
+        if (hasElements[depth]) {
+            out.append(',');
+        }
+        hasElements[depth] = true;
+        if (!compact) {
+            newLine();
+        }
+    }
+
+    private void newLine() {
+        out.append('\n');
+        for (int i = 0; i < depth * INDENT; i++) {
+            out.append(' ');
+        }
+    }
+
+    private void escape(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
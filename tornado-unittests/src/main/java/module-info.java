@@ -1,6 +1,9 @@
 open module tornado.unittests {
     requires transitive junit;
     requires transitive tornado.api;
+    requires tornado.kernels;
+    requires tornado.runtime;
+    requires tornado.drivers.common;
     requires lucene.core;
     requires java.desktop;
     requires jdk.incubator.vector;
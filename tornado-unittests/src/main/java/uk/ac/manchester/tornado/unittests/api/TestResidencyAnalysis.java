@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the residency analysis of execution plans with multiple
+ * task-graphs. The analysis is printed with the trace of the execution plan.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.api.TestResidencyAnalysis
+ * </code>
+ */
+public class TestResidencyAnalysis extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 16;
+
+    @Test
+    public void testRoundTripIsReported() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        IntArray d = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, c) //
+                .task("t1", TestHello::add, c, c, d) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, d);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            String trace = executionPlan.getTraceExecutionPlan();
+            assertTrue(trace.contains("Residency analysis"));
+            assertTrue(trace.contains("full round-trip"));
+            assertTrue(trace.contains("[resident]"));
+
+            executionPlan.execute();
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(60, d.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testDeadHostCopyIsReported() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, b) //
+                .task("t1", TestHello::add, b, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            String trace = executionPlan.getTraceExecutionPlan();
+            assertTrue(trace.contains("[dead-copy]"));
+        }
+    }
+
+    @Test
+    public void testRoundTripStaysOnDevice() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        IntArray d = new IntArray(NUM_ELEMENTS);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, c) //
+                .task("t1", TestHello::add, c, c, d) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, d);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            // From the second execution, s1 reads c from the buffer of s0
+            for (int iteration = 0; iteration < 4; iteration++) {
+                a.init(iteration);
+                executionPlan.execute();
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(iteration + 20, c.get(i));
+                    assertEquals(2 * (iteration + 20), d.get(i));
+                }
+            }
+
+            // The graphs still transfer their data when they run on their own
+            a.init(10);
+            executionPlan.withGraph(0).execute();
+            c.init(1);
+            executionPlan.withGraph(1).execute();
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(2, d.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testDeadHostCopyIsSkipped() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, b) //
+                .task("t1", TestHello::add, b, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            for (int iteration = 0; iteration < 4; iteration++) {
+                executionPlan.execute();
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(40, c.get(i));
+                }
+            }
+
+            // The copy-out of s0 is only skipped when s1 runs after it
+            executionPlan.withGraph(0).execute();
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(30, c.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testPersistedObjectsAreNotReported() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .persistOnDevice(c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .consumeFromDevice(tg1.getTaskGraphName(), c) //
+                .task("t1", TestHello::add, c, c, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            String trace = executionPlan.getTraceExecutionPlan();
+            assertTrue(trace.contains("no redundant data transfers"));
+            assertFalse(trace.contains("[warning]"));
+        }
+    }
+
+    @Test
+    public void testConsumeFromUnknownGraphIsReported() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .persistOnDevice(c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .consumeFromDevice("graphWithTypo", c) //
+                .task("t1", TestHello::add, c, c, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            String trace = executionPlan.getTraceExecutionPlan();
+            assertTrue(trace.contains("no task-graph named \"graphWithTypo\""));
+        }
+    }
+
+    @Test
+    public void testAnalysisOnlyAppliesToAllGraphs() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        IntArray d = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, c) //
+                .task("t1", TestHello::add, c, c, d) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, d);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            // The host reads c between the two graphs, so the round-trip is not redundant
+            executionPlan.withGraph(0).execute();
+            assertFalse(executionPlan.getTraceExecutionPlan().contains("Residency analysis"));
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(30, c.get(i));
+            }
+            executionPlan.withGraph(1).execute();
+            assertFalse(executionPlan.getTraceExecutionPlan().contains("Residency analysis"));
+
+            executionPlan.withAllGraphs();
+            assertTrue(executionPlan.getTraceExecutionPlan().contains("full round-trip"));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.StreamingSlot;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoStreamProcessor;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * How to run?
+ *
+ * <p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.api.TestStreamProcessor
+ * </code>
+ * </p>
+ */
+public class TestStreamProcessor extends TornadoTestBase {
+
+    private static final int BATCH_SIZE = 256;
+
+    public static void score(FloatArray input, FloatArray output, IntArray numRecords) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            if (i < numRecords.get(0)) {
+                output.set(i, input.get(i) * 2.0f + 1.0f);
+            }
+        }
+    }
+
+    private static class ScoringSlot implements StreamingSlot<Float, Float> {
+
+        private final FloatArray input;
+        private final FloatArray output;
+        private final IntArray numRecords;
+        private final TornadoExecutionPlan executionPlan;
+
+        ScoringSlot(int slotIndex) {
+            input = new FloatArray(BATCH_SIZE);
+            output = new FloatArray(BATCH_SIZE);
+            numRecords = new IntArray(1);
+            TaskGraph taskGraph = new TaskGraph("slot" + slotIndex) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, numRecords) //
+                    .task("score", TestStreamProcessor::score, input, output, numRecords) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+            executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+        }
+
+        @Override
+        public TornadoExecutionPlan getExecutionPlan() {
+            return executionPlan;
+        }
+
+        @Override
+        public void pack(int index, Float record) {
+            input.set(index, record);
+        }
+
+        @Override
+        public void prepare(int numRecords) {
+            this.numRecords.set(0, numRecords);
+        }
+
+        @Override
+        public void unpack(int numRecords, Consumer<? super Float> sink) {
+            for (int i = 0; i < numRecords; i++) {
+                sink.accept(output.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testStreamFromPublisher() throws Exception {
+        final int numElements = BATCH_SIZE * 10 + 17;
+        List<Float> results = Collections.synchronizedList(new ArrayList<>());
+
+        TornadoStreamProcessor<Float, Float> processor = TornadoExecutionPlan.stream(BATCH_SIZE, 3, ScoringSlot::new);
+        CompletableFuture<Void> done = processor.consume(results::add);
+
+        try (SubmissionPublisher<Float> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < numElements; i++) {
+                publisher.submit((float) i);
+            }
+        }
+
+        done.get(60, TimeUnit.SECONDS);
+
+        assertEquals(numElements, results.size());
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(i * 2.0f + 1.0f, results.get(i), DELTA);
+        }
+    }
+
+    @Test
+    public void testStreamFromJavaStream() throws Exception {
+        final int numElements = BATCH_SIZE * 4;
+        List<Float> results = new ArrayList<>();
+
+        TornadoStreamProcessor<Float, Float> processor = TornadoExecutionPlan.stream(BATCH_SIZE, 2, ScoringSlot::new);
+        processor.process(IntStream.range(0, numElements).mapToObj(i -> (float) i), results::add).get(60, TimeUnit.SECONDS);
+
+        assertEquals(numElements, results.size());
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(i * 2.0f + 1.0f, results.get(i), DELTA);
+        }
+    }
+
+    @Test
+    public void testSlotCloseFailureReachesSubscribers() throws Exception {
+        TornadoStreamProcessor<Float, Float> processor = TornadoExecutionPlan.stream(BATCH_SIZE, 2, slotIndex -> new ScoringSlot(slotIndex) {
+            @Override
+            public void close() throws TornadoExecutionPlanException {
+                super.close();
+                throw new TornadoExecutionPlanException("slot " + slotIndex);
+            }
+        });
+        CompletableFuture<Void> done = processor.process(IntStream.range(0, BATCH_SIZE).mapToObj(i -> (float) i), result -> {
+        });
+
+        try {
+            done.get(60, TimeUnit.SECONDS);
+            throw new AssertionError("The failure to close the slots was lost");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TornadoExecutionPlanException);
+            // The failure of the second slot is kept with the first one
+            assertEquals(1, e.getCause().getSuppressed().length);
+        }
+    }
+}
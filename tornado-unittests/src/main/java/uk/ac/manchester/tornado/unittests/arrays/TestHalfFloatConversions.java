@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.collections.VectorHalf4;
+import uk.ac.manchester.tornado.api.types.tensors.Shape;
+import uk.ac.manchester.tornado.api.types.tensors.TensorFP16;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the primitive accessors and the bulk float conversions of the
+ * half-float types. The conversions must give the same results as the
+ * conversion of each element with {@link HalfFloat}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.arrays.TestHalfFloatConversions
+ * </code>
+ */
+public class TestHalfFloatConversions extends TornadoTestBase {
+
+    // Not a multiple of the conversion chunk, to test the remainder
+    private static final int SIZE = 4099;
+
+    private static float[] randomFloats(int size) {
+        Random r = new Random(31);
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (r.nextFloat() - 0.5f) * 1000.0f;
+        }
+        return values;
+    }
+
+    private static void addHalfFloats(HalfFloatArray a, HalfFloatArray b, HalfFloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, HalfFloat.add(a.get(i), b.get(i)));
+        }
+    }
+
+    @Test
+    public void testPrimitiveAccessors() {
+        HalfFloatArray array = new HalfFloatArray(4);
+        array.setFloat(0, 1.5f);
+        array.setRaw(1, Float.floatToFloat16(-2.25f));
+        array.set(2, new HalfFloat(65504.0f));
+        array.setFloat(3, 0.1f);
+
+        assertEquals(1.5f, array.getFloat(0), 0.0f);
+        assertEquals(-2.25f, array.getFloat(1), 0.0f);
+        assertEquals(65504.0f, array.getFloat(2), 0.0f);
+        assertEquals(Float.floatToFloat16(1.5f), array.getRaw(0));
+        assertEquals(array.get(3).getHalfFloatValue(), array.getRaw(3));
+        assertEquals(array.get(3).getFloat32(), array.getFloat(3), 0.0f);
+    }
+
+    @Test
+    public void testBulkConversionFromHeap() {
+        float[] values = randomFloats(SIZE);
+        HalfFloatArray array = HalfFloatArray.fromFloatArray(values);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(new HalfFloat(values[i]).getHalfFloatValue(), array.getRaw(i));
+        }
+
+        float[] expected = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = array.get(i).getFloat32();
+        }
+        assertArrayEquals(expected, array.toFloatArray(), 0.0f);
+    }
+
+    @Test
+    public void testBulkConversionWithOffsets() {
+        float[] values = randomFloats(SIZE);
+        HalfFloatArray array = new HalfFloatArray(SIZE);
+        array.setFloats(10, values, 5, 2000);
+
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(Float.floatToFloat16(values[5 + i]), array.getRaw(10 + i));
+        }
+        assertEquals(0, array.getRaw(9));
+        assertEquals(0, array.getRaw(2010));
+
+        float[] output = new float[2000];
+        array.getFloats(10, output, 0, 2000);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(Float.float16ToFloat(Float.floatToFloat16(values[5 + i])), output[i], 0.0f);
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBulkConversionOutOfBounds() {
+        HalfFloatArray array = new HalfFloatArray(16);
+        array.setFloats(8, new float[16], 0, 16);
+    }
+
+    @Test
+    public void testBulkConversionFloatArray() {
+        float[] values = randomFloats(SIZE);
+        FloatArray floatArray = FloatArray.fromArray(values);
+        HalfFloatArray array = HalfFloatArray.fromFloatArray(floatArray);
+
+        FloatArray output = new FloatArray(SIZE);
+        array.getFloats(output);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(new HalfFloat(values[i]).getFloat32(), output.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testBulkConversionFromManyThreads() throws InterruptedException, ExecutionException {
+        // The chunk buffers are per thread, so concurrent conversions must not interfere
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 16; t++) {
+                final float offset = t * 1000.0f;
+                results.add(executor.submit(() -> {
+                    float[] values = randomFloats(SIZE);
+                    for (int i = 0; i < SIZE; i++) {
+                        values[i] += offset;
+                    }
+                    HalfFloatArray array = HalfFloatArray.fromFloatArray(values);
+                    float[] output = array.toFloatArray();
+                    for (int i = 0; i < SIZE; i++) {
+                        if (Float.compare(Float.float16ToFloat(Float.floatToFloat16(values[i])), output[i]) != 0) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+    }
+
+    @Test
+    public void testClearAndInit() {
+        HalfFloatArray array = new HalfFloatArray(SIZE);
+        array.init(3.0f);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(3.0f, array.getFloat(i), 0.0f);
+        }
+        array.clear();
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(0, array.getRaw(i));
+        }
+    }
+
+    @Test
+    public void testTensorFP16() {
+        float[] values = randomFloats(64 * 64);
+        TensorFP16 tensor = new TensorFP16(new Shape(64, 64));
+        tensor.setFloats(values);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Float.floatToFloat16(values[i]), tensor.getRaw(i));
+            assertEquals(tensor.get(i).getFloat32(), tensor.getFloat(i), 0.0f);
+        }
+
+        tensor.setFloat(7, 42.0f);
+        assertEquals(42.0f, tensor.toFloatArray()[7], 0.0f);
+    }
+
+    @Test
+    public void testVectorHalf4() {
+        float[] values = randomFloats(4 * 32);
+        VectorHalf4 vector = new VectorHalf4(32);
+        vector.setFloats(values);
+
+        float[] output = vector.toFloatArray();
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Float.float16ToFloat(Float.floatToFloat16(values[i])), output[i], 0.0f);
+        }
+        assertEquals(output[5], vector.get(1).getY().getFloat32(), 0.0f);
+
+        vector.fill(2.0f);
+        assertEquals(2.0f, vector.get(31).getW().getFloat32(), 0.0f);
+    }
+
+    /**
+     * The data prepared with the primitive API is used by a kernel that uses
+     * the {@link HalfFloat} API.
+     */
+    @Test
+    public void testKernelWithConvertedData() throws TornadoExecutionPlanException {
+        float[] valuesA = randomFloats(SIZE);
+        float[] valuesB = randomFloats(SIZE);
+        HalfFloatArray a = HalfFloatArray.fromFloatArray(valuesA);
+        HalfFloatArray b = HalfFloatArray.fromFloatArray(valuesB);
+        HalfFloatArray c = new HalfFloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHalfFloatConversions::addHalfFloats, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        float[] result = c.toFloatArray();
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(HalfFloat.add(a.get(i), b.get(i)).getFloat32(), result[i], 0.5f);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.atomics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the atomic operations of the {@link KernelContext} on native
+ * arrays: compare-and-swap, exchange, min, max, and, or, xor and increment.
+ * All of them return the previous value of the element.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.atomics.TestAtomicOperations
+ * </code>
+ */
+public class TestAtomicOperations extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+    private static final int NUM_BINS = 64;
+
+    public static void histogram(KernelContext context, IntArray input, IntArray bins) {
+        int idx = context.globalIdx;
+        if (idx < input.getSize()) {
+            context.atomicIncrement(bins, input.get(idx) % NUM_BINS);
+        }
+    }
+
+    // Each bin is claimed by the first thread that swaps -1 with its index
+    public static void claim(KernelContext context, IntArray input, IntArray owners, IntArray winners) {
+        int idx = context.globalIdx;
+        if (idx < input.getSize()) {
+            int previous = context.atomicCompareAndSwap(owners, input.get(idx), -1, idx);
+            if (previous == -1) {
+                context.atomicIncrement(winners, 0);
+            }
+        }
+    }
+
+    public static void minMax(KernelContext context, IntArray input, IntArray result) {
+        int idx = context.globalIdx;
+        if (idx < input.getSize()) {
+            context.atomicMin(result, 0, input.get(idx));
+            context.atomicMax(result, 1, input.get(idx));
+        }
+    }
+
+    public static void bitwise(KernelContext context, IntArray input, IntArray result) {
+        int idx = context.globalIdx;
+        if (idx < input.getSize()) {
+            context.atomicAnd(result, 0, input.get(idx));
+            context.atomicOr(result, 1, input.get(idx));
+            context.atomicXor(result, 2, input.get(idx));
+        }
+    }
+
+    public static void minMaxLong(KernelContext context, LongArray input, LongArray result) {
+        int idx = context.globalIdx;
+        if (idx < input.getSize()) {
+            context.atomicMin(result, 0, input.get(idx));
+            context.atomicMax(result, 1, input.get(idx));
+            context.atomicIncrement(result, 2);
+        }
+    }
+
+    private static IntArray randomInput(int size, Random random) {
+        IntArray input = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            input.set(i, random.nextInt(1 << 20));
+        }
+        return input;
+    }
+
+    private static void execute(TaskGraph taskGraph, int size) throws TornadoExecutionPlanException {
+        GridScheduler gridScheduler = new GridScheduler(taskGraph.getTaskGraphName() + ".t0", new WorkerGrid1D(size));
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler).execute();
+        }
+    }
+
+    @Test
+    public void testHostSemantics() {
+        KernelContext context = new KernelContext();
+        IntArray array = new IntArray(4);
+        array.init(10);
+
+        assertEquals(10, context.atomicCompareAndSwap(array, 0, 10, 20));
+        assertEquals(20, array.get(0));
+        // The expected value does not match, so the element is not written
+        assertEquals(20, context.atomicCompareAndSwap(array, 0, 10, 30));
+        assertEquals(20, array.get(0));
+
+        assertEquals(10, context.atomicExchange(array, 1, 5));
+        assertEquals(5, context.atomicMin(array, 1, 3));
+        assertEquals(3, context.atomicMax(array, 1, 7));
+        assertEquals(7, context.atomicMin(array, 1, 9));
+        assertEquals(7, array.get(1));
+
+        assertEquals(10, context.atomicAnd(array, 2, 0b0110));
+        assertEquals(0b0010, context.atomicOr(array, 2, 0b1000));
+        assertEquals(0b1010, context.atomicXor(array, 2, 0b1111));
+        assertEquals(0b0101, array.get(2));
+
+        assertEquals(10, context.atomicIncrement(array, 3));
+        assertEquals(11, array.get(3));
+
+        LongArray longArray = new LongArray(1);
+        longArray.set(0, Long.MAX_VALUE - 1);
+        assertEquals(Long.MAX_VALUE - 1, context.atomicIncrement(longArray, 0));
+        assertEquals(Long.MAX_VALUE, context.atomicExchange(longArray, 0, -1L));
+        assertEquals(-1L, context.atomicMin(longArray, 0, Long.MIN_VALUE));
+        assertEquals(Long.MIN_VALUE, longArray.get(0));
+    }
+
+    @Test
+    public void testHostAtomicAddIsAtomic() {
+        KernelContext context = new KernelContext();
+        FloatArray sum = new FloatArray(1);
+        IntArray count = new IntArray(1);
+
+        IntStream.range(0, 8).parallel().forEach(thread -> {
+            for (int i = 0; i < 10000; i++) {
+                context.atomicAdd(sum, 0, 1.0f);
+                context.atomicAdd(count, 0, 1);
+            }
+        });
+        assertEquals(80000.0f, sum.get(0), 0.0f);
+        assertEquals(80000, count.get(0));
+    }
+
+    @Test
+    public void testHistogram() throws TornadoExecutionPlanException {
+        IntArray input = randomInput(SIZE, new Random(7));
+        IntArray bins = new IntArray(NUM_BINS);
+        bins.init(0);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, bins) //
+                .task("t0", TestAtomicOperations::histogram, context, input, bins) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+        execute(taskGraph, SIZE);
+
+        int[] expected = new int[NUM_BINS];
+        for (int i = 0; i < SIZE; i++) {
+            expected[input.get(i) % NUM_BINS]++;
+        }
+        for (int i = 0; i < NUM_BINS; i++) {
+            assertEquals(expected[i], bins.get(i));
+        }
+    }
+
+    @Test
+    public void testCompareAndSwap() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, i % NUM_BINS);
+        }
+        IntArray owners = new IntArray(NUM_BINS);
+        owners.init(-1);
+        IntArray winners = new IntArray(1);
+        winners.init(0);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, owners, winners) //
+                .task("t0", TestAtomicOperations::claim, context, input, owners, winners) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, owners, winners);
+        execute(taskGraph, SIZE);
+
+        // Exactly one thread wins each bin
+        assertEquals(NUM_BINS, winners.get(0));
+        for (int i = 0; i < NUM_BINS; i++) {
+            assertEquals(i, input.get(owners.get(i)));
+        }
+    }
+
+    @Test
+    public void testMinMax() throws TornadoExecutionPlanException {
+        IntArray input = randomInput(SIZE, new Random(11));
+        IntArray result = new IntArray(2);
+        result.set(0, Integer.MAX_VALUE);
+        result.set(1, Integer.MIN_VALUE);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, result) //
+                .task("t0", TestAtomicOperations::minMax, context, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph, SIZE);
+
+        int[] values = input.toHeapArray();
+        assertEquals(IntStream.of(values).min().getAsInt(), result.get(0));
+        assertEquals(IntStream.of(values).max().getAsInt(), result.get(1));
+    }
+
+    @Test
+    public void testBitwise() throws TornadoExecutionPlanException {
+        IntArray input = randomInput(SIZE, new Random(13));
+        IntArray result = new IntArray(3);
+        result.set(0, -1);
+        result.set(1, 0);
+        result.set(2, 0);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, result) //
+                .task("t0", TestAtomicOperations::bitwise, context, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph, SIZE);
+
+        int and = -1;
+        int or = 0;
+        int xor = 0;
+        for (int i = 0; i < SIZE; i++) {
+            and &= input.get(i);
+            or |= input.get(i);
+            xor ^= input.get(i);
+        }
+        assertEquals(and, result.get(0));
+        assertEquals(or, result.get(1));
+        assertEquals(xor, result.get(2));
+    }
+
+    @Test
+    public void testMinMaxLong() throws TornadoExecutionPlanException {
+        Random random = new Random(17);
+        LongArray input = new LongArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, random.nextLong());
+        }
+        LongArray result = new LongArray(3);
+        result.set(0, Long.MAX_VALUE);
+        result.set(1, Long.MIN_VALUE);
+        result.set(2, 0);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, result) //
+                .task("t0", TestAtomicOperations::minMaxLong, context, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph, SIZE);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < SIZE; i++) {
+            min = Math.min(min, input.get(i));
+            max = Math.max(max, input.get(i));
+        }
+        assertEquals(min, result.get(0));
+        assertEquals(max, result.get(1));
+        assertEquals(SIZE, result.get(2));
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.compute;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.Int8Array;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.kernels.transformer.TransformerKernels;
+import uk.ac.manchester.tornado.kernels.transformer.TransformerReference;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the fused transformer kernels of the tornado-kernels module
+ * ({@link TransformerKernels}). Each kernel is checked against its Java
+ * version in {@link TransformerReference}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.compute.TestFusedTransformerKernels
+ * </code>
+ */
+public class TestFusedTransformerKernels extends TornadoTestBase {
+
+    private static final float DELTA = 0.001f;
+    private static final int LOCAL_SIZE = 32;
+
+    private final Random random = new Random(7);
+
+    private FloatArray randomArray(int size, float min, float max) {
+        FloatArray array = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, min + random.nextFloat() * (max - min));
+        }
+        return array;
+    }
+
+    private HalfFloatArray randomHalfArray(int size, float min, float max) {
+        HalfFloatArray array = new HalfFloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.setFloat(i, min + random.nextFloat() * (max - min));
+        }
+        return array;
+    }
+
+    private static void execute(TaskGraph taskGraph, WorkerGrid workerGrid) throws TornadoExecutionPlanException {
+        GridScheduler gridScheduler = new GridScheduler(taskGraph.getTaskGraphName() + ".t0", workerGrid);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler).execute();
+        }
+    }
+
+    private static void assertArrayEquals(FloatArray expected, FloatArray actual, float delta) {
+        assertEquals(expected.getSize(), actual.getSize());
+        for (int i = 0; i < expected.getSize(); i++) {
+            assertEquals("index " + i, expected.get(i), actual.get(i), delta);
+        }
+    }
+
+    @Test
+    public void testRmsNormScale() throws TornadoExecutionPlanException {
+        final int size = 4096;
+        final float epsilon = 1e-5f;
+        FloatArray x = randomArray(size, -1.0f, 1.0f);
+        FloatArray weights = randomArray(size, 0.5f, 1.5f);
+        FloatArray output = new FloatArray(size);
+        FloatArray expected = new FloatArray(size);
+        TransformerReference.rmsNormScale(expected, x, weights, size, epsilon);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, weights) //
+                .task("t0", TransformerKernels::rmsNormScale, new KernelContext(), output, x, weights, size, epsilon, 256) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, TransformerKernels.workerGrid(1, 256));
+
+        assertArrayEquals(expected, output, DELTA);
+    }
+
+    @Test
+    public void testRope() throws TornadoExecutionPlanException {
+        final int dim = 512;
+        final int headSize = 64;
+        final int kvDim = 128;
+        final float theta = 10000.0f;
+        IntArray position = new IntArray(1);
+        position.set(0, 11);
+        FloatArray q = randomArray(dim, -1.0f, 1.0f);
+        FloatArray k = randomArray(kvDim, -1.0f, 1.0f);
+        FloatArray expectedQ = FloatArray.fromArray(q.toHeapArray());
+        FloatArray expectedK = FloatArray.fromArray(k.toHeapArray());
+        TransformerReference.rope(position, expectedQ, expectedK, kvDim, headSize, theta);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, position, q, k) //
+                .task("t0", TransformerKernels::rope, new KernelContext(), position, q, k, kvDim, headSize, theta) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, q, k);
+        execute(taskGraph, new WorkerGrid1D(dim / 2));
+
+        assertArrayEquals(expectedQ, q, DELTA);
+        assertArrayEquals(expectedK, k, DELTA);
+    }
+
+    private void testFlashAttention(int kvMul, int pos) throws TornadoExecutionPlanException {
+        final int nHeads = 8;
+        final int headSize = 64;
+        final int kvDim = headSize * nHeads / kvMul;
+        final int contextLength = 128;
+        final int layer = 1;
+        IntArray position = new IntArray(1);
+        position.set(0, pos);
+        FloatArray q = randomArray(nHeads * headSize, -1.0f, 1.0f);
+        FloatArray keyCache = randomArray(2 * contextLength * kvDim, -1.0f, 1.0f);
+        FloatArray valueCache = randomArray(2 * contextLength * kvDim, -1.0f, 1.0f);
+        FloatArray output = new FloatArray(nHeads * headSize);
+        FloatArray expected = new FloatArray(nHeads * headSize);
+        TransformerReference.attention(q, keyCache, valueCache, expected, position, layer, contextLength, nHeads, headSize, kvDim, kvMul);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, position, q, keyCache, valueCache) //
+                .task("t0", TransformerKernels::flashAttention, new KernelContext(), q, keyCache, valueCache, output, position, layer, contextLength, headSize, kvDim, kvMul, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        // One work-group per KV head
+        execute(taskGraph, TransformerKernels.workerGrid(kvDim / headSize, LOCAL_SIZE));
+
+        assertArrayEquals(expected, output, DELTA);
+    }
+
+    @Test
+    public void testFlashAttention() throws TornadoExecutionPlanException {
+        // Several tiles, and the last one is partial
+        testFlashAttention(4, 100);
+    }
+
+    @Test
+    public void testFlashAttentionWithoutGrouping() throws TornadoExecutionPlanException {
+        testFlashAttention(1, 100);
+    }
+
+    @Test
+    public void testFlashAttentionFirstPosition() throws TornadoExecutionPlanException {
+        testFlashAttention(2, 0);
+    }
+
+    @Test
+    public void testFlashAttentionHalf() throws TornadoExecutionPlanException {
+        final int nHeads = 8;
+        final int headSize = 64;
+        final int kvMul = 4;
+        final int kvDim = headSize * nHeads / kvMul;
+        final int contextLength = 128;
+        final int layer = 1;
+        IntArray position = new IntArray(1);
+        position.set(0, 100);
+        FloatArray q = randomArray(nHeads * headSize, -1.0f, 1.0f);
+        HalfFloatArray keyCache = randomHalfArray(2 * contextLength * kvDim, -1.0f, 1.0f);
+        HalfFloatArray valueCache = randomHalfArray(2 * contextLength * kvDim, -1.0f, 1.0f);
+        FloatArray output = new FloatArray(nHeads * headSize);
+        FloatArray expected = new FloatArray(nHeads * headSize);
+        TransformerReference.attentionHalf(q, keyCache, valueCache, expected, position, layer, contextLength, nHeads, headSize, kvDim, kvMul);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, position, q, keyCache, valueCache) //
+                .task("t0", TransformerKernels::flashAttentionHalf, new KernelContext(), q, keyCache, valueCache, output, position, layer, contextLength, headSize, kvDim, kvMul, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, TransformerKernels.workerGrid(kvDim / headSize, LOCAL_SIZE));
+
+        assertArrayEquals(expected, output, DELTA);
+    }
+
+    @Test
+    public void testSwiGLU() throws TornadoExecutionPlanException {
+        final int n = 256;
+        final int d = 512;
+        FloatArray x = randomArray(n, -1.0f, 1.0f);
+        FloatArray w1 = randomArray(n * d, -0.1f, 0.1f);
+        FloatArray w3 = randomArray(n * d, -0.1f, 0.1f);
+        FloatArray hb = new FloatArray(d);
+        FloatArray expected = new FloatArray(d);
+        TransformerReference.swiGLU(x, expected, w1, w3, n, d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, w1, w3) //
+                .task("t0", TransformerKernels::swiGLU, new KernelContext(), x, hb, w1, w3, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, hb);
+        execute(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE));
+
+        assertArrayEquals(expected, hb, DELTA);
+    }
+
+    @Test
+    public void testSwiGLUHalf() throws TornadoExecutionPlanException {
+        final int n = 256;
+        final int d = 512;
+        FloatArray x = randomArray(n, -1.0f, 1.0f);
+        HalfFloatArray w1 = randomHalfArray(n * d, -0.1f, 0.1f);
+        HalfFloatArray w3 = randomHalfArray(n * d, -0.1f, 0.1f);
+        FloatArray hb = new FloatArray(d);
+        FloatArray expected = new FloatArray(d);
+        TransformerReference.swiGLUHalf(x, expected, w1, w3, n, d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, w1, w3) //
+                .task("t0", TransformerKernels::swiGLUHalf, new KernelContext(), x, hb, w1, w3, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, hb);
+        execute(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE));
+
+        assertArrayEquals(expected, hb, DELTA);
+    }
+
+    @Test
+    public void testMatrixVector() throws TornadoExecutionPlanException {
+        final int n = 1024;
+        final int d = 256;
+        FloatArray x = randomArray(n, -1.0f, 1.0f);
+        FloatArray w = randomArray(n * d, -0.1f, 0.1f);
+        FloatArray out = new FloatArray(d);
+        FloatArray expected = new FloatArray(d);
+        TransformerReference.matrixVector(x, expected, w, n, d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, w) //
+                .task("t0", TransformerKernels::matrixVector, new KernelContext(), x, out, w, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, out);
+        execute(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE));
+
+        assertArrayEquals(expected, out, DELTA);
+    }
+
+    @Test
+    public void testMatrixVectorResidual() throws TornadoExecutionPlanException {
+        final int n = 1024;
+        final int d = 256;
+        FloatArray x = randomArray(n, -1.0f, 1.0f);
+        FloatArray w = randomArray(n * d, -0.1f, 0.1f);
+        FloatArray out = randomArray(d, -1.0f, 1.0f);
+        FloatArray expected = FloatArray.fromArray(out.toHeapArray());
+        TransformerReference.matrixVectorResidual(x, expected, w, n, d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, w, out) //
+                .task("t0", TransformerKernels::matrixVectorResidual, new KernelContext(), x, out, w, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, out);
+        execute(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE));
+
+        assertArrayEquals(expected, out, DELTA);
+    }
+
+    @Test
+    public void testMatrixVectorHalf() throws TornadoExecutionPlanException {
+        final int n = 1024;
+        final int d = 256;
+        FloatArray x = randomArray(n, -1.0f, 1.0f);
+        HalfFloatArray w = randomHalfArray(n * d, -0.1f, 0.1f);
+        FloatArray out = new FloatArray(d);
+        FloatArray expected = new FloatArray(d);
+        TransformerReference.matrixVectorHalf(x, expected, w, n, d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, w) //
+                .task("t0", TransformerKernels::matrixVectorHalf, new KernelContext(), x, out, w, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, out);
+        execute(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE));
+
+        assertArrayEquals(expected, out, DELTA);
+    }
+
+    @Test
+    public void testMatrixVectorQ8() throws TornadoExecutionPlanException {
+        final int n = 1024;
+        final int d = 256;
+        FloatArray x = randomArray(n, -1.0f, 1.0f);
+        FloatArray w = randomArray(n * d, -0.1f, 0.1f);
+        Int8Array quantized = new Int8Array(n * d);
+        HalfFloatArray scales = new HalfFloatArray(n * d / TransformerKernels.Q8_BLOCK_SIZE);
+        TransformerReference.quantizeQ8(w, quantized, scales, n);
+        FloatArray out = new FloatArray(d);
+        FloatArray expected = new FloatArray(d);
+        TransformerReference.matrixVectorQ8(x, expected, quantized, scales, n, d);
+
+        // The quantization error is small compared with the fp32 result
+        FloatArray exact = new FloatArray(d);
+        TransformerReference.matrixVector(x, exact, w, n, d);
+        assertArrayEquals(exact, expected, 0.05f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, quantized, scales) //
+                .task("t0", TransformerKernels::matrixVectorQ8, new KernelContext(), x, out, quantized, scales, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, out);
+        execute(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE));
+
+        assertArrayEquals(expected, out, DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLocalSizeMustBePowerOfTwo() {
+        TransformerKernels.workerGrid(16, 48);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQ8ColumnsMustBeMultipleOfBlock() {
+        TransformerReference.quantizeQ8(new FloatArray(40), new Int8Array(40), new HalfFloatArray(1), 40);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.dynsize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the outputs whose size is only known after running the tasks. The
+ * tasks append to the outputs and store the number of elements, and only that
+ * prefix of the outputs is copied back to the host.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.dynsize.TestPrefixCopyOut
+ * </code>
+ */
+public class TestPrefixCopyOut extends TornadoTestBase {
+
+    private static final int SIZE = 8192;
+    private static final float THRESHOLD = 0.9f;
+    private static final float SENTINEL = -1.0f;
+
+    // Each thread appends its element to the output if it passes the filter
+    public static void filter(KernelContext context, FloatArray input, FloatArray output, IntArray count) {
+        int idx = context.globalIdx;
+        if (idx < input.getSize() && input.get(idx) > THRESHOLD) {
+            int position = context.atomicIncrement(count, 0);
+            if (position < output.getSize()) {
+                output.set(position, input.get(idx));
+            }
+        }
+    }
+
+    public static void flags(FloatArray input, IntArray flags) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            flags.set(i, input.get(i) > THRESHOLD ? 1 : 0);
+        }
+    }
+
+    private static FloatArray randomInput(long seed) {
+        Random random = new Random(seed);
+        FloatArray input = new FloatArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, random.nextFloat());
+        }
+        return input;
+    }
+
+    private static int countSelected(FloatArray input) {
+        int selected = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            if (input.get(i) > THRESHOLD) {
+                selected++;
+            }
+        }
+        return selected;
+    }
+
+    @Test
+    public void testCompaction() throws TornadoExecutionPlanException {
+        FloatArray input = randomInput(7);
+        IntArray flags = new IntArray(SIZE);
+        FloatArray output = new FloatArray(SIZE);
+        IntArray count = new IntArray(1);
+        output.init(SENTINEL);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("flags", TestPrefixCopyOut::flags, input, flags) //
+                .compact("compact", input, flags, output, count) //
+                .transferToHostPrefix(count, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        int selected = countSelected(input);
+        assertEquals(selected, count.get(0));
+        int j = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (input.get(i) > THRESHOLD) {
+                assertEquals(input.get(i), output.get(j++), 0.0f);
+            }
+        }
+        // The rest of the output is not copied back
+        for (int i = selected; i < SIZE; i++) {
+            assertEquals(SENTINEL, output.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testAtomicAppend() throws TornadoExecutionPlanException {
+        FloatArray input = randomInput(11);
+        FloatArray output = new FloatArray(SIZE);
+        IntArray count = new IntArray(1);
+        output.init(SENTINEL);
+        count.init(0);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, count) //
+                .task("t0", TestPrefixCopyOut::filter, context, input, output, count) //
+                .transferToHostPrefix(count, output);
+
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", new WorkerGrid1D(SIZE));
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler).execute();
+
+            int selected = countSelected(input);
+            assertEquals(selected, count.get(0));
+            float sum = 0.0f;
+            for (int i = 0; i < selected; i++) {
+                assertTrue(output.get(i) > THRESHOLD);
+                sum += output.get(i);
+            }
+            float expectedSum = 0.0f;
+            for (int i = 0; i < SIZE; i++) {
+                expectedSum += input.get(i) > THRESHOLD ? input.get(i) : 0.0f;
+            }
+            assertEquals(expectedSum, sum, 0.01f * selected);
+            for (int i = selected; i < SIZE; i++) {
+                assertEquals(SENTINEL, output.get(i), 0.0f);
+            }
+
+            // The count is reset for the next execution
+            count.init(0);
+            input.init(1.0f);
+            executionPlan.withGridScheduler(gridScheduler).execute();
+            assertEquals(SIZE, count.get(0));
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(1.0f, output.get(i), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testOverflow() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        input.init(1.0f);
+        // Room for half of the elements only
+        FloatArray output = new FloatArray(SIZE / 2);
+        IntArray count = new IntArray(1);
+        count.init(0);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, count) //
+                .task("t0", TestPrefixCopyOut::filter, context, input, output, count) //
+                .transferToHostPrefix(count, output);
+
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", new WorkerGrid1D(SIZE));
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler).execute();
+        }
+
+        // The count tells how large the output has to be, and the output is copied entirely
+        assertEquals(SIZE, count.get(0));
+        for (int i = 0; i < output.getSize(); i++) {
+            assertEquals(1.0f, output.get(i), 0.0f);
+        }
+    }
+}
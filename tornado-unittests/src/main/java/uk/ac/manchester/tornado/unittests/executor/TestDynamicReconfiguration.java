@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.DRMode;
+import uk.ac.manchester.tornado.api.Policy;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * How to run?
+ * <p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.executor.TestDynamicReconfiguration
+ * </code>
+ * </p>
+ */
+public class TestDynamicReconfiguration extends TornadoTestBase {
+
+    private static final int MAX_EXECUTIONS = 64;
+
+    public static void increment(IntArray a) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            a.set(i, a.get(i) + 1);
+        }
+    }
+
+    @Test
+    public void testSerialPerformance() throws TornadoExecutionPlanException {
+        final int numElements = 4096;
+        IntArray a = new IntArray(numElements);
+        IntArray b = new IntArray(numElements);
+        IntArray c = new IntArray(numElements);
+        a.init(1);
+        b.init(2);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withDynamicReconfiguration(Policy.PERFORMANCE, DRMode.SERIAL);
+
+            // All devices run once per execution, until they have a cold run and the warm runs
+            int iteration = 0;
+            List<String> decisions = List.of();
+            while (decisions.isEmpty() && iteration < MAX_EXECUTIONS) {
+                TornadoExecutionResult result = executionPlan.execute();
+                iteration++;
+                for (int i = 0; i < numElements; i++) {
+                    assertEquals(3, c.get(i));
+                }
+                decisions = result.getProfilerResult().getDynamicReconfigurationDecisions();
+            }
+            assertEquals(1, decisions.size());
+            assertTrue(iteration > 1);
+
+            // Following executions reuse the selected device
+            TornadoExecutionResult result = executionPlan.execute();
+            assertEquals(1, result.getProfilerResult().getDynamicReconfigurationDecisions().size());
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(3, c.get(i));
+            }
+        }
+    }
+
+    /**
+     * The task-graph updates its input in place. The evaluation of the devices
+     * must not be observable: each call to execute increments the array once.
+     */
+    @Test
+    public void testSerialInPlaceUpdate() throws TornadoExecutionPlanException {
+        final int numElements = 1024;
+        IntArray a = new IntArray(numElements);
+        a.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestDynamicReconfiguration::increment, a) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, a);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withDynamicReconfiguration(Policy.END_2_END, DRMode.SERIAL);
+            for (int iteration = 1; iteration <= 3; iteration++) {
+                executionPlan.execute();
+                for (int i = 0; i < numElements; i++) {
+                    assertEquals(iteration, a.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelLatency() throws TornadoExecutionPlanException {
+        final int numElements = 1024;
+        IntArray a = new IntArray(numElements);
+        a.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestDynamicReconfiguration::increment, a) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, a);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withDynamicReconfiguration(Policy.LATENCY, DRMode.PARALLEL);
+
+            // One candidate is evaluated per execution, until the winner is selected
+            int iteration = 0;
+            List<String> decisions = List.of();
+            while (decisions.isEmpty() && iteration < MAX_EXECUTIONS) {
+                TornadoExecutionResult result = executionPlan.execute();
+                iteration++;
+                for (int i = 0; i < numElements; i++) {
+                    assertEquals(iteration, a.get(i));
+                }
+                decisions = result.getProfilerResult().getDynamicReconfigurationDecisions();
+            }
+            assertEquals(1, decisions.size());
+        }
+    }
+
+    public static void addArrays(float[] a, float[] b, float[] c) {
+        for (@Parallel int i = 0; i < c.length; i++) {
+            c[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * The input-size bucket counts the bytes of Java arrays, not their number of
+     * elements: three float arrays of 1024 elements use 12 KB, so the bucket is
+     * 2^14 bytes.
+     */
+    @Test
+    public void testSizeBucketOfPrimitiveArrays() throws TornadoExecutionPlanException {
+        final int numElements = 1024;
+        float[] a = new float[numElements];
+        float[] b = new float[numElements];
+        float[] c = new float[numElements];
+        Arrays.fill(a, 1.0f);
+        Arrays.fill(b, 2.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestDynamicReconfiguration::addArrays, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult result = executionPlan.withDynamicReconfiguration(Policy.END_2_END, DRMode.SERIAL).execute();
+            List<String> decisions = result.getProfilerResult().getDynamicReconfigurationDecisions();
+            assertEquals(1, decisions.size());
+            assertTrue(decisions.getFirst().contains("input-size<=2^14 bytes"));
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(3.0f, c[i], 0.0f);
+            }
+        }
+    }
+
+    public static void copy(IntArray state, IntArray output) {
+        for (@Parallel int i = 0; i < state.getSize(); i++) {
+            output.set(i, state.get(i));
+        }
+    }
+
+    /**
+     * The state is only copied in the first execution. The selected device is
+     * visited again after all the other candidates, and it must not reuse the
+     * state left by its first run.
+     */
+    @Test
+    public void testSerialFirstExecutionState() throws TornadoExecutionPlanException {
+        final int numElements = 1024;
+        IntArray state = new IntArray(numElements);
+        IntArray output = new IntArray(numElements);
+        state.init(100);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, state) //
+                .task("t0", TestDynamicReconfiguration::increment, state) //
+                .task("t1", TestDynamicReconfiguration::copy, state, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult result = executionPlan.withDynamicReconfiguration(Policy.END_2_END, DRMode.SERIAL).execute();
+
+            // The END_2_END policy only needs the cold run of each device
+            assertEquals(1, result.getProfilerResult().getDynamicReconfigurationDecisions().size());
+            for (int iteration = 1; iteration <= 3; iteration++) {
+                if (iteration > 1) {
+                    executionPlan.execute();
+                }
+                for (int i = 0; i < numElements; i++) {
+                    assertEquals(100 + iteration, output.get(i));
+                }
+            }
+        }
+    }
+}
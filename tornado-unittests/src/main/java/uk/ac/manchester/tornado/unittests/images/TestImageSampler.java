@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.images;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.images.ImageByte4;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.api.types.images.ImageSampler;
+import uk.ac.manchester.tornado.api.types.vectors.Byte4;
+import uk.ac.manchester.tornado.api.types.vectors.Float4;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the reads of the images with a sampler. The values follow the
+ * addressing and filtering rules of the OpenCL samplers, and the kernels must
+ * compute the same values as the host. With {@code tornado.opencl.images}, the
+ * reads with a constant sampler use the OpenCL images of the device.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.images.TestImageSampler
+ * tornado-test -V --jvm="-Dtornado.opencl.images=True" uk.ac.manchester.tornado.unittests.images.TestImageSampler
+ * </code>
+ */
+public class TestImageSampler extends TornadoTestBase {
+
+    private static final int NEAREST_CLAMP_TO_EDGE = ImageSampler.UNNORMALIZED_COORDS | ImageSampler.ADDRESS_CLAMP_TO_EDGE | ImageSampler.FILTER_NEAREST;
+    private static final int NEAREST_CLAMP = ImageSampler.UNNORMALIZED_COORDS | ImageSampler.ADDRESS_CLAMP | ImageSampler.FILTER_NEAREST;
+    private static final int LINEAR_CLAMP_TO_EDGE = ImageSampler.UNNORMALIZED_COORDS | ImageSampler.ADDRESS_CLAMP_TO_EDGE | ImageSampler.FILTER_LINEAR;
+    private static final int LINEAR_CLAMP = ImageSampler.UNNORMALIZED_COORDS | ImageSampler.ADDRESS_CLAMP | ImageSampler.FILTER_LINEAR;
+    private static final int NORMALIZED_REPEAT = ImageSampler.NORMALIZED_COORDS | ImageSampler.ADDRESS_REPEAT | ImageSampler.FILTER_NEAREST;
+    private static final int NORMALIZED_MIRRORED_REPEAT = ImageSampler.NORMALIZED_COORDS | ImageSampler.ADDRESS_MIRRORED_REPEAT | ImageSampler.FILTER_NEAREST;
+
+    private static ImageFloat createRamp(int width, int height) {
+        ImageFloat image = new ImageFloat(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.set(x, y, x + 10 * y);
+            }
+        }
+        return image;
+    }
+
+    public static void resize(ImageFloat input, ImageFloat output, int sampler) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                float u = (x + 0.5f) * input.X() / output.X();
+                float v = (y + 0.5f) * input.Y() / output.Y();
+                output.set(x, y, input.read(sampler, u, v));
+            }
+        }
+    }
+
+    public static void resizeFloat4(ImageFloat4 input, ImageFloat4 output, int sampler) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                float u = (x + 0.5f) / output.X();
+                float v = (y + 0.5f) / output.Y();
+                output.set(x, y, input.read(sampler, u, v));
+            }
+        }
+    }
+
+    public static void resizeLinear(ImageFloat input, ImageFloat output) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                float u = (x + 0.5f) * input.X() / output.X();
+                float v = (y + 0.5f) * input.Y() / output.Y();
+                output.set(x, y, input.read(LINEAR_CLAMP_TO_EDGE, u, v));
+            }
+        }
+    }
+
+    public static void convertByte4(ImageByte4 input, ImageFloat4 output) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                output.set(x, y, input.read(NEAREST_CLAMP, x + 0.5f, y + 0.5f));
+            }
+        }
+    }
+
+    @Test
+    public void testNearest() {
+        ImageFloat image = createRamp(4, 3);
+        assertEquals(0.0f, image.read(NEAREST_CLAMP_TO_EDGE, 0.9f, 0.2f), 0.0f);
+        assertEquals(12.0f, image.read(NEAREST_CLAMP_TO_EDGE, 2.5f, 1.99f), 0.0f);
+        // Out of range coordinates
+        assertEquals(23.0f, image.read(NEAREST_CLAMP_TO_EDGE, 7.0f, 5.0f), 0.0f);
+        assertEquals(0.0f, image.read(NEAREST_CLAMP_TO_EDGE, -3.0f, -0.5f), 0.0f);
+        assertEquals(0.0f, image.read(NEAREST_CLAMP, 7.0f, 1.0f), 0.0f);
+        assertEquals(3.0f, image.read(NEAREST_CLAMP, 3.5f, 0.5f), 0.0f);
+    }
+
+    @Test
+    public void testLinear() {
+        ImageFloat image = createRamp(4, 3);
+        // Texel centres are at i + 0.5
+        assertEquals(11.0f, image.read(LINEAR_CLAMP_TO_EDGE, 1.5f, 1.5f), 0.0f);
+        assertEquals(1.5f, image.read(LINEAR_CLAMP_TO_EDGE, 2.0f, 0.5f), 0.0f);
+        assertEquals(6.5f, image.read(LINEAR_CLAMP_TO_EDGE, 2.0f, 1.0f), 0.0f);
+        // The edge texel is repeated with clamp to edge, and the border is 0 with clamp
+        assertEquals(3.0f, image.read(LINEAR_CLAMP_TO_EDGE, 4.0f, 0.5f), 0.0f);
+        assertEquals(1.5f, image.read(LINEAR_CLAMP, 4.0f, 0.5f), 0.0f);
+    }
+
+    @Test
+    public void testNormalizedRepeat() {
+        ImageFloat image = createRamp(4, 2);
+        assertEquals(1.0f, image.read(NORMALIZED_REPEAT, 0.3f, 0.0f), 0.0f);
+        assertEquals(1.0f, image.read(NORMALIZED_REPEAT, 1.3f, 0.0f), 0.0f);
+        assertEquals(3.0f, image.read(NORMALIZED_REPEAT, -0.1f, 0.0f), 0.0f);
+        assertEquals(12.0f, image.read(NORMALIZED_REPEAT, 0.6f, 0.75f), 0.0f);
+    }
+
+    @Test
+    public void testNormalizedMirroredRepeat() {
+        ImageFloat image = createRamp(4, 2);
+        assertEquals(1.0f, image.read(NORMALIZED_MIRRORED_REPEAT, 0.3f, 0.0f), 0.0f);
+        assertEquals(2.0f, image.read(NORMALIZED_MIRRORED_REPEAT, 1.3f, 0.0f), 0.0f);
+        assertEquals(0.0f, image.read(NORMALIZED_MIRRORED_REPEAT, -0.1f, 0.0f), 0.0f);
+        assertEquals(3.0f, image.read(NORMALIZED_MIRRORED_REPEAT, 1.0f, 0.0f), 0.0f);
+    }
+
+    @Test
+    public void testImageByte4() {
+        ImageByte4 image = new ImageByte4(2, 1);
+        image.set(0, 0, new Byte4((byte) 0, (byte) 255, (byte) 51, (byte) 128));
+        image.set(1, 0, new Byte4((byte) 255, (byte) 255, (byte) 153, (byte) 0));
+
+        Float4 texel = image.read(NEAREST_CLAMP_TO_EDGE, 0.5f, 0.5f);
+        assertEquals(0.0f, texel.getX(), 0.0f);
+        assertEquals(1.0f, texel.getY(), 0.0f);
+        assertEquals(0.2f, texel.getZ(), 0.0f);
+        assertEquals(128 / 255.0f, texel.getW(), 0.0f);
+
+        Float4 middle = image.read(LINEAR_CLAMP_TO_EDGE, 1.0f, 0.5f);
+        assertEquals(0.5f, middle.getX(), 0.0f);
+        assertEquals(1.0f, middle.getY(), 0.0f);
+        assertEquals(0.4f, middle.getZ(), 1e-6f);
+        assertEquals(64 / 255.0f, middle.getW(), 1e-6f);
+    }
+
+    @Test
+    public void testImageFloat4Border() {
+        ImageFloat4 image = new ImageFloat4(2, 2);
+        image.fill(1.0f);
+        Float4 corner = image.read(LINEAR_CLAMP, 0.0f, 0.0f);
+        assertEquals(0.25f, corner.getX(), 0.0f);
+        assertEquals(0.25f, corner.getW(), 0.0f);
+        Float4 inside = image.read(LINEAR_CLAMP, 1.0f, 1.0f);
+        assertEquals(1.0f, inside.getY(), 0.0f);
+    }
+
+    @Test
+    public void testResizeLinear() throws TornadoExecutionPlanException {
+        final int size = 64;
+        ImageFloat input = createRamp(size, size);
+        ImageFloat output = new ImageFloat(size * 2 + 3, size * 2 + 3);
+        ImageFloat expected = new ImageFloat(size * 2 + 3, size * 2 + 3);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("resize", TestImageSampler::resize, input, output, LINEAR_CLAMP_TO_EDGE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        resize(input, expected, LINEAR_CLAMP_TO_EDGE);
+        for (int y = 0; y < expected.Y(); y++) {
+            for (int x = 0; x < expected.X(); x++) {
+                assertEquals(expected.get(x, y), output.get(x, y), 1e-3f);
+            }
+        }
+    }
+
+    @Test
+    public void testResizeFloat4MirroredRepeat() throws TornadoExecutionPlanException {
+        final int size = 32;
+        ImageFloat4 input = new ImageFloat4(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                input.set(x, y, new Float4(x, y, x + y, x * y));
+            }
+        }
+        ImageFloat4 output = new ImageFloat4(size * 3, size);
+        ImageFloat4 expected = new ImageFloat4(size * 3, size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("resize", TestImageSampler::resizeFloat4, input, output, NORMALIZED_MIRRORED_REPEAT) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        resizeFloat4(input, expected, NORMALIZED_MIRRORED_REPEAT);
+        for (int y = 0; y < expected.Y(); y++) {
+            for (int x = 0; x < expected.X(); x++) {
+                assertEquals(expected.get(x, y).getX(), output.get(x, y).getX(), 0.0f);
+                assertEquals(expected.get(x, y).getW(), output.get(x, y).getW(), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testResizeLinearConstantSampler() throws TornadoExecutionPlanException {
+        final int size = 64;
+        ImageFloat input = createRamp(size, size);
+        ImageFloat output = new ImageFloat(size * 2 + 3, size * 2 + 3);
+        ImageFloat expected = new ImageFloat(size * 2 + 3, size * 2 + 3);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("resize", TestImageSampler::resizeLinear, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        resizeLinear(input, expected);
+        for (int y = 0; y < expected.Y(); y++) {
+            for (int x = 0; x < expected.X(); x++) {
+                // The weights of the hardware filtering are fixed point, with 8 bits of fraction
+                assertEquals(expected.get(x, y), output.get(x, y), 0.05f);
+            }
+        }
+    }
+
+    @Test
+    public void testImageByte4ConstantSampler() throws TornadoExecutionPlanException {
+        final int size = 16;
+        ImageByte4 input = new ImageByte4(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                input.set(x, y, new Byte4((byte) x, (byte) y, (byte) (x * y), (byte) 255));
+            }
+        }
+        ImageFloat4 output = new ImageFloat4(size, size);
+        ImageFloat4 expected = new ImageFloat4(size, size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("convert", TestImageSampler::convertByte4, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        convertByte4(input, expected);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                assertEquals(expected.get(x, y).getX(), output.get(x, y).getX(), 1e-6f);
+                assertEquals(expected.get(x, y).getZ(), output.get(x, y).getZ(), 1e-6f);
+                assertEquals(expected.get(x, y).getW(), output.get(x, y).getW(), 1e-6f);
+            }
+        }
+    }
+}
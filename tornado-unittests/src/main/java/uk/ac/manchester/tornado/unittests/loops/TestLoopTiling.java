@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.loops;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the tiling of 2D loop nests through local memory. The matrix
+ * multiplications are tiled when their sizes are a multiple of the tile, and
+ * the results must be the same as in Java, also for the loop nests that are
+ * not tiled. The analysis of each task is printed with {@code --printKernel}
+ * or {@code --threadInfo}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --threadInfo uk.ac.manchester.tornado.unittests.loops.TestLoopTiling
+ * </code>
+ */
+public class TestLoopTiling extends TornadoTestBase {
+
+    public static void matrixMultiplication(FloatArray a, FloatArray b, FloatArray c, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            for (@Parallel int j = 0; j < size; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < size; k++) {
+                    sum += a.get(i * size + k) * b.get(k * size + j);
+                }
+                c.set(i * size + j, sum);
+            }
+        }
+    }
+
+    public static void matrixMultiplication2D(Matrix2DFloat a, Matrix2DFloat b, Matrix2DFloat c) {
+        for (@Parallel int i = 0; i < c.getNumRows(); i++) {
+            for (@Parallel int j = 0; j < c.getNumColumns(); j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < a.getNumColumns(); k++) {
+                    sum += a.get(i, k) * b.get(k, j);
+                }
+                c.set(i, j, sum);
+            }
+        }
+    }
+
+    public static void stencil(FloatArray input, FloatArray output, int size) {
+        for (@Parallel int i = 1; i < size - 1; i++) {
+            for (@Parallel int j = 1; j < size - 1; j++) {
+                float value = input.get(i * size + j) //
+                        + input.get((i - 1) * size + j) //
+                        + input.get((i + 1) * size + j) //
+                        + input.get(i * size + j - 1) //
+                        + input.get(i * size + j + 1);
+                output.set(i * size + j, value * 0.2f);
+            }
+        }
+    }
+
+    // Each thread reads different data, so it is not tiled
+    public static void copy(FloatArray input, FloatArray output, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            for (@Parallel int j = 0; j < size; j++) {
+                output.set(i * size + j, input.get(i * size + j));
+            }
+        }
+    }
+
+    private static FloatArray randomArray(int length, Random random) {
+        FloatArray array = new FloatArray(length);
+        for (int i = 0; i < length; i++) {
+            array.set(i, random.nextFloat());
+        }
+        return array;
+    }
+
+    private void testMatrixMultiplication(int size) throws TornadoExecutionPlanException {
+        Random random = new Random(7);
+        FloatArray a = randomArray(size * size, random);
+        FloatArray b = randomArray(size * size, random);
+        FloatArray c = new FloatArray(size * size);
+        FloatArray expected = new FloatArray(size * size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("mxm", TestLoopTiling::matrixMultiplication, a, b, c, size) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        matrixMultiplication(a, b, expected, size);
+        for (int i = 0; i < size * size; i++) {
+            assertEquals(expected.get(i), c.get(i), 0.01f);
+        }
+    }
+
+    @Test
+    public void testMatrixMultiplicationMultipleOfTile() throws TornadoExecutionPlanException {
+        testMatrixMultiplication(256);
+    }
+
+    @Test
+    public void testMatrixMultiplicationNotMultipleOfTile() throws TornadoExecutionPlanException {
+        testMatrixMultiplication(250);
+    }
+
+    @Test
+    public void testMatrixMultiplication2D() throws TornadoExecutionPlanException {
+        final int size = 128;
+        Random random = new Random(7);
+        Matrix2DFloat a = new Matrix2DFloat(size, size);
+        Matrix2DFloat b = new Matrix2DFloat(size, size);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                a.set(i, j, random.nextFloat());
+                b.set(i, j, random.nextFloat());
+            }
+        }
+        Matrix2DFloat c = new Matrix2DFloat(size, size);
+        Matrix2DFloat expected = new Matrix2DFloat(size, size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("mxm", TestLoopTiling::matrixMultiplication2D, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        matrixMultiplication2D(a, b, expected);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                assertEquals(expected.get(i, j), c.get(i, j), 0.01f);
+            }
+        }
+    }
+
+    @Test
+    public void testStencil() throws TornadoExecutionPlanException {
+        final int size = 258;
+        FloatArray input = randomArray(size * size, new Random(7));
+        FloatArray output = new FloatArray(size * size);
+        FloatArray expected = new FloatArray(size * size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("stencil", TestLoopTiling::stencil, input, output, size) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        stencil(input, expected, size);
+        for (int i = 0; i < size * size; i++) {
+            assertEquals(expected.get(i), output.get(i), 0.001f);
+        }
+    }
+
+    @Test
+    public void testCopyIsNotTiled() throws TornadoExecutionPlanException {
+        final int size = 512;
+        FloatArray input = randomArray(size * size, new Random(7));
+        FloatArray output = new FloatArray(size * size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("copy", TestLoopTiling::copy, input, output, size) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        for (int i = 0; i < size * size; i++) {
+            assertEquals(input.get(i), output.get(i), 0.0f);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.matrices;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.collections.VectorFloat;
+import uk.ac.manchester.tornado.api.types.matrix.ColumnView;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DDouble;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat4;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DInt;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix3DFloat;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix3DShort;
+import uk.ac.manchester.tornado.api.types.vectors.Float4;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the host implementations of the operations of the matrix types.
+ * The results are compared with the naive loops over {@code get} and
+ * {@code set}. The sizes are not multiples of the blocks, and the largest ones
+ * run in parallel.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.matrices.TestMatrixHostOperations
+ * </code>
+ */
+public class TestMatrixHostOperations extends TornadoTestBase {
+
+    private static Matrix2DFloat randomMatrixFloat(int rows, int columns, Random r) {
+        Matrix2DFloat matrix = new Matrix2DFloat(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                matrix.set(i, j, r.nextFloat());
+            }
+        }
+        return matrix;
+    }
+
+    private static void multiplyFloat(Matrix2DFloat a, Matrix2DFloat b, Matrix2DFloat c) {
+        for (int row = 0; row < c.getNumRows(); row++) {
+            for (int col = 0; col < c.getNumColumns(); col++) {
+                float sum = 0f;
+                for (int k = 0; k < b.getNumRows(); k++) {
+                    sum += a.get(row, k) * b.get(k, col);
+                }
+                c.set(row, col, sum);
+            }
+        }
+    }
+
+    private static void testMultiplyFloat(int m, int n, int k) {
+        Random r = new Random(7);
+        Matrix2DFloat a = randomMatrixFloat(m, k, r);
+        Matrix2DFloat b = randomMatrixFloat(k, n, r);
+        Matrix2DFloat c = new Matrix2DFloat(m, n);
+        Matrix2DFloat expected = new Matrix2DFloat(m, n);
+
+        c.multiply(a, b);
+        multiplyFloat(a, b, expected);
+
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(expected.get(i, j), c.get(i, j), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyFloatSmall() {
+        testMultiplyFloat(13, 7, 5);
+    }
+
+    @Test
+    public void testMultiplyFloatParallel() {
+        testMultiplyFloat(257, 531, 129);
+    }
+
+    @Test
+    public void testMultiplyDouble() {
+        Random r = new Random(7);
+        final int m = 70;
+        final int n = 90;
+        final int k = 65;
+        Matrix2DDouble a = new Matrix2DDouble(m, k);
+        Matrix2DDouble b = new Matrix2DDouble(k, n);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < k; j++) {
+                a.set(i, j, r.nextDouble());
+            }
+        }
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < n; j++) {
+                b.set(i, j, r.nextDouble());
+            }
+        }
+        Matrix2DDouble c = new Matrix2DDouble(m, n);
+        c.multiply(a, b);
+
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0;
+                for (int x = 0; x < k; x++) {
+                    sum += a.get(i, x) * b.get(x, j);
+                }
+                assertEquals(sum, c.get(i, j), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyInt() {
+        Random r = new Random(7);
+        final int size = 100;
+        Matrix2DInt a = new Matrix2DInt(size, size);
+        Matrix2DInt b = new Matrix2DInt(size, size);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                a.set(i, j, r.nextInt(100));
+                b.set(i, j, r.nextInt(100));
+            }
+        }
+        Matrix2DInt c = new Matrix2DInt(size, size);
+        c.multiply(a, b);
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                int sum = 0;
+                for (int x = 0; x < size; x++) {
+                    sum += a.get(i, x) * b.get(x, j);
+                }
+                assertEquals(sum, c.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyFloat4() {
+        Random r = new Random(7);
+        final int m = 9;
+        final int n = 11;
+        final int k = 70;
+        Matrix2DFloat4 a = new Matrix2DFloat4(m, k);
+        Matrix2DFloat4 b = new Matrix2DFloat4(k, n);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < k; j++) {
+                a.set(i, j, new Float4(r.nextFloat(), r.nextFloat(), r.nextFloat(), r.nextFloat()));
+            }
+        }
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < n; j++) {
+                b.set(i, j, new Float4(r.nextFloat(), r.nextFloat(), r.nextFloat(), r.nextFloat()));
+            }
+        }
+        Matrix2DFloat4 c = new Matrix2DFloat4(m, n);
+        c.multiply(a, b);
+
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                Float4 sum = new Float4();
+                for (int x = 0; x < k; x++) {
+                    sum = Float4.add(Float4.mult(a.get(i, x), b.get(x, j)), sum);
+                }
+                Float4 result = c.get(i, j);
+                assertEquals(sum.getX(), result.getX(), 0.0f);
+                assertEquals(sum.getY(), result.getY(), 0.0f);
+                assertEquals(sum.getZ(), result.getZ(), 0.0f);
+                assertEquals(sum.getW(), result.getW(), 0.0f);
+            }
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testMultiplyWrongSizes() {
+        Matrix2DFloat c = new Matrix2DFloat(4, 4);
+        c.multiply(new Matrix2DFloat(4, 3), new Matrix2DFloat(4, 4));
+    }
+
+    @Test
+    public void testTransposeSquare() {
+        final int size = 100;
+        Matrix2DFloat matrix = randomMatrixFloat(size, size, new Random(7));
+        Matrix2DFloat original = matrix.duplicate();
+
+        Matrix2DFloat.transpose(matrix);
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                assertEquals(original.get(j, i), matrix.get(i, j), 0.0f);
+            }
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testTransposeInPlaceRectangular() {
+        Matrix2DFloat.transpose(new Matrix2DFloat(3, 5));
+    }
+
+    @Test
+    public void testTransposeRectangular() {
+        final int rows = 1500;
+        final int columns = 1700;
+        Matrix2DFloat src = randomMatrixFloat(rows, columns, new Random(7));
+        Matrix2DFloat dst = new Matrix2DFloat(columns, rows);
+
+        Matrix2DFloat.transpose(src, dst);
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                assertEquals(src.get(i, j), dst.get(j, i), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testTransposeRectangularDouble() {
+        final int rows = 33;
+        final int columns = 65;
+        Matrix2DDouble src = new Matrix2DDouble(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                src.set(i, j, i * 1000.0 + j + 0.5);
+            }
+        }
+        Matrix2DDouble dst = new Matrix2DDouble(columns, rows);
+
+        Matrix2DDouble.transpose(src, dst);
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                assertEquals(src.get(i, j), dst.get(j, i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testTransposeFloat4() {
+        final int rows = 5;
+        final int columns = 3;
+        Matrix2DFloat4 src = new Matrix2DFloat4(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                src.set(i, j, new Float4(i, j, i + j, i * j));
+            }
+        }
+        Matrix2DFloat4 dst = new Matrix2DFloat4(columns, rows);
+
+        Matrix2DFloat4.transpose(src, dst);
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                assertEquals(src.get(i, j).getZ(), dst.get(j, i).getZ(), 0.0f);
+                assertEquals(src.get(i, j).getW(), dst.get(j, i).getW(), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testScale() {
+        Matrix2DFloat matrix = randomMatrixFloat(100, 50, new Random(7));
+        Matrix2DFloat original = matrix.duplicate();
+        Matrix2DFloat.scale(matrix, 3.0f);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 50; j++) {
+                assertEquals(original.get(i, j) * 3.0f, matrix.get(i, j), 0.0f);
+            }
+        }
+
+        Matrix3DFloat matrix3D = new Matrix3DFloat(20, 30, 40);
+        matrix3D.fill(2.0f);
+        Matrix3DFloat.scale(matrix3D, 0.5f);
+        assertEquals(1.0f, matrix3D.get(19, 29, 39), 0.0f);
+
+        Matrix3DShort matrixShort = new Matrix3DShort(4, 4, 4);
+        matrixShort.fill((short) 3);
+        Matrix3DShort.scale(matrixShort, (short) 2);
+        assertEquals(6, matrixShort.get(3, 3, 3));
+    }
+
+    @Test
+    public void testRowSegment() {
+        Matrix2DFloat matrix = randomMatrixFloat(8, 10, new Random(7));
+        MemorySegment row = matrix.rowSegment(3);
+        for (int j = 0; j < 10; j++) {
+            assertEquals(matrix.get(3, j), row.getAtIndex(JAVA_FLOAT, j), 0.0f);
+        }
+
+        row.setAtIndex(JAVA_FLOAT, 4, 42.0f);
+        assertEquals(42.0f, matrix.get(3, 4), 0.0f);
+
+        VectorFloat copy = matrix.row(3);
+        assertEquals(42.0f, copy.get(4), 0.0f);
+        assertEquals(matrix.get(3, 9), copy.get(9), 0.0f);
+    }
+
+    @Test
+    public void testColumnView() {
+        Matrix2DFloat matrix = randomMatrixFloat(8, 10, new Random(7));
+        ColumnView column = matrix.columnView(6);
+        assertEquals(8, column.size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(matrix.get(i, 6), column.getFloat(i), 0.0f);
+        }
+
+        column.setFloat(2, 42.0f);
+        assertEquals(42.0f, matrix.get(2, 6), 0.0f);
+        matrix.set(5, 6, -1.0f);
+        assertEquals(-1.0f, column.getFloat(5), 0.0f);
+
+        VectorFloat copy = matrix.column(6);
+        assertEquals(42.0f, copy.get(2), 0.0f);
+        assertEquals(matrix.get(7, 6), copy.get(7), 0.0f);
+    }
+
+    @Test
+    public void testColumnViewFloat4() {
+        Matrix2DFloat4 matrix = new Matrix2DFloat4(4, 3);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 3; j++) {
+                matrix.set(i, j, new Float4(i, j, i + j, i * j));
+            }
+        }
+        ColumnView column = matrix.columnView(2);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(Float4.isEqual(matrix.get(i, 2), column.getFloat4(i)));
+        }
+
+        column.setFloat4(1, new Float4(7, 8, 9, 10));
+        assertTrue(Float4.isEqual(new Float4(7, 8, 9, 10), matrix.get(1, 2)));
+        assertTrue(Float4.isEqual(new Float4(1, 1, 2, 1), matrix.get(1, 1)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testColumnViewOutOfBounds() {
+        new Matrix2DInt(4, 4).columnView(1).getInt(4);
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testColumnViewElementType() {
+        new Matrix2DDouble(4, 4).columnView(1).getFloat(0);
+    }
+
+    @Test
+    public void testColumnViewDouble() {
+        Matrix2DDouble matrix = new Matrix2DDouble(3, 5);
+        ColumnView column = matrix.columnView(4);
+        column.setDouble(1, 3.5);
+        assertEquals(3.5, matrix.get(1, 4), 0.0);
+        assertEquals(3.5, matrix.column(4).get(1), 0.0);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the eviction of device buffers when two execution plans need more
+ * device memory than the one available. The buffers of the first execution
+ * plan stay on the device across executions, and they are evicted when the
+ * second execution plan runs. They must be allocated and copied again, with the
+ * values computed on the device, when the first execution plan runs again.
+ *
+ * <p>
+ * The tests need a device memory of 64MB.
+ * </p>
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V -J"-Dtornado.device.memory=64MB" uk.ac.manchester.tornado.unittests.memory.TestDeviceMemoryEviction
+ * </code>
+ */
+public class TestDeviceMemoryEviction extends TornadoTestBase {
+
+    // 16MB per array
+    private static final int SIZE_RESIDENT = 4 * 1024 * 1024;
+
+    // 20MB per array
+    private static final int SIZE_PRESSURE = 5 * 1024 * 1024;
+
+    public static void accumulate(FloatArray input, FloatArray accumulator) {
+        for (@Parallel int i = 0; i < accumulator.getSize(); i++) {
+            accumulator.set(i, accumulator.get(i) + input.get(i));
+        }
+    }
+
+    public static void add(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    private static TaskGraph createResidentTaskGraph(FloatArray input, FloatArray accumulator) {
+        // Both buffers stay on the device, and the accumulator is only modified
+        // on the device
+        return new TaskGraph("resident") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input, accumulator) //
+                .task("accumulate", TestDeviceMemoryEviction::accumulate, input, accumulator) //
+                .transferToHost(DataTransferMode.UNDER_DEMAND, accumulator);
+    }
+
+    private static TaskGraph createPressureTaskGraph(FloatArray a, FloatArray b, FloatArray c) {
+        return new TaskGraph("pressure") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("add", TestDeviceMemoryEviction::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+    }
+
+    @Test
+    public void testEvictAndRematerialize() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE_RESIDENT);
+        FloatArray accumulator = new FloatArray(SIZE_RESIDENT);
+        input.init(2.0f);
+        accumulator.init(1.0f);
+
+        FloatArray a = new FloatArray(SIZE_PRESSURE);
+        FloatArray b = new FloatArray(SIZE_PRESSURE);
+        FloatArray c = new FloatArray(SIZE_PRESSURE);
+        a.init(3.0f);
+        b.init(4.0f);
+
+        try (TornadoExecutionPlan residentPlan = new TornadoExecutionPlan(createResidentTaskGraph(input, accumulator).snapshot()); //
+                TornadoExecutionPlan pressurePlan = new TornadoExecutionPlan(createPressureTaskGraph(a, b, c).snapshot())) {
+
+            residentPlan.execute();
+
+            // It does not fit with the buffers of the first plan
+            pressurePlan.execute();
+            for (int i = 0; i < c.getSize(); i++) {
+                assertEquals(7.0f, c.get(i), 0.0f);
+            }
+
+            // The evicted buffers are copied again, and the accumulator keeps the value
+            // computed in the first execution
+            TornadoExecutionResult executionResult = residentPlan.execute();
+            executionResult.transferToHost(accumulator);
+        }
+
+        for (int i = 0; i < accumulator.getSize(); i++) {
+            assertEquals(5.0f, accumulator.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testEvictionCountersInProfiler() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE_RESIDENT);
+        FloatArray accumulator = new FloatArray(SIZE_RESIDENT);
+        input.init(1.0f);
+
+        FloatArray a = new FloatArray(SIZE_PRESSURE);
+        FloatArray b = new FloatArray(SIZE_PRESSURE);
+        FloatArray c = new FloatArray(SIZE_PRESSURE);
+
+        try (TornadoExecutionPlan residentPlan = new TornadoExecutionPlan(createResidentTaskGraph(input, accumulator).snapshot()); //
+                TornadoExecutionPlan pressurePlan = new TornadoExecutionPlan(createPressureTaskGraph(a, b, c).snapshot())) {
+
+            residentPlan.withProfiler(ProfilerMode.SILENT).execute();
+
+            TornadoExecutionResult pressureResult = pressurePlan.withProfiler(ProfilerMode.SILENT).execute();
+            assertTrue(pressureResult.getProfilerResult().getNumEvictions() > 0);
+            assertTrue(pressureResult.getProfilerResult().getTotalBytesEvicted() >= SIZE_RESIDENT * Float.BYTES);
+
+            TornadoExecutionResult residentResult = residentPlan.execute();
+            assertTrue(residentResult.getProfilerResult().getTotalBytesRematerialized() >= SIZE_RESIDENT * Float.BYTES);
+        }
+    }
+}
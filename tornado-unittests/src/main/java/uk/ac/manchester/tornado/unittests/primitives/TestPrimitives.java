@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.HostPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the data-parallel primitives of the task-graphs: scans, segmented
+ * reductions, stream compaction, histograms, radix sorts and top-k. The
+ * results of the device are compared with sequential Java code and with
+ * {@link HostPrimitives}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.primitives.TestPrimitives
+ * </code>
+ */
+public class TestPrimitives extends TornadoTestBase {
+
+    private static final int SIZE = 100_003;
+
+    private static IntArray randomInts(int size, int bound, Random random) {
+        IntArray array = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextInt(bound) - bound / 2);
+        }
+        return array;
+    }
+
+    private static void execute(TaskGraph taskGraph) throws TornadoExecutionPlanException {
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+    }
+
+    public static void positiveFlags(IntArray input, IntArray flags) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            flags.set(i, input.get(i) > 0 ? 1 : 0);
+        }
+    }
+
+    @Test
+    public void testScan() throws TornadoExecutionPlanException {
+        IntArray input = randomInts(SIZE, 1000, new Random(7));
+        IntArray inclusive = new IntArray(SIZE);
+        IntArray exclusive = new IntArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .scan("inclusive", input, inclusive) //
+                .exclusiveScan("exclusive", input, exclusive) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, inclusive, exclusive);
+        execute(taskGraph);
+
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(sum, exclusive.get(i));
+            sum += input.get(i);
+            assertEquals(sum, inclusive.get(i));
+        }
+    }
+
+    @Test
+    public void testScanFloats() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        input.init(0.5f);
+        FloatArray output = new FloatArray(SIZE);
+        FloatArray expected = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .scan("scan", input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph);
+
+        HostPrimitives.scan(input, expected);
+        for (int i = 0; i < SIZE; i++) {
+            // Sums of 0.5 are exact
+            assertEquals(0.5f * (i + 1), output.get(i), 0.0f);
+            assertEquals(expected.get(i), output.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testSegmentedReduce() throws TornadoExecutionPlanException {
+        LongArray input = new LongArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, i);
+        }
+        // Segments of 0, 1, 2, ... elements
+        int numSegments = 0;
+        while ((numSegments + 1) * (numSegments + 2) / 2 <= SIZE) {
+            numSegments++;
+        }
+        IntArray offsets = new IntArray(numSegments + 1);
+        for (int s = 0; s <= numSegments; s++) {
+            offsets.set(s, s * (s + 1) / 2);
+        }
+        LongArray output = new LongArray(numSegments);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, offsets) //
+                .segmentedReduce("segments", input, offsets, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph);
+
+        for (int s = 0; s < numSegments; s++) {
+            long expected = 0;
+            for (int i = offsets.get(s); i < offsets.get(s + 1); i++) {
+                expected += i;
+            }
+            assertEquals(expected, output.get(s));
+        }
+    }
+
+    @Test
+    public void testCompact() throws TornadoExecutionPlanException {
+        IntArray input = randomInts(SIZE, 1000, new Random(11));
+        IntArray flags = new IntArray(SIZE);
+        IntArray output = new IntArray(SIZE);
+        IntArray count = new IntArray(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("flags", TestPrimitives::positiveFlags, input, flags) //
+                .compact("compact", input, flags, output, count) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output, count);
+        execute(taskGraph);
+
+        int expectedCount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (input.get(i) > 0) {
+                assertEquals(input.get(i), output.get(expectedCount));
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, count.get(0));
+    }
+
+    @Test
+    public void testHistogram() throws TornadoExecutionPlanException {
+        // The partial histograms use atomics, which the SPIR-V backend does not support
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int numBins = 100;
+        IntArray input = randomInts(SIZE, 240, new Random(13));
+        FloatArray values = new FloatArray(SIZE);
+        Random random = new Random(17);
+        for (int i = 0; i < SIZE; i++) {
+            values.set(i, random.nextFloat() * 3.0f - 1.0f);
+        }
+        IntArray bins = new IntArray(numBins);
+        IntArray floatBins = new IntArray(numBins);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, values) //
+                .histogram("histogram", input, bins) //
+                .histogram("floatHistogram", values, 0.0f, 1.0f, floatBins) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, bins, floatBins);
+        execute(taskGraph);
+
+        int[] expected = new int[numBins];
+        for (int i = 0; i < SIZE; i++) {
+            if (input.get(i) >= 0 && input.get(i) < numBins) {
+                expected[input.get(i)]++;
+            }
+        }
+        IntArray expectedFloatBins = new IntArray(numBins);
+        HostPrimitives.histogram(values, 0.0f, 1.0f, expectedFloatBins);
+        for (int i = 0; i < numBins; i++) {
+            assertEquals(expected[i], bins.get(i));
+            assertEquals(expectedFloatBins.get(i), floatBins.get(i));
+        }
+    }
+
+    @Test
+    public void testSortIntegers() throws TornadoExecutionPlanException {
+        IntArray keys = randomInts(SIZE, Integer.MAX_VALUE, new Random(19));
+        keys.set(0, Integer.MIN_VALUE);
+        keys.set(1, Integer.MAX_VALUE);
+        int[] expected = keys.toHeapArray();
+        Arrays.sort(expected);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys) //
+                .sort("sort", keys) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expected[i], keys.get(i));
+        }
+    }
+
+    @Test
+    public void testSortLongs() throws TornadoExecutionPlanException {
+        Random random = new Random(23);
+        LongArray keys = new LongArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, random.nextLong());
+        }
+        long[] expected = keys.toHeapArray();
+        Arrays.sort(expected);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys) //
+                .sort("sort", keys) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expected[i], keys.get(i));
+        }
+    }
+
+    @Test
+    public void testSortKeyValue() throws TornadoExecutionPlanException {
+        Random random = new Random(29);
+        FloatArray keys = new FloatArray(SIZE);
+        IntArray values = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            // Rounded values, so many keys are equal
+            keys.set(i, Math.round(random.nextGaussian() * 100.0f) / 10.0f);
+            values.set(i, i);
+        }
+        keys.set(0, -0.0f);
+        keys.set(1, 0.0f);
+        float[] original = keys.toHeapArray();
+        FloatArray expectedKeys = FloatArray.fromArray(original);
+        IntArray expectedValues = IntArray.fromArray(values.toHeapArray());
+        HostPrimitives.sort(expectedKeys, expectedValues);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values) //
+                .sort("sort", keys, values) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys, values);
+        execute(taskGraph);
+
+        Arrays.sort(original);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(Float.floatToRawIntBits(original[i]), Float.floatToRawIntBits(keys.get(i)));
+            // The sort is stable, so the values are the same as on the host
+            assertEquals(expectedValues.get(i), values.get(i));
+        }
+    }
+
+    @Test
+    public void testTopK() throws TornadoExecutionPlanException {
+        final int k = 10;
+        IntArray input = randomInts(SIZE, 500, new Random(31));
+        IntArray values = new IntArray(k);
+        IntArray indices = new IntArray(k);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .topK("topk", input, values, indices) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, values, indices);
+        execute(taskGraph);
+
+        // Stable sort of the indices from the largest value
+        Integer[] order = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(input.get(b), input.get(a)));
+        for (int i = 0; i < k; i++) {
+            assertEquals((int) order[i], indices.get(i));
+            assertEquals(input.get(order[i]), values.get(i));
+        }
+    }
+
+    @Test
+    public void testHostPrimitives() {
+        IntArray input = randomInts(SIZE, 1000, new Random(37));
+        IntArray flags = new IntArray(SIZE);
+        positiveFlags(input, flags);
+        IntArray output = new IntArray(SIZE);
+
+        int count = HostPrimitives.compact(input, flags, output);
+        int expectedCount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (input.get(i) > 0) {
+                assertEquals(input.get(i), output.get(expectedCount));
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, count);
+
+        HostPrimitives.exclusiveScan(input, output);
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(sum, output.get(i));
+            sum += input.get(i);
+        }
+
+        int[] expected = input.toHeapArray();
+        Arrays.sort(expected);
+        HostPrimitives.sort(input);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expected[i], input.get(i));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.CostPrediction;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.KernelCostModel;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.KernelProfileSample;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.LinearRegression;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.ProfileJsonReader;
+import uk.ac.manchester.tornado.runtime.profiler.costmodel.TransferSample;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the kernel cost model: the regression, the reader of the profiler
+ * JSON, and the predictions. The samples are synthetic, so no device is
+ * needed.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.profiler.TestCostModel
+ * </code>
+ */
+public class TestCostModel extends TornadoTestBase {
+
+    private static final String METHOD = "Kernels.saxpy";
+    private static final String GPU = "gpu";
+    private static final String CPU = "cpu";
+
+    /**
+     * Kernel time {@code latency + nsPerByte * bytes}, and transfers of
+     * {@code transferLatency + transferNsPerByte * bytes} in each direction,
+     * for five input sizes.
+     */
+    private static void addDevice(KernelCostModel model, String device, double latency, double nsPerByte, double transferLatency, double transferNsPerByte) {
+        for (int i = 1; i <= 5; i++) {
+            long bytes = i * 4096L;
+            model.addSample(new KernelProfileSample(METHOD, device, bytes, (long) (latency + nsPerByte * bytes)));
+            long transferTime = (long) (transferLatency + transferNsPerByte * bytes);
+            model.addSample(new TransferSample(device, bytes, transferTime, bytes, transferTime));
+        }
+    }
+
+    @Test
+    public void testLinearRegressionExactFit() {
+        double[][] x = { { 1, 2 }, { 2, 1 }, { 3, 5 }, { 4, 3 }, { 5, 8 } };
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = 3 + 2 * x[i][0] - 0.5 * x[i][1];
+        }
+        LinearRegression model = LinearRegression.fit(x, y, 0);
+        assertEquals(3, model.getIntercept(), 1e-9);
+        assertArrayEquals(new double[] { 2, -0.5 }, model.getCoefficients(), 1e-9);
+        assertEquals(3 + 2 * 10 - 0.5 * 7, model.predict(10, 7), 1e-9);
+    }
+
+    @Test
+    public void testLinearRegressionConstantColumn() {
+        // The constant column only contributes to the intercept
+        double[][] x = { { 1, 7 }, { 2, 7 }, { 3, 7 }, { 4, 7 } };
+        double[] y = { 5, 7, 9, 11 };
+        LinearRegression model = LinearRegression.fit(x, y, 0);
+        assertEquals(2, model.getCoefficients()[0], 1e-9);
+        assertEquals(0, model.getCoefficients()[1], 1e-9);
+        assertEquals(13, model.predict(5, 7), 1e-9);
+    }
+
+    @Test
+    public void testLinearRegressionRidge() {
+        double[][] x = { { 1 }, { 2 }, { 3 }, { 4 } };
+        double[] y = { 10, 20, 30, 40 };
+        double ordinary = LinearRegression.fit(x, y, 0).getCoefficients()[0];
+        double ridge = LinearRegression.fit(x, y, 10).getCoefficients()[0];
+        assertEquals(10, ordinary, 1e-9);
+        assertTrue(ridge > 0 && ridge < ordinary);
+    }
+
+    @Test
+    public void testLinearRegressionThroughOrigin() {
+        LinearRegression model = LinearRegression.fitThroughOrigin(new double[] { 100, 100 }, new double[] { 380, 420 });
+        assertEquals(0, model.getIntercept(), 0);
+        assertEquals(4, model.getCoefficients()[0], 1e-9);
+        assertEquals(0, LinearRegression.fitThroughOrigin(new double[] { 0 }, new double[] { 5 }).getCoefficients()[0], 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadConcatenatedObjects() {
+        String json = """
+                {"s0": {"COPY_IN_TIME": 120, "t0": {"METHOD": "A.b", "DEVICE": "GPU \\"0\\"\\u0021", "list": [1, "two", {}]}}}
+                [TornadoVM] text printed between two records
+                {"s1": {}}
+                """;
+        List<Map<String, Object>> objects = ProfileJsonReader.readObjects(json);
+        assertEquals(2, objects.size());
+
+        Map<String, Object> section = (Map<String, Object>) objects.get(0).get("s0");
+        assertEquals("120", section.get("COPY_IN_TIME"));
+        Map<String, Object> task = (Map<String, Object>) section.get("t0");
+        assertEquals("A.b", task.get("METHOD"));
+        assertEquals("GPU \"0\"!", task.get("DEVICE"));
+        assertEquals(List.of("1", "two", Map.of()), task.get("list"));
+        assertEquals(Map.of(), objects.get(1).get("s1"));
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testReadMalformedObject() {
+        ProfileJsonReader.readObjects("{\"s0\": {\"t0\": 1 \"t1\": 2}}");
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testReadTruncatedObject() {
+        ProfileJsonReader.readObjects("{\"s0\": {\"t0\": ");
+    }
+
+    @Test
+    public void testPredict() {
+        KernelCostModel model = new KernelCostModel();
+        addDevice(model, GPU, 1000, 2, 500, 0.5);
+
+        CostPrediction prediction = model.predict(METHOD, GPU, 8192, 8192, 4096);
+        assertNotNull(prediction);
+        assertEquals(1000 + 2 * 8192, prediction.kernelTimeNs(), 1);
+        assertEquals(500 + 0.5 * 8192, prediction.copyInTimeNs(), 1);
+        assertEquals(500 + 0.5 * 4096, prediction.copyOutTimeNs(), 1);
+        assertEquals(prediction.kernelTimeNs() + prediction.copyInTimeNs() + prediction.copyOutTimeNs(), prediction.totalTimeNs(), 1e-6);
+        assertTrue(model.hasSamples(METHOD, GPU));
+
+        // No samples of the device, or of the method without features
+        assertNull(model.predict(METHOD, CPU, 8192, 8192, 4096));
+        assertNull(model.predict("Kernels.unknown", GPU, 8192, 8192, 4096));
+    }
+
+    @Test
+    public void testSelectDevice() {
+        KernelCostModel model = new KernelCostModel();
+        // The GPU runs the kernel faster, but the transfers have a high latency
+        addDevice(model, GPU, 1000, 0.1, 100_000, 0.05);
+        addDevice(model, CPU, 100, 2, 10, 0.001);
+
+        assertEquals(CPU, model.selectDevice(METHOD, List.of(GPU, CPU), 1024, 1024, 1024));
+        assertEquals(GPU, model.selectDevice(METHOD, List.of(GPU, CPU), 1 << 20, 1 << 20, 1 << 20));
+        assertNull(model.selectDevice("Kernels.unknown", List.of(GPU, CPU), 1024, 1024, 1024));
+    }
+
+    @Test
+    public void testMaxBatchBytes() {
+        KernelCostModel model = new KernelCostModel();
+        addDevice(model, GPU, 1000, 2, 500, 0.5);
+
+        // Total time of a batch of b bytes: 1000 + 2b + 2 * (500 + 0.5b) = 2000 + 3b
+        long budget = 2000 + 3 * 100_000L;
+        long bytes = model.maxBatchBytes(METHOD, GPU, budget);
+        assertTrue(model.predict(METHOD, GPU, bytes, bytes, bytes).totalTimeNs() <= budget);
+        assertTrue(model.predict(METHOD, GPU, bytes + 1, bytes + 1, bytes + 1).totalTimeNs() > budget);
+        assertEquals(100_000, bytes, 10);
+
+        // Not even the latency fits in the budget
+        assertEquals(0, model.maxBatchBytes(METHOD, GPU, 100));
+        assertEquals(0, model.maxBatchBytes(METHOD, CPU, budget));
+    }
+
+    @Test
+    public void testSamplesAreBounded() {
+        KernelCostModel model = new KernelCostModel();
+        for (int i = 0; i < KernelCostModel.MAX_SAMPLES; i++) {
+            long bytes = 1024L * (1 + i % 8);
+            model.addSample(new KernelProfileSample(METHOD, GPU, bytes, bytes));
+        }
+        assertEquals(8192, model.predict(METHOD, GPU, 8192, 0, 0).kernelTimeNs(), 1);
+
+        // The new samples replace the old ones, and the model of the device is fitted again
+        for (int i = 0; i < KernelCostModel.MAX_SAMPLES; i++) {
+            long bytes = 1024L * (1 + i % 8);
+            model.addSample(new KernelProfileSample(METHOD, GPU, bytes, 10 * bytes));
+        }
+        assertEquals(81920, model.predict(METHOD, GPU, 8192, 0, 0).kernelTimeNs(), 1);
+    }
+
+    @Test
+    public void testAddProfileJson() {
+        KernelCostModel model = new KernelCostModel();
+        for (int i = 1; i <= 3; i++) {
+            long bytes = i * 1000L;
+            model.addProfileJson(String.format("{\"s0\": {\"ALLOCATION_BYTES\": %d, \"TOTAL_COPY_IN_SIZE_BYTES\": %d, \"COPY_IN_TIME\": %d, "
+                    + "\"s0.t0\": {\"METHOD\": \"%s\", \"DEVICE\": \"%s\", \"TASK_KERNEL_TIME\": %d}}}", bytes, bytes, 100 + bytes, METHOD, GPU, 50 + 3 * bytes));
+        }
+        CostPrediction prediction = model.predict(METHOD, GPU, 4000, 4000, 0);
+        assertNotNull(prediction);
+        assertEquals(50 + 3 * 4000, prediction.kernelTimeNs(), 1);
+        assertEquals(100 + 4000, prediction.copyInTimeNs(), 1);
+        assertEquals(List.of(GPU), List.copyOf(model.getDevices()));
+    }
+
+    @Test
+    public void testAddProfileFromProfiler() {
+        KernelCostModel model = new KernelCostModel();
+        for (int i = 1; i <= 3; i++) {
+            long bytes = i * 1000L;
+            TimeProfiler profiler = new TimeProfiler();
+            profiler.registerMethodHandle(ProfilerType.METHOD, "s0.t0", METHOD);
+            profiler.registerDeviceName("s0.t0", GPU);
+            profiler.setTaskTimer(ProfilerType.TASK_KERNEL_TIME, "s0.t0", 50 + 3 * bytes);
+            profiler.addValueToMetric(ProfilerType.ALLOCATION_BYTES, TimeProfiler.NO_TASK_NAME, bytes);
+            profiler.addValueToMetric(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, bytes);
+            profiler.setTimer(ProfilerType.COPY_IN_TIME, 100 + bytes);
+            model.addProfile(profiler);
+        }
+        assertTrue(model.hasSamples(METHOD, GPU));
+        assertFalse(model.hasSamples(METHOD, CPU));
+        CostPrediction prediction = model.predict(METHOD, GPU, 4000, 4000, 0);
+        assertEquals(50 + 3 * 4000, prediction.kernelTimeNs(), 1);
+        assertEquals(100 + 4000, prediction.copyInTimeNs(), 1);
+    }
+}
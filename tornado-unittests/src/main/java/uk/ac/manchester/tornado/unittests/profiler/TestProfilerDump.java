@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the profiler dump. Each execution of a task graph appends one JSON
+ * record per line, written in the background.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V -J"-Dtornado.profiler=True -Dtornado.log.profiler=True -Dtornado.profiler.dump.dir=profilerDump.json" uk.ac.manchester.tornado.unittests.profiler.TestProfilerDump
+ * </code>
+ */
+public class TestProfilerDump extends TornadoTestBase {
+
+    private static final String PROFILER_DUMP = System.getProperty("tornado.profiler.dump.dir");
+    private static final int ITERATIONS = 100;
+    private static final long TIMEOUT_MS = 10000;
+
+    private static void add(IntArray a, IntArray b, IntArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    private static List<String> waitForRecords(Path file, int numRecords) throws IOException, InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT_MS;
+        List<String> lines = List.of();
+        while (System.currentTimeMillis() < end) {
+            if (Files.exists(file)) {
+                lines = Files.readAllLines(file);
+                if (lines.size() >= numRecords) {
+                    break;
+                }
+            }
+            Thread.sleep(10);
+        }
+        return lines;
+    }
+
+    @Before
+    @After
+    public void deleteDump() throws IOException {
+        Files.deleteIfExists(Paths.get(PROFILER_DUMP));
+    }
+
+    @Test
+    public void testOneRecordPerExecution() throws TornadoExecutionPlanException, IOException, InterruptedException {
+        IntArray a = new IntArray(1024);
+        IntArray b = new IntArray(1024);
+        IntArray c = new IntArray(1024);
+        a.init(1);
+        b.init(2);
+
+        TaskGraph taskGraph = new TaskGraph("dump") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("add", TestProfilerDump::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                executionPlan.execute();
+            }
+        }
+
+        List<String> records = waitForRecords(Paths.get(PROFILER_DUMP), ITERATIONS);
+        assertEquals(ITERATIONS, records.size());
+        for (String record : records) {
+            assertTrue(record.startsWith("{\"dump\":{"));
+            assertTrue(record.endsWith("}}}"));
+            assertTrue(record.contains("\"dump.add\":{"));
+            assertTrue(record.contains("\"TASK_KERNEL_TIME\":"));
+        }
+        assertEquals(3, c.get(0));
+    }
+}
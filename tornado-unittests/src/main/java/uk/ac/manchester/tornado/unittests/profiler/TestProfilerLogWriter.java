@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerLogReader;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerLogWriter;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the writer and the reader of the profiler dump: the accounting of
+ * the dropped records, the rotation of the files and the parsing of the
+ * records. The records are written to a temporary directory, so no device is
+ * needed.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.profiler.TestProfilerLogWriter
+ * </code>
+ */
+public class TestProfilerLogWriter extends TornadoTestBase {
+
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("tornado-profiler");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * @return a one-line record of {@code length} characters with the given id.
+     */
+    private static String record(int id, int length) {
+        StringBuilder record = new StringBuilder("{\"id\":").append(id).append(",\"pad\":\"");
+        while (record.length() < length - 2) {
+            record.append('x');
+        }
+        return record.append("\"}").toString();
+    }
+
+    @Test
+    public void testRecordsAreWrittenInOrder() {
+        Path file = directory.resolve("profiler.json");
+        List<String> expected = new ArrayList<>();
+        // The buffer holds all the records, so none is dropped before the drain
+        try (ProfilerLogWriter writer = new ProfilerLogWriter(file, 4096, 0, 0)) {
+            for (int i = 0; i < 100; i++) {
+                String record = record(i, 32);
+                expected.add(record);
+                assertTrue(writer.append(record));
+            }
+            writer.flush();
+            assertEquals(100, writer.getWrittenRecords());
+            assertEquals(0, writer.getDroppedRecords());
+        }
+        assertEquals(expected, ProfilerLogReader.readRecords(file));
+    }
+
+    @Test
+    public void testDroppedRecords() {
+        Path file = directory.resolve("profiler.json");
+        ProfilerLogWriter writer = new ProfilerLogWriter(file, 16, 0, 0);
+        try {
+            // The record and its line break do not fit in the buffer
+            assertFalse(writer.append(record(0, 20)));
+            assertEquals(1, writer.getDroppedRecords());
+
+            assertTrue(writer.append("{\"id\":1}"));
+            writer.flush();
+            assertEquals(1, writer.getWrittenRecords());
+        } finally {
+            writer.close();
+        }
+
+        // The writer is closed
+        assertFalse(writer.append("{\"id\":2}"));
+        assertEquals(2, writer.getDroppedRecords());
+        assertEquals(1, writer.getWrittenRecords());
+        assertEquals(List.of("{\"id\":1}"), ProfilerLogReader.readRecords(file));
+    }
+
+    @Test
+    public void testRotation() {
+        Path file = directory.resolve("profiler.json");
+        // Three records of 30 bytes (with the line break) fit in each file
+        try (ProfilerLogWriter writer = new ProfilerLogWriter(file, 1024, 100, 2)) {
+            for (int i = 1; i <= 20; i++) {
+                assertTrue(writer.append(record(i, 29)));
+                writer.flush();
+            }
+            assertEquals(20, writer.getWrittenRecords());
+        }
+
+        assertTrue(Files.exists(file));
+        assertTrue(Files.exists(directory.resolve("profiler.json.1")));
+        assertTrue(Files.exists(directory.resolve("profiler.json.2")));
+        assertFalse(Files.exists(directory.resolve("profiler.json.3")));
+        assertEquals(List.of(directory.resolve("profiler.json.2"), directory.resolve("profiler.json.1"), file), ProfilerLogReader.getFiles(file));
+
+        // The oldest records were deleted with the third rotated file
+        List<String> expected = new ArrayList<>();
+        for (int i = 13; i <= 20; i++) {
+            expected.add(record(i, 29));
+        }
+        assertEquals(expected, ProfilerLogReader.readRecords(file));
+    }
+
+    @Test
+    public void testRotationWithoutRotatedFiles() {
+        Path file = directory.resolve("profiler.json");
+        try (ProfilerLogWriter writer = new ProfilerLogWriter(file, 1024, 100, 0)) {
+            for (int i = 1; i <= 10; i++) {
+                assertTrue(writer.append(record(i, 29)));
+                writer.flush();
+            }
+        }
+        assertEquals(List.of(file), ProfilerLogReader.getFiles(file));
+        assertEquals(List.of(record(10, 29)), ProfilerLogReader.readRecords(file));
+    }
+
+    @Test
+    public void testReaderAcceptsIndentedRecords() throws IOException {
+        Path file = directory.resolve("profiler.json");
+        String first = """
+                {
+                    "s0": {
+                        "TOTAL_TIME": "10",
+                        "name": "a \\"quoted\\" {brace}"
+                    }
+                }""";
+        String second = "{\"s1\": {\"path\": \"C:\\\\dir\\\\\", \"close\": \"}\"}}";
+        Files.writeString(file, "header\n" + first + "\n,\n" + second + "\ntrailer", StandardCharsets.UTF_8);
+
+        assertEquals(List.of(first, second), ProfilerLogReader.readRecords(file));
+    }
+
+    @Test
+    public void testReaderOfMissingDump() {
+        Path file = directory.resolve("missing.json");
+        assertTrue(ProfilerLogReader.getFiles(file).isEmpty());
+        assertTrue(ProfilerLogReader.readRecords(file).isEmpty());
+    }
+
+    @Test
+    public void testSharedWriter() {
+        String fileName = directory.resolve("shared.json").toString();
+        ProfilerLogWriter writer = ProfilerLogWriter.getInstance(fileName);
+        try {
+            assertSame(writer, ProfilerLogWriter.getInstance(fileName));
+            assertTrue(writer.append("{\"id\":0}"));
+            writer.flush();
+            assertEquals(List.of("{\"id\":0}"), ProfilerLogReader.readRecords(writer.getFile()));
+        } finally {
+            writer.close();
+        }
+    }
+}
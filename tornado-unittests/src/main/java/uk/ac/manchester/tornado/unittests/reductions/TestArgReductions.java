@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.reductions;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.ArgReduction;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.reductions.TestArgReductions
+ * </code>
+ */
+public class TestArgReductions extends TornadoTestBase {
+
+    private static final int SIZE = 100_000;
+
+    private static void reductionAddFloats(FloatArray input, @Reduce FloatArray result) {
+        result.set(0, 0.0f);
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) + input.get(i));
+        }
+    }
+
+    private static void scale(FloatArray sum, FloatArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            output.set(i, sum.get(0));
+        }
+    }
+
+    @Test
+    public void testArgMaxFloats() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray value = new FloatArray(1);
+        IntArray index = new IntArray(1);
+
+        Random r = new Random(7);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, r.nextFloat());
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .argMax("argmax", input, value, index) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, value, index);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        int expectedIndex = 0;
+        for (int i = 1; i < SIZE; i++) {
+            if (input.get(i) > input.get(expectedIndex)) {
+                expectedIndex = i;
+            }
+        }
+        assertEquals(expectedIndex, index.get(0));
+        assertEquals(input.get(expectedIndex), value.get(0), 0.0f);
+    }
+
+    @Test
+    public void testArgMinDoubles() throws TornadoExecutionPlanException {
+        DoubleArray input = new DoubleArray(SIZE);
+        DoubleArray value = new DoubleArray(1);
+        IntArray index = new IntArray(1);
+
+        Random r = new Random(11);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, r.nextDouble());
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .argMin("argmin", input, value, index) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, value, index);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        int expectedIndex = 0;
+        for (int i = 1; i < SIZE; i++) {
+            if (input.get(i) < input.get(expectedIndex)) {
+                expectedIndex = i;
+            }
+        }
+        assertEquals(expectedIndex, index.get(0));
+        assertEquals(input.get(expectedIndex), value.get(0), 0.0);
+    }
+
+    /**
+     * With repeated values, the first index must be returned, as in the
+     * sequential Java loop.
+     */
+    @Test
+    public void testArgMaxIntegersTies() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray value = new IntArray(1);
+        IntArray index = new IntArray(1);
+
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, i % 1000);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .argMax("argmax", input, value, index) //
+                .argMin("argmin", input, new IntArray(1), new IntArray(1)) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, value, index);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertEquals(999, value.get(0));
+        assertEquals(999, index.get(0));
+    }
+
+    @Test
+    public void testArgMaxSmallInput() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(5);
+        FloatArray value = new FloatArray(1);
+        IntArray index = new IntArray(1);
+        input.set(0, 1.0f);
+        input.set(1, 5.0f);
+        input.set(2, -2.0f);
+        input.set(3, 5.0f);
+        input.set(4, 0.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .argMax("argmax", input, value, index) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, value, index);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertEquals(1, index.get(0));
+        assertEquals(5.0f, value.get(0), 0.0f);
+    }
+
+    /**
+     * A NaN at the start of a chunk must not hide the values that follow it in
+     * the chunk. As in the sequential Java loop, NaN values are skipped.
+     */
+    @Test
+    public void testArgMaxMinNaNAtChunkBoundary() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray maxValue = new FloatArray(1);
+        IntArray maxIndex = new IntArray(1);
+        FloatArray minValue = new FloatArray(1);
+        IntArray minIndex = new IntArray(1);
+
+        Random r = new Random(13);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, r.nextFloat());
+        }
+        final int numChunks = ArgReduction.numChunks(SIZE);
+        final int chunkSize = (SIZE + numChunks - 1) / numChunks;
+        for (int i = chunkSize; i < SIZE; i += chunkSize) {
+            input.set(i, Float.NaN);
+        }
+        // The extreme values are right after a NaN in the second chunk
+        input.set(chunkSize + 1, 2.0f);
+        input.set(chunkSize + 2, -1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .argMax("argmax", input, maxValue, maxIndex) //
+                .argMin("argmin", input, minValue, minIndex) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, maxValue, maxIndex, minValue, minIndex);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertEquals(chunkSize + 1, maxIndex.get(0));
+        assertEquals(2.0f, maxValue.get(0), 0.0f);
+        assertEquals(chunkSize + 2, minIndex.get(0));
+        assertEquals(-1.0f, minValue.get(0), 0.0f);
+    }
+
+    /**
+     * The reduced value is consumed on the device by the next task of the
+     * task-graph.
+     */
+    @Test
+    public void testReductionConsumedOnDevice() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray sum = new FloatArray(1);
+        FloatArray output = new FloatArray(16);
+        input.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestArgReductions::reductionAddFloats, input, sum) //
+                .task("t1", TestArgReductions::scale, sum, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, sum, output);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertEquals(SIZE, sum.get(0), 0.1f);
+        for (int i = 0; i < output.getSize(); i++) {
+            assertEquals(SIZE, output.get(i), 0.1f);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.drivers.common.CommandQueuePool;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the bounded pool of command queues of a device. A fake device
+ * creates the queues, so the binding of the execution plans to the queues can
+ * be checked without native resources.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.runtime.TestCommandQueuePool
+ * </code>
+ */
+public class TestCommandQueuePool extends TornadoTestBase {
+
+    private static final int SIZE = 1024;
+
+    /**
+     * Queue of the fake device.
+     */
+    private record FakeQueue(int id) {
+    }
+
+    /**
+     * Device that records the queues that are created, recycled and destroyed.
+     */
+    private static class FakeDevice implements CommandQueuePool.QueueFactory<FakeQueue> {
+
+        private final AtomicInteger numCreated = new AtomicInteger();
+        private final List<FakeQueue> recycled = new ArrayList<>();
+        private final List<FakeQueue> destroyed = new ArrayList<>();
+
+        @Override
+        public FakeQueue create() {
+            return new FakeQueue(numCreated.getAndIncrement());
+        }
+
+        @Override
+        public void recycle(FakeQueue queue) {
+            recycled.add(queue);
+        }
+
+        @Override
+        public void destroy(FakeQueue queue) {
+            destroyed.add(queue);
+        }
+    }
+
+    public static void scale(FloatArray input, FloatArray output, float factor) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * factor);
+        }
+    }
+
+    @Test
+    public void testPlanAffinity() {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(4, device);
+
+        FakeQueue queue = pool.acquire(1);
+        assertSame(queue, pool.acquire(1));
+        assertSame(queue, pool.get(1));
+        assertNull(pool.get(2));
+        assertEquals(1, pool.getNumQueues());
+        assertEquals(1, pool.getNumPlans());
+    }
+
+    @Test
+    public void testAffinityDoesNotDependOnTheThread() throws Exception {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(4, device);
+        FakeQueue queue = pool.acquire(1);
+
+        // The same plan invoked from many virtual threads uses a single queue
+        Set<FakeQueue> queues = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> queues.add(pool.acquire(1))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertEquals(Set.of(queue), queues);
+        assertEquals(1, device.numCreated.get());
+    }
+
+    @Test
+    public void testRoundRobinAssignment() {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(3, device);
+
+        int[] expected = { 0, 1, 2, 0, 1, 2, 0 };
+        for (int plan = 0; plan < expected.length; plan++) {
+            assertEquals(expected[plan], pool.acquire(plan).id());
+        }
+        assertEquals(3, pool.getNumQueues());
+        assertEquals(3, device.numCreated.get());
+        assertEquals(4, pool.getNumSharedAssignments());
+    }
+
+    @Test
+    public void testPoolIsBounded() throws Exception {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(8, device);
+
+        Map<FakeQueue, AtomicInteger> plansPerQueue = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4096; i++) {
+                final long plan = i;
+                futures.add(executor.submit(() -> plansPerQueue.computeIfAbsent(pool.acquire(plan), q -> new AtomicInteger()).incrementAndGet()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertEquals(8, device.numCreated.get());
+        assertEquals(8, pool.getNumQueues());
+        assertEquals(4096, pool.getNumPlans());
+        // The plans are spread evenly over the queues
+        for (AtomicInteger numPlans : plansPerQueue.values()) {
+            assertEquals(512, numPlans.get());
+        }
+    }
+
+    @Test
+    public void testQueuesAreReused() {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(2, device);
+
+        FakeQueue first = pool.acquire(1);
+        FakeQueue second = pool.acquire(2);
+        assertNotSame(first, second);
+
+        assertTrue(pool.release(1));
+        assertFalse(pool.release(1));
+        assertEquals(List.of(first), device.recycled);
+
+        // The idle queue is handed to the next plan instead of sharing the busy one
+        assertSame(first, pool.acquire(3));
+        assertEquals(2, device.numCreated.get());
+        assertEquals(0, pool.getNumSharedAssignments());
+    }
+
+    @Test
+    public void testSharedQueueIsRecycledByTheLastPlan() {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(1, device);
+
+        FakeQueue queue = pool.acquire(1);
+        assertSame(queue, pool.acquire(2));
+        pool.release(1);
+        assertTrue(device.recycled.isEmpty());
+        pool.release(2);
+        assertEquals(List.of(queue), device.recycled);
+    }
+
+    @Test
+    public void testContentionMetrics() {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(1, device);
+
+        pool.acquire(1);
+        pool.acquire(1);
+        assertEquals(0, pool.getNumSharedAcquisitions());
+
+        // Both plans use the single queue of the pool
+        pool.acquire(2);
+        pool.acquire(1);
+        assertEquals(1, pool.getNumSharedAssignments());
+        assertEquals(2, pool.getNumSharedAcquisitions());
+
+        pool.release(2);
+        pool.acquire(1);
+        assertEquals(2, pool.getNumSharedAcquisitions());
+    }
+
+    @Test
+    public void testDestroyAll() {
+        FakeDevice device = new FakeDevice();
+        CommandQueuePool<FakeQueue> pool = new CommandQueuePool<>(4, device);
+
+        for (int plan = 0; plan < 6; plan++) {
+            pool.acquire(plan);
+        }
+        pool.destroyAll();
+        assertEquals(4, device.destroyed.size());
+        assertEquals(4, new HashSet<>(device.destroyed).size());
+        assertEquals(0, pool.getNumQueues());
+        assertEquals(0, pool.getNumPlans());
+
+        // New queues are created on demand
+        assertEquals(4, pool.acquire(0).id());
+        assertEquals(5, pool.getNumCreatedQueues());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximum() {
+        new CommandQueuePool<>(0, new FakeDevice());
+    }
+
+    @Test
+    public void testPlansFromVirtualThreads() throws Exception {
+        final int numPlans = 32;
+        FloatArray input = new FloatArray(SIZE);
+        input.init(2.0f);
+
+        List<FloatArray> outputs = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numPlans; i++) {
+                final float factor = i;
+                FloatArray output = new FloatArray(SIZE);
+                outputs.add(output);
+                futures.add(executor.submit(() -> {
+                    TaskGraph taskGraph = new TaskGraph("s" + (int) factor) //
+                            .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                            .task("t0", TestCommandQueuePool::scale, input, output, factor) //
+                            .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+                    try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                        executionPlan.execute();
+                        executionPlan.execute();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        for (int i = 0; i < numPlans; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                assertEquals(2.0f * i, outputs.get(i).get(j), 0.0f);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.drivers.common.KernelArgumentCache;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the cache of the kernel arguments. The drivers only set the
+ * arguments that changed since the previous launch. The launches are recorded
+ * with a {@link KernelArgumentCache.Listener}, which receives the arguments
+ * that the installed code of the backend sets on the kernel.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.runtime.TestKernelArgumentCache
+ * </code>
+ */
+public class TestKernelArgumentCache extends TornadoTestBase {
+
+    private static final int SIZE = 1024;
+
+    private final List<Integer> setArguments = new ArrayList<>();
+
+    @Before
+    public void recordArguments() {
+        KernelArgumentCache.setListener((kernelName, index) -> {
+            synchronized (setArguments) {
+                setArguments.add(index);
+            }
+        });
+    }
+
+    @After
+    public void stopRecording() {
+        KernelArgumentCache.setListener(null);
+    }
+
+    private List<Integer> drain() {
+        synchronized (setArguments) {
+            List<Integer> arguments = new ArrayList<>(setArguments);
+            setArguments.clear();
+            return arguments;
+        }
+    }
+
+    public static void saxpy(float alpha, FloatArray x, FloatArray y) {
+        for (@Parallel int i = 0; i < x.getSize(); i++) {
+            y.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    private static TaskGraph createTaskGraph(FloatArray x, FloatArray y) {
+        return new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("saxpy", TestKernelArgumentCache::saxpy, 3.0f, x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+    }
+
+    @Test
+    public void testFirstLaunchSetsAllArguments() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX, "CUDA takes all the kernel parameters on each launch");
+
+        FloatArray x = new FloatArray(SIZE);
+        FloatArray y = new FloatArray(SIZE);
+        x.init(2.0f);
+        y.init(1.0f);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(x, y).snapshot())) {
+            executionPlan.execute();
+        }
+
+        // The kernel context, and at least the two arrays of the task
+        List<Integer> arguments = drain();
+        assertTrue(arguments.contains(0));
+        assertTrue(arguments.size() >= 3);
+        assertEquals(arguments.size(), new HashSet<>(arguments).size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(7.0f, y.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testUnchangedArgumentsAreSkipped() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX, "CUDA takes all the kernel parameters on each launch");
+
+        FloatArray x = new FloatArray(SIZE);
+        FloatArray y = new FloatArray(SIZE);
+        x.init(2.0f);
+        y.init(1.0f);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(x, y).snapshot())) {
+            executionPlan.withProfiler(ProfilerMode.SILENT).execute();
+            assertFalse(drain().isEmpty());
+
+            // Same buffers and values, so no argument is set again
+            x.init(1.0f);
+            y.init(1.0f);
+            TornadoExecutionResult executionResult = executionPlan.execute();
+            assertTrue(drain().isEmpty());
+            assertTrue(executionResult.getProfilerResult().getNumSkippedKernelArguments() > 0);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(4.0f, y.get(i), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testKindAndSizeOfTheArguments() {
+        KernelArgumentCache cache = new KernelArgumentCache("kernel");
+
+        assertTrue(cache.update(0, 0, Integer.BYTES));
+        // Same bits with a different size
+        assertTrue(cache.update(0, 0, Long.BYTES));
+        // A value of 0 is not an unused argument or an empty local region
+        assertTrue(cache.updateUnused(0));
+        assertTrue(cache.updateLocalRegion(0, 0));
+        assertTrue(cache.update(0, 0, Long.BYTES));
+        assertFalse(cache.update(0, 0, Long.BYTES));
+        assertEquals(1, cache.getNumSkipped());
+    }
+
+    @Test
+    public void testInvalidate() {
+        KernelArgumentCache cache = new KernelArgumentCache("kernel");
+        assertTrue(cache.update(0, 0x1000, Long.BYTES));
+        assertTrue(cache.updateLocalRegion(1, 256));
+
+        cache.invalidate(1);
+        assertFalse(cache.update(0, 0x1000, Long.BYTES));
+        assertTrue(cache.updateLocalRegion(1, 256));
+
+        cache.invalidate();
+        assertTrue(cache.update(0, 0x1000, Long.BYTES));
+        assertTrue(cache.updateLocalRegion(1, 256));
+    }
+
+    @Test
+    public void testManyArguments() {
+        KernelArgumentCache cache = new KernelArgumentCache("kernel", 2);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.update(i, 0x1000L * i, Long.BYTES));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertFalse(cache.update(i, 0x1000L * i, Long.BYTES));
+        }
+        assertTrue(cache.update(99, 7, Long.BYTES));
+        assertEquals(100, cache.getNumSkipped());
+    }
+}
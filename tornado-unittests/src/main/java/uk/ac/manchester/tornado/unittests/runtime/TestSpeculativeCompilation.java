@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.tasks.SpeculativeCompilation;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the speculative compilation of the first execution of a task
+ * graph. The first execution runs on the first device with its code ready, or
+ * with the Java code of the tasks, and the following executions run on the
+ * device of the plan. The results must be the same in all the executions,
+ * and each plan runs at most one execution away from its device.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.speculative.compilation=True" uk.ac.manchester.tornado.unittests.runtime.TestSpeculativeCompilation
+ * tornado-test -V --jvm="-Dtornado.speculative.compilation=True -Dtornado.speculative.compilation.java=True" uk.ac.manchester.tornado.unittests.runtime.TestSpeculativeCompilation
+ * </code>
+ */
+public class TestSpeculativeCompilation extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+    private static final int NUM_EXECUTIONS = 4;
+
+    private long firstExecutionsWithJavaCode;
+    private long firstExecutionsOnOtherDevices;
+
+    private static int getNumDevices() {
+        int numDevices = 0;
+        for (int backendIndex = 0; backendIndex < getTornadoRuntime().getNumBackends(); backendIndex++) {
+            TornadoBackend backend = getTornadoRuntime().getBackend(backendIndex);
+            numDevices += backend.getNumDevices();
+        }
+        return numDevices;
+    }
+
+    private void countFirstExecutions() {
+        firstExecutionsWithJavaCode = SpeculativeCompilation.getFirstExecutionsWithJavaCode();
+        firstExecutionsOnOtherDevices = SpeculativeCompilation.getFirstExecutionsOnOtherDevices();
+    }
+
+    /**
+     * Checks where the first executions of the plans ran. The Java code is
+     * always ready first, so the tasks without a kernel context run it when it
+     * is enabled. Otherwise, a plan runs on another device only if there is
+     * one, and only if its code is ready before the code of the device of the
+     * plan.
+     */
+    private void assertFirstExecutions(int numPlans, boolean usesKernelContext) {
+        long withJavaCode = SpeculativeCompilation.getFirstExecutionsWithJavaCode() - firstExecutionsWithJavaCode;
+        long onOtherDevices = SpeculativeCompilation.getFirstExecutionsOnOtherDevices() - firstExecutionsOnOtherDevices;
+        if (TornadoOptions.SPECULATIVE_COMPILATION && TornadoOptions.SPECULATIVE_COMPILATION_JAVA && !usesKernelContext) {
+            assertEquals("The first executions did not run the Java code", numPlans, withJavaCode);
+            assertEquals(0, onOtherDevices);
+        } else if (TornadoOptions.SPECULATIVE_COMPILATION && getNumDevices() > 1) {
+            assertEquals(0, withJavaCode);
+            assertTrue("More than one execution per plan ran on another device", onOtherDevices <= numPlans);
+        } else {
+            assertEquals(0, withJavaCode);
+            assertEquals(0, onOtherDevices);
+        }
+    }
+
+    public static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void vectorAddContext(KernelContext context, FloatArray a, FloatArray b, FloatArray c) {
+        int idx = context.globalIdx;
+        c.set(idx, a.get(idx) + b.get(idx));
+    }
+
+    public static void increment(IntArray state) {
+        for (@Parallel int i = 0; i < state.getSize(); i++) {
+            state.set(i, state.get(i) + 1);
+        }
+    }
+
+    public static void copy(IntArray state, IntArray output) {
+        for (@Parallel int i = 0; i < state.getSize(); i++) {
+            output.set(i, state.get(i));
+        }
+    }
+
+    @Test
+    public void testVectorAdd() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestSpeculativeCompilation::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        countFirstExecutions();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            // The inputs change in every execution, including the first one
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                a.init(execution);
+                b.init(10.0f);
+                executionPlan.execute();
+                for (int i = 0; i < SIZE; i++) {
+                    assertEquals(execution + 10.0f, c.get(i), 0.0f);
+                }
+            }
+        }
+        assertFirstExecutions(1, false);
+    }
+
+    @Test
+    public void testKernelContext() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+        b.init(1.0f);
+
+        KernelContext context = new KernelContext();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, b) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestSpeculativeCompilation::vectorAddContext, context, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        // The Java code of the tasks does not run kernels with a context, so the first execution runs on a device
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", new WorkerGrid1D(SIZE));
+        countFirstExecutions();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler);
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                a.init(execution);
+                executionPlan.execute();
+                for (int i = 0; i < SIZE; i++) {
+                    assertEquals(execution + 1.0f, c.get(i), 0.0f);
+                }
+            }
+        }
+        assertFirstExecutions(1, true);
+    }
+
+    @Test
+    public void testStateAcrossExecutions() throws TornadoExecutionPlanException {
+        IntArray state = new IntArray(SIZE);
+        IntArray output = new IntArray(SIZE);
+        state.init(100);
+
+        // The state is only sent in the first execution, and the device keeps updating it
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, state) //
+                .task("t0", TestSpeculativeCompilation::increment, state) //
+                .task("t1", TestSpeculativeCompilation::copy, state, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        countFirstExecutions();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            for (int execution = 1; execution <= NUM_EXECUTIONS; execution++) {
+                executionPlan.execute();
+                for (int i = 0; i < SIZE; i++) {
+                    assertEquals(100 + execution, output.get(i));
+                }
+            }
+        }
+        assertFirstExecutions(1, false);
+    }
+
+    @Test
+    public void testPlansSharingInputs() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c0 = new FloatArray(SIZE);
+        FloatArray c1 = new FloatArray(SIZE);
+        a.init(2.0f);
+        b.init(3.0f);
+
+        TaskGraph taskGraph0 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestSpeculativeCompilation::vectorAdd, a, b, c0) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c0);
+        TaskGraph taskGraph1 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestSpeculativeCompilation::vectorAdd, a, b, c1) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c1);
+
+        // Both plans compile speculatively at the same time
+        countFirstExecutions();
+        try (TornadoExecutionPlan executionPlan0 = new TornadoExecutionPlan(taskGraph0.snapshot()); //
+                TornadoExecutionPlan executionPlan1 = new TornadoExecutionPlan(taskGraph1.snapshot())) {
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                executionPlan0.execute();
+                executionPlan1.execute();
+                for (int i = 0; i < SIZE; i++) {
+                    assertEquals(5.0f, c0.get(i), 0.0f);
+                    assertEquals(5.0f, c1.get(i), 0.0f);
+                }
+            }
+        }
+        assertFirstExecutions(2, false);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.sparse;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.SparseMatrixVector;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.COOMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SparseMatrixLoader;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the sparse matrix formats, the conversions between them, the
+ * Matrix Market and binary loaders, and the SpMV kernels.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.sparse.TestSparseMatrices
+ * </code>
+ */
+public class TestSparseMatrices extends TornadoTestBase {
+
+    private static final int NUM_ROWS = 4099;
+    private static final int NUM_COLUMNS = 3001;
+
+    /**
+     * Random matrix with the elements in random order. Skewed matrices have a
+     * few rows much longer than the others.
+     */
+    private static COOMatrixFloat randomMatrix(int maxRowLength, boolean skewed, long seed) {
+        Random random = new Random(seed);
+        int[] lengths = new int[NUM_ROWS];
+        int numNonZeros = 0;
+        for (int row = 0; row < NUM_ROWS; row++) {
+            lengths[row] = skewed && row % 512 == 0 ? NUM_COLUMNS / 2 : random.nextInt(maxRowLength + 1);
+            numNonZeros += lengths[row];
+        }
+        IntArray rows = new IntArray(numNonZeros);
+        IntArray columns = new IntArray(numNonZeros);
+        FloatArray values = new FloatArray(numNonZeros);
+        int[] order = new int[numNonZeros];
+        for (int i = 0; i < numNonZeros; i++) {
+            order[i] = i;
+        }
+        for (int i = numNonZeros - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        int element = 0;
+        for (int row = 0; row < NUM_ROWS; row++) {
+            for (int k = 0; k < lengths[row]; k++) {
+                rows.set(order[element], row);
+                columns.set(order[element], random.nextInt(NUM_COLUMNS));
+                values.set(order[element], random.nextFloat());
+                element++;
+            }
+        }
+        return new COOMatrixFloat(NUM_ROWS, NUM_COLUMNS, rows, columns, values);
+    }
+
+    private static FloatArray randomVector(int size) {
+        Random random = new Random(71);
+        FloatArray vector = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            vector.set(i, random.nextFloat());
+        }
+        return vector;
+    }
+
+    // Reference in double precision, from the coordinates
+    private static double[] multiply(COOMatrixFloat matrix, FloatArray x) {
+        double[] y = new double[matrix.getNumRows()];
+        for (int i = 0; i < matrix.getNumNonZeros(); i++) {
+            y[matrix.getRows().get(i)] += (double) matrix.getValues().get(i) * x.get(matrix.getColumns().get(i));
+        }
+        return y;
+    }
+
+    private static void assertVectorEquals(double[] expected, FloatArray y) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], y.get(i), 1e-4 * Math.max(1.0, Math.abs(expected[i])));
+        }
+    }
+
+    private static void assertMatrixEquals(CSRMatrixFloat expected, CSRMatrixFloat matrix) {
+        assertEquals(expected.getNumRows(), matrix.getNumRows());
+        assertEquals(expected.getNumColumns(), matrix.getNumColumns());
+        assertArrayEquals(expected.getRowOffsets().toHeapArray(), matrix.getRowOffsets().toHeapArray());
+        assertArrayEquals(expected.getColumns().toHeapArray(), matrix.getColumns().toHeapArray());
+        assertArrayEquals(expected.getValues().toHeapArray(), matrix.getValues().toHeapArray(), 0.0f);
+    }
+
+    private static COOMatrixFloat parse(String matrixMarket) throws IOException {
+        return SparseMatrixLoader.loadMatrixMarket(new ByteArrayInputStream(matrixMarket.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    public void testCOOToCSR() {
+        COOMatrixFloat coo = randomMatrix(16, false, 1);
+        CSRMatrixFloat csr = coo.toCSR();
+        assertEquals(coo.getNumNonZeros(), csr.getNumNonZeros());
+        for (int row = 0; row < NUM_ROWS; row++) {
+            for (int i = csr.getRowOffsets().get(row) + 1; i < csr.getRowOffsets().get(row + 1); i++) {
+                assertTrue(csr.getColumns().get(i - 1) <= csr.getColumns().get(i));
+            }
+        }
+        FloatArray x = randomVector(NUM_COLUMNS);
+        FloatArray y = new FloatArray(NUM_ROWS);
+        csr.multiply(x, y);
+        assertVectorEquals(multiply(coo, x), y);
+    }
+
+    @Test
+    public void testConversions() {
+        CSRMatrixFloat csr = randomMatrix(40, true, 2).toCSR();
+        assertMatrixEquals(csr, csr.toCOO().toCSR());
+
+        ELLMatrixFloat ell = csr.toELL();
+        assertEquals(NUM_COLUMNS / 2, ell.getWidth());
+        assertMatrixEquals(csr, ell.toCSR());
+
+        for (int sortWindow : new int[] { 1, 32, 1024, NUM_ROWS + 29 }) {
+            SELLMatrixFloat sell = csr.toSELL(32, sortWindow);
+            assertEquals(csr.getNumNonZeros(), sell.getNumNonZeros());
+            assertMatrixEquals(csr, sell.toCSR());
+        }
+        // Sorting the rows reduces the padding
+        assertTrue(csr.toSELL(32, 1024).getPaddingRatio() < csr.toSELL(32, 1).getPaddingRatio());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSortWindow() {
+        randomMatrix(4, false, 3).toCSR().toSELL(32, 48);
+    }
+
+    @Test
+    public void testMatrixMarket() throws IOException {
+        String matrixMarket = """
+                %%MatrixMarket matrix coordinate real general
+                % Comment
+                3 4 5
+                3 4 5.5
+                1 1 1.0
+                2 3 -2.5e-1
+                1 4   4
+                3 1 3.0E2
+                """;
+        CSRMatrixFloat matrix = parse(matrixMarket).toCSR();
+        assertEquals(3, matrix.getNumRows());
+        assertEquals(4, matrix.getNumColumns());
+        assertArrayEquals(new int[] { 0, 2, 3, 5 }, matrix.getRowOffsets().toHeapArray());
+        assertArrayEquals(new int[] { 0, 3, 2, 0, 3 }, matrix.getColumns().toHeapArray());
+        assertArrayEquals(new float[] { 1.0f, 4.0f, -0.25f, 300.0f, 5.5f }, matrix.getValues().toHeapArray(), 0.0f);
+    }
+
+    @Test
+    public void testMatrixMarketSymmetricPattern() throws IOException {
+        String matrixMarket = """
+                %%MatrixMarket matrix coordinate pattern symmetric
+                3 3 4
+                1 1
+                2 1
+                3 2
+                3 3
+                """;
+        CSRMatrixFloat matrix = parse(matrixMarket).toCSR();
+        assertArrayEquals(new int[] { 0, 2, 4, 6 }, matrix.getRowOffsets().toHeapArray());
+        assertArrayEquals(new int[] { 0, 1, 0, 2, 1, 2 }, matrix.getColumns().toHeapArray());
+        assertArrayEquals(new float[] { 1, 1, 1, 1, 1, 1 }, matrix.getValues().toHeapArray(), 0.0f);
+    }
+
+    @Test
+    public void testMatrixMarketLarge() throws IOException {
+        COOMatrixFloat coo = randomMatrix(64, false, 4);
+        StringBuilder matrixMarket = new StringBuilder("%%MatrixMarket matrix coordinate real general\n");
+        matrixMarket.append(NUM_ROWS).append(' ').append(NUM_COLUMNS).append(' ').append(coo.getNumNonZeros()).append('\n');
+        for (int i = 0; i < coo.getNumNonZeros(); i++) {
+            matrixMarket.append(coo.getRows().get(i) + 1).append(' ').append(coo.getColumns().get(i) + 1).append(' ').append(coo.getValues().get(i)).append('\n');
+        }
+        // The file is parsed in parallel chunks, and the entries keep their order
+        COOMatrixFloat loaded = parse(matrixMarket.toString());
+        assertArrayEquals(coo.getRows().toHeapArray(), loaded.getRows().toHeapArray());
+        assertArrayEquals(coo.getColumns().toHeapArray(), loaded.getColumns().toHeapArray());
+        assertArrayEquals(coo.getValues().toHeapArray(), loaded.getValues().toHeapArray(), 0.0f);
+    }
+
+    @Test(expected = IOException.class)
+    public void testMatrixMarketOutOfRange() throws IOException {
+        parse("%%MatrixMarket matrix coordinate real general\n2 2 1\n3 1 1.0\n");
+    }
+
+    @Test
+    public void testBinary() throws IOException {
+        CSRMatrixFloat matrix = randomMatrix(16, false, 5).toCSR();
+        Path path = Files.createTempFile("tornado-sparse", ".bin");
+        try {
+            SparseMatrixLoader.saveBinary(matrix, path);
+            assertMatrixEquals(matrix, SparseMatrixLoader.loadBinary(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testSelectKernel() {
+        assertEquals(SparseMatrixVector.Kernel.SCALAR_ROW, SparseMatrixVector.select(randomMatrix(8, false, 6).toCSR().getRowStatistics()));
+        assertEquals(SparseMatrixVector.Kernel.VECTOR_ROW, SparseMatrixVector.select(randomMatrix(128, false, 7).toCSR().getRowStatistics()));
+        assertEquals(SparseMatrixVector.Kernel.MERGE_PATH, SparseMatrixVector.select(randomMatrix(8, true, 8).toCSR().getRowStatistics()));
+    }
+
+    private void testSpmv(COOMatrixFloat coo, SparseMatrixVector.Kernel kernel) throws TornadoExecutionPlanException {
+        CSRMatrixFloat matrix = coo.toCSR();
+        FloatArray x = randomVector(NUM_COLUMNS);
+        FloatArray y = new FloatArray(NUM_ROWS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                .spmv("spmv", matrix, kernel, x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+            assertVectorEquals(multiply(coo, x), y);
+
+            // The matrix stays on the device
+            x.init(1.0f);
+            executionPlan.execute();
+            assertVectorEquals(multiply(coo, x), y);
+        }
+    }
+
+    @Test
+    public void testSpmvScalarRow() throws TornadoExecutionPlanException {
+        testSpmv(randomMatrix(16, false, 9), SparseMatrixVector.Kernel.SCALAR_ROW);
+    }
+
+    @Test
+    public void testSpmvVectorRow() throws TornadoExecutionPlanException {
+        testSpmv(randomMatrix(128, false, 10), SparseMatrixVector.Kernel.VECTOR_ROW);
+    }
+
+    @Test
+    public void testSpmvMergePath() throws TornadoExecutionPlanException {
+        testSpmv(randomMatrix(8, true, 11), SparseMatrixVector.Kernel.MERGE_PATH);
+    }
+
+    @Test
+    public void testSpmvAdaptive() throws TornadoExecutionPlanException {
+        COOMatrixFloat coo = randomMatrix(8, true, 12);
+        FloatArray x = randomVector(NUM_COLUMNS);
+        FloatArray y = new FloatArray(NUM_ROWS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                .spmv("spmv", coo.toCSR(), x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+        assertVectorEquals(multiply(coo, x), y);
+    }
+
+    @Test
+    public void testSpmvELL() throws TornadoExecutionPlanException {
+        COOMatrixFloat coo = randomMatrix(16, false, 13);
+        FloatArray x = randomVector(NUM_COLUMNS);
+        FloatArray y = new FloatArray(NUM_ROWS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                .spmv("spmv", coo.toCSR().toELL(), x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+        assertVectorEquals(multiply(coo, x), y);
+    }
+
+    @Test
+    public void testSpmvSELL() throws TornadoExecutionPlanException {
+        COOMatrixFloat coo = randomMatrix(8, true, 14);
+        FloatArray x = randomVector(NUM_COLUMNS);
+        FloatArray y = new FloatArray(NUM_ROWS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x) //
+                .spmv("spmv", coo.toCSR().toSELL(32, 256), x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+        assertVectorEquals(multiply(coo, x), y);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.tasks;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for task-graphs with more tasks than the previous limit of the
+ * execution context (256 tasks). Their graphs also have more nodes than the
+ * initial size of the TornadoGraph, and their bytecodes do not fit in the
+ * initial bytecode buffers.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.tasks.TestLargeTaskGraphs
+ * </code>
+ */
+public class TestLargeTaskGraphs extends TornadoTestBase {
+
+    private static final int NUM_TASKS = 300;
+    private static final int SIZE = 256;
+
+    public static void increment(IntArray input, IntArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            output.set(i, input.get(i) + 1);
+        }
+    }
+
+    public static void accumulate(IntArray input, int value) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            input.set(i, input.get(i) + value);
+        }
+    }
+
+    /**
+     * Each task reads the output of the previous one, so the graph has a chain
+     * of {@code NUM_TASKS} dependencies.
+     */
+    @Test
+    public void testChainOfTasks() throws TornadoExecutionPlanException {
+        IntArray[] arrays = new IntArray[NUM_TASKS + 1];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = new IntArray(SIZE);
+        }
+        arrays[0].init(5);
+
+        TaskGraph taskGraph = new TaskGraph("chain") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrays[0]);
+        for (int i = 0; i < NUM_TASKS; i++) {
+            taskGraph.task("t" + i, TestLargeTaskGraphs::increment, arrays[i], arrays[i + 1]);
+        }
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, arrays[NUM_TASKS]);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(5 + NUM_TASKS, arrays[NUM_TASKS].get(i));
+        }
+    }
+
+    /**
+     * All tasks update the same array with a different constant, so the
+     * constant table has {@code NUM_TASKS} entries.
+     */
+    @Test
+    public void testTasksWithManyConstants() throws TornadoExecutionPlanException {
+        IntArray array = new IntArray(SIZE);
+        array.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("constants") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, array);
+        for (int i = 0; i < NUM_TASKS; i++) {
+            taskGraph.task("t" + i, TestLargeTaskGraphs::accumulate, array, i);
+        }
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, array);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+
+        final int expected = NUM_TASKS * (NUM_TASKS - 1) / 2;
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expected, array.get(i));
+        }
+    }
+}
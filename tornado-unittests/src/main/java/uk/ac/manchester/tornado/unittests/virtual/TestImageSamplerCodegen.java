@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.images.ImageByte4;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat;
+import uk.ac.manchester.tornado.api.types.images.ImageFloat4;
+import uk.ac.manchester.tornado.api.types.images.ImageSampler;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Code generation tests for the reads of the images with a sampler when
+ * {@code tornado.opencl.images} is enabled. The kernels are compiled for a
+ * virtual device, so they run without a GPU. Reads with a constant sampler
+ * must use {@code read_imagef}, and reads with a sampler passed as a parameter
+ * must use the software sampler.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True -Dtornado.virtual.device=True
+ * -Dtornado.opencl.images=True -Dtornado.print.kernel.dir=imageSamplerOut.out" uk.ac.manchester.tornado.unittests.virtual.TestImageSamplerCodegen
+ * </code>
+ */
+public class TestImageSamplerCodegen extends TornadoTestBase {
+
+    private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+    private static final int LINEAR_CLAMP_TO_EDGE = ImageSampler.UNNORMALIZED_COORDS | ImageSampler.ADDRESS_CLAMP_TO_EDGE | ImageSampler.FILTER_LINEAR;
+    private static final int NEAREST_REPEAT = ImageSampler.NORMALIZED_COORDS | ImageSampler.ADDRESS_REPEAT | ImageSampler.FILTER_NEAREST;
+
+    private static void deleteGeneratedSource() {
+        File fileLog = new File(SOURCE_DIR);
+        if (fileLog.exists()) {
+            fileLog.delete();
+        }
+    }
+
+    @Before
+    public void before() {
+        // The kernels are appended to the file, so each test starts from an empty one
+        deleteGeneratedSource();
+    }
+
+    @After
+    public void after() {
+        deleteGeneratedSource();
+    }
+
+    public static void resizeLinear(ImageFloat input, ImageFloat output) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                float u = (x + 0.5f) * input.X() / output.X();
+                float v = (y + 0.5f) * input.Y() / output.Y();
+                output.set(x, y, input.read(LINEAR_CLAMP_TO_EDGE, u, v));
+            }
+        }
+    }
+
+    public static void resizeSampler(ImageFloat input, ImageFloat output, int sampler) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                float u = (x + 0.5f) * input.X() / output.X();
+                float v = (y + 0.5f) * input.Y() / output.Y();
+                output.set(x, y, input.read(sampler, u, v));
+            }
+        }
+    }
+
+    public static void tileFloat4(ImageFloat4 input, ImageFloat4 output) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                output.set(x, y, input.read(NEAREST_REPEAT, 4.0f * x / output.X(), 4.0f * y / output.Y()));
+            }
+        }
+    }
+
+    public static void convertByte4(ImageByte4 input, ImageFloat4 output) {
+        for (@Parallel int y = 0; y < output.Y(); y++) {
+            for (@Parallel int x = 0; x < output.X(); x++) {
+                output.set(x, y, input.read(LINEAR_CLAMP_TO_EDGE, x + 0.5f, y + 0.5f));
+            }
+        }
+    }
+
+    private static String compile(TaskGraph taskGraph) throws TornadoExecutionPlanException {
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+        try {
+            return Files.readString(new File(SOURCE_DIR).toPath());
+        } catch (IOException e) {
+            fail("The kernel was not generated: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Test
+    public void testImageFloatCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        ImageFloat input = new ImageFloat(64, 64);
+        ImageFloat output = new ImageFloat(128, 128);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestImageSamplerCodegen::resizeLinear, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        String source = compile(taskGraph);
+        assertTrue("The image is not a kernel parameter", source.contains("__read_only image2d_t _image0"));
+        assertTrue("The sampler is not declared", source.contains("const sampler_t"));
+        assertTrue("The sampler does not filter linearly", source.contains("CLK_NORMALIZED_COORDS_FALSE | CLK_ADDRESS_CLAMP_TO_EDGE | CLK_FILTER_LINEAR"));
+        assertTrue("The image is not read by the hardware", source.contains("read_imagef(_image0"));
+    }
+
+    @Test
+    public void testImageFloat4Codegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        ImageFloat4 input = new ImageFloat4(32, 32);
+        ImageFloat4 output = new ImageFloat4(128, 128);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestImageSamplerCodegen::tileFloat4, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        String source = compile(taskGraph);
+        assertTrue("The image is not a kernel parameter", source.contains("image2d_t _image0"));
+        assertTrue("The sampler does not repeat", source.contains("CLK_NORMALIZED_COORDS_TRUE | CLK_ADDRESS_REPEAT | CLK_FILTER_NEAREST"));
+        assertTrue("The image is not read by the hardware", source.contains("read_imagef(_image0"));
+    }
+
+    @Test
+    public void testImageByte4Codegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        ImageByte4 input = new ImageByte4(64, 64);
+        ImageFloat4 output = new ImageFloat4(64, 64);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestImageSamplerCodegen::convertByte4, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        String source = compile(taskGraph);
+        assertTrue("The image is not read by the hardware", source.contains("read_imagef(_image0"));
+    }
+
+    @Test
+    public void testSamplerParameterCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        ImageFloat input = new ImageFloat(64, 64);
+        ImageFloat output = new ImageFloat(128, 128);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestImageSamplerCodegen::resizeSampler, input, output, LINEAR_CLAMP_TO_EDGE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        // The sampler is only known at run time, so the software sampler is compiled
+        String source = compile(taskGraph);
+        assertFalse("The image must not be read by the hardware", source.contains("read_imagef("));
+        assertFalse("The image must not be a kernel parameter", source.contains("image2d_t"));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+import uk.ac.manchester.tornado.unittests.loops.TestLoopTiling;
+
+/**
+ * Code generation tests for the tiling of 2D loop nests through local memory.
+ * The kernels are compiled for a virtual device, so they run without a GPU.
+ * The matrix multiplications must load their rows and columns into two local
+ * tiles between local barriers, and the loop nests that are not tiled must not
+ * use local memory.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True -Dtornado.virtual.device=True
+ * -Dtornado.print.kernel.dir=loopTilingOut.out" uk.ac.manchester.tornado.unittests.virtual.TestLoopTilingCodegen
+ * </code>
+ */
+public class TestLoopTilingCodegen extends TornadoTestBase {
+
+    private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+    private static final String LOCAL_TILE = "__local float";
+    private static final String LOCAL_BARRIER = "barrier(CLK_LOCAL_MEM_FENCE)";
+
+    private static void deleteGeneratedSource() {
+        File fileLog = new File(SOURCE_DIR);
+        if (fileLog.exists()) {
+            fileLog.delete();
+        }
+    }
+
+    @Before
+    public void before() {
+        // The kernels are appended to the file, so each test starts from an empty one
+        deleteGeneratedSource();
+    }
+
+    @After
+    public void after() {
+        deleteGeneratedSource();
+    }
+
+    private static String compile(TaskGraph taskGraph) throws TornadoExecutionPlanException {
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+        }
+        try {
+            return Files.readString(new File(SOURCE_DIR).toPath());
+        } catch (IOException e) {
+            fail("The kernel was not generated: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int count(String source, String text) {
+        return source.split(Pattern.quote(text), -1).length - 1;
+    }
+
+    private static String compileMatrixMultiplication(int size) throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(size * size);
+        FloatArray b = new FloatArray(size * size);
+        FloatArray c = new FloatArray(size * size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestLoopTiling::matrixMultiplication, a, b, c, size) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+        return compile(taskGraph);
+    }
+
+    @Test
+    public void testMatrixMultiplication2DCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int size = 128;
+        Matrix2DFloat a = new Matrix2DFloat(size, size);
+        Matrix2DFloat b = new Matrix2DFloat(size, size);
+        Matrix2DFloat c = new Matrix2DFloat(size, size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestLoopTiling::matrixMultiplication2D, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        String source = compile(taskGraph);
+        assertEquals("The rows and the columns are not loaded into local tiles", 2, count(source, LOCAL_TILE));
+        assertEquals("The loads of the tiles are not between local barriers", 2, count(source, LOCAL_BARRIER));
+    }
+
+    @Test
+    public void testMatrixMultiplicationCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        String source = compileMatrixMultiplication(256);
+        assertEquals("The rows and the columns are not loaded into local tiles", 2, count(source, LOCAL_TILE));
+        assertEquals("The loads of the tiles are not between local barriers", 2, count(source, LOCAL_BARRIER));
+    }
+
+    @Test
+    public void testNotMultipleOfTileCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        // Some work-groups would be partial, so the loop nest is not tiled
+        String source = compileMatrixMultiplication(250);
+        assertFalse("The loop nest must not be tiled", source.contains(LOCAL_TILE));
+        assertFalse("The loop nest must not be tiled", source.contains(LOCAL_BARRIER));
+    }
+
+    @Test
+    public void testStencilCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int size = 258;
+        FloatArray input = new FloatArray(size * size);
+        FloatArray output = new FloatArray(size * size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestLoopTiling::stencil, input, output, size) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        // The neighbours are not read along an inner loop, so there is nothing to load into local memory
+        String source = compile(taskGraph);
+        assertFalse("The stencil must not be tiled", source.contains(LOCAL_TILE));
+        assertTrue("The stencil is not generated", source.contains("stencil"));
+    }
+}
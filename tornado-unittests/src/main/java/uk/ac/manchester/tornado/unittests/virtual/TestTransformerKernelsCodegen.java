@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.Int8Array;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.kernels.transformer.TransformerKernels;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Code generation tests for the fused transformer kernels of the
+ * tornado-kernels module. The kernels are compiled for a virtual device, so
+ * they run without a GPU. The tests check that each kernel is generated, and
+ * that the fused kernels keep their intermediate values in local memory.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True -Dtornado.virtual.device=True
+ * -Dtornado.print.kernel.dir=transformerKernelsOut.out" uk.ac.manchester.tornado.unittests.virtual.TestTransformerKernelsCodegen
+ * </code>
+ */
+public class TestTransformerKernelsCodegen extends TornadoTestBase {
+
+    private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+    private static final int LOCAL_SIZE = 32;
+
+    private static void deleteGeneratedSource() {
+        File fileLog = new File(SOURCE_DIR);
+        if (fileLog.exists()) {
+            fileLog.delete();
+        }
+    }
+
+    @Before
+    public void before() {
+        // The kernels are appended to the file, so each test starts from an empty one
+        deleteGeneratedSource();
+    }
+
+    @After
+    public void after() {
+        deleteGeneratedSource();
+    }
+
+    private static String compile(TaskGraph taskGraph, WorkerGrid workerGrid) throws TornadoExecutionPlanException {
+        GridScheduler gridScheduler = new GridScheduler(taskGraph.getTaskGraphName() + ".t0", workerGrid);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler).execute();
+        }
+        try {
+            return Files.readString(new File(SOURCE_DIR).toPath());
+        } catch (IOException e) {
+            fail("The kernel was not generated: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void assertKernel(String source, String kernelName, boolean usesLocalMemory) {
+        assertTrue("Kernel " + kernelName + " not found", source.contains(kernelName + "("));
+        if (usesLocalMemory) {
+            assertTrue("Kernel " + kernelName + " does not use local memory", source.contains("__local"));
+            assertTrue("Kernel " + kernelName + " does not synchronize the work-group", source.contains("barrier("));
+        }
+    }
+
+    @Test
+    public void testRmsNormScaleCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int size = 4096;
+        FloatArray x = new FloatArray(size);
+        FloatArray weights = new FloatArray(size);
+        FloatArray output = new FloatArray(size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, weights) //
+                .task("t0", TransformerKernels::rmsNormScale, new KernelContext(), output, x, weights, size, 1e-5f, 256) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        assertKernel(compile(taskGraph, TransformerKernels.workerGrid(1, 256)), "rmsNormScale", true);
+    }
+
+    @Test
+    public void testRopeCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int dim = 512;
+        final int kvDim = 128;
+        IntArray position = new IntArray(1);
+        FloatArray q = new FloatArray(dim);
+        FloatArray k = new FloatArray(kvDim);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, position, q, k) //
+                .task("t0", TransformerKernels::rope, new KernelContext(), position, q, k, kvDim, 64, 10000.0f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, q, k);
+
+        assertKernel(compile(taskGraph, new WorkerGrid1D(dim / 2)), "rope", false);
+    }
+
+    @Test
+    public void testFlashAttentionCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int nHeads = 8;
+        final int headSize = 64;
+        final int kvMul = 2;
+        final int kvDim = headSize * nHeads / kvMul;
+        final int contextLength = 128;
+        IntArray position = new IntArray(1);
+        FloatArray q = new FloatArray(nHeads * headSize);
+        FloatArray keyCache = new FloatArray(contextLength * kvDim);
+        FloatArray valueCache = new FloatArray(contextLength * kvDim);
+        FloatArray output = new FloatArray(nHeads * headSize);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, position, q, keyCache, valueCache) //
+                .task("t0", TransformerKernels::flashAttention, new KernelContext(), q, keyCache, valueCache, output, position, 0, contextLength, headSize, kvDim, kvMul, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        String source = compile(taskGraph, TransformerKernels.workerGrid(kvDim / headSize, LOCAL_SIZE));
+        assertKernel(source, "flashAttention", true);
+        assertTrue("The online softmax needs exp", source.contains("exp("));
+    }
+
+    @Test
+    public void testFlashAttentionHalfCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int nHeads = 8;
+        final int headSize = 64;
+        final int kvMul = 4;
+        final int kvDim = headSize * nHeads / kvMul;
+        final int contextLength = 128;
+        IntArray position = new IntArray(1);
+        FloatArray q = new FloatArray(nHeads * headSize);
+        HalfFloatArray keyCache = new HalfFloatArray(contextLength * kvDim);
+        HalfFloatArray valueCache = new HalfFloatArray(contextLength * kvDim);
+        FloatArray output = new FloatArray(nHeads * headSize);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, position, q, keyCache, valueCache) //
+                .task("t0", TransformerKernels::flashAttentionHalf, new KernelContext(), q, keyCache, valueCache, output, position, 0, contextLength, headSize, kvDim, kvMul, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        String source = compile(taskGraph, TransformerKernels.workerGrid(kvDim / headSize, LOCAL_SIZE));
+        assertKernel(source, "flashAttentionHalf", true);
+        assertTrue("The KV cache is not read as fp16", source.contains("half"));
+    }
+
+    @Test
+    public void testSwiGLUCodegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int n = 256;
+        final int d = 512;
+        FloatArray x = new FloatArray(n);
+        FloatArray w1 = new FloatArray(n * d);
+        FloatArray w3 = new FloatArray(n * d);
+        FloatArray hb = new FloatArray(d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, w1, w3) //
+                .task("t0", TransformerKernels::swiGLU, new KernelContext(), x, hb, w1, w3, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, hb);
+
+        assertKernel(compile(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE)), "swiGLU", true);
+    }
+
+    @Test
+    public void testMatrixVectorQ8Codegen() throws TornadoExecutionPlanException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        final int n = 1024;
+        final int d = 256;
+        FloatArray x = new FloatArray(n);
+        Int8Array weights = new Int8Array(n * d);
+        HalfFloatArray scales = new HalfFloatArray(n * d / TransformerKernels.Q8_BLOCK_SIZE);
+        FloatArray out = new FloatArray(d);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, weights, scales) //
+                .task("t0", TransformerKernels::matrixVectorQ8, new KernelContext(), x, out, weights, scales, n, d, LOCAL_SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, out);
+
+        assertKernel(compile(taskGraph, TransformerKernels.workerGrid(d, LOCAL_SIZE)), "matrixVectorQ8", true);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Stress test that runs thousands of concurrent {@code execute()} calls from
+ * virtual threads, and checks that the runtime does not pin the virtual
+ * threads to their carrier threads. With {@code -Djdk.tracePinnedThreads}, the
+ * JDK prints the stack trace of every virtual thread that blocks while pinned
+ * (e.g., while holding a monitor). The test captures the standard output and
+ * fails if a trace is printed.
+ *
+ * <p>
+ * The plans are compiled by the first executions, so the compilation path (the
+ * sketcher) is exercised concurrently as well as the execution path.
+ * </p>
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.virtual.device=True
+ * -Djdk.tracePinnedThreads=full" uk.ac.manchester.tornado.unittests.virtual.TestVirtualThreadPinning
+ * </code>
+ */
+public class TestVirtualThreadPinning extends TornadoTestBase {
+
+    private static final int SIZE = 1024;
+    private static final int NUM_PLANS = 16;
+    private static final int NUM_EXECUTIONS = 4096;
+
+    /**
+     * First line of a pinned-thread trace, which names the carrier thread
+     * ("Thread[#42,ForkJoinPool-1-worker-1,5,CarrierThreads]"), or a frame that
+     * holds a monitor.
+     */
+    private static final Pattern PINNED_THREAD_TRACE = Pattern.compile("(?m)^Thread\\[#\\d+,.*,CarrierThreads]|<== monitors:");
+
+    public static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentExecutionsFromVirtualThreads() throws Exception {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        // Without the virtual device or the traces of the JDK, nothing is checked
+        assumeTrue("Requires the virtual device (-Dtornado.virtual.device=True)", Boolean.parseBoolean(System.getProperty("tornado.virtual.device", "False")));
+        assumeTrue("Requires -Djdk.tracePinnedThreads", System.getProperty("jdk.tracePinnedThreads") != null);
+
+        List<TornadoExecutionPlan> executionPlans = new ArrayList<>();
+        // An execution plan is not meant to be executed by two threads at the same
+        // time. The executions of the same plan wait for each other on a lock that
+        // does not pin the virtual threads.
+        List<ReentrantLock> planLocks = new ArrayList<>();
+        for (int i = 0; i < NUM_PLANS; i++) {
+            FloatArray a = new FloatArray(SIZE);
+            FloatArray b = new FloatArray(SIZE);
+            FloatArray c = new FloatArray(SIZE);
+            a.init(i);
+            b.init(1.0f);
+            TaskGraph taskGraph = new TaskGraph("s" + i) //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                    .task("t0", TestVirtualThreadPinning::vectorAdd, a, b, c) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+            executionPlans.add(new TornadoExecutionPlan(taskGraph.snapshot()));
+            planLocks.add(new ReentrantLock());
+        }
+
+        AtomicInteger numExecutions = new AtomicInteger();
+        ByteArrayOutputStream capturedOutput = new ByteArrayOutputStream();
+        PrintStream standardOutput = System.out;
+        System.setOut(new PrintStream(capturedOutput, true));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < NUM_EXECUTIONS; i++) {
+                final int plan = i % NUM_PLANS;
+                futures.add(executor.submit(() -> {
+                    planLocks.get(plan).lock();
+                    try {
+                        executionPlans.get(plan).execute();
+                    } finally {
+                        planLocks.get(plan).unlock();
+                    }
+                    numExecutions.incrementAndGet();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            System.setOut(standardOutput);
+            for (TornadoExecutionPlan executionPlan : executionPlans) {
+                executionPlan.close();
+            }
+        }
+
+        String output = capturedOutput.toString();
+        System.out.print(output);
+        assertEquals(NUM_EXECUTIONS, numExecutions.get());
+        assertFalse("Virtual threads were pinned to their carrier threads:\n" + output, PINNED_THREAD_TRACE.matcher(output).find());
+    }
+}